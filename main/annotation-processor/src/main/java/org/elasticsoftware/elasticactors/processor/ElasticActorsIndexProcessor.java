@@ -0,0 +1,233 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+
+package org.elasticsoftware.elasticactors.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Writes {@value #INDEX_RESOURCE}, an index of the types the Elastic Actors runtime would
+ * otherwise find by scanning the classpath at startup. Every line maps the binary name of a type
+ * to the comma-separated list of keys it was indexed under:
+ *
+ * <ul>
+ *     <li>the annotations in {@link #INDEXED_ANNOTATIONS} present on the type or on one of its
+ *     supertypes, as classpath scanning returns the subtypes of annotated types as well</li>
+ *     <li>{@value #MESSAGE_HANDLER} when the type declares at least one handler method</li>
+ *     <li>{@value #ACTOR_LIFECYCLE_LISTENER} when the type is a concrete implementation of it</li>
+ * </ul>
+ *
+ * The processor only refers to the annotations by name, so it has no dependencies and can be put
+ * on the compiler's classpath of any module that contains actors or messages. The index is always
+ * written, even when empty, because the runtime only uses it when every scanned classpath entry
+ * has one.
+ */
+@SupportedAnnotationTypes("*")
+public final class ElasticActorsIndexProcessor extends AbstractProcessor {
+
+    public static final String INDEX_RESOURCE = "META-INF/elasticactors.idx";
+
+    static final String MESSAGE_HANDLER = "org.elasticsoftware.elasticactors.MessageHandler";
+    static final String ACTOR_LIFECYCLE_LISTENER = "org.elasticsoftware.elasticactors.ActorLifecycleListener";
+    static final List<String> INDEXED_ANNOTATIONS = Arrays.asList(
+        "org.elasticsoftware.elasticactors.Actor",
+        "org.elasticsoftware.elasticactors.TempActor",
+        "org.elasticsoftware.elasticactors.ServiceActor",
+        "org.elasticsoftware.elasticactors.ManagedActor",
+        "org.elasticsoftware.elasticactors.SingletonActor",
+        "org.elasticsoftware.elasticactors.PluggableMessageHandlers",
+        "org.elasticsoftware.elasticactors.serialization.Message"
+    );
+
+    private final Map<String, Set<String>> index = new TreeMap<>();
+    private boolean previousIndexLoaded;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!previousIndexLoaded) {
+            previousIndexLoaded = true;
+            loadPreviousIndex();
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        } else {
+            TypeMirror listenerType = erasure(ACTOR_LIFECYCLE_LISTENER);
+            for (Element element : roundEnv.getRootElements()) {
+                if (element instanceof TypeElement) {
+                    indexType((TypeElement) element, listenerType);
+                }
+            }
+        }
+        // never claim the annotations, other processors might be interested in them as well
+        return false;
+    }
+
+    private void indexType(TypeElement type, TypeMirror listenerType) {
+        String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+        // the type might have moved or lost its annotations since the previous compilation
+        index.remove(name);
+        Set<String> keys = new TreeSet<>();
+        addIndexedAnnotations(type, keys, new HashSet<>());
+        if (listenerType != null
+            && type.getKind() == ElementKind.CLASS
+            && !type.getModifiers().contains(Modifier.ABSTRACT)
+            && processingEnv.getTypeUtils().isAssignable(
+                processingEnv.getTypeUtils().erasure(type.asType()),
+                listenerType))
+        {
+            keys.add(ACTOR_LIFECYCLE_LISTENER);
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed.getKind() == ElementKind.METHOD) {
+                for (AnnotationMirror annotation : enclosed.getAnnotationMirrors()) {
+                    if (MESSAGE_HANDLER.equals(getName(annotation))) {
+                        keys.add(MESSAGE_HANDLER);
+                    }
+                }
+            } else if (enclosed instanceof TypeElement) {
+                indexType((TypeElement) enclosed, listenerType);
+            }
+        }
+        if (!keys.isEmpty()) {
+            index.put(name, keys);
+        }
+    }
+
+    /**
+     * Adds the indexed annotations of the given type and all of its supertypes. The supertypes can
+     * also come from the classpath, their annotations are available as well.
+     */
+    private void addIndexedAnnotations(TypeElement type, Set<String> keys, Set<String> visited) {
+        if (!visited.add(type.getQualifiedName().toString())) {
+            return;
+        }
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            String annotationName = getName(annotation);
+            if (INDEXED_ANNOTATIONS.contains(annotationName)) {
+                keys.add(annotationName);
+            }
+        }
+        for (TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type.asType())) {
+            if (supertype instanceof DeclaredType) {
+                addIndexedAnnotations((TypeElement) ((DeclaredType) supertype).asElement(), keys, visited);
+            }
+        }
+    }
+
+    /**
+     * Incremental compilers only hand the changed sources to the processor, so the entries of the
+     * previous index are kept as long as their types still exist. Entries of the types that are
+     * compiled again are replaced in {@link #indexType(TypeElement, TypeMirror)}.
+     */
+    private void loadPreviousIndex() {
+        try {
+            FileObject previous = processingEnv.getFiler()
+                .getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+            try (Reader reader = previous.openReader(true)) {
+                for (Map.Entry<String, Set<String>> entry : readIndex(reader).entrySet()) {
+                    if (processingEnv.getElementUtils().getTypeElement(toCanonicalName(entry.getKey())) != null) {
+                        index.put(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // no previous index
+        }
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject resource = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+            try (Writer writer = resource.openWriter()) {
+                writer.write("# Generated by " + getClass().getName() + ", do not edit\n");
+                for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+                    writer.write(entry.getKey());
+                    writer.write('=');
+                    writer.write(String.join(",", entry.getValue()));
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "Unable to write " + INDEX_RESOURCE + ": " + e
+            );
+        }
+    }
+
+    static Map<String, Set<String>> readIndex(Reader reader) throws IOException {
+        Map<String, Set<String>> entries = new TreeMap<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            line = line.trim();
+            int separator = line.indexOf('=');
+            if (line.isEmpty() || line.startsWith("#") || separator <= 0) {
+                continue;
+            }
+            entries.put(
+                line.substring(0, separator),
+                new TreeSet<>(Arrays.asList(line.substring(separator + 1).split(",")))
+            );
+        }
+        return entries;
+    }
+
+    private TypeMirror erasure(String typeName) {
+        TypeElement typeElement = processingEnv.getElementUtils().getTypeElement(typeName);
+        return typeElement != null ? processingEnv.getTypeUtils().erasure(typeElement.asType()) : null;
+    }
+
+    private static String getName(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private static String toCanonicalName(String binaryName) {
+        return binaryName.replace('$', '.');
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+
+package org.elasticsoftware.elasticactors.processor;
+
+import org.testng.annotations.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ElasticActorsIndexProcessorTest {
+
+    private static final String ACTOR =
+        "package test;\n"
+            + "import org.elasticsoftware.elasticactors.*;\n"
+            + "@Actor @ManagedActor({\"one\"})\n"
+            + "public class MyActor extends MethodActor {\n"
+            + "    @MessageHandler public void handle(MyMessage message) { }\n"
+            + "    @org.elasticsoftware.elasticactors.serialization.Message("
+            + "serializationFramework = org.elasticsoftware.elasticactors.serialization.NoopSerializationFramework.class)\n"
+            + "    public static class Nested { }\n"
+            + "}\n";
+
+    private static final String MESSAGE =
+        "package test;\n"
+            + "import org.elasticsoftware.elasticactors.serialization.*;\n"
+            + "@Message(serializationFramework = NoopSerializationFramework.class)\n"
+            + "public class MyMessage { }\n";
+
+    private static final String SUBTYPES =
+        "package test;\n"
+            + "public class Subtypes {\n"
+            + "    public static class SpecialMessage extends MyMessage { }\n"
+            + "    public static class EvenMoreSpecialMessage extends SpecialMessage { }\n"
+            + "    public static class SpecialActor extends MyActor { }\n"
+            + "}\n";
+
+    private static final String LISTENERS =
+        "package test;\n"
+            + "import org.elasticsoftware.elasticactors.*;\n"
+            + "import org.elasticsoftware.elasticactors.state.NullActorState;\n"
+            + "public abstract class Listeners implements ActorLifecycleListener<NullActorState> {\n"
+            + "    public Class<? extends ElasticActor> getActorClass() { return MyActor.class; }\n"
+            + "    public void postCreate(ActorRef ref, NullActorState state) { }\n"
+            + "    public void postActivate(ActorRef ref, NullActorState state, String previousVersion) { }\n"
+            + "    public void prePassivate(ActorRef ref, NullActorState state) { }\n"
+            + "    public void preDestroy(ActorRef ref, NullActorState state) { }\n"
+            + "    public static class Concrete extends Listeners { }\n"
+            + "}\n";
+
+    @Test
+    public void testIndex() throws IOException {
+        Path output = Files.createTempDirectory("index");
+        compile(output, source("test.MyActor", ACTOR), source("test.MyMessage", MESSAGE), source("test.Listeners", LISTENERS));
+
+        Map<String, Set<String>> index = readIndex(output);
+
+        assertEquals(index.get("test.MyActor"), Set.of(
+            "org.elasticsoftware.elasticactors.Actor",
+            "org.elasticsoftware.elasticactors.ManagedActor",
+            "org.elasticsoftware.elasticactors.MessageHandler"
+        ));
+        assertEquals(index.get("test.MyActor$Nested"), Set.of("org.elasticsoftware.elasticactors.serialization.Message"));
+        assertEquals(index.get("test.MyMessage"), Set.of("org.elasticsoftware.elasticactors.serialization.Message"));
+        assertEquals(index.get("test.Listeners$Concrete"), Set.of("org.elasticsoftware.elasticactors.ActorLifecycleListener"));
+        assertFalse(index.containsKey("test.Listeners"));
+        assertFalse(index.containsKey("test.Subtypes"));
+    }
+
+    @Test
+    public void testSubtypesOfAnnotatedTypes() throws IOException {
+        Path output = Files.createTempDirectory("index");
+        compile(output, source("test.MyActor", ACTOR), source("test.MyMessage", MESSAGE));
+        // the annotated types are only on the classpath now
+        compile(output, source("test.Subtypes", SUBTYPES));
+
+        Map<String, Set<String>> index = readIndex(output);
+
+        assertEquals(index.get("test.Subtypes$SpecialMessage"), Set.of("org.elasticsoftware.elasticactors.serialization.Message"));
+        assertEquals(index.get("test.Subtypes$EvenMoreSpecialMessage"), Set.of("org.elasticsoftware.elasticactors.serialization.Message"));
+        assertEquals(index.get("test.Subtypes$SpecialActor"), Set.of(
+            "org.elasticsoftware.elasticactors.Actor",
+            "org.elasticsoftware.elasticactors.ManagedActor"
+        ));
+        assertFalse(index.containsKey("test.Subtypes"));
+    }
+
+    @Test
+    public void testIncrementalCompilationKeepsExistingEntries() throws IOException {
+        Path output = Files.createTempDirectory("index");
+        compile(output, source("test.MyActor", ACTOR), source("test.MyMessage", MESSAGE));
+        // only the message is compiled again, and it lost its annotation
+        compile(output, source("test.MyMessage", "package test;\npublic class MyMessage { }\n"));
+
+        Map<String, Set<String>> index = readIndex(output);
+
+        assertTrue(index.containsKey("test.MyActor"));
+        assertTrue(index.containsKey("test.MyActor$Nested"));
+        assertFalse(index.containsKey("test.MyMessage"));
+    }
+
+    private static void compile(Path output, JavaFileObject... sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> options = Arrays.asList(
+            "-d", output.toString(),
+            "-classpath", System.getProperty("java.class.path") + java.io.File.pathSeparator + output
+        );
+        JavaCompiler.CompilationTask task =
+            compiler.getTask(null, null, null, options, null, Arrays.asList(sources));
+        task.setProcessors(Collections.singletonList(new ElasticActorsIndexProcessor()));
+        assertTrue(task.call());
+    }
+
+    private static Map<String, Set<String>> readIndex(Path output) throws IOException {
+        Path indexFile = output.resolve(ElasticActorsIndexProcessor.INDEX_RESOURCE);
+        try (Reader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            return ElasticActorsIndexProcessor.readIndex(reader);
+        }
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
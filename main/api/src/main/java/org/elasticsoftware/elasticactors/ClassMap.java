@@ -0,0 +1,67 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors;
+
+import jakarta.annotation.Nullable;
+import java.util.Map;
+
+/**
+ * Immutable, array-backed map keyed on {@link Class} identity, using open addressing with linear
+ * probing. Lookups don't allocate and don't need to go through {@link Object#equals(Object)}.
+ */
+final class ClassMap<V> {
+
+    private final Class<?>[] keys;
+    private final Object[] values;
+    private final int mask;
+
+    ClassMap(Map<Class<?>, V> source) {
+        // keep the load factor at or below 0.5
+        int capacity = Integer.highestOneBit(Math.max(source.size(), 1) * 4 - 1);
+        this.keys = new Class<?>[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        source.forEach((key, value) -> {
+            int index = indexFor(key);
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = value;
+        });
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    V get(Class<?> key) {
+        int index = indexFor(key);
+        Class<?> current;
+        while ((current = keys[index]) != null) {
+            if (current == key) {
+                return (V) values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    private int indexFor(Class<?> key) {
+        int hash = System.identityHashCode(key);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
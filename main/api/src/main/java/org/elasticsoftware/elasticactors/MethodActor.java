@@ -29,14 +29,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import jakarta.annotation.Nullable;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Supplier;
 
 import static org.elasticsoftware.elasticactors.tracing.MessagingContextManager.getManager;
@@ -49,8 +57,24 @@ import static java.lang.String.format;
 public abstract class MethodActor extends TypedActor<Object> implements PersistenceAdvisor {
 
     private static final Comparator<HandlerMethodDefinition> ORDER_COMPARATOR = Comparator.comparingInt(m -> m.order);
-    private final Map<Class<?>,List<HandlerMethodDefinition>> handlerCache = new HashMap<>();
+    private static final Class<?>[] HANDLER_FUNCTION_TYPES = {
+        HandlerFunction1.class,
+        HandlerFunction2.class,
+        HandlerFunction3.class,
+        HandlerFunction4.class
+    };
+    // factories for the generated handler functions, shared by all instances. Keyed by the class declaring
+    // the handler methods, so they don't keep the class loaders of the actor classes from being unloaded
+    private static final ClassValue<ConcurrentMap<Method, Optional<MethodHandle>>> handlerFunctionFactories =
+        new ClassValue<>() {
+            @Override
+            protected ConcurrentMap<Method, Optional<MethodHandle>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    private final ClassMap<HandlerMethods> handlers;
     @Nullable private final Class<? extends ActorState> stateClass;
+    @Nullable private final PersistenceConfig persistenceConfig;
     private final static LogLevel onUnhandledLogLevel =
         LogLevel.valueOf(System.getProperty("ea.logging.messages.unhandled.level", "WARN").toUpperCase());
 
@@ -61,15 +85,17 @@ public abstract class MethodActor extends TypedActor<Object> implements Persiste
 
     protected MethodActor() {
         this.stateClass = resolveActorStateClass();
+        this.persistenceConfig = getClass().getAnnotation(PersistenceConfig.class);
+        Map<Class<?>,List<HandlerMethodDefinition>> handlerCache = new HashMap<>();
         // initialize the handler cache
-        updateHandlerCache(getClass(),this);
+        updateHandlerCache(handlerCache,getClass(),this);
         // also see if there are any other classes that have MessageHandler definitions
         MessageHandlers otherHandlers = getClass().getAnnotation(MessageHandlers.class);
         if(otherHandlers != null) {
             for (Class<?> aClass : otherHandlers.value()) {
                 // avoid adding self again
                 if(getClass() != aClass) {
-                    updateHandlerCache(aClass,null);
+                    updateHandlerCache(handlerCache,aClass,null);
                 }
             }
             // see if we have a MessageHandlersRegistry
@@ -82,7 +108,7 @@ public abstract class MethodActor extends TypedActor<Object> implements Persiste
                     List<Class<?>> messageHandlers = registry.getMessageHandlers(getClass());
                     if(messageHandlers != null) {
                         for (Class<?> messageHandler : messageHandlers) {
-                            updateHandlerCache(messageHandler,null);
+                            updateHandlerCache(handlerCache,messageHandler,null);
                         }
                     }
                 } catch(Exception e) {
@@ -90,53 +116,68 @@ public abstract class MethodActor extends TypedActor<Object> implements Persiste
                 }
             }
         }
-        // order the MessageHandlers
-        orderHandlerCache();
+        // order the MessageHandlers and decide on persistence up front
+        this.handlers = createHandlers(handlerCache);
     }
 
     @Override
     public final boolean shouldUpdateState(Object message) {
         // need to take into account the loaded handlers here
-        final List<HandlerMethodDefinition> definitions = handlerCache.get(message.getClass());
-        if(definitions != null) {
-            boolean configFound = false;
-            for (HandlerMethodDefinition definition : definitions) {
-                // see if we have a @PersistenceConfig on the declaring class
-                PersistenceConfig persistenceConfig = definition.handlerMethod.getDeclaringClass().getAnnotation(PersistenceConfig.class);
-                // if we need to persist, return
-                if(persistenceConfig != null) {
-                    configFound = true;
-                    if(PersistenceConfigHelper.shouldUpdateState(persistenceConfig,message)) {
-                        return true;
-                    }
-                }
-                // else search further
-            }
-            // if we are here, and we have a config found, then return false
-            if(configFound) {
-                return false;
-            }
+        final HandlerMethods handlerMethods = handlers.get(message.getClass());
+        if(handlerMethods != null) {
+            return handlerMethods.shouldUpdateState();
         }
-        // if we are here, we might be dealing with a MessageHandlers class that is not annotated, so look the
-        // MethodActor itself
-        return PersistenceConfigHelper.shouldUpdateState(getClass().getAnnotation(PersistenceConfig.class),message);
+        // if we are here, there is no handler for this message, so look at the MethodActor itself
+        return PersistenceConfigHelper.shouldUpdateState(persistenceConfig,message);
     }
 
     @Override
     public final boolean shouldUpdateState(ActorLifecycleStep lifecycleStep) {
         // this one only looks at the MethodActor implementation, not at the loaded handlers as they shouldn't define
         // lifecycle behavior
-        final PersistenceConfig persistenceConfig = getClass().getAnnotation(PersistenceConfig.class);
         return PersistenceConfigHelper.shouldUpdateState(persistenceConfig,lifecycleStep);
     }
 
-    private void orderHandlerCache() {
-        for (List<HandlerMethodDefinition> definitions : handlerCache.values()) {
+    private ClassMap<HandlerMethods> createHandlers(Map<Class<?>,List<HandlerMethodDefinition>> handlerCache) {
+        Map<Class<?>,HandlerMethods> handlerMethods = new HashMap<>();
+        handlerCache.forEach((messageClass, definitions) -> {
             definitions.sort(ORDER_COMPARATOR);
+            handlerMethods.put(messageClass, new HandlerMethods(
+                definitions.toArray(new HandlerMethodDefinition[0]),
+                shouldUpdateState(messageClass, definitions)
+            ));
+        });
+        return new ClassMap<>(handlerMethods);
+    }
+
+    private boolean shouldUpdateState(Class<?> messageClass, List<HandlerMethodDefinition> definitions) {
+        boolean configFound = false;
+        for (HandlerMethodDefinition definition : definitions) {
+            // see if we have a @PersistenceConfig on the declaring class
+            PersistenceConfig handlerPersistenceConfig = definition.handlerMethod.getDeclaringClass().getAnnotation(PersistenceConfig.class);
+            // if we need to persist, return
+            if(handlerPersistenceConfig != null) {
+                configFound = true;
+                if(PersistenceConfigHelper.shouldUpdateStateOnMessageClass(handlerPersistenceConfig,messageClass)) {
+                    return true;
+                }
+            }
+            // else search further
+        }
+        // if we are here, and we have a config found, then return false
+        if(configFound) {
+            return false;
         }
+        // if we are here, we might be dealing with a MessageHandlers class that is not annotated, so look the
+        // MethodActor itself
+        return PersistenceConfigHelper.shouldUpdateStateOnMessageClass(persistenceConfig,messageClass);
     }
 
-    private void updateHandlerCache(Class<?> clazz,@Nullable Object instance) {
+    private void updateHandlerCache(
+        Map<Class<?>,List<HandlerMethodDefinition>> handlerCache,
+        Class<?> clazz,
+        @Nullable Object instance)
+    {
         final Method[] methods = clazz.getMethods();
         for (Method method : methods) {
             MessageHandler messageHandlerAnnotation = method.getAnnotation(MessageHandler.class);
@@ -156,7 +197,7 @@ public abstract class MethodActor extends TypedActor<Object> implements Persiste
                     definition = new HandlerMethodDefinition(instance, method, messageHandlerAnnotation.order());
 
                 }
-                List<HandlerMethodDefinition> definitions = handlerCache.computeIfAbsent(definition.messageClass, k -> new LinkedList<>());
+                List<HandlerMethodDefinition> definitions = handlerCache.computeIfAbsent(definition.messageClass, k -> new ArrayList<>());
                 definitions.add(definition);
             }
         }
@@ -177,9 +218,9 @@ public abstract class MethodActor extends TypedActor<Object> implements Persiste
 
     @Override
     public void onReceive(ActorRef sender, Object message) throws Exception {
-        List<HandlerMethodDefinition> definitions = handlerCache.get(message.getClass());
-        if (definitions != null) {
-            for (HandlerMethodDefinition definition : definitions) {
+        HandlerMethods handlerMethods = handlers.get(message.getClass());
+        if (handlerMethods != null) {
+            for (HandlerMethodDefinition definition : handlerMethods.definitions()) {
                 try (MessagingScope ignored = getManager().enter(definition.handlerMethod)) {
                     handleMessage(sender, message, definition);
                 }
@@ -192,14 +233,11 @@ public abstract class MethodActor extends TypedActor<Object> implements Persiste
     private void handleMessage(
             ActorRef sender,
             Object message,
-            HandlerMethodDefinition definition) throws IllegalAccessException {
+            HandlerMethodDefinition definition) {
         try {
-            definition.handlerMethod.invoke(
-                    definition.targetInstance,
-                    definition.prepareParameters(sender, message));
-        } catch (InvocationTargetException e) {
-            Throwable cause = e.getCause() instanceof Exception ? e.getCause() : e;
-            logException(definition, message, sender, cause);
+            definition.invoker.invoke(sender, message);
+        } catch (Throwable e) {
+            logException(definition, message, sender, e);
         }
     }
 
@@ -262,12 +300,83 @@ public abstract class MethodActor extends TypedActor<Object> implements Persiste
         ACTOR_SYSTEM,
     }
 
+    /**
+     * The handler methods for a given message class, in order, and whether handling a message of
+     * that class should update the state.
+     */
+    private record HandlerMethods(HandlerMethodDefinition[] definitions, boolean shouldUpdateState) {
+    }
+
+    @FunctionalInterface
+    private interface HandlerInvoker {
+        void invoke(ActorRef sender, Object message) throws Throwable;
+    }
+
+    // the functional interfaces implemented by the generated handler functions, one per number of parameters.
+    // These are only public because the handler functions are generated in the class loader of the actor class
+
+    @FunctionalInterface
+    public interface HandlerFunction1 {
+        void invoke(Object argument1) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface HandlerFunction2 {
+        void invoke(Object argument1, Object argument2) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface HandlerFunction3 {
+        void invoke(Object argument1, Object argument2, Object argument3) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface HandlerFunction4 {
+        void invoke(Object argument1, Object argument2, Object argument3, Object argument4) throws Throwable;
+    }
+
+    /**
+     * Generates (once per handler method) a factory for a class implementing one of the HandlerFunction interfaces
+     * that calls the handler method directly. For instance methods, the factory takes the target instance.
+     * The class is defined next to the class declaring the handler method, so it sees the same classes
+     * (which may live in a child class loader) as the handler method itself.
+     */
+    private static Optional<MethodHandle> createHandlerFunctionFactory(Method handlerMethod) {
+        int parameterCount = handlerMethod.getParameterCount();
+        if (parameterCount > HANDLER_FUNCTION_TYPES.length) {
+            return Optional.empty();
+        }
+        try {
+            MethodHandles.Lookup lookup =
+                MethodHandles.privateLookupIn(handlerMethod.getDeclaringClass(), MethodHandles.lookup());
+            Class<?> functionType = HANDLER_FUNCTION_TYPES[parameterCount - 1];
+            MethodType factoryType = Modifier.isStatic(handlerMethod.getModifiers())
+                ? MethodType.methodType(functionType)
+                : MethodType.methodType(functionType, handlerMethod.getDeclaringClass());
+            CallSite callSite = LambdaMetafactory.metafactory(
+                lookup,
+                "invoke",
+                factoryType,
+                MethodType.genericMethodType(parameterCount).changeReturnType(void.class),
+                lookup.unreflect(handlerMethod),
+                MethodType.methodType(void.class, handlerMethod.getParameterTypes())
+            );
+            return Optional.of(callSite.getTarget());
+        } catch (Exception | LinkageError e) {
+            // not accessible from here, we'll have to use reflection
+            LoggerFactory.getLogger(MethodActor.class)
+                .debug("Using reflection for handler method [{}]", handlerMethod, e);
+            return Optional.empty();
+        }
+    }
+
     private final class HandlerMethodDefinition {
         private final @Nullable Object targetInstance;
         private final Method handlerMethod;
         private final ParameterType[] parameterTypeOrdering;
         private final Class<?> messageClass;
         private final int order;
+        private final HandlerInvoker invoker;
 
         private HandlerMethodDefinition(@Nullable Object targetInstance, Method handlerMethod, int order) throws IllegalArgumentException, IllegalStateException {
             this.targetInstance = targetInstance;
@@ -304,30 +413,76 @@ public abstract class MethodActor extends TypedActor<Object> implements Persiste
                 ));
             }
             this.messageClass = messageParameterClass;
+            this.invoker = createInvoker();
+        }
+
+        private HandlerInvoker createInvoker() {
+            Optional<MethodHandle> factory = handlerFunctionFactories.get(handlerMethod.getDeclaringClass())
+                .computeIfAbsent(handlerMethod, MethodActor::createHandlerFunctionFactory);
+            if (factory.isPresent()) {
+                try {
+                    Object function = targetInstance != null
+                        ? factory.get().invoke(targetInstance)
+                        : factory.get().invoke();
+                    switch (parameterTypeOrdering.length) {
+                        case 1:
+                            HandlerFunction1 function1 = (HandlerFunction1) function;
+                            return (sender, message) -> function1.invoke(
+                                argument(0, sender, message));
+                        case 2:
+                            HandlerFunction2 function2 = (HandlerFunction2) function;
+                            return (sender, message) -> function2.invoke(
+                                argument(0, sender, message),
+                                argument(1, sender, message));
+                        case 3:
+                            HandlerFunction3 function3 = (HandlerFunction3) function;
+                            return (sender, message) -> function3.invoke(
+                                argument(0, sender, message),
+                                argument(1, sender, message),
+                                argument(2, sender, message));
+                        case 4:
+                            HandlerFunction4 function4 = (HandlerFunction4) function;
+                            return (sender, message) -> function4.invoke(
+                                argument(0, sender, message),
+                                argument(1, sender, message),
+                                argument(2, sender, message),
+                                argument(3, sender, message));
+                        default:
+                            break;
+                    }
+                } catch (Throwable e) {
+                    logger.debug("Using reflection for handler method [{}]", handlerMethod, e);
+                }
+            }
+            return (sender, message) -> {
+                try {
+                    handlerMethod.invoke(targetInstance, prepareParameters(sender, message));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            };
+        }
+
+        private Object argument(int index, ActorRef sender, Object message) {
+            ParameterType parameterType = parameterTypeOrdering[index];
+            switch(parameterType) {
+                case MESSAGE:
+                    return message;
+                case SENDER_REF:
+                    return sender;
+                case STATE:
+                    return getState(MethodActor.this.stateClass);
+                case ACTOR_SYSTEM:
+                    return getSystem();
+                default:
+                    throw new IllegalStateException(format("ParameterType %s not handled!",parameterType));
+            }
         }
 
         private Object[] prepareParameters(ActorRef sender,Object message) {
             Object[] arguments = new Object[parameterTypeOrdering.length];
             for (int i = 0; i < parameterTypeOrdering.length; i++) {
-                ParameterType parameterType = parameterTypeOrdering[i];
-                switch(parameterType) {
-                    case MESSAGE:
-                        arguments[i] = message;
-                        continue;
-                    case SENDER_REF:
-                        arguments[i] = sender;
-                        continue;
-                    case STATE:
-                        arguments[i] = getState(MethodActor.this.stateClass);
-                        continue;
-                    case ACTOR_SYSTEM:
-                        arguments[i] = getSystem();
-                        continue;
-                    default:
-                        throw new IllegalStateException(format("ParameterType %s not handled!",parameterType));
-
-                }
-
+                arguments[i] = argument(i, sender, message);
             }
             return arguments;
         }
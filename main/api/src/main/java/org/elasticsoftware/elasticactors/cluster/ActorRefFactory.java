@@ -20,6 +20,7 @@ package org.elasticsoftware.elasticactors.cluster;
 import org.elasticsoftware.elasticactors.ActorRef;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 
 /**
  * @author Joost van de Wijgerd
@@ -27,4 +28,27 @@ import jakarta.annotation.Nonnull;
 public interface ActorRefFactory {
     @Nonnull
     ActorRef create(@Nonnull String refSpec);
+
+    /**
+     * Creates the ActorRef for {@code actor://<clusterName>/<actorSystemName>/<type>/<id>/<actorId>} from its
+     * parts, used by decoders that already have them (i.e. compact ActorRefs) so they don't need to build a ref
+     * spec that is parsed again. The type is one of {@code shards}, {@code nodes} or {@code services}.
+     *
+     * The default implementation builds the ref spec and calls {@link #create(String)}.
+     */
+    @Nonnull
+    default ActorRef create(
+        @Nonnull String clusterName,
+        @Nonnull String actorSystemName,
+        @Nonnull String type,
+        @Nonnull String id,
+        @Nullable String actorId)
+    {
+        StringBuilder refSpec = new StringBuilder(64).append("actor://")
+            .append(clusterName).append('/').append(actorSystemName).append('/').append(type).append('/').append(id);
+        if (actorId != null) {
+            refSpec.append('/').append(actorId);
+        }
+        return create(refSpec.toString());
+    }
 }
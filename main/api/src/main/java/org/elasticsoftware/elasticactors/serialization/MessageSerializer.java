@@ -19,7 +19,9 @@ package org.elasticsoftware.elasticactors.serialization;
 
 import jakarta.annotation.Nonnull;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 
 /**
  * @author Joost van de Wijgerd
@@ -28,4 +30,17 @@ public interface MessageSerializer<I> extends Serializer<I,ByteBuffer> {
     @Nonnull
     @Override
     ByteBuffer serialize(@Nonnull I object) throws IOException;
+
+    /**
+     * Serializes the object into a buffer supplied by the caller, which is not closed. Implementations that can write
+     * to a stream directly should override this to avoid the intermediate {@link ByteBuffer}.
+     */
+    default void serialize(@Nonnull I object, @Nonnull OutputStream output) throws IOException {
+        ByteBuffer buffer = serialize(object);
+        if (buffer.hasArray()) {
+            output.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else {
+            Channels.newChannel(output).write(buffer.duplicate());
+        }
+    }
 }
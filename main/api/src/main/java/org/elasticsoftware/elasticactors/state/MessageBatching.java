@@ -0,0 +1,50 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.state;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * By adding this annotation to a persistent {@link org.elasticsoftware.elasticactors.ElasticActor}
+ * class, messages that are queued for the same actor instance will be handled in batches rather
+ * than one by one. The state is serialized and persisted only once, after the last message in the
+ * batch has been handled, and all messages in the batch are only acknowledged after that.
+ *
+ * <p>
+ * Messages are still handled one at a time and in order, but a failure to persist the state now
+ * affects all messages in the batch. Use this for actors that receive bursts of messages and
+ * whose state is expensive to serialize. The state update of a batch is passed to the
+ * {@code ActorStateUpdateListener}s once for every type of message in the batch that updated the
+ * state, all with the state as it was after the last message.
+ *
+ * @see PersistenceConfig
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface MessageBatching {
+
+    /**
+     * @return the maximum number of messages that will be handled in a single batch
+     */
+    int maxBatchSize() default 64;
+}
@@ -24,13 +24,21 @@ public final class PersistenceConfigHelper {
     private PersistenceConfigHelper() {}
 
     public static boolean shouldUpdateState(PersistenceConfig persistenceConfig, Object message) {
+        return shouldUpdateStateOnMessageClass(persistenceConfig, message.getClass());
+    }
+
+    /**
+     * Same as {@link #shouldUpdateState(PersistenceConfig, Object)}, for when the decision needs to be
+     * made ahead of time for every message of a given type.
+     */
+    public static boolean shouldUpdateStateOnMessageClass(PersistenceConfig persistenceConfig, Class<?> messageClass) {
         if (persistenceConfig != null) {
             // look for not excluded when persist all is on
             if(persistenceConfig.persistOnMessages()) {
-                return !contains(persistenceConfig.excluded(), message.getClass());
+                return !contains(persistenceConfig.excluded(), messageClass);
             } else {
                 // look for included otherwise
-                return contains(persistenceConfig.included(), message.getClass());
+                return contains(persistenceConfig.included(), messageClass);
             }
         } else {
             return true;
@@ -17,12 +17,19 @@
 
 package org.elasticsoftware.elasticactors;
 
+import org.elasticsoftware.elasticactors.state.PersistenceConfig;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
 
 /**
  * @author Joost van de Wijgerd
@@ -67,4 +74,85 @@ public class MethodActorTest {
 
         assertNotNull(state.getSender());
     }
+
+    @Test
+    public void testShouldUpdateState() {
+        SelectivelyPersistentMethodActor actor = new SelectivelyPersistentMethodActor();
+
+        assertTrue(actor.shouldUpdateState(new TestMessage("hello world!")));
+        assertFalse(actor.shouldUpdateState(new AnotherTestMessage("hello world!")));
+        // unhandled messages use the configuration of the actor itself
+        assertFalse(actor.shouldUpdateState(new Object()));
+    }
+
+    @Test
+    public void testActorClassInChildClassLoader() throws Exception {
+        ActorContext context = mock(ActorContext.class);
+        TestActorContextHolder.setContext(context);
+        TestActorState state = new TestActorState();
+        when(context.getState(TestActorState.class)).thenReturn(state);
+
+        ClassLoader classLoader = new ChildFirstClassLoader(ChildClassLoaderMethodActor.class.getName());
+        Class<?> actorClass = classLoader.loadClass(ChildClassLoaderMethodActor.class.getName());
+        assertNotSame(actorClass, ChildClassLoaderMethodActor.class);
+
+        MethodActor actor = (MethodActor) actorClass.getDeclaredConstructor().newInstance();
+        actor.onReceive(mock(ActorRef.class), new TestMessage("hello world!"));
+
+        assertTrue(state.isCallSucceeded());
+    }
+
+    @Actor(stateClass = TestActorState.class, serializationFramework = TestSerializationFramework.class)
+    public static class ChildClassLoaderMethodActor extends MethodActor {
+
+        @MessageHandler
+        public void handle(TestMessage message, TestActorState state) {
+            // called through the generated handler function, not through reflection
+            state.setCallSucceeded(StackWalker.getInstance().walk(frames -> frames.noneMatch(
+                frame -> frame.getClassName().startsWith("jdk.internal.reflect"))));
+        }
+    }
+
+    /**
+     * Defines the given class itself instead of delegating to its parent
+     */
+    private static final class ChildFirstClassLoader extends ClassLoader {
+        private final String className;
+
+        private ChildFirstClassLoader(String className) {
+            super(MethodActorTest.class.getClassLoader());
+            this.className = className;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(className)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loadedClass = findLoadedClass(name);
+                if (loadedClass == null) {
+                    try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        byte[] bytes = in.readAllBytes();
+                        loadedClass = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                return loadedClass;
+            }
+        }
+    }
+
+    @PersistenceConfig(persistOnMessages = false, included = {TestMessage.class})
+    public static class SelectivelyPersistentMethodActor extends MethodActor {
+
+        @MessageHandler
+        public void handle(TestMessage message) {
+        }
+
+        @MessageHandler
+        public void handle(AnotherTestMessage message, ActorRef sender) {
+        }
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cassandra.common.serialization;
+
+import org.elasticsoftware.elasticactors.serialization.compression.CompressionDictionary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Stores {@link CompressionDictionary}s in the PersistentActors table: the row key is the cluster name with
+ * {@link #KEY2} and the column name is the id of the dictionary. The value is the length of the key, the key and the
+ * dictionary.
+ */
+public final class CompressionDictionaryCodec {
+    public static final String KEY2 = "compressionDictionaries";
+
+    private CompressionDictionaryCodec() {
+    }
+
+    public static ByteBuffer encode(CompressionDictionary dictionary) {
+        byte[] key = dictionary.key().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + key.length + dictionary.bytes().length);
+        buffer.putInt(key.length);
+        buffer.put(key);
+        buffer.put(dictionary.bytes());
+        return buffer.flip();
+    }
+
+    public static CompressionDictionary decode(String id, ByteBuffer value) {
+        ByteBuffer buffer = value.duplicate();
+        byte[] key = new byte[buffer.getInt()];
+        buffer.get(key);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new CompressionDictionary(Integer.parseInt(id), new String(key, StandardCharsets.UTF_8), bytes);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cassandra.common.state;
+
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundEventProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces every {@link PersistentActorUpdateEvent} with the latest update coalesced into it
+ * by the {@link PersistentActorUpdateCoalescer} before handing it to the actual processor.
+ */
+public final class CoalescingPersistentActorUpdateEventProcessor
+    implements ThreadBoundEventProcessor<PersistentActorUpdateEvent> {
+
+    private final PersistentActorUpdateCoalescer coalescer;
+    private final ThreadBoundEventProcessor<PersistentActorUpdateEvent> delegate;
+
+    public CoalescingPersistentActorUpdateEventProcessor(
+        PersistentActorUpdateCoalescer coalescer,
+        ThreadBoundEventProcessor<PersistentActorUpdateEvent> delegate)
+    {
+        this.coalescer = coalescer;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void process(List<PersistentActorUpdateEvent> events) {
+        List<PersistentActorUpdateEvent> resolvedEvents = new ArrayList<>(events.size());
+        for (PersistentActorUpdateEvent event : events) {
+            resolvedEvents.add(coalescer.resolve(event));
+        }
+        delegate.process(resolvedEvents);
+    }
+
+    @Override
+    public void process(PersistentActorUpdateEvent event) {
+        delegate.process(coalescer.resolve(event));
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cassandra.common.state;
+
+import jakarta.annotation.Nullable;
+import org.elasticsoftware.elasticactors.ShardKey;
+import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.messaging.MessageHandlerEventListener;
+import org.elasticsoftware.elasticactors.serialization.Deserializer;
+import org.elasticsoftware.elasticactors.serialization.Serializer;
+import org.elasticsoftware.elasticactors.serialization.compression.PayloadCompressor;
+import org.elasticsoftware.elasticactors.serialization.compression.PayloadDecompressor;
+import org.elasticsoftware.elasticactors.state.ActorStateDeltas;
+import org.elasticsoftware.elasticactors.state.PersistedState;
+import org.elasticsoftware.elasticactors.state.PersistentActor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Stores actors as a (compressed) snapshot followed by deltas against the previous write, see
+ * {@link ActorStateDeltas}. A new snapshot is written when the number or the total size of the deltas since the last
+ * snapshot would exceed the configured maximum, or when a delta would not be much smaller than the actor itself.
+ * <p>
+ * The snapshot is stored together with its sequence number, the deltas are stored by their sequence number. Writing
+ * a snapshot removes all deltas. When reading an actor, the deltas that follow the snapshot are applied in order;
+ * a missing delta (i.e. a failed write) or a delta that was not computed against the result of the previous one ends
+ * the chain.
+ * <p>
+ * The {@link PersistedState} of an actor is advanced when a write is queued, so the writes that are queued after it
+ * can be deltas against it (the writes of an actor are executed in order). When a write fails, the persisted state is
+ * dropped, so the next write is a snapshot again instead of a delta against something that was never stored.
+ */
+public final class PersistentActorDeltaCodec {
+    private static final Logger logger = LoggerFactory.getLogger(PersistentActorDeltaCodec.class);
+    private final Serializer<PersistentActor<ShardKey>, byte[]> serializer;
+    private final Deserializer<ByteBuffer, PersistentActor<ShardKey>> deserializer;
+    private final PayloadCompressor compressor;
+    private final PayloadDecompressor decompressor;
+    private final int maximumDeltas;
+    private final long maximumDeltaBytes;
+
+    /**
+     * @param serializer           serializes actors without compression
+     * @param deserializer         deserializes uncompressed actors
+     * @param compressionThreshold snapshots bigger than this are compressed
+     * @param maximumDeltas        the maximum number of deltas written after a snapshot
+     * @param maximumDeltaBytes    the maximum total size of the deltas written after a snapshot
+     */
+    public PersistentActorDeltaCodec(
+        Serializer<PersistentActor<ShardKey>, byte[]> serializer,
+        Deserializer<ByteBuffer, PersistentActor<ShardKey>> deserializer,
+        int compressionThreshold,
+        int maximumDeltas,
+        long maximumDeltaBytes)
+    {
+        this(
+            serializer,
+            deserializer,
+            new PayloadCompressor(compressionThreshold),
+            new PayloadDecompressor(),
+            maximumDeltas,
+            maximumDeltaBytes
+        );
+    }
+
+    /**
+     * @param compressor   compresses snapshots, keyed by the name of the actor class
+     * @param decompressor decompresses snapshots
+     */
+    public PersistentActorDeltaCodec(
+        Serializer<PersistentActor<ShardKey>, byte[]> serializer,
+        Deserializer<ByteBuffer, PersistentActor<ShardKey>> deserializer,
+        PayloadCompressor compressor,
+        PayloadDecompressor decompressor,
+        int maximumDeltas,
+        long maximumDeltaBytes)
+    {
+        this.serializer = serializer;
+        this.deserializer = deserializer;
+        this.compressor = compressor;
+        this.decompressor = decompressor;
+        this.maximumDeltas = maximumDeltas;
+        this.maximumDeltaBytes = maximumDeltaBytes;
+    }
+
+    public PersistentActorUpdateEvent createUpdateEvent(
+        String[] rowKey,
+        ShardKey shardKey,
+        PersistentActor<ShardKey> persistentActor,
+        @Nullable InternalMessage message,
+        @Nullable MessageHandlerEventListener eventListener) throws IOException
+    {
+        final String actorId = persistentActor.getSelf().getActorId();
+        final byte[] serializedActor = serializer.serialize(persistentActor);
+        final int checksum = ActorStateDeltas.checksum(serializedActor);
+        final PersistedState previous = persistentActor.getPersistedState();
+        final long sequence = previous != null ? previous.sequence() + 1 : 1L;
+        if (previous != null && previous.deltaCount() < maximumDeltas) {
+            byte[] delta = ActorStateDeltas.create(previous.bytes(), previous.checksum(), serializedActor);
+            long deltaBytes = previous.deltaBytes() + delta.length;
+            PersistedState next = new PersistedState(
+                serializedActor,
+                checksum,
+                sequence,
+                previous.snapshotSequence(),
+                deltaBytes
+            );
+            // if a write failed in the meantime, the delta might be against something that isn't stored
+            if (deltaBytes <= maximumDeltaBytes
+                && delta.length < serializedActor.length / 2
+                && persistentActor.compareAndSetPersistedState(previous, next))
+            {
+                return new PersistentActorUpdateEvent(
+                    rowKey,
+                    shardKey,
+                    actorId,
+                    ByteBuffer.wrap(delta),
+                    message,
+                    new ResetOnErrorListener(persistentActor, eventListener),
+                    sequence,
+                    true
+                );
+            }
+        }
+        persistentActor.setPersistedState(new PersistedState(serializedActor, checksum, sequence, sequence, 0L));
+        return new PersistentActorUpdateEvent(
+            rowKey,
+            shardKey,
+            actorId,
+            compressor.compress(getCompressionKey(persistentActor), serializedActor),
+            message,
+            new ResetOnErrorListener(persistentActor, eventListener),
+            sequence,
+            false
+        );
+    }
+
+    /**
+     * @param snapshot         the stored snapshot, or the complete actor if it was written without deltas
+     * @param snapshotSequence the stored sequence number of the snapshot, 0 if it was written without deltas
+     * @param deltas           the stored deltas by their sequence number
+     */
+    public PersistentActor<ShardKey> decode(
+        ShardKey shardKey,
+        String actorId,
+        ByteBuffer snapshot,
+        long snapshotSequence,
+        Map<Long, ByteBuffer> deltas) throws IOException
+    {
+        byte[] serializedActor = toByteArray(decompressor.decompress(snapshot));
+        int checksum = ActorStateDeltas.checksum(serializedActor);
+        long sequence = snapshotSequence;
+        long deltaBytes = 0L;
+        if (!deltas.isEmpty()) {
+            for (Map.Entry<Long, ByteBuffer> entry : new TreeMap<>(deltas).tailMap(snapshotSequence, false).entrySet()) {
+                ByteBuffer delta = entry.getValue();
+                if (entry.getKey() != sequence + 1 || !ActorStateDeltas.appliesTo(delta, checksum)) {
+                    logger.warn(
+                        "Delta {} of actor [{}] on shard [{}] does not follow delta {}, ignoring the deltas after it",
+                        entry.getKey(),
+                        actorId,
+                        shardKey,
+                        sequence
+                    );
+                    break;
+                }
+                serializedActor = ActorStateDeltas.apply(serializedActor, delta);
+                checksum = ActorStateDeltas.checksum(serializedActor);
+                deltaBytes += delta.remaining();
+                sequence = entry.getKey();
+            }
+        }
+        PersistentActor<ShardKey> persistentActor = deserializer.deserialize(ByteBuffer.wrap(serializedActor));
+        persistentActor.setPersistedState(
+            new PersistedState(serializedActor, checksum, sequence, snapshotSequence, deltaBytes));
+        return persistentActor;
+    }
+
+    private static String getCompressionKey(PersistentActor<ShardKey> persistentActor) {
+        return persistentActor.getActorClass() != null
+            ? persistentActor.getActorClass().getName()
+            : PersistentActor.class.getName();
+    }
+
+    private static byte[] toByteArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Drops the persisted state of the actor when its write fails, so the next write will be a snapshot
+     */
+    private static final class ResetOnErrorListener implements MessageHandlerEventListener {
+        private final PersistentActor<ShardKey> persistentActor;
+        @Nullable private final MessageHandlerEventListener delegate;
+
+        private ResetOnErrorListener(
+            PersistentActor<ShardKey> persistentActor,
+            @Nullable MessageHandlerEventListener delegate)
+        {
+            this.persistentActor = persistentActor;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onError(InternalMessage message, Throwable exception) {
+            persistentActor.setPersistedState(null);
+            if (delegate != null) {
+                delegate.onError(message, exception);
+            }
+        }
+
+        @Override
+        public void onDone(InternalMessage message) {
+            if (delegate != null) {
+                delegate.onDone(message);
+            }
+        }
+    }
+
+    /**
+     * Writes to the same actor in a single batch share the same timestamp, so a snapshot would remove a delta that
+     * follows it. Such batches have to be written statement by statement.
+     */
+    public static boolean hasRepeatedActors(List<PersistentActorUpdateEvent> events) {
+        Set<String> actorIds = new HashSet<>();
+        for (PersistentActorUpdateEvent event : events) {
+            if (!actorIds.add(event.persistentActorId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cassandra.common.state;
+
+import org.elasticsoftware.elasticactors.ShardKey;
+import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.messaging.MessageHandlerEventListener;
+
+import jakarta.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Coalesces queued {@link PersistentActorUpdateEvent}s for the same actor. Only the first update
+ * for a given shard and actor id is handed to the update executor; newer updates that arrive
+ * before it is written replace its payload (last write wins) and add their listeners to it.
+ * When the surviving write completes, the listeners of all coalesced updates are notified, each
+ * with its own message.
+ * <p>
+ * Snapshots and deltas (see {@link PersistentActorDeltaCodec}) are never coalesced, as every delta builds on the
+ * write before it.
+ */
+public final class PersistentActorUpdateCoalescer {
+
+    private final ConcurrentMap<PendingKey, PendingUpdate> pendingUpdates = new ConcurrentHashMap<>();
+    private final boolean enabled;
+
+    public PersistentActorUpdateCoalescer(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Registers an update.
+     *
+     * @return the event that should be handed to the update executor, or {@code null} if the update
+     * was coalesced into one that is already queued
+     */
+    @Nullable
+    public PersistentActorUpdateEvent coalesce(PersistentActorUpdateEvent event) {
+        if (!enabled) {
+            return event;
+        }
+        PendingKey key = new PendingKey(event.shardKey(), event.persistentActorId());
+        PendingUpdate[] created = new PendingUpdate[1];
+        pendingUpdates.compute(key, (k, pendingUpdate) -> {
+            if (pendingUpdate != null && pendingUpdate.merge(event)) {
+                return pendingUpdate;
+            }
+            return created[0] = new PendingUpdate(event);
+        });
+        return created[0] != null ? event : null;
+    }
+
+    /**
+     * Called by the update executor right before writing. Returns the latest version of the
+     * update that was queued as the given event, and makes sure newer updates for the same actor
+     * are queued separately from then on.
+     */
+    public PersistentActorUpdateEvent resolve(PersistentActorUpdateEvent event) {
+        if (!enabled) {
+            return event;
+        }
+        PendingKey key = new PendingKey(event.shardKey(), event.persistentActorId());
+        PendingUpdate pendingUpdate = pendingUpdates.get(key);
+        if (pendingUpdate == null || pendingUpdate.queuedEvent != event) {
+            return event;
+        }
+        // claim first, so concurrent updates will no longer merge into this one
+        PersistentActorUpdateEvent resolved = pendingUpdate.claim();
+        pendingUpdates.remove(key, pendingUpdate);
+        return resolved;
+    }
+
+    /**
+     * Called when the event returned by {@link #coalesce} could not be handed to the update
+     * executor. The update will never be written, so newer updates for the same actor must not be
+     * merged into it anymore, and the listeners of all updates coalesced into it are notified of
+     * the exception.
+     */
+    public void abandon(PersistentActorUpdateEvent event, Throwable exception) {
+        if (enabled) {
+            PendingKey key = new PendingKey(event.shardKey(), event.persistentActorId());
+            PendingUpdate pendingUpdate = pendingUpdates.get(key);
+            if (pendingUpdate != null && pendingUpdate.queuedEvent == event) {
+                // claim first, so concurrent updates will no longer merge into this one
+                pendingUpdate.claim();
+                pendingUpdates.remove(key, pendingUpdate);
+                pendingUpdate.onError(event.message(), exception);
+                return;
+            }
+        }
+        if (event.eventListener() != null) {
+            event.eventListener().onError(event.message(), exception);
+        }
+    }
+
+    private record PendingKey(ShardKey shardKey, String actorId) {
+    }
+
+    private static final class PendingUpdate implements MessageHandlerEventListener {
+        private final PersistentActorUpdateEvent queuedEvent;
+        private final List<InternalMessage> messages = new ArrayList<>();
+        private final List<MessageHandlerEventListener> listeners = new ArrayList<>();
+        private PersistentActorUpdateEvent latestEvent;
+        private boolean claimed;
+
+        private PendingUpdate(PersistentActorUpdateEvent queuedEvent) {
+            this.queuedEvent = queuedEvent;
+            this.latestEvent = queuedEvent;
+            addListener(queuedEvent);
+        }
+
+        private synchronized boolean merge(PersistentActorUpdateEvent event) {
+            if (claimed || event.hasSequence() || latestEvent.hasSequence()) {
+                return false;
+            }
+            // the payload of the previous update is no longer needed
+            latestEvent = event;
+            addListener(event);
+            return true;
+        }
+
+        private synchronized PersistentActorUpdateEvent claim() {
+            claimed = true;
+            if (latestEvent == queuedEvent) {
+                return queuedEvent;
+            }
+            ByteBuffer latestBytes =
+                latestEvent.hasPersistentActorBytes() ? latestEvent.persistentActorBytes() : null;
+            return new PersistentActorUpdateEvent(
+                queuedEvent.rowKey(),
+                queuedEvent.shardKey(),
+                queuedEvent.persistentActorId(),
+                latestBytes,
+                latestEvent.message(),
+                listeners.isEmpty() ? null : this
+            );
+        }
+
+        private void addListener(PersistentActorUpdateEvent event) {
+            if (event.eventListener() != null) {
+                messages.add(event.message());
+                listeners.add(event.eventListener());
+            }
+        }
+
+        @Override
+        public void onDone(InternalMessage message) {
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onDone(messages.get(i));
+            }
+        }
+
+        @Override
+        public void onError(InternalMessage message, Throwable exception) {
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onError(messages.get(i), exception);
+            }
+        }
+    }
+}
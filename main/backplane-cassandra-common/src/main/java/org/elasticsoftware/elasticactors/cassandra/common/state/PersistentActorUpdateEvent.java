@@ -26,6 +26,10 @@ import jakarta.annotation.Nullable;
 import java.nio.ByteBuffer;
 
 /**
+ * When the repository stores deltas, {@code sequence} is the (positive) sequence number of the write for the actor
+ * and {@code delta} tells if {@code persistentActorBytes} is a delta or a snapshot. A {@code sequence} of
+ * {@link #NO_SEQUENCE} is a plain write of the complete actor (or a delete).
+ *
  * @author Joost van de Wijgerd
  */
 public record PersistentActorUpdateEvent(
@@ -34,9 +38,23 @@ public record PersistentActorUpdateEvent(
         String persistentActorId,
         @Nullable ByteBuffer persistentActorBytes,
         @Nullable InternalMessage message,
-        @Nullable MessageHandlerEventListener eventListener
+        @Nullable MessageHandlerEventListener eventListener,
+        long sequence,
+        boolean delta
 ) implements ThreadBoundEvent<Integer> {
 
+    public static final long NO_SEQUENCE = 0L;
+
+    public PersistentActorUpdateEvent(
+            String[] rowKey,
+            ShardKey shardKey,
+            String persistentActorId,
+            @Nullable ByteBuffer persistentActorBytes,
+            @Nullable InternalMessage message,
+            @Nullable MessageHandlerEventListener eventListener) {
+        this(rowKey, shardKey, persistentActorId, persistentActorBytes, message, eventListener, NO_SEQUENCE, false);
+    }
+
     @Override
     public Integer getKey() {
         return shardKey.getShardId();
@@ -46,6 +64,10 @@ public record PersistentActorUpdateEvent(
         return persistentActorBytes != null;
     }
 
+    public boolean hasSequence() {
+        return sequence != NO_SEQUENCE;
+    }
+
     @Override
     @Nullable
     public ByteBuffer persistentActorBytes() {
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cassandra.common.state;
+
+import org.elasticsoftware.elasticactors.ActorRef;
+import org.elasticsoftware.elasticactors.ShardKey;
+import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.messaging.MessageHandlerEventListener;
+import org.elasticsoftware.elasticactors.state.PersistentActor;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class PersistentActorDeltaCodecTest {
+
+    private static final ShardKey SHARD_KEY = new ShardKey("test", 0);
+    private static final String[] ROW_KEY = {"test", SHARD_KEY.toString()};
+
+    private String state;
+    private ByteBuffer snapshot;
+    private long snapshotSequence;
+    private final Map<Long, ByteBuffer> deltas = new HashMap<>();
+
+    private final PersistentActorDeltaCodec codec = new PersistentActorDeltaCodec(
+        persistentActor -> state.getBytes(StandardCharsets.UTF_8),
+        serializedObject -> createActor(),
+        512,
+        4,
+        1024
+    );
+
+    @Test
+    public void testSnapshotFollowedByDeltas() throws Exception {
+        PersistentActor<ShardKey> actor = createActor();
+        for (int i = 0; i < 10; i++) {
+            state = createState(i);
+            PersistentActorUpdateEvent event = write(actor);
+            assertEquals(event.sequence(), i + 1);
+            // a snapshot every 5 writes
+            assertEquals(event.delta(), i % 5 != 0);
+            if (event.delta()) {
+                assertTrue(event.persistentActorBytes().remaining() < 64);
+            }
+            assertEquals(readState(), state);
+        }
+    }
+
+    @Test
+    public void testStaleDeltaEndsTheChain() throws Exception {
+        PersistentActor<ShardKey> actor = createActor();
+        state = createState(0);
+        write(actor);
+        state = createState(1);
+        write(actor);
+        state = createState(2);
+        write(actor);
+        // the actor is written again from scratch, its old deltas are left behind
+        PersistentActor<ShardKey> restarted = createActor();
+        state = createState(3);
+        PersistentActorUpdateEvent snapshotEvent = write(restarted);
+        assertFalse(snapshotEvent.delta());
+        deltas.put(2L, ByteBuffer.wrap(new byte[] {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1}));
+        assertEquals(readState(), createState(3));
+    }
+
+    @Test
+    public void testFailedWriteIsFollowedBySnapshot() throws Exception {
+        PersistentActor<ShardKey> actor = createActor();
+        state = createState(0);
+        write(actor);
+        // the write fails after the next one was queued already
+        state = createState(1);
+        PersistentActorUpdateEvent failedEvent = codec.createUpdateEvent(ROW_KEY, SHARD_KEY, actor, null, null);
+        assertTrue(failedEvent.delta());
+        state = createState(2);
+        assertTrue(write(actor).delta());
+        failedEvent.eventListener().onError(null, new IllegalStateException("write failed"));
+        assertNull(actor.getPersistedState());
+        // the stored deltas are incomplete, the next write must not build on them
+        assertEquals(readState(), createState(0));
+        state = createState(3);
+        assertFalse(write(actor).delta());
+        assertEquals(readState(), createState(3));
+        state = createState(4);
+        assertTrue(write(actor).delta());
+        assertEquals(readState(), createState(4));
+    }
+
+    @Test
+    public void testListenerIsNotified() throws Exception {
+        PersistentActor<ShardKey> actor = createActor();
+        MessageHandlerEventListener listener = mock(MessageHandlerEventListener.class);
+        InternalMessage message = mock(InternalMessage.class);
+        state = createState(0);
+        PersistentActorUpdateEvent event = codec.createUpdateEvent(ROW_KEY, SHARD_KEY, actor, message, listener);
+        event.eventListener().onDone(message);
+        verify(listener).onDone(message);
+        assertNotNull(actor.getPersistedState());
+        IllegalStateException exception = new IllegalStateException("write failed");
+        event.eventListener().onError(message, exception);
+        verify(listener).onError(message, exception);
+    }
+
+    private PersistentActorUpdateEvent write(PersistentActor<ShardKey> actor) throws Exception {
+        PersistentActorUpdateEvent event = codec.createUpdateEvent(ROW_KEY, SHARD_KEY, actor, null, null);
+        if (event.delta()) {
+            deltas.put(event.sequence(), event.persistentActorBytes());
+        } else {
+            snapshot = event.persistentActorBytes();
+            snapshotSequence = event.sequence();
+            deltas.clear();
+        }
+        return event;
+    }
+
+    private String readState() throws Exception {
+        PersistentActor<ShardKey> actor = codec.decode(SHARD_KEY, "actor", snapshot, snapshotSequence, deltas);
+        return new String(actor.getPersistedState().bytes(), StandardCharsets.UTF_8);
+    }
+
+    private static String createState(int counter) {
+        return "{\"counter\":" + counter + ",\"padding\":\"" + "x".repeat(2048) + "\"}";
+    }
+
+    private static PersistentActor<ShardKey> createActor() {
+        ActorRef actorRef = mock(ActorRef.class);
+        when(actorRef.getActorId()).thenReturn("actor");
+        return new PersistentActor<>(SHARD_KEY, null, "1.0", actorRef, null, null);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cassandra.common.state;
+
+import org.elasticsoftware.elasticactors.ShardKey;
+import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.messaging.MessageHandlerEventListener;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class PersistentActorUpdateCoalescerTest {
+
+    private static final ShardKey SHARD_KEY = new ShardKey("test", 0);
+
+    @Test
+    public void testLastWriteWinsAndAllListenersAreNotified() {
+        PersistentActorUpdateCoalescer coalescer = new PersistentActorUpdateCoalescer(true);
+        InternalMessage firstMessage = mock(InternalMessage.class);
+        InternalMessage secondMessage = mock(InternalMessage.class);
+        MessageHandlerEventListener firstListener = mock(MessageHandlerEventListener.class);
+        MessageHandlerEventListener secondListener = mock(MessageHandlerEventListener.class);
+
+        PersistentActorUpdateEvent first = createEvent("actor", 1, firstMessage, firstListener);
+        PersistentActorUpdateEvent second = createEvent("actor", 2, secondMessage, secondListener);
+        PersistentActorUpdateEvent other = createEvent("other", 3, null, null);
+
+        assertSame(coalescer.coalesce(first), first);
+        assertNull(coalescer.coalesce(second));
+        assertSame(coalescer.coalesce(other), other);
+
+        PersistentActorUpdateEvent resolved = coalescer.resolve(first);
+        assertEquals(resolved.persistentActorBytes().get(0), (byte) 2);
+        assertSame(resolved.message(), secondMessage);
+        assertNotNull(resolved.eventListener());
+        assertSame(coalescer.resolve(other), other);
+
+        resolved.eventListener().onDone(resolved.message());
+        verify(firstListener).onDone(firstMessage);
+        verify(secondListener).onDone(secondMessage);
+        verifyNoMoreInteractions(firstListener, secondListener);
+    }
+
+    @Test
+    public void testUpdatesAfterResolvingAreQueuedAgain() {
+        PersistentActorUpdateCoalescer coalescer = new PersistentActorUpdateCoalescer(true);
+        PersistentActorUpdateEvent first = createEvent("actor", 1, null, null);
+        PersistentActorUpdateEvent second = createEvent("actor", 2, null, null);
+        PersistentActorUpdateEvent delete =
+            new PersistentActorUpdateEvent(new String[] {"test", "test/shards/0"}, SHARD_KEY, "actor", null, null, null);
+
+        assertSame(coalescer.coalesce(first), first);
+        assertSame(coalescer.resolve(first), first);
+        assertSame(coalescer.coalesce(second), second);
+        assertNull(coalescer.coalesce(delete));
+        assertNull(coalescer.resolve(second).persistentActorBytes());
+    }
+
+    @Test
+    public void testAbandonedUpdateFailsAllListeners() {
+        PersistentActorUpdateCoalescer coalescer = new PersistentActorUpdateCoalescer(true);
+        InternalMessage firstMessage = mock(InternalMessage.class);
+        InternalMessage secondMessage = mock(InternalMessage.class);
+        MessageHandlerEventListener firstListener = mock(MessageHandlerEventListener.class);
+        MessageHandlerEventListener secondListener = mock(MessageHandlerEventListener.class);
+        PersistentActorUpdateEvent first = createEvent("actor", 1, firstMessage, firstListener);
+        PersistentActorUpdateEvent second = createEvent("actor", 2, secondMessage, secondListener);
+        PersistentActorUpdateEvent third = createEvent("actor", 3, null, null);
+        RejectedExecutionException rejected = new RejectedExecutionException("shutting down");
+
+        assertSame(coalescer.coalesce(first), first);
+        assertNull(coalescer.coalesce(second));
+        coalescer.abandon(first, rejected);
+
+        verify(firstListener).onError(firstMessage, rejected);
+        verify(secondListener).onError(secondMessage, rejected);
+        verifyNoMoreInteractions(firstListener, secondListener);
+        // newer updates are not merged into the abandoned one
+        assertSame(coalescer.coalesce(third), third);
+    }
+
+    @Test
+    public void testDisabled() {
+        PersistentActorUpdateCoalescer coalescer = new PersistentActorUpdateCoalescer(false);
+        PersistentActorUpdateEvent first = createEvent("actor", 1, null, null);
+        PersistentActorUpdateEvent second = createEvent("actor", 2, null, null);
+
+        assertSame(coalescer.coalesce(first), first);
+        assertSame(coalescer.coalesce(second), second);
+        assertSame(coalescer.resolve(first), first);
+    }
+
+    private static PersistentActorUpdateEvent createEvent(
+        String actorId,
+        int payload,
+        InternalMessage message,
+        MessageHandlerEventListener listener)
+    {
+        return new PersistentActorUpdateEvent(
+            new String[] {"test", SHARD_KEY.toString()},
+            SHARD_KEY,
+            actorId,
+            ByteBuffer.wrap(new byte[] {(byte) payload}),
+            message,
+            listener
+        );
+    }
+}
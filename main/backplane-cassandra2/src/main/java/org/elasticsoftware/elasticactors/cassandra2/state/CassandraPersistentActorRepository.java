@@ -22,22 +22,30 @@ import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import org.elasticsoftware.elasticactors.ShardKey;
+import org.elasticsoftware.elasticactors.cassandra.common.state.PersistentActorDeltaCodec;
+import org.elasticsoftware.elasticactors.cassandra.common.state.PersistentActorUpdateCoalescer;
 import org.elasticsoftware.elasticactors.cassandra.common.state.PersistentActorUpdateEvent;
 import org.elasticsoftware.elasticactors.messaging.InternalMessage;
 import org.elasticsoftware.elasticactors.messaging.MessageHandlerEventListener;
 import org.elasticsoftware.elasticactors.serialization.Deserializer;
 import org.elasticsoftware.elasticactors.serialization.Serializer;
+import org.elasticsoftware.elasticactors.serialization.compression.PayloadDecompressor;
 import org.elasticsoftware.elasticactors.state.PersistentActor;
 import org.elasticsoftware.elasticactors.state.PersistentActorRepository;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.annotation.Nullable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static org.elasticsoftware.elasticactors.cassandra2.util.ExecutionUtils.executeWithRetry;
+import static org.elasticsoftware.elasticactors.cassandra2.util.ExecutionUtils.executeWithRetryAsync;
 
 
 /**
@@ -50,50 +58,140 @@ public final class CassandraPersistentActorRepository implements PersistentActor
     private final long readExecutionThresholdMillis;
     private final Session cassandraSession;
     private final PreparedStatement selectStatement;
+    private final PreparedStatement containsStatement;
+    private final PreparedStatement selectActorIdsStatement;
     private final Deserializer<ByteBuffer,PersistentActor> deserializer;
     private final Serializer<PersistentActor,ByteBuffer> serializer;
+    private final PersistentActorUpdateCoalescer updateCoalescer;
+    @Nullable private final PersistentActorDeltaCodec deltaCodec;
+    private final PayloadDecompressor decompressor;
 
     public CassandraPersistentActorRepository(Session cassandraSession, String clusterName, ThreadBoundExecutor asyncUpdateExecutor, Serializer serializer, Deserializer deserializer) {
         this(cassandraSession, clusterName,asyncUpdateExecutor,serializer, deserializer, 200);
     }
 
+    public CassandraPersistentActorRepository(Session cassandraSession, String clusterName, ThreadBoundExecutor asyncUpdateExecutor, Serializer serializer, Deserializer deserializer, PersistentActorUpdateCoalescer updateCoalescer) {
+        this(cassandraSession, clusterName, asyncUpdateExecutor, serializer, deserializer, 200, updateCoalescer);
+    }
+
+    public CassandraPersistentActorRepository(Session cassandraSession, String clusterName, ThreadBoundExecutor asyncUpdateExecutor, Serializer serializer, Deserializer deserializer, PersistentActorUpdateCoalescer updateCoalescer, @Nullable PersistentActorDeltaCodec deltaCodec, PayloadDecompressor decompressor) {
+        this(cassandraSession, clusterName, asyncUpdateExecutor, serializer, deserializer, 200, updateCoalescer, deltaCodec, decompressor);
+    }
+
     public CassandraPersistentActorRepository(Session cassandraSession, String clusterName, ThreadBoundExecutor asyncUpdateExecutor, Serializer serializer, Deserializer deserializer, long readExecutionThresholdMillis) {
+        this(cassandraSession, clusterName, asyncUpdateExecutor, serializer, deserializer, readExecutionThresholdMillis, new PersistentActorUpdateCoalescer(false));
+    }
+
+    /**
+     * When the given {@link PersistentActorUpdateCoalescer} is enabled, the processor of the asyncUpdateExecutor
+     * MUST be wrapped in a {@link org.elasticsoftware.elasticactors.cassandra.common.state.CoalescingPersistentActorUpdateEventProcessor}
+     * that uses the same instance, otherwise coalesced updates will not be written.
+     */
+    public CassandraPersistentActorRepository(Session cassandraSession, String clusterName, ThreadBoundExecutor asyncUpdateExecutor, Serializer serializer, Deserializer deserializer, long readExecutionThresholdMillis, PersistentActorUpdateCoalescer updateCoalescer) {
+        this(cassandraSession, clusterName, asyncUpdateExecutor, serializer, deserializer, readExecutionThresholdMillis, updateCoalescer, null);
+    }
+
+    /**
+     * When a {@link PersistentActorDeltaCodec} is given, actors are stored as a snapshot followed by deltas, and are
+     * no longer serialized with the given serializer. This requires the deltabase and deltas columns in the
+     * PersistentActors table, and the processor of the asyncUpdateExecutor MUST be created with deltas enabled.
+     */
+    public CassandraPersistentActorRepository(Session cassandraSession, String clusterName, ThreadBoundExecutor asyncUpdateExecutor, Serializer serializer, Deserializer deserializer, long readExecutionThresholdMillis, PersistentActorUpdateCoalescer updateCoalescer, @Nullable PersistentActorDeltaCodec deltaCodec) {
+        this(cassandraSession, clusterName, asyncUpdateExecutor, serializer, deserializer, readExecutionThresholdMillis, updateCoalescer, deltaCodec, new PayloadDecompressor());
+    }
+
+    /**
+     * The given {@link PayloadDecompressor} must use the same compression dictionaries as the deserializer (or the
+     * {@link PersistentActorDeltaCodec}). It loads the dictionaries that actors read with {@link #getAsync} need
+     * before they are decompressed, because they cannot be loaded on the I/O threads of the driver.
+     */
+    public CassandraPersistentActorRepository(Session cassandraSession, String clusterName, ThreadBoundExecutor asyncUpdateExecutor, Serializer serializer, Deserializer deserializer, long readExecutionThresholdMillis, PersistentActorUpdateCoalescer updateCoalescer, @Nullable PersistentActorDeltaCodec deltaCodec, PayloadDecompressor decompressor) {
         this.cassandraSession = cassandraSession;
-        this.selectStatement = cassandraSession.prepare("select value from \"PersistentActors\" where key = ? and key2 = ? AND column1 = ?");
+        this.selectStatement = deltaCodec != null
+            ? cassandraSession.prepare("select value, deltabase, deltas from \"PersistentActors\" where key = ? and key2 = ? AND column1 = ?")
+            : cassandraSession.prepare("select value from \"PersistentActors\" where key = ? and key2 = ? AND column1 = ?");
+        this.containsStatement = cassandraSession.prepare("select column1 from \"PersistentActors\" where key = ? and key2 = ? AND column1 = ?");
+        this.selectActorIdsStatement = cassandraSession.prepare("select column1 from \"PersistentActors\" where key = ? and key2 = ?");
         this.clusterName = clusterName;
         this.asyncUpdateExecutor = asyncUpdateExecutor;
         this.readExecutionThresholdMillis = readExecutionThresholdMillis;
         this.serializer = serializer;
         this.deserializer = deserializer;
+        this.updateCoalescer = updateCoalescer;
+        this.deltaCodec = deltaCodec;
+        this.decompressor = decompressor;
     }
 
     @Override
     public boolean contains(final ShardKey shard,final String actorId) {
-        return internalGet(shard, actorId) != null;
+        // only select the key column, there's no need to transfer the state
+        final long startTime = System.nanoTime();
+        try {
+            ResultSet resultSet = executeWithRetry(cassandraSession, containsStatement.bind(clusterName, shard.toString(), actorId), logger);
+            return resultSet.one() != null;
+        } finally {
+            logIfSlow(startTime, shard, actorId);
+        }
+    }
+
+    @Override
+    public void forEachActorId(final ShardKey shard, final Consumer<String> consumer) {
+        // all actors of a shard live in the same partition, the driver fetches the next pages while iterating
+        ResultSet resultSet = executeWithRetry(cassandraSession, selectActorIdsStatement.bind(clusterName, shard.toString()), logger);
+        for (Row row : resultSet) {
+            consumer.accept(row.getString(0));
+        }
+    }
+
+    @Override
+    public boolean supportsDeltas() {
+        return deltaCodec != null;
     }
 
     @Override
     public void update(final ShardKey shard,final PersistentActor persistentActor) throws IOException {
-        // serialize the data on the calling thread (to avoid thread visibility issues)
-        final ByteBuffer serializedActorBytes = serializer.serialize(persistentActor);
-        asyncUpdateExecutor.execute(new PersistentActorUpdateEvent(createKey(shard), shard,
-                                                                    persistentActor.getSelf().getActorId(),
-                                                                    serializedActorBytes, null, null));
+        execute(createUpdateEvent(shard, persistentActor, null, null));
     }
 
     @Override
     public void updateAsync(ShardKey shard, PersistentActor persistentActor, InternalMessage message, MessageHandlerEventListener messageHandlerEventListener) throws IOException {
-        // serialize the data on the calling thread (to avoid thread visibility issues)
-        final ByteBuffer serializedActorBytes = serializer.serialize(persistentActor);
-        asyncUpdateExecutor.execute(new PersistentActorUpdateEvent(createKey(shard),shard,
-                                                                   persistentActor.getSelf().getActorId(),
-                                                                   serializedActorBytes, message,
-                                                                   messageHandlerEventListener));
+        execute(createUpdateEvent(shard, persistentActor, message, messageHandlerEventListener));
     }
 
     @Override
     public void delete(final ShardKey shard,final String actorId) {
-        asyncUpdateExecutor.execute(new PersistentActorUpdateEvent(createKey(shard), shard, actorId, null, null, null));
+        execute(new PersistentActorUpdateEvent(createKey(shard), shard, actorId, null, null, null));
+    }
+
+    private PersistentActorUpdateEvent createUpdateEvent(
+        ShardKey shard,
+        PersistentActor persistentActor,
+        @Nullable InternalMessage message,
+        @Nullable MessageHandlerEventListener messageHandlerEventListener) throws IOException
+    {
+        // serialize the data on the calling thread (to avoid thread visibility issues)
+        if (deltaCodec != null) {
+            return deltaCodec.createUpdateEvent(createKey(shard), shard, persistentActor, message, messageHandlerEventListener);
+        }
+        final ByteBuffer serializedActorBytes = serializer.serialize(persistentActor);
+        return new PersistentActorUpdateEvent(createKey(shard), shard,
+                                              persistentActor.getSelf().getActorId(),
+                                              serializedActorBytes, message,
+                                              messageHandlerEventListener);
+    }
+
+    private void execute(PersistentActorUpdateEvent event) {
+        // a newer update replaces the payload of one that is still queued for the same actor
+        PersistentActorUpdateEvent queuedEvent = updateCoalescer.coalesce(event);
+        if (queuedEvent != null) {
+            try {
+                asyncUpdateExecutor.execute(queuedEvent);
+            } catch (RuntimeException e) {
+                // rejected, for instance while shutting down
+                updateCoalescer.abandon(queuedEvent, e);
+                throw e;
+            }
+        }
     }
 
     @Override
@@ -102,11 +200,45 @@ public final class CassandraPersistentActorRepository implements PersistentActor
         if (resultRow == null || resultRow.getColumnDefinitions().size() == 0) {
             return null;
         } else {
-            // should have only a single column here
-            return this.deserializer.deserialize(resultRow.getBytes(0));
+            return toPersistentActor(shard, actorId, resultRow);
         }
     }
 
+    @Override
+    public CompletableFuture<PersistentActor<ShardKey>> getAsync(final ShardKey shard,final String actorId) {
+        final long startTime = System.nanoTime();
+        return executeWithRetryAsync(cassandraSession, selectStatement.bind(clusterName, shard.toString(), actorId), logger)
+            .thenCompose(resultSet -> {
+                logIfSlow(startTime, shard, actorId);
+                Row resultRow = resultSet.one();
+                if (resultRow == null || resultRow.getColumnDefinitions().size() == 0) {
+                    return CompletableFuture.completedFuture(null);
+                }
+                // a compression dictionary that has to be read from the repository cannot be read on this thread
+                return decompressor.prepare(resultRow.getBytes(0)).thenApply(prepared -> {
+                    try {
+                        return toPersistentActor(shard, actorId, resultRow);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            });
+    }
+
+    private PersistentActor<ShardKey> toPersistentActor(ShardKey shard, String actorId, Row resultRow) throws IOException {
+        if (deltaCodec != null) {
+            return deltaCodec.decode(
+                shard,
+                actorId,
+                resultRow.getBytes(0),
+                resultRow.getLong(1),
+                resultRow.getMap(2, Long.class, ByteBuffer.class)
+            );
+        }
+        // should have only a single column here
+        return this.deserializer.deserialize(resultRow.getBytes(0));
+    }
+
     private Row internalGet(final ShardKey shard,final String actorId) {
         // log a warning when we exceed the readExecutionThreshold
         final long startTime = System.nanoTime();
@@ -114,15 +246,20 @@ public final class CassandraPersistentActorRepository implements PersistentActor
             ResultSet resultSet = executeWithRetry(cassandraSession, selectStatement.bind(clusterName, shard.toString(), actorId), logger);
             return resultSet.one();
         } finally {
-            final long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
-            if (duration > readExecutionThresholdMillis) {
-                logger.warn(
-                    "Cassandra read operation took {} msecs for actorId [{}] on shard [{}]",
-                    duration,
-                    actorId,
-                    shard
-                );
-            }
+            logIfSlow(startTime, shard, actorId);
+        }
+    }
+
+    private void logIfSlow(long startTime, ShardKey shard, String actorId) {
+        // log a warning when we exceed the readExecutionThreshold
+        final long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        if (duration > readExecutionThresholdMillis) {
+            logger.warn(
+                "Cassandra read operation took {} msecs for actorId [{}] on shard [{}]",
+                duration,
+                actorId,
+                shard
+            );
         }
     }
 
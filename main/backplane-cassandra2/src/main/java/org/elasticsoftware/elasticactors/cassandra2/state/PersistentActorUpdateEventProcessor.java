@@ -22,11 +22,13 @@ import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ProtocolVersion;
 import com.datastax.driver.core.Session;
+import org.elasticsoftware.elasticactors.cassandra.common.state.PersistentActorDeltaCodec;
 import org.elasticsoftware.elasticactors.cassandra.common.state.PersistentActorUpdateEvent;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundEventProcessor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.annotation.Nullable;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -44,9 +46,13 @@ public final class PersistentActorUpdateEventProcessor implements ThreadBoundEve
     private static final Logger logger = LoggerFactory.getLogger(PersistentActorUpdateEventProcessor.class);
     public static final String INSERT_QUERY = "INSERT INTO \"PersistentActors\" (key, key2, column1, value) VALUES (?, ?, ?, ?)";
     public static final String DELETE_QUERY = "DELETE FROM \"PersistentActors\" where key = ? AND key2 = ? AND column1 = ?";
+    public static final String SNAPSHOT_QUERY = "UPDATE \"PersistentActors\" SET value = ?, deltabase = ?, deltas = null WHERE key = ? AND key2 = ? AND column1 = ?";
+    public static final String DELTA_QUERY = "UPDATE \"PersistentActors\" SET deltas[?] = ? WHERE key = ? AND key2 = ? AND column1 = ?";
     private final Session cassandraSession;
     private final PreparedStatement insertStatement;
     private final PreparedStatement deleteStatement;
+    @Nullable private final PreparedStatement snapshotStatement;
+    @Nullable private final PreparedStatement deltaStatement;
     private final Map<Integer,PreparedStatement> batchStatements = new HashMap<>();
     private final boolean optimizedV1Batches;
 
@@ -55,9 +61,19 @@ public final class PersistentActorUpdateEventProcessor implements ThreadBoundEve
     }
 
     public PersistentActorUpdateEventProcessor(Session cassandraSession, int maxBatchSize, boolean optimizedV1Batches) {
+        this(cassandraSession, maxBatchSize, optimizedV1Batches, false);
+    }
+
+    /**
+     * @param deltasEnabled whether the repository stores deltas, see
+     *                      {@link org.elasticsoftware.elasticactors.cassandra.common.state.PersistentActorDeltaCodec}
+     */
+    public PersistentActorUpdateEventProcessor(Session cassandraSession, int maxBatchSize, boolean optimizedV1Batches, boolean deltasEnabled) {
         this.cassandraSession = cassandraSession;
         this.insertStatement = cassandraSession.prepare(INSERT_QUERY);
         this.deleteStatement = cassandraSession.prepare(DELETE_QUERY);
+        this.snapshotStatement = deltasEnabled ? cassandraSession.prepare(SNAPSHOT_QUERY) : null;
+        this.deltaStatement = deltasEnabled ? cassandraSession.prepare(DELTA_QUERY) : null;
         if(optimizedV1Batches) {
             prepareBatchIfNeeded(maxBatchSize);
         }
@@ -97,20 +113,17 @@ public final class PersistentActorUpdateEventProcessor implements ThreadBoundEve
         try {
             // optimized to use the prepared statement
             if(events.size() == 1) {
-                PersistentActorUpdateEvent event = events.get(0);
-                BoundStatement boundStatement;
-                if (event.hasPersistentActorBytes()) {
-                    boundStatement = insertStatement.bind(event.rowKey()[0], event.rowKey()[1], event.persistentActorId(), event.persistentActorBytes());
-                } else {
-                    // it's a delete
-                    boundStatement = deleteStatement.bind(event.rowKey()[0], event.rowKey()[1], event.persistentActorId());
-                }
                 // execute the statement
-                executeWithRetry(cassandraSession, boundStatement, logger);
+                executeWithRetry(cassandraSession, bind(events.get(0)), logger);
             } else {
                 // check the protocol to see if BatchStatements are supported
                 ProtocolVersion protocolVersion = cassandraSession.getCluster().getConfiguration().getProtocolOptions().getProtocolVersion();
-                if(ProtocolVersion.V1.equals(protocolVersion)) {
+                if (snapshotStatement != null
+                    && (ProtocolVersion.V1.equals(protocolVersion) || PersistentActorDeltaCodec.hasRepeatedActors(events))) {
+                    for (PersistentActorUpdateEvent event : events) {
+                        executeWithRetry(cassandraSession, bind(event), logger);
+                    }
+                } else if(ProtocolVersion.V1.equals(protocolVersion)) {
                     if(this.optimizedV1Batches) {
                         executeBatchV1Optimized(events);
                     } else {
@@ -205,16 +218,24 @@ public final class PersistentActorUpdateEventProcessor implements ThreadBoundEve
     private void executeBatchV2AndUp(List<PersistentActorUpdateEvent> events) {
         BatchStatement batchStatement = new BatchStatement(UNLOGGED);
         for (PersistentActorUpdateEvent event : events) {
-            if (event.hasPersistentActorBytes()) {
-                batchStatement.add(insertStatement.bind(event.rowKey()[0], event.rowKey()[1], event.persistentActorId(), event.persistentActorBytes()));
-            } else {
-                // it's a delete
-                batchStatement.add(deleteStatement.bind(event.rowKey()[0], event.rowKey()[1], event.persistentActorId()));
-            }
+            batchStatement.add(bind(event));
         }
         executeWithRetry(cassandraSession, batchStatement, logger);
     }
 
+    private BoundStatement bind(PersistentActorUpdateEvent event) {
+        if (!event.hasPersistentActorBytes()) {
+            // it's a delete
+            return deleteStatement.bind(event.rowKey()[0], event.rowKey()[1], event.persistentActorId());
+        } else if (!event.hasSequence()) {
+            return insertStatement.bind(event.rowKey()[0], event.rowKey()[1], event.persistentActorId(), event.persistentActorBytes());
+        } else if (event.delta()) {
+            return deltaStatement.bind(event.sequence(), event.persistentActorBytes(), event.rowKey()[0], event.rowKey()[1], event.persistentActorId());
+        } else {
+            return snapshotStatement.bind(event.persistentActorBytes(), event.sequence(), event.rowKey()[0], event.rowKey()[1], event.persistentActorId());
+        }
+    }
+
 
 
 }
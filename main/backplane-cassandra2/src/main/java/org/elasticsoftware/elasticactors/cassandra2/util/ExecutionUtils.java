@@ -18,6 +18,7 @@
 package org.elasticsoftware.elasticactors.cassandra2.util;
 
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.exceptions.BootstrappingException;
@@ -30,6 +31,7 @@ import com.datastax.driver.core.exceptions.UnavailableException;
 import org.slf4j.Logger;
 
 import java.net.InetAddress;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Joost van de Wijgerd
@@ -59,4 +61,42 @@ public final class ExecutionUtils {
         logger.error("Failed to execute Statement after {} attempts, throwing latest exception {}", attempts, latestException.getClass().getSimpleName());
         throw latestException;
     }
+
+    /**
+     * Asynchronous version of {@link #executeWithRetry(Session, Statement, Logger)}, with the same retry policy.
+     */
+    public static CompletableFuture<ResultSet> executeWithRetryAsync(Session cassandraSession, Statement statement, Logger logger) {
+        CompletableFuture<ResultSet> result = new CompletableFuture<>();
+        executeWithRetryAsync(cassandraSession, statement, logger, 1, result);
+        return result;
+    }
+
+    private static void executeWithRetryAsync(
+            Session cassandraSession,
+            Statement statement,
+            Logger logger,
+            int attempts,
+            CompletableFuture<ResultSet> result) {
+        ResultSetFuture future = cassandraSession.executeAsync(statement);
+        future.addListener(() -> {
+            try {
+                result.complete(future.getUninterruptibly());
+            } catch (ConnectionException | OverloadedException | QueryConsistencyException | BootstrappingException e) {
+                if (attempts <= 3) {
+                    logger.warn("{} on node {} while executing statement, retry attempt {}", e.getClass().getSimpleName(), e.getHost(), attempts);
+                    executeWithRetryAsync(cassandraSession, statement, logger, attempts + 1, result);
+                } else {
+                    logger.error("Failed to execute Statement after {} attempts, throwing latest exception {}", attempts, e.getClass().getSimpleName());
+                    result.completeExceptionally(e);
+                }
+            } catch (UnavailableException e) {
+                logger.error("node {} is reporting not enough replicas available, will not retry", e.getHost());
+                result.completeExceptionally(e);
+            } catch (RuntimeException e) {
+                InetAddress node = (e instanceof CoordinatorException) ? ((CoordinatorException)e).getHost() : null;
+                logger.error("{} on node {} while executing statement, will not retry", e.getClass().getSimpleName(), node);
+                result.completeExceptionally(e);
+            }
+        }, Runnable::run);
+    }
 }
@@ -20,9 +20,13 @@ package org.elasticsoftware.elasticactors.configuration;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.elasticsoftware.elasticactors.cassandra.common.serialization.CompressingSerializer;
 import org.elasticsoftware.elasticactors.cassandra.common.serialization.DecompressingDeserializer;
+import org.elasticsoftware.elasticactors.cassandra.common.state.CoalescingPersistentActorUpdateEventProcessor;
+import org.elasticsoftware.elasticactors.cassandra.common.state.PersistentActorDeltaCodec;
+import org.elasticsoftware.elasticactors.cassandra.common.state.PersistentActorUpdateCoalescer;
 import org.elasticsoftware.elasticactors.cassandra2.cluster.CassandraActorSystemEventListenerRepository;
 import org.elasticsoftware.elasticactors.cassandra2.cluster.scheduler.CassandraScheduledMessageRepository;
 import org.elasticsoftware.elasticactors.cassandra2.health.CassandraHealthCheck;
+import org.elasticsoftware.elasticactors.cassandra2.state.CassandraCompressionDictionaryRepository;
 import org.elasticsoftware.elasticactors.cassandra2.state.CassandraPersistentActorRepository;
 import org.elasticsoftware.elasticactors.cassandra2.state.PersistentActorUpdateEventProcessor;
 import org.elasticsoftware.elasticactors.cluster.ActorRefFactory;
@@ -32,6 +36,10 @@ import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerTagCustomizer
 import org.elasticsoftware.elasticactors.cluster.scheduler.ScheduledMessageRepository;
 import org.elasticsoftware.elasticactors.serialization.Deserializer;
 import org.elasticsoftware.elasticactors.serialization.Serializer;
+import org.elasticsoftware.elasticactors.serialization.compression.CompressionAlgorithm;
+import org.elasticsoftware.elasticactors.serialization.compression.CompressionDictionaries;
+import org.elasticsoftware.elasticactors.serialization.compression.PayloadCompressor;
+import org.elasticsoftware.elasticactors.serialization.compression.PayloadDecompressor;
 import org.elasticsoftware.elasticactors.serialization.internal.ActorRefDeserializer;
 import org.elasticsoftware.elasticactors.serialization.internal.PersistentActorDeserializer;
 import org.elasticsoftware.elasticactors.serialization.internal.PersistentActorSerializer;
@@ -49,15 +57,24 @@ import org.springframework.lang.Nullable;
  */
 public class BackplaneConfiguration {
 
+    private static final String DELTAS_ENABLED = "ea.persistentActorRepository.deltas.enabled";
+
     @Bean(name = {"cassandraSessionManager"})
     public CassandraSessionManager createCassandraSessionManager(Environment env) {
         return new CassandraSessionManager(env);
     }
 
+    @Bean(name = {"persistentActorUpdateCoalescer"})
+    public PersistentActorUpdateCoalescer createPersistentActorUpdateCoalescer(Environment env) {
+        return new PersistentActorUpdateCoalescer(
+            env.getProperty("ea.persistentActorRepository.coalesceUpdates", Boolean.class, true));
+    }
+
     @Bean(name = {"asyncUpdateExecutor"}, destroyMethod = "shutdown")
     public ThreadBoundExecutor createAsyncUpdateExecutor(
         Environment env,
         CassandraSessionManager cassandraSessionManager,
+        PersistentActorUpdateCoalescer updateCoalescer,
         @Nullable @Qualifier("elasticActorsMeterRegistry") MeterRegistry meterRegistry,
         @Nullable @Qualifier("elasticActorsMeterTagCustomizer") MicrometerTagCustomizer tagCustomizer)
     {
@@ -65,10 +82,14 @@ public class BackplaneConfiguration {
         final boolean optimizedV1Batches = env.getProperty("ea.asyncUpdateExecutor.optimizedV1Batches", Boolean.TYPE, true);
         return ThreadBoundExecutorBuilder.buildBlockingQueueThreadBoundExecutor(
             env,
-            new PersistentActorUpdateEventProcessor(
-                cassandraSessionManager.getSession(),
-                batchSize,
-                optimizedV1Batches
+            new CoalescingPersistentActorUpdateEventProcessor(
+                updateCoalescer,
+                new PersistentActorUpdateEventProcessor(
+                    cassandraSessionManager.getSession(),
+                    batchSize,
+                    optimizedV1Batches,
+                    env.getProperty(DELTAS_ENABLED, Boolean.class, Boolean.FALSE)
+                )
             ),
             "asyncUpdateExecutor",
             "UPDATE-EXECUTOR-WORKER",
@@ -77,23 +98,69 @@ public class BackplaneConfiguration {
         );
     }
 
+    @Bean(name = {"compressionDictionaries"}, initMethod = "init", destroyMethod = "shutdown")
+    public CompressionDictionaries createCompressionDictionaries(
+        InternalActorSystems cluster,
+        CassandraSessionManager cassandraSessionManager,
+        Environment env)
+    {
+        if (!env.getProperty("ea.persistentActorRepository.compressionDictionaries.enabled", Boolean.class, Boolean.FALSE)) {
+            return CompressionDictionaries.none();
+        }
+        return new CompressionDictionaries(
+            new CassandraCompressionDictionaryRepository(cassandraSessionManager.getSession(), cluster.getClusterName()),
+            env.getProperty("ea.persistentActorRepository.compressionLevel", Integer.class, 3),
+            true,
+            env.getProperty("ea.persistentActorRepository.compressionDictionaries.trainingSamples", Integer.class, 1000),
+            env.getProperty("ea.persistentActorRepository.compressionDictionaries.size", Integer.class, 16384)
+        );
+    }
+
     @Bean(name = {"persistentActorRepository"})
     public PersistentActorRepository getPersistentActorRepository(
         @Qualifier("asyncUpdateExecutor") ThreadBoundExecutor asyncUpdateExecutor,
         InternalActorSystems cluster,
         ActorRefFactory actorRefFactory,
         CassandraSessionManager cassandraSessionManager,
+        PersistentActorUpdateCoalescer updateCoalescer,
+        CompressionDictionaries compressionDictionaries,
         Environment env)
     {
         final Integer compressionThreshold = env.getProperty("ea.persistentActorRepository.compressionThreshold",Integer.class, 512);
-        Serializer serializer = new CompressingSerializer<>(new PersistentActorSerializer(cluster),compressionThreshold);
-        Deserializer deserializer = new DecompressingDeserializer<>(new PersistentActorDeserializer(actorRefFactory,cluster));
+        PayloadCompressor compressor = new PayloadCompressor(
+            env.getProperty("ea.persistentActorRepository.compressionAlgorithm", CompressionAlgorithm.class, CompressionAlgorithm.LZ4),
+            compressionThreshold,
+            env.getProperty("ea.persistentActorRepository.compressionLevel", Integer.class, 3),
+            compressionDictionaries
+        );
+        PayloadDecompressor decompressor = new PayloadDecompressor(compressionDictionaries);
+        boolean compactActorRefs = env.getProperty("ea.serialization.compactActorRefs.enabled", Boolean.class, Boolean.FALSE);
+        Serializer serializer = new CompressingSerializer<>(
+            new PersistentActorSerializer(cluster, compactActorRefs),
+            compressor,
+            persistentActor -> persistentActor.getActorClass().getName()
+        );
+        Deserializer deserializer = new DecompressingDeserializer<>(new PersistentActorDeserializer(actorRefFactory,cluster), decompressor);
+        PersistentActorDeltaCodec deltaCodec = null;
+        if (env.getProperty(DELTAS_ENABLED, Boolean.class, Boolean.FALSE)) {
+            deltaCodec = new PersistentActorDeltaCodec(
+                new PersistentActorSerializer(cluster, compactActorRefs),
+                new PersistentActorDeserializer(actorRefFactory, cluster),
+                compressor,
+                decompressor,
+                env.getProperty("ea.persistentActorRepository.deltas.maximumDeltas", Integer.class, 16),
+                env.getProperty("ea.persistentActorRepository.deltas.maximumDeltaBytes", Long.class, 65536L)
+            );
+        }
         return new CassandraPersistentActorRepository(
             cassandraSessionManager.getSession(),
             cluster.getClusterName(),
             asyncUpdateExecutor,
             serializer,
-            deserializer
+            deserializer,
+            updateCoalescer,
+            deltaCodec,
+            decompressor
         );
     }
 
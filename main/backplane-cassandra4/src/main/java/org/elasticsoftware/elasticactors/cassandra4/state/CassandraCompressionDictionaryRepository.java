@@ -0,0 +1,96 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cassandra4.state;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import org.elasticsoftware.elasticactors.cassandra.common.serialization.CompressionDictionaryCodec;
+import org.elasticsoftware.elasticactors.serialization.compression.CompressionDictionary;
+import org.elasticsoftware.elasticactors.serialization.compression.CompressionDictionaryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.elasticsoftware.elasticactors.cassandra4.util.ExecutionUtils.executeWithRetry;
+import static org.elasticsoftware.elasticactors.cassandra4.util.ExecutionUtils.executeWithRetryAsync;
+
+/**
+ * Stores the compression dictionaries of the cluster next to its actors, see {@link CompressionDictionaryCodec}.
+ */
+public final class CassandraCompressionDictionaryRepository implements CompressionDictionaryRepository {
+    private static final Logger logger = LoggerFactory.getLogger(CassandraCompressionDictionaryRepository.class);
+    private final CqlSession cassandraSession;
+    private final String clusterName;
+    private final PreparedStatement selectAllStatement;
+    private final PreparedStatement selectStatement;
+    private final PreparedStatement insertStatement;
+
+    public CassandraCompressionDictionaryRepository(CqlSession cassandraSession, String clusterName) {
+        this.cassandraSession = cassandraSession;
+        this.clusterName = clusterName;
+        this.selectAllStatement = cassandraSession.prepare("select column1, value from \"PersistentActors\" where key = ? and key2 = ?");
+        this.selectStatement = cassandraSession.prepare("select column1, value from \"PersistentActors\" where key = ? and key2 = ? AND column1 = ?");
+        this.insertStatement = cassandraSession.prepare("INSERT INTO \"PersistentActors\" (key, key2, column1, value) VALUES (?, ?, ?, ?) IF NOT EXISTS");
+    }
+
+    @Override
+    public List<CompressionDictionary> loadAll() {
+        List<CompressionDictionary> dictionaries = new ArrayList<>();
+        for (Row row : executeWithRetry(cassandraSession, selectAllStatement.bind(clusterName, CompressionDictionaryCodec.KEY2), logger)) {
+            dictionaries.add(CompressionDictionaryCodec.decode(row.getString(0), row.getByteBuffer(1)));
+        }
+        return dictionaries;
+    }
+
+    @Nullable
+    @Override
+    public CompressionDictionary load(int id) {
+        Row row = executeWithRetry(cassandraSession, selectStatement.bind(clusterName, CompressionDictionaryCodec.KEY2, String.valueOf(id)), logger).one();
+        return row != null ? CompressionDictionaryCodec.decode(row.getString(0), row.getByteBuffer(1)) : null;
+    }
+
+    @Override
+    public CompletableFuture<CompressionDictionary> loadAsync(int id) {
+        return executeWithRetryAsync(cassandraSession, selectStatement.bind(clusterName, CompressionDictionaryCodec.KEY2, String.valueOf(id)), logger)
+            .thenApply(resultSet -> {
+                Row row = resultSet.one();
+                return row != null ? CompressionDictionaryCodec.decode(row.getString(0), row.getByteBuffer(1)) : null;
+            });
+    }
+
+    @Override
+    public boolean save(CompressionDictionary dictionary) {
+        boolean applied = executeWithRetry(
+            cassandraSession,
+            insertStatement.bind(clusterName, CompressionDictionaryCodec.KEY2, String.valueOf(dictionary.id()), CompressionDictionaryCodec.encode(dictionary)),
+            logger
+        ).wasApplied();
+        if (applied) {
+            return true;
+        }
+        // a retry could find the dictionary the first attempt stored
+        CompressionDictionary stored = load(dictionary.id());
+        return stored != null && stored.key().equals(dictionary.key()) && Arrays.equals(stored.bytes(), dictionary.bytes());
+    }
+}
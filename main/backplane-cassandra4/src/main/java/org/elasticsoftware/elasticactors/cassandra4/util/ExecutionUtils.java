@@ -19,6 +19,7 @@ package org.elasticsoftware.elasticactors.cassandra4.util;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.servererrors.BootstrappingException;
@@ -28,6 +29,9 @@ import com.datastax.oss.driver.api.core.servererrors.QueryConsistencyException;
 import com.datastax.oss.driver.api.core.servererrors.UnavailableException;
 import org.slf4j.Logger;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import static java.util.Optional.ofNullable;
 
 /**
@@ -66,4 +70,52 @@ public final class ExecutionUtils {
         logger.error("Failed to execute Statement after {} attempts, throwing latest exception {}", attempts, latestException.getClass().getSimpleName());
         throw latestException;
     }
+
+    /**
+     * Asynchronous version of {@link #executeWithRetry(CqlSession, Statement, Logger)}, with the same retry policy.
+     */
+    public static CompletableFuture<AsyncResultSet> executeWithRetryAsync(CqlSession cassandraSession, Statement<?> statement, Logger logger) {
+        CompletableFuture<AsyncResultSet> result = new CompletableFuture<>();
+        executeWithRetryAsync(cassandraSession, statement, logger, 1, result);
+        return result;
+    }
+
+    private static void executeWithRetryAsync(
+            CqlSession cassandraSession,
+            Statement<?> statement,
+            Logger logger,
+            int attempts,
+            CompletableFuture<AsyncResultSet> result) {
+        cassandraSession.executeAsync(statement).whenComplete((resultSet, throwable) -> {
+            if (throwable == null) {
+                result.complete(resultSet);
+                return;
+            }
+            Throwable e = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable;
+            if (e instanceof OverloadedException || e instanceof QueryConsistencyException || e instanceof BootstrappingException) {
+                CoordinatorException coordinatorException = (CoordinatorException) e;
+                if (attempts <= 3) {
+                    logger.warn("{} on node {} while executing statement, retry attempt {}",
+                            e.getClass().getSimpleName(),
+                            ofNullable(coordinatorException.getExecutionInfo().getCoordinator()).map(node -> node.getEndPoint().resolve().toString()).orElse("UNKNOWN"),
+                            attempts);
+                    executeWithRetryAsync(cassandraSession, statement, logger, attempts + 1, result);
+                    return;
+                }
+                logger.error("Failed to execute Statement after {} attempts, throwing latest exception {}", attempts, e.getClass().getSimpleName());
+            } else if (e instanceof UnavailableException) {
+                logger.error("node {} is reporting not enough replicas available, will not retry",
+                        ofNullable(((UnavailableException) e).getExecutionInfo().getCoordinator()).map(node -> node.getEndPoint().resolve().toString()).orElse("UNKNOWN"));
+            } else if (e instanceof CoordinatorException) {
+                logger.error("{} on node {} while executing statement, will not retry",
+                        e.getClass().getSimpleName(),
+                        ofNullable(((CoordinatorException) e).getExecutionInfo().getCoordinator()).map(node -> node.getEndPoint().resolve().toString()).orElse("UNKNOWN"));
+            } else {
+                logger.error("{} on node UNKNOWN while executing statement, will not retry", e.getClass().getSimpleName());
+            }
+            result.completeExceptionally(e);
+        });
+    }
 }
@@ -18,11 +18,11 @@
 package org.elasticsoftware.elasticactors.base.serialization;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import org.elasticsoftware.elasticactors.ActorState;
 import org.elasticsoftware.elasticactors.base.state.JacksonActorState;
 import org.elasticsoftware.elasticactors.serialization.Deserializer;
 
+import jakarta.annotation.Nullable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
@@ -31,27 +31,37 @@ import java.nio.ByteBuffer;
  */
 public final class JacksonActorStateDeserializer implements Deserializer<ByteBuffer, ActorState> {
     private final ObjectMapper objectMapper;
+    @Nullable private final ObjectMapper jsonObjectMapper;
+    private final Class<? extends ActorState> stateClass;
 
     public JacksonActorStateDeserializer(ObjectMapper objectMapper) {
+        this(objectMapper, null, JacksonActorState.class);
+    }
+
+    /**
+     * Reads states written by both the Smile and the JSON framework, so the states of an actor can be moved from
+     * one to the other by just switching frameworks: every state is rewritten in the new format on its next update.
+     *
+     * @param objectMapper     a Smile {@link ObjectMapper}
+     * @param jsonObjectMapper used to read the states that don't start with the Smile header
+     * @param stateClass       the (polymorphic) base class of the states
+     */
+    public JacksonActorStateDeserializer(
+        ObjectMapper objectMapper,
+        @Nullable ObjectMapper jsonObjectMapper,
+        Class<? extends ActorState> stateClass)
+    {
         this.objectMapper = objectMapper;
+        this.jsonObjectMapper = jsonObjectMapper;
+        this.stateClass = stateClass;
     }
 
     @Override
     public ActorState deserialize(ByteBuffer serializedObject) throws IOException {
-        if (serializedObject.hasArray()) {
-            return objectMapper.readValue(serializedObject.array(), JacksonActorState.class);
-        } else {
-            // Avoid marking the buffer (what if it was marked from the outside?)
-            int position = serializedObject.position();
-            try {
-                return objectMapper.readValue(
-                    new ByteBufferBackedInputStream(serializedObject),
-                    JacksonActorState.class
-                );
-            } finally {
-                serializedObject.position(position);
-            }
-        }
+        ObjectMapper mapper = jsonObjectMapper != null && !JacksonByteBuffers.isSmile(serializedObject)
+            ? jsonObjectMapper
+            : objectMapper;
+        return JacksonByteBuffers.readValue(mapper, serializedObject, stateClass);
     }
 
     @Override
@@ -17,11 +17,13 @@
 
 package org.elasticsoftware.elasticactors.base.serialization;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.elasticsoftware.elasticactors.ActorState;
 import org.elasticsoftware.elasticactors.serialization.Serializer;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * @author Joost van de Wijgerd
@@ -35,6 +37,22 @@ public final class JacksonActorStateSerializer implements Serializer<ActorState,
 
     @Override
     public byte[] serialize(ActorState object) throws IOException {
-        return objectMapper.writeValueAsBytes(object);
+        ReusableOutputBuffer output = ReusableOutputBuffer.acquire();
+        try {
+            objectMapper.writeValue(output, object);
+            return output.toByteArray();
+        } finally {
+            output.release();
+        }
+    }
+
+    /**
+     * Serializes the state into the given output, which is not closed
+     */
+    public void serialize(ActorState object, OutputStream output) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            objectMapper.writeValue(generator, object);
+        }
     }
 }
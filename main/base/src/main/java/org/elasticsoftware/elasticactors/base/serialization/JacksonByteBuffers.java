@@ -0,0 +1,64 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.base.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.smile.SmileConstants;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads Jackson payloads from {@link ByteBuffer}s without changing their position
+ */
+final class JacksonByteBuffers {
+
+    private JacksonByteBuffers() {
+    }
+
+    static <T> T readValue(ObjectMapper objectMapper, ByteBuffer buffer, Class<T> valueType) throws IOException {
+        if (buffer.hasArray()) {
+            return objectMapper.readValue(
+                buffer.array(),
+                buffer.arrayOffset() + buffer.position(),
+                buffer.remaining(),
+                valueType
+            );
+        } else {
+            // Avoid marking the buffer (what if it was marked from the outside?)
+            int position = buffer.position();
+            try {
+                return objectMapper.readValue(new ByteBufferBackedInputStream(buffer), valueType);
+            } finally {
+                buffer.position(position);
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the buffer starts with the Smile header, which JSON text can never start with
+     */
+    static boolean isSmile(ByteBuffer buffer) {
+        int position = buffer.position();
+        return buffer.remaining() >= 3
+            && buffer.get(position) == SmileConstants.HEADER_BYTE_1
+            && buffer.get(position + 1) == SmileConstants.HEADER_BYTE_2
+            && buffer.get(position + 2) == SmileConstants.HEADER_BYTE_3;
+    }
+}
@@ -18,9 +18,9 @@
 package org.elasticsoftware.elasticactors.base.serialization;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import org.elasticsoftware.elasticactors.serialization.MessageDeserializer;
 
+import jakarta.annotation.Nullable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
@@ -30,29 +30,33 @@ import java.nio.ByteBuffer;
 public final class JacksonMessageDeserializer<T> implements MessageDeserializer<T> {
     //private final TypeReference<T> typeReference = new TypeReference<T>() {};
     private final ObjectMapper objectMapper;
+    @Nullable private final ObjectMapper jsonObjectMapper;
     private final Class<T> objectClass;
 
     public JacksonMessageDeserializer(Class<T> objectClass,ObjectMapper objectMapper) {
+        this(objectClass, objectMapper, null);
+    }
+
+    /**
+     * @param objectMapper     a Smile {@link ObjectMapper}
+     * @param jsonObjectMapper when given, used to read the payloads that don't start with the Smile header
+     */
+    public JacksonMessageDeserializer(
+        Class<T> objectClass,
+        ObjectMapper objectMapper,
+        @Nullable ObjectMapper jsonObjectMapper)
+    {
         this.objectMapper = objectMapper;
+        this.jsonObjectMapper = jsonObjectMapper;
         this.objectClass = objectClass;
     }
 
     @Override
     public T deserialize(ByteBuffer serializedObject) throws IOException {
-        if (serializedObject.hasArray()) {
-            return objectMapper.readValue(serializedObject.array(), objectClass);
-        } else {
-            // Avoid marking the buffer (what if it was marked from the outside?)
-            int position = serializedObject.position();
-            try {
-                return objectMapper.readValue(
-                    new ByteBufferBackedInputStream(serializedObject),
-                    objectClass
-                );
-            } finally {
-                serializedObject.position(position);
-            }
-        }
+        ObjectMapper mapper = jsonObjectMapper != null && !JacksonByteBuffers.isSmile(serializedObject)
+            ? jsonObjectMapper
+            : objectMapper;
+        return JacksonByteBuffers.readValue(mapper, serializedObject, objectClass);
     }
 
     @Override
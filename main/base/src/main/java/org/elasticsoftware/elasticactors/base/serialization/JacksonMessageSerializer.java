@@ -17,10 +17,13 @@
 
 package org.elasticsoftware.elasticactors.base.serialization;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.elasticsoftware.elasticactors.serialization.MessageSerializer;
 
+import jakarta.annotation.Nonnull;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 
 /**
@@ -33,8 +36,24 @@ public final class JacksonMessageSerializer<T> implements MessageSerializer<T> {
         this.objectMapper = objectMapper;
     }
 
+    @Nonnull
     @Override
-    public ByteBuffer serialize(T object) throws IOException {
-        return ByteBuffer.wrap(objectMapper.writeValueAsBytes(object));
+    public ByteBuffer serialize(@Nonnull T object) throws IOException {
+        ReusableOutputBuffer output = ReusableOutputBuffer.acquire();
+        try {
+            objectMapper.writeValue(output, object);
+            return ByteBuffer.wrap(output.toByteArray());
+        } finally {
+            output.release();
+        }
+    }
+
+    @Override
+    public void serialize(@Nonnull T object, @Nonnull OutputStream output) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            // the output belongs to the caller
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            objectMapper.writeValue(generator, object);
+        }
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.base.serialization;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A growable output buffer that is reused by the serializers on the same thread, so serializing only allocates the
+ * returned array. Buffers that grew beyond {@link #MAXIMUM_RETAINED_SIZE} are dropped on release to avoid pinning
+ * memory to idle threads.
+ */
+final class ReusableOutputBuffer extends OutputStream {
+    private static final int INITIAL_SIZE = 1024;
+    private static final int MAXIMUM_RETAINED_SIZE = 256 * 1024;
+    private static final ThreadLocal<ReusableOutputBuffer> buffers = ThreadLocal.withInitial(ReusableOutputBuffer::new);
+
+    private byte[] buffer = new byte[INITIAL_SIZE];
+    private int count;
+    private boolean inUse;
+
+    private ReusableOutputBuffer() {
+    }
+
+    /**
+     * Every acquired buffer must be given back with {@link #release()}
+     */
+    static ReusableOutputBuffer acquire() {
+        ReusableOutputBuffer outputBuffer = buffers.get();
+        if (outputBuffer.inUse) {
+            // serializing from within a serializer (e.g. a custom JsonSerializer)
+            return new ReusableOutputBuffer();
+        }
+        outputBuffer.inUse = true;
+        return outputBuffer;
+    }
+
+    void release() {
+        count = 0;
+        if (buffer.length > MAXIMUM_RETAINED_SIZE) {
+            buffer = new byte[INITIAL_SIZE];
+        }
+        inUse = false;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        ensureCapacity(count + length);
+        System.arraycopy(bytes, offset, buffer, count, length);
+        count += length;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, count);
+    }
+
+    int size() {
+        return count;
+    }
+
+    private void ensureCapacity(int minimumCapacity) {
+        if (minimumCapacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, minimumCapacity));
+        }
+    }
+}
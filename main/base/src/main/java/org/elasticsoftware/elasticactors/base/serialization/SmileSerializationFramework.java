@@ -0,0 +1,58 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.base.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.elasticsoftware.elasticactors.base.state.SmileActorState;
+import org.springframework.core.env.Environment;
+
+/**
+ * Serializes messages and actor states with Smile, a binary format of JSON that is smaller and faster to parse. The
+ * Smile {@link ObjectMapper} is a copy of the JSON one created by the {@link ObjectMapperBuilder}, so it uses the same
+ * modules, subtypes and (de)serializers.
+ * <p>
+ * Messages and states that are not Smile are read as JSON, so messages and actors can be moved over from the
+ * {@link JacksonSerializationFramework} while running: states are written as Smile on their next update. Actors
+ * use Smile when their {@link org.elasticsoftware.elasticactors.Actor#serializationFramework()} is this framework,
+ * and their state extends {@link SmileActorState}.
+ */
+@Named
+public final class SmileSerializationFramework extends AbstractJacksonSerializationFramework {
+
+    @Inject
+    public SmileSerializationFramework(
+            ObjectMapper objectMapper,
+            Environment environment) {
+        this(objectMapper.copyWith(new SmileFactory()), objectMapper, environment);
+    }
+
+    private SmileSerializationFramework(
+            ObjectMapper smileObjectMapper,
+            ObjectMapper jsonObjectMapper,
+            Environment environment) {
+        super(
+            smileObjectMapper,
+            jsonObjectMapper,
+            new JacksonActorStateDeserializer(smileObjectMapper, jsonObjectMapper, SmileActorState.class),
+            environment
+        );
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.base.state;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import org.elasticsoftware.elasticactors.ActorState;
+import org.elasticsoftware.elasticactors.base.serialization.SmileSerializationFramework;
+import org.elasticsoftware.elasticactors.serialization.SerializationFramework;
+
+/**
+ * The Smile counterpart of {@link JacksonActorState}. States that extended {@link JacksonActorState} can extend this
+ * class instead, their existing JSON states can still be read.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+public abstract class SmileActorState implements ActorState<SmileActorState> {
+
+    @Override
+    @JsonIgnore
+    public final SmileActorState getBody() {
+        return this;
+    }
+
+    @JsonIgnore
+    @Override
+    public final Class<? extends SerializationFramework> getSerializationFramework() {
+        return SmileSerializationFramework.class;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.base.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+public class JacksonMessageSerializerTest {
+
+    @Test
+    public void testSerializeReusesTheBuffer() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JacksonMessageSerializer<Map<String, String>> serializer = new JacksonMessageSerializer<>(objectMapper);
+        Map<String, String> large = Map.of("body", "x".repeat(10_000));
+        Map<String, String> small = Map.of("body", "y");
+        assertEquals(toByteArray(serializer.serialize(large)), objectMapper.writeValueAsBytes(large));
+        // nothing of the previous (larger) message may leak into the next one
+        assertEquals(toByteArray(serializer.serialize(small)), objectMapper.writeValueAsBytes(small));
+    }
+
+    @Test
+    public void testSerializeIntoCallerBuffer() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JacksonMessageSerializer<Map<String, String>> serializer = new JacksonMessageSerializer<>(objectMapper);
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayOutputStream output = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        output.write('[');
+        serializer.serialize(Map.of("body", "x"), output);
+        output.write(']');
+        assertFalse(closed.get());
+        assertEquals(output.toString(), "[{\"body\":\"x\"}]");
+    }
+
+    private static byte[] toByteArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
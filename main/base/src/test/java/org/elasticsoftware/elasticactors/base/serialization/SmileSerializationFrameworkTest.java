@@ -0,0 +1,82 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.base.serialization;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.elasticsoftware.elasticactors.ActorState;
+import org.elasticsoftware.elasticactors.ElasticActor;
+import org.elasticsoftware.elasticactors.base.state.SmileActorState;
+import org.elasticsoftware.elasticactors.serialization.Message;
+import org.springframework.core.env.StandardEnvironment;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class SmileSerializationFrameworkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SmileSerializationFramework framework =
+        new SmileSerializationFramework(objectMapper, new StandardEnvironment());
+
+    @Test
+    public void testMessages() throws Exception {
+        TestMessage message = new TestMessage("smile", 42);
+        ByteBuffer smile = framework.getSerializer(TestMessage.class).serialize(message);
+        assertTrue(JacksonByteBuffers.isSmile(smile));
+        assertEquals(framework.getDeserializer(TestMessage.class).deserialize(smile), message);
+        // sent by a node that still used JSON for this message
+        ByteBuffer json = ByteBuffer.wrap(objectMapper.writeValueAsBytes(message));
+        assertEquals(framework.getDeserializer(TestMessage.class).deserialize(json), message);
+        assertEquals(framework.getToStringConverter().convert(message), "{\"name\":\"smile\",\"count\":42}");
+    }
+
+    @Test
+    public void testActorStates() throws Exception {
+        TestState state = new TestState("migrated");
+        // written before the actor was moved to Smile
+        byte[] json = objectMapper.writeValueAsBytes(state);
+        ActorState fromJson = framework.getActorStateDeserializer(ElasticActor.class).deserialize(ByteBuffer.wrap(json));
+        assertEquals(((TestState) fromJson).getValue(), "migrated");
+        byte[] smile = framework.getActorStateSerializer(fromJson).serialize(fromJson);
+        assertTrue(JacksonByteBuffers.isSmile(ByteBuffer.wrap(smile)));
+        ActorState fromSmile = framework.getActorStateDeserializer(ElasticActor.class).deserialize(ByteBuffer.wrap(smile));
+        assertEquals(((TestState) fromSmile).getValue(), "migrated");
+    }
+
+    @Message(serializationFramework = SmileSerializationFramework.class, immutable = true)
+    public record TestMessage(@JsonProperty("name") String name, @JsonProperty("count") int count) {
+    }
+
+    public static final class TestState extends SmileActorState {
+        private final String value;
+
+        @JsonCreator
+        public TestState(@JsonProperty("value") String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.benchmarks.actors;
+
+import org.elasticsoftware.elasticactors.ActorRef;
+import org.elasticsoftware.elasticactors.MessageHandler;
+import org.elasticsoftware.elasticactors.MethodActor;
+import org.elasticsoftware.elasticactors.benchmarks.messaging.Ping;
+import org.elasticsoftware.elasticactors.benchmarks.messaging.Pong;
+import org.elasticsoftware.elasticactors.state.PersistenceConfig;
+
+@PersistenceConfig(excluded = {Pong.class})
+public class DispatchActor extends MethodActor {
+
+    long received;
+
+    @MessageHandler
+    public void handlePing(Ping ping) {
+        received += ping.getSequence();
+    }
+
+    @MessageHandler
+    public void handlePong(ActorRef sender, Pong pong) {
+        received += pong.getSequence();
+    }
+}
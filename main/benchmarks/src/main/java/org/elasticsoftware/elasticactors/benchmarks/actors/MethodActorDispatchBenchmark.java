@@ -0,0 +1,113 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.benchmarks.actors;
+
+import org.elasticsoftware.elasticactors.MethodActor;
+import org.elasticsoftware.elasticactors.benchmarks.messaging.Ping;
+import org.elasticsoftware.elasticactors.state.PersistenceConfig;
+import org.elasticsoftware.elasticactors.state.PersistenceConfigHelper;
+import org.elasticsoftware.elasticactors.tracing.MessagingContextManager.MessagingScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.elasticsoftware.elasticactors.tracing.MessagingContextManager.getManager;
+
+/**
+ * Compares the message dispatch and persistence decision of {@link MethodActor} with the
+ * reflective approach it used before: a {@link LinkedList} of handler methods per message class,
+ * invoked through {@link Method#invoke(Object, Object...)} within the same messaging scope, and a {@link PersistenceConfig}
+ * lookup on every message.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MethodActorDispatchBenchmark {
+
+    private final Ping ping = new Ping(1L);
+    private final Map<Class<?>, List<Method>> reflectiveHandlers = new HashMap<>();
+    private DispatchActor actor;
+    private Method handlePing;
+
+    @Setup
+    public void setUp() throws Exception {
+        actor = new DispatchActor();
+        handlePing = DispatchActor.class.getMethod("handlePing", Ping.class);
+        reflectiveHandlers.computeIfAbsent(Ping.class, k -> new LinkedList<>()).add(handlePing);
+    }
+
+    @Benchmark
+    public long generated() throws Exception {
+        actor.onReceive(null, ping);
+        return actor.received;
+    }
+
+    @Benchmark
+    public long reflective() throws Exception {
+        for (Method method : reflectiveHandlers.get(ping.getClass())) {
+            try (MessagingScope ignored = getManager().enter(method)) {
+                method.invoke(actor, new Object[] {ping});
+            }
+        }
+        return actor.received;
+    }
+
+    /**
+     * Baseline for the two benchmarks above: entering and leaving the messaging scope is a large
+     * part of the cost of each dispatch when tracing is on the classpath.
+     */
+    @Benchmark
+    public long messagingScope() throws Exception {
+        try (MessagingScope ignored = getManager().enter(handlePing)) {
+            return actor.received;
+        }
+    }
+
+    @Benchmark
+    public boolean cachedShouldUpdateState() {
+        return actor.shouldUpdateState(ping);
+    }
+
+    @Benchmark
+    public boolean annotationShouldUpdateState() {
+        boolean shouldUpdateState = false;
+        for (Method method : reflectiveHandlers.get(ping.getClass())) {
+            PersistenceConfig persistenceConfig =
+                method.getDeclaringClass().getAnnotation(PersistenceConfig.class);
+            shouldUpdateState |= PersistenceConfigHelper.shouldUpdateState(persistenceConfig, ping);
+        }
+        return shouldUpdateState;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.benchmarks.cache;
+
+import com.google.common.cache.Cache;
+import org.elasticsoftware.elasticactors.cache.CacheImplementation;
+import org.elasticsoftware.elasticactors.cache.CacheManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the segmented caches handed out by {@link CacheManager}, which is what the shard and
+ * node actor caches use. All segments share the same backing cache and segment index, so the
+ * benchmarks run with multiple threads to expose the contention between segments, for each
+ * {@link CacheImplementation}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class CacheManagerBenchmark {
+
+    private static final Object VALUE = new Object();
+    private static final Callable<Object> LOADER = () -> VALUE;
+
+    @Param({"GUAVA", "CAFFEINE"})
+    public CacheImplementation implementation;
+
+    @Param({"1", "16", "128"})
+    public int segmentCount;
+
+    @Param({"512"})
+    public int keysPerSegment;
+
+    @Param({"10240"})
+    public int maximumSize;
+
+    private Cache<String, Object>[] segments;
+    private String[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CacheManager<String, Object> cacheManager = new CacheManager<>(maximumSize, null, implementation);
+        segments = new Cache[segmentCount];
+        keys = new String[keysPerSegment * 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "actor-" + i;
+        }
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = cacheManager.create("segment-" + i, null);
+            // only the first half of the keys is present, the other half always misses
+            for (int j = 0; j < keysPerSegment; j++) {
+                segments[i].put(keys[j], VALUE);
+            }
+        }
+    }
+
+    @Benchmark
+    public Object getIfPresent(ThreadState state) {
+        return segments[state.nextSegment()].getIfPresent(keys[state.nextPresentKey()]);
+    }
+
+    @Benchmark
+    public Object getIfPresentMiss(ThreadState state) {
+        return segments[state.nextSegment()].getIfPresent(keys[state.nextAbsentKey()]);
+    }
+
+    /**
+     * This is the call used by the actor shards when looking up an actor
+     */
+    @Benchmark
+    public Object getWithLoader(ThreadState state) throws ExecutionException {
+        return segments[state.nextSegment()].get(keys[state.nextPresentKey()], LOADER);
+    }
+
+    @Benchmark
+    public void put(ThreadState state) {
+        segments[state.nextSegment()].put(keys[state.nextPresentKey()], VALUE);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        private final SplittableRandom random = new SplittableRandom();
+
+        private int segmentCount;
+        private int keysPerSegment;
+
+        @Setup(Level.Trial)
+        public void setUp(CacheManagerBenchmark benchmark) {
+            this.segmentCount = benchmark.segmentCount;
+            this.keysPerSegment = benchmark.keysPerSegment;
+        }
+
+        int nextSegment() {
+            return random.nextInt(segmentCount);
+        }
+
+        int nextPresentKey() {
+            return random.nextInt(keysPerSegment);
+        }
+
+        int nextAbsentKey() {
+            return keysPerSegment + random.nextInt(keysPerSegment);
+        }
+    }
+}
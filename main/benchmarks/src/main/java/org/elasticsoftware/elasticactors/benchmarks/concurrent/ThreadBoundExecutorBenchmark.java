@@ -0,0 +1,297 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.benchmarks.concurrent;
+
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutorBuilder;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnable;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnableEventProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the {@link ThreadBoundExecutor} implementations as they are built by
+ * {@link ThreadBoundExecutorBuilder} from the {@code ea.<executorName>.*} properties.
+ *
+ * <p>
+ * {@link #throughput()} submits a burst of events and waits for all of them to be processed.
+ * The {@code latencyUnderLoad} group keeps the workers busy from background producers while a
+ * probe thread measures the round trip of single events, which shows how much a hot key delays
+ * everything else that happens to be hashed to the same worker, and how much of that is won
+ * back by enabling {@code ea.<executorName>.rebalancing.enabled}.
+ *
+ * <p>
+ * Note that, for the disruptor, the batch size is also used as the ring buffer size,
+ * exactly as it happens when the property {@code ea.<executorName>.batchSize} is set.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ThreadBoundExecutorBenchmark {
+
+    private static final String EXECUTOR_NAME = "benchmarkExecutor";
+    private static final int EVENTS_PER_INVOCATION = 10_000;
+    private static final int KEY_SEQUENCE_LENGTH = 1 << 16;
+    private static final long MAX_OUTSTANDING_EVENTS = 4096;
+
+    @Param({"blockingQueue", "disruptor", "mpsc", "mailbox"})
+    public String executorType;
+
+    @Param({"1", "16", "128"})
+    public int batchSize;
+
+    @Param({"UNIFORM", "SKEWED"})
+    public KeyDistribution keyDistribution;
+
+    @Param({"false", "true"})
+    public boolean rebalancing;
+
+    @Param({"8"})
+    public int workerCount;
+
+    @Param({"1024"})
+    public int keyCount;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+
+    private ThreadBoundExecutor executor;
+    private CountingEvent[] events;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = ThreadBoundExecutorBuilder.build(
+            createEnvironment(),
+            new ThreadBoundRunnableEventProcessor(),
+            EXECUTOR_NAME,
+            "BENCHMARK-WORKER",
+            null,
+            null
+        );
+        executor.init();
+
+        int[] keySequence = keyDistribution.createSequence(keyCount, KEY_SEQUENCE_LENGTH);
+        String[] keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = "actor-" + i;
+        }
+        events = new CountingEvent[keySequence.length];
+        for (int i = 0; i < keySequence.length; i++) {
+            events[i] = new CountingEvent(keys[keySequence[i]], processed);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    private Map<String, Object> getExecutorProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("ea." + EXECUTOR_NAME + ".workerCount", workerCount);
+        properties.put("ea." + EXECUTOR_NAME + ".batchSize", batchSize);
+        properties.put("ea." + EXECUTOR_NAME + ".rebalancing.enabled", rebalancing);
+        switch (executorType) {
+            case "blockingQueue":
+                break;
+            case "disruptor":
+                properties.put("ea." + EXECUTOR_NAME + ".useDisruptor", true);
+                break;
+            case "mpsc":
+                properties.put("ea." + EXECUTOR_NAME + ".type", "MPSC");
+                break;
+            case "mailbox":
+                properties.put("ea." + EXECUTOR_NAME + ".type", "MAILBOX");
+                properties.put("ea." + EXECUTOR_NAME + ".mailbox.parallelism", workerCount);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown executor type: " + executorType);
+        }
+        return properties;
+    }
+
+    private StandardEnvironment createEnvironment() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources()
+            .addFirst(new MapPropertySource("benchmark", getExecutorProperties()));
+        return environment;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(EVENTS_PER_INVOCATION)
+    public void throughput() {
+        long expected = processed.sum() + EVENTS_PER_INVOCATION;
+        int offset = SplittableRandomHolder.nextInt(events.length);
+        for (int i = 0; i < EVENTS_PER_INVOCATION; i++) {
+            executor.execute(events[(offset + i) & (events.length - 1)]);
+        }
+        while (processed.sum() < expected) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @Benchmark
+    @Group("latencyUnderLoad")
+    @GroupThreads(3)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void backgroundLoad() {
+        // keep the queues busy, but don't let them grow without bounds
+        while (submitted.sum() - processed.sum() > MAX_OUTSTANDING_EVENTS) {
+            Thread.onSpinWait();
+        }
+        submitted.increment();
+        executor.execute(events[SplittableRandomHolder.nextInt(events.length)]);
+    }
+
+    @Benchmark
+    @Group("latencyUnderLoad")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void probe(ProbeState probeState) {
+        ProbeEvent probe = probeState.next(events[SplittableRandomHolder.nextInt(events.length)]);
+        executor.execute(probe);
+        while (!probe.done) {
+            Thread.onSpinWait();
+        }
+    }
+
+    public enum KeyDistribution {
+        UNIFORM {
+            @Override
+            int[] createSequence(int keyCount, int length) {
+                SplittableRandom random = new SplittableRandom(42);
+                int[] sequence = new int[length];
+                for (int i = 0; i < length; i++) {
+                    sequence[i] = random.nextInt(keyCount);
+                }
+                return sequence;
+            }
+        },
+        /**
+         * Zipfian distribution (exponent 1.0), i.e. a handful of very hot keys
+         */
+        SKEWED {
+            @Override
+            int[] createSequence(int keyCount, int length) {
+                double[] cumulative = new double[keyCount];
+                double sum = 0;
+                for (int i = 0; i < keyCount; i++) {
+                    sum += 1.0d / (i + 1);
+                    cumulative[i] = sum;
+                }
+                SplittableRandom random = new SplittableRandom(42);
+                int[] sequence = new int[length];
+                for (int i = 0; i < length; i++) {
+                    double value = random.nextDouble() * sum;
+                    int index = Arrays.binarySearch(cumulative, value);
+                    sequence[i] = index >= 0 ? index : Math.min(-index - 1, keyCount - 1);
+                }
+                return sequence;
+            }
+        };
+
+        abstract int[] createSequence(int keyCount, int length);
+    }
+
+    @State(Scope.Thread)
+    public static class ProbeState {
+
+        private final ProbeEvent probe = new ProbeEvent();
+
+        ProbeEvent next(CountingEvent template) {
+            probe.key = template.key;
+            probe.done = false;
+            return probe;
+        }
+    }
+
+    private static final class SplittableRandomHolder {
+
+        private static final ThreadLocal<SplittableRandom> random =
+            ThreadLocal.withInitial(SplittableRandom::new);
+
+        private static int nextInt(int bound) {
+            return random.get().nextInt(bound);
+        }
+    }
+
+    private static final class CountingEvent implements ThreadBoundRunnable<String> {
+
+        private final String key;
+        private final LongAdder processed;
+
+        private CountingEvent(String key, LongAdder processed) {
+            this.key = key;
+            this.processed = processed;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public void run() {
+            processed.increment();
+        }
+    }
+
+    private static final class ProbeEvent implements ThreadBoundRunnable<String> {
+
+        private String key;
+        private volatile boolean done;
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public void run() {
+            done = true;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.benchmarks.messaging;
+
+import org.elasticsoftware.elasticactors.ActorRef;
+import org.elasticsoftware.elasticactors.ActorSystem;
+import org.elasticsoftware.elasticactors.test.TestActorSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end benchmark of the local message path on a single node, using the in-memory
+ * messaging layer of the test module ({@code TestMessagingService} and {@code LocalMessageQueue}).
+ * Messages go through the whole serialization, queueExecutor and actorExecutor pipeline, but
+ * the actor state is not persisted anywhere.
+ *
+ * <p>
+ * The executors can be tuned through {@code system.properties}, or by passing the usual
+ * {@code ea.actorExecutor.*} and {@code ea.queueExecutor.*} properties as JVM arguments.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class LocalMessagingBenchmark {
+
+    private static final int MESSAGES_PER_INVOCATION = 1_000;
+
+    @Param({"1", "64"})
+    public int actorCount;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private TestActorSystem testActorSystem;
+    private ActorRef[] countingActors;
+    private ActorRef echoActor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        testActorSystem = new TestActorSystem();
+        testActorSystem.initialize();
+        ActorSystem actorSystem = testActorSystem.getActorSystem();
+        countingActors = new ActorRef[actorCount];
+        for (int i = 0; i < actorCount; i++) {
+            countingActors[i] = actorSystem.actorOf("counting-" + i, CountingActor.class);
+        }
+        echoActor = actorSystem.actorOf("echo", EchoActor.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        testActorSystem.destroy();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(MESSAGES_PER_INVOCATION)
+    public void tell() {
+        long expected = CountingActor.received.sum() + MESSAGES_PER_INVOCATION;
+        for (int i = 0; i < MESSAGES_PER_INVOCATION; i++) {
+            countingActors[i % countingActors.length].tell(new Ping(sequence.incrementAndGet()), null);
+        }
+        while (CountingActor.received.sum() < expected) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Pong ask() throws ExecutionException, InterruptedException {
+        return echoActor.ask(new Ping(sequence.incrementAndGet()), Pong.class)
+            .toCompletableFuture()
+            .get();
+    }
+}
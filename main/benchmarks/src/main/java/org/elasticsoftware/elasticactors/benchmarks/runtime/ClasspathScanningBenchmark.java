@@ -0,0 +1,73 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+
+package org.elasticsoftware.elasticactors.benchmarks.runtime;
+
+import org.elasticsoftware.elasticactors.ActorLifecycleListener;
+import org.elasticsoftware.elasticactors.ManagedActor;
+import org.elasticsoftware.elasticactors.PluggableMessageHandlers;
+import org.elasticsoftware.elasticactors.SingletonActor;
+import org.elasticsoftware.elasticactors.runtime.ClasspathTypes;
+import org.elasticsoftware.elasticactors.runtime.ScannerHelper;
+import org.elasticsoftware.elasticactors.serialization.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The work the scanners in the runtime module do at startup, once with the
+ * {@code META-INF/elasticactors.idx} written by the annotation processor and once scanning the
+ * classpath. Every scanner looks up the types on its own, so this does it four times as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ClasspathScanningBenchmark {
+
+    @Param({"true", "false"})
+    public boolean useIndex;
+
+    @Benchmark
+    public void findTypes(Blackhole blackhole) {
+        ClassLoader classLoader = getClass().getClassLoader();
+        // ManagedActorsScanner
+        ClasspathTypes classpathTypes = ScannerHelper.findTypes(classLoader, useIndex);
+        blackhole.consume(classpathTypes.getTypesAnnotatedWith(SingletonActor.class));
+        blackhole.consume(classpathTypes.getTypesAnnotatedWith(ManagedActor.class));
+        // MessagesScanner
+        classpathTypes = ScannerHelper.findTypes(classLoader, useIndex);
+        blackhole.consume(classpathTypes.getTypesAnnotatedWith(Message.class));
+        // PluggableMessageHandlersScanner
+        classpathTypes = ScannerHelper.findTypes(classLoader, useIndex);
+        blackhole.consume(classpathTypes.getTypesAnnotatedWith(PluggableMessageHandlers.class));
+        // ActorLifecycleListenerScanner
+        classpathTypes = ScannerHelper.findTypes(classLoader, useIndex);
+        blackhole.consume(classpathTypes.getSubTypesOf(ActorLifecycleListener.class));
+    }
+}
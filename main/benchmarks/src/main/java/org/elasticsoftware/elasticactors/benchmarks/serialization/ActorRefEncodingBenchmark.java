@@ -0,0 +1,192 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.benchmarks.serialization;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnsafeByteOperations;
+import org.elasticsoftware.elasticactors.ActorRef;
+import org.elasticsoftware.elasticactors.cluster.ActorRefFactory;
+import org.elasticsoftware.elasticactors.messaging.UUIDTools;
+import org.elasticsoftware.elasticactors.serialization.internal.CompactActorRefs;
+import org.elasticsoftware.elasticactors.serialization.protobuf.Messaging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the serialized size and the parse time of an InternalMessage with the ActorRefs written as strings and
+ * with {@link CompactActorRefs}. The serialized size of each variant is printed during the setup. The resolve
+ * benchmarks also look up the ActorRefs in a cache, keyed by the ref spec for strings (like
+ * {@code ElasticActorsNode#create(String)}) and by the decoded parts for compact ActorRefs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ActorRefEncodingBenchmark {
+
+    @Param({"1", "8"})
+    public int receivers;
+
+    private String sender;
+    private List<String> receiverSpecs;
+    private byte[] payload;
+    private byte[] stringEncoded;
+    private byte[] compactEncoded;
+    private final CachingActorRefFactory actorRefFactory = new CachingActorRefFactory();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sender = "actor://production/orders/nodes/orders-node-7.example.com/" + UUID.randomUUID();
+        receiverSpecs = new ArrayList<>(receivers);
+        for (int i = 0; i < receivers; i++) {
+            receiverSpecs.add("actor://production/orders/shards/" + (i * 37 % 256) + "/" + UUID.randomUUID());
+        }
+        payload = new byte[64];
+        stringEncoded = stringEncoding().toByteArray();
+        compactEncoded = compactEncoding().toByteArray();
+        System.out.printf(
+            "%nInternalMessage with %d receiver(s): %d bytes with strings, %d bytes with compact ActorRefs%n",
+            receivers,
+            stringEncoded.length,
+            compactEncoded.length);
+    }
+
+    private Messaging.InternalMessage.Builder newBuilder() {
+        return Messaging.InternalMessage.newBuilder()
+            .setId(UUIDTools.toByteString(UUIDTools.createTimeBasedUUID()))
+            .setPayload(UnsafeByteOperations.unsafeWrap(payload))
+            .setPayloadClass(BenchmarkMessage.class.getName())
+            .setDurable(true);
+    }
+
+    private Messaging.InternalMessage stringEncoding() {
+        Messaging.InternalMessage.Builder builder = newBuilder().setSender(sender);
+        if (receiverSpecs.size() == 1) {
+            builder.setReceiver(receiverSpecs.get(0));
+        } else {
+            builder.addAllReceivers(receiverSpecs);
+        }
+        return builder.build();
+    }
+
+    private Messaging.InternalMessage compactEncoding() {
+        List<String> refSpecs = new ArrayList<>(receiverSpecs.size() + 1);
+        refSpecs.add(sender);
+        refSpecs.addAll(receiverSpecs);
+        return newBuilder().setActorRefs(CompactActorRefs.encode(refSpecs)).build();
+    }
+
+    @Benchmark
+    public byte[] serializeStrings() {
+        return stringEncoding().toByteArray();
+    }
+
+    @Benchmark
+    public byte[] serializeCompact() {
+        return compactEncoding().toByteArray();
+    }
+
+    @Benchmark
+    public void parseStrings(Blackhole blackhole) throws InvalidProtocolBufferException {
+        Messaging.InternalMessage message = Messaging.InternalMessage.parseFrom(stringEncoded);
+        blackhole.consume(message.getSender());
+        if (message.hasReceiver()) {
+            blackhole.consume(message.getReceiver());
+        } else {
+            for (int i = 0; i < message.getReceiversCount(); i++) {
+                blackhole.consume(message.getReceivers(i));
+            }
+        }
+    }
+
+    @Benchmark
+    public void parseCompact(Blackhole blackhole) throws IOException {
+        Messaging.InternalMessage message = Messaging.InternalMessage.parseFrom(compactEncoded);
+        for (String refSpec : CompactActorRefs.decode(message.getActorRefs())) {
+            blackhole.consume(refSpec);
+        }
+    }
+
+    @Benchmark
+    public void resolveStrings(Blackhole blackhole) throws InvalidProtocolBufferException {
+        Messaging.InternalMessage message = Messaging.InternalMessage.parseFrom(stringEncoded);
+        blackhole.consume(actorRefFactory.create(message.getSender()));
+        if (message.hasReceiver()) {
+            blackhole.consume(actorRefFactory.create(message.getReceiver()));
+        } else {
+            for (int i = 0; i < message.getReceiversCount(); i++) {
+                blackhole.consume(actorRefFactory.create(message.getReceivers(i)));
+            }
+        }
+    }
+
+    @Benchmark
+    public void resolveCompact(Blackhole blackhole) throws IOException {
+        Messaging.InternalMessage message = Messaging.InternalMessage.parseFrom(compactEncoded);
+        for (ActorRef actorRef : CompactActorRefs.decode(message.getActorRefs(), actorRefFactory)) {
+            blackhole.consume(actorRef);
+        }
+    }
+
+    private static final class CachingActorRefFactory implements ActorRefFactory {
+        private static final ActorRef ACTOR_REF = (ActorRef) Proxy.newProxyInstance(
+            ActorRef.class.getClassLoader(),
+            new Class<?>[] {ActorRef.class},
+            (proxy, method, args) -> null);
+
+        private final Map<String, ActorRef> refSpecCache = new HashMap<>();
+        private final Map<Parts, ActorRef> partsCache = new HashMap<>();
+
+        @Override
+        public ActorRef create(String refSpec) {
+            return refSpecCache.computeIfAbsent(refSpec, key -> ACTOR_REF);
+        }
+
+        @Override
+        public ActorRef create(String clusterName, String actorSystemName, String type, String id, String actorId) {
+            return partsCache.computeIfAbsent(
+                new Parts(clusterName, actorSystemName, type, id, actorId),
+                key -> ACTOR_REF);
+        }
+    }
+
+    private record Parts(String clusterName, String actorSystemName, String type, String id, String actorId) {
+    }
+}
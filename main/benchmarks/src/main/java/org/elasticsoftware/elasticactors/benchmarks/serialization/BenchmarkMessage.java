@@ -0,0 +1,63 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.benchmarks.serialization;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.elasticsoftware.elasticactors.base.serialization.JacksonSerializationFramework;
+import org.elasticsoftware.elasticactors.serialization.Message;
+
+import java.util.List;
+
+@Message(serializationFramework = JacksonSerializationFramework.class, immutable = true)
+public final class BenchmarkMessage {
+
+    private final String id;
+    private final long timestamp;
+    private final List<String> tags;
+    private final String body;
+
+    @JsonCreator
+    public BenchmarkMessage(
+        @JsonProperty("id") String id,
+        @JsonProperty("timestamp") long timestamp,
+        @JsonProperty("tags") List<String> tags,
+        @JsonProperty("body") String body)
+    {
+        this.id = id;
+        this.timestamp = timestamp;
+        this.tags = tags;
+        this.body = body;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public String getBody() {
+        return body;
+    }
+}
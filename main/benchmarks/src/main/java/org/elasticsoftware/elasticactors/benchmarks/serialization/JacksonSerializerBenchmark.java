@@ -0,0 +1,97 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.benchmarks.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.elasticsoftware.elasticactors.base.serialization.JacksonMessageSerializer;
+import org.elasticsoftware.elasticactors.serialization.MessageSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the allocations of {@link JacksonMessageSerializer} with plain
+ * {@link ObjectMapper#writeValueAsBytes(Object)}, and with serializing into a buffer supplied by the caller. Run with
+ * the GC profiler to see the allocation rate: {@code java -jar elasticactors-benchmarks.jar JacksonSerializerBenchmark -prof gc}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JacksonSerializerBenchmark {
+
+    @Param({"64", "4096", "65536"})
+    public int bodySize;
+
+    private ObjectMapper objectMapper;
+    private MessageSerializer<BenchmarkMessage> serializer;
+    private BenchmarkMessage message;
+    private ByteArrayOutputStream output;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        serializer = new JacksonMessageSerializer<>(objectMapper);
+        char[] body = new char[bodySize];
+        Arrays.fill(body, 'x');
+        message = new BenchmarkMessage(
+            "2b7e1516-28ae-d2a6-abf7-158809cf4f3c",
+            System.currentTimeMillis(),
+            Arrays.asList("first", "second", "third"),
+            new String(body)
+        );
+        output = new ByteArrayOutputStream(bodySize * 2);
+    }
+
+    /**
+     * How the serializer used to work
+     */
+    @Benchmark
+    public ByteBuffer writeValueAsBytes() throws IOException {
+        return ByteBuffer.wrap(objectMapper.writeValueAsBytes(message));
+    }
+
+    @Benchmark
+    public ByteBuffer serialize() throws IOException {
+        return serializer.serialize(message);
+    }
+
+    @Benchmark
+    public int serializeIntoCallerBuffer() throws IOException {
+        output.reset();
+        serializer.serialize(message, output);
+        return output.size();
+    }
+}
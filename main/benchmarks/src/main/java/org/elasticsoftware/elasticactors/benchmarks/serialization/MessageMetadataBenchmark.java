@@ -0,0 +1,124 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+
+package org.elasticsoftware.elasticactors.benchmarks.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.elasticsoftware.elasticactors.base.serialization.JacksonSerializationFramework;
+import org.elasticsoftware.elasticactors.serialization.Message;
+import org.elasticsoftware.elasticactors.serialization.MessageDeserializer;
+import org.elasticsoftware.elasticactors.serialization.MessageMetadata;
+import org.elasticsoftware.elasticactors.serialization.MessageSerializer;
+import org.elasticsoftware.elasticactors.serialization.SerializationFramework;
+import org.elasticsoftware.elasticactors.serialization.SerializationFrameworks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-message work of looking up the {@link Message} annotation through reflection
+ * (as done when creating an {@code InternalMessage} and resolving its serializer) with the
+ * precomputed {@link MessageMetadata}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class MessageMetadataBenchmark {
+
+    private SerializationFrameworks serializationFrameworks;
+    private BenchmarkMessage message;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SerializationFramework framework =
+            new JacksonSerializationFramework(new ObjectMapper(), new StandardEnvironment());
+        framework.register(BenchmarkMessage.class);
+        serializationFrameworks = new SerializationFrameworks() {
+            @Override
+            public <T> MessageSerializer<T> getSystemMessageSerializer(Class<T> messageClass) {
+                return null;
+            }
+
+            @Override
+            public <T> MessageDeserializer<T> getSystemMessageDeserializer(Class<T> messageClass) {
+                return null;
+            }
+
+            @Override
+            public SerializationFramework getSerializationFramework(
+                Class<? extends SerializationFramework> frameworkClass)
+            {
+                return framework;
+            }
+        };
+        message = new BenchmarkMessage(
+            "2b7e1516-28ae-d2a6-abf7-158809cf4f3c",
+            System.currentTimeMillis(),
+            Arrays.asList("first", "second", "third"),
+            "body"
+        );
+    }
+
+    @Benchmark
+    public void annotationLookup(Blackhole blackhole) {
+        Message messageAnnotation = message.getClass().getAnnotation(Message.class);
+        blackhole.consume((messageAnnotation != null) && messageAnnotation.durable());
+        blackhole.consume((messageAnnotation != null) && messageAnnotation.immutable());
+        blackhole.consume((messageAnnotation != null) ? messageAnnotation.timeout() : Message.NO_TIMEOUT);
+        Message serializerAnnotation = message.getClass().getAnnotation(Message.class);
+        SerializationFramework framework = serializationFrameworks
+            .getSerializationFramework(serializerAnnotation.serializationFramework());
+        blackhole.consume(framework.getSerializer(message.getClass()));
+    }
+
+    @Benchmark
+    public void metadataLookup(Blackhole blackhole) {
+        MessageMetadata metadata = MessageMetadata.of(message);
+        blackhole.consume(metadata.isDurable());
+        blackhole.consume(metadata.isImmutable());
+        blackhole.consume(metadata.getTimeout());
+        blackhole.consume(MessageMetadata.of(message).getSerializer(serializationFrameworks));
+    }
+
+    @Benchmark
+    public MessageDeserializer<?> deserializerAnnotationLookup() {
+        Message messageAnnotation = BenchmarkMessage.class.getAnnotation(Message.class);
+        return serializationFrameworks
+            .getSerializationFramework(messageAnnotation.serializationFramework())
+            .getDeserializer(BenchmarkMessage.class);
+    }
+
+    @Benchmark
+    public MessageDeserializer<?> deserializerMetadataLookup() {
+        return MessageMetadata.get(BenchmarkMessage.class).getDeserializer(serializationFrameworks);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.benchmarks.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.elasticsoftware.elasticactors.base.serialization.JacksonMessageDeserializer;
+import org.elasticsoftware.elasticactors.base.serialization.JacksonMessageSerializer;
+import org.elasticsoftware.elasticactors.serialization.MessageDeserializer;
+import org.elasticsoftware.elasticactors.serialization.MessageSerializer;
+import org.elasticsoftware.elasticactors.serialization.SerializationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base class for the {@link SerializationContext} benchmarks. The caches in
+ * {@link SerializationContext} are toggled by system properties that are read once, so the
+ * subclasses run the same benchmarks in JVMs forked with different settings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public abstract class SerializationContextBenchmark {
+
+    private static final int FAN_OUT = 8;
+
+    @Param({"64", "4096"})
+    public int bodySize;
+
+    private MessageSerializer<BenchmarkMessage> serializer;
+    private MessageDeserializer<BenchmarkMessage> deserializer;
+    private BenchmarkMessage message;
+    private ByteBuffer serializedMessage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        serializer = new JacksonMessageSerializer<>(objectMapper);
+        deserializer = new JacksonMessageDeserializer<>(BenchmarkMessage.class, objectMapper);
+        char[] body = new char[bodySize];
+        Arrays.fill(body, 'x');
+        message = new BenchmarkMessage(
+            "2b7e1516-28ae-d2a6-abf7-158809cf4f3c",
+            System.currentTimeMillis(),
+            Arrays.asList("first", "second", "third"),
+            new String(body)
+        );
+        serializedMessage = serializer.serialize(message);
+    }
+
+    /**
+     * A single message sent to a single receiver
+     */
+    @Benchmark
+    public ByteBuffer serialize() throws IOException {
+        try {
+            return SerializationContext.serialize(serializer, message);
+        } finally {
+            SerializationContext.reset();
+        }
+    }
+
+    /**
+     * The same message sent to several receivers while handling a single message
+     */
+    @Benchmark
+    @OperationsPerInvocation(FAN_OUT)
+    public void serializeFanOut(Blackhole blackhole) throws IOException {
+        try {
+            for (int i = 0; i < FAN_OUT; i++) {
+                blackhole.consume(SerializationContext.serialize(serializer, message));
+            }
+        } finally {
+            SerializationContext.reset();
+        }
+    }
+
+    @Benchmark
+    public BenchmarkMessage deserialize() throws IOException {
+        return SerializationContext.deserialize(deserializer, serializedMessage.duplicate());
+    }
+}
@@ -35,9 +35,9 @@ import org.elasticsoftware.elasticactors.messaging.MultiMessageQueueProxy;
 import org.elasticsoftware.elasticactors.messaging.MultiMessageQueueProxyHasher;
 import org.elasticsoftware.elasticactors.messaging.SingleMessageQueueProxy;
 import org.elasticsoftware.elasticactors.serialization.Message;
+import org.elasticsoftware.elasticactors.serialization.MessageMetadata;
 import org.elasticsoftware.elasticactors.serialization.MessageSerializer;
 import org.elasticsoftware.elasticactors.serialization.SerializationContext;
-import org.elasticsoftware.elasticactors.serialization.SerializationFramework;
 import org.elasticsoftware.elasticactors.serialization.SerializationFrameworks;
 
 import java.util.List;
@@ -124,9 +124,9 @@ final class RemoteActorShard implements ActorShard, MessageHandler {
     }
 
     private boolean isDurable(Object message) {
-        Message messageAnnotation = message.getClass().getAnnotation(Message.class);
-        if (messageAnnotation != null) {
-            return messageAnnotation.durable();
+        MessageMetadata metadata = MessageMetadata.of(message);
+        if (metadata.isMessage()) {
+            return metadata.isDurable();
         }
         if (message instanceof ActorSystemMessage) {
             return ((ActorSystemMessage) message).isDurable();
@@ -135,9 +135,9 @@ final class RemoteActorShard implements ActorShard, MessageHandler {
     }
 
     private int getTimeout(Object message) {
-        Message messageAnnotation = message.getClass().getAnnotation(Message.class);
-        if (messageAnnotation != null) {
-            return messageAnnotation.timeout();
+        MessageMetadata metadata = MessageMetadata.of(message);
+        if (metadata.isMessage()) {
+            return metadata.getTimeout();
         }
         if (message instanceof ActorSystemMessage) {
             return ((ActorSystemMessage) message).getTimeout();
@@ -146,8 +146,7 @@ final class RemoteActorShard implements ActorShard, MessageHandler {
     }
 
     private String getPayloadClass(Object message) {
-        Message messageAnnotation = message.getClass().getAnnotation(Message.class);
-        if (messageAnnotation == null && message instanceof ActorSystemMessage) {
+        if (!MessageMetadata.of(message).isMessage() && message instanceof ActorSystemMessage) {
             return ((ActorSystemMessage) message).getPayloadClass();
         }
         return message.getClass().getName();
@@ -155,11 +154,9 @@ final class RemoteActorShard implements ActorShard, MessageHandler {
 
     @SuppressWarnings("unchecked")
     private <T> MessageSerializer<T> getSerializer(Class<T> messageClass) {
-        Message messageAnnotation = messageClass.getAnnotation(Message.class);
-        if (messageAnnotation != null) {
-            SerializationFramework framework = serializationFrameworks
-                    .getSerializationFramework(messageAnnotation.serializationFramework());
-            return framework.getSerializer(messageClass);
+        MessageMetadata metadata = MessageMetadata.get(messageClass);
+        if (metadata.isMessage()) {
+            return metadata.getSerializer(serializationFrameworks);
         }
         if (ActorSystemMessage.class.isAssignableFrom(messageClass)) {
             return (MessageSerializer<T>) ActorSystemMessageSerializer.get();
@@ -38,11 +38,10 @@ import org.elasticsoftware.elasticactors.messaging.MessageQueueFactory;
 import org.elasticsoftware.elasticactors.messaging.internal.CreateActorMessage;
 import org.elasticsoftware.elasticactors.messaging.internal.DestroyActorMessage;
 import org.elasticsoftware.elasticactors.scheduler.Scheduler;
-import org.elasticsoftware.elasticactors.serialization.Message;
 import org.elasticsoftware.elasticactors.serialization.MessageDeserializer;
+import org.elasticsoftware.elasticactors.serialization.MessageMetadata;
 import org.elasticsoftware.elasticactors.serialization.MessageSerializer;
 import org.elasticsoftware.elasticactors.serialization.SerializationAccessor;
-import org.elasticsoftware.elasticactors.serialization.SerializationFramework;
 import org.elasticsoftware.elasticactors.serialization.SerializationFrameworks;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -254,11 +253,9 @@ public final class RemoteActorSystemInstance
         MessageSerializer<T> messageSerializer =
                 serializationFrameworks.getSystemMessageSerializer(messageClass);
         if (messageSerializer == null) {
-            Message messageAnnotation = messageClass.getAnnotation(Message.class);
-            if (messageAnnotation != null) {
-                SerializationFramework framework =
-                        serializationFrameworks.getSerializationFramework(messageAnnotation.serializationFramework());
-                messageSerializer = framework.getSerializer(messageClass);
+            MessageMetadata metadata = MessageMetadata.get(messageClass);
+            if (metadata.isMessage()) {
+                messageSerializer = metadata.getSerializer(serializationFrameworks);
             } else if (ActorSystemMessage.class.isAssignableFrom(messageClass)) {
                 messageSerializer = (MessageSerializer<T>) ActorSystemMessageSerializer.get();
             }
@@ -271,12 +268,7 @@ public final class RemoteActorSystemInstance
         MessageDeserializer<T> messageDeserializer =
                 serializationFrameworks.getSystemMessageDeserializer(messageClass);
         if (messageDeserializer == null) {
-            Message messageAnnotation = messageClass.getAnnotation(Message.class);
-            if (messageAnnotation != null) {
-                SerializationFramework framework =
-                        serializationFrameworks.getSerializationFramework(messageAnnotation.serializationFramework());
-                messageDeserializer = framework.getDeserializer(messageClass);
-            }
+            messageDeserializer = MessageMetadata.get(messageClass).getDeserializer(serializationFrameworks);
         }
         return messageDeserializer;
     }
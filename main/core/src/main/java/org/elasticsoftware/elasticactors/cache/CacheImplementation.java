@@ -0,0 +1,34 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cache;
+
+/**
+ * The cache library backing a {@link CacheManager}.
+ */
+public enum CacheImplementation {
+    /**
+     * A Guava cache with LRU eviction. The keys of each segment are tracked in an index that is shared by
+     * all segments.
+     */
+    GUAVA,
+    /**
+     * A Caffeine cache with W-TinyLFU eviction. The keys of each segment are tracked per segment, and the
+     * {@link EvictionListener}s are notified on a separate executor.
+     */
+    CAFFEINE
+}
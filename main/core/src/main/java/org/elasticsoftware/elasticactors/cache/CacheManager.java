@@ -14,245 +14,161 @@
  *     limitations under the License.
  *
  */
-
 package org.elasticsoftware.elasticactors.cache;
 
-import com.google.common.cache.AbstractCache;
 import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheStats;
-import com.google.common.cache.RemovalListener;
-import com.google.common.cache.RemovalNotification;
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.MultimapBuilder;
-import com.google.common.collect.Multimaps;
-import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.BaseUnits;
 import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
-import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ExecutionException;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * @author Joost van de Wijgerd
  */
 public class CacheManager<K,V> {
 
-    // Pooling keys for read-only operations
-    private final static ThreadLocal<CacheKey> keyPool = ThreadLocal.withInitial(CacheKey::new);
-
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
-    private final Cache<CacheKey,V> backingCache;
-    private final Multimap<Object,CacheKey> segmentIndex;
-    private final ConcurrentMap<Object,EvictionListener<V>> evictionListeners = new ConcurrentHashMap<>();
+    private final SegmentedCaches<K,V> segmentedCaches;
+    @Nullable private final ToIntFunction<V> weigher;
+    @Nullable private final MicrometerConfiguration micrometerConfiguration;
+    private final Map<Cache<K,V>, Gauge> weightGauges = new IdentityHashMap<>();
 
     public CacheManager(int maximumSize, @Nullable MicrometerConfiguration micrometerConfiguration) {
-        CacheBuilder<CacheKey, V> builder = CacheBuilder.newBuilder()
-            .maximumSize(maximumSize)
-            .removalListener(new GlobalRemovalListener());
-        if (micrometerConfiguration != null) {
-            builder.recordStats();
-            backingCache = GuavaCacheMetrics.monitor(
-                micrometerConfiguration.getRegistry(),
-                builder.build(),
-                micrometerConfiguration.getComponentName(),
-                micrometerConfiguration.getTags()
-            );
-        } else {
-            backingCache = builder.build();
-        }
-        segmentIndex = Multimaps.synchronizedMultimap(MultimapBuilder.hashKeys().hashSetValues().build());
+        this(maximumSize, micrometerConfiguration, CacheImplementation.GUAVA);
     }
 
-    public final Cache<K,V> create(Object cacheKey,EvictionListener<V> evictionListener) {
-        // make sure any leftovers from a previous create / destroy are all gone
-        backingCache.invalidateAll(segmentIndex.removeAll(cacheKey));
-        if(evictionListener != null) {
-            evictionListeners.put(cacheKey,evictionListener);
-        }
-        return new SegmentedCache(cacheKey);
+    public CacheManager(
+        int maximumSize,
+        @Nullable MicrometerConfiguration micrometerConfiguration,
+        CacheImplementation cacheImplementation)
+    {
+        this(maximumSize, 0L, null, micrometerConfiguration, cacheImplementation);
     }
 
-    public final void destroy(Cache<K,V> cache) {
-        if(SegmentedCache.class.isInstance(cache)) {
-            Object segmentKey = ((SegmentedCache)cache).segmentKey;
-            backingCache.invalidateAll(segmentIndex.removeAll(segmentKey));
-            evictionListeners.remove(segmentKey);
-        }
+    /**
+     * Creates a cache manager that bounds its entries either by number or by weight. When both a positive
+     * {@code maximumWeight} and a {@code weigher} are given, entries are evicted based on the sum of their weights
+     * and {@code maximumSize} is ignored. The weight of an entry is determined when it is put in the cache, so a
+     * changed weight is only taken into account after the entry has been put again.
+     */
+    public CacheManager(
+        int maximumSize,
+        long maximumWeight,
+        @Nullable ToIntFunction<V> weigher,
+        @Nullable MicrometerConfiguration micrometerConfiguration,
+        CacheImplementation cacheImplementation)
+    {
+        this(maximumSize, maximumWeight, weigher, null, micrometerConfiguration, cacheImplementation);
     }
 
-    private final class SegmentedCache extends AbstractCache<K,V> {
-        private final Object segmentKey;
-
-        private SegmentedCache(Object segmentKey) {
-            this.segmentKey = segmentKey;
-        }
-
-        @Override
-        public V getIfPresent(@Nonnull Object key) {
-            return backingCache.getIfPresent(keyPool.get().fill(segmentKey, key));
-        }
-
-        @Override
-        public V get(@Nonnull K key, @Nonnull Callable<? extends V> valueLoader) throws ExecutionException {
-            CacheKey cacheKey = new CacheKey().fill(segmentKey, key);
-            V value = backingCache.get(cacheKey,valueLoader);
-            segmentIndex.put(segmentKey,cacheKey);
-            return value;
-        }
-
-        @Override
-        public void invalidate(@Nonnull Object key) {
-            CacheKey cacheKey = keyPool.get().fill(segmentKey, key);
-            backingCache.invalidate(cacheKey);
-            segmentIndex.remove(segmentKey,cacheKey);
-        }
-
-        @Override
-        public void put(@Nonnull K key, @Nonnull V value) {
-            CacheKey cacheKey = new CacheKey().fill(segmentKey, key);
-            backingCache.put(cacheKey,value);
-            segmentIndex.put(segmentKey,cacheKey);
-        }
-
-        @Nonnull
-        @Override
-        public ImmutableMap<K, V> getAllPresent(@Nonnull Iterable<?> keys) {
-            ImmutableMap.Builder<K,V> result = ImmutableMap.builder();
-            CacheKey pooledKey = keyPool.get();
-            for (Object key : keys) {
-                V value = backingCache.getIfPresent(pooledKey.fill(segmentKey, key));
-                if(value != null) {
-                    result.put((K) key, value);
-                }
-            }
-            return result.build();
-        }
-
-        @Override
-        public void putAll(Map<? extends K, ? extends V> m) {
-            m.forEach(this::put);
-        }
-
-        @Override
-        public void cleanUp() {
-            backingCache.cleanUp();
-        }
-
-        @Override
-        public long size() {
-            return segmentIndex.get(segmentKey).size();
-        }
-
-        @Override
-        public void invalidateAll(Iterable<?> keys) {
-            for (Object key : keys) {
-                invalidate(key);
-            }
-        }
-
-        @Override
-        public void invalidateAll() {
-            backingCache.invalidateAll(segmentIndex.removeAll(segmentKey));
+    /**
+     * @param accessTime when given, tells when an entry was last used. The {@link CacheImplementation#GUAVA}
+     *                   implementation uses it to order the keys returned by {@link #hottestKeys(Cache, int)}, as it
+     *                   doesn't keep track of that itself
+     */
+    public CacheManager(
+        int maximumSize,
+        long maximumWeight,
+        @Nullable ToIntFunction<V> weigher,
+        @Nullable ToLongFunction<V> accessTime,
+        @Nullable MicrometerConfiguration micrometerConfiguration,
+        CacheImplementation cacheImplementation)
+    {
+        this.weigher = maximumWeight > 0 ? weigher : null;
+        this.micrometerConfiguration = micrometerConfiguration;
+        if (cacheImplementation == CacheImplementation.CAFFEINE) {
+            segmentedCaches = new CaffeineSegmentedCaches<>(
+                maximumSize,
+                maximumWeight,
+                this.weigher,
+                micrometerConfiguration,
+                logger
+            );
+        } else {
+            segmentedCaches = new GuavaSegmentedCaches<>(
+                maximumSize,
+                maximumWeight,
+                this.weigher,
+                accessTime,
+                micrometerConfiguration,
+                logger
+            );
         }
+    }
 
-        @Nonnull
-        @Override
-        public CacheStats stats() {
-            return backingCache.stats();
-        }
+    public final boolean isWeighted() {
+        return weigher != null;
+    }
 
-        /**
-         * Unlike most implementations, the returned map has no connection to the underlying cache.
-         */
-        @Override
-        public ConcurrentMap<K, V> asMap() {
-            // Getting the cache as a map here, so we don't skew the statistics
-            Map<CacheKey, V> backingCacheAsMap = backingCache.asMap();
-            Collection<CacheKey> cacheKeysForSegment = segmentIndex.get(segmentKey);
-            ConcurrentMap<K, V> result = new ConcurrentHashMap<>(cacheKeysForSegment.size());
-            for (CacheKey key : cacheKeysForSegment) {
-                V value = backingCacheAsMap.get(key);
-                if (value != null) {
-                    result.put((K) key.cacheKey, value);
-                }
+    public final Cache<K,V> create(Object cacheKey,EvictionListener<V> evictionListener) {
+        Cache<K,V> cache = segmentedCaches.create(cacheKey, evictionListener);
+        if (weigher != null && micrometerConfiguration != null) {
+            Gauge gauge = Gauge.builder(
+                    micrometerConfiguration.getMetricPrefix() + "cache.segment.weight",
+                    cache,
+                    segmentedCaches::weight
+                )
+                .tags(micrometerConfiguration.getTags())
+                .tag("cache", micrometerConfiguration.getComponentName())
+                .tag("segment", String.valueOf(cacheKey))
+                .description("The estimated number of bytes held by the entries in the cache segment")
+                .baseUnit(BaseUnits.BYTES)
+                .register(micrometerConfiguration.getRegistry());
+            synchronized (weightGauges) {
+                weightGauges.put(cache, gauge);
             }
-            return result;
         }
+        return cache;
     }
 
-    private static final class CacheKey {
-        private Object segmentKey;
-        private Object cacheKey;
-        private int hashCode;
-
-        public CacheKey fill(Object segmentKey, Object cacheKey) {
-            this.segmentKey = segmentKey;
-            this.cacheKey = cacheKey;
-            this.hashCode = (segmentKey.hashCode() * 31) + cacheKey.hashCode();
-            return this;
-        }
-
-        public CacheKey copy() {
-            CacheKey copy = new CacheKey();
-            copy.segmentKey = this.segmentKey;
-            copy.cacheKey = this.cacheKey;
-            copy.hashCode = this.hashCode;
-            return copy;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
+    public final void destroy(Cache<K,V> cache) {
+        if (micrometerConfiguration != null) {
+            Gauge gauge;
+            synchronized (weightGauges) {
+                gauge = weightGauges.remove(cache);
             }
-            if (!(o instanceof CacheKey)) {
-                return false;
+            if (gauge != null) {
+                micrometerConfiguration.getRegistry().remove(gauge);
             }
-
-            CacheKey cacheKey1 = (CacheKey) o;
-
-            return cacheKey.equals(cacheKey1.cacheKey)
-                && segmentKey.equals(cacheKey1.segmentKey);
         }
+        segmentedCaches.destroy(cache);
+    }
 
-        @Override
-        public int hashCode() {
-            return this.hashCode;
-        }
+    /**
+     * @return at most {@code limit} keys of the given cache, the ones most likely to be used again first. The
+     * {@link CacheImplementation#CAFFEINE} implementation keeps track of that itself, the
+     * {@link CacheImplementation#GUAVA} implementation returns the most recently used keys first if this manager was
+     * given the access time of its entries, in arbitrary order otherwise.
+     */
+    public final List<K> hottestKeys(Cache<K,V> cache, int limit) {
+        return segmentedCaches.hottestKeys(cache, limit);
     }
 
-    private final class GlobalRemovalListener implements RemovalListener<CacheManager.CacheKey,V> {
+    /**
+     * Replaces the value of the given key in the given cache, but only if it is still mapped to {@code oldValue}.
+     * Unlike {@link Cache#put(Object, Object)}, this never brings back an entry that was evicted or invalidated in
+     * the meantime. The entry is weighed again.
+     *
+     * @return true if the value was replaced
+     */
+    public final boolean replace(Cache<K,V> cache, K key, V oldValue, V newValue) {
+        return segmentedCaches.replace(cache, key, oldValue, newValue);
+    }
 
-        @Override
-        public void onRemoval(RemovalNotification<CacheKey, V> notification) {
-            if (notification.getKey() != null) {
-                if (notification.wasEvicted()) {
-                    segmentIndex.remove(notification.getKey().segmentKey, notification.getKey());
-                    EvictionListener<V> evictionListener = evictionListeners.get(notification.getKey().segmentKey);
-                    // only notify when it was not evicted explicitly (when an entry was deleted)
-                    // otherwise the prePassivate will run
-                    if (evictionListener != null) {
-                        evictionListener.onEvicted(notification.getValue());
-                    }
-                }
-                if (logger.isDebugEnabled()) {
-                    logger.debug(
-                        "Removing [{}] from cache. Cause: [{}]",
-                        notification.getValue(),
-                        notification.getCause()
-                    );
-                }
-            }
-        }
+    /**
+     * @return the sum of the weights of the entries in the given cache, as they were when the entries were put. This
+     * is kept up to date by the cache, so it doesn't walk over the entries.
+     */
+    public final long estimateWeight(Cache<K,V> cache) {
+        return segmentedCaches.weight(cache);
     }
 }
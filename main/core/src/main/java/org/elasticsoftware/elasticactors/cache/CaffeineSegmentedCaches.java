@@ -0,0 +1,378 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.cache.AbstractCache;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheLoader.InvalidCacheLoadException;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+import org.slf4j.Logger;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.ToIntFunction;
+
+/**
+ * {@link SegmentedCaches} backed by a single Caffeine cache. Every segment keeps track of its own keys, so there
+ * is no lock shared by all segments. The keys are added and removed within the atomic operations of the backing
+ * cache, which keeps the index consistent with the cache without further locking.
+ * <p>
+ * Caffeine's maintenance (and so the notification of the {@link EvictionListener}s) runs on the thread that caused
+ * it, like it does with Guava. This way an evicted actor is passivated before an actor loaded again by the same
+ * thread is activated.
+ */
+final class CaffeineSegmentedCaches<K,V> implements SegmentedCaches<K,V> {
+
+    // Pooling keys for read-only operations
+    private final static ThreadLocal<CacheKey> keyPool = ThreadLocal.withInitial(CacheKey::new);
+
+    private final Logger logger;
+    @Nullable private final ToIntFunction<V> weigher;
+    private final com.github.benmanes.caffeine.cache.Cache<CacheKey,V> backingCache;
+    private final ConcurrentMap<Object,Segment> segments = new ConcurrentHashMap<>();
+
+    CaffeineSegmentedCaches(
+        int maximumSize,
+        long maximumWeight,
+        @Nullable ToIntFunction<V> weigher,
+        @Nullable MicrometerConfiguration micrometerConfiguration,
+        Logger logger)
+    {
+        this.logger = logger;
+        this.weigher = weigher;
+        Caffeine<CacheKey, V> builder = Caffeine.newBuilder()
+            // runs atomically with the eviction
+            .evictionListener((CacheKey key, V value, RemovalCause cause) -> {
+                if (key != null) {
+                    key.segment.keys.remove(key);
+                    if (key.segment.weight != null) {
+                        key.segment.weight.remove(key);
+                    }
+                }
+            })
+            // runs after the eviction, on the thread that caused it
+            .removalListener(this::onRemoval)
+            .executor(Runnable::run);
+        if (weigher != null) {
+            builder.maximumWeight(maximumWeight).weigher((CacheKey key, V value) -> weigher.applyAsInt(value));
+        } else {
+            builder.maximumSize(maximumSize);
+        }
+        if (micrometerConfiguration != null) {
+            builder.recordStats();
+            backingCache = CaffeineCacheMetrics.monitor(
+                micrometerConfiguration.getRegistry(),
+                builder.build(),
+                micrometerConfiguration.getComponentName(),
+                micrometerConfiguration.getTags()
+            );
+        } else {
+            backingCache = builder.build();
+        }
+    }
+
+    @Override
+    public Cache<K,V> create(Object segmentKey, EvictionListener<V> evictionListener) {
+        Segment segment = new Segment(segmentKey, evictionListener);
+        Segment previous = segments.put(segmentKey, segment);
+        // make sure any leftovers from a previous create / destroy are all gone
+        if (previous != null) {
+            invalidateSegment(previous);
+        }
+        return segment;
+    }
+
+    @Override
+    public void destroy(Cache<K,V> cache) {
+        if (cache instanceof CaffeineSegmentedCaches.Segment) {
+            Segment segment = (Segment) cache;
+            segments.remove(segment.segmentKey, segment);
+            invalidateSegment(segment);
+        }
+    }
+
+    /**
+     * Returns the keys in the order of Caffeine's eviction policy, the ones most likely to be retained first.
+     */
+    @Override
+    public List<K> hottestKeys(Cache<K,V> cache, int limit) {
+        if (!(cache instanceof CaffeineSegmentedCaches.Segment)) {
+            return Collections.emptyList();
+        }
+        Segment segment = (Segment) cache;
+        return backingCache.policy().eviction()
+            .map(eviction -> eviction.hottest(entries -> entries
+                .map(entry -> entry.getKey())
+                .filter(key -> key.segment == segment)
+                .limit(limit)
+                .map(key -> (K) key.cacheKey)
+                .toList()))
+            .orElseGet(Collections::emptyList);
+    }
+
+    @Override
+    public boolean replace(Cache<K,V> cache, K key, V oldValue, V newValue) {
+        if (cache instanceof CaffeineSegmentedCaches.Segment) {
+            Segment segment = (Segment) cache;
+            // the key is only used for the lookup, the entry keeps its own key
+            CacheKey cacheKey = keyPool.get().fill(segment, key);
+            boolean replaced = backingCache.asMap().replace(cacheKey, oldValue, newValue);
+            if (replaced && segment.weight != null) {
+                segment.weight.replace(cacheKey, weigher.applyAsInt(newValue));
+            }
+            return replaced;
+        }
+        return false;
+    }
+
+    @Override
+    public long weight(Cache<K,V> cache) {
+        if (cache instanceof CaffeineSegmentedCaches.Segment) {
+            Segment segment = (Segment) cache;
+            return segment.weight != null ? segment.weight.get() : 0L;
+        }
+        return 0L;
+    }
+
+    private void invalidateSegment(Segment segment) {
+        segment.destroyed = true;
+        backingCache.invalidateAll(new ArrayList<>(segment.keys));
+        segment.keys.clear();
+        if (segment.weight != null) {
+            segment.weight.clear();
+        }
+    }
+
+    private void onRemoval(@Nullable CacheKey key, @Nullable V value, RemovalCause cause) {
+        if (key != null) {
+            Segment segment = (Segment) key.segment;
+            // only notify when it was not evicted explicitly (when an entry was deleted)
+            // otherwise the prePassivate will run
+            if (cause.wasEvicted() && !segment.destroyed && segment.evictionListener != null) {
+                segment.evictionListener.onEvicted(value);
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("Removing [{}] from cache. Cause: [{}]", value, cause);
+            }
+        }
+    }
+
+    private final class Segment extends AbstractCache<K,V> {
+        private final Object segmentKey;
+        @Nullable private final EvictionListener<V> evictionListener;
+        private final Set<CacheKey> keys = ConcurrentHashMap.newKeySet();
+        @Nullable private final SegmentWeight weight = weigher != null ? new SegmentWeight() : null;
+        private volatile boolean destroyed;
+
+        private Segment(Object segmentKey, @Nullable EvictionListener<V> evictionListener) {
+            this.segmentKey = segmentKey;
+            this.evictionListener = evictionListener;
+        }
+
+        @Override
+        public V getIfPresent(@Nonnull Object key) {
+            return backingCache.getIfPresent(keyPool.get().fill(this, key));
+        }
+
+        @Override
+        public V get(@Nonnull K key, @Nonnull Callable<? extends V> valueLoader) throws ExecutionException {
+            // avoid creating a new key when the value is present
+            V value = backingCache.getIfPresent(keyPool.get().fill(this, key));
+            if (value != null) {
+                return value;
+            }
+            try {
+                return backingCache.get(new CacheKey().fill(this, key), cacheKey -> {
+                    V loadedValue;
+                    try {
+                        loadedValue = valueLoader.call();
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                    if (loadedValue == null) {
+                        throw new InvalidCacheLoadException("CacheLoader returned null for key " + key + ".");
+                    }
+                    keys.add(cacheKey);
+                    if (weight != null) {
+                        weight.put(cacheKey, weigher.applyAsInt(loadedValue));
+                    }
+                    return loadedValue;
+                });
+            } catch (CompletionException e) {
+                throw new ExecutionException(e.getCause());
+            } catch (InvalidCacheLoadException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                throw new UncheckedExecutionException(e);
+            } catch (Error e) {
+                throw new ExecutionError(e);
+            }
+        }
+
+        @Override
+        public void invalidate(@Nonnull Object key) {
+            backingCache.asMap().computeIfPresent(keyPool.get().fill(this, key), (cacheKey, value) -> {
+                keys.remove(cacheKey);
+                if (weight != null) {
+                    weight.remove(cacheKey);
+                }
+                return null;
+            });
+        }
+
+        @Override
+        public void put(@Nonnull K key, @Nonnull V value) {
+            backingCache.asMap().compute(new CacheKey().fill(this, key), (cacheKey, currentValue) -> {
+                keys.add(cacheKey);
+                if (weight != null) {
+                    weight.put(cacheKey, weigher.applyAsInt(value));
+                }
+                return value;
+            });
+        }
+
+        @Nonnull
+        @Override
+        public ImmutableMap<K, V> getAllPresent(@Nonnull Iterable<?> keys) {
+            ImmutableMap.Builder<K,V> result = ImmutableMap.builder();
+            CacheKey pooledKey = keyPool.get();
+            for (Object key : keys) {
+                V value = backingCache.getIfPresent(pooledKey.fill(this, key));
+                if (value != null) {
+                    result.put((K) key, value);
+                }
+            }
+            return result.build();
+        }
+
+        @Override
+        public void putAll(Map<? extends K, ? extends V> m) {
+            m.forEach(this::put);
+        }
+
+        @Override
+        public void cleanUp() {
+            backingCache.cleanUp();
+        }
+
+        @Override
+        public long size() {
+            return keys.size();
+        }
+
+        @Override
+        public void invalidateAll(Iterable<?> keys) {
+            for (Object key : keys) {
+                invalidate(key);
+            }
+        }
+
+        @Override
+        public void invalidateAll() {
+            for (CacheKey key : keys) {
+                invalidate(key.cacheKey);
+            }
+        }
+
+        @Nonnull
+        @Override
+        public CacheStats stats() {
+            com.github.benmanes.caffeine.cache.stats.CacheStats stats = backingCache.stats();
+            return new CacheStats(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.loadSuccessCount(),
+                stats.loadFailureCount(),
+                stats.totalLoadTime(),
+                stats.evictionCount()
+            );
+        }
+
+        /**
+         * Unlike most implementations, the returned map has no connection to the underlying cache.
+         */
+        @Override
+        public ConcurrentMap<K, V> asMap() {
+            // Getting the cache as a map here, so we don't skew the statistics
+            Map<CacheKey, V> backingCacheAsMap = backingCache.asMap();
+            ConcurrentMap<K, V> result = new ConcurrentHashMap<>(keys.size());
+            for (CacheKey key : keys) {
+                V value = backingCacheAsMap.get(key);
+                if (value != null) {
+                    result.put((K) key.cacheKey, value);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Keys are bound to the instance of their segment, so entries left behind by a destroyed segment
+     * can never be seen by a new segment with the same segment key.
+     */
+    private static final class CacheKey {
+        private CaffeineSegmentedCaches<?, ?>.Segment segment;
+        private Object cacheKey;
+        private int hashCode;
+
+        public CacheKey fill(CaffeineSegmentedCaches<?, ?>.Segment segment, Object cacheKey) {
+            this.segment = segment;
+            this.cacheKey = cacheKey;
+            this.hashCode = (segment.segmentKey.hashCode() * 31) + cacheKey.hashCode();
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+
+            CacheKey cacheKey1 = (CacheKey) o;
+
+            return segment == cacheKey1.segment && cacheKey.equals(cacheKey1.cacheKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+}
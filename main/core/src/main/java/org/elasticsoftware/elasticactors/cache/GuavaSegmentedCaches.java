@@ -0,0 +1,381 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cache;
+
+import com.google.common.cache.AbstractCache;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.MultimapBuilder;
+import com.google.common.collect.Multimaps;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+import org.slf4j.Logger;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@link SegmentedCaches} backed by a single Guava cache, with a synchronized index of the keys in each segment.
+ *
+ * @author Joost van de Wijgerd
+ */
+final class GuavaSegmentedCaches<K,V> implements SegmentedCaches<K,V> {
+
+    // Pooling keys for read-only operations
+    private final static ThreadLocal<CacheKey> keyPool = ThreadLocal.withInitial(CacheKey::new);
+
+    private final Logger logger;
+
+    private final Cache<CacheKey,V> backingCache;
+    private final Multimap<Object,CacheKey> segmentIndex;
+    private final ConcurrentMap<Object,EvictionListener<V>> evictionListeners = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Object,SegmentWeight> segmentWeights = new ConcurrentHashMap<>();
+    @Nullable private final ToIntFunction<V> weigher;
+    @Nullable private final ToLongFunction<V> accessTime;
+
+    GuavaSegmentedCaches(
+        int maximumSize,
+        long maximumWeight,
+        @Nullable ToIntFunction<V> weigher,
+        @Nullable ToLongFunction<V> accessTime,
+        @Nullable MicrometerConfiguration micrometerConfiguration,
+        Logger logger)
+    {
+        this.logger = logger;
+        this.weigher = weigher;
+        this.accessTime = accessTime;
+        CacheBuilder<CacheKey, V> builder = CacheBuilder.newBuilder()
+            .removalListener(new GlobalRemovalListener());
+        if (weigher != null) {
+            builder.maximumWeight(maximumWeight).weigher((CacheKey key, V value) -> weigher.applyAsInt(value));
+        } else {
+            builder.maximumSize(maximumSize);
+        }
+        if (micrometerConfiguration != null) {
+            builder.recordStats();
+            backingCache = GuavaCacheMetrics.monitor(
+                micrometerConfiguration.getRegistry(),
+                builder.build(),
+                micrometerConfiguration.getComponentName(),
+                micrometerConfiguration.getTags()
+            );
+        } else {
+            backingCache = builder.build();
+        }
+        segmentIndex = Multimaps.synchronizedMultimap(MultimapBuilder.hashKeys().hashSetValues().build());
+    }
+
+    @Override
+    public Cache<K,V> create(Object cacheKey,EvictionListener<V> evictionListener) {
+        // make sure any leftovers from a previous create / destroy are all gone
+        backingCache.invalidateAll(segmentIndex.removeAll(cacheKey));
+        if(evictionListener != null) {
+            evictionListeners.put(cacheKey,evictionListener);
+        }
+        SegmentWeight weight = null;
+        if (weigher != null) {
+            weight = new SegmentWeight();
+            segmentWeights.put(cacheKey, weight);
+        }
+        return new SegmentedCache(cacheKey, weight);
+    }
+
+    @Override
+    public void destroy(Cache<K,V> cache) {
+        if(SegmentedCache.class.isInstance(cache)) {
+            Object segmentKey = ((SegmentedCache)cache).segmentKey;
+            backingCache.invalidateAll(segmentIndex.removeAll(segmentKey));
+            evictionListeners.remove(segmentKey);
+            segmentWeights.remove(segmentKey, ((SegmentedCache)cache).weight);
+        }
+    }
+
+    /**
+     * Guava doesn't expose the access order of its entries. The keys are returned most recently used first when the
+     * access time of the entries is known, in no particular order otherwise.
+     */
+    @Override
+    public List<K> hottestKeys(Cache<K,V> cache, int limit) {
+        List<K> keys = new ArrayList<>();
+        if (SegmentedCache.class.isInstance(cache)) {
+            Object segmentKey = ((SegmentedCache)cache).segmentKey;
+            if (accessTime != null) {
+                Map<CacheKey, V> backingCacheAsMap = backingCache.asMap();
+                List<CacheKey> segmentKeys;
+                // iterating over the synchronized multimap requires holding its lock
+                synchronized (segmentIndex) {
+                    segmentKeys = new ArrayList<>(segmentIndex.get(segmentKey));
+                }
+                List<Map.Entry<K, Long>> accessTimes = new ArrayList<>(segmentKeys.size());
+                for (CacheKey key : segmentKeys) {
+                    V value = backingCacheAsMap.get(key);
+                    if (value != null) {
+                        accessTimes.add(Map.entry((K) key.cacheKey, accessTime.applyAsLong(value)));
+                    }
+                }
+                // nanoTime values can only be compared by their difference
+                accessTimes.sort((first, second) -> Long.signum(second.getValue() - first.getValue()));
+                for (int i = 0; i < accessTimes.size() && i < limit; i++) {
+                    keys.add(accessTimes.get(i).getKey());
+                }
+            } else {
+                // iterating over the synchronized multimap requires holding its lock
+                synchronized (segmentIndex) {
+                    for (CacheKey key : segmentIndex.get(segmentKey)) {
+                        if (keys.size() >= limit) {
+                            break;
+                        }
+                        keys.add((K) key.cacheKey);
+                    }
+                }
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public boolean replace(Cache<K,V> cache, K key, V oldValue, V newValue) {
+        if (SegmentedCache.class.isInstance(cache)) {
+            SegmentedCache segmentedCache = (SegmentedCache) cache;
+            // the key is only used for the lookup, the entry keeps its own key
+            CacheKey cacheKey = keyPool.get().fill(segmentedCache.segmentKey, key);
+            boolean replaced = backingCache.asMap().replace(cacheKey, oldValue, newValue);
+            if (replaced && segmentedCache.weight != null) {
+                segmentedCache.weight.replace(cacheKey, weigher.applyAsInt(newValue));
+            }
+            return replaced;
+        }
+        return false;
+    }
+
+    @Override
+    public long weight(Cache<K,V> cache) {
+        if (SegmentedCache.class.isInstance(cache)) {
+            SegmentWeight weight = ((SegmentedCache)cache).weight;
+            return weight != null ? weight.get() : 0L;
+        }
+        return 0L;
+    }
+
+    private final class SegmentedCache extends AbstractCache<K,V> {
+        private final Object segmentKey;
+        @Nullable private final SegmentWeight weight;
+
+        private SegmentedCache(Object segmentKey, @Nullable SegmentWeight weight) {
+            this.segmentKey = segmentKey;
+            this.weight = weight;
+        }
+
+        @Override
+        public V getIfPresent(@Nonnull Object key) {
+            return backingCache.getIfPresent(keyPool.get().fill(segmentKey, key));
+        }
+
+        @Override
+        public V get(@Nonnull K key, @Nonnull Callable<? extends V> valueLoader) throws ExecutionException {
+            CacheKey cacheKey = new CacheKey().fill(segmentKey, key);
+            V value = backingCache.get(cacheKey, weight == null ? valueLoader : () -> {
+                V loadedValue = valueLoader.call();
+                if (loadedValue != null) {
+                    weight.put(cacheKey, weigher.applyAsInt(loadedValue));
+                }
+                return loadedValue;
+            });
+            segmentIndex.put(segmentKey,cacheKey);
+            return value;
+        }
+
+        @Override
+        public void invalidate(@Nonnull Object key) {
+            CacheKey cacheKey = keyPool.get().fill(segmentKey, key);
+            backingCache.invalidate(cacheKey);
+            segmentIndex.remove(segmentKey,cacheKey);
+            if (weight != null) {
+                weight.remove(cacheKey);
+            }
+        }
+
+        @Override
+        public void put(@Nonnull K key, @Nonnull V value) {
+            CacheKey cacheKey = new CacheKey().fill(segmentKey, key);
+            // before the put, so an eviction by the put itself is not undone
+            if (weight != null) {
+                weight.put(cacheKey, weigher.applyAsInt(value));
+            }
+            backingCache.put(cacheKey,value);
+            segmentIndex.put(segmentKey,cacheKey);
+        }
+
+        @Nonnull
+        @Override
+        public ImmutableMap<K, V> getAllPresent(@Nonnull Iterable<?> keys) {
+            ImmutableMap.Builder<K,V> result = ImmutableMap.builder();
+            CacheKey pooledKey = keyPool.get();
+            for (Object key : keys) {
+                V value = backingCache.getIfPresent(pooledKey.fill(segmentKey, key));
+                if(value != null) {
+                    result.put((K) key, value);
+                }
+            }
+            return result.build();
+        }
+
+        @Override
+        public void putAll(Map<? extends K, ? extends V> m) {
+            m.forEach(this::put);
+        }
+
+        @Override
+        public void cleanUp() {
+            backingCache.cleanUp();
+        }
+
+        @Override
+        public long size() {
+            return segmentIndex.get(segmentKey).size();
+        }
+
+        @Override
+        public void invalidateAll(Iterable<?> keys) {
+            for (Object key : keys) {
+                invalidate(key);
+            }
+        }
+
+        @Override
+        public void invalidateAll() {
+            backingCache.invalidateAll(segmentIndex.removeAll(segmentKey));
+            if (weight != null) {
+                weight.clear();
+            }
+        }
+
+        @Nonnull
+        @Override
+        public CacheStats stats() {
+            return backingCache.stats();
+        }
+
+        /**
+         * Unlike most implementations, the returned map has no connection to the underlying cache.
+         */
+        @Override
+        public ConcurrentMap<K, V> asMap() {
+            // Getting the cache as a map here, so we don't skew the statistics
+            Map<CacheKey, V> backingCacheAsMap = backingCache.asMap();
+            Collection<CacheKey> cacheKeysForSegment;
+            // iterating over the synchronized multimap requires holding its lock
+            synchronized (segmentIndex) {
+                cacheKeysForSegment = new ArrayList<>(segmentIndex.get(segmentKey));
+            }
+            ConcurrentMap<K, V> result = new ConcurrentHashMap<>(cacheKeysForSegment.size());
+            for (CacheKey key : cacheKeysForSegment) {
+                V value = backingCacheAsMap.get(key);
+                if (value != null) {
+                    result.put((K) key.cacheKey, value);
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class CacheKey {
+        private Object segmentKey;
+        private Object cacheKey;
+        private int hashCode;
+
+        public CacheKey fill(Object segmentKey, Object cacheKey) {
+            this.segmentKey = segmentKey;
+            this.cacheKey = cacheKey;
+            this.hashCode = (segmentKey.hashCode() * 31) + cacheKey.hashCode();
+            return this;
+        }
+
+        public CacheKey copy() {
+            CacheKey copy = new CacheKey();
+            copy.segmentKey = this.segmentKey;
+            copy.cacheKey = this.cacheKey;
+            copy.hashCode = this.hashCode;
+            return copy;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+
+            CacheKey cacheKey1 = (CacheKey) o;
+
+            return cacheKey.equals(cacheKey1.cacheKey)
+                && segmentKey.equals(cacheKey1.segmentKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
+    private final class GlobalRemovalListener implements RemovalListener<CacheKey,V> {
+
+        @Override
+        public void onRemoval(RemovalNotification<CacheKey, V> notification) {
+            if (notification.getKey() != null) {
+                if (notification.wasEvicted()) {
+                    segmentIndex.remove(notification.getKey().segmentKey, notification.getKey());
+                    SegmentWeight weight = segmentWeights.get(notification.getKey().segmentKey);
+                    if (weight != null) {
+                        weight.remove(notification.getKey());
+                    }
+                    EvictionListener<V> evictionListener = evictionListeners.get(notification.getKey().segmentKey);
+                    // only notify when it was not evicted explicitly (when an entry was deleted)
+                    // otherwise the prePassivate will run
+                    if (evictionListener != null) {
+                        evictionListener.onEvicted(notification.getValue());
+                    }
+                }
+                if (logger.isDebugEnabled()) {
+                    logger.debug(
+                        "Removing [{}] from cache. Cause: [{}]",
+                        notification.getValue(),
+                        notification.getCause()
+                    );
+                }
+            }
+        }
+    }
+}
@@ -36,7 +36,37 @@ public final class NodeActorCacheManager extends CacheManager<ActorRef,Persisten
         long actorExpirationCheckPeriod,
         @Nullable MicrometerConfiguration micrometerConfiguration)
     {
-        super(maximumSize, micrometerConfiguration);
+        this(maximumSize, actorExpirationCheckPeriod, micrometerConfiguration, CacheImplementation.GUAVA);
+    }
+
+    public NodeActorCacheManager(
+        int maximumSize,
+        long actorExpirationCheckPeriod,
+        @Nullable MicrometerConfiguration micrometerConfiguration,
+        CacheImplementation cacheImplementation)
+    {
+        this(maximumSize, 0L, actorExpirationCheckPeriod, micrometerConfiguration, cacheImplementation);
+    }
+
+    /**
+     * @param maximumWeight the maximum number of bytes (estimated from the serialized state sizes) the cached actors
+     *                      can take up. If this is 0 or lower, {@code maximumSize} limits the number of cached actors
+     *                      instead
+     */
+    public NodeActorCacheManager(
+        int maximumSize,
+        long maximumWeight,
+        long actorExpirationCheckPeriod,
+        @Nullable MicrometerConfiguration micrometerConfiguration,
+        CacheImplementation cacheImplementation)
+    {
+        super(
+            maximumSize,
+            maximumWeight,
+            new PersistentActorWeigher<>(),
+            micrometerConfiguration,
+            cacheImplementation
+        );
         this.actorExpirationCheckPeriod = actorExpirationCheckPeriod <= 0
             ? -1
             : Math.max(actorExpirationCheckPeriod, 500);
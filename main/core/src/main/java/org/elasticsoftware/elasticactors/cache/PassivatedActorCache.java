@@ -0,0 +1,151 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.elasticsoftware.elasticactors.ShardKey;
+import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+import org.elasticsoftware.elasticactors.serialization.Deserializer;
+import org.elasticsoftware.elasticactors.serialization.Serializer;
+import org.elasticsoftware.elasticactors.state.PersistentActor;
+
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Second level cache for the actors that were evicted from the shard actor cache. It holds the serialized form of the
+ * recently passivated actors (optionally LZ4 compressed), bounded by the number of bytes held. Re-activating an actor
+ * that is still in this cache doesn't require a read from the {@link org.elasticsoftware.elasticactors.state.PersistentActorRepository}.
+ * <p>
+ * Entries are removed when they are read, as the actor will be in the shard actor cache again from then on.
+ */
+public final class PassivatedActorCache {
+
+    private static final LZ4Compressor lz4Compressor = LZ4Factory.fastestJavaInstance().fastCompressor();
+    private static final LZ4FastDecompressor lz4Decompressor = LZ4Factory.fastestJavaInstance().fastDecompressor();
+
+    private final Cache<CacheKey, Entry> cache;
+    private final Serializer<PersistentActor<ShardKey>, byte[]> serializer;
+    private final Deserializer<ByteBuffer, PersistentActor<ShardKey>> deserializer;
+    private final boolean compress;
+
+    public PassivatedActorCache(
+        long maximumWeight,
+        boolean compress,
+        Serializer<PersistentActor<ShardKey>, byte[]> serializer,
+        Deserializer<ByteBuffer, PersistentActor<ShardKey>> deserializer,
+        @Nullable MicrometerConfiguration micrometerConfiguration)
+    {
+        this.serializer = serializer;
+        this.deserializer = deserializer;
+        this.compress = compress;
+        Caffeine<CacheKey, Entry> builder = Caffeine.newBuilder()
+            .maximumWeight(maximumWeight)
+            .weigher((CacheKey key, Entry entry) -> entry.bytes.length);
+        if (micrometerConfiguration != null) {
+            builder.recordStats();
+            cache = CaffeineCacheMetrics.monitor(
+                micrometerConfiguration.getRegistry(),
+                builder.build(),
+                micrometerConfiguration.getComponentName(),
+                micrometerConfiguration.getTags()
+            );
+            Gauge.builder(
+                    micrometerConfiguration.getMetricPrefix() + "cache.weight",
+                    this,
+                    PassivatedActorCache::getWeight
+                )
+                .tags(micrometerConfiguration.getTags())
+                .tag("cache", micrometerConfiguration.getComponentName())
+                .description("The number of bytes held by the passivated actors in the cache")
+                .baseUnit(BaseUnits.BYTES)
+                .register(micrometerConfiguration.getRegistry());
+        } else {
+            cache = builder.build();
+        }
+    }
+
+    /**
+     * Stores the serialized form of a passivated actor. If {@code stillPassivated} returns false after the actor was
+     * stored, the actor was activated again in the meantime and the stored entry is removed again. This makes sure an
+     * entry can never be older than the actor that is active at that moment.
+     */
+    public void put(PersistentActor<ShardKey> persistentActor, BooleanSupplier stillPassivated)
+        throws IOException
+    {
+        byte[] serializedActor = serializer.serialize(persistentActor);
+        Entry entry = compress
+            ? new Entry(lz4Compressor.compress(serializedActor), serializedActor.length)
+            : new Entry(serializedActor, -1);
+        CacheKey key = new CacheKey(persistentActor.getKey(), persistentActor.getSelf().getActorId());
+        cache.put(key, entry);
+        if (!stillPassivated.getAsBoolean()) {
+            cache.asMap().remove(key, entry);
+        }
+    }
+
+    /**
+     * Removes the actor from this cache and returns it.
+     *
+     * @return the deserialized actor, or null if the actor is not in this cache
+     */
+    @Nullable
+    public PersistentActor<ShardKey> take(ShardKey shardKey, String actorId) throws IOException {
+        CacheKey key = new CacheKey(shardKey, actorId);
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null || !cache.asMap().remove(key, entry)) {
+            return null;
+        }
+        byte[] serializedActor = entry.uncompressedLength >= 0
+            ? lz4Decompressor.decompress(entry.bytes, entry.uncompressedLength)
+            : entry.bytes;
+        return deserializer.deserialize(ByteBuffer.wrap(serializedActor));
+    }
+
+    public void invalidate(ShardKey shardKey, String actorId) {
+        cache.invalidate(new CacheKey(shardKey, actorId));
+    }
+
+    /**
+     * Removes all actors of a shard, for instance when the shard is released to another node.
+     */
+    public void invalidateAll(ShardKey shardKey) {
+        cache.asMap().keySet().removeIf(key -> key.shardKey.equals(shardKey));
+    }
+
+    public long getWeight() {
+        return cache.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+    }
+
+    private record CacheKey(ShardKey shardKey, String actorId) {
+    }
+
+    private record Entry(byte[] bytes, int uncompressedLength) {
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cache;
+
+import org.elasticsoftware.elasticactors.state.PersistedState;
+import org.elasticsoftware.elasticactors.state.PersistentActor;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Weighs {@link PersistentActor}s for the actor caches by the size of their last serialized state, plus a fixed
+ * estimate for the actor itself. This is an approximation of the heap used by an actor: the deserialized state is
+ * assumed to take about as much memory as its serialized form. When the repository stores deltas, the last
+ * persisted form of the actor is kept in memory as well.
+ */
+final class PersistentActorWeigher<A extends PersistentActor<?>> implements ToIntFunction<A> {
+
+    static final int ENTRY_OVERHEAD = 512;
+
+    // re-weighing puts the actor in the cache again, so only do that when the state size changed significantly
+    private static final int MINIMUM_REWEIGH_DELTA = 256;
+
+    @Override
+    public int applyAsInt(A persistentActor) {
+        PersistedState persistedState = persistentActor.getPersistedState();
+        return ENTRY_OVERHEAD
+            + persistentActor.getSerializedStateSize()
+            + (persistedState != null ? persistedState.bytes().length : 0);
+    }
+
+    static boolean shouldReweigh(PersistentActor<?> persistentActor) {
+        int weighedStateSize = persistentActor.getWeighedStateSize();
+        int delta = Math.abs(persistentActor.getSerializedStateSize() - weighedStateSize);
+        return delta > Math.max(weighedStateSize >> 3, MINIMUM_REWEIGH_DELTA);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package org.elasticsoftware.elasticactors.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps track of the weight of every entry in a cache segment, as it was when the entry was put, and of their sum. This
+ * way the weight of a segment can be reported without walking over all of its entries.
+ */
+final class SegmentWeight {
+
+    private final ConcurrentMap<Object, Integer> weights = new ConcurrentHashMap<>();
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * @param key must not be a pooled key, as it is kept
+     */
+    void put(Object key, int weight) {
+        Integer previous = weights.put(key, weight);
+        total.add(previous != null ? weight - previous : weight);
+    }
+
+    /**
+     * Only updates the weight of a key that is still present, so the key may be a pooled one
+     */
+    void replace(Object key, int weight) {
+        int[] difference = new int[1];
+        weights.computeIfPresent(key, (existingKey, previous) -> {
+            difference[0] = weight - previous;
+            return weight;
+        });
+        total.add(difference[0]);
+    }
+
+    void remove(Object key) {
+        Integer previous = weights.remove(key);
+        if (previous != null) {
+            total.add(-previous);
+        }
+    }
+
+    void clear() {
+        for (Object key : weights.keySet()) {
+            remove(key);
+        }
+    }
+
+    long get() {
+        return total.sum();
+    }
+}
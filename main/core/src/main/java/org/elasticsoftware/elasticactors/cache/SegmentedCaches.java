@@ -0,0 +1,52 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cache;
+
+import com.google.common.cache.Cache;
+
+import java.util.List;
+
+/**
+ * Hands out the segments of the single cache that backs a {@link CacheManager}.
+ */
+interface SegmentedCaches<K,V> {
+
+    Cache<K,V> create(Object segmentKey, EvictionListener<V> evictionListener);
+
+    void destroy(Cache<K,V> cache);
+
+    /**
+     * @return at most {@code limit} keys of the given segment, the ones most likely to be used again first if the
+     * implementation can tell
+     */
+    List<K> hottestKeys(Cache<K,V> cache, int limit);
+
+    /**
+     * Atomically replaces the value of the given key, but only if it is still mapped to {@code oldValue}. The
+     * entry is weighed again.
+     *
+     * @return true if the value was replaced
+     */
+    boolean replace(Cache<K,V> cache, K key, V oldValue, V newValue);
+
+    /**
+     * @return the sum of the weights of the entries in the given segment, as they were when the entries were put, or
+     * 0 when the entries are not weighed
+     */
+    long weight(Cache<K,V> cache);
+}
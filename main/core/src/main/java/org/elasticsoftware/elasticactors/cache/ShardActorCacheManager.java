@@ -17,6 +17,7 @@
 
 package org.elasticsoftware.elasticactors.cache;
 
+import com.google.common.cache.Cache;
 import org.elasticsoftware.elasticactors.ActorRef;
 import org.elasticsoftware.elasticactors.ShardKey;
 import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
@@ -28,8 +29,127 @@ import jakarta.annotation.Nullable;
  * @author Joost van de Wijgerd
  */
 public final class ShardActorCacheManager extends CacheManager<ActorRef,PersistentActor<ShardKey>> {
+
+    @Nullable private final PassivatedActorCache passivatedActorCache;
+    private final int handoffSize;
+    private final int prefetchConcurrency;
+    private final boolean tracksAccessTime;
+
     public ShardActorCacheManager(int maximumSize, @Nullable
         MicrometerConfiguration micrometerConfiguration) {
-        super(maximumSize, micrometerConfiguration);
+        this(maximumSize, micrometerConfiguration, CacheImplementation.GUAVA);
+    }
+
+    public ShardActorCacheManager(
+        int maximumSize,
+        @Nullable MicrometerConfiguration micrometerConfiguration,
+        CacheImplementation cacheImplementation)
+    {
+        this(maximumSize, 0L, micrometerConfiguration, cacheImplementation);
+    }
+
+    /**
+     * @param maximumWeight the maximum number of bytes (estimated from the serialized state sizes) the cached actors
+     *                      can take up. If this is 0 or lower, {@code maximumSize} limits the number of cached actors
+     *                      instead
+     */
+    public ShardActorCacheManager(
+        int maximumSize,
+        long maximumWeight,
+        @Nullable MicrometerConfiguration micrometerConfiguration,
+        CacheImplementation cacheImplementation)
+    {
+        this(maximumSize, maximumWeight, micrometerConfiguration, cacheImplementation, null);
+    }
+
+    /**
+     * @param passivatedActorCache optional second level cache that holds the actors evicted from the caches created
+     *                             by this manager
+     */
+    public ShardActorCacheManager(
+        int maximumSize,
+        long maximumWeight,
+        @Nullable MicrometerConfiguration micrometerConfiguration,
+        CacheImplementation cacheImplementation,
+        @Nullable PassivatedActorCache passivatedActorCache)
+    {
+        this(
+            maximumSize,
+            maximumWeight,
+            micrometerConfiguration,
+            cacheImplementation,
+            passivatedActorCache,
+            0,
+            1
+        );
+    }
+
+    /**
+     * @param handoffSize         the maximum number of hot actor ids a shard passes on to its next owner when it's
+     *                            released, 0 disables the handoff
+     * @param prefetchConcurrency the maximum number of actors a shard loads at the same time when prefetching the
+     *                            actors handed off by the previous owner
+     */
+    public ShardActorCacheManager(
+        int maximumSize,
+        long maximumWeight,
+        @Nullable MicrometerConfiguration micrometerConfiguration,
+        CacheImplementation cacheImplementation,
+        @Nullable PassivatedActorCache passivatedActorCache,
+        int handoffSize,
+        int prefetchConcurrency)
+    {
+        super(
+            maximumSize,
+            maximumWeight,
+            new PersistentActorWeigher<>(),
+            PersistentActor::getLastAccessTime,
+            micrometerConfiguration,
+            cacheImplementation
+        );
+        // only needed to select the actors to hand off, Caffeine knows which entries are used the most by itself
+        this.tracksAccessTime = handoffSize > 0 && cacheImplementation == CacheImplementation.GUAVA;
+        this.passivatedActorCache = passivatedActorCache;
+        this.handoffSize = Math.max(handoffSize, 0);
+        this.prefetchConcurrency = Math.max(prefetchConcurrency, 1);
+    }
+
+    @Nullable
+    public PassivatedActorCache getPassivatedActorCache() {
+        return passivatedActorCache;
+    }
+
+    public int getHandoffSize() {
+        return handoffSize;
+    }
+
+    public int getPrefetchConcurrency() {
+        return prefetchConcurrency;
+    }
+
+    /**
+     * Records that a message is dispatched to the given actor, so the actors that are handed off when a shard is
+     * released can be ordered by their last use.
+     */
+    public void recordAccess(PersistentActor<ShardKey> actor) {
+        if (tracksAccessTime) {
+            actor.setLastAccessTime(System.nanoTime());
+        }
+    }
+
+    /**
+     * The weight of a cached actor is determined when it's put in the cache. This replaces the actor in the given
+     * cache with itself if the size of its serialized state has changed significantly since then, so it is weighed
+     * again. An actor that was evicted or invalidated in the meantime is not put back.
+     */
+    public void reweighIfNeeded(
+        Cache<ActorRef, PersistentActor<ShardKey>> cache,
+        ActorRef actorRef,
+        PersistentActor<ShardKey> actor)
+    {
+        if (isWeighted() && PersistentActorWeigher.shouldReweigh(actor)) {
+            actor.setWeighedStateSize(actor.getSerializedStateSize());
+            replace(cache, actorRef, actor, actor);
+        }
     }
 }
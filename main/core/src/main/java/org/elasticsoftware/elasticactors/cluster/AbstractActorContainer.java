@@ -114,6 +114,14 @@ public abstract class AbstractActorContainer implements ActorContainer, MessageH
         sendMessage(from, ImmutableList.of(to), message);
     }
 
+    /**
+     * @return the name of the queue that consumes the messages for the given receiver, which the messaging layers
+     * also use as the key of the tasks that handle its messages
+     */
+    protected final String getQueueName(ActorRef receiverRef) {
+        return messageQueueProxy.getQueueName(receiverRef);
+    }
+
     @Override
     public final void offerInternalMessage(InternalMessage message) {
         messageQueueProxy.offerInternalMessage(message);
@@ -22,6 +22,7 @@ import org.elasticsoftware.elasticactors.ActorRef;
 import org.elasticsoftware.elasticactors.ActorShard;
 import org.elasticsoftware.elasticactors.ActorSystem;
 
+import jakarta.annotation.Nullable;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static java.lang.String.format;
@@ -54,22 +55,35 @@ public class ActorRefTools {
             String actorId = (nextIndex == -1) ? null : refSpec.substring(nextIndex + 1);
             actorSeparatorIndex = (nextIndex == -1) ? actorSeparatorIndex : nextIndex;
             String[] components = (actorId == null) ? refSpec.substring(8).split("/") : refSpec.substring(8, actorSeparatorIndex).split("/");
+            return create(components, actorId);
+        } else {
+            throw new IllegalArgumentException(format(EXCEPTION_FORMAT, refSpec));
+        }
 
-            String clusterName = components[0];
-            if (actorSystems.getClusterName().equals(clusterName)) {
-                return handleLocalActorSystemReference(refSpec, components, actorId);
-            } else {
-                return handleRemoteActorSystemReference(refSpec, components, actorId);
-            }
+    }
 
+    /**
+     * Creates the ActorRef from the parts of its ref spec, see {@link ActorRefFactory#create(String, String, String, String, String)}
+     */
+    public final ActorRef create(String clusterName, String actorSystemName, String type, String id, @Nullable String actorId) {
+        return create(new String[] {clusterName, actorSystemName, type, id}, actorId);
+    }
 
+    private ActorRef create(String[] components, @Nullable String actorId) {
+        String clusterName = components[0];
+        if (actorSystems.getClusterName().equals(clusterName)) {
+            return handleLocalActorSystemReference(components, actorId);
         } else {
-            throw new IllegalArgumentException(format(EXCEPTION_FORMAT, refSpec));
+            return handleRemoteActorSystemReference(components, actorId);
         }
+    }
 
+    private static String toRefSpec(String[] components, @Nullable String actorId) {
+        String refSpec = "actor://" + String.join("/", components);
+        return actorId != null ? refSpec + "/" + actorId : refSpec;
     }
 
-    private ActorRef handleLocalActorSystemReference(String refSpec, String[] components, String actorId) {
+    private ActorRef handleLocalActorSystemReference(String[] components, String actorId) {
         String actorSystemName = components[1];
         InternalActorSystem actorSystem = actorSystems.get(actorSystemName);
         if (actorSystem == null) {
@@ -82,7 +96,7 @@ public class ActorRefTools {
         } else if ("services".equals(components[2])) {
             return handleService(components, actorId);
         } else {
-            throw new IllegalArgumentException(format(EXCEPTION_FORMAT, refSpec));
+            throw new IllegalArgumentException(format(EXCEPTION_FORMAT, toRefSpec(components, actorId)));
         }
     }
 
@@ -123,7 +137,7 @@ public class ActorRefTools {
         }
     }
 
-    private ActorRef handleRemoteActorSystemReference(String refSpec, String[] components, String actorId) {
+    private ActorRef handleRemoteActorSystemReference(String[] components, String actorId) {
         if ("shards".equals(components[2])) {
             return handleRemoteShard(components, actorId);
         } else if ("nodes".equals(components[2])) {
@@ -131,7 +145,7 @@ public class ActorRefTools {
         } else if ("services".equals(components[2])) {
             return handleRemoteService(components, actorId);
         } else {
-            throw new IllegalArgumentException(format(EXCEPTION_FORMAT, refSpec));
+            throw new IllegalArgumentException(format(EXCEPTION_FORMAT, toRefSpec(components, actorId)));
         }
     }
 
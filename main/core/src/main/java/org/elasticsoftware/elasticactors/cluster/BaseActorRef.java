@@ -27,7 +27,7 @@ import org.elasticsoftware.elasticactors.core.actors.SubscriberActor;
 import org.elasticsoftware.elasticactors.core.actors.SubscriberState;
 import org.elasticsoftware.elasticactors.messaging.reactivestreams.SubscribeMessage;
 import org.elasticsoftware.elasticactors.reactivestreams.PersistentSubscriptionImpl;
-import org.elasticsoftware.elasticactors.serialization.Message;
+import org.elasticsoftware.elasticactors.serialization.MessageMetadata;
 import org.reactivestreams.Publisher;
 
 import jakarta.annotation.Nullable;
@@ -73,7 +73,7 @@ public abstract class BaseActorRef implements ActorRef {
 
     @Override
     public <T> Publisher<T> publisherOf(Class<T> messageClass) {
-        if(messageClass.getAnnotation(Message.class) == null) {
+        if(!MessageMetadata.get(messageClass).isMessage()) {
             throw new IllegalArgumentException("messageClass needs to be annotated with @Message");
         }
         final String messageName = messageClass.getName();
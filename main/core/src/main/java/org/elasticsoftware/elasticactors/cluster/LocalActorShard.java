@@ -19,7 +19,6 @@ package org.elasticsoftware.elasticactors.cluster;
 
 import com.google.common.cache.Cache;
 import com.google.common.collect.ImmutableList;
-import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.elasticsoftware.elasticactors.ActorNode;
 import org.elasticsoftware.elasticactors.ActorRef;
 import org.elasticsoftware.elasticactors.ActorShard;
@@ -27,13 +26,16 @@ import org.elasticsoftware.elasticactors.ElasticActor;
 import org.elasticsoftware.elasticactors.PhysicalNode;
 import org.elasticsoftware.elasticactors.ShardKey;
 import org.elasticsoftware.elasticactors.cache.EvictionListener;
+import org.elasticsoftware.elasticactors.cache.PassivatedActorCache;
 import org.elasticsoftware.elasticactors.cache.ShardActorCacheManager;
 import org.elasticsoftware.elasticactors.cluster.logging.LoggingSettings;
 import org.elasticsoftware.elasticactors.cluster.metrics.MetricsSettings;
 import org.elasticsoftware.elasticactors.cluster.scheduler.ScheduledMessageKey;
 import org.elasticsoftware.elasticactors.cluster.tasks.ActivateActorTask;
+import org.elasticsoftware.elasticactors.cluster.tasks.ActorLifecycleTask;
 import org.elasticsoftware.elasticactors.cluster.tasks.CreateActorTask;
 import org.elasticsoftware.elasticactors.cluster.tasks.DestroyActorTask;
+import org.elasticsoftware.elasticactors.cluster.tasks.MessageBatchTask;
 import org.elasticsoftware.elasticactors.cluster.tasks.PassivateActorTask;
 import org.elasticsoftware.elasticactors.cluster.tasks.PersistActorTask;
 import org.elasticsoftware.elasticactors.messaging.InternalMessage;
@@ -46,18 +48,30 @@ import org.elasticsoftware.elasticactors.messaging.internal.CancelScheduledMessa
 import org.elasticsoftware.elasticactors.messaging.internal.CreateActorMessage;
 import org.elasticsoftware.elasticactors.messaging.internal.DestroyActorMessage;
 import org.elasticsoftware.elasticactors.messaging.internal.PersistActorMessage;
+import org.elasticsoftware.elasticactors.state.ActorExistenceFilter;
+import org.elasticsoftware.elasticactors.state.ActorExistenceFilterFactory;
 import org.elasticsoftware.elasticactors.state.ActorStateUpdateProcessor;
 import org.elasticsoftware.elasticactors.state.PersistentActor;
 import org.elasticsoftware.elasticactors.state.PersistentActorRepository;
 import org.elasticsoftware.elasticactors.util.ManifestTools;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.EmptyResultDataAccessException;
 
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.elasticsoftware.elasticactors.cluster.tasks.ProtocolFactoryFactory.getProtocolFactory;
 import static org.elasticsoftware.elasticactors.util.ClassLoadingHelper.getClassHelper;
@@ -75,12 +89,23 @@ public final class LocalActorShard extends AbstractActorContainer implements Act
     private final InternalActorSystem actorSystem;
     private final ShardKey shardKey;
     private final ThreadBoundExecutor actorExecutor;
+    // runs the work that follows an asynchronous load, so it doesn't run on the I/O threads of the repository
+    private final ThreadBoundExecutor queueExecutor;
     private Cache<ActorRef,PersistentActor<ShardKey>> actorCache;
     private final PersistentActorRepository persistentActorRepository;
     private final ActorStateUpdateProcessor actorStateUpdateProcessor;
     private final ShardActorCacheManager actorCacheManager;
+    @Nullable private final PassivatedActorCache passivatedActorCache;
+    private final ActorExistenceFilterFactory actorExistenceFilterFactory;
     private final MetricsSettings metricsSettings;
     private final LoggingSettings loggingSettings;
+    // batches for actors annotated with @MessageBatching that have not started running yet
+    private final ConcurrentMap<ActorRef, MessageBatchTask> openBatches = new ConcurrentHashMap<>();
+    // actors that are being loaded from the repository, with the messages waiting for them
+    private final ConcurrentMap<ActorRef, PendingActivation> pendingActivations = new ConcurrentHashMap<>();
+    private volatile boolean destroyed;
+    private volatile List<String> hotActorIds = Collections.emptyList();
+    @Nullable private volatile ActorExistenceFilter actorExistenceFilter;
 
     public LocalActorShard(
         PhysicalNode node,
@@ -89,9 +114,11 @@ public final class LocalActorShard extends AbstractActorContainer implements Act
         ActorRef myRef,
         MessageQueueFactory messageQueueFactory,
         ThreadBoundExecutor actorExecutor,
+        ThreadBoundExecutor queueExecutor,
         PersistentActorRepository persistentActorRepository,
         ActorStateUpdateProcessor actorStateUpdateProcessor,
         ShardActorCacheManager actorCacheManager,
+        ActorExistenceFilterFactory actorExistenceFilterFactory,
         MetricsSettings metricsSettings,
         LoggingSettings loggingSettings)
     {
@@ -104,9 +131,12 @@ public final class LocalActorShard extends AbstractActorContainer implements Act
         );
         this.actorSystem = actorSystem;
         this.actorExecutor = actorExecutor;
+        this.queueExecutor = queueExecutor;
         this.persistentActorRepository = persistentActorRepository;
         this.actorStateUpdateProcessor = actorStateUpdateProcessor;
         this.actorCacheManager = actorCacheManager;
+        this.passivatedActorCache = actorCacheManager.getPassivatedActorCache();
+        this.actorExistenceFilterFactory = actorExistenceFilterFactory;
         this.metricsSettings = metricsSettings;
         this.loggingSettings = loggingSettings;
         this.shardKey = new ShardKey(actorSystem.getName(), shard);
@@ -130,7 +160,17 @@ public final class LocalActorShard extends AbstractActorContainer implements Act
     public void destroy() {
         logger.info("Destroying Local Actor Shard [{}]", shardKey);
         super.destroy();
+        destroyed = true;
+        // remember the hot actors before the cache is gone, so they can be handed off to the next owner
+        if (actorCacheManager.getHandoffSize() > 0) {
+            hotActorIds = collectHotActorIds(actorCacheManager.getHandoffSize());
+        }
         actorCacheManager.destroy(actorCache);
+        closeExistenceFilter();
+        // the shard might be owned by another node from now on
+        if (passivatedActorCache != null) {
+            passivatedActorCache.invalidateAll(shardKey);
+        }
     }
 
     @Override
@@ -138,6 +178,124 @@ public final class LocalActorShard extends AbstractActorContainer implements Act
         return getPhysicalNode();
     }
 
+    /**
+     * The existence filter is only built once the previous owner has released the shard. Before that, updates of
+     * the previous owner might still be missing from the repository, and a create for an actor that is missing from
+     * the filter would overwrite it.
+     */
+    @Override
+    public synchronized void handoffCompleted() {
+        if (!destroyed && actorExistenceFilter == null) {
+            this.actorExistenceFilter = actorExistenceFilterFactory.create(shardKey, persistentActorRepository);
+        }
+    }
+
+    private synchronized void closeExistenceFilter() {
+        if (actorExistenceFilter != null) {
+            actorExistenceFilter.close();
+            actorExistenceFilter = null;
+        }
+    }
+
+    /**
+     * Only available after the shard was destroyed, as that is when it's handed off to the next owner.
+     */
+    @Override
+    public List<String> getHotActorIds() {
+        return hotActorIds;
+    }
+
+    @Override
+    public void prefetch(List<String> actorIds) {
+        if (actorIds.isEmpty()) {
+            return;
+        }
+        logger.info("Prefetching {} actors for Local Actor Shard [{}]", actorIds.size(), shardKey);
+        AtomicInteger nextActor = new AtomicInteger();
+        // this is called while the shard is handed off, so even starting the loads happens on the queue threads
+        Executor shardQueueThread = queueThreadOf(myRef);
+        for (int i = 0; i < actorCacheManager.getPrefetchConcurrency(); i++) {
+            shardQueueThread.execute(() -> prefetchNext(actorIds, nextActor));
+        }
+    }
+
+    private List<String> collectHotActorIds(int limit) {
+        List<String> actorIds = new ArrayList<>();
+        for (ActorRef actorRef : actorCacheManager.hottestKeys(actorCache, limit)) {
+            // don't bother the next owner with destroyed actors
+            if (actorCache.getIfPresent(actorRef) != TOMBSTONE) {
+                actorIds.add(actorRef.getActorId());
+            }
+        }
+        return actorIds;
+    }
+
+    /**
+     * Starts loading the next actor that isn't loaded already. The activation is completed on the queue thread of
+     * that actor, which then calls this again, so at most one actor is being loaded for each call made by
+     * {@link #prefetch(List)}.
+     */
+    private void prefetchNext(List<String> actorIds, AtomicInteger nextActor) {
+        int index;
+        while (!destroyed && (index = nextActor.getAndIncrement()) < actorIds.size()) {
+            ActorRef actorRef = new ActorShardRef(
+                myRef.getActorCluster(),
+                this,
+                actorIds.get(index),
+                actorSystem
+            );
+            if (actorCache.getIfPresent(actorRef) != null) {
+                continue;
+            }
+            PendingActivation pendingActivation = new PendingActivation();
+            if (pendingActivations.putIfAbsent(actorRef, pendingActivation) != null) {
+                // a message for the actor arrived first
+                continue;
+            }
+            PersistentActor<ShardKey> passivatedActor = takePassivatedActor(actorRef);
+            CompletableFuture<PersistentActor<ShardKey>> loadedActor = passivatedActor != null
+                ? CompletableFuture.completedFuture(passivatedActor)
+                : loadActorAsync(actorRef);
+            loadedActor.whenCompleteAsync((actor, throwable) -> {
+                completePrefetch(actorRef, pendingActivation, loadedActor);
+                prefetchNext(actorIds, nextActor);
+            }, queueThreadOf(actorRef));
+            return;
+        }
+    }
+
+    /**
+     * @return an executor that runs tasks on the queue thread that handles the messages for the given actor
+     */
+    private Executor queueThreadOf(ActorRef actorRef) {
+        String queueName = getQueueName(actorRef);
+        return command -> queueExecutor.execute(new ShardTask(queueName, command));
+    }
+
+    private CompletableFuture<PersistentActor<ShardKey>> loadActorAsync(ActorRef actorRef) {
+        try {
+            return persistentActorRepository.getAsync(shardKey, actorRef.getActorId());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void completePrefetch(
+        ActorRef actorRef,
+        PendingActivation pendingActivation,
+        CompletableFuture<PersistentActor<ShardKey>> loadedActor)
+    {
+        PersistentActor<ShardKey> actor = null;
+        Throwable throwable = null;
+        try {
+            actor = loadedActor.join();
+        } catch (Exception e) {
+            throwable = e;
+            logger.warn("Exception while prefetching actor [{}]", actorRef, e);
+        }
+        completeActivation(actorRef, pendingActivation, actor, throwable);
+    }
+
     @Override
     public ShardKey getKey() {
         return shardKey;
@@ -147,9 +305,15 @@ public final class LocalActorShard extends AbstractActorContainer implements Act
     public void onEvicted(PersistentActor<ShardKey> value) {
         // see if it is not a tombstone that gets evicted
         if(!(TOMBSTONE == value)) {
+            // messages for a reloaded instance of the actor must not end up in the batch of this one
+            closeBatch(value.getSelf());
             ElasticActor actorInstance = actorSystem.getActorInstance(value.getSelf(), value.getActorClass());
             actorExecutor.execute(new PassivateActorTask(actorStateUpdateProcessor, persistentActorRepository, value,
                     actorSystem, actorInstance, value.getSelf()));
+            if (passivatedActorCache != null) {
+                // runs after the passivation, on the same thread
+                actorExecutor.execute(new CachePassivatedActorTask(value));
+            }
         } else {
             logger.debug("Evicted [{}] of type [{}]", value.getSelf(), value.getActorClass());
         }
@@ -188,164 +352,359 @@ public final class LocalActorShard extends AbstractActorContainer implements Act
         }
         for (ActorRef receiverRef : internalMessage.getReceivers()) {
             if (receiverRef.getActorId() != null) {
-                try {
-                    // load persistent actor from cache or persistent store
-                    PersistentActor<ShardKey> actor = loadActorFromCache(receiverRef);
-                    // see if we don't have a recently destroyed actor
-                    if (TOMBSTONE == actor) {
-                        try {
-                            handleUndeliverable(internalMessage, receiverRef, messageHandlerEventListener);
-                        } catch (Exception ex) {
-                            logger.error("Exception while sending message undeliverable", ex);
-                        }
-                    } else {
-                        // find actor class behind receiver ActorRef
-                        ElasticActor actorInstance = actorSystem.getActorInstance(receiverRef, actor.getActorClass());
-                        // execute on its own thread
-                        if (internalMessage.isUndeliverable()) {
-                            actorExecutor.execute(getProtocolFactory(internalMessage)
-                                .createHandleUndeliverableMessageTask(
-                                    actorSystem,
-                                    actorInstance,
-                                    receiverRef,
-                                    internalMessage,
-                                    actor,
-                                    persistentActorRepository,
-                                    messageHandlerEventListener,
-                                    metricsSettings,
-                                    loggingSettings
-                                ));
+                handleActorMessage(internalMessage, receiverRef, messageHandlerEventListener);
+            } else {
+                handleShardMessage(internalMessage, null, messageHandlerEventListener, true);
+            }
+        }
+    }
+
+    /**
+     * Handles a message for the shard itself. Messages about an actor that is still being loaded are parked until
+     * the activation completes, so they are handled in order with the messages for that actor.
+     *
+     * @param message the deserialized message, or {@code null} when it still needs to be deserialized
+     * @param parkIfActivating whether to park the message when the actor it is about is being loaded
+     */
+    private void handleShardMessage(
+        InternalMessage internalMessage,
+        @Nullable Object message,
+        MessageHandlerEventListener messageHandlerEventListener,
+        boolean parkIfActivating)
+    {
+        // the internalMessage is intended for the shard, this means it's about creating or destroying an actor
+        // or cancelling a scheduled message which will piggyback on the ActorShard messaging layer
+        // or forwarding a reply for a Temp- or ServiceActor from a remote system
+        // or a request to persist the state of an actor
+        try {
+            if (message == null) {
+                message = deserializeMessage(actorSystem, internalMessage);
+            }
+            // check if the actor exists
+            if (message instanceof CreateActorMessage) {
+                CreateActorMessage createActorMessage = (CreateActorMessage) message;
+                ActorRef actorRef = actorSystem.actorFor(createActorMessage.getActorId());
+                if (parkIfActivating
+                    && parkUntilActivated(actorRef, message, internalMessage, messageHandlerEventListener)) {
+                    return;
+                }
+                if (!actorExists(actorRef)) {
+                    createActor(
+                        actorRef,
+                        createActorMessage,
+                        internalMessage,
+                        messageHandlerEventListener
+                    );
+                } else {
+                    // we need to activate the actor since we need to run the postActivate logic
+                    activateActor(actorRef);
+                    // ack message anyway
+                    messageHandlerEventListener.onDone(internalMessage);
+                }
+            } else if (message instanceof DestroyActorMessage) {
+                DestroyActorMessage destroyActorMessage = (DestroyActorMessage) message;
+                if (parkIfActivating && parkUntilActivated(
+                    destroyActorMessage.getActorRef(),
+                    message,
+                    internalMessage,
+                    messageHandlerEventListener
+                )) {
+                    return;
+                }
+                if (actorExists(destroyActorMessage.getActorRef())) {
+                    destroyActor(destroyActorMessage, internalMessage, messageHandlerEventListener);
+                } else {
+                    // ack message anyway
+                    messageHandlerEventListener.onDone(internalMessage);
+                }
+            } else if (message instanceof CancelScheduledMessageMessage) {
+                CancelScheduledMessageMessage cancelMessage = (CancelScheduledMessageMessage) message;
+                actorSystem.getInternalScheduler().cancel(this.shardKey, new ScheduledMessageKey(cancelMessage.getMessageId(), cancelMessage.getFireTime()));
+                // ack the message
+                messageHandlerEventListener.onDone(internalMessage);
+            } else if(message instanceof ActorNodeMessage) {
+                if(!internalMessage.isUndeliverable()) {
+                    ActorNodeMessage actorNodeMessage = (ActorNodeMessage) message;
+                    ActorNode actorNode = actorSystem.getNode(actorNodeMessage.getNodeId());
+                    // can be null if the node is not active
+                    if (actorNode != null) {
+                        if(!actorNodeMessage.isUndeliverable()) {
+                            actorNode.sendMessage(internalMessage.getSender(), actorNodeMessage.getReceiverRef(), actorNodeMessage.getMessage());
                         } else {
-                            actorExecutor.execute(getProtocolFactory(internalMessage)
-                                .createHandleMessageTask(
-                                    actorSystem,
-                                    actorInstance,
-                                    receiverRef,
-                                    internalMessage,
-                                    actor,
-                                    persistentActorRepository,
-                                    actorStateUpdateProcessor,
-                                    messageHandlerEventListener,
-                                    metricsSettings,
-                                    loggingSettings
-                                ));
+                            // we need to recreate the InternalMessage first, otherwise the undeliverable logic
+                            // won't work
+                            InternalMessage originalMessage = InternalMessageFactory.create(
+                                actorNodeMessage.getReceiverRef(),
+                                internalMessage.getSender() != null
+                                    ? ImmutableList.of(internalMessage.getSender())
+                                    : ImmutableList.of(),
+                                actorSystem,
+                                actorNodeMessage.getMessage()
+                            );
+                            actorNode.undeliverableMessage(originalMessage, internalMessage.getSender());
                         }
+                    } else {
+                        // @todo: we currently don't handle message undeliverable for ActorNodeMessages
+                        logger.error("ActorNode with id [{}] is not reachable, discarding message of type [{}] from [{}] for [{}]",
+                                actorNodeMessage.getNodeId(), actorNodeMessage.getMessage().getClass().getName(), internalMessage.getSender(),
+                                actorNodeMessage.getReceiverRef());
+                    }
+                } else {
+                    // @todo: we currently don't handle message undeliverable for ActorNodeMessages
+                    logger.error("undeliverable ActorNodeMessages are currently not supported");
+                }
+                // ack
+                messageHandlerEventListener.onDone(internalMessage);
+            } else if(message instanceof PersistActorMessage) {
+                PersistActorMessage persistMessage = (PersistActorMessage) message;
+                if (parkIfActivating && parkUntilActivated(
+                    persistMessage.getActorRef(),
+                    message,
+                    internalMessage,
+                    messageHandlerEventListener
+                )) {
+                    return;
+                }
+                persistActor(persistMessage, internalMessage, messageHandlerEventListener);
+            } else {
+                // unknown internal message, just ack it (should not happen)
+                messageHandlerEventListener.onDone(internalMessage);
+            }
+        } catch (Exception e) {
+            // @todo: determine if this is a recoverable error case or just a programming error
+            messageHandlerEventListener.onError(internalMessage, e);
+            logger.error("Exception while handling InternalMessage for Shard [{}]; senderRef [{}], messageType [{}]", shardKey, internalMessage.getSender(), internalMessage.getPayloadClass(), e);
+        }
+    }
+
+    private boolean parkUntilActivated(
+        ActorRef actorRef,
+        Object message,
+        InternalMessage internalMessage,
+        MessageHandlerEventListener messageHandlerEventListener)
+    {
+        PendingActivation pendingActivation = pendingActivations.get(actorRef);
+        return pendingActivation != null
+            && pendingActivation.park(internalMessage, messageHandlerEventListener, message);
+    }
+
+    private void handleActorMessage(
+        InternalMessage internalMessage,
+        ActorRef receiverRef,
+        MessageHandlerEventListener messageHandlerEventListener)
+    {
+        try {
+            while (true) {
+                // messages need to wait for the actor if it's still being loaded
+                PendingActivation pendingActivation = pendingActivations.get(receiverRef);
+                if (pendingActivation != null
+                    && pendingActivation.park(internalMessage, messageHandlerEventListener)) {
+                    return;
+                }
+                PersistentActor<ShardKey> actor = actorCache.getIfPresent(receiverRef);
+                if (actor != null) {
+                    actorCacheManager.reweighIfNeeded(actorCache, receiverRef, actor);
+                    dispatchToActor(internalMessage, receiverRef, actor, messageHandlerEventListener);
+                    return;
+                }
+                // load the actor without blocking the other actors in this shard
+                PendingActivation newActivation =
+                    new PendingActivation(internalMessage, messageHandlerEventListener);
+                if (pendingActivations.putIfAbsent(receiverRef, newActivation) == null) {
+                    PersistentActor<ShardKey> passivatedActor = takePassivatedActor(receiverRef);
+                    if (passivatedActor != null) {
+                        completeActivation(receiverRef, newActivation, passivatedActor, null);
+                        return;
+                    }
+                    loadActorAsync(receiverRef).whenCompleteAsync(
+                        (loadedActor, throwable) ->
+                            completeActivation(receiverRef, newActivation, loadedActor, throwable),
+                        queueThreadOf(receiverRef)
+                    );
+                    return;
+                }
+                // somebody else started loading the actor in the meantime, try again
+            }
+        } catch (Exception e) {
+            logMessageHandlingException(internalMessage, receiverRef, messageHandlerEventListener, e);
+        }
+    }
+
+    private void completeActivation(
+        ActorRef receiverRef,
+        PendingActivation pendingActivation,
+        @Nullable PersistentActor<ShardKey> loadedActor,
+        @Nullable Throwable throwable)
+    {
+        synchronized (pendingActivation) {
+            try {
+                PersistentActor<ShardKey> actor = null;
+                if (throwable == null && loadedActor != null) {
+                    try {
+                        // this also activates the actor, unless somebody else put it in the cache already
+                        actor = loadActorFromCache(receiverRef, loadedActor);
+                    } catch (Exception e) {
+                        throwable = e;
                     }
-                } catch (UncheckedExecutionException e) {
-                    if (e.getCause() instanceof EmptyResultDataAccessException) {
+                }
+                // dispatch the parked messages in the order they were received
+                for (int i = 0; i < pendingActivation.messages.size(); i++) {
+                    InternalMessage internalMessage = pendingActivation.messages.get(i);
+                    MessageHandlerEventListener messageHandlerEventListener = pendingActivation.listeners.get(i);
+                    Object shardMessage = pendingActivation.shardMessages.get(i);
+                    if (shardMessage != null) {
+                        handleShardMessage(internalMessage, shardMessage, messageHandlerEventListener, false);
+                        // the actor might have been created or destroyed, the next messages need to see that
+                        PersistentActor<ShardKey> currentActor = actorCache.getIfPresent(receiverRef);
+                        if (currentActor != null) {
+                            actor = currentActor;
+                        }
+                    } else if (actor != null) {
+                        dispatchToActor(internalMessage, receiverRef, actor, messageHandlerEventListener);
+                    } else if (throwable == null) {
+                        // the actor doesn't exist
                         try {
                             handleUndeliverable(internalMessage, receiverRef, messageHandlerEventListener);
                         } catch (Exception ex) {
                             logger.error("Exception while sending message undeliverable", ex);
                         }
                     } else {
-                        messageHandlerEventListener.onError(internalMessage, e.getCause());
-                        logger.error("Exception while handling InternalMessage for Actor [{}]; senderRef [{}], messageType [{}]", receiverRef.getActorId(), internalMessage.getSender(), internalMessage.getPayloadClass(), e.getCause());
+                        logMessageHandlingException(
+                            internalMessage,
+                            receiverRef,
+                            messageHandlerEventListener,
+                            throwable instanceof CompletionException && throwable.getCause() != null
+                                ? throwable.getCause()
+                                : throwable
+                        );
                     }
-                } catch (Exception e) {
-                    //@todo: let the sender know his message could not be delivered
-                    // we ack the message anyway
-                    messageHandlerEventListener.onError(internalMessage, e);
-                    logger.error(
-                        "Exception while handling InternalMessage for Actor [{}]; senderRef [{}],"
-                            + " messageType [{}]",
-                        receiverRef.getActorId(),
-                        internalMessage.getSender(),
-                        internalMessage.getPayloadClass(),
-                        e
-                    );
                 }
-            } else {
-                // the internalMessage is intended for the shard, this means it's about creating or destroying an actor
-                // or cancelling a scheduled message which will piggyback on the ActorShard messaging layer
-                // or forwarding a reply for a Temp- or ServiceActor from a remote system
-                // or a request to persist the state of an actor
+            } finally {
+                pendingActivation.completed = true;
+                pendingActivations.remove(receiverRef, pendingActivation);
+            }
+        }
+    }
+
+    private void dispatchToActor(
+        InternalMessage internalMessage,
+        ActorRef receiverRef,
+        PersistentActor<ShardKey> actor,
+        MessageHandlerEventListener messageHandlerEventListener)
+    {
+        try {
+            // see if we don't have a recently destroyed actor
+            if (TOMBSTONE == actor) {
                 try {
-                    Object message = deserializeMessage(actorSystem, internalMessage);
-                    // check if the actor exists
-                    if (message instanceof CreateActorMessage) {
-                        CreateActorMessage createActorMessage = (CreateActorMessage) message;
-                        ActorRef actorRef = actorSystem.actorFor(createActorMessage.getActorId());
-                        if (!actorExists(actorRef)) {
-                            createActor(
-                                actorRef,
-                                createActorMessage,
-                                internalMessage,
-                                messageHandlerEventListener
-                            );
-                        } else {
-                            // we need to activate the actor since we need to run the postActivate logic
-                            activateActor(actorRef);
-                            // ack message anyway
-                            messageHandlerEventListener.onDone(internalMessage);
-                        }
-                    } else if (message instanceof DestroyActorMessage) {
-                        DestroyActorMessage destroyActorMessage = (DestroyActorMessage) message;
-                        if (actorExists(destroyActorMessage.getActorRef())) {
-                            destroyActor(destroyActorMessage, internalMessage, messageHandlerEventListener);
-                        } else {
-                            // ack message anyway
-                            messageHandlerEventListener.onDone(internalMessage);
-                        }
-                    } else if (message instanceof CancelScheduledMessageMessage) {
-                        CancelScheduledMessageMessage cancelMessage = (CancelScheduledMessageMessage) message;
-                        actorSystem.getInternalScheduler().cancel(this.shardKey, new ScheduledMessageKey(cancelMessage.getMessageId(), cancelMessage.getFireTime()));
-                        // ack the message
-                        messageHandlerEventListener.onDone(internalMessage);
-                    } else if(message instanceof ActorNodeMessage) {
-                        if(!internalMessage.isUndeliverable()) {
-                            ActorNodeMessage actorNodeMessage = (ActorNodeMessage) message;
-                            ActorNode actorNode = actorSystem.getNode(actorNodeMessage.getNodeId());
-                            // can be null if the node is not active
-                            if (actorNode != null) {
-                                if(!actorNodeMessage.isUndeliverable()) {
-                                    actorNode.sendMessage(internalMessage.getSender(), actorNodeMessage.getReceiverRef(), actorNodeMessage.getMessage());
-                                } else {
-                                    // we need to recreate the InternalMessage first, otherwise the undeliverable logic
-                                    // won't work
-                                    InternalMessage originalMessage = InternalMessageFactory.create(
-                                        actorNodeMessage.getReceiverRef(),
-                                        internalMessage.getSender() != null
-                                            ? ImmutableList.of(internalMessage.getSender())
-                                            : ImmutableList.of(),
-                                        actorSystem,
-                                        actorNodeMessage.getMessage()
-                                    );
-                                    actorNode.undeliverableMessage(originalMessage, internalMessage.getSender());
-                                }
-                            } else {
-                                // @todo: we currently don't handle message undeliverable for ActorNodeMessages
-                                logger.error("ActorNode with id [{}] is not reachable, discarding message of type [{}] from [{}] for [{}]",
-                                        actorNodeMessage.getNodeId(), actorNodeMessage.getMessage().getClass().getName(), internalMessage.getSender(),
-                                        actorNodeMessage.getReceiverRef());
-                            }
-                        } else {
-                            // @todo: we currently don't handle message undeliverable for ActorNodeMessages
-                            logger.error("undeliverable ActorNodeMessages are currently not supported");
-                        }
-                        // ack
-                        messageHandlerEventListener.onDone(internalMessage);
-                    } else if(message instanceof PersistActorMessage) {
-                        PersistActorMessage persistMessage = (PersistActorMessage) message;
-                        persistActor(persistMessage, internalMessage, messageHandlerEventListener);
+                    handleUndeliverable(internalMessage, receiverRef, messageHandlerEventListener);
+                } catch (Exception ex) {
+                    logger.error("Exception while sending message undeliverable", ex);
+                }
+            } else {
+                actorCacheManager.recordAccess(actor);
+                // find actor class behind receiver ActorRef
+                ElasticActor actorInstance = actorSystem.getActorInstance(receiverRef, actor.getActorClass());
+                // execute on its own thread
+                if (internalMessage.isUndeliverable()) {
+                    closeBatch(receiverRef);
+                    actorExecutor.execute(getProtocolFactory(internalMessage)
+                        .createHandleUndeliverableMessageTask(
+                            actorSystem,
+                            actorInstance,
+                            receiverRef,
+                            internalMessage,
+                            actor,
+                            persistentActorRepository,
+                            messageHandlerEventListener,
+                            metricsSettings,
+                            loggingSettings
+                        ));
+                } else {
+                    ActorLifecycleTask handleMessageTask = getProtocolFactory(internalMessage)
+                        .createHandleMessageTask(
+                            actorSystem,
+                            actorInstance,
+                            receiverRef,
+                            internalMessage,
+                            actor,
+                            persistentActorRepository,
+                            actorStateUpdateProcessor,
+                            messageHandlerEventListener,
+                            metricsSettings,
+                            loggingSettings
+                        );
+                    int maxBatchSize = MessageBatchTask.getMaxBatchSize(actor.getActorClass());
+                    if (maxBatchSize > 1) {
+                        executeInBatch(receiverRef, actor, handleMessageTask, maxBatchSize);
                     } else {
-                        // unknown internal message, just ack it (should not happen)
-                        messageHandlerEventListener.onDone(internalMessage);
+                        actorExecutor.execute(handleMessageTask);
                     }
-                } catch (Exception e) {
-                    // @todo: determine if this is a recoverable error case or just a programming error
-                    messageHandlerEventListener.onError(internalMessage, e);
-                    logger.error("Exception while handling InternalMessage for Shard [{}]; senderRef [{}], messageType [{}]", shardKey, internalMessage.getSender(), internalMessage.getPayloadClass(), e);
                 }
-
             }
+        } catch (Exception e) {
+            logMessageHandlingException(internalMessage, receiverRef, messageHandlerEventListener, e);
+        }
+    }
+
+    private void logMessageHandlingException(
+        InternalMessage internalMessage,
+        ActorRef receiverRef,
+        MessageHandlerEventListener messageHandlerEventListener,
+        Throwable e)
+    {
+        //@todo: let the sender know his message could not be delivered
+        // we ack the message anyway
+        messageHandlerEventListener.onError(internalMessage, e);
+        logger.error(
+            "Exception while handling InternalMessage for Actor [{}]; senderRef [{}],"
+                + " messageType [{}]",
+            receiverRef.getActorId(),
+            internalMessage.getSender(),
+            internalMessage.getPayloadClass(),
+            e
+        );
+    }
+
+    private void executeInBatch(
+        ActorRef receiverRef,
+        PersistentActor<ShardKey> actor,
+        ActorLifecycleTask handleMessageTask,
+        int maxBatchSize)
+    {
+        MessageBatchTask batch = openBatches.get(receiverRef);
+        if (batch == null || !batch.offer(handleMessageTask)) {
+            batch = new MessageBatchTask(
+                actorStateUpdateProcessor,
+                persistentActorRepository,
+                actor,
+                receiverRef,
+                openBatches,
+                maxBatchSize,
+                handleMessageTask
+            );
+            openBatches.put(receiverRef, batch);
+            actorExecutor.execute(batch);
+        }
+    }
+
+    /**
+     * Makes sure no more messages are added to the open batch of an actor, so they cannot overtake
+     * a task that is executed separately.
+     */
+    private void closeBatch(ActorRef actorRef) {
+        if (!openBatches.isEmpty()) {
+            openBatches.remove(actorRef);
         }
     }
 
     private boolean actorExists(ActorRef actorRef) {
         PersistentActor<ShardKey> persistentActor = actorCache.getIfPresent(actorRef);
+        ActorExistenceFilter actorExistenceFilter = this.actorExistenceFilter;
         if(persistentActor != null) {
             return !(TOMBSTONE == persistentActor);
+        } else if (actorExistenceFilter != null && !actorExistenceFilter.mightContain(actorRef.getActorId())) {
+            // definitely not in the repository
+            return false;
         } else {
             return persistentActorRepository.contains(shardKey, actorRef.getActorId());
         }
@@ -366,7 +725,13 @@ public final class LocalActorShard extends AbstractActorContainer implements Act
         // Actor state is now created in the create actor task
         // persistentActorRepository.update(this.shardKey,persistentActor);
 
+        // destroyed actors cannot be removed from the filter, they will just be checked in the repository
+        ActorExistenceFilter actorExistenceFilter = this.actorExistenceFilter;
+        if (actorExistenceFilter != null) {
+            actorExistenceFilter.put(ref.getActorId());
+        }
         actorCache.put(ref,persistentActor);
+        invalidatePassivatedActor(ref);
         // find actor class behind receiver ActorRef
         ElasticActor actorInstance = actorSystem.getActorInstance(ref,persistentActor.getActorClass());
         // call postCreate
@@ -397,6 +762,8 @@ public final class LocalActorShard extends AbstractActorContainer implements Act
             */
         // now we handle it in the destroy task, but mark the actor as destroyed
         actorCache.put(actorRef, TOMBSTONE);
+        invalidatePassivatedActor(actorRef);
+        closeBatch(actorRef);
         // find actor class behind receiver ActorRef
         ElasticActor actorInstance =
             actorSystem.getActorInstance(actorRef, persistentActor.getActorClass());
@@ -424,6 +791,7 @@ public final class LocalActorShard extends AbstractActorContainer implements Act
         // find actor class behind receiver ActorRef
         ElasticActor actorInstance =
             actorSystem.getActorInstance(actorRef, persistentActor.getActorClass());
+        closeBatch(actorRef);
         // call preDestroy
         actorExecutor.execute(new PersistActorTask(
             actorStateUpdateProcessor,
@@ -444,49 +812,215 @@ public final class LocalActorShard extends AbstractActorContainer implements Act
     private PersistentActor<ShardKey> loadActorFromCache(ActorRef actorRef)
         throws ExecutionException
     {
-        return actorCache.get(
-            actorRef,
-            cacheLoaderPool.get().fill(
-                persistentActorRepository,
-                shardKey,
-                actorSystem,
-                actorExecutor,
-                actorStateUpdateProcessor,
-                actorRef
-            )
-        );
+        return loadActorFromCache(actorRef, null);
+    }
+
+    private PersistentActor<ShardKey> loadActorFromCache(
+        ActorRef actorRef,
+        @Nullable PersistentActor<ShardKey> loadedActor) throws ExecutionException
+    {
+        CacheLoader cacheLoader = cacheLoaderPool.get();
+        try {
+            return actorCache.get(
+                actorRef,
+                cacheLoader.fill(
+                    persistentActorRepository,
+                    passivatedActorCache,
+                    shardKey,
+                    actorSystem,
+                    actorExecutor,
+                    actorStateUpdateProcessor,
+                    actorRef,
+                    loadedActor
+                )
+            );
+        } finally {
+            // don't keep the state of the actor around in the pool
+            cacheLoader.loadedActor = null;
+            // the actor is active now, so a passivated copy stored in the meantime is outdated
+            invalidatePassivatedActor(actorRef);
+        }
+    }
+
+    @Nullable
+    private PersistentActor<ShardKey> takePassivatedActor(ActorRef actorRef) {
+        return passivatedActorCache != null
+            ? takePassivatedActor(passivatedActorCache, shardKey, actorRef)
+            : null;
+    }
+
+    @Nullable
+    private static PersistentActor<ShardKey> takePassivatedActor(
+        PassivatedActorCache passivatedActorCache,
+        ShardKey shardKey,
+        ActorRef actorRef)
+    {
+        try {
+            return passivatedActorCache.take(shardKey, actorRef.getActorId());
+        } catch (Exception e) {
+            // not fatal, the actor will be loaded from the repository
+            staticLogger.warn("Exception while reading passivated actor [{}] from cache", actorRef, e);
+            return null;
+        }
+    }
+
+    private void invalidatePassivatedActor(ActorRef actorRef) {
+        if (passivatedActorCache != null) {
+            passivatedActorCache.invalidate(shardKey, actorRef.getActorId());
+        }
+    }
+
+    /**
+     * Stores a passivated actor in the {@link PassivatedActorCache}. This runs on the thread of the actor after the
+     * {@link PassivateActorTask}, so the state of the actor can no longer change. Actors with changes that were not
+     * written to the repository are not stored, as reactivating them has to give the state that was persisted.
+     */
+    private final class CachePassivatedActorTask implements ThreadBoundRunnable<String> {
+        private final PersistentActor<ShardKey> persistentActor;
+
+        private CachePassivatedActorTask(PersistentActor<ShardKey> persistentActor) {
+            this.persistentActor = persistentActor;
+        }
+
+        @Override
+        public String getKey() {
+            return persistentActor.getAffinityKey() != null
+                ? persistentActor.getAffinityKey()
+                : persistentActor.getSelf().getActorId();
+        }
+
+        @Override
+        public void run() {
+            ActorRef actorRef = persistentActor.getSelf();
+            if (persistentActor.hasUnpersistedChanges()) {
+                logger.debug("Not caching passivated actor [{}] with unpersisted changes", actorRef);
+                return;
+            }
+            try {
+                passivatedActorCache.put(
+                    persistentActor,
+                    () -> !destroyed
+                        && !pendingActivations.containsKey(actorRef)
+                        && actorCache.getIfPresent(actorRef) == null
+                );
+            } catch (Exception e) {
+                logger.error("Exception while caching passivated actor [{}]", actorRef, e);
+            }
+        }
+    }
+
+    /**
+     * Runs on the thread of the queue executor that handles the messages of the given queue, so it doesn't run
+     * concurrently with the messages consumed from that queue
+     */
+    private static final class ShardTask implements ThreadBoundRunnable<String> {
+        private final String queueName;
+        private final Runnable runnable;
+
+        private ShardTask(String queueName, Runnable runnable) {
+            this.queueName = queueName;
+            this.runnable = runnable;
+        }
+
+        @Override
+        public String getKey() {
+            return queueName;
+        }
+
+        @Override
+        public void run() {
+            runnable.run();
+        }
+    }
+
+    /**
+     * The messages for an actor that is being loaded asynchronously. Once the activation is completed,
+     * messages are no longer parked, as the actor will be in the cache by then. Messages for the shard about the
+     * actor (like creating or destroying it) are parked as well, with their deserialized payload.
+     */
+    private static final class PendingActivation {
+        private final List<InternalMessage> messages = new ArrayList<>(1);
+        private final List<MessageHandlerEventListener> listeners = new ArrayList<>(1);
+        // null for the messages that are sent to the actor itself
+        private final List<Object> shardMessages = new ArrayList<>(1);
+        private boolean completed;
+
+        private PendingActivation() {
+        }
+
+        private PendingActivation(
+            InternalMessage internalMessage,
+            MessageHandlerEventListener messageHandlerEventListener)
+        {
+            messages.add(internalMessage);
+            listeners.add(messageHandlerEventListener);
+            shardMessages.add(null);
+        }
+
+        private boolean park(
+            InternalMessage internalMessage,
+            MessageHandlerEventListener messageHandlerEventListener)
+        {
+            return park(internalMessage, messageHandlerEventListener, null);
+        }
+
+        private synchronized boolean park(
+            InternalMessage internalMessage,
+            MessageHandlerEventListener messageHandlerEventListener,
+            @Nullable Object shardMessage)
+        {
+            if (completed) {
+                return false;
+            }
+            messages.add(internalMessage);
+            listeners.add(messageHandlerEventListener);
+            shardMessages.add(shardMessage);
+            return true;
+        }
     }
 
     private final static class CacheLoader implements Callable<PersistentActor<ShardKey>> {
 
         private PersistentActorRepository persistentActorRepository;
+        private PassivatedActorCache passivatedActorCache;
         private ShardKey shardKey;
         private InternalActorSystem actorSystem;
         private ThreadBoundExecutor actorExecutor;
         private ActorStateUpdateProcessor actorStateUpdateProcessor;
         private ActorRef actorRef;
+        private PersistentActor<ShardKey> loadedActor;
 
         private CacheLoader fill(
             PersistentActorRepository persistentActorRepository,
+            @Nullable PassivatedActorCache passivatedActorCache,
             ShardKey shardKey,
             InternalActorSystem actorSystem,
             ThreadBoundExecutor actorExecutor,
             ActorStateUpdateProcessor actorStateUpdateProcessor,
-            ActorRef actorRef)
+            ActorRef actorRef,
+            @Nullable PersistentActor<ShardKey> loadedActor)
         {
             this.persistentActorRepository = persistentActorRepository;
+            this.passivatedActorCache = passivatedActorCache;
             this.shardKey = shardKey;
             this.actorSystem = actorSystem;
             this.actorExecutor = actorExecutor;
             this.actorStateUpdateProcessor = actorStateUpdateProcessor;
             this.actorRef = actorRef;
+            this.loadedActor = loadedActor;
             return this;
         }
 
         @Override
         public PersistentActor<ShardKey> call() throws Exception {
-            PersistentActor<ShardKey> loadedActor =
-                persistentActorRepository.get(shardKey, actorRef.getActorId());
+            // the actor might have been loaded asynchronously already
+            PersistentActor<ShardKey> loadedActor = this.loadedActor;
+            if (loadedActor == null && passivatedActorCache != null) {
+                loadedActor = takePassivatedActor(passivatedActorCache, shardKey, actorRef);
+            }
+            if (loadedActor == null) {
+                loadedActor = persistentActorRepository.get(shardKey, actorRef.getActorId());
+            }
             if (loadedActor == null) {
                 // @todo: using Spring DataAccesException here, might want to change this or use
                 //  in Repository implementation
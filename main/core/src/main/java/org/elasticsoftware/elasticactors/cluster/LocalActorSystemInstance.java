@@ -55,10 +55,10 @@ import org.elasticsoftware.elasticactors.messaging.internal.ActorType;
 import org.elasticsoftware.elasticactors.messaging.internal.CreateActorMessage;
 import org.elasticsoftware.elasticactors.messaging.internal.DestroyActorMessage;
 import org.elasticsoftware.elasticactors.scheduler.Scheduler;
-import org.elasticsoftware.elasticactors.serialization.Message;
 import org.elasticsoftware.elasticactors.serialization.MessageDeserializer;
+import org.elasticsoftware.elasticactors.serialization.MessageMetadata;
 import org.elasticsoftware.elasticactors.serialization.MessageSerializer;
-import org.elasticsoftware.elasticactors.serialization.SerializationFramework;
+import org.elasticsoftware.elasticactors.state.ActorExistenceFilterFactory;
 import org.elasticsoftware.elasticactors.state.ActorStateUpdateProcessor;
 import org.elasticsoftware.elasticactors.state.PersistentActorRepository;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor;
@@ -110,6 +110,7 @@ public final class LocalActorSystemInstance implements InternalActorSystem, Shar
     private ActorSystemEventListenerService actorSystemEventListenerService;
     private NodeActorCacheManager nodeActorCacheManager;
     private ShardActorCacheManager shardActorCacheManager;
+    private ActorExistenceFilterFactory actorExistenceFilterFactory;
     private ActorLifecycleListenerRegistry actorLifecycleListenerRegistry;
     private final AtomicBoolean initialized = new AtomicBoolean(false);
     private final ConcurrentMap<String, ActorNode> activeNodes = new ConcurrentHashMap<>();
@@ -120,6 +121,7 @@ public final class LocalActorSystemInstance implements InternalActorSystem, Shar
     private final AtomicBoolean stable = new AtomicBoolean(false);
     private final ManagedActorsRegistry managedActorsRegistry;
     private ThreadBoundExecutor actorExecutor;
+    private ThreadBoundExecutor queueExecutor;
     private PersistentActorRepository persistentActorRepository;
     private ActorStateUpdateProcessor actorStateUpdateProcessor;
     private MetricsSettings metricsSettings;
@@ -284,9 +286,11 @@ public final class LocalActorSystemInstance implements InternalActorSystem, Shar
                             shardAdapters[i].myRef,
                             localMessageQueueFactory,
                             actorExecutor,
+                            queueExecutor,
                             persistentActorRepository,
                             actorStateUpdateProcessor,
                             shardActorCacheManager,
+                            actorExistenceFilterFactory,
                             metricsSettings,
                             loggingSettings
                         );
@@ -495,11 +499,7 @@ public final class LocalActorSystemInstance implements InternalActorSystem, Shar
     public <T> MessageSerializer<T> getSerializer(Class<T> messageClass) {
         MessageSerializer<T> messageSerializer = cluster.getSystemMessageSerializer(messageClass);
         if(messageSerializer == null) {
-            Message messageAnnotation = messageClass.getAnnotation(Message.class);
-            if(messageAnnotation != null) {
-                SerializationFramework framework = cluster.getSerializationFramework(messageAnnotation.serializationFramework());
-                messageSerializer = framework.getSerializer(messageClass);
-            }
+            messageSerializer = MessageMetadata.get(messageClass).getSerializer(cluster);
         }
         return messageSerializer;
     }
@@ -508,11 +508,7 @@ public final class LocalActorSystemInstance implements InternalActorSystem, Shar
     public <T> MessageDeserializer<T> getDeserializer(Class<T> messageClass) {
         MessageDeserializer<T> messageDeserializer = cluster.getSystemMessageDeserializer(messageClass);
         if(messageDeserializer == null) {
-            Message messageAnnotation = messageClass.getAnnotation(Message.class);
-            if(messageAnnotation != null) {
-                SerializationFramework framework = cluster.getSerializationFramework(messageAnnotation.serializationFramework());
-                messageDeserializer = framework.getDeserializer(messageClass);
-            }
+            messageDeserializer = MessageMetadata.get(messageClass).getDeserializer(cluster);
         }
         return messageDeserializer;
     }
@@ -731,6 +727,11 @@ public final class LocalActorSystemInstance implements InternalActorSystem, Shar
         this.shardActorCacheManager = shardActorCacheManager;
     }
 
+    @Autowired
+    public void setActorExistenceFilterFactory(ActorExistenceFilterFactory actorExistenceFilterFactory) {
+        this.actorExistenceFilterFactory = actorExistenceFilterFactory;
+    }
+
     @Autowired
     public void setActorLifecycleListenerRegistry(ActorLifecycleListenerRegistry actorLifecycleListenerRegistry) {
         this.actorLifecycleListenerRegistry = actorLifecycleListenerRegistry;
@@ -741,6 +742,11 @@ public final class LocalActorSystemInstance implements InternalActorSystem, Shar
         this.actorExecutor = actorExecutor;
     }
 
+    @Autowired
+    public void setQueueExecutor(@Qualifier("queueExecutor") ThreadBoundExecutor queueExecutor) {
+        this.queueExecutor = queueExecutor;
+    }
+
     @Autowired
     public void setPersistentActorRepository(PersistentActorRepository persistentActorRepository) {
         this.persistentActorRepository = persistentActorRepository;
@@ -31,9 +31,8 @@ import org.elasticsoftware.elasticactors.messaging.MessageQueueProxy;
 import org.elasticsoftware.elasticactors.messaging.MultiMessageQueueProxy;
 import org.elasticsoftware.elasticactors.messaging.MultiMessageQueueProxyHasher;
 import org.elasticsoftware.elasticactors.messaging.SingleMessageQueueProxy;
-import org.elasticsoftware.elasticactors.serialization.Message;
+import org.elasticsoftware.elasticactors.serialization.MessageMetadata;
 import org.elasticsoftware.elasticactors.serialization.MessageSerializer;
-import org.elasticsoftware.elasticactors.serialization.SerializationFramework;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -146,11 +145,7 @@ public final class RemoteActorSystemActorShard implements ActorShard, MessageHan
     private <T> MessageSerializer<T> getSerializer(Class<T> messageClass) {
         MessageSerializer<T> messageSerializer = actorSystems.getSystemMessageSerializer(messageClass);
         if(messageSerializer == null) {
-            Message messageAnnotation = messageClass.getAnnotation(Message.class);
-            if(messageAnnotation != null) {
-                SerializationFramework framework = actorSystems.getSerializationFramework(messageAnnotation.serializationFramework());
-                messageSerializer = framework.getSerializer(messageClass);
-            }
+            messageSerializer = MessageMetadata.get(messageClass).getSerializer(actorSystems);
         }
         return messageSerializer;
     }
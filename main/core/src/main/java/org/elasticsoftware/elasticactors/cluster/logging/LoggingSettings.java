@@ -20,6 +20,7 @@ package org.elasticsoftware.elasticactors.cluster.logging;
 import com.google.common.collect.ImmutableMap;
 import org.elasticsoftware.elasticactors.messaging.InternalMessage;
 import org.elasticsoftware.elasticactors.serialization.Message;
+import org.elasticsoftware.elasticactors.serialization.MessageMetadata;
 import org.springframework.core.env.Environment;
 
 import jakarta.annotation.Nonnull;
@@ -131,9 +132,9 @@ public final class LoggingSettings {
         if (overriden != null) {
             return overriden;
         }
-        Message messageAnnotation = messageClass.getAnnotation(Message.class);
-        if (messageAnnotation != null && messageAnnotation.logOnReceive().length > 0) {
-            return messageAnnotation.logOnReceive();
+        Message.LogFeature[] logOnReceive = MessageMetadata.get(messageClass).getLogOnReceive();
+        if (logOnReceive.length > 0) {
+            return logOnReceive;
         }
         if (messageClass.getName().startsWith("org.elasticsoftware.elasticactors.")) {
             return EMPTY;
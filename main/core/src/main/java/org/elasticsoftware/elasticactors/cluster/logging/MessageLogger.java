@@ -26,6 +26,7 @@ import org.elasticsoftware.elasticactors.messaging.InternalMessage;
 import org.elasticsoftware.elasticactors.messaging.UUIDTools;
 import org.elasticsoftware.elasticactors.messaging.reactivestreams.NextMessage;
 import org.elasticsoftware.elasticactors.serialization.Message;
+import org.elasticsoftware.elasticactors.serialization.MessageMetadata;
 import org.elasticsoftware.elasticactors.serialization.MessageToStringConverter;
 import org.elasticsoftware.elasticactors.util.SerializationTools;
 import org.slf4j.Logger;
@@ -116,13 +117,7 @@ public final class MessageLogger {
     }
 
     private static boolean isContentLoggingEnabledOnError(Class<?> messageClass) {
-        if (messageClass != null) {
-            Message message = messageClass.getAnnotation(Message.class);
-            if (message != null) {
-                return message.logBodyOnError();
-            }
-        }
-        return false;
+        return messageClass != null && MessageMetadata.get(messageClass).isLogBodyOnError();
     }
 
     public static void logMessageBasicInformation(
@@ -18,6 +18,8 @@
 package org.elasticsoftware.elasticactors.cluster.messaging;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * @author Joost van de Wijgerd
@@ -25,10 +27,16 @@ import java.io.Serializable;
 public final class ShardReleasedMessage implements Serializable {
     private final String actorSystem;
     private final int shardId;
+    private final List<String> hotActorIds;
 
     public ShardReleasedMessage(String actorSystem, int shardId) {
+        this(actorSystem, shardId, Collections.emptyList());
+    }
+
+    public ShardReleasedMessage(String actorSystem, int shardId, List<String> hotActorIds) {
         this.actorSystem = actorSystem;
         this.shardId = shardId;
+        this.hotActorIds = List.copyOf(hotActorIds);
     }
 
     public String getActorSystem() {
@@ -38,4 +46,8 @@ public final class ShardReleasedMessage implements Serializable {
     public int getShardId() {
         return shardId;
     }
+
+    public List<String> getHotActorIds() {
+        return hotActorIds;
+    }
 }
@@ -37,10 +37,12 @@ public final class Clustering {
 
     /**
      * <code>optional .org.elasticsoftware.elasticactors.cluster.protobuf.ShardReleased shardReleased = 1;</code>
+     * @return Whether the shardReleased field is set.
      */
     boolean hasShardReleased();
     /**
      * <code>optional .org.elasticsoftware.elasticactors.cluster.protobuf.ShardReleased shardReleased = 1;</code>
+     * @return The shardReleased.
      */
     org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased getShardReleased();
     /**
@@ -50,17 +52,19 @@ public final class Clustering {
 
     /**
      * <code>optional int64 viewId = 2;</code>
+     * @return Whether the viewId field is set.
      */
     boolean hasViewId();
     /**
      * <code>optional int64 viewId = 2;</code>
+     * @return The viewId.
      */
     long getViewId();
   }
   /**
    * Protobuf type {@code org.elasticsoftware.elasticactors.cluster.protobuf.ClusterMessage}
    */
-  public  static final class ClusterMessage extends
+  public static final class ClusterMessage extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.cluster.protobuf.ClusterMessage)
       ClusterMessageOrBuilder {
@@ -70,70 +74,15 @@ public final class Clustering {
       super(builder);
     }
     private ClusterMessage() {
-      viewId_ = 0L;
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private ClusterMessage(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = shardReleased_.toBuilder();
-              }
-              shardReleased_ = input.readMessage(org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(shardReleased_);
-                shardReleased_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000001;
-              break;
-            }
-            case 16: {
-              bitField0_ |= 0x00000002;
-              viewId_ = input.readInt64();
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ClusterMessage();
     }
+
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
       return org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.internal_static_org_elasticsoftware_elasticactors_cluster_protobuf_ClusterMessage_descriptor;
@@ -152,34 +101,43 @@ public final class Clustering {
     private org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased shardReleased_;
     /**
      * <code>optional .org.elasticsoftware.elasticactors.cluster.protobuf.ShardReleased shardReleased = 1;</code>
+     * @return Whether the shardReleased field is set.
      */
+    @java.lang.Override
     public boolean hasShardReleased() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
      * <code>optional .org.elasticsoftware.elasticactors.cluster.protobuf.ShardReleased shardReleased = 1;</code>
+     * @return The shardReleased.
      */
+    @java.lang.Override
     public org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased getShardReleased() {
       return shardReleased_ == null ? org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased.getDefaultInstance() : shardReleased_;
     }
     /**
      * <code>optional .org.elasticsoftware.elasticactors.cluster.protobuf.ShardReleased shardReleased = 1;</code>
      */
+    @java.lang.Override
     public org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleasedOrBuilder getShardReleasedOrBuilder() {
       return shardReleased_ == null ? org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased.getDefaultInstance() : shardReleased_;
     }
 
     public static final int VIEWID_FIELD_NUMBER = 2;
-    private long viewId_;
+    private long viewId_ = 0L;
     /**
      * <code>optional int64 viewId = 2;</code>
+     * @return Whether the viewId field is set.
      */
+    @java.lang.Override
     public boolean hasViewId() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
      * <code>optional int64 viewId = 2;</code>
+     * @return The viewId.
      */
+    @java.lang.Override
     public long getViewId() {
       return viewId_;
     }
@@ -198,13 +156,13 @@ public final class Clustering {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         output.writeMessage(1, getShardReleased());
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         output.writeInt64(2, viewId_);
       }
-      unknownFields.writeTo(output);
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -213,15 +171,15 @@ public final class Clustering {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, getShardReleased());
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeInt64Size(2, viewId_);
       }
-      size += unknownFields.getSerializedSize();
+      size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
@@ -236,19 +194,18 @@ public final class Clustering {
       }
       org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ClusterMessage other = (org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ClusterMessage) obj;
 
-      boolean result = true;
-      result = result && (hasShardReleased() == other.hasShardReleased());
+      if (hasShardReleased() != other.hasShardReleased()) return false;
       if (hasShardReleased()) {
-        result = result && getShardReleased()
-            .equals(other.getShardReleased());
+        if (!getShardReleased()
+            .equals(other.getShardReleased())) return false;
       }
-      result = result && (hasViewId() == other.hasViewId());
+      if (hasViewId() != other.hasViewId()) return false;
       if (hasViewId()) {
-        result = result && (getViewId()
-            == other.getViewId());
+        if (getViewId()
+            != other.getViewId()) return false;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -267,7 +224,7 @@ public final class Clustering {
         hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
             getViewId());
       }
-      hash = (29 * hash) + unknownFields.hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -401,14 +358,13 @@ public final class Clustering {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        if (shardReleasedBuilder_ == null) {
-          shardReleased_ = null;
-        } else {
-          shardReleasedBuilder_.clear();
+        bitField0_ = 0;
+        shardReleased_ = null;
+        if (shardReleasedBuilder_ != null) {
+          shardReleasedBuilder_.dispose();
+          shardReleasedBuilder_ = null;
         }
-        bitField0_ = (bitField0_ & ~0x00000001);
         viewId_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -435,57 +391,27 @@ public final class Clustering {
       @java.lang.Override
       public org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ClusterMessage buildPartial() {
         org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ClusterMessage result = new org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ClusterMessage(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ClusterMessage result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.shardReleased_ = shardReleasedBuilder_ == null
+              ? shardReleased_
+              : shardReleasedBuilder_.build();
           to_bitField0_ |= 0x00000001;
         }
-        if (shardReleasedBuilder_ == null) {
-          result.shardReleased_ = shardReleased_;
-        } else {
-          result.shardReleased_ = shardReleasedBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.viewId_ = viewId_;
           to_bitField0_ |= 0x00000002;
         }
-        result.viewId_ = viewId_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        result.bitField0_ |= to_bitField0_;
       }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ClusterMessage) {
@@ -504,7 +430,7 @@ public final class Clustering {
         if (other.hasViewId()) {
           setViewId(other.getViewId());
         }
-        this.mergeUnknownFields(other.unknownFields);
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
@@ -519,32 +445,59 @@ public final class Clustering {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ClusterMessage parsedMessage = null;
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
         try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getShardReleasedFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                viewId_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ClusterMessage) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+          onChanged();
+        } // finally
         return this;
       }
       private int bitField0_;
 
-      private org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased shardReleased_ = null;
+      private org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased shardReleased_;
       private com.google.protobuf.SingleFieldBuilderV3<
           org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased, org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased.Builder, org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleasedOrBuilder> shardReleasedBuilder_;
       /**
        * <code>optional .org.elasticsoftware.elasticactors.cluster.protobuf.ShardReleased shardReleased = 1;</code>
+       * @return Whether the shardReleased field is set.
        */
       public boolean hasShardReleased() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <code>optional .org.elasticsoftware.elasticactors.cluster.protobuf.ShardReleased shardReleased = 1;</code>
+       * @return The shardReleased.
        */
       public org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased getShardReleased() {
         if (shardReleasedBuilder_ == null) {
@@ -562,11 +515,11 @@ public final class Clustering {
             throw new NullPointerException();
           }
           shardReleased_ = value;
-          onChanged();
         } else {
           shardReleasedBuilder_.setMessage(value);
         }
         bitField0_ |= 0x00000001;
+        onChanged();
         return this;
       }
       /**
@@ -576,11 +529,11 @@ public final class Clustering {
           org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased.Builder builderForValue) {
         if (shardReleasedBuilder_ == null) {
           shardReleased_ = builderForValue.build();
-          onChanged();
         } else {
           shardReleasedBuilder_.setMessage(builderForValue.build());
         }
         bitField0_ |= 0x00000001;
+        onChanged();
         return this;
       }
       /**
@@ -588,32 +541,31 @@ public final class Clustering {
        */
       public Builder mergeShardReleased(org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased value) {
         if (shardReleasedBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              shardReleased_ != null &&
-              shardReleased_ != org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased.getDefaultInstance()) {
-            shardReleased_ =
-              org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased.newBuilder(shardReleased_).mergeFrom(value).buildPartial();
+          if (((bitField0_ & 0x00000001) != 0) &&
+            shardReleased_ != null &&
+            shardReleased_ != org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased.getDefaultInstance()) {
+            getShardReleasedBuilder().mergeFrom(value);
           } else {
             shardReleased_ = value;
           }
-          onChanged();
         } else {
           shardReleasedBuilder_.mergeFrom(value);
         }
         bitField0_ |= 0x00000001;
+        onChanged();
         return this;
       }
       /**
        * <code>optional .org.elasticsoftware.elasticactors.cluster.protobuf.ShardReleased shardReleased = 1;</code>
        */
       public Builder clearShardReleased() {
-        if (shardReleasedBuilder_ == null) {
-          shardReleased_ = null;
-          onChanged();
-        } else {
-          shardReleasedBuilder_.clear();
-        }
         bitField0_ = (bitField0_ & ~0x00000001);
+        shardReleased_ = null;
+        if (shardReleasedBuilder_ != null) {
+          shardReleasedBuilder_.dispose();
+          shardReleasedBuilder_ = null;
+        }
+        onChanged();
         return this;
       }
       /**
@@ -655,27 +607,35 @@ public final class Clustering {
       private long viewId_ ;
       /**
        * <code>optional int64 viewId = 2;</code>
+       * @return Whether the viewId field is set.
        */
+      @java.lang.Override
       public boolean hasViewId() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
        * <code>optional int64 viewId = 2;</code>
+       * @return The viewId.
        */
+      @java.lang.Override
       public long getViewId() {
         return viewId_;
       }
       /**
        * <code>optional int64 viewId = 2;</code>
+       * @param value The viewId to set.
+       * @return This builder for chaining.
        */
       public Builder setViewId(long value) {
-        bitField0_ |= 0x00000002;
+
         viewId_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <code>optional int64 viewId = 2;</code>
+       * @return This builder for chaining.
        */
       public Builder clearViewId() {
         bitField0_ = (bitField0_ & ~0x00000002);
@@ -716,7 +676,18 @@ public final class Clustering {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ClusterMessage(input, extensionRegistry);
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
     };
 
@@ -742,31 +713,77 @@ public final class Clustering {
 
     /**
      * <code>optional int32 shardId = 1;</code>
+     * @return Whether the shardId field is set.
      */
     boolean hasShardId();
     /**
      * <code>optional int32 shardId = 1;</code>
+     * @return The shardId.
      */
     int getShardId();
 
     /**
      * <code>optional string actorSystem = 2;</code>
+     * @return Whether the actorSystem field is set.
      */
     boolean hasActorSystem();
     /**
      * <code>optional string actorSystem = 2;</code>
+     * @return The actorSystem.
      */
     java.lang.String getActorSystem();
     /**
      * <code>optional string actorSystem = 2;</code>
+     * @return The bytes for actorSystem.
      */
     com.google.protobuf.ByteString
         getActorSystemBytes();
+
+    /**
+     * <pre>
+     * the actors most likely to be used, most likely first, so the next owner can prefetch them
+     * </pre>
+     *
+     * <code>repeated string hotActorIds = 3;</code>
+     * @return A list containing the hotActorIds.
+     */
+    java.util.List<java.lang.String>
+        getHotActorIdsList();
+    /**
+     * <pre>
+     * the actors most likely to be used, most likely first, so the next owner can prefetch them
+     * </pre>
+     *
+     * <code>repeated string hotActorIds = 3;</code>
+     * @return The count of hotActorIds.
+     */
+    int getHotActorIdsCount();
+    /**
+     * <pre>
+     * the actors most likely to be used, most likely first, so the next owner can prefetch them
+     * </pre>
+     *
+     * <code>repeated string hotActorIds = 3;</code>
+     * @param index The index of the element to return.
+     * @return The hotActorIds at the given index.
+     */
+    java.lang.String getHotActorIds(int index);
+    /**
+     * <pre>
+     * the actors most likely to be used, most likely first, so the next owner can prefetch them
+     * </pre>
+     *
+     * <code>repeated string hotActorIds = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the hotActorIds at the given index.
+     */
+    com.google.protobuf.ByteString
+        getHotActorIdsBytes(int index);
   }
   /**
    * Protobuf type {@code org.elasticsoftware.elasticactors.cluster.protobuf.ShardReleased}
    */
-  public  static final class ShardReleased extends
+  public static final class ShardReleased extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.cluster.protobuf.ShardReleased)
       ShardReleasedOrBuilder {
@@ -776,64 +793,18 @@ public final class Clustering {
       super(builder);
     }
     private ShardReleased() {
-      shardId_ = 0;
       actorSystem_ = "";
+      hotActorIds_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private ShardReleased(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 8: {
-              bitField0_ |= 0x00000001;
-              shardId_ = input.readInt32();
-              break;
-            }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000002;
-              actorSystem_ = bs;
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ShardReleased();
     }
+
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
       return org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.internal_static_org_elasticsoftware_elasticactors_cluster_protobuf_ShardReleased_descriptor;
@@ -849,31 +820,40 @@ public final class Clustering {
 
     private int bitField0_;
     public static final int SHARDID_FIELD_NUMBER = 1;
-    private int shardId_;
+    private int shardId_ = 0;
     /**
      * <code>optional int32 shardId = 1;</code>
+     * @return Whether the shardId field is set.
      */
+    @java.lang.Override
     public boolean hasShardId() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
      * <code>optional int32 shardId = 1;</code>
+     * @return The shardId.
      */
+    @java.lang.Override
     public int getShardId() {
       return shardId_;
     }
 
     public static final int ACTORSYSTEM_FIELD_NUMBER = 2;
-    private volatile java.lang.Object actorSystem_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object actorSystem_ = "";
     /**
      * <code>optional string actorSystem = 2;</code>
+     * @return Whether the actorSystem field is set.
      */
+    @java.lang.Override
     public boolean hasActorSystem() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
      * <code>optional string actorSystem = 2;</code>
+     * @return The actorSystem.
      */
+    @java.lang.Override
     public java.lang.String getActorSystem() {
       java.lang.Object ref = actorSystem_;
       if (ref instanceof java.lang.String) {
@@ -890,7 +870,9 @@ public final class Clustering {
     }
     /**
      * <code>optional string actorSystem = 2;</code>
+     * @return The bytes for actorSystem.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getActorSystemBytes() {
       java.lang.Object ref = actorSystem_;
@@ -905,6 +887,59 @@ public final class Clustering {
       }
     }
 
+    public static final int HOTACTORIDS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList hotActorIds_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * the actors most likely to be used, most likely first, so the next owner can prefetch them
+     * </pre>
+     *
+     * <code>repeated string hotActorIds = 3;</code>
+     * @return A list containing the hotActorIds.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getHotActorIdsList() {
+      return hotActorIds_;
+    }
+    /**
+     * <pre>
+     * the actors most likely to be used, most likely first, so the next owner can prefetch them
+     * </pre>
+     *
+     * <code>repeated string hotActorIds = 3;</code>
+     * @return The count of hotActorIds.
+     */
+    public int getHotActorIdsCount() {
+      return hotActorIds_.size();
+    }
+    /**
+     * <pre>
+     * the actors most likely to be used, most likely first, so the next owner can prefetch them
+     * </pre>
+     *
+     * <code>repeated string hotActorIds = 3;</code>
+     * @param index The index of the element to return.
+     * @return The hotActorIds at the given index.
+     */
+    public java.lang.String getHotActorIds(int index) {
+      return hotActorIds_.get(index);
+    }
+    /**
+     * <pre>
+     * the actors most likely to be used, most likely first, so the next owner can prefetch them
+     * </pre>
+     *
+     * <code>repeated string hotActorIds = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the hotActorIds at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getHotActorIdsBytes(int index) {
+      return hotActorIds_.getByteString(index);
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -919,13 +954,16 @@ public final class Clustering {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         output.writeInt32(1, shardId_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, actorSystem_);
       }
-      unknownFields.writeTo(output);
+      for (int i = 0; i < hotActorIds_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, hotActorIds_.getRaw(i));
+      }
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -934,14 +972,22 @@ public final class Clustering {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeInt32Size(1, shardId_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, actorSystem_);
       }
-      size += unknownFields.getSerializedSize();
+      {
+        int dataSize = 0;
+        for (int i = 0; i < hotActorIds_.size(); i++) {
+          dataSize += computeStringSizeNoTag(hotActorIds_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getHotActorIdsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
@@ -956,19 +1002,20 @@ public final class Clustering {
       }
       org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased other = (org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased) obj;
 
-      boolean result = true;
-      result = result && (hasShardId() == other.hasShardId());
+      if (hasShardId() != other.hasShardId()) return false;
       if (hasShardId()) {
-        result = result && (getShardId()
-            == other.getShardId());
+        if (getShardId()
+            != other.getShardId()) return false;
       }
-      result = result && (hasActorSystem() == other.hasActorSystem());
+      if (hasActorSystem() != other.hasActorSystem()) return false;
       if (hasActorSystem()) {
-        result = result && getActorSystem()
-            .equals(other.getActorSystem());
+        if (!getActorSystem()
+            .equals(other.getActorSystem())) return false;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (!getHotActorIdsList()
+          .equals(other.getHotActorIdsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -986,7 +1033,11 @@ public final class Clustering {
         hash = (37 * hash) + ACTORSYSTEM_FIELD_NUMBER;
         hash = (53 * hash) + getActorSystem().hashCode();
       }
-      hash = (29 * hash) + unknownFields.hashCode();
+      if (getHotActorIdsCount() > 0) {
+        hash = (37 * hash) + HOTACTORIDS_FIELD_NUMBER;
+        hash = (53 * hash) + getHotActorIdsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -1103,26 +1154,22 @@ public final class Clustering {
 
       // Construct using org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased.newBuilder()
       private Builder() {
-        maybeForceBuilderInitialization();
+
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
         super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
+
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
         shardId_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000001);
         actorSystem_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
+        hotActorIds_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
         return this;
       }
 
@@ -1149,53 +1196,29 @@ public final class Clustering {
       @java.lang.Override
       public org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased buildPartial() {
         org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased result = new org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.shardId_ = shardId_;
           to_bitField0_ |= 0x00000001;
         }
-        result.shardId_ = shardId_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.actorSystem_ = actorSystem_;
           to_bitField0_ |= 0x00000002;
         }
-        result.actorSystem_ = actorSystem_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          hotActorIds_.makeImmutable();
+          result.hotActorIds_ = hotActorIds_;
+        }
+        result.bitField0_ |= to_bitField0_;
       }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased) {
@@ -1212,11 +1235,21 @@ public final class Clustering {
           setShardId(other.getShardId());
         }
         if (other.hasActorSystem()) {
-          bitField0_ |= 0x00000002;
           actorSystem_ = other.actorSystem_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.hotActorIds_.isEmpty()) {
+          if (hotActorIds_.isEmpty()) {
+            hotActorIds_ = other.hotActorIds_;
+            bitField0_ |= 0x00000004;
+          } else {
+            ensureHotActorIdsIsMutable();
+            hotActorIds_.addAll(other.hotActorIds_);
+          }
           onChanged();
         }
-        this.mergeUnknownFields(other.unknownFields);
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
@@ -1231,17 +1264,46 @@ public final class Clustering {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased parsedMessage = null;
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
         try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                shardId_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                actorSystem_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                ensureHotActorIdsIsMutable();
+                hotActorIds_.add(bs);
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.elasticsoftware.elasticactors.cluster.protobuf.Clustering.ShardReleased) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+          onChanged();
+        } // finally
         return this;
       }
       private int bitField0_;
@@ -1249,27 +1311,35 @@ public final class Clustering {
       private int shardId_ ;
       /**
        * <code>optional int32 shardId = 1;</code>
+       * @return Whether the shardId field is set.
        */
+      @java.lang.Override
       public boolean hasShardId() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <code>optional int32 shardId = 1;</code>
+       * @return The shardId.
        */
+      @java.lang.Override
       public int getShardId() {
         return shardId_;
       }
       /**
        * <code>optional int32 shardId = 1;</code>
+       * @param value The shardId to set.
+       * @return This builder for chaining.
        */
       public Builder setShardId(int value) {
-        bitField0_ |= 0x00000001;
+
         shardId_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <code>optional int32 shardId = 1;</code>
+       * @return This builder for chaining.
        */
       public Builder clearShardId() {
         bitField0_ = (bitField0_ & ~0x00000001);
@@ -1281,12 +1351,14 @@ public final class Clustering {
       private java.lang.Object actorSystem_ = "";
       /**
        * <code>optional string actorSystem = 2;</code>
+       * @return Whether the actorSystem field is set.
        */
       public boolean hasActorSystem() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
        * <code>optional string actorSystem = 2;</code>
+       * @return The actorSystem.
        */
       public java.lang.String getActorSystem() {
         java.lang.Object ref = actorSystem_;
@@ -1304,6 +1376,7 @@ public final class Clustering {
       }
       /**
        * <code>optional string actorSystem = 2;</code>
+       * @return The bytes for actorSystem.
        */
       public com.google.protobuf.ByteString
           getActorSystemBytes() {
@@ -1320,36 +1393,183 @@ public final class Clustering {
       }
       /**
        * <code>optional string actorSystem = 2;</code>
+       * @param value The actorSystem to set.
+       * @return This builder for chaining.
        */
       public Builder setActorSystem(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         actorSystem_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorSystem = 2;</code>
+       * @return This builder for chaining.
        */
       public Builder clearActorSystem() {
-        bitField0_ = (bitField0_ & ~0x00000002);
         actorSystem_ = getDefaultInstance().getActorSystem();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorSystem = 2;</code>
+       * @param value The bytes for actorSystem to set.
+       * @return This builder for chaining.
        */
       public Builder setActorSystemBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         actorSystem_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList hotActorIds_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureHotActorIdsIsMutable() {
+        if (!hotActorIds_.isModifiable()) {
+          hotActorIds_ = new com.google.protobuf.LazyStringArrayList(hotActorIds_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <pre>
+       * the actors most likely to be used, most likely first, so the next owner can prefetch them
+       * </pre>
+       *
+       * <code>repeated string hotActorIds = 3;</code>
+       * @return A list containing the hotActorIds.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getHotActorIdsList() {
+        hotActorIds_.makeImmutable();
+        return hotActorIds_;
+      }
+      /**
+       * <pre>
+       * the actors most likely to be used, most likely first, so the next owner can prefetch them
+       * </pre>
+       *
+       * <code>repeated string hotActorIds = 3;</code>
+       * @return The count of hotActorIds.
+       */
+      public int getHotActorIdsCount() {
+        return hotActorIds_.size();
+      }
+      /**
+       * <pre>
+       * the actors most likely to be used, most likely first, so the next owner can prefetch them
+       * </pre>
+       *
+       * <code>repeated string hotActorIds = 3;</code>
+       * @param index The index of the element to return.
+       * @return The hotActorIds at the given index.
+       */
+      public java.lang.String getHotActorIds(int index) {
+        return hotActorIds_.get(index);
+      }
+      /**
+       * <pre>
+       * the actors most likely to be used, most likely first, so the next owner can prefetch them
+       * </pre>
+       *
+       * <code>repeated string hotActorIds = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the hotActorIds at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getHotActorIdsBytes(int index) {
+        return hotActorIds_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * the actors most likely to be used, most likely first, so the next owner can prefetch them
+       * </pre>
+       *
+       * <code>repeated string hotActorIds = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The hotActorIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHotActorIds(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureHotActorIdsIsMutable();
+        hotActorIds_.set(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the actors most likely to be used, most likely first, so the next owner can prefetch them
+       * </pre>
+       *
+       * <code>repeated string hotActorIds = 3;</code>
+       * @param value The hotActorIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addHotActorIds(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureHotActorIdsIsMutable();
+        hotActorIds_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the actors most likely to be used, most likely first, so the next owner can prefetch them
+       * </pre>
+       *
+       * <code>repeated string hotActorIds = 3;</code>
+       * @param values The hotActorIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllHotActorIds(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureHotActorIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, hotActorIds_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the actors most likely to be used, most likely first, so the next owner can prefetch them
+       * </pre>
+       *
+       * <code>repeated string hotActorIds = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHotActorIds() {
+        hotActorIds_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the actors most likely to be used, most likely first, so the next owner can prefetch them
+       * </pre>
+       *
+       * <code>repeated string hotActorIds = 3;</code>
+       * @param value The bytes of the hotActorIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addHotActorIdsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureHotActorIdsIsMutable();
+        hotActorIds_.add(value);
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
@@ -1386,7 +1606,18 @@ public final class Clustering {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ShardReleased(input, extensionRegistry);
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
     };
 
@@ -1429,22 +1660,14 @@ public final class Clustering {
       "elasticactors.cluster.protobuf\"z\n\016Cluste" +
       "rMessage\022X\n\rshardReleased\030\001 \001(\0132A.org.el" +
       "asticsoftware.elasticactors.cluster.prot" +
-      "obuf.ShardReleased\022\016\n\006viewId\030\002 \001(\003\"5\n\rSh" +
+      "obuf.ShardReleased\022\016\n\006viewId\030\002 \001(\003\"J\n\rSh" +
       "ardReleased\022\017\n\007shardId\030\001 \001(\005\022\023\n\013actorSys" +
-      "tem\030\002 \001(\tB\002H\001"
+      "tem\030\002 \001(\t\022\023\n\013hotActorIds\030\003 \003(\tB\002H\001"
     };
-    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
-        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
-          public com.google.protobuf.ExtensionRegistry assignDescriptors(
-              com.google.protobuf.Descriptors.FileDescriptor root) {
-            descriptor = root;
-            return null;
-          }
-        };
-    com.google.protobuf.Descriptors.FileDescriptor
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
         new com.google.protobuf.Descriptors.FileDescriptor[] {
-        }, assigner);
+        });
     internal_static_org_elasticsoftware_elasticactors_cluster_protobuf_ClusterMessage_descriptor =
       getDescriptor().getMessageTypes().get(0);
     internal_static_org_elasticsoftware_elasticactors_cluster_protobuf_ClusterMessage_fieldAccessorTable = new
@@ -1456,7 +1679,7 @@ public final class Clustering {
     internal_static_org_elasticsoftware_elasticactors_cluster_protobuf_ShardReleased_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_elasticsoftware_elasticactors_cluster_protobuf_ShardReleased_descriptor,
-        new java.lang.String[] { "ShardId", "ActorSystem", });
+        new java.lang.String[] { "ShardId", "ActorSystem", "HotActorIds", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -66,6 +66,9 @@ public abstract class MultiNodeScaleUpStrategy implements ShardDistributionStrat
                     if(localShard != null) {
                         logger.info("Initializing LocalShard {}",shardKey);
                         localShard.init();
+                        // load the actors that were hot on the previous owner in the background
+                        localShard.prefetch(shardReleasedMessage.getHotActorIds());
+                        localShard.handoffCompleted();
                     } else {
                         logger.error("IMPORTANT: Got a ShardReleasedMessage for an unregistered shard [{}], ElasticActors cluster is unstable. Please check all nodes",shardKey);
                     }
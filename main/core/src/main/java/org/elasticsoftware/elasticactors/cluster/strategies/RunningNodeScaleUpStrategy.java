@@ -43,10 +43,17 @@ public final class RunningNodeScaleUpStrategy extends MultiNodeScaleUpStrategy {
         Clustering.ShardReleased.Builder shardReleasedBuilder = Clustering.ShardReleased.newBuilder();
         shardReleasedBuilder.setActorSystem(localShard.getKey().getActorSystemName());
         shardReleasedBuilder.setShardId(localShard.getKey().getShardId());
+        // let the next owner warm up its cache
+        shardReleasedBuilder.addAllHotActorIds(localShard.getHotActorIds());
         clusterMessageBuilder.setShardReleased(shardReleasedBuilder);
         byte[] messageBytes = clusterMessageBuilder.build().toByteArray();
         clusterService.sendMessage(nextOwner.getId(),messageBytes);
-        logger.info("Releasing Shard {} to Node {}",localShard.getKey(),nextOwner.getId());
+        logger.info(
+            "Releasing Shard {} to Node {} with {} hot actors",
+            localShard.getKey(),
+            nextOwner.getId(),
+            shardReleasedBuilder.getHotActorIdsCount()
+        );
     }
 
 }
@@ -36,6 +36,7 @@ public final class SingleNodeScaleUpStrategy implements ShardDistributionStrateg
     public void registerWaitForRelease(ActorShard localShard, PhysicalNode currentOwner) throws Exception {
         // no need to wait, run init immediately
         localShard.init();
+        localShard.handoffCompleted();
     }
 
     @Override
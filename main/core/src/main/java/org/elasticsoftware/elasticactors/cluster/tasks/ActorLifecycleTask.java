@@ -65,6 +65,8 @@ public abstract class ActorLifecycleTask implements ThreadBoundRunnable<String>
     protected final MetricsSettings metricsSettings;
     protected final LoggingSettings loggingSettings;
     protected Class<?> unwrappedMessageClass;
+    // when set, persisting the state and acking the message are left to the batch
+    private MessageBatch messageBatch;
 
     protected ActorLifecycleTask(
         ActorStateUpdateProcessor actorStateUpdateProcessor,
@@ -105,6 +107,15 @@ public abstract class ActorLifecycleTask implements ThreadBoundRunnable<String>
         return (persistentActor.getAffinityKey() != null) ? persistentActor.getAffinityKey() : receiverRef.getActorId();
     }
 
+    /**
+     * Handles the message as part of a {@link MessageBatchTask}, which takes care of persisting the
+     * state and acknowledging the message once the whole batch has been handled.
+     */
+    final void runInBatch(MessageBatch messageBatch) {
+        this.messageBatch = messageBatch;
+        run();
+    }
+
     @Override
     public final void run() {
         try (MessagingScope ignored = getManager().enter(persistentActor, internalMessage)) {
@@ -122,6 +133,7 @@ public abstract class ActorLifecycleTask implements ThreadBoundRunnable<String>
         Exception executionException = null;
         InternalActorContext.setContext(persistentActor);
         boolean shouldUpdateState = false;
+        boolean persisted = false;
         try {
             logMessageBasicInformation();
             shouldUpdateState = doInActorContext(actorSystem, receiver, receiverRef, internalMessage);
@@ -138,13 +150,22 @@ public abstract class ActorLifecycleTask implements ThreadBoundRunnable<String>
             if(this.measurement != null) {
                 this.measurement.setExecutionEnd(System.nanoTime());
             }
-            // check if we have state now that needs to be written to the persistent actor store
-            if (persistentActorRepository != null && persistentActor.getState() != null && shouldUpdateState) {
+            if (messageBatch != null) {
+                messageBatch.add(
+                    internalMessage,
+                    messageHandlerEventListener,
+                    executionException,
+                    shouldUpdateState,
+                    shouldUpdateState ? unwrapMessageClass(internalMessage) : null
+                );
+            } else if (persistentActorRepository != null && persistentActor.getState() != null && shouldUpdateState) {
+                // we have state now that needs to be written to the persistent actor store
                 try {
                     // generate the serialized state
                     persistentActor.serializeState();
                     persistentActorRepository.updateAsync((ShardKey) persistentActor.getKey(), persistentActor,
                                                           internalMessage, messageHandlerEventListener);
+                    persisted = true;
                     // if we have a configured actor state update processor, then use it
                     if(actorStateUpdateProcessor != null) {
                         // this is either a lifecycle step or an incoming message
@@ -185,6 +206,9 @@ public abstract class ActorLifecycleTask implements ThreadBoundRunnable<String>
                     this.measurement.setAckEnd(System.nanoTime());
                 }
             }
+            if (messageBatch == null) {
+                persistentActor.setUnpersistedChanges(!persisted);
+            }
             // do some trace logging
             if(this.measurement != null) {
                 logMessageTimingInformationForTraces();
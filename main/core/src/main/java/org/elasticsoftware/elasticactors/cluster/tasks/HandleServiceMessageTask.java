@@ -31,7 +31,7 @@ import org.elasticsoftware.elasticactors.cluster.metrics.Measurement;
 import org.elasticsoftware.elasticactors.cluster.metrics.MetricsSettings;
 import org.elasticsoftware.elasticactors.messaging.InternalMessage;
 import org.elasticsoftware.elasticactors.messaging.MessageHandlerEventListener;
-import org.elasticsoftware.elasticactors.serialization.Message;
+import org.elasticsoftware.elasticactors.serialization.MessageMetadata;
 import org.elasticsoftware.elasticactors.serialization.MessageToStringConverter;
 import org.elasticsoftware.elasticactors.tracing.MessagingContextManager.MessagingScope;
 import org.elasticsoftware.elasticactors.util.concurrent.MessageHandlingThreadBoundRunnable;
@@ -285,8 +285,7 @@ public final class HandleServiceMessageTask
 
     private void logException(Object message, Exception e) {
         if (logger.isErrorEnabled()) {
-            Message messageAnnotation = message.getClass().getAnnotation(Message.class);
-            if (messageAnnotation != null && messageAnnotation.logBodyOnError()) {
+            if (MessageMetadata.of(message).isLogBodyOnError()) {
                 logger.error(
                         "Exception while handling message of type [{}]. "
                                 + "Service [{}]. "
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cluster.tasks;
+
+import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.messaging.MessageHandlerEventListener;
+
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects the outcome of the messages handled by a {@link MessageBatchTask}. It is also used as
+ * the {@link MessageHandlerEventListener} for the single state update of the batch, so the
+ * completion of that update acknowledges every message in the batch.
+ */
+final class MessageBatch implements MessageHandlerEventListener {
+
+    private final List<InternalMessage> messages;
+    private final List<MessageHandlerEventListener> listeners;
+    private final List<Exception> exceptions;
+    private boolean shouldUpdateState;
+    private final Set<Class<?>> updatingMessageClasses = new LinkedHashSet<>(2);
+
+    MessageBatch(int expectedSize) {
+        this.messages = new ArrayList<>(expectedSize);
+        this.listeners = new ArrayList<>(expectedSize);
+        this.exceptions = new ArrayList<>(expectedSize);
+    }
+
+    void add(
+        InternalMessage internalMessage,
+        @Nullable MessageHandlerEventListener listener,
+        @Nullable Exception executionException,
+        boolean shouldUpdateState,
+        @Nullable Class<?> messageClass)
+    {
+        messages.add(internalMessage);
+        listeners.add(listener);
+        exceptions.add(executionException);
+        if (shouldUpdateState) {
+            this.shouldUpdateState = true;
+            if (messageClass != null) {
+                updatingMessageClasses.add(messageClass);
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return messages.isEmpty();
+    }
+
+    boolean shouldUpdateState() {
+        return shouldUpdateState;
+    }
+
+    /**
+     * @return the distinct classes of the messages that require the state to be updated, in the
+     * order they were first handled
+     */
+    Set<Class<?>> getUpdatingMessageClasses() {
+        return updatingMessageClasses;
+    }
+
+    InternalMessage getLastMessage() {
+        return messages.get(messages.size() - 1);
+    }
+
+    /**
+     * Acknowledges every message in the batch with the outcome of its own execution.
+     */
+    @Override
+    public void onDone(InternalMessage message) {
+        for (int i = 0; i < messages.size(); i++) {
+            MessageHandlerEventListener listener = listeners.get(i);
+            if (listener != null) {
+                if (exceptions.get(i) == null) {
+                    listener.onDone(messages.get(i));
+                } else {
+                    listener.onError(messages.get(i), exceptions.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Fails every message in the batch, as the state update they share has failed.
+     */
+    @Override
+    public void onError(InternalMessage message, Throwable exception) {
+        for (int i = 0; i < messages.size(); i++) {
+            MessageHandlerEventListener listener = listeners.get(i);
+            if (listener != null) {
+                listener.onError(messages.get(i), exception);
+            }
+        }
+    }
+}
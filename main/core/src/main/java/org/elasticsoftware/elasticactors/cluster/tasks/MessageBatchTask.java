@@ -0,0 +1,155 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cluster.tasks;
+
+import org.elasticsoftware.elasticactors.ActorRef;
+import org.elasticsoftware.elasticactors.ElasticActor;
+import org.elasticsoftware.elasticactors.ShardKey;
+import org.elasticsoftware.elasticactors.state.ActorStateUpdateProcessor;
+import org.elasticsoftware.elasticactors.state.MessageBatching;
+import org.elasticsoftware.elasticactors.state.PersistentActor;
+import org.elasticsoftware.elasticactors.state.PersistentActorRepository;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Handles consecutive messages for an actor annotated with {@link MessageBatching} in a single run
+ * of the actor executor. Messages can be added to the batch until it starts running. After the last
+ * message has been handled, the state is serialized and persisted once and all messages are
+ * acknowledged when that update completes.
+ */
+public final class MessageBatchTask implements ThreadBoundRunnable<String> {
+    private static final Logger log = LoggerFactory.getLogger(MessageBatchTask.class);
+
+    private final ActorRef receiverRef;
+    private final PersistentActor<ShardKey> persistentActor;
+    private final PersistentActorRepository persistentActorRepository;
+    private final ActorStateUpdateProcessor actorStateUpdateProcessor;
+    private final ConcurrentMap<ActorRef, MessageBatchTask> openBatches;
+    private final int maxBatchSize;
+    private final List<ActorLifecycleTask> tasks = new ArrayList<>();
+    private boolean started = false;
+
+    // this is looked up for every message dispatched to an actor, so the annotation is only read once per class
+    private static final ClassValue<Integer> maxBatchSizes = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            MessageBatching messageBatching = type.getAnnotation(MessageBatching.class);
+            return messageBatching != null ? Math.max(messageBatching.maxBatchSize(), 1) : 0;
+        }
+    };
+
+    /**
+     * @return the maximum batch size for the given actor class, or 0 if it handles messages one by one
+     */
+    public static int getMaxBatchSize(Class<? extends ElasticActor> actorClass) {
+        return maxBatchSizes.get(actorClass);
+    }
+
+    public MessageBatchTask(
+        ActorStateUpdateProcessor actorStateUpdateProcessor,
+        PersistentActorRepository persistentActorRepository,
+        PersistentActor<ShardKey> persistentActor,
+        ActorRef receiverRef,
+        ConcurrentMap<ActorRef, MessageBatchTask> openBatches,
+        int maxBatchSize,
+        ActorLifecycleTask firstTask)
+    {
+        this.actorStateUpdateProcessor = actorStateUpdateProcessor;
+        this.persistentActorRepository = persistentActorRepository;
+        this.persistentActor = persistentActor;
+        this.receiverRef = receiverRef;
+        this.openBatches = openBatches;
+        this.maxBatchSize = maxBatchSize;
+        this.tasks.add(firstTask);
+    }
+
+    /**
+     * Adds the task to this batch if it hasn't started running yet, isn't full and the task is for the same
+     * instance of the actor.
+     *
+     * @return false if the task needs to be executed separately
+     */
+    public synchronized boolean offer(ActorLifecycleTask task) {
+        if (started || tasks.size() >= maxBatchSize || task.persistentActor != persistentActor) {
+            return false;
+        }
+        tasks.add(task);
+        return true;
+    }
+
+    @Override
+    public String getKey() {
+        return (persistentActor.getAffinityKey() != null) ? persistentActor.getAffinityKey() : receiverRef.getActorId();
+    }
+
+    @Override
+    public void run() {
+        synchronized (this) {
+            started = true;
+        }
+        // from now on, new messages for this actor go to a new batch
+        openBatches.remove(receiverRef, this);
+        MessageBatch messageBatch = new MessageBatch(tasks.size());
+        for (ActorLifecycleTask task : tasks) {
+            task.runInBatch(messageBatch);
+        }
+        if (!messageBatch.isEmpty()) {
+            complete(messageBatch);
+        }
+    }
+
+    private void complete(MessageBatch messageBatch) {
+        if (persistentActorRepository != null
+            && persistentActor.getState() != null
+            && messageBatch.shouldUpdateState())
+        {
+            try {
+                // generate the serialized state once for the whole batch
+                persistentActor.serializeState();
+                persistentActorRepository.updateAsync(
+                    persistentActor.getKey(),
+                    persistentActor,
+                    messageBatch.getLastMessage(),
+                    messageBatch
+                );
+                persistentActor.setUnpersistedChanges(false);
+                if (actorStateUpdateProcessor != null) {
+                    // once for every type of message that updated the state, as listeners filter on the type
+                    for (Class<?> messageClass : messageBatch.getUpdatingMessageClasses()) {
+                        actorStateUpdateProcessor.process(null, messageClass, persistentActor);
+                    }
+                }
+            } catch (Exception e) {
+                persistentActor.setUnpersistedChanges(true);
+                log.error("Exception while serializing ActorState for actor [{}]", receiverRef, e);
+            } finally {
+                // always ensure we release the memory of the serialized state
+                persistentActor.setSerializedState(null);
+            }
+        } else {
+            persistentActor.setUnpersistedChanges(true);
+            messageBatch.onDone(messageBatch.getLastMessage());
+        }
+    }
+}
@@ -29,7 +29,7 @@ import org.elasticsoftware.elasticactors.cluster.tasks.ActorLifecycleTask;
 import org.elasticsoftware.elasticactors.messaging.InternalMessage;
 import org.elasticsoftware.elasticactors.messaging.MessageHandlerEventListener;
 import org.elasticsoftware.elasticactors.messaging.reactivestreams.NextMessage;
-import org.elasticsoftware.elasticactors.serialization.Message;
+import org.elasticsoftware.elasticactors.serialization.MessageMetadata;
 import org.elasticsoftware.elasticactors.serialization.MessageSerializer;
 import org.elasticsoftware.elasticactors.serialization.MessageToStringConverter;
 import org.elasticsoftware.elasticactors.state.ActorStateUpdateProcessor;
@@ -134,8 +134,7 @@ final class HandleMessageTask
             InternalMessage internalMessage,
             Exception e) {
         if (logger.isErrorEnabled()) {
-            Message messageAnnotation = message.getClass().getAnnotation(Message.class);
-            if (messageAnnotation != null && messageAnnotation.logBodyOnError()) {
+            if (MessageMetadata.of(message).isLogBodyOnError()) {
                 logger.error(
                     "Exception while handling message of type [{}]. "
                         + "Actor [{}]. "
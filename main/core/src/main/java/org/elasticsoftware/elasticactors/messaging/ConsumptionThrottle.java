@@ -0,0 +1,191 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.messaging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+import org.elasticsoftware.elasticactors.util.concurrent.BackpressureListener;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pauses the consumption of a message queue while any of the {@link ThreadBoundExecutor}s it is
+ * registered on applies backpressure, and resumes it once all of them have released it.
+ *
+ * <p>
+ * The pause and resume actions are always run on the supplied {@link Executor}, one at a time,
+ * and only when the desired state differs from the current one. This keeps slow broker calls out
+ * of the executors' worker threads and makes the throttle insensitive to the order in which the
+ * notifications of different executors arrive.
+ */
+public final class ConsumptionThrottle implements BackpressureListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConsumptionThrottle.class);
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private final String queueName;
+    private final Action pause;
+    private final Action resume;
+    private final Executor executor;
+    private final AtomicInteger signals = new AtomicInteger();
+    private final List<ThreadBoundExecutor> executors = new ArrayList<>();
+    private final List<Meter> meters = new ArrayList<>();
+    private final LongAdder throttledCount = new LongAdder();
+    private final MeterRegistry registry;
+    private final Timer throttledTimer;
+    private boolean paused;
+    private boolean closed;
+    private long pausedSince;
+
+    public ConsumptionThrottle(
+        @Nonnull String queueName,
+        @Nonnull Action pause,
+        @Nonnull Action resume,
+        @Nonnull Executor executor,
+        @Nullable MicrometerConfiguration micrometerConfiguration)
+    {
+        this.queueName = queueName;
+        this.pause = pause;
+        this.resume = resume;
+        this.executor = executor;
+        if (micrometerConfiguration != null) {
+            String prefix = micrometerConfiguration.getMetricPrefix() + "messaging.queue.throttled";
+            Tags tags = micrometerConfiguration.getTags()
+                .and("name", micrometerConfiguration.getComponentName())
+                .and("queue", queueName);
+            this.registry = micrometerConfiguration.getRegistry();
+            meters.add(Gauge.builder(prefix, this, t -> t.isPaused() ? 1 : 0)
+                .tags(tags)
+                .description("Whether consumption of the queue is paused (1) or not (0)")
+                .register(registry));
+            meters.add(FunctionCounter.builder(prefix + ".count", throttledCount, LongAdder::sum)
+                .tags(tags)
+                .description("The number of times consumption of the queue was paused")
+                .register(registry));
+            this.throttledTimer = Timer.builder(prefix + ".time")
+                .tags(tags)
+                .description("The time consumption of the queue stayed paused")
+                .register(registry);
+            meters.add(throttledTimer);
+        } else {
+            this.registry = null;
+            this.throttledTimer = null;
+        }
+    }
+
+    /**
+     * Starts listening to the backpressure signals of the given executors. Null executors are
+     * ignored, so optional executors can be passed in directly.
+     */
+    public void register(@Nullable ThreadBoundExecutor... executors) {
+        for (ThreadBoundExecutor threadBoundExecutor : executors) {
+            if (threadBoundExecutor != null) {
+                synchronized (this) {
+                    this.executors.add(threadBoundExecutor);
+                }
+                threadBoundExecutor.addBackpressureListener(this);
+            }
+        }
+    }
+
+    /**
+     * Stops listening to backpressure signals and removes the metrics. The pause and resume actions
+     * will not be run anymore after this method returns.
+     */
+    public void unregister() {
+        List<ThreadBoundExecutor> registered;
+        synchronized (this) {
+            closed = true;
+            registered = new ArrayList<>(executors);
+            executors.clear();
+        }
+        registered.forEach(e -> e.removeBackpressureListener(this));
+        if (registry != null) {
+            meters.forEach(registry::remove);
+        }
+    }
+
+    public synchronized boolean isPaused() {
+        return paused;
+    }
+
+    @Override
+    public void onBackpressureApplied() {
+        if (signals.incrementAndGet() == 1) {
+            executor.execute(this::apply);
+        }
+    }
+
+    @Override
+    public void onBackpressureReleased() {
+        if (signals.decrementAndGet() == 0) {
+            executor.execute(this::apply);
+        }
+    }
+
+    private synchronized void apply() {
+        if (closed) {
+            return;
+        }
+        boolean shouldPause = signals.get() > 0;
+        if (shouldPause == paused) {
+            return;
+        }
+        try {
+            if (shouldPause) {
+                logger.warn("Pausing consumption of queue [{}]", queueName);
+                pause.run();
+                throttledCount.increment();
+                pausedSince = System.nanoTime();
+            } else {
+                logger.info("Resuming consumption of queue [{}]", queueName);
+                resume.run();
+                if (throttledTimer != null) {
+                    throttledTimer.record(System.nanoTime() - pausedSince, TimeUnit.NANOSECONDS);
+                }
+            }
+            paused = shouldPause;
+        } catch (Exception e) {
+            logger.error(
+                "Exception while {} consumption of queue [{}]",
+                shouldPause ? "pausing" : "resuming",
+                queueName,
+                e
+            );
+        }
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.messaging;
+
+import com.google.protobuf.UnsafeByteOperations;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+import org.elasticsoftware.elasticactors.serialization.protobuf.Messaging;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collects the messages published to a single destination queue into batches, see
+ * {@link InternalMessageBatching}.
+ *
+ * <p>
+ * A batch is published when it reaches the maximum number of messages or bytes, when its linger
+ * time expires, and before any message that can't be batched, so the order of the messages sent
+ * to the queue is preserved. A batch holding a single message is published as a plain
+ * {@link InternalMessage}.
+ *
+ * <p>
+ * Batches are taken out of the batcher while holding its lock, but they are published after
+ * releasing it (in the order they were taken out), so adding messages doesn't wait for the
+ * {@link Publisher}. When publishing a batch fails, the sender that caused the batch to be
+ * published gets the exception. The other senders have already been told their message was sent,
+ * so their messages are returned to them as undeliverable instead, see
+ * {@link UndeliverableMessages}. This includes all the messages of batches published when the
+ * linger time expires or when the batcher is destroyed.
+ */
+public final class InternalMessageBatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(InternalMessageBatcher.class);
+
+    @FunctionalInterface
+    public interface Publisher {
+        /**
+         * Publishes a message to the queue.
+         *
+         * @param messages the messages in the body, in order
+         * @param body the serialized message, or the serialized envelope if {@code batch} is true
+         * @param batch whether the body is an {@link Messaging.InternalMessageBatch} envelope
+         */
+        void publish(List<InternalMessage> messages, byte[] body, boolean batch);
+    }
+
+    private enum FlushReason {
+        SIZE, BYTES, LINGER, UNBATCHABLE, DESTROY
+    }
+
+    private final String queueName;
+    private final int maximumSize;
+    private final int maximumBytes;
+    private final long lingerMicros;
+    private final ScheduledExecutorService scheduler;
+    private final ThreadBoundExecutor queueExecutor;
+    private final Publisher publisher;
+    private final List<InternalMessage> pendingMessages = new ArrayList<>();
+    private final List<byte[]> pending = new ArrayList<>();
+    private final MeterRegistry registry;
+    private final List<Meter> meters = new ArrayList<>();
+    private final DistributionSummary batchSize;
+    private final DistributionSummary batchBytes;
+    private final Map<FlushReason, Counter> flushes = new EnumMap<>(FlushReason.class);
+    private final Counter lostMessages;
+    private int pendingBytes;
+    private long generation;
+    private boolean destroyed;
+    // batches are numbered when they are taken out, and published in that order
+    private long nextSequence;
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private final Condition publishTurn = publishLock.newCondition();
+    private long nextToPublish;
+
+    InternalMessageBatcher(
+        @Nonnull String queueName,
+        @Nonnull InternalMessageBatching batching,
+        @Nonnull ScheduledExecutorService scheduler,
+        @Nullable ThreadBoundExecutor queueExecutor,
+        @Nonnull Publisher publisher,
+        @Nullable MicrometerConfiguration micrometerConfiguration)
+    {
+        this.queueName = queueName;
+        this.maximumSize = batching.getMaximumSize();
+        this.maximumBytes = batching.getMaximumBytes();
+        this.lingerMicros = batching.getLingerMicros();
+        this.scheduler = scheduler;
+        this.queueExecutor = queueExecutor;
+        this.publisher = publisher;
+        if (micrometerConfiguration != null) {
+            String prefix = micrometerConfiguration.getMetricPrefix() + "messaging.queue.batch";
+            Tags tags = micrometerConfiguration.getTags()
+                .and("name", micrometerConfiguration.getComponentName())
+                .and("queue", queueName);
+            this.registry = micrometerConfiguration.getRegistry();
+            this.batchSize = DistributionSummary.builder(prefix + ".size")
+                .tags(tags)
+                .description("The number of messages published in a single broker message")
+                .register(registry);
+            this.batchBytes = DistributionSummary.builder(prefix + ".bytes")
+                .tags(tags)
+                .baseUnit("bytes")
+                .description("The size of the messages published in a single broker message")
+                .register(registry);
+            meters.add(batchSize);
+            meters.add(batchBytes);
+            for (FlushReason reason : FlushReason.values()) {
+                Counter counter = Counter.builder(prefix + ".flush")
+                    .tags(tags.and("reason", reason.name().toLowerCase()))
+                    .description("The number of batches published, by the reason they were published")
+                    .register(registry);
+                flushes.put(reason, counter);
+                meters.add(counter);
+            }
+            this.lostMessages = Counter.builder(prefix + ".lost")
+                .tags(tags)
+                .description("The number of batched messages that could not be published")
+                .register(registry);
+            meters.add(lostMessages);
+        } else {
+            this.registry = null;
+            this.batchSize = null;
+            this.batchBytes = null;
+            this.lostMessages = null;
+        }
+    }
+
+    public static boolean isBatchable(InternalMessage message) {
+        return message.isDurable() && message.getTimeout() < 0;
+    }
+
+    /**
+     * Adds a message to the current batch, or publishes it right away (after the current batch)
+     * if it can't be batched. Exceptions thrown by the {@link Publisher} are passed on.
+     */
+    public void add(InternalMessage message) {
+        List<Batch> batches = new ArrayList<>(2);
+        long firstSequence;
+        synchronized (this) {
+            if (destroyed || !isBatchable(message)) {
+                // serialize first, so the pending batch isn't taken out when this fails
+                byte[] serializedMessage = message.toByteArray();
+                takeBatch(FlushReason.UNBATCHABLE, batches);
+                batches.add(new Batch(Collections.singletonList(message), serializedMessage, false, false));
+            } else {
+                byte[] serializedMessage = message.toByteArray();
+                if (!pending.isEmpty() && pendingBytes + serializedMessage.length > maximumBytes) {
+                    takeBatch(FlushReason.BYTES, batches);
+                }
+                if (pending.isEmpty()) {
+                    scheduleLinger();
+                }
+                pendingMessages.add(message);
+                pending.add(serializedMessage);
+                pendingBytes += serializedMessage.length;
+                if (pending.size() >= maximumSize) {
+                    takeBatch(FlushReason.SIZE, batches);
+                } else if (pendingBytes >= maximumBytes) {
+                    takeBatch(FlushReason.BYTES, batches);
+                }
+            }
+            firstSequence = nextSequence;
+            nextSequence += batches.size();
+        }
+        publish(batches, firstSequence, message);
+    }
+
+    /**
+     * Publishes the current batch and stops batching, messages added after this are published
+     * one by one.
+     */
+    public void destroy() {
+        List<Batch> batches = new ArrayList<>(1);
+        long firstSequence;
+        synchronized (this) {
+            if (destroyed) {
+                return;
+            }
+            destroyed = true;
+            takeBatch(FlushReason.DESTROY, batches);
+            firstSequence = nextSequence;
+            nextSequence += batches.size();
+            if (registry != null) {
+                meters.forEach(registry::remove);
+            }
+        }
+        publishInBackground(batches, firstSequence);
+    }
+
+    private void scheduleLinger() {
+        final long expectedGeneration = generation;
+        try {
+            scheduler.schedule(() -> {
+                if (queueExecutor != null) {
+                    queueExecutor.execute(new LingerFlush(expectedGeneration));
+                } else {
+                    lingerExpired(expectedGeneration);
+                }
+            }, lingerMicros, TimeUnit.MICROSECONDS);
+        } catch (RejectedExecutionException e) {
+            // shutting down, the batch is published when it's full or when the queue is destroyed
+            logger.debug("Could not schedule the linger flush of queue [{}]", queueName);
+        }
+    }
+
+    private void lingerExpired(long expectedGeneration) {
+        List<Batch> batches = new ArrayList<>(1);
+        long firstSequence;
+        synchronized (this) {
+            if (generation != expectedGeneration) {
+                return;
+            }
+            takeBatch(FlushReason.LINGER, batches);
+            firstSequence = nextSequence;
+            nextSequence += batches.size();
+        }
+        publishInBackground(batches, firstSequence);
+    }
+
+    /**
+     * Takes the pending messages out as a batch, must be called while holding the lock of this
+     * batcher. The batch is published by {@link #publish(List, long)}.
+     */
+    private void takeBatch(FlushReason reason, List<Batch> batches) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        int count = pending.size();
+        byte[] body;
+        if (count == 1) {
+            body = pending.get(0);
+        } else {
+            Messaging.InternalMessageBatch.Builder builder =
+                Messaging.InternalMessageBatch.newBuilder();
+            for (byte[] serializedMessage : pending) {
+                builder.addMessages(UnsafeByteOperations.unsafeWrap(serializedMessage));
+            }
+            body = builder.build().toByteArray();
+        }
+        batches.add(new Batch(new ArrayList<>(pendingMessages), body, count > 1, true));
+        pendingMessages.clear();
+        pending.clear();
+        pendingBytes = 0;
+        generation++;
+        if (registry != null) {
+            batchSize.record(count);
+            batchBytes.record(body.length);
+            flushes.get(reason).increment();
+        }
+    }
+
+    /**
+     * Publishes the batches once all batches taken out before them have been published. When a
+     * batch fails, the batches after it in the list are not published and the exception is
+     * passed on. The batched messages that were not published are returned to their senders,
+     * except for the message of the sender that gets the exception.
+     *
+     * @param sentMessage the message added by the sender that gets the exception, if any
+     */
+    private void publish(List<Batch> batches, long firstSequence, @Nullable InternalMessage sentMessage) {
+        if (batches.isEmpty()) {
+            return;
+        }
+        List<InternalMessage> unpublished = null;
+        RuntimeException failure = null;
+        publishLock.lock();
+        try {
+            while (nextToPublish != firstSequence) {
+                publishTurn.awaitUninterruptibly();
+            }
+            int index = 0;
+            try {
+                for (; index < batches.size(); index++) {
+                    Batch batch = batches.get(index);
+                    publisher.publish(batch.messages, batch.body, batch.batch);
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+                unpublished = takeUnpublished(batches.subList(index, batches.size()), sentMessage);
+                throw e;
+            } finally {
+                nextToPublish = firstSequence + batches.size();
+                publishTurn.signalAll();
+            }
+        } finally {
+            publishLock.unlock();
+            // after releasing the lock, because returning a message can publish to this queue again
+            if (unpublished != null && !unpublished.isEmpty()) {
+                logger.error(
+                    "Exception while publishing {} batched messages to queue [{}], returning messages {} to their senders",
+                    unpublished.size(),
+                    queueName,
+                    unpublished.stream().map(InternalMessage::getId).toList(),
+                    failure
+                );
+                UndeliverableMessages.returnToSenders(unpublished, failure);
+            }
+        }
+    }
+
+    private List<InternalMessage> takeUnpublished(List<Batch> batches, @Nullable InternalMessage sentMessage) {
+        List<InternalMessage> unpublished = new ArrayList<>();
+        for (Batch batch : batches) {
+            if (batch.batched) {
+                if (registry != null) {
+                    lostMessages.increment(batch.messages.size());
+                }
+                for (InternalMessage message : batch.messages) {
+                    if (message != sentMessage) {
+                        unpublished.add(message);
+                    }
+                }
+            }
+        }
+        return unpublished;
+    }
+
+    private void publishInBackground(List<Batch> batches, long firstSequence) {
+        try {
+            publish(batches, firstSequence, null);
+        } catch (RuntimeException e) {
+            // already logged, and the messages have been returned to their senders
+            logger.debug("Publishing batches to queue [{}] in the background failed", queueName, e);
+        }
+    }
+
+    private static final class Batch {
+        private final List<InternalMessage> messages;
+        private final byte[] body;
+        private final boolean batch;
+        private final boolean batched;
+
+        /**
+         * @param batch whether the body is an envelope
+         * @param batched whether the messages were held back by the batcher, as opposed to an
+         * unbatchable message that is published right away
+         */
+        private Batch(List<InternalMessage> messages, byte[] body, boolean batch, boolean batched) {
+            this.messages = messages;
+            this.body = body;
+            this.batch = batch;
+            this.batched = batched;
+        }
+    }
+
+    private final class LingerFlush implements ThreadBoundRunnable<String> {
+        private final long expectedGeneration;
+
+        private LingerFlush(long expectedGeneration) {
+            this.expectedGeneration = expectedGeneration;
+        }
+
+        @Override
+        public void run() {
+            lingerExpired(expectedGeneration);
+        }
+
+        @Override
+        public String getKey() {
+            return queueName;
+        }
+    }
+}
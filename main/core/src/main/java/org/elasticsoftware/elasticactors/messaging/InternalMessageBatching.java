@@ -0,0 +1,190 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.messaging;
+
+import com.google.protobuf.ByteString;
+import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+import org.elasticsoftware.elasticactors.serialization.internal.InternalMessageDeserializer;
+import org.elasticsoftware.elasticactors.serialization.protobuf.Messaging;
+import org.elasticsoftware.elasticactors.util.concurrent.DaemonThreadFactory;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.lang.String.format;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+
+/**
+ * Wire-level batching of the {@link InternalMessage}s a node publishes to the messaging layer.
+ * Durable messages without a timeout that are sent to the same queue within the linger time are
+ * packed into a single {@link Messaging.InternalMessageBatch} envelope, up to a maximum number of
+ * messages and bytes. The envelope is published as one broker message marked with
+ * {@link #BATCH_TYPE}, and it is acknowledged once all the messages in it have been handled.
+ *
+ * <p>
+ * A sender is only told synchronously that the batch holding its message could not be published
+ * when its own message caused the batch to be published. The other messages in the batch are
+ * returned to their senders as undeliverable, see {@link InternalMessageBatcher}. Messages the
+ * broker loses after accepting the batch can only be detected by a messaging layer that waits for
+ * the broker, so such layers should only enable batching when they do.
+ *
+ * <p>
+ * Consumers always understand envelopes (see {@link #handleBatch}), so batching can be enabled
+ * one node at a time once all nodes run a version that supports it.
+ */
+public final class InternalMessageBatching {
+
+    private static final Logger logger = LoggerFactory.getLogger(InternalMessageBatching.class);
+
+    /**
+     * The message type (AMQP) or property (ActiveMQ) that marks a batch envelope.
+     */
+    public static final String BATCH_TYPE = "InternalMessageBatch";
+
+    private final int maximumSize;
+    private final int maximumBytes;
+    private final long lingerMicros;
+    private final MicrometerConfiguration micrometerConfiguration;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Reads the batching configuration of a messaging layer from the
+     * {@code <prefix>.batching.*} properties.
+     *
+     * @return the configuration, or null when batching is not enabled
+     */
+    @Nullable
+    public static InternalMessageBatching build(
+        @Nonnull Environment env,
+        @Nonnull String prefix,
+        @Nullable MicrometerConfiguration micrometerConfiguration)
+    {
+        if (!env.getProperty(format("%s.batching.enabled", prefix), Boolean.class, false)) {
+            return null;
+        }
+        return new InternalMessageBatching(
+            env.getProperty(format("%s.batching.maximumSize", prefix), Integer.class, 64),
+            env.getProperty(format("%s.batching.maximumBytes", prefix), Integer.class, 131072),
+            env.getProperty(format("%s.batching.lingerMicros", prefix), Long.class, 1000L),
+            micrometerConfiguration
+        );
+    }
+
+    public InternalMessageBatching(
+        int maximumSize,
+        int maximumBytes,
+        long lingerMicros,
+        @Nullable MicrometerConfiguration micrometerConfiguration)
+    {
+        if (maximumSize < 1 || maximumBytes < 1 || lingerMicros < 0) {
+            throw new IllegalArgumentException(format(
+                "Invalid batching configuration: maximumSize=%d, maximumBytes=%d, lingerMicros=%d",
+                maximumSize,
+                maximumBytes,
+                lingerMicros
+            ));
+        }
+        this.maximumSize = maximumSize;
+        this.maximumBytes = maximumBytes;
+        this.lingerMicros = lingerMicros;
+        this.micrometerConfiguration = micrometerConfiguration;
+        this.scheduler = newSingleThreadScheduledExecutor(
+            new DaemonThreadFactory("INTERNALMESSAGE-BATCH-LINGER"));
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public int getMaximumBytes() {
+        return maximumBytes;
+    }
+
+    public long getLingerMicros() {
+        return lingerMicros;
+    }
+
+    /**
+     * Creates the batcher for a single destination queue.
+     *
+     * @param queueExecutor when not null, batches that reach their linger time are published on
+     * the thread of this executor that is bound to the queue name, instead of on the linger thread
+     */
+    public InternalMessageBatcher createBatcher(
+        @Nonnull String queueName,
+        @Nullable ThreadBoundExecutor queueExecutor,
+        @Nonnull InternalMessageBatcher.Publisher publisher)
+    {
+        return new InternalMessageBatcher(
+            queueName,
+            this,
+            scheduler,
+            queueExecutor,
+            publisher,
+            micrometerConfiguration
+        );
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Unpacks a batch envelope and hands every message in it to the {@link MessageHandler}. The
+     * listener is notified once, after all the messages have been handled. Messages that cannot
+     * be deserialized are logged and counted as handled, so they don't hold back the
+     * acknowledgement of the envelope.
+     */
+    public static void handleBatch(
+        @Nonnull ByteBuffer body,
+        @Nonnull InternalMessageDeserializer internalMessageDeserializer,
+        @Nonnull MessageHandler messageHandler,
+        @Nonnull MessageHandlerEventListener listener) throws IOException
+    {
+        List<ByteString> messages = Messaging.InternalMessageBatch.parseFrom(body).getMessagesList();
+        if (messages.isEmpty()) {
+            listener.onDone(null);
+            return;
+        }
+        MessageHandlerEventListener batchListener =
+            new MultiMessageHandlerEventListener(listener, messages.size());
+        for (ByteString serializedMessage : messages) {
+            InternalMessage message;
+            try {
+                message = internalMessageDeserializer.deserialize(serializedMessage.asReadOnlyByteBuffer());
+            } catch (Exception e) {
+                logger.error("Exception deserializing InternalMessage from batch", e);
+                batchListener.onError(null, e);
+                continue;
+            }
+            try {
+                messageHandler.handleMessage(message, batchListener);
+            } catch (Exception e) {
+                logger.error("Unexpected exception on #handleMessage", e);
+            }
+        }
+    }
+}
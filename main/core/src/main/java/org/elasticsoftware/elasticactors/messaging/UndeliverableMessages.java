@@ -0,0 +1,81 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package org.elasticsoftware.elasticactors.messaging;
+
+import org.elasticsoftware.elasticactors.ActorContainerRef;
+import org.elasticsoftware.elasticactors.ActorRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Returns messages the messaging layer accepted, but could not deliver to the broker afterwards (i.e. the broker
+ * didn't confirm them), to their senders. Like a message for an actor that doesn't exist, the sender gets the
+ * message back as undeliverable for every receiver, so it is passed to
+ * {@link org.elasticsoftware.elasticactors.ElasticActor#onUndeliverable(ActorRef, Object)}. Messages without a
+ * sender that can receive it, and undeliverable messages themselves, are logged as lost.
+ */
+public final class UndeliverableMessages {
+
+    private static final Logger logger = LoggerFactory.getLogger(UndeliverableMessages.class);
+
+    private UndeliverableMessages() {
+    }
+
+    public static void returnToSenders(List<InternalMessage> messages, Throwable cause) {
+        for (InternalMessage message : messages) {
+            returnToSender(message, cause);
+        }
+    }
+
+    public static void returnToSender(InternalMessage message, Throwable cause) {
+        ActorRef senderRef = message.getSender();
+        if (senderRef instanceof ActorContainerRef && !message.isUndeliverable()) {
+            logger.warn(
+                "Message [{}] of type [{}] was not delivered, returning it to sender [{}]: {}",
+                message.getId(),
+                message.getPayloadClass(),
+                senderRef,
+                cause.getMessage()
+            );
+            for (ActorRef receiverRef : message.getReceivers()) {
+                try {
+                    ((ActorContainerRef) senderRef).getActorContainer().undeliverableMessage(message, receiverRef);
+                } catch (Exception e) {
+                    logger.error(
+                        "Could not return message [{}] of type [{}] for receiver [{}] to sender [{}], it is lost",
+                        message.getId(),
+                        message.getPayloadClass(),
+                        receiverRef,
+                        senderRef,
+                        e
+                    );
+                }
+            }
+        } else {
+            logger.error(
+                "Message [{}] of type [{}] for receivers {} was not delivered and is lost. Sender [{}]",
+                message.getId(),
+                message.getPayloadClass(),
+                message.getReceivers(),
+                senderRef,
+                cause
+            );
+        }
+    }
+}
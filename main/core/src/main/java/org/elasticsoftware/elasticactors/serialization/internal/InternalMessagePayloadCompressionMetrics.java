@@ -0,0 +1,113 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.serialization.internal;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+
+import jakarta.annotation.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the compression ratio and the time spent compressing and decompressing the payloads of InternalMessages,
+ * per payload class. Does nothing when no {@link MicrometerConfiguration} is given.
+ */
+public final class InternalMessagePayloadCompressionMetrics implements InternalMessagePayloadCompression.Listener {
+
+    private static final String MESSAGE_TYPE_TAG = "elastic.actors.message.type";
+
+    @Nullable private final MicrometerConfiguration micrometerConfiguration;
+    private final ConcurrentMap<String, PayloadClassMeters> meters = new ConcurrentHashMap<>();
+
+    public InternalMessagePayloadCompressionMetrics(@Nullable MicrometerConfiguration micrometerConfiguration) {
+        this.micrometerConfiguration = micrometerConfiguration;
+    }
+
+    /**
+     * @return whether there is a {@link MicrometerConfiguration} to record the metrics with
+     */
+    public boolean isEnabled() {
+        return micrometerConfiguration != null;
+    }
+
+    /**
+     * Removes the metrics
+     */
+    public void unregister() {
+        if (micrometerConfiguration != null) {
+            MeterRegistry registry = micrometerConfiguration.getRegistry();
+            meters.values().forEach(payloadClassMeters -> payloadClassMeters.remove(registry));
+            meters.clear();
+        }
+    }
+
+    @Override
+    public void onCompressed(String payloadClass, int length, int compressedLength, long durationNanos) {
+        PayloadClassMeters payloadClassMeters = getMeters(payloadClass);
+        payloadClassMeters.ratio.record((double) compressedLength / length);
+        payloadClassMeters.compressionTime.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onDecompressed(String payloadClass, int compressedLength, int length, long durationNanos) {
+        getMeters(payloadClass).decompressionTime.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private PayloadClassMeters getMeters(String payloadClass) {
+        PayloadClassMeters payloadClassMeters = meters.get(payloadClass);
+        return payloadClassMeters != null
+            ? payloadClassMeters
+            : meters.computeIfAbsent(payloadClass, this::createMeters);
+    }
+
+    private PayloadClassMeters createMeters(String payloadClass) {
+        String prefix = micrometerConfiguration.getMetricPrefix() + "serialization.payload.compression";
+        Tags tags = micrometerConfiguration.getTags()
+            .and("name", micrometerConfiguration.getComponentName())
+            .and(MESSAGE_TYPE_TAG, payloadClass);
+        MeterRegistry registry = micrometerConfiguration.getRegistry();
+        return new PayloadClassMeters(
+            DistributionSummary.builder(prefix + ".ratio")
+                .tags(tags)
+                .description("The compressed size of payloads divided by their uncompressed size")
+                .register(registry),
+            Timer.builder(prefix + ".time")
+                .tags(tags.and("operation", "compress"))
+                .description("The time spent compressing payloads")
+                .register(registry),
+            Timer.builder(prefix + ".time")
+                .tags(tags.and("operation", "decompress"))
+                .description("The time spent decompressing payloads")
+                .register(registry)
+        );
+    }
+
+    private record PayloadClassMeters(DistributionSummary ratio, Timer compressionTime, Timer decompressionTime) {
+
+        void remove(MeterRegistry registry) {
+            registry.remove(ratio);
+            registry.remove(compressionTime);
+            registry.remove(decompressionTime);
+        }
+    }
+}
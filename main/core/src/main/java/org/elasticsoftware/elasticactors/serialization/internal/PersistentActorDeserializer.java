@@ -34,8 +34,8 @@ import org.reactivestreams.Subscriber;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static org.elasticsoftware.elasticactors.util.ClassLoadingHelper.getClassHelper;
 
@@ -62,29 +62,44 @@ public final class PersistentActorDeserializer implements Deserializer<ByteBuffe
             Class<? extends ElasticActor> actorClass =
                 (Class<? extends ElasticActor>) getClassHelper().forName(protobufMessage.getActorClass());
             final String currentActorStateVersion = actorSystems.getActorStateVersion(actorClass);
-            final ActorRef selfRef = actorRefFactory.create(protobufMessage.getActorRef());
+            // with compact ActorRefs the refs are stored in order (self, subscriptions, subscribers) in actorRefs
+            final ActorRef[] refs = protobufMessage.hasActorRefs()
+                ? CompactActorRefs.decode(protobufMessage.getActorRefs(), actorRefFactory)
+                : null;
+            if (refs != null
+                && refs.length != 1 + protobufMessage.getSubscriptionsCount() + protobufMessage.getSubscribersCount()) {
+                throw new IOException("Compact ActorRefs don't match the subscriptions and subscribers of PersistentActor");
+            }
+            final ActorRef selfRef = refs != null ? refs[0] : actorRefFactory.create(protobufMessage.getActorRef());
             HashMultimap<String, MessageSubscriber> messageSubscribers = protobufMessage.getSubscribersCount() > 0 ? HashMultimap.create() : null;
 
             if (protobufMessage.getSubscribersCount() > 0) {
-                protobufMessage.getSubscribersList().forEach(s -> messageSubscribers.put(
-                    s.getMessageName(),
-                    new MessageSubscriber(
-                        actorRefFactory.create(s.getSubscriberRef()),
-                        s.getLeases()
-                    )
-                ));
+                int offset = 1 + protobufMessage.getSubscriptionsCount();
+                for (int i = 0; i < protobufMessage.getSubscribersCount(); i++) {
+                    Elasticactors.Subscriber s = protobufMessage.getSubscribers(i);
+                    messageSubscribers.put(
+                        s.getMessageName(),
+                        new MessageSubscriber(
+                            refs != null ? refs[offset + i] : actorRefFactory.create(s.getSubscriberRef()),
+                            s.getLeases()
+                        )
+                    );
+                }
             }
             List<InternalPersistentSubscription> persistentSubscriptions = null;
 
             if (protobufMessage.getSubscriptionsCount() > 0) {
-                persistentSubscriptions = protobufMessage.getSubscriptionsList().stream()
-                    .map(s -> new PersistentSubscriptionImpl(
+                persistentSubscriptions = new ArrayList<>(protobufMessage.getSubscriptionsCount());
+                for (int i = 0; i < protobufMessage.getSubscriptionsCount(); i++) {
+                    Elasticactors.Subscription s = protobufMessage.getSubscriptions(i);
+                    persistentSubscriptions.add(new PersistentSubscriptionImpl(
                         selfRef,
-                        actorRefFactory.create(s.getPublisherRef()),
+                        refs != null ? refs[1 + i] : actorRefFactory.create(s.getPublisherRef()),
                         s.getMessageName(),
                         s.getCancelled(),
                         materializeSubscriber(selfRef, actorClass, s.getMessageName())
-                    )).collect(Collectors.toList());
+                    ));
+                }
             }
 
             return new PersistentActor<>(
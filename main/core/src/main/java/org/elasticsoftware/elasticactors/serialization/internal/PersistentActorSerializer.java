@@ -17,7 +17,7 @@
 
 package org.elasticsoftware.elasticactors.serialization.internal;
 
-import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import org.elasticsoftware.elasticactors.ShardKey;
 import org.elasticsoftware.elasticactors.serialization.SerializationFrameworks;
 import org.elasticsoftware.elasticactors.serialization.Serializer;
@@ -25,6 +25,8 @@ import org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors;
 import org.elasticsoftware.elasticactors.state.PersistentActor;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.elasticsoftware.elasticactors.util.SerializationTools.serializeActorState;
 
@@ -33,9 +35,18 @@ import static org.elasticsoftware.elasticactors.util.SerializationTools.serializ
  */
 public final class PersistentActorSerializer implements Serializer<PersistentActor<ShardKey>,byte[]> {
     private final SerializationFrameworks serializationFrameworks;
+    private final boolean compactActorRefs;
 
     public PersistentActorSerializer(SerializationFrameworks serializationFrameworks) {
+        this(serializationFrameworks, false);
+    }
+
+    /**
+     * @param compactActorRefs write the refs with {@link CompactActorRefs} instead of as strings
+     */
+    public PersistentActorSerializer(SerializationFrameworks serializationFrameworks, boolean compactActorRefs) {
         this.serializationFrameworks = serializationFrameworks;
+        this.compactActorRefs = compactActorRefs;
     }
 
     @Override
@@ -44,26 +55,48 @@ public final class PersistentActorSerializer implements Serializer<PersistentAct
         builder.setShardKey(persistentActor.getKey().toString());
         builder.setActorSystemVersion(persistentActor.getCurrentActorStateVersion());
         builder.setActorClass(persistentActor.getActorClass().getName());
-        builder.setActorRef(persistentActor.getSelf().toString());
+        // with compact ActorRefs the refs are written in order (self, subscriptions, subscribers) to actorRefs
+        List<String> refSpecs = compactActorRefs ? new ArrayList<>() : null;
+        if (refSpecs != null) {
+            refSpecs.add(persistentActor.getSelf().toString());
+        } else {
+            builder.setActorRef(persistentActor.getSelf().toString());
+        }
 
         if (persistentActor.getState() != null) {
-            builder.setState(ByteString.copyFrom(getSerializedState(persistentActor)));
+            builder.setState(UnsafeByteOperations.unsafeWrap(getSerializedState(persistentActor)));
         }
 
         if(persistentActor.getPersistentSubscriptions() != null && !persistentActor.getPersistentSubscriptions().isEmpty()) {
-            persistentActor.getPersistentSubscriptions().forEach(s -> builder.addSubscriptions(
-                    Elasticactors.Subscription.newBuilder()
-                            .setPublisherRef(s.getPublisherRef().toString())
-                            .setMessageName(s.getMessageName())
-                            .setCancelled(s.isCancelled())));
+            persistentActor.getPersistentSubscriptions().forEach(s -> {
+                Elasticactors.Subscription.Builder subscription = Elasticactors.Subscription.newBuilder()
+                        .setMessageName(s.getMessageName())
+                        .setCancelled(s.isCancelled());
+                if (refSpecs != null) {
+                    refSpecs.add(s.getPublisherRef().toString());
+                } else {
+                    subscription.setPublisherRef(s.getPublisherRef().toString());
+                }
+                builder.addSubscriptions(subscription);
+            });
         }
 
         if(persistentActor.getMessageSubscribers() != null && !persistentActor.getMessageSubscribers().isEmpty()) {
-            persistentActor.getMessageSubscribers().forEach((messageName, messageSubscriber) ->
-                builder.addSubscribers(Elasticactors.Subscriber.newBuilder()
+            persistentActor.getMessageSubscribers().forEach((messageName, messageSubscriber) -> {
+                Elasticactors.Subscriber.Builder subscriber = Elasticactors.Subscriber.newBuilder()
                     .setMessageName(messageName)
-                    .setSubscriberRef(messageSubscriber.getSubscriberRef().toString())
-                    .setLeases(messageSubscriber.getLeases())));
+                    .setLeases(messageSubscriber.getLeases());
+                if (refSpecs != null) {
+                    refSpecs.add(messageSubscriber.getSubscriberRef().toString());
+                } else {
+                    subscriber.setSubscriberRef(messageSubscriber.getSubscriberRef().toString());
+                }
+                builder.addSubscribers(subscriber);
+            });
+        }
+
+        if (refSpecs != null) {
+            builder.setActorRefs(CompactActorRefs.encode(refSpecs));
         }
 
         return builder.build().toByteArray();
@@ -37,51 +37,62 @@ public final class Elasticactors {
 
     /**
      * <code>optional string actorId = 1;</code>
+     * @return Whether the actorId field is set.
      */
     boolean hasActorId();
     /**
      * <code>optional string actorId = 1;</code>
+     * @return The actorId.
      */
     java.lang.String getActorId();
     /**
      * <code>optional string actorId = 1;</code>
+     * @return The bytes for actorId.
      */
     com.google.protobuf.ByteString
         getActorIdBytes();
 
     /**
      * <code>optional string messageClass = 2;</code>
+     * @return Whether the messageClass field is set.
      */
     boolean hasMessageClass();
     /**
      * <code>optional string messageClass = 2;</code>
+     * @return The messageClass.
      */
     java.lang.String getMessageClass();
     /**
      * <code>optional string messageClass = 2;</code>
+     * @return The bytes for messageClass.
      */
     com.google.protobuf.ByteString
         getMessageClassBytes();
 
     /**
      * <code>optional bytes message = 3;</code>
+     * @return Whether the message field is set.
      */
     boolean hasMessage();
     /**
      * <code>optional bytes message = 3;</code>
+     * @return The message.
      */
     com.google.protobuf.ByteString getMessage();
 
     /**
      * <code>optional string messageQueueAffinityKey = 4;</code>
+     * @return Whether the messageQueueAffinityKey field is set.
      */
     boolean hasMessageQueueAffinityKey();
     /**
      * <code>optional string messageQueueAffinityKey = 4;</code>
+     * @return The messageQueueAffinityKey.
      */
     java.lang.String getMessageQueueAffinityKey();
     /**
      * <code>optional string messageQueueAffinityKey = 4;</code>
+     * @return The bytes for messageQueueAffinityKey.
      */
     com.google.protobuf.ByteString
         getMessageQueueAffinityKeyBytes();
@@ -89,7 +100,7 @@ public final class Elasticactors {
   /**
    * Protobuf type {@code org.elasticsoftware.elasticactors.serialization.protobuf.ActorSystemEventListener}
    */
-  public  static final class ActorSystemEventListener extends
+  public static final class ActorSystemEventListener extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.serialization.protobuf.ActorSystemEventListener)
       ActorSystemEventListenerOrBuilder {
@@ -106,71 +117,12 @@ public final class Elasticactors {
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private ActorSystemEventListener(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              actorId_ = bs;
-              break;
-            }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000002;
-              messageClass_ = bs;
-              break;
-            }
-            case 26: {
-              bitField0_ |= 0x00000004;
-              message_ = input.readBytes();
-              break;
-            }
-            case 34: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000008;
-              messageQueueAffinityKey_ = bs;
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ActorSystemEventListener();
     }
+
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
       return org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_ActorSystemEventListener_descriptor;
@@ -186,16 +138,21 @@ public final class Elasticactors {
 
     private int bitField0_;
     public static final int ACTORID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object actorId_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object actorId_ = "";
     /**
      * <code>optional string actorId = 1;</code>
+     * @return Whether the actorId field is set.
      */
+    @java.lang.Override
     public boolean hasActorId() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
      * <code>optional string actorId = 1;</code>
+     * @return The actorId.
      */
+    @java.lang.Override
     public java.lang.String getActorId() {
       java.lang.Object ref = actorId_;
       if (ref instanceof java.lang.String) {
@@ -212,7 +169,9 @@ public final class Elasticactors {
     }
     /**
      * <code>optional string actorId = 1;</code>
+     * @return The bytes for actorId.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getActorIdBytes() {
       java.lang.Object ref = actorId_;
@@ -228,16 +187,21 @@ public final class Elasticactors {
     }
 
     public static final int MESSAGECLASS_FIELD_NUMBER = 2;
-    private volatile java.lang.Object messageClass_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object messageClass_ = "";
     /**
      * <code>optional string messageClass = 2;</code>
+     * @return Whether the messageClass field is set.
      */
+    @java.lang.Override
     public boolean hasMessageClass() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
      * <code>optional string messageClass = 2;</code>
+     * @return The messageClass.
      */
+    @java.lang.Override
     public java.lang.String getMessageClass() {
       java.lang.Object ref = messageClass_;
       if (ref instanceof java.lang.String) {
@@ -254,7 +218,9 @@ public final class Elasticactors {
     }
     /**
      * <code>optional string messageClass = 2;</code>
+     * @return The bytes for messageClass.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getMessageClassBytes() {
       java.lang.Object ref = messageClass_;
@@ -270,31 +236,40 @@ public final class Elasticactors {
     }
 
     public static final int MESSAGE_FIELD_NUMBER = 3;
-    private com.google.protobuf.ByteString message_;
+    private com.google.protobuf.ByteString message_ = com.google.protobuf.ByteString.EMPTY;
     /**
      * <code>optional bytes message = 3;</code>
+     * @return Whether the message field is set.
      */
+    @java.lang.Override
     public boolean hasMessage() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+      return ((bitField0_ & 0x00000004) != 0);
     }
     /**
      * <code>optional bytes message = 3;</code>
+     * @return The message.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString getMessage() {
       return message_;
     }
 
     public static final int MESSAGEQUEUEAFFINITYKEY_FIELD_NUMBER = 4;
-    private volatile java.lang.Object messageQueueAffinityKey_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object messageQueueAffinityKey_ = "";
     /**
      * <code>optional string messageQueueAffinityKey = 4;</code>
+     * @return Whether the messageQueueAffinityKey field is set.
      */
+    @java.lang.Override
     public boolean hasMessageQueueAffinityKey() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
+      return ((bitField0_ & 0x00000008) != 0);
     }
     /**
      * <code>optional string messageQueueAffinityKey = 4;</code>
+     * @return The messageQueueAffinityKey.
      */
+    @java.lang.Override
     public java.lang.String getMessageQueueAffinityKey() {
       java.lang.Object ref = messageQueueAffinityKey_;
       if (ref instanceof java.lang.String) {
@@ -311,7 +286,9 @@ public final class Elasticactors {
     }
     /**
      * <code>optional string messageQueueAffinityKey = 4;</code>
+     * @return The bytes for messageQueueAffinityKey.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getMessageQueueAffinityKeyBytes() {
       java.lang.Object ref = messageQueueAffinityKey_;
@@ -340,19 +317,19 @@ public final class Elasticactors {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, actorId_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, messageClass_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         output.writeBytes(3, message_);
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000008) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 4, messageQueueAffinityKey_);
       }
-      unknownFields.writeTo(output);
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -361,20 +338,20 @@ public final class Elasticactors {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, actorId_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, messageClass_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(3, message_);
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000008) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, messageQueueAffinityKey_);
       }
-      size += unknownFields.getSerializedSize();
+      size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
@@ -389,29 +366,28 @@ public final class Elasticactors {
       }
       org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.ActorSystemEventListener other = (org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.ActorSystemEventListener) obj;
 
-      boolean result = true;
-      result = result && (hasActorId() == other.hasActorId());
+      if (hasActorId() != other.hasActorId()) return false;
       if (hasActorId()) {
-        result = result && getActorId()
-            .equals(other.getActorId());
+        if (!getActorId()
+            .equals(other.getActorId())) return false;
       }
-      result = result && (hasMessageClass() == other.hasMessageClass());
+      if (hasMessageClass() != other.hasMessageClass()) return false;
       if (hasMessageClass()) {
-        result = result && getMessageClass()
-            .equals(other.getMessageClass());
+        if (!getMessageClass()
+            .equals(other.getMessageClass())) return false;
       }
-      result = result && (hasMessage() == other.hasMessage());
+      if (hasMessage() != other.hasMessage()) return false;
       if (hasMessage()) {
-        result = result && getMessage()
-            .equals(other.getMessage());
+        if (!getMessage()
+            .equals(other.getMessage())) return false;
       }
-      result = result && (hasMessageQueueAffinityKey() == other.hasMessageQueueAffinityKey());
+      if (hasMessageQueueAffinityKey() != other.hasMessageQueueAffinityKey()) return false;
       if (hasMessageQueueAffinityKey()) {
-        result = result && getMessageQueueAffinityKey()
-            .equals(other.getMessageQueueAffinityKey());
+        if (!getMessageQueueAffinityKey()
+            .equals(other.getMessageQueueAffinityKey())) return false;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -437,7 +413,7 @@ public final class Elasticactors {
         hash = (37 * hash) + MESSAGEQUEUEAFFINITYKEY_FIELD_NUMBER;
         hash = (53 * hash) + getMessageQueueAffinityKey().hashCode();
       }
-      hash = (29 * hash) + unknownFields.hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -554,30 +530,22 @@ public final class Elasticactors {
 
       // Construct using org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.ActorSystemEventListener.newBuilder()
       private Builder() {
-        maybeForceBuilderInitialization();
+
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
         super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
+
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
         actorId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
         messageClass_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
         message_ = com.google.protobuf.ByteString.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000004);
         messageQueueAffinityKey_ = "";
-        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -604,61 +572,33 @@ public final class Elasticactors {
       @java.lang.Override
       public org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.ActorSystemEventListener buildPartial() {
         org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.ActorSystemEventListener result = new org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.ActorSystemEventListener(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.ActorSystemEventListener result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.actorId_ = actorId_;
           to_bitField0_ |= 0x00000001;
         }
-        result.actorId_ = actorId_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.messageClass_ = messageClass_;
           to_bitField0_ |= 0x00000002;
         }
-        result.messageClass_ = messageClass_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.message_ = message_;
           to_bitField0_ |= 0x00000004;
         }
-        result.message_ = message_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.messageQueueAffinityKey_ = messageQueueAffinityKey_;
           to_bitField0_ |= 0x00000008;
         }
-        result.messageQueueAffinityKey_ = messageQueueAffinityKey_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        result.bitField0_ |= to_bitField0_;
       }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.ActorSystemEventListener) {
@@ -672,24 +612,24 @@ public final class Elasticactors {
       public Builder mergeFrom(org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.ActorSystemEventListener other) {
         if (other == org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.ActorSystemEventListener.getDefaultInstance()) return this;
         if (other.hasActorId()) {
-          bitField0_ |= 0x00000001;
           actorId_ = other.actorId_;
+          bitField0_ |= 0x00000001;
           onChanged();
         }
         if (other.hasMessageClass()) {
-          bitField0_ |= 0x00000002;
           messageClass_ = other.messageClass_;
+          bitField0_ |= 0x00000002;
           onChanged();
         }
         if (other.hasMessage()) {
           setMessage(other.getMessage());
         }
         if (other.hasMessageQueueAffinityKey()) {
-          bitField0_ |= 0x00000008;
           messageQueueAffinityKey_ = other.messageQueueAffinityKey_;
+          bitField0_ |= 0x00000008;
           onChanged();
         }
-        this.mergeUnknownFields(other.unknownFields);
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
@@ -704,17 +644,50 @@ public final class Elasticactors {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.ActorSystemEventListener parsedMessage = null;
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
         try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                actorId_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                messageClass_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                message_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                messageQueueAffinityKey_ = input.readBytes();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.ActorSystemEventListener) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+          onChanged();
+        } // finally
         return this;
       }
       private int bitField0_;
@@ -722,12 +695,14 @@ public final class Elasticactors {
       private java.lang.Object actorId_ = "";
       /**
        * <code>optional string actorId = 1;</code>
+       * @return Whether the actorId field is set.
        */
       public boolean hasActorId() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <code>optional string actorId = 1;</code>
+       * @return The actorId.
        */
       public java.lang.String getActorId() {
         java.lang.Object ref = actorId_;
@@ -745,6 +720,7 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string actorId = 1;</code>
+       * @return The bytes for actorId.
        */
       public com.google.protobuf.ByteString
           getActorIdBytes() {
@@ -761,36 +737,37 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string actorId = 1;</code>
+       * @param value The actorId to set.
+       * @return This builder for chaining.
        */
       public Builder setActorId(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         actorId_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorId = 1;</code>
+       * @return This builder for chaining.
        */
       public Builder clearActorId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
         actorId_ = getDefaultInstance().getActorId();
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorId = 1;</code>
+       * @param value The bytes for actorId to set.
+       * @return This builder for chaining.
        */
       public Builder setActorIdBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         actorId_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
@@ -798,12 +775,14 @@ public final class Elasticactors {
       private java.lang.Object messageClass_ = "";
       /**
        * <code>optional string messageClass = 2;</code>
+       * @return Whether the messageClass field is set.
        */
       public boolean hasMessageClass() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
        * <code>optional string messageClass = 2;</code>
+       * @return The messageClass.
        */
       public java.lang.String getMessageClass() {
         java.lang.Object ref = messageClass_;
@@ -821,6 +800,7 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string messageClass = 2;</code>
+       * @return The bytes for messageClass.
        */
       public com.google.protobuf.ByteString
           getMessageClassBytes() {
@@ -837,36 +817,37 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string messageClass = 2;</code>
+       * @param value The messageClass to set.
+       * @return This builder for chaining.
        */
       public Builder setMessageClass(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         messageClass_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <code>optional string messageClass = 2;</code>
+       * @return This builder for chaining.
        */
       public Builder clearMessageClass() {
-        bitField0_ = (bitField0_ & ~0x00000002);
         messageClass_ = getDefaultInstance().getMessageClass();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
       /**
        * <code>optional string messageClass = 2;</code>
+       * @param value The bytes for messageClass to set.
+       * @return This builder for chaining.
        */
       public Builder setMessageClassBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         messageClass_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
@@ -874,30 +855,35 @@ public final class Elasticactors {
       private com.google.protobuf.ByteString message_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes message = 3;</code>
+       * @return Whether the message field is set.
        */
+      @java.lang.Override
       public boolean hasMessage() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+        return ((bitField0_ & 0x00000004) != 0);
       }
       /**
        * <code>optional bytes message = 3;</code>
+       * @return The message.
        */
+      @java.lang.Override
       public com.google.protobuf.ByteString getMessage() {
         return message_;
       }
       /**
        * <code>optional bytes message = 3;</code>
+       * @param value The message to set.
+       * @return This builder for chaining.
        */
       public Builder setMessage(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
+        if (value == null) { throw new NullPointerException(); }
         message_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
        * <code>optional bytes message = 3;</code>
+       * @return This builder for chaining.
        */
       public Builder clearMessage() {
         bitField0_ = (bitField0_ & ~0x00000004);
@@ -909,12 +895,14 @@ public final class Elasticactors {
       private java.lang.Object messageQueueAffinityKey_ = "";
       /**
        * <code>optional string messageQueueAffinityKey = 4;</code>
+       * @return Whether the messageQueueAffinityKey field is set.
        */
       public boolean hasMessageQueueAffinityKey() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+        return ((bitField0_ & 0x00000008) != 0);
       }
       /**
        * <code>optional string messageQueueAffinityKey = 4;</code>
+       * @return The messageQueueAffinityKey.
        */
       public java.lang.String getMessageQueueAffinityKey() {
         java.lang.Object ref = messageQueueAffinityKey_;
@@ -932,6 +920,7 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string messageQueueAffinityKey = 4;</code>
+       * @return The bytes for messageQueueAffinityKey.
        */
       public com.google.protobuf.ByteString
           getMessageQueueAffinityKeyBytes() {
@@ -948,36 +937,37 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string messageQueueAffinityKey = 4;</code>
+       * @param value The messageQueueAffinityKey to set.
+       * @return This builder for chaining.
        */
       public Builder setMessageQueueAffinityKey(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
+        if (value == null) { throw new NullPointerException(); }
         messageQueueAffinityKey_ = value;
+        bitField0_ |= 0x00000008;
         onChanged();
         return this;
       }
       /**
        * <code>optional string messageQueueAffinityKey = 4;</code>
+       * @return This builder for chaining.
        */
       public Builder clearMessageQueueAffinityKey() {
-        bitField0_ = (bitField0_ & ~0x00000008);
         messageQueueAffinityKey_ = getDefaultInstance().getMessageQueueAffinityKey();
+        bitField0_ = (bitField0_ & ~0x00000008);
         onChanged();
         return this;
       }
       /**
        * <code>optional string messageQueueAffinityKey = 4;</code>
+       * @param value The bytes for messageQueueAffinityKey to set.
+       * @return This builder for chaining.
        */
       public Builder setMessageQueueAffinityKeyBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
+        if (value == null) { throw new NullPointerException(); }
         messageQueueAffinityKey_ = value;
+        bitField0_ |= 0x00000008;
         onChanged();
         return this;
       }
@@ -1014,7 +1004,18 @@ public final class Elasticactors {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ActorSystemEventListener(input, extensionRegistry);
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
     };
 
@@ -1040,65 +1041,79 @@ public final class Elasticactors {
 
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return Whether the actorRef field is set.
      */
     boolean hasActorRef();
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return The actorRef.
      */
     java.lang.String getActorRef();
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return The bytes for actorRef.
      */
     com.google.protobuf.ByteString
         getActorRefBytes();
 
     /**
      * <code>optional string actorClass = 2;</code>
+     * @return Whether the actorClass field is set.
      */
     boolean hasActorClass();
     /**
      * <code>optional string actorClass = 2;</code>
+     * @return The actorClass.
      */
     java.lang.String getActorClass();
     /**
      * <code>optional string actorClass = 2;</code>
+     * @return The bytes for actorClass.
      */
     com.google.protobuf.ByteString
         getActorClassBytes();
 
     /**
      * <code>optional string actorSystemVersion = 3;</code>
+     * @return Whether the actorSystemVersion field is set.
      */
     boolean hasActorSystemVersion();
     /**
      * <code>optional string actorSystemVersion = 3;</code>
+     * @return The actorSystemVersion.
      */
     java.lang.String getActorSystemVersion();
     /**
      * <code>optional string actorSystemVersion = 3;</code>
+     * @return The bytes for actorSystemVersion.
      */
     com.google.protobuf.ByteString
         getActorSystemVersionBytes();
 
     /**
      * <code>optional bytes state = 4;</code>
+     * @return Whether the state field is set.
      */
     boolean hasState();
     /**
      * <code>optional bytes state = 4;</code>
+     * @return The state.
      */
     com.google.protobuf.ByteString getState();
 
     /**
      * <code>optional string shardKey = 5;</code>
+     * @return Whether the shardKey field is set.
      */
     boolean hasShardKey();
     /**
      * <code>optional string shardKey = 5;</code>
+     * @return The shardKey.
      */
     java.lang.String getShardKey();
     /**
      * <code>optional string shardKey = 5;</code>
+     * @return The bytes for shardKey.
      */
     com.google.protobuf.ByteString
         getShardKeyBytes();
@@ -1150,11 +1165,30 @@ public final class Elasticactors {
      */
     org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.SubscriptionOrBuilder getSubscriptionsOrBuilder(
         int index);
+
+    /**
+     * <pre>
+     * compact encoding of actorRef, subscriberRef(s) and publisherRef(s), see CompactActorRefs
+     * </pre>
+     *
+     * <code>optional bytes actorRefs = 8;</code>
+     * @return Whether the actorRefs field is set.
+     */
+    boolean hasActorRefs();
+    /**
+     * <pre>
+     * compact encoding of actorRef, subscriberRef(s) and publisherRef(s), see CompactActorRefs
+     * </pre>
+     *
+     * <code>optional bytes actorRefs = 8;</code>
+     * @return The actorRefs.
+     */
+    com.google.protobuf.ByteString getActorRefs();
   }
   /**
    * Protobuf type {@code org.elasticsoftware.elasticactors.serialization.protobuf.PersistentActor}
    */
-  public  static final class PersistentActor extends
+  public static final class PersistentActor extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.serialization.protobuf.PersistentActor)
       PersistentActorOrBuilder {
@@ -1171,104 +1205,16 @@ public final class Elasticactors {
       shardKey_ = "";
       subscribers_ = java.util.Collections.emptyList();
       subscriptions_ = java.util.Collections.emptyList();
+      actorRefs_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private PersistentActor(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              actorRef_ = bs;
-              break;
-            }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000002;
-              actorClass_ = bs;
-              break;
-            }
-            case 26: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000004;
-              actorSystemVersion_ = bs;
-              break;
-            }
-            case 34: {
-              bitField0_ |= 0x00000008;
-              state_ = input.readBytes();
-              break;
-            }
-            case 42: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000010;
-              shardKey_ = bs;
-              break;
-            }
-            case 50: {
-              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
-                subscribers_ = new java.util.ArrayList<org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber>();
-                mutable_bitField0_ |= 0x00000020;
-              }
-              subscribers_.add(
-                  input.readMessage(org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber.PARSER, extensionRegistry));
-              break;
-            }
-            case 58: {
-              if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
-                subscriptions_ = new java.util.ArrayList<org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription>();
-                mutable_bitField0_ |= 0x00000040;
-              }
-              subscriptions_.add(
-                  input.readMessage(org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription.PARSER, extensionRegistry));
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
-          subscribers_ = java.util.Collections.unmodifiableList(subscribers_);
-        }
-        if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
-          subscriptions_ = java.util.Collections.unmodifiableList(subscriptions_);
-        }
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PersistentActor();
     }
+
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
       return org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_PersistentActor_descriptor;
@@ -1284,16 +1230,21 @@ public final class Elasticactors {
 
     private int bitField0_;
     public static final int ACTORREF_FIELD_NUMBER = 1;
-    private volatile java.lang.Object actorRef_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object actorRef_ = "";
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return Whether the actorRef field is set.
      */
+    @java.lang.Override
     public boolean hasActorRef() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return The actorRef.
      */
+    @java.lang.Override
     public java.lang.String getActorRef() {
       java.lang.Object ref = actorRef_;
       if (ref instanceof java.lang.String) {
@@ -1310,7 +1261,9 @@ public final class Elasticactors {
     }
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return The bytes for actorRef.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getActorRefBytes() {
       java.lang.Object ref = actorRef_;
@@ -1326,16 +1279,21 @@ public final class Elasticactors {
     }
 
     public static final int ACTORCLASS_FIELD_NUMBER = 2;
-    private volatile java.lang.Object actorClass_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object actorClass_ = "";
     /**
      * <code>optional string actorClass = 2;</code>
+     * @return Whether the actorClass field is set.
      */
+    @java.lang.Override
     public boolean hasActorClass() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
      * <code>optional string actorClass = 2;</code>
+     * @return The actorClass.
      */
+    @java.lang.Override
     public java.lang.String getActorClass() {
       java.lang.Object ref = actorClass_;
       if (ref instanceof java.lang.String) {
@@ -1352,7 +1310,9 @@ public final class Elasticactors {
     }
     /**
      * <code>optional string actorClass = 2;</code>
+     * @return The bytes for actorClass.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getActorClassBytes() {
       java.lang.Object ref = actorClass_;
@@ -1368,16 +1328,21 @@ public final class Elasticactors {
     }
 
     public static final int ACTORSYSTEMVERSION_FIELD_NUMBER = 3;
-    private volatile java.lang.Object actorSystemVersion_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object actorSystemVersion_ = "";
     /**
      * <code>optional string actorSystemVersion = 3;</code>
+     * @return Whether the actorSystemVersion field is set.
      */
+    @java.lang.Override
     public boolean hasActorSystemVersion() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+      return ((bitField0_ & 0x00000004) != 0);
     }
     /**
      * <code>optional string actorSystemVersion = 3;</code>
+     * @return The actorSystemVersion.
      */
+    @java.lang.Override
     public java.lang.String getActorSystemVersion() {
       java.lang.Object ref = actorSystemVersion_;
       if (ref instanceof java.lang.String) {
@@ -1394,7 +1359,9 @@ public final class Elasticactors {
     }
     /**
      * <code>optional string actorSystemVersion = 3;</code>
+     * @return The bytes for actorSystemVersion.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getActorSystemVersionBytes() {
       java.lang.Object ref = actorSystemVersion_;
@@ -1410,31 +1377,40 @@ public final class Elasticactors {
     }
 
     public static final int STATE_FIELD_NUMBER = 4;
-    private com.google.protobuf.ByteString state_;
+    private com.google.protobuf.ByteString state_ = com.google.protobuf.ByteString.EMPTY;
     /**
      * <code>optional bytes state = 4;</code>
+     * @return Whether the state field is set.
      */
+    @java.lang.Override
     public boolean hasState() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
+      return ((bitField0_ & 0x00000008) != 0);
     }
     /**
      * <code>optional bytes state = 4;</code>
+     * @return The state.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString getState() {
       return state_;
     }
 
     public static final int SHARDKEY_FIELD_NUMBER = 5;
-    private volatile java.lang.Object shardKey_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object shardKey_ = "";
     /**
      * <code>optional string shardKey = 5;</code>
+     * @return Whether the shardKey field is set.
      */
+    @java.lang.Override
     public boolean hasShardKey() {
-      return ((bitField0_ & 0x00000010) == 0x00000010);
+      return ((bitField0_ & 0x00000010) != 0);
     }
     /**
      * <code>optional string shardKey = 5;</code>
+     * @return The shardKey.
      */
+    @java.lang.Override
     public java.lang.String getShardKey() {
       java.lang.Object ref = shardKey_;
       if (ref instanceof java.lang.String) {
@@ -1451,7 +1427,9 @@ public final class Elasticactors {
     }
     /**
      * <code>optional string shardKey = 5;</code>
+     * @return The bytes for shardKey.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getShardKeyBytes() {
       java.lang.Object ref = shardKey_;
@@ -1467,16 +1445,19 @@ public final class Elasticactors {
     }
 
     public static final int SUBSCRIBERS_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
     private java.util.List<org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber> subscribers_;
     /**
      * <code>repeated .org.elasticsoftware.elasticactors.serialization.protobuf.Subscriber subscribers = 6;</code>
      */
+    @java.lang.Override
     public java.util.List<org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber> getSubscribersList() {
       return subscribers_;
     }
     /**
      * <code>repeated .org.elasticsoftware.elasticactors.serialization.protobuf.Subscriber subscribers = 6;</code>
      */
+    @java.lang.Override
     public java.util.List<? extends org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.SubscriberOrBuilder> 
         getSubscribersOrBuilderList() {
       return subscribers_;
@@ -1484,34 +1465,40 @@ public final class Elasticactors {
     /**
      * <code>repeated .org.elasticsoftware.elasticactors.serialization.protobuf.Subscriber subscribers = 6;</code>
      */
+    @java.lang.Override
     public int getSubscribersCount() {
       return subscribers_.size();
     }
     /**
      * <code>repeated .org.elasticsoftware.elasticactors.serialization.protobuf.Subscriber subscribers = 6;</code>
      */
+    @java.lang.Override
     public org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber getSubscribers(int index) {
       return subscribers_.get(index);
     }
     /**
      * <code>repeated .org.elasticsoftware.elasticactors.serialization.protobuf.Subscriber subscribers = 6;</code>
      */
+    @java.lang.Override
     public org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.SubscriberOrBuilder getSubscribersOrBuilder(
         int index) {
       return subscribers_.get(index);
     }
 
     public static final int SUBSCRIPTIONS_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
     private java.util.List<org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription> subscriptions_;
     /**
      * <code>repeated .org.elasticsoftware.elasticactors.serialization.protobuf.Subscription subscriptions = 7;</code>
      */
+    @java.lang.Override
     public java.util.List<org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription> getSubscriptionsList() {
       return subscriptions_;
     }
     /**
      * <code>repeated .org.elasticsoftware.elasticactors.serialization.protobuf.Subscription subscriptions = 7;</code>
      */
+    @java.lang.Override
     public java.util.List<? extends org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.SubscriptionOrBuilder> 
         getSubscriptionsOrBuilderList() {
       return subscriptions_;
@@ -1519,23 +1506,53 @@ public final class Elasticactors {
     /**
      * <code>repeated .org.elasticsoftware.elasticactors.serialization.protobuf.Subscription subscriptions = 7;</code>
      */
+    @java.lang.Override
     public int getSubscriptionsCount() {
       return subscriptions_.size();
     }
     /**
      * <code>repeated .org.elasticsoftware.elasticactors.serialization.protobuf.Subscription subscriptions = 7;</code>
      */
+    @java.lang.Override
     public org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription getSubscriptions(int index) {
       return subscriptions_.get(index);
     }
     /**
      * <code>repeated .org.elasticsoftware.elasticactors.serialization.protobuf.Subscription subscriptions = 7;</code>
      */
+    @java.lang.Override
     public org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.SubscriptionOrBuilder getSubscriptionsOrBuilder(
         int index) {
       return subscriptions_.get(index);
     }
 
+    public static final int ACTORREFS_FIELD_NUMBER = 8;
+    private com.google.protobuf.ByteString actorRefs_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <pre>
+     * compact encoding of actorRef, subscriberRef(s) and publisherRef(s), see CompactActorRefs
+     * </pre>
+     *
+     * <code>optional bytes actorRefs = 8;</code>
+     * @return Whether the actorRefs field is set.
+     */
+    @java.lang.Override
+    public boolean hasActorRefs() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <pre>
+     * compact encoding of actorRef, subscriberRef(s) and publisherRef(s), see CompactActorRefs
+     * </pre>
+     *
+     * <code>optional bytes actorRefs = 8;</code>
+     * @return The actorRefs.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getActorRefs() {
+      return actorRefs_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -1550,19 +1567,19 @@ public final class Elasticactors {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, actorRef_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, actorClass_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 3, actorSystemVersion_);
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000008) != 0)) {
         output.writeBytes(4, state_);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      if (((bitField0_ & 0x00000010) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 5, shardKey_);
       }
       for (int i = 0; i < subscribers_.size(); i++) {
@@ -1571,7 +1588,10 @@ public final class Elasticactors {
       for (int i = 0; i < subscriptions_.size(); i++) {
         output.writeMessage(7, subscriptions_.get(i));
       }
-      unknownFields.writeTo(output);
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeBytes(8, actorRefs_);
+      }
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -1580,20 +1600,20 @@ public final class Elasticactors {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, actorRef_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, actorClass_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, actorSystemVersion_);
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000008) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(4, state_);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      if (((bitField0_ & 0x00000010) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, shardKey_);
       }
       for (int i = 0; i < subscribers_.size(); i++) {
@@ -1604,7 +1624,11 @@ public final class Elasticactors {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(7, subscriptions_.get(i));
       }
-      size += unknownFields.getSerializedSize();
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(8, actorRefs_);
+      }
+      size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
@@ -1619,38 +1643,42 @@ public final class Elasticactors {
       }
       org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.PersistentActor other = (org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.PersistentActor) obj;
 
-      boolean result = true;
-      result = result && (hasActorRef() == other.hasActorRef());
+      if (hasActorRef() != other.hasActorRef()) return false;
       if (hasActorRef()) {
-        result = result && getActorRef()
-            .equals(other.getActorRef());
+        if (!getActorRef()
+            .equals(other.getActorRef())) return false;
       }
-      result = result && (hasActorClass() == other.hasActorClass());
+      if (hasActorClass() != other.hasActorClass()) return false;
       if (hasActorClass()) {
-        result = result && getActorClass()
-            .equals(other.getActorClass());
+        if (!getActorClass()
+            .equals(other.getActorClass())) return false;
       }
-      result = result && (hasActorSystemVersion() == other.hasActorSystemVersion());
+      if (hasActorSystemVersion() != other.hasActorSystemVersion()) return false;
       if (hasActorSystemVersion()) {
-        result = result && getActorSystemVersion()
-            .equals(other.getActorSystemVersion());
+        if (!getActorSystemVersion()
+            .equals(other.getActorSystemVersion())) return false;
       }
-      result = result && (hasState() == other.hasState());
+      if (hasState() != other.hasState()) return false;
       if (hasState()) {
-        result = result && getState()
-            .equals(other.getState());
+        if (!getState()
+            .equals(other.getState())) return false;
       }
-      result = result && (hasShardKey() == other.hasShardKey());
+      if (hasShardKey() != other.hasShardKey()) return false;
       if (hasShardKey()) {
-        result = result && getShardKey()
-            .equals(other.getShardKey());
-      }
-      result = result && getSubscribersList()
-          .equals(other.getSubscribersList());
-      result = result && getSubscriptionsList()
-          .equals(other.getSubscriptionsList());
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+        if (!getShardKey()
+            .equals(other.getShardKey())) return false;
+      }
+      if (!getSubscribersList()
+          .equals(other.getSubscribersList())) return false;
+      if (!getSubscriptionsList()
+          .equals(other.getSubscriptionsList())) return false;
+      if (hasActorRefs() != other.hasActorRefs()) return false;
+      if (hasActorRefs()) {
+        if (!getActorRefs()
+            .equals(other.getActorRefs())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -1688,7 +1716,11 @@ public final class Elasticactors {
         hash = (37 * hash) + SUBSCRIPTIONS_FIELD_NUMBER;
         hash = (53 * hash) + getSubscriptionsList().hashCode();
       }
-      hash = (29 * hash) + unknownFields.hashCode();
+      if (hasActorRefs()) {
+        hash = (37 * hash) + ACTORREFS_FIELD_NUMBER;
+        hash = (53 * hash) + getActorRefs().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -1805,46 +1837,38 @@ public final class Elasticactors {
 
       // Construct using org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.PersistentActor.newBuilder()
       private Builder() {
-        maybeForceBuilderInitialization();
+
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
         super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-          getSubscribersFieldBuilder();
-          getSubscriptionsFieldBuilder();
-        }
+
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
         actorRef_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
         actorClass_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
         actorSystemVersion_ = "";
-        bitField0_ = (bitField0_ & ~0x00000004);
         state_ = com.google.protobuf.ByteString.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000008);
         shardKey_ = "";
-        bitField0_ = (bitField0_ & ~0x00000010);
         if (subscribersBuilder_ == null) {
           subscribers_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000020);
         } else {
+          subscribers_ = null;
           subscribersBuilder_.clear();
         }
+        bitField0_ = (bitField0_ & ~0x00000020);
         if (subscriptionsBuilder_ == null) {
           subscriptions_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000040);
         } else {
+          subscriptions_ = null;
           subscriptionsBuilder_.clear();
         }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        actorRefs_ = com.google.protobuf.ByteString.EMPTY;
         return this;
       }
 
@@ -1871,30 +1895,15 @@ public final class Elasticactors {
       @java.lang.Override
       public org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.PersistentActor buildPartial() {
         org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.PersistentActor result = new org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.PersistentActor(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.actorRef_ = actorRef_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.actorClass_ = actorClass_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.actorSystemVersion_ = actorSystemVersion_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
-        }
-        result.state_ = state_;
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-          to_bitField0_ |= 0x00000010;
-        }
-        result.shardKey_ = shardKey_;
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.PersistentActor result) {
         if (subscribersBuilder_ == null) {
-          if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          if (((bitField0_ & 0x00000020) != 0)) {
             subscribers_ = java.util.Collections.unmodifiableList(subscribers_);
             bitField0_ = (bitField0_ & ~0x00000020);
           }
@@ -1903,7 +1912,7 @@ public final class Elasticactors {
           result.subscribers_ = subscribersBuilder_.build();
         }
         if (subscriptionsBuilder_ == null) {
-          if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          if (((bitField0_ & 0x00000040) != 0)) {
             subscriptions_ = java.util.Collections.unmodifiableList(subscriptions_);
             bitField0_ = (bitField0_ & ~0x00000040);
           }
@@ -1911,43 +1920,38 @@ public final class Elasticactors {
         } else {
           result.subscriptions_ = subscriptionsBuilder_.build();
         }
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
       }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
+      private void buildPartial0(org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.PersistentActor result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.actorRef_ = actorRef_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.actorClass_ = actorClass_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.actorSystemVersion_ = actorSystemVersion_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.state_ = state_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.shardKey_ = shardKey_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.actorRefs_ = actorRefs_;
+          to_bitField0_ |= 0x00000020;
+        }
+        result.bitField0_ |= to_bitField0_;
       }
+
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.PersistentActor) {
@@ -1961,26 +1965,26 @@ public final class Elasticactors {
       public Builder mergeFrom(org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.PersistentActor other) {
         if (other == org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.PersistentActor.getDefaultInstance()) return this;
         if (other.hasActorRef()) {
-          bitField0_ |= 0x00000001;
           actorRef_ = other.actorRef_;
+          bitField0_ |= 0x00000001;
           onChanged();
         }
         if (other.hasActorClass()) {
-          bitField0_ |= 0x00000002;
           actorClass_ = other.actorClass_;
+          bitField0_ |= 0x00000002;
           onChanged();
         }
         if (other.hasActorSystemVersion()) {
-          bitField0_ |= 0x00000004;
           actorSystemVersion_ = other.actorSystemVersion_;
+          bitField0_ |= 0x00000004;
           onChanged();
         }
         if (other.hasState()) {
           setState(other.getState());
         }
         if (other.hasShardKey()) {
-          bitField0_ |= 0x00000010;
           shardKey_ = other.shardKey_;
+          bitField0_ |= 0x00000010;
           onChanged();
         }
         if (subscribersBuilder_ == null) {
@@ -2035,7 +2039,10 @@ public final class Elasticactors {
             }
           }
         }
-        this.mergeUnknownFields(other.unknownFields);
+        if (other.hasActorRefs()) {
+          setActorRefs(other.getActorRefs());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
@@ -2050,17 +2057,86 @@ public final class Elasticactors {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.PersistentActor parsedMessage = null;
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
         try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                actorRef_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                actorClass_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                actorSystemVersion_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                state_ = input.readBytes();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                shardKey_ = input.readBytes();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber m =
+                    input.readMessage(
+                        org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber.PARSER,
+                        extensionRegistry);
+                if (subscribersBuilder_ == null) {
+                  ensureSubscribersIsMutable();
+                  subscribers_.add(m);
+                } else {
+                  subscribersBuilder_.addMessage(m);
+                }
+                break;
+              } // case 50
+              case 58: {
+                org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription m =
+                    input.readMessage(
+                        org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription.PARSER,
+                        extensionRegistry);
+                if (subscriptionsBuilder_ == null) {
+                  ensureSubscriptionsIsMutable();
+                  subscriptions_.add(m);
+                } else {
+                  subscriptionsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 58
+              case 66: {
+                actorRefs_ = input.readBytes();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 66
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.PersistentActor) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+          onChanged();
+        } // finally
         return this;
       }
       private int bitField0_;
@@ -2068,12 +2144,14 @@ public final class Elasticactors {
       private java.lang.Object actorRef_ = "";
       /**
        * <code>optional string actorRef = 1;</code>
+       * @return Whether the actorRef field is set.
        */
       public boolean hasActorRef() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <code>optional string actorRef = 1;</code>
+       * @return The actorRef.
        */
       public java.lang.String getActorRef() {
         java.lang.Object ref = actorRef_;
@@ -2091,6 +2169,7 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string actorRef = 1;</code>
+       * @return The bytes for actorRef.
        */
       public com.google.protobuf.ByteString
           getActorRefBytes() {
@@ -2107,36 +2186,37 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string actorRef = 1;</code>
+       * @param value The actorRef to set.
+       * @return This builder for chaining.
        */
       public Builder setActorRef(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         actorRef_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorRef = 1;</code>
+       * @return This builder for chaining.
        */
       public Builder clearActorRef() {
-        bitField0_ = (bitField0_ & ~0x00000001);
         actorRef_ = getDefaultInstance().getActorRef();
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorRef = 1;</code>
+       * @param value The bytes for actorRef to set.
+       * @return This builder for chaining.
        */
       public Builder setActorRefBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         actorRef_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
@@ -2144,12 +2224,14 @@ public final class Elasticactors {
       private java.lang.Object actorClass_ = "";
       /**
        * <code>optional string actorClass = 2;</code>
+       * @return Whether the actorClass field is set.
        */
       public boolean hasActorClass() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
        * <code>optional string actorClass = 2;</code>
+       * @return The actorClass.
        */
       public java.lang.String getActorClass() {
         java.lang.Object ref = actorClass_;
@@ -2167,6 +2249,7 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string actorClass = 2;</code>
+       * @return The bytes for actorClass.
        */
       public com.google.protobuf.ByteString
           getActorClassBytes() {
@@ -2183,36 +2266,37 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string actorClass = 2;</code>
+       * @param value The actorClass to set.
+       * @return This builder for chaining.
        */
       public Builder setActorClass(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         actorClass_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorClass = 2;</code>
+       * @return This builder for chaining.
        */
       public Builder clearActorClass() {
-        bitField0_ = (bitField0_ & ~0x00000002);
         actorClass_ = getDefaultInstance().getActorClass();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorClass = 2;</code>
+       * @param value The bytes for actorClass to set.
+       * @return This builder for chaining.
        */
       public Builder setActorClassBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         actorClass_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
@@ -2220,12 +2304,14 @@ public final class Elasticactors {
       private java.lang.Object actorSystemVersion_ = "";
       /**
        * <code>optional string actorSystemVersion = 3;</code>
+       * @return Whether the actorSystemVersion field is set.
        */
       public boolean hasActorSystemVersion() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+        return ((bitField0_ & 0x00000004) != 0);
       }
       /**
        * <code>optional string actorSystemVersion = 3;</code>
+       * @return The actorSystemVersion.
        */
       public java.lang.String getActorSystemVersion() {
         java.lang.Object ref = actorSystemVersion_;
@@ -2243,6 +2329,7 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string actorSystemVersion = 3;</code>
+       * @return The bytes for actorSystemVersion.
        */
       public com.google.protobuf.ByteString
           getActorSystemVersionBytes() {
@@ -2259,36 +2346,37 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string actorSystemVersion = 3;</code>
+       * @param value The actorSystemVersion to set.
+       * @return This builder for chaining.
        */
       public Builder setActorSystemVersion(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
+        if (value == null) { throw new NullPointerException(); }
         actorSystemVersion_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorSystemVersion = 3;</code>
+       * @return This builder for chaining.
        */
       public Builder clearActorSystemVersion() {
-        bitField0_ = (bitField0_ & ~0x00000004);
         actorSystemVersion_ = getDefaultInstance().getActorSystemVersion();
+        bitField0_ = (bitField0_ & ~0x00000004);
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorSystemVersion = 3;</code>
+       * @param value The bytes for actorSystemVersion to set.
+       * @return This builder for chaining.
        */
       public Builder setActorSystemVersionBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
+        if (value == null) { throw new NullPointerException(); }
         actorSystemVersion_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
@@ -2296,30 +2384,35 @@ public final class Elasticactors {
       private com.google.protobuf.ByteString state_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes state = 4;</code>
+       * @return Whether the state field is set.
        */
+      @java.lang.Override
       public boolean hasState() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+        return ((bitField0_ & 0x00000008) != 0);
       }
       /**
        * <code>optional bytes state = 4;</code>
+       * @return The state.
        */
+      @java.lang.Override
       public com.google.protobuf.ByteString getState() {
         return state_;
       }
       /**
        * <code>optional bytes state = 4;</code>
+       * @param value The state to set.
+       * @return This builder for chaining.
        */
       public Builder setState(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
+        if (value == null) { throw new NullPointerException(); }
         state_ = value;
+        bitField0_ |= 0x00000008;
         onChanged();
         return this;
       }
       /**
        * <code>optional bytes state = 4;</code>
+       * @return This builder for chaining.
        */
       public Builder clearState() {
         bitField0_ = (bitField0_ & ~0x00000008);
@@ -2331,12 +2424,14 @@ public final class Elasticactors {
       private java.lang.Object shardKey_ = "";
       /**
        * <code>optional string shardKey = 5;</code>
+       * @return Whether the shardKey field is set.
        */
       public boolean hasShardKey() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
+        return ((bitField0_ & 0x00000010) != 0);
       }
       /**
        * <code>optional string shardKey = 5;</code>
+       * @return The shardKey.
        */
       public java.lang.String getShardKey() {
         java.lang.Object ref = shardKey_;
@@ -2354,6 +2449,7 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string shardKey = 5;</code>
+       * @return The bytes for shardKey.
        */
       public com.google.protobuf.ByteString
           getShardKeyBytes() {
@@ -2370,36 +2466,37 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string shardKey = 5;</code>
+       * @param value The shardKey to set.
+       * @return This builder for chaining.
        */
       public Builder setShardKey(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000010;
+        if (value == null) { throw new NullPointerException(); }
         shardKey_ = value;
+        bitField0_ |= 0x00000010;
         onChanged();
         return this;
       }
       /**
        * <code>optional string shardKey = 5;</code>
+       * @return This builder for chaining.
        */
       public Builder clearShardKey() {
-        bitField0_ = (bitField0_ & ~0x00000010);
         shardKey_ = getDefaultInstance().getShardKey();
+        bitField0_ = (bitField0_ & ~0x00000010);
         onChanged();
         return this;
       }
       /**
        * <code>optional string shardKey = 5;</code>
+       * @param value The bytes for shardKey to set.
+       * @return This builder for chaining.
        */
       public Builder setShardKeyBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000010;
+        if (value == null) { throw new NullPointerException(); }
         shardKey_ = value;
+        bitField0_ |= 0x00000010;
         onChanged();
         return this;
       }
@@ -2407,7 +2504,7 @@ public final class Elasticactors {
       private java.util.List<org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber> subscribers_ =
         java.util.Collections.emptyList();
       private void ensureSubscribersIsMutable() {
-        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+        if (!((bitField0_ & 0x00000020) != 0)) {
           subscribers_ = new java.util.ArrayList<org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber>(subscribers_);
           bitField0_ |= 0x00000020;
          }
@@ -2636,7 +2733,7 @@ public final class Elasticactors {
           subscribersBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
               org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber, org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber.Builder, org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.SubscriberOrBuilder>(
                   subscribers_,
-                  ((bitField0_ & 0x00000020) == 0x00000020),
+                  ((bitField0_ & 0x00000020) != 0),
                   getParentForChildren(),
                   isClean());
           subscribers_ = null;
@@ -2647,7 +2744,7 @@ public final class Elasticactors {
       private java.util.List<org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription> subscriptions_ =
         java.util.Collections.emptyList();
       private void ensureSubscriptionsIsMutable() {
-        if (!((bitField0_ & 0x00000040) == 0x00000040)) {
+        if (!((bitField0_ & 0x00000040) != 0)) {
           subscriptions_ = new java.util.ArrayList<org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription>(subscriptions_);
           bitField0_ |= 0x00000040;
          }
@@ -2876,13 +2973,69 @@ public final class Elasticactors {
           subscriptionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
               org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription, org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription.Builder, org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.SubscriptionOrBuilder>(
                   subscriptions_,
-                  ((bitField0_ & 0x00000040) == 0x00000040),
+                  ((bitField0_ & 0x00000040) != 0),
                   getParentForChildren(),
                   isClean());
           subscriptions_ = null;
         }
         return subscriptionsBuilder_;
       }
+
+      private com.google.protobuf.ByteString actorRefs_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * compact encoding of actorRef, subscriberRef(s) and publisherRef(s), see CompactActorRefs
+       * </pre>
+       *
+       * <code>optional bytes actorRefs = 8;</code>
+       * @return Whether the actorRefs field is set.
+       */
+      @java.lang.Override
+      public boolean hasActorRefs() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <pre>
+       * compact encoding of actorRef, subscriberRef(s) and publisherRef(s), see CompactActorRefs
+       * </pre>
+       *
+       * <code>optional bytes actorRefs = 8;</code>
+       * @return The actorRefs.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getActorRefs() {
+        return actorRefs_;
+      }
+      /**
+       * <pre>
+       * compact encoding of actorRef, subscriberRef(s) and publisherRef(s), see CompactActorRefs
+       * </pre>
+       *
+       * <code>optional bytes actorRefs = 8;</code>
+       * @param value The actorRefs to set.
+       * @return This builder for chaining.
+       */
+      public Builder setActorRefs(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        actorRefs_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * compact encoding of actorRef, subscriberRef(s) and publisherRef(s), see CompactActorRefs
+       * </pre>
+       *
+       * <code>optional bytes actorRefs = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearActorRefs() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        actorRefs_ = getDefaultInstance().getActorRefs();
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -2916,7 +3069,18 @@ public final class Elasticactors {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new PersistentActor(input, extensionRegistry);
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
     };
 
@@ -2942,45 +3106,53 @@ public final class Elasticactors {
 
     /**
      * <code>optional string subscriberRef = 1;</code>
+     * @return Whether the subscriberRef field is set.
      */
     boolean hasSubscriberRef();
     /**
      * <code>optional string subscriberRef = 1;</code>
+     * @return The subscriberRef.
      */
     java.lang.String getSubscriberRef();
     /**
      * <code>optional string subscriberRef = 1;</code>
+     * @return The bytes for subscriberRef.
      */
     com.google.protobuf.ByteString
         getSubscriberRefBytes();
 
     /**
      * <code>optional string messageName = 2;</code>
+     * @return Whether the messageName field is set.
      */
     boolean hasMessageName();
     /**
      * <code>optional string messageName = 2;</code>
+     * @return The messageName.
      */
     java.lang.String getMessageName();
     /**
      * <code>optional string messageName = 2;</code>
+     * @return The bytes for messageName.
      */
     com.google.protobuf.ByteString
         getMessageNameBytes();
 
     /**
      * <code>optional uint64 leases = 3;</code>
+     * @return Whether the leases field is set.
      */
     boolean hasLeases();
     /**
      * <code>optional uint64 leases = 3;</code>
+     * @return The leases.
      */
     long getLeases();
   }
   /**
    * Protobuf type {@code org.elasticsoftware.elasticactors.serialization.protobuf.Subscriber}
    */
-  public  static final class Subscriber extends
+  public static final class Subscriber extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.serialization.protobuf.Subscriber)
       SubscriberOrBuilder {
@@ -2992,69 +3164,15 @@ public final class Elasticactors {
     private Subscriber() {
       subscriberRef_ = "";
       messageName_ = "";
-      leases_ = 0L;
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private Subscriber(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              subscriberRef_ = bs;
-              break;
-            }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000002;
-              messageName_ = bs;
-              break;
-            }
-            case 24: {
-              bitField0_ |= 0x00000004;
-              leases_ = input.readUInt64();
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Subscriber();
     }
+
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
       return org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_Subscriber_descriptor;
@@ -3070,16 +3188,21 @@ public final class Elasticactors {
 
     private int bitField0_;
     public static final int SUBSCRIBERREF_FIELD_NUMBER = 1;
-    private volatile java.lang.Object subscriberRef_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object subscriberRef_ = "";
     /**
      * <code>optional string subscriberRef = 1;</code>
+     * @return Whether the subscriberRef field is set.
      */
+    @java.lang.Override
     public boolean hasSubscriberRef() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
      * <code>optional string subscriberRef = 1;</code>
+     * @return The subscriberRef.
      */
+    @java.lang.Override
     public java.lang.String getSubscriberRef() {
       java.lang.Object ref = subscriberRef_;
       if (ref instanceof java.lang.String) {
@@ -3096,7 +3219,9 @@ public final class Elasticactors {
     }
     /**
      * <code>optional string subscriberRef = 1;</code>
+     * @return The bytes for subscriberRef.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getSubscriberRefBytes() {
       java.lang.Object ref = subscriberRef_;
@@ -3112,16 +3237,21 @@ public final class Elasticactors {
     }
 
     public static final int MESSAGENAME_FIELD_NUMBER = 2;
-    private volatile java.lang.Object messageName_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object messageName_ = "";
     /**
      * <code>optional string messageName = 2;</code>
+     * @return Whether the messageName field is set.
      */
+    @java.lang.Override
     public boolean hasMessageName() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
      * <code>optional string messageName = 2;</code>
+     * @return The messageName.
      */
+    @java.lang.Override
     public java.lang.String getMessageName() {
       java.lang.Object ref = messageName_;
       if (ref instanceof java.lang.String) {
@@ -3138,7 +3268,9 @@ public final class Elasticactors {
     }
     /**
      * <code>optional string messageName = 2;</code>
+     * @return The bytes for messageName.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getMessageNameBytes() {
       java.lang.Object ref = messageName_;
@@ -3154,16 +3286,20 @@ public final class Elasticactors {
     }
 
     public static final int LEASES_FIELD_NUMBER = 3;
-    private long leases_;
+    private long leases_ = 0L;
     /**
      * <code>optional uint64 leases = 3;</code>
+     * @return Whether the leases field is set.
      */
+    @java.lang.Override
     public boolean hasLeases() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+      return ((bitField0_ & 0x00000004) != 0);
     }
     /**
      * <code>optional uint64 leases = 3;</code>
+     * @return The leases.
      */
+    @java.lang.Override
     public long getLeases() {
       return leases_;
     }
@@ -3182,16 +3318,16 @@ public final class Elasticactors {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, subscriberRef_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, messageName_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         output.writeUInt64(3, leases_);
       }
-      unknownFields.writeTo(output);
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -3200,17 +3336,17 @@ public final class Elasticactors {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, subscriberRef_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, messageName_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeUInt64Size(3, leases_);
       }
-      size += unknownFields.getSerializedSize();
+      size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
@@ -3225,24 +3361,23 @@ public final class Elasticactors {
       }
       org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber other = (org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber) obj;
 
-      boolean result = true;
-      result = result && (hasSubscriberRef() == other.hasSubscriberRef());
+      if (hasSubscriberRef() != other.hasSubscriberRef()) return false;
       if (hasSubscriberRef()) {
-        result = result && getSubscriberRef()
-            .equals(other.getSubscriberRef());
+        if (!getSubscriberRef()
+            .equals(other.getSubscriberRef())) return false;
       }
-      result = result && (hasMessageName() == other.hasMessageName());
+      if (hasMessageName() != other.hasMessageName()) return false;
       if (hasMessageName()) {
-        result = result && getMessageName()
-            .equals(other.getMessageName());
+        if (!getMessageName()
+            .equals(other.getMessageName())) return false;
       }
-      result = result && (hasLeases() == other.hasLeases());
+      if (hasLeases() != other.hasLeases()) return false;
       if (hasLeases()) {
-        result = result && (getLeases()
-            == other.getLeases());
+        if (getLeases()
+            != other.getLeases()) return false;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -3265,7 +3400,7 @@ public final class Elasticactors {
         hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
             getLeases());
       }
-      hash = (29 * hash) + unknownFields.hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -3382,28 +3517,21 @@ public final class Elasticactors {
 
       // Construct using org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber.newBuilder()
       private Builder() {
-        maybeForceBuilderInitialization();
+
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
         super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
+
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
         subscriberRef_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
         messageName_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
         leases_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -3430,57 +3558,29 @@ public final class Elasticactors {
       @java.lang.Override
       public org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber buildPartial() {
         org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber result = new org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.subscriberRef_ = subscriberRef_;
           to_bitField0_ |= 0x00000001;
         }
-        result.subscriberRef_ = subscriberRef_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.messageName_ = messageName_;
           to_bitField0_ |= 0x00000002;
         }
-        result.messageName_ = messageName_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.leases_ = leases_;
           to_bitField0_ |= 0x00000004;
         }
-        result.leases_ = leases_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        result.bitField0_ |= to_bitField0_;
       }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber) {
@@ -3494,19 +3594,19 @@ public final class Elasticactors {
       public Builder mergeFrom(org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber other) {
         if (other == org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber.getDefaultInstance()) return this;
         if (other.hasSubscriberRef()) {
-          bitField0_ |= 0x00000001;
           subscriberRef_ = other.subscriberRef_;
+          bitField0_ |= 0x00000001;
           onChanged();
         }
         if (other.hasMessageName()) {
-          bitField0_ |= 0x00000002;
           messageName_ = other.messageName_;
+          bitField0_ |= 0x00000002;
           onChanged();
         }
         if (other.hasLeases()) {
           setLeases(other.getLeases());
         }
-        this.mergeUnknownFields(other.unknownFields);
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
@@ -3521,17 +3621,45 @@ public final class Elasticactors {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber parsedMessage = null;
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
         try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                subscriberRef_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                messageName_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 24: {
+                leases_ = input.readUInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscriber) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+          onChanged();
+        } // finally
         return this;
       }
       private int bitField0_;
@@ -3539,12 +3667,14 @@ public final class Elasticactors {
       private java.lang.Object subscriberRef_ = "";
       /**
        * <code>optional string subscriberRef = 1;</code>
+       * @return Whether the subscriberRef field is set.
        */
       public boolean hasSubscriberRef() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <code>optional string subscriberRef = 1;</code>
+       * @return The subscriberRef.
        */
       public java.lang.String getSubscriberRef() {
         java.lang.Object ref = subscriberRef_;
@@ -3562,6 +3692,7 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string subscriberRef = 1;</code>
+       * @return The bytes for subscriberRef.
        */
       public com.google.protobuf.ByteString
           getSubscriberRefBytes() {
@@ -3578,36 +3709,37 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string subscriberRef = 1;</code>
+       * @param value The subscriberRef to set.
+       * @return This builder for chaining.
        */
       public Builder setSubscriberRef(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         subscriberRef_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <code>optional string subscriberRef = 1;</code>
+       * @return This builder for chaining.
        */
       public Builder clearSubscriberRef() {
-        bitField0_ = (bitField0_ & ~0x00000001);
         subscriberRef_ = getDefaultInstance().getSubscriberRef();
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
        * <code>optional string subscriberRef = 1;</code>
+       * @param value The bytes for subscriberRef to set.
+       * @return This builder for chaining.
        */
       public Builder setSubscriberRefBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         subscriberRef_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
@@ -3615,12 +3747,14 @@ public final class Elasticactors {
       private java.lang.Object messageName_ = "";
       /**
        * <code>optional string messageName = 2;</code>
+       * @return Whether the messageName field is set.
        */
       public boolean hasMessageName() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
        * <code>optional string messageName = 2;</code>
+       * @return The messageName.
        */
       public java.lang.String getMessageName() {
         java.lang.Object ref = messageName_;
@@ -3638,6 +3772,7 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string messageName = 2;</code>
+       * @return The bytes for messageName.
        */
       public com.google.protobuf.ByteString
           getMessageNameBytes() {
@@ -3654,36 +3789,37 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string messageName = 2;</code>
+       * @param value The messageName to set.
+       * @return This builder for chaining.
        */
       public Builder setMessageName(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         messageName_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <code>optional string messageName = 2;</code>
+       * @return This builder for chaining.
        */
       public Builder clearMessageName() {
-        bitField0_ = (bitField0_ & ~0x00000002);
         messageName_ = getDefaultInstance().getMessageName();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
       /**
        * <code>optional string messageName = 2;</code>
+       * @param value The bytes for messageName to set.
+       * @return This builder for chaining.
        */
       public Builder setMessageNameBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         messageName_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
@@ -3691,27 +3827,35 @@ public final class Elasticactors {
       private long leases_ ;
       /**
        * <code>optional uint64 leases = 3;</code>
+       * @return Whether the leases field is set.
        */
+      @java.lang.Override
       public boolean hasLeases() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+        return ((bitField0_ & 0x00000004) != 0);
       }
       /**
        * <code>optional uint64 leases = 3;</code>
+       * @return The leases.
        */
+      @java.lang.Override
       public long getLeases() {
         return leases_;
       }
       /**
        * <code>optional uint64 leases = 3;</code>
+       * @param value The leases to set.
+       * @return This builder for chaining.
        */
       public Builder setLeases(long value) {
-        bitField0_ |= 0x00000004;
+
         leases_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
        * <code>optional uint64 leases = 3;</code>
+       * @return This builder for chaining.
        */
       public Builder clearLeases() {
         bitField0_ = (bitField0_ & ~0x00000004);
@@ -3752,7 +3896,18 @@ public final class Elasticactors {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Subscriber(input, extensionRegistry);
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
     };
 
@@ -3778,45 +3933,53 @@ public final class Elasticactors {
 
     /**
      * <code>optional string publisherRef = 1;</code>
+     * @return Whether the publisherRef field is set.
      */
     boolean hasPublisherRef();
     /**
      * <code>optional string publisherRef = 1;</code>
+     * @return The publisherRef.
      */
     java.lang.String getPublisherRef();
     /**
      * <code>optional string publisherRef = 1;</code>
+     * @return The bytes for publisherRef.
      */
     com.google.protobuf.ByteString
         getPublisherRefBytes();
 
     /**
      * <code>optional string messageName = 2;</code>
+     * @return Whether the messageName field is set.
      */
     boolean hasMessageName();
     /**
      * <code>optional string messageName = 2;</code>
+     * @return The messageName.
      */
     java.lang.String getMessageName();
     /**
      * <code>optional string messageName = 2;</code>
+     * @return The bytes for messageName.
      */
     com.google.protobuf.ByteString
         getMessageNameBytes();
 
     /**
      * <code>optional bool cancelled = 3;</code>
+     * @return Whether the cancelled field is set.
      */
     boolean hasCancelled();
     /**
      * <code>optional bool cancelled = 3;</code>
+     * @return The cancelled.
      */
     boolean getCancelled();
   }
   /**
    * Protobuf type {@code org.elasticsoftware.elasticactors.serialization.protobuf.Subscription}
    */
-  public  static final class Subscription extends
+  public static final class Subscription extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.serialization.protobuf.Subscription)
       SubscriptionOrBuilder {
@@ -3828,69 +3991,15 @@ public final class Elasticactors {
     private Subscription() {
       publisherRef_ = "";
       messageName_ = "";
-      cancelled_ = false;
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private Subscription(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              publisherRef_ = bs;
-              break;
-            }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000002;
-              messageName_ = bs;
-              break;
-            }
-            case 24: {
-              bitField0_ |= 0x00000004;
-              cancelled_ = input.readBool();
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Subscription();
     }
+
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
       return org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_Subscription_descriptor;
@@ -3906,16 +4015,21 @@ public final class Elasticactors {
 
     private int bitField0_;
     public static final int PUBLISHERREF_FIELD_NUMBER = 1;
-    private volatile java.lang.Object publisherRef_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object publisherRef_ = "";
     /**
      * <code>optional string publisherRef = 1;</code>
+     * @return Whether the publisherRef field is set.
      */
+    @java.lang.Override
     public boolean hasPublisherRef() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
      * <code>optional string publisherRef = 1;</code>
+     * @return The publisherRef.
      */
+    @java.lang.Override
     public java.lang.String getPublisherRef() {
       java.lang.Object ref = publisherRef_;
       if (ref instanceof java.lang.String) {
@@ -3932,7 +4046,9 @@ public final class Elasticactors {
     }
     /**
      * <code>optional string publisherRef = 1;</code>
+     * @return The bytes for publisherRef.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getPublisherRefBytes() {
       java.lang.Object ref = publisherRef_;
@@ -3948,16 +4064,21 @@ public final class Elasticactors {
     }
 
     public static final int MESSAGENAME_FIELD_NUMBER = 2;
-    private volatile java.lang.Object messageName_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object messageName_ = "";
     /**
      * <code>optional string messageName = 2;</code>
+     * @return Whether the messageName field is set.
      */
+    @java.lang.Override
     public boolean hasMessageName() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
      * <code>optional string messageName = 2;</code>
+     * @return The messageName.
      */
+    @java.lang.Override
     public java.lang.String getMessageName() {
       java.lang.Object ref = messageName_;
       if (ref instanceof java.lang.String) {
@@ -3974,7 +4095,9 @@ public final class Elasticactors {
     }
     /**
      * <code>optional string messageName = 2;</code>
+     * @return The bytes for messageName.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getMessageNameBytes() {
       java.lang.Object ref = messageName_;
@@ -3990,16 +4113,20 @@ public final class Elasticactors {
     }
 
     public static final int CANCELLED_FIELD_NUMBER = 3;
-    private boolean cancelled_;
+    private boolean cancelled_ = false;
     /**
      * <code>optional bool cancelled = 3;</code>
+     * @return Whether the cancelled field is set.
      */
+    @java.lang.Override
     public boolean hasCancelled() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+      return ((bitField0_ & 0x00000004) != 0);
     }
     /**
      * <code>optional bool cancelled = 3;</code>
+     * @return The cancelled.
      */
+    @java.lang.Override
     public boolean getCancelled() {
       return cancelled_;
     }
@@ -4018,16 +4145,16 @@ public final class Elasticactors {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, publisherRef_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, messageName_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         output.writeBool(3, cancelled_);
       }
-      unknownFields.writeTo(output);
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -4036,17 +4163,17 @@ public final class Elasticactors {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, publisherRef_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, messageName_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(3, cancelled_);
       }
-      size += unknownFields.getSerializedSize();
+      size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
@@ -4061,24 +4188,23 @@ public final class Elasticactors {
       }
       org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription other = (org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription) obj;
 
-      boolean result = true;
-      result = result && (hasPublisherRef() == other.hasPublisherRef());
+      if (hasPublisherRef() != other.hasPublisherRef()) return false;
       if (hasPublisherRef()) {
-        result = result && getPublisherRef()
-            .equals(other.getPublisherRef());
+        if (!getPublisherRef()
+            .equals(other.getPublisherRef())) return false;
       }
-      result = result && (hasMessageName() == other.hasMessageName());
+      if (hasMessageName() != other.hasMessageName()) return false;
       if (hasMessageName()) {
-        result = result && getMessageName()
-            .equals(other.getMessageName());
+        if (!getMessageName()
+            .equals(other.getMessageName())) return false;
       }
-      result = result && (hasCancelled() == other.hasCancelled());
+      if (hasCancelled() != other.hasCancelled()) return false;
       if (hasCancelled()) {
-        result = result && (getCancelled()
-            == other.getCancelled());
+        if (getCancelled()
+            != other.getCancelled()) return false;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -4101,7 +4227,7 @@ public final class Elasticactors {
         hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
             getCancelled());
       }
-      hash = (29 * hash) + unknownFields.hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -4218,28 +4344,21 @@ public final class Elasticactors {
 
       // Construct using org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription.newBuilder()
       private Builder() {
-        maybeForceBuilderInitialization();
+
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
         super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
+
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
         publisherRef_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
         messageName_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
         cancelled_ = false;
-        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -4266,57 +4385,29 @@ public final class Elasticactors {
       @java.lang.Override
       public org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription buildPartial() {
         org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription result = new org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.publisherRef_ = publisherRef_;
           to_bitField0_ |= 0x00000001;
         }
-        result.publisherRef_ = publisherRef_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.messageName_ = messageName_;
           to_bitField0_ |= 0x00000002;
         }
-        result.messageName_ = messageName_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.cancelled_ = cancelled_;
           to_bitField0_ |= 0x00000004;
         }
-        result.cancelled_ = cancelled_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        result.bitField0_ |= to_bitField0_;
       }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription) {
@@ -4330,19 +4421,19 @@ public final class Elasticactors {
       public Builder mergeFrom(org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription other) {
         if (other == org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription.getDefaultInstance()) return this;
         if (other.hasPublisherRef()) {
-          bitField0_ |= 0x00000001;
           publisherRef_ = other.publisherRef_;
+          bitField0_ |= 0x00000001;
           onChanged();
         }
         if (other.hasMessageName()) {
-          bitField0_ |= 0x00000002;
           messageName_ = other.messageName_;
+          bitField0_ |= 0x00000002;
           onChanged();
         }
         if (other.hasCancelled()) {
           setCancelled(other.getCancelled());
         }
-        this.mergeUnknownFields(other.unknownFields);
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
@@ -4357,17 +4448,45 @@ public final class Elasticactors {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription parsedMessage = null;
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
         try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                publisherRef_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                messageName_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 24: {
+                cancelled_ = input.readBool();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.Subscription) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+          onChanged();
+        } // finally
         return this;
       }
       private int bitField0_;
@@ -4375,12 +4494,14 @@ public final class Elasticactors {
       private java.lang.Object publisherRef_ = "";
       /**
        * <code>optional string publisherRef = 1;</code>
+       * @return Whether the publisherRef field is set.
        */
       public boolean hasPublisherRef() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <code>optional string publisherRef = 1;</code>
+       * @return The publisherRef.
        */
       public java.lang.String getPublisherRef() {
         java.lang.Object ref = publisherRef_;
@@ -4398,6 +4519,7 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string publisherRef = 1;</code>
+       * @return The bytes for publisherRef.
        */
       public com.google.protobuf.ByteString
           getPublisherRefBytes() {
@@ -4414,36 +4536,37 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string publisherRef = 1;</code>
+       * @param value The publisherRef to set.
+       * @return This builder for chaining.
        */
       public Builder setPublisherRef(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         publisherRef_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <code>optional string publisherRef = 1;</code>
+       * @return This builder for chaining.
        */
       public Builder clearPublisherRef() {
-        bitField0_ = (bitField0_ & ~0x00000001);
         publisherRef_ = getDefaultInstance().getPublisherRef();
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
        * <code>optional string publisherRef = 1;</code>
+       * @param value The bytes for publisherRef to set.
+       * @return This builder for chaining.
        */
       public Builder setPublisherRefBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         publisherRef_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
@@ -4451,12 +4574,14 @@ public final class Elasticactors {
       private java.lang.Object messageName_ = "";
       /**
        * <code>optional string messageName = 2;</code>
+       * @return Whether the messageName field is set.
        */
       public boolean hasMessageName() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
        * <code>optional string messageName = 2;</code>
+       * @return The messageName.
        */
       public java.lang.String getMessageName() {
         java.lang.Object ref = messageName_;
@@ -4474,6 +4599,7 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string messageName = 2;</code>
+       * @return The bytes for messageName.
        */
       public com.google.protobuf.ByteString
           getMessageNameBytes() {
@@ -4490,36 +4616,37 @@ public final class Elasticactors {
       }
       /**
        * <code>optional string messageName = 2;</code>
+       * @param value The messageName to set.
+       * @return This builder for chaining.
        */
       public Builder setMessageName(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         messageName_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <code>optional string messageName = 2;</code>
+       * @return This builder for chaining.
        */
       public Builder clearMessageName() {
-        bitField0_ = (bitField0_ & ~0x00000002);
         messageName_ = getDefaultInstance().getMessageName();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
       /**
        * <code>optional string messageName = 2;</code>
+       * @param value The bytes for messageName to set.
+       * @return This builder for chaining.
        */
       public Builder setMessageNameBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         messageName_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
@@ -4527,27 +4654,35 @@ public final class Elasticactors {
       private boolean cancelled_ ;
       /**
        * <code>optional bool cancelled = 3;</code>
+       * @return Whether the cancelled field is set.
        */
+      @java.lang.Override
       public boolean hasCancelled() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+        return ((bitField0_ & 0x00000004) != 0);
       }
       /**
        * <code>optional bool cancelled = 3;</code>
+       * @return The cancelled.
        */
+      @java.lang.Override
       public boolean getCancelled() {
         return cancelled_;
       }
       /**
        * <code>optional bool cancelled = 3;</code>
+       * @param value The cancelled to set.
+       * @return This builder for chaining.
        */
       public Builder setCancelled(boolean value) {
-        bitField0_ |= 0x00000004;
+
         cancelled_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
        * <code>optional bool cancelled = 3;</code>
+       * @return This builder for chaining.
        */
       public Builder clearCancelled() {
         bitField0_ = (bitField0_ & ~0x00000004);
@@ -4588,7 +4723,18 @@ public final class Elasticactors {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Subscription(input, extensionRegistry);
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
     };
 
@@ -4641,7 +4787,7 @@ public final class Elasticactors {
       "re.elasticactors.serialization.protobuf\"" +
       "s\n\030ActorSystemEventListener\022\017\n\007actorId\030\001" +
       " \001(\t\022\024\n\014messageClass\030\002 \001(\t\022\017\n\007message\030\003 " +
-      "\001(\014\022\037\n\027messageQueueAffinityKey\030\004 \001(\t\"\256\002\n" +
+      "\001(\014\022\037\n\027messageQueueAffinityKey\030\004 \001(\t\"\301\002\n" +
       "\017PersistentActor\022\020\n\010actorRef\030\001 \001(\t\022\022\n\nac" +
       "torClass\030\002 \001(\t\022\032\n\022actorSystemVersion\030\003 \001" +
       "(\t\022\r\n\005state\030\004 \001(\014\022\020\n\010shardKey\030\005 \001(\t\022Y\n\013s" +
@@ -4649,24 +4795,16 @@ public final class Elasticactors {
       "lasticactors.serialization.protobuf.Subs" +
       "criber\022]\n\rsubscriptions\030\007 \003(\0132F.org.elas" +
       "ticsoftware.elasticactors.serialization." +
-      "protobuf.Subscription\"H\n\nSubscriber\022\025\n\rs" +
-      "ubscriberRef\030\001 \001(\t\022\023\n\013messageName\030\002 \001(\t\022" +
-      "\016\n\006leases\030\003 \001(\004\"L\n\014Subscription\022\024\n\014publi" +
-      "sherRef\030\001 \001(\t\022\023\n\013messageName\030\002 \001(\t\022\021\n\tca" +
-      "ncelled\030\003 \001(\010B\002H\001"
+      "protobuf.Subscription\022\021\n\tactorRefs\030\010 \001(\014" +
+      "\"H\n\nSubscriber\022\025\n\rsubscriberRef\030\001 \001(\t\022\023\n" +
+      "\013messageName\030\002 \001(\t\022\016\n\006leases\030\003 \001(\004\"L\n\014Su" +
+      "bscription\022\024\n\014publisherRef\030\001 \001(\t\022\023\n\013mess" +
+      "ageName\030\002 \001(\t\022\021\n\tcancelled\030\003 \001(\010B\002H\001"
     };
-    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
-        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
-          public com.google.protobuf.ExtensionRegistry assignDescriptors(
-              com.google.protobuf.Descriptors.FileDescriptor root) {
-            descriptor = root;
-            return null;
-          }
-        };
-    com.google.protobuf.Descriptors.FileDescriptor
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
         new com.google.protobuf.Descriptors.FileDescriptor[] {
-        }, assigner);
+        });
     internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_ActorSystemEventListener_descriptor =
       getDescriptor().getMessageTypes().get(0);
     internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_ActorSystemEventListener_fieldAccessorTable = new
@@ -4678,7 +4816,7 @@ public final class Elasticactors {
     internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_PersistentActor_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_PersistentActor_descriptor,
-        new java.lang.String[] { "ActorRef", "ActorClass", "ActorSystemVersion", "State", "ShardKey", "Subscribers", "Subscriptions", });
+        new java.lang.String[] { "ActorRef", "ActorClass", "ActorSystemVersion", "State", "ShardKey", "Subscribers", "Subscriptions", "ActorRefs", });
     internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_Subscriber_descriptor =
       getDescriptor().getMessageTypes().get(2);
     internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_Subscriber_fieldAccessorTable = new
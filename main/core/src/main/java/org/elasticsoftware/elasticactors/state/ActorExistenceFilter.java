@@ -0,0 +1,122 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.state;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import java.util.List;
+
+/**
+ * Scalable bloom filter over the ids of the actors that exist in a shard. Every time the current filter holds its
+ * expected number of actors a new filter with twice the capacity and half the false positive probability is added, so
+ * the overall false positive probability stays below the configured one while the shard grows.
+ *
+ * As long as the filter is not ready (i.e. still being built from the {@link PersistentActorRepository}) every actor
+ * might exist. Removing an actor is not possible, destroyed actors will just show up as false positives.
+ */
+public final class ActorExistenceFilter {
+    private final double falsePositiveProbability;
+    private volatile List<BloomFilter<CharSequence>> filters;
+    // guarded by this
+    private BloomFilter<CharSequence> currentFilter;
+    private long currentCapacity;
+    private long currentSize;
+    private long size;
+    private volatile boolean ready;
+    private volatile boolean closed;
+
+    public ActorExistenceFilter(int expectedInsertions, double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.currentCapacity = Math.max(expectedInsertions, 1);
+        this.currentFilter = createFilter(currentCapacity, falsePositiveProbability / 2);
+        this.filters = ImmutableList.of(currentFilter);
+    }
+
+    public synchronized void put(String actorId) {
+        if (currentFilter.put(actorId)) {
+            size++;
+            if (++currentSize >= currentCapacity) {
+                grow();
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} if the actor definitely doesn't exist, {@code true} if it might exist
+     */
+    public boolean mightContain(String actorId) {
+        if (!ready) {
+            return true;
+        }
+        for (BloomFilter<CharSequence> filter : filters) {
+            if (filter.mightContain(actorId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the (approximate) number of actors that were put in this filter
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Should be called once all the existing actors have been put in this filter
+     */
+    public void markReady() {
+        if (!closed) {
+            this.ready = true;
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Called when the shard is no longer owned, the filter will not be used anymore after this
+     */
+    public void close() {
+        this.closed = true;
+        this.ready = false;
+    }
+
+    private void grow() {
+        currentCapacity *= 2;
+        currentSize = 0;
+        currentFilter = createFilter(currentCapacity, falsePositiveProbability / (1L << (filters.size() + 1)));
+        filters = ImmutableList.<BloomFilter<CharSequence>>builder().addAll(filters).add(currentFilter).build();
+    }
+
+    private static BloomFilter<CharSequence> createFilter(long expectedInsertions, double falsePositiveProbability) {
+        return BloomFilter.create(
+            Funnels.unencodedCharsFunnel(),
+            expectedInsertions,
+            Math.max(falsePositiveProbability, Double.MIN_NORMAL)
+        );
+    }
+}
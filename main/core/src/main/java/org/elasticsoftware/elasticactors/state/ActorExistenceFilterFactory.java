@@ -0,0 +1,134 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.state;
+
+import jakarta.annotation.Nullable;
+import org.elasticsoftware.elasticactors.ShardKey;
+import org.elasticsoftware.elasticactors.util.concurrent.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the {@link ActorExistenceFilter} of the local shards and builds them in the background from the
+ * {@link PersistentActorRepository}.
+ *
+ * A filter must only be created once the previous owner of the shard has released it, otherwise its updates
+ * might not be in the repository yet and an actor that is missing from the filter would be created again. The
+ * build is delayed a bit more, to give the updates that were still in flight on the previous owner a chance to
+ * reach the repository.
+ */
+public final class ActorExistenceFilterFactory {
+    private static final Logger logger = LoggerFactory.getLogger(ActorExistenceFilterFactory.class);
+    private final boolean enabled;
+    private final int expectedInsertions;
+    private final double falsePositiveProbability;
+    private final long buildDelayMillis;
+    @Nullable private final ScheduledExecutorService buildExecutor;
+
+    public ActorExistenceFilterFactory(
+        boolean enabled,
+        int expectedInsertions,
+        double falsePositiveProbability,
+        long buildDelayMillis)
+    {
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.buildDelayMillis = Math.max(buildDelayMillis, 0L);
+        this.buildExecutor = enabled
+            ? Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("ACTOR-EXISTENCE-FILTER"))
+            : null;
+    }
+
+    public static ActorExistenceFilterFactory disabled() {
+        return new ActorExistenceFilterFactory(false, 0, 0.0d, 0L);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return a new filter for the given shard, or {@code null} if the existence filter is disabled. The filter
+     * will only become ready after it was built, which happens in the background
+     */
+    @Nullable
+    public ActorExistenceFilter create(ShardKey shardKey, PersistentActorRepository persistentActorRepository) {
+        if (!enabled) {
+            return null;
+        }
+        ActorExistenceFilter filter = new ActorExistenceFilter(expectedInsertions, falsePositiveProbability);
+        buildExecutor.schedule(
+            () -> build(shardKey, persistentActorRepository, filter),
+            buildDelayMillis,
+            TimeUnit.MILLISECONDS
+        );
+        return filter;
+    }
+
+    private void build(
+        ShardKey shardKey,
+        PersistentActorRepository persistentActorRepository,
+        ActorExistenceFilter filter)
+    {
+        if (filter.isClosed()) {
+            return;
+        }
+        final long startTime = System.nanoTime();
+        try {
+            persistentActorRepository.forEachActorId(shardKey, actorId -> {
+                if (filter.isClosed()) {
+                    throw new CancellationException();
+                }
+                filter.put(actorId);
+            });
+            filter.markReady();
+            logger.info(
+                "Built actor existence filter for shard [{}] with {} actors in {} msecs",
+                shardKey,
+                filter.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)
+            );
+        } catch (CancellationException e) {
+            logger.info("Stopped building actor existence filter for shard [{}], shard was released", shardKey);
+        } catch (UnsupportedOperationException e) {
+            logger.warn(
+                "Cannot build actor existence filter for shard [{}]: {}. Falling back to the repository",
+                shardKey,
+                e.getMessage()
+            );
+        } catch (Exception e) {
+            logger.error(
+                "Exception while building actor existence filter for shard [{}]. Falling back to the repository",
+                shardKey,
+                e
+            );
+        }
+    }
+
+    public void shutdown() {
+        if (buildExecutor != null) {
+            buildExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.state;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary deltas between two serialized forms of an actor. A delta replaces the bytes between the common prefix and
+ * the common suffix of both forms, which is compact when a message changes a single field of a large state.
+ *
+ * A delta starts with the checksum of the form it was computed against, followed by the length of the common
+ * prefix and of the common suffix, followed by the replacement bytes.
+ */
+public final class ActorStateDeltas {
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+
+    private ActorStateDeltas() {
+    }
+
+    public static int checksum(byte[] bytes) {
+        CRC32C crc32c = new CRC32C();
+        crc32c.update(bytes, 0, bytes.length);
+        return (int) crc32c.getValue();
+    }
+
+    /**
+     * @param base         the form the delta is computed against
+     * @param baseChecksum the checksum of {@code base}, as returned by {@link #checksum(byte[])}
+     * @param target       the form the delta should result in when applied to {@code base}
+     */
+    public static byte[] create(byte[] base, int baseChecksum, byte[] target) {
+        int prefix = Arrays.mismatch(base, target);
+        if (prefix < 0) {
+            prefix = base.length;
+        }
+        int maximumSuffix = Math.min(base.length, target.length) - prefix;
+        int suffix = 0;
+        while (suffix < maximumSuffix
+            && base[base.length - suffix - 1] == target[target.length - suffix - 1]) {
+            suffix++;
+        }
+        int replacementLength = target.length - prefix - suffix;
+        ByteBuffer delta = ByteBuffer.allocate(HEADER_SIZE + replacementLength);
+        delta.putInt(baseChecksum);
+        delta.putInt(prefix);
+        delta.putInt(suffix);
+        delta.put(target, prefix, replacementLength);
+        return delta.array();
+    }
+
+    /**
+     * @return {@code true} if the delta was computed against the form with the given checksum
+     */
+    public static boolean appliesTo(ByteBuffer delta, int checksum) {
+        return delta.remaining() >= HEADER_SIZE && delta.getInt(delta.position()) == checksum;
+    }
+
+    /**
+     * Applies the delta to the form it was computed against, the position of the delta is not changed.
+     */
+    public static byte[] apply(byte[] base, ByteBuffer delta) throws IOException {
+        ByteBuffer buffer = delta.duplicate();
+        if (buffer.remaining() < HEADER_SIZE) {
+            throw new IOException("Delta is truncated");
+        }
+        buffer.getInt();
+        int prefix = buffer.getInt();
+        int suffix = buffer.getInt();
+        if (prefix < 0 || suffix < 0 || prefix + suffix > base.length) {
+            throw new IOException("Delta doesn't fit a base of " + base.length + " bytes");
+        }
+        int replacementLength = buffer.remaining();
+        byte[] target = new byte[prefix + replacementLength + suffix];
+        System.arraycopy(base, 0, target, 0, prefix);
+        buffer.get(target, prefix, replacementLength);
+        System.arraycopy(base, base.length - suffix, target, prefix + replacementLength, suffix);
+        return target;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.util.concurrent;
+
+/**
+ * Gets notified by a {@link ThreadBoundExecutor} when its outstanding events cross the high and
+ * low watermarks. Calls to both methods always alternate, starting with
+ * {@link #onBackpressureApplied()}.
+ *
+ * <p>
+ * Notifications happen on whichever thread crossed the watermark (either a producer or a worker
+ * of the executor) while holding the executor's watermark lock, so implementations should return
+ * quickly.
+ */
+public interface BackpressureListener {
+
+    void onBackpressureApplied();
+
+    void onBackpressureReleased();
+}
@@ -17,8 +17,11 @@
 
 package org.elasticsoftware.elasticactors.util.concurrent;
 
+import org.elasticsoftware.elasticactors.util.concurrent.backpressure.BackpressureConfiguration;
 import org.elasticsoftware.elasticactors.util.concurrent.metrics.DelegatingTimedThreadBoundExecutor;
 import org.elasticsoftware.elasticactors.util.concurrent.metrics.ThreadBoundExecutorMonitor;
+import org.elasticsoftware.elasticactors.util.concurrent.rebalancing.KeyRebalancer;
+import org.elasticsoftware.elasticactors.util.concurrent.rebalancing.KeyRebalancingConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,13 +58,25 @@ public final class BlockingQueueThreadBoundExecutor
         ThreadFactory threadFactory,
         int numberOfThreads,
         @Nullable ThreadBoundExecutorMonitor monitor)
+    {
+        this(threadFactory, numberOfThreads, monitor, null, null);
+    }
+
+    public BlockingQueueThreadBoundExecutor(
+        ThreadFactory threadFactory,
+        int numberOfThreads,
+        @Nullable ThreadBoundExecutorMonitor monitor,
+        @Nullable KeyRebalancingConfiguration rebalancing,
+        @Nullable BackpressureConfiguration backpressure)
     {
         this(
             new ThreadBoundRunnableEventProcessor(),
             1,
             threadFactory,
             numberOfThreads,
-            monitor
+            monitor,
+            rebalancing,
+            backpressure
         );
     }
 
@@ -72,7 +87,32 @@ public final class BlockingQueueThreadBoundExecutor
         int numberOfThreads,
         @Nullable ThreadBoundExecutorMonitor monitor)
     {
-        super(eventProcessor, monitor);
+        this(
+            eventProcessor,
+            maxBatchSize,
+            threadFactory,
+            numberOfThreads,
+            monitor,
+            null,
+            null
+        );
+    }
+
+    public BlockingQueueThreadBoundExecutor(
+        ThreadBoundEventProcessor eventProcessor,
+        int maxBatchSize,
+        ThreadFactory threadFactory,
+        int numberOfThreads,
+        @Nullable ThreadBoundExecutorMonitor monitor,
+        @Nullable KeyRebalancingConfiguration rebalancing,
+        @Nullable BackpressureConfiguration backpressure)
+    {
+        super(
+            eventProcessor,
+            monitor,
+            KeyRebalancer.create(rebalancing, numberOfThreads),
+            backpressure
+        );
         this.threadFactory = threadFactory;
         this.queues = new BlockingQueue[numberOfThreads];
         for (int i = 0; i < numberOfThreads; i++) {
@@ -36,4 +36,18 @@ public interface ThreadBoundExecutor<T extends ThreadBoundEvent<?>> {
     int getThreadCount();
 
     void init();
+
+    /**
+     * Registers a listener that is told when the number of outstanding events in this executor
+     * crosses the configured high watermark, and when it drops back to the low watermark. If
+     * backpressure is applied at the time of registration, the listener is told so immediately.
+     * Executors without watermarks never notify their listeners.
+     */
+    default void addBackpressureListener(BackpressureListener listener) {
+        // no watermarks by default
+    }
+
+    default void removeBackpressureListener(BackpressureListener listener) {
+        // no watermarks by default
+    }
 }
@@ -19,14 +19,21 @@ package org.elasticsoftware.elasticactors.util.concurrent;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerTagCustomizer;
+import org.elasticsoftware.elasticactors.util.concurrent.backpressure.BackpressureConfiguration;
 import org.elasticsoftware.elasticactors.util.concurrent.disruptor.DisruptorThreadBoundExecutor;
+import org.elasticsoftware.elasticactors.util.concurrent.mailbox.MailboxThreadBoundExecutor;
 import org.elasticsoftware.elasticactors.util.concurrent.metrics.ThreadBoundExecutorMonitor;
+import org.elasticsoftware.elasticactors.util.concurrent.mpsc.MpscArrayThreadBoundExecutor;
+import org.elasticsoftware.elasticactors.util.concurrent.mpsc.OverflowPolicy;
+import org.elasticsoftware.elasticactors.util.concurrent.mpsc.WaitStrategy;
+import org.elasticsoftware.elasticactors.util.concurrent.rebalancing.KeyRebalancingConfiguration;
 import org.springframework.core.env.Environment;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
 import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
 import static java.lang.String.format;
 
 public final class ThreadBoundExecutorBuilder {
@@ -46,20 +53,44 @@ public final class ThreadBoundExecutorBuilder {
             Integer.class,
             getDefaultNumberOfWorkers()
         );
-        final Boolean useDisruptor =
-            env.getProperty(format("ea.%s.useDisruptor", executorName), Boolean.class, FALSE);
-        if (useDisruptor) {
-            return new DisruptorThreadBoundExecutor(
-                new DaemonThreadFactory(baseThreadName),
-                workers,
-                ThreadBoundExecutorMonitor.build(env, meterRegistry, executorName, tagCustomizer)
-            );
-        } else {
-            return new BlockingQueueThreadBoundExecutor(
-                new DaemonThreadFactory(baseThreadName),
-                workers,
-                ThreadBoundExecutorMonitor.build(env, meterRegistry, executorName, tagCustomizer)
-            );
+        switch (getExecutorType(env, executorName)) {
+            case DISRUPTOR:
+                return new DisruptorThreadBoundExecutor(
+                    new DaemonThreadFactory(baseThreadName),
+                    workers,
+                    ThreadBoundExecutorMonitor.build(env, meterRegistry, executorName, tagCustomizer),
+                    KeyRebalancingConfiguration.build(env, executorName),
+                    BackpressureConfiguration.build(env, executorName)
+                );
+            case MPSC:
+                return buildMpscArrayThreadBoundExecutor(
+                    env,
+                    new ThreadBoundRunnableEventProcessor(),
+                    workers,
+                    1,
+                    executorName,
+                    baseThreadName,
+                    meterRegistry,
+                    tagCustomizer
+                );
+            case MAILBOX:
+                return buildMailboxThreadBoundExecutor(
+                    env,
+                    new ThreadBoundRunnableEventProcessor(),
+                    1,
+                    executorName,
+                    baseThreadName,
+                    meterRegistry,
+                    tagCustomizer
+                );
+            default:
+                return new BlockingQueueThreadBoundExecutor(
+                    new DaemonThreadFactory(baseThreadName),
+                    workers,
+                    ThreadBoundExecutorMonitor.build(env, meterRegistry, executorName, tagCustomizer),
+                    KeyRebalancingConfiguration.build(env, executorName),
+                    BackpressureConfiguration.build(env, executorName)
+                );
         }
     }
 
@@ -78,7 +109,9 @@ public final class ThreadBoundExecutorBuilder {
         return new BlockingQueueThreadBoundExecutor(
             new DaemonThreadFactory(baseThreadName),
             workers,
-            ThreadBoundExecutorMonitor.build(env, meterRegistry, executorName, tagCustomizer)
+            ThreadBoundExecutorMonitor.build(env, meterRegistry, executorName, tagCustomizer),
+            KeyRebalancingConfiguration.build(env, executorName),
+            BackpressureConfiguration.build(env, executorName)
         );
     }
 
@@ -96,24 +129,48 @@ public final class ThreadBoundExecutorBuilder {
             getDefaultNumberOfWorkers()
         );
         final int batchSize = getBatchSize(env, executorName);
-        final Boolean useDisruptor =
-            env.getProperty(format("ea.%s.useDisruptor", executorName), Boolean.class, FALSE);
-        if (useDisruptor) {
-            return new DisruptorThreadBoundExecutor(
-                eventProcessor,
-                batchSize,
-                new DaemonThreadFactory(baseThreadName),
-                workers,
-                ThreadBoundExecutorMonitor.build(env, meterRegistry, executorName, tagCustomizer)
-            );
-        } else {
-            return new BlockingQueueThreadBoundExecutor(
-                eventProcessor,
-                batchSize,
-                new DaemonThreadFactory(baseThreadName),
-                workers,
-                ThreadBoundExecutorMonitor.build(env, meterRegistry, executorName, tagCustomizer)
-            );
+        switch (getExecutorType(env, executorName)) {
+            case DISRUPTOR:
+                return new DisruptorThreadBoundExecutor(
+                    eventProcessor,
+                    batchSize,
+                    new DaemonThreadFactory(baseThreadName),
+                    workers,
+                    ThreadBoundExecutorMonitor.build(env, meterRegistry, executorName, tagCustomizer),
+                    KeyRebalancingConfiguration.build(env, executorName),
+                    BackpressureConfiguration.build(env, executorName)
+                );
+            case MPSC:
+                return buildMpscArrayThreadBoundExecutor(
+                    env,
+                    eventProcessor,
+                    workers,
+                    batchSize,
+                    executorName,
+                    baseThreadName,
+                    meterRegistry,
+                    tagCustomizer
+                );
+            case MAILBOX:
+                return buildMailboxThreadBoundExecutor(
+                    env,
+                    eventProcessor,
+                    batchSize,
+                    executorName,
+                    baseThreadName,
+                    meterRegistry,
+                    tagCustomizer
+                );
+            default:
+                return new BlockingQueueThreadBoundExecutor(
+                    eventProcessor,
+                    batchSize,
+                    new DaemonThreadFactory(baseThreadName),
+                    workers,
+                    ThreadBoundExecutorMonitor.build(env, meterRegistry, executorName, tagCustomizer),
+                    KeyRebalancingConfiguration.build(env, executorName),
+                    BackpressureConfiguration.build(env, executorName)
+                );
         }
     }
 
@@ -158,10 +215,84 @@ public final class ThreadBoundExecutorBuilder {
             batchSize,
             new DaemonThreadFactory(baseThreadName),
             workers,
-            ThreadBoundExecutorMonitor.build(env, meterRegistry, executorName, tagCustomizer)
+            ThreadBoundExecutorMonitor.build(env, meterRegistry, executorName, tagCustomizer),
+            KeyRebalancingConfiguration.build(env, executorName),
+            BackpressureConfiguration.build(env, executorName)
         );
     }
 
+    public static MpscArrayThreadBoundExecutor buildMpscArrayThreadBoundExecutor(
+        @Nonnull Environment env,
+        @Nonnull ThreadBoundEventProcessor eventProcessor,
+        int workers,
+        int batchSize,
+        @Nonnull String executorName,
+        @Nonnull String baseThreadName,
+        @Nullable MeterRegistry meterRegistry,
+        @Nullable MicrometerTagCustomizer tagCustomizer)
+    {
+        return new MpscArrayThreadBoundExecutor(
+            eventProcessor,
+            batchSize,
+            new DaemonThreadFactory(baseThreadName),
+            workers,
+            env.getProperty(format("ea.%s.mpsc.capacity", executorName), Integer.class, 8192),
+            env.getProperty(
+                format("ea.%s.mpsc.waitStrategy", executorName),
+                WaitStrategy.class,
+                WaitStrategy.PARK
+            ),
+            env.getProperty(
+                format("ea.%s.mpsc.overflowPolicy", executorName),
+                OverflowPolicy.class,
+                OverflowPolicy.BLOCK
+            ),
+            ThreadBoundExecutorMonitor.build(env, meterRegistry, executorName, tagCustomizer),
+            KeyRebalancingConfiguration.build(env, executorName),
+            BackpressureConfiguration.build(env, executorName)
+        );
+    }
+
+    public static MailboxThreadBoundExecutor buildMailboxThreadBoundExecutor(
+        @Nonnull Environment env,
+        @Nonnull ThreadBoundEventProcessor eventProcessor,
+        int batchSize,
+        @Nonnull String executorName,
+        @Nonnull String baseThreadName,
+        @Nullable MeterRegistry meterRegistry,
+        @Nullable MicrometerTagCustomizer tagCustomizer)
+    {
+        return new MailboxThreadBoundExecutor(
+            eventProcessor,
+            batchSize,
+            baseThreadName,
+            env.getProperty(
+                format("ea.%s.mailbox.parallelism", executorName),
+                Integer.class,
+                Runtime.getRuntime().availableProcessors()
+            ),
+            env.getProperty(
+                format("ea.%s.mailbox.useVirtualThreads", executorName),
+                Boolean.class,
+                TRUE
+            ),
+            ThreadBoundExecutorMonitor.build(env, meterRegistry, executorName, tagCustomizer),
+            BackpressureConfiguration.build(env, executorName)
+        );
+    }
+
+    private static ExecutorType getExecutorType(Environment env, String executorName) {
+        ExecutorType type =
+            env.getProperty(format("ea.%s.type", executorName), ExecutorType.class);
+        if (type != null) {
+            return type;
+        }
+        // Kept for backwards compatibility with the time there were only two implementations
+        final Boolean useDisruptor =
+            env.getProperty(format("ea.%s.useDisruptor", executorName), Boolean.class, FALSE);
+        return useDisruptor ? ExecutorType.DISRUPTOR : ExecutorType.BLOCKING_QUEUE;
+    }
+
     private static int getDefaultNumberOfWorkers() {
         return Runtime.getRuntime().availableProcessors() * 3;
     }
@@ -180,4 +311,11 @@ public final class ThreadBoundExecutorBuilder {
         }
         return 20;
     }
+
+    private enum ExecutorType {
+        BLOCKING_QUEUE,
+        DISRUPTOR,
+        MPSC,
+        MAILBOX
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.util.concurrent.backpressure;
+
+import org.springframework.core.env.Environment;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import static java.lang.String.format;
+
+/**
+ * The watermarks, in number of outstanding (queued or executing) events, at which a
+ * {@link org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor} starts and stops
+ * applying backpressure.
+ */
+public final class BackpressureConfiguration {
+
+    private final String executorName;
+    private final long highWatermark;
+    private final long lowWatermark;
+
+    @Nullable
+    public static BackpressureConfiguration build(
+        @Nonnull Environment env,
+        @Nonnull String executorName)
+    {
+        long highWatermark = env.getProperty(
+            format("ea.%s.backpressure.highWatermark", executorName),
+            Long.class,
+            0L
+        );
+        if (highWatermark > 0) {
+            long lowWatermark = env.getProperty(
+                format("ea.%s.backpressure.lowWatermark", executorName),
+                Long.class,
+                highWatermark / 2
+            );
+            return new BackpressureConfiguration(executorName, highWatermark, lowWatermark);
+        }
+        return null;
+    }
+
+    public BackpressureConfiguration(
+        @Nonnull String executorName,
+        long highWatermark,
+        long lowWatermark)
+    {
+        if (highWatermark <= 0) {
+            throw new IllegalArgumentException("highWatermark must be positive");
+        }
+        if (lowWatermark < 0 || lowWatermark >= highWatermark) {
+            throw new IllegalArgumentException(
+                "lowWatermark must not be negative and must be lower than highWatermark");
+        }
+        this.executorName = executorName;
+        this.highWatermark = highWatermark;
+        this.lowWatermark = lowWatermark;
+    }
+
+    @Nonnull
+    public String getExecutorName() {
+        return executorName;
+    }
+
+    public long getHighWatermark() {
+        return highWatermark;
+    }
+
+    public long getLowWatermark() {
+        return lowWatermark;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.util.concurrent.backpressure;
+
+import org.elasticsoftware.elasticactors.util.concurrent.BackpressureListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the outstanding events of an executor and notifies {@link BackpressureListener}s when
+ * that number crosses the high watermark or drops back to the low watermark.
+ *
+ * <p>
+ * The counter is checked on every change, but the (synchronized) state transition only happens
+ * when a watermark is actually crossed.
+ *
+ * <p>
+ * The events are counted for the executor as a whole, so every listener is notified when a
+ * watermark is crossed, even when only the threads of a single busy shard are behind.
+ */
+public final class WatermarkBackpressure {
+
+    private static final Logger logger = LoggerFactory.getLogger(WatermarkBackpressure.class);
+
+    private final String name;
+    private final long highWatermark;
+    private final long lowWatermark;
+    private final AtomicLong outstandingEvents = new AtomicLong();
+    private final LongAdder appliedCount = new LongAdder();
+    private final CopyOnWriteArrayList<BackpressureListener> listeners =
+        new CopyOnWriteArrayList<>();
+    private volatile boolean applied;
+
+    @Nullable
+    public static WatermarkBackpressure create(@Nullable BackpressureConfiguration configuration) {
+        return configuration != null ? new WatermarkBackpressure(configuration) : null;
+    }
+
+    public WatermarkBackpressure(@Nonnull BackpressureConfiguration configuration) {
+        this.name = configuration.getExecutorName();
+        this.highWatermark = configuration.getHighWatermark();
+        this.lowWatermark = configuration.getLowWatermark();
+    }
+
+    public void increment(int itemCount) {
+        if (outstandingEvents.addAndGet(itemCount) >= highWatermark && !applied) {
+            updateState();
+        }
+    }
+
+    public void decrement(int itemCount) {
+        if (outstandingEvents.addAndGet(-itemCount) <= lowWatermark && applied) {
+            updateState();
+        }
+    }
+
+    public synchronized void addListener(@Nonnull BackpressureListener listener) {
+        listeners.add(listener);
+        if (applied) {
+            notifyApplied(listener);
+        }
+    }
+
+    public synchronized void removeListener(@Nonnull BackpressureListener listener) {
+        listeners.remove(listener);
+    }
+
+    public boolean isApplied() {
+        return applied;
+    }
+
+    public long getOutstandingEvents() {
+        return outstandingEvents.get();
+    }
+
+    public long getAppliedCount() {
+        return appliedCount.sum();
+    }
+
+    private synchronized void updateState() {
+        // loop, as the counter may cross the other watermark while the listeners are notified
+        for (;;) {
+            long current = outstandingEvents.get();
+            if (!applied && current >= highWatermark) {
+                applied = true;
+                appliedCount.increment();
+                logger.info(
+                    "Applying backpressure on [{}]: {} outstanding events (high watermark: {})",
+                    name,
+                    current,
+                    highWatermark
+                );
+                listeners.forEach(this::notifyApplied);
+            } else if (applied && current <= lowWatermark) {
+                applied = false;
+                logger.info(
+                    "Releasing backpressure on [{}]: {} outstanding events (low watermark: {})",
+                    name,
+                    current,
+                    lowWatermark
+                );
+                listeners.forEach(this::notifyReleased);
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void notifyApplied(BackpressureListener listener) {
+        try {
+            listener.onBackpressureApplied();
+        } catch (Exception e) {
+            logger.error("Exception while applying backpressure on listener [{}]", listener, e);
+        }
+    }
+
+    private void notifyReleased(BackpressureListener listener) {
+        try {
+            listener.onBackpressureReleased();
+        } catch (Exception e) {
+            logger.error("Exception while releasing backpressure on listener [{}]", listener, e);
+        }
+    }
+}
@@ -22,8 +22,11 @@ import com.lmax.disruptor.dsl.Disruptor;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundEvent;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundEventProcessor;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnableEventProcessor;
+import org.elasticsoftware.elasticactors.util.concurrent.backpressure.BackpressureConfiguration;
 import org.elasticsoftware.elasticactors.util.concurrent.metrics.CountingTimedThreadBoundExecutor;
 import org.elasticsoftware.elasticactors.util.concurrent.metrics.ThreadBoundExecutorMonitor;
+import org.elasticsoftware.elasticactors.util.concurrent.rebalancing.KeyRebalancer;
+import org.elasticsoftware.elasticactors.util.concurrent.rebalancing.KeyRebalancingConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,13 +50,25 @@ public final class DisruptorThreadBoundExecutor extends CountingTimedThreadBound
         ThreadFactory threadFactory,
         int workers,
         @Nullable ThreadBoundExecutorMonitor monitor)
+    {
+        this(threadFactory, workers, monitor, null, null);
+    }
+
+    public DisruptorThreadBoundExecutor(
+        ThreadFactory threadFactory,
+        int workers,
+        @Nullable ThreadBoundExecutorMonitor monitor,
+        @Nullable KeyRebalancingConfiguration rebalancing,
+        @Nullable BackpressureConfiguration backpressure)
     {
         this(
             new ThreadBoundRunnableEventProcessor(),
             1024,
             threadFactory,
             workers,
-            monitor
+            monitor,
+            rebalancing,
+            backpressure
         );
     }
 
@@ -64,7 +79,19 @@ public final class DisruptorThreadBoundExecutor extends CountingTimedThreadBound
         int workers,
         @Nullable ThreadBoundExecutorMonitor monitor)
     {
-        super(eventProcessor, monitor);
+        this(eventProcessor, bufferSize, threadFactory, workers, monitor, null, null);
+    }
+
+    public DisruptorThreadBoundExecutor(
+        ThreadBoundEventProcessor eventProcessor,
+        int bufferSize,
+        ThreadFactory threadFactory,
+        int workers,
+        @Nullable ThreadBoundExecutorMonitor monitor,
+        @Nullable KeyRebalancingConfiguration rebalancing,
+        @Nullable BackpressureConfiguration backpressure)
+    {
+        super(eventProcessor, monitor, KeyRebalancer.create(rebalancing, workers), backpressure);
         this.threadFactory = threadFactory;
         this.disruptors = new Disruptor[workers];
 
@@ -0,0 +1,384 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.util.concurrent.mailbox;
+
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundEvent;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundEventProcessor;
+import org.elasticsoftware.elasticactors.util.concurrent.backpressure.BackpressureConfiguration;
+import org.elasticsoftware.elasticactors.util.concurrent.metrics.CountingTimedThreadBoundExecutor;
+import org.elasticsoftware.elasticactors.util.concurrent.metrics.ThreadBoundExecutorMonitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A {@link org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor} that gives every
+ * key with outstanding events its own serial mailbox instead of binding it to a fixed worker
+ * thread. A mailbox is drained by a single task at a time, which runs either on a virtual thread
+ * (when available in the running JVM) or on a {@link ForkJoinPool}.
+ *
+ * <p>
+ * On the {@link ForkJoinPool}, every drain runs as a {@link ForkJoinPool.ManagedBlocker}, so the
+ * pool starts extra threads (up to {@value #MAX_SPARE_THREADS} beyond the parallelism) when all of
+ * its threads are busy. Without this, a few keys blocking at the same time would stall all other
+ * mailboxes, as they would on a fixed thread executor.
+ *
+ * <p>
+ * Events for the same key are still processed one at a time and in submission order, but a key
+ * that blocks (e.g. an actor doing an HTTP or JDBC call) only holds up its own mailbox and not the
+ * other keys that would have been hashed to the same worker thread. Mailboxes are discarded as soon
+ * as they are drained, so memory use is proportional to the number of keys with pending events.
+ *
+ * <p>
+ * The number of threads reported by this executor is the parallelism, which is also used to
+ * group keys for metrics purposes.
+ */
+public final class MailboxThreadBoundExecutor extends CountingTimedThreadBoundExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailboxThreadBoundExecutor.class);
+    private static final long CLOSED = -1L;
+    // the same bound as the common ForkJoinPool uses for its compensating threads
+    private static final int MAX_SPARE_THREADS = 256;
+
+    private final String baseThreadName;
+    private final int parallelism;
+    private final int maxBatchSize;
+    private final boolean virtualThreads;
+    private final ExecutorService executorService;
+    private final ConcurrentHashMap<Object, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final Function<Object, Mailbox> mailboxFactory = Mailbox::new;
+    private final AtomicBoolean shuttingDown = new AtomicBoolean(false);
+
+    public MailboxThreadBoundExecutor(
+        ThreadBoundEventProcessor eventProcessor,
+        int maxBatchSize,
+        String baseThreadName,
+        int parallelism,
+        boolean useVirtualThreads,
+        @Nullable ThreadBoundExecutorMonitor monitor)
+    {
+        this(
+            eventProcessor,
+            maxBatchSize,
+            baseThreadName,
+            parallelism,
+            useVirtualThreads,
+            monitor,
+            null
+        );
+    }
+
+    public MailboxThreadBoundExecutor(
+        ThreadBoundEventProcessor eventProcessor,
+        int maxBatchSize,
+        String baseThreadName,
+        int parallelism,
+        boolean useVirtualThreads,
+        @Nullable ThreadBoundExecutorMonitor monitor,
+        @Nullable BackpressureConfiguration backpressure)
+    {
+        super(eventProcessor, monitor, null, backpressure);
+        this.baseThreadName = baseThreadName;
+        this.parallelism = parallelism;
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        ExecutorService virtualThreadExecutor =
+            useVirtualThreads ? createVirtualThreadExecutor(baseThreadName) : null;
+        this.virtualThreads = virtualThreadExecutor != null;
+        this.executorService = virtualThreadExecutor != null
+            ? virtualThreadExecutor
+            : createForkJoinPool(baseThreadName, parallelism);
+    }
+
+    @PostConstruct
+    @Override
+    public void init() {
+        logger.info(
+            "Initializing {} [{}] using {}",
+            getClass().getSimpleName(),
+            baseThreadName,
+            virtualThreads
+                ? "virtual threads"
+                : "a ForkJoinPool with parallelism " + parallelism + " and at most "
+                    + MAX_SPARE_THREADS + " compensating threads"
+        );
+        super.init();
+    }
+
+    @Override
+    protected Logger getLogger() {
+        return logger;
+    }
+
+    @Nonnull
+    @Override
+    protected String getExecutorDataStructureName() {
+        return "mailbox";
+    }
+
+    @Override
+    protected long getCapacityForThread(int thread, long currentCount) {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    protected long getQueuedEventsForThread(int thread, long currentCount) {
+        return currentCount;
+    }
+
+    @Override
+    protected boolean isShuttingDown() {
+        return shuttingDown.get();
+    }
+
+    @Override
+    protected void timedExecute(final int thread, @Nonnull final ThreadBoundEvent event) {
+        Object key = event.getKey();
+        for (;;) {
+            Mailbox mailbox = mailboxes.computeIfAbsent(key, mailboxFactory);
+            if (mailbox.enqueue(thread, event)) {
+                return;
+            }
+            // the mailbox was drained and closed in the meantime
+            mailboxes.remove(key, mailbox);
+        }
+    }
+
+    @Override
+    public int getThreadCount() {
+        return parallelism;
+    }
+
+    /**
+     * @return the number of keys that currently have a mailbox, i.e. have events pending
+     */
+    public int getActiveMailboxCount() {
+        return mailboxes.size();
+    }
+
+    @Override
+    public void shutdown() {
+        logger.info("Shutting down the {}[{}]", getClass().getSimpleName(), baseThreadName);
+        if (shuttingDown.compareAndSet(false, true)) {
+            try {
+                // no new events are accepted, so wait for the mailboxes to drain
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+                while (!mailboxes.isEmpty() && System.nanoTime() < deadline) {
+                    TimeUnit.MILLISECONDS.sleep(10);
+                }
+                executorService.shutdown();
+                if (!mailboxes.isEmpty()
+                    || !executorService.awaitTermination(
+                        Math.max(deadline - System.nanoTime(), 0L),
+                        TimeUnit.NANOSECONDS))
+                {
+                    logger.error(
+                        "Timeout while waiting for {}[{}] mailboxes to empty",
+                        getClass().getSimpleName(),
+                        baseThreadName
+                    );
+                }
+            } catch (InterruptedException ignore) {
+                //we are shutting down anyway
+                logger.warn(
+                    "{}[{}] shutdown interrupted.",
+                    getClass().getSimpleName(),
+                    baseThreadName
+                );
+            }
+        }
+        logger.info("{}[{}] shut down completed", getClass().getSimpleName(), baseThreadName);
+    }
+
+    /**
+     * Virtual threads are only available from Java 21 on, while we still compile for an older
+     * release. Hence the reflection.
+     */
+    @Nullable
+    private static ExecutorService createVirtualThreadExecutor(String baseThreadName) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass
+                .getMethod("name", String.class, long.class)
+                .invoke(builder, baseThreadName + "-", 1L);
+            ThreadFactory threadFactory =
+                (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class
+                .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.warn(
+                "Virtual threads are not available in this JVM, falling back to a ForkJoinPool "
+                    + "for [{}]. Mailboxes blocking at the same time each take up a platform thread",
+                baseThreadName
+            );
+            return null;
+        }
+    }
+
+    /**
+     * Creates a pool that starts a compensating thread for every drain beyond the parallelism, and
+     * lets drains wait for a free thread instead of failing once the maximum has been reached.
+     */
+    private static ForkJoinPool createForkJoinPool(String baseThreadName, int parallelism) {
+        return new ForkJoinPool(
+            parallelism,
+            new NamedWorkerThreadFactory(baseThreadName),
+            null,
+            true,
+            parallelism,
+            parallelism + MAX_SPARE_THREADS,
+            parallelism,
+            pool -> true,
+            60L,
+            TimeUnit.SECONDS
+        );
+    }
+
+    /**
+     * A serial queue of events for a single key. {@code pending} counts the events that were
+     * submitted but not yet processed. The producer that moves it from 0 to 1 schedules the drain
+     * task, which then owns the mailbox until it brings the count back to 0. At that point the
+     * mailbox is closed (so producers will create a new one) and removed.
+     */
+    private final class Mailbox implements Runnable, ForkJoinPool.ManagedBlocker {
+
+        private final Object key;
+        private final ConcurrentLinkedQueue<ThreadBoundEvent> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicLong pending = new AtomicLong();
+        private final List<ThreadBoundEvent> batch = new ArrayList<>();
+        private volatile int thread;
+        private boolean processed;
+
+        private Mailbox(Object key) {
+            this.key = key;
+        }
+
+        boolean enqueue(int thread, ThreadBoundEvent event) {
+            long current;
+            do {
+                current = pending.get();
+                if (current == CLOSED) {
+                    return false;
+                }
+            } while (!pending.compareAndSet(current, current + 1));
+            queue.offer(event);
+            if (current == 0) {
+                this.thread = thread;
+                executorService.execute(this);
+            }
+            return true;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (virtualThreads) {
+                    block();
+                } else {
+                    // the events might block, so let the pool compensate for this thread
+                    processed = false;
+                    ForkJoinPool.managedBlock(this);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                logger.error("Interrupted in mailbox {} while executing events", key, exception);
+            } catch (Throwable exception) {
+                logger.error("Exception in mailbox {} while executing events", key, exception);
+            }
+            int processed = batch.size();
+            batch.clear();
+            long remaining = pending.addAndGet(-processed);
+            if (remaining > 0) {
+                // give other mailboxes a turn before continuing with this one
+                executorService.execute(this);
+            } else if (pending.compareAndSet(0, CLOSED)) {
+                mailboxes.remove(key, this);
+            }
+            // otherwise a producer moved it from 0 to 1 and has scheduled this mailbox again
+        }
+
+        @Override
+        public boolean block() {
+            fillBatch();
+            processBatch(thread, batch);
+            processed = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return processed;
+        }
+
+        private void fillBatch() {
+            int spins = 0;
+            while (batch.isEmpty()) {
+                ThreadBoundEvent event;
+                while (batch.size() < maxBatchSize && (event = queue.poll()) != null) {
+                    batch.add(event);
+                }
+                if (batch.isEmpty()) {
+                    // the producer reserved its slot but has not added the event yet
+                    if (++spins < 100) {
+                        Thread.onSpinWait();
+                    } else {
+                        Thread.yield();
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class NamedWorkerThreadFactory
+        implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+        private final String name;
+        private final AtomicInteger threadCount = new AtomicInteger(0);
+
+        private NamedWorkerThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread t =
+                ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            t.setDaemon(true);
+            t.setName(String.format("%s-%d", name, threadCount.incrementAndGet()));
+            return t;
+        }
+    }
+}
@@ -18,6 +18,8 @@
 package org.elasticsoftware.elasticactors.util.concurrent.metrics;
 
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundEventProcessor;
+import org.elasticsoftware.elasticactors.util.concurrent.backpressure.BackpressureConfiguration;
+import org.elasticsoftware.elasticactors.util.concurrent.rebalancing.KeyRebalancer;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
@@ -34,6 +36,15 @@ public abstract class CountingTimedThreadBoundExecutor extends TimedThreadBoundE
         super(eventProcessor, monitor);
     }
 
+    protected CountingTimedThreadBoundExecutor(
+        @Nonnull ThreadBoundEventProcessor eventProcessor,
+        @Nullable ThreadBoundExecutorMonitor monitor,
+        @Nullable KeyRebalancer rebalancer,
+        @Nullable BackpressureConfiguration backpressure)
+    {
+        super(eventProcessor, monitor, rebalancer, backpressure);
+    }
+
     @Override
     public synchronized void init() {
         if (isMeterEnabled()) {
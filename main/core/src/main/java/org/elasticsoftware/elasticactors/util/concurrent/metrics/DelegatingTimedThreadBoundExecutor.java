@@ -18,6 +18,8 @@
 package org.elasticsoftware.elasticactors.util.concurrent.metrics;
 
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundEventProcessor;
+import org.elasticsoftware.elasticactors.util.concurrent.backpressure.BackpressureConfiguration;
+import org.elasticsoftware.elasticactors.util.concurrent.rebalancing.KeyRebalancer;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
@@ -31,6 +33,15 @@ public abstract class DelegatingTimedThreadBoundExecutor extends TimedThreadBoun
         super(eventProcessor, monitor);
     }
 
+    protected DelegatingTimedThreadBoundExecutor(
+        @Nonnull ThreadBoundEventProcessor eventProcessor,
+        @Nullable ThreadBoundExecutorMonitor monitor,
+        @Nullable KeyRebalancer rebalancer,
+        @Nullable BackpressureConfiguration backpressure)
+    {
+        super(eventProcessor, monitor, rebalancer, backpressure);
+    }
+
     @Override
     protected final void incrementQueuedEvents(int thread, int itemCount) {
         // Nothing to do. Let the internal data structure count that.
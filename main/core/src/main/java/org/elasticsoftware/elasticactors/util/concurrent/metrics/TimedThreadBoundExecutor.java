@@ -22,10 +22,14 @@ import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.binder.BaseUnits;
+import org.elasticsoftware.elasticactors.util.concurrent.BackpressureListener;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundEvent;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundEventProcessor;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnable;
+import org.elasticsoftware.elasticactors.util.concurrent.backpressure.BackpressureConfiguration;
+import org.elasticsoftware.elasticactors.util.concurrent.backpressure.WatermarkBackpressure;
+import org.elasticsoftware.elasticactors.util.concurrent.rebalancing.KeyRebalancer;
 import org.slf4j.Logger;
 
 import jakarta.annotation.Nonnull;
@@ -44,6 +48,8 @@ public abstract class TimedThreadBoundExecutor implements ThreadBoundExecutor {
 
     private final ThreadBoundEventProcessor eventProcessor;
     private final ThreadBoundExecutorMonitor monitor;
+    private final KeyRebalancer rebalancer;
+    private final WatermarkBackpressure backpressure;
 
     private LongAdder globalQueuedEvents;
     private LongAdder[] completedEvents;
@@ -53,9 +59,34 @@ public abstract class TimedThreadBoundExecutor implements ThreadBoundExecutor {
     protected TimedThreadBoundExecutor(
         @Nonnull ThreadBoundEventProcessor eventProcessor,
         @Nullable ThreadBoundExecutorMonitor monitor)
+    {
+        this(eventProcessor, monitor, null, null);
+    }
+
+    protected TimedThreadBoundExecutor(
+        @Nonnull ThreadBoundEventProcessor eventProcessor,
+        @Nullable ThreadBoundExecutorMonitor monitor,
+        @Nullable KeyRebalancer rebalancer,
+        @Nullable BackpressureConfiguration backpressure)
     {
         this.eventProcessor = eventProcessor;
         this.monitor = monitor;
+        this.rebalancer = rebalancer;
+        this.backpressure = WatermarkBackpressure.create(backpressure);
+    }
+
+    @Override
+    public void addBackpressureListener(BackpressureListener listener) {
+        if (backpressure != null) {
+            backpressure.addListener(listener);
+        }
+    }
+
+    @Override
+    public void removeBackpressureListener(BackpressureListener listener) {
+        if (backpressure != null) {
+            backpressure.removeListener(listener);
+        }
     }
 
     @Override
@@ -122,6 +153,56 @@ public abstract class TimedThreadBoundExecutor implements ThreadBoundExecutor {
                 .baseUnit(BaseUnits.TASKS)
                 .register(registry);
 
+            if (rebalancer != null) {
+                FunctionCounter.builder(
+                        monitor.createNameForSuffix("rebalancing.reassigned"),
+                        rebalancer,
+                        KeyRebalancer::getReassignments
+                    )
+                    .tags(tags)
+                    .description("The number of times a key was moved to a different thread")
+                    .register(registry);
+
+                Gauge.builder(
+                        monitor.createNameForSuffix("rebalancing.tracked"),
+                        rebalancer,
+                        KeyRebalancer::getTrackedKeys
+                    )
+                    .tags(tags)
+                    .description("The approximate number of keys with a tracked thread assignment")
+                    .register(registry);
+            }
+
+            if (backpressure != null) {
+                Gauge.builder(
+                        monitor.createNameForSuffix("backpressure.applied"),
+                        backpressure,
+                        b -> b.isApplied() ? 1 : 0
+                    )
+                    .tags(tags)
+                    .description("Whether the outstanding tasks are above the high watermark (1) or not (0)")
+                    .register(registry);
+
+                FunctionCounter.builder(
+                        monitor.createNameForSuffix("backpressure.count"),
+                        backpressure,
+                        WatermarkBackpressure::getAppliedCount
+                    )
+                    .tags(tags)
+                    .description("The number of times the high watermark was crossed")
+                    .register(registry);
+
+                Gauge.builder(
+                        monitor.createNameForSuffix("backpressure.outstanding"),
+                        backpressure,
+                        WatermarkBackpressure::getOutstandingEvents
+                    )
+                    .tags(tags)
+                    .description("The number of tasks counted against the watermarks")
+                    .baseUnit(BaseUnits.TASKS)
+                    .register(registry);
+            }
+
             String structureName = getExecutorDataStructureName();
 
             for (int i = 0; i < threadCount; i++) {
@@ -284,18 +365,50 @@ public abstract class TimedThreadBoundExecutor implements ThreadBoundExecutor {
         }
         int thread = getThread(event);
         reportQueuedItem(thread, 1);
+        incrementOutstanding(1);
         try {
             timedExecute(thread, prepare(event));
         } catch (Exception e) {
             reportTakenItem(thread, 1);
+            releaseThread(thread, event);
+            decrementOutstanding(1);
             throw e;
         }
     }
 
     private int getThread(@Nonnull final ThreadBoundEvent event) {
+        if (rebalancer != null) {
+            return rebalancer.acquire(event.getKey());
+        }
         return Math.abs(event.getKey().hashCode()) % getThreadCount();
     }
 
+    private void incrementOutstanding(int itemCount) {
+        if (backpressure != null) {
+            backpressure.increment(itemCount);
+        }
+    }
+
+    private void decrementOutstanding(int itemCount) {
+        if (backpressure != null) {
+            backpressure.decrement(itemCount);
+        }
+    }
+
+    private void releaseThread(int thread, @Nonnull ThreadBoundEvent event) {
+        if (rebalancer != null) {
+            rebalancer.release(thread, event.getKey());
+        }
+    }
+
+    private void releaseThread(int thread, @Nonnull List<ThreadBoundEvent> batch) {
+        if (rebalancer != null) {
+            for (ThreadBoundEvent event : batch) {
+                rebalancer.release(thread, event.getKey());
+            }
+        }
+    }
+
     @Nonnull
     private ThreadBoundEvent prepare(@Nonnull ThreadBoundEvent event)
     {
@@ -312,6 +425,8 @@ public abstract class TimedThreadBoundExecutor implements ThreadBoundExecutor {
             eventProcessor.process(unwrapBatch(batch));
         } finally {
             reportEndBatch(thread, batch);
+            releaseThread(thread, batch);
+            decrementOutstanding(batch.size());
         }
     }
 
@@ -321,6 +436,8 @@ public abstract class TimedThreadBoundExecutor implements ThreadBoundExecutor {
             eventProcessor.process(unwrap(event));
         } finally {
             reportEnd(thread, event);
+            releaseThread(thread, event);
+            decrementOutstanding(1);
         }
     }
 
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.util.concurrent.mpsc;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free, multi-producer/single-consumer queue backed by a pre-allocated array.
+ *
+ * <p>
+ * Producers claim a slot by advancing the producer index with a CAS and then publish the element
+ * into that slot. The single consumer sees a {@code null} slot as either empty or not yet
+ * published, and frees a slot by clearing it before advancing the consumer index. No objects are
+ * allocated per element.
+ *
+ * <p>
+ * Only one thread is allowed to call {@link #poll()} and {@link #drainTo(List, int)}.
+ */
+final class MpscArrayQueue<E> {
+
+    private final AtomicReferenceArray<E> buffer;
+    private final int mask;
+    private final int capacity;
+    private final AtomicLong producerIndex = new PaddedAtomicLong();
+    private final AtomicLong consumerIndex = new PaddedAtomicLong();
+
+    MpscArrayQueue(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2");
+        }
+        this.capacity = requestedCapacity > (1 << 30)
+            ? 1 << 30
+            : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * @return {@code false} if the queue is full, {@code true} otherwise
+     */
+    boolean offer(E element) {
+        long index;
+        do {
+            index = producerIndex.get();
+            if (index - consumerIndex.get() >= capacity) {
+                return false;
+            }
+        } while (!producerIndex.compareAndSet(index, index + 1));
+        buffer.lazySet(offset(index), element);
+        return true;
+    }
+
+    /**
+     * @return the next element, or {@code null} if there are none available (yet)
+     */
+    E poll() {
+        long index = consumerIndex.get();
+        int offset = offset(index);
+        E element = buffer.get(offset);
+        if (element == null) {
+            if (index == producerIndex.get()) {
+                return null;
+            }
+            // a producer claimed this slot but has not published to it yet
+            do {
+                Thread.onSpinWait();
+                element = buffer.get(offset);
+            } while (element == null);
+        }
+        buffer.lazySet(offset, null);
+        consumerIndex.lazySet(index + 1);
+        return element;
+    }
+
+    /**
+     * Moves up to {@code maxElements} published elements to the given list.
+     *
+     * @return the number of elements that were added
+     */
+    int drainTo(List<? super E> target, int maxElements) {
+        long index = consumerIndex.get();
+        int drained = 0;
+        while (drained < maxElements) {
+            int offset = offset(index);
+            E element = buffer.get(offset);
+            if (element == null) {
+                break;
+            }
+            buffer.lazySet(offset, null);
+            target.add(element);
+            index++;
+            drained++;
+        }
+        if (drained > 0) {
+            consumerIndex.lazySet(index);
+        }
+        return drained;
+    }
+
+    boolean isEmpty() {
+        return consumerIndex.get() == producerIndex.get();
+    }
+
+    int size() {
+        // read the consumer index first so the difference can never be negative
+        long consumer = consumerIndex.get();
+        long producer = producerIndex.get();
+        return (int) Math.min(Math.max(producer - consumer, 0L), capacity);
+    }
+
+    int remainingCapacity() {
+        return capacity - size();
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    private int offset(long index) {
+        return (int) index & mask;
+    }
+
+    /**
+     * Keeps the heavily written producer and consumer indices on different cache lines.
+     */
+    @SuppressWarnings("unused")
+    private static final class PaddedAtomicLong extends AtomicLong {
+        private long p1, p2, p3, p4, p5, p6, p7;
+    }
+}
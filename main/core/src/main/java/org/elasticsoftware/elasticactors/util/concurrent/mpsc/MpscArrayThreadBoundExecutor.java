@@ -0,0 +1,381 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.util.concurrent.mpsc;
+
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundEvent;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundEventProcessor;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnable;
+import org.elasticsoftware.elasticactors.util.concurrent.backpressure.BackpressureConfiguration;
+import org.elasticsoftware.elasticactors.util.concurrent.metrics.DelegatingTimedThreadBoundExecutor;
+import org.elasticsoftware.elasticactors.util.concurrent.metrics.ThreadBoundExecutorMonitor;
+import org.elasticsoftware.elasticactors.util.concurrent.rebalancing.KeyRebalancer;
+import org.elasticsoftware.elasticactors.util.concurrent.rebalancing.KeyRebalancingConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.ListIterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.String.format;
+
+/**
+ * A {@link org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor} that gives every
+ * worker thread a bounded, array-backed, lock-free {@link MpscArrayQueue}. Unlike
+ * {@link org.elasticsoftware.elasticactors.util.concurrent.BlockingQueueThreadBoundExecutor} it
+ * does not allocate a node per event nor take a lock per submission, and the memory used by
+ * queued events is bounded.
+ *
+ * <p>
+ * When a queue is full, the {@link OverflowPolicy} decides what happens to the producer. Just like
+ * with the disruptor, a worker that submits an event to its own full queue while using
+ * {@link OverflowPolicy#BLOCK} or {@link OverflowPolicy#SIGNAL} will wait forever, so the
+ * capacity must be sized accordingly.
+ */
+public final class MpscArrayThreadBoundExecutor extends DelegatingTimedThreadBoundExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(MpscArrayThreadBoundExecutor.class);
+    private static final int SPIN_TRIES = 100;
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+    private final ThreadFactory threadFactory;
+    private final AtomicBoolean shuttingDown = new AtomicBoolean(false);
+    private final WaitStrategy waitStrategy;
+    private final OverflowPolicy overflowPolicy;
+    private final MpscArrayQueue<ThreadBoundEvent>[] queues;
+    private final Consumer[] consumers;
+    private volatile OverflowListener overflowListener;
+
+    public MpscArrayThreadBoundExecutor(
+        ThreadBoundEventProcessor eventProcessor,
+        int maxBatchSize,
+        ThreadFactory threadFactory,
+        int numberOfThreads,
+        int capacity,
+        @Nonnull WaitStrategy waitStrategy,
+        @Nonnull OverflowPolicy overflowPolicy,
+        @Nullable ThreadBoundExecutorMonitor monitor)
+    {
+        this(
+            eventProcessor,
+            maxBatchSize,
+            threadFactory,
+            numberOfThreads,
+            capacity,
+            waitStrategy,
+            overflowPolicy,
+            monitor,
+            null,
+            null
+        );
+    }
+
+    public MpscArrayThreadBoundExecutor(
+        ThreadBoundEventProcessor eventProcessor,
+        int maxBatchSize,
+        ThreadFactory threadFactory,
+        int numberOfThreads,
+        int capacity,
+        @Nonnull WaitStrategy waitStrategy,
+        @Nonnull OverflowPolicy overflowPolicy,
+        @Nullable ThreadBoundExecutorMonitor monitor,
+        @Nullable KeyRebalancingConfiguration rebalancing,
+        @Nullable BackpressureConfiguration backpressure)
+    {
+        super(
+            eventProcessor,
+            monitor,
+            KeyRebalancer.create(rebalancing, numberOfThreads),
+            backpressure
+        );
+        this.threadFactory = threadFactory;
+        this.waitStrategy = waitStrategy;
+        this.overflowPolicy = overflowPolicy;
+        this.queues = new MpscArrayQueue[numberOfThreads];
+        this.consumers = new Consumer[numberOfThreads];
+        for (int i = 0; i < numberOfThreads; i++) {
+            queues[i] = new MpscArrayQueue<>(capacity);
+            consumers[i] = new Consumer(i, queues[i], maxBatchSize);
+        }
+        for (Consumer consumer : consumers) {
+            consumer.start();
+        }
+    }
+
+    @PostConstruct
+    @Override
+    public void init() {
+        logger.info(
+            "Initializing {} [{}] with capacity {}, wait strategy {} and overflow policy {}",
+            getClass().getSimpleName(),
+            threadFactory,
+            queues.length > 0 ? queues[0].capacity() : 0,
+            waitStrategy,
+            overflowPolicy
+        );
+        super.init();
+    }
+
+    /**
+     * Sets the listener to be notified when a queue overflows. Only used with
+     * {@link OverflowPolicy#SIGNAL}.
+     */
+    public void setOverflowListener(@Nullable OverflowListener overflowListener) {
+        this.overflowListener = overflowListener;
+    }
+
+    @Override
+    protected Logger getLogger() {
+        return logger;
+    }
+
+    @Nonnull
+    @Override
+    protected String getExecutorDataStructureName() {
+        return "mpsc";
+    }
+
+    @Override
+    protected long getCapacityForThread(int thread) {
+        return queues[thread].remainingCapacity();
+    }
+
+    @Override
+    protected long getQueuedEventsForThread(int thread) {
+        return queues[thread].size();
+    }
+
+    @Override
+    protected boolean isShuttingDown() {
+        return shuttingDown.get();
+    }
+
+    @Override
+    protected void timedExecute(final int thread, @Nonnull final ThreadBoundEvent event) {
+        MpscArrayQueue<ThreadBoundEvent> queue = queues[thread];
+        if (!queue.offer(event)) {
+            switch (overflowPolicy) {
+                case REJECT:
+                    throw new RejectedExecutionException(format(
+                        "The queue for thread %d is full (capacity: %d)",
+                        thread + 1,
+                        queue.capacity()
+                    ));
+                case SIGNAL:
+                    OverflowListener listener = this.overflowListener;
+                    if (listener != null) {
+                        listener.onOverflow(thread, queue.capacity());
+                    }
+                    // fall through
+                case BLOCK:
+                    offerAndWait(queue, event, true);
+                    break;
+            }
+        }
+        consumers[thread].wakeUp();
+    }
+
+    private void offerAndWait(
+        MpscArrayQueue<ThreadBoundEvent> queue,
+        ThreadBoundEvent event,
+        boolean failOnShutdown)
+    {
+        for (int attempt = 0; !queue.offer(event); attempt++) {
+            if (failOnShutdown && isShuttingDown()) {
+                throw new RejectedExecutionException("The system is shutting down.");
+            }
+            if (waitStrategy == WaitStrategy.SPIN || attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+            }
+        }
+    }
+
+    @Override
+    public int getThreadCount() {
+        return queues.length;
+    }
+
+    @Override
+    public void shutdown() {
+        logger.info("Shutting down the {}[{}]", getClass().getSimpleName(), threadFactory);
+        if (shuttingDown.compareAndSet(false, true)) {
+            final CountDownLatch shuttingDownLatch = new CountDownLatch(queues.length);
+            for (int i = 0; i < queues.length; i++) {
+                offerAndWait(queues[i], new ShutdownTask(shuttingDownLatch), false);
+                consumers[i].wakeUp();
+            }
+            try {
+                if (!shuttingDownLatch.await(30, TimeUnit.SECONDS)) {
+                    logger.error(
+                        "Timeout while waiting for {}[{}] queues to empty",
+                        getClass().getSimpleName(),
+                        threadFactory
+                    );
+                }
+            } catch (InterruptedException ignore) {
+                //we are shutting down anyway
+                logger.warn(
+                    "{}[{}] shutdown interrupted.",
+                    getClass().getSimpleName(),
+                    threadFactory
+                );
+            }
+        }
+        logger.info("{}[{}] shut down completed", getClass().getSimpleName(), threadFactory);
+    }
+
+    private final class Consumer implements Runnable {
+        private final int thread;
+        private final MpscArrayQueue<ThreadBoundEvent> queue;
+        private final int maxBatchSize;
+        private final ArrayList<ThreadBoundEvent> batch;
+        private final Thread workerThread;
+        private volatile boolean sleeping;
+
+        public Consumer(int thread, MpscArrayQueue<ThreadBoundEvent> queue, int maxBatchSize) {
+            this.thread = thread;
+            this.queue = queue;
+            // store this -1 as we will always use poll to get the first element of the batch
+            this.maxBatchSize = maxBatchSize - 1;
+            this.batch = maxBatchSize > 1 ? new ArrayList<>(maxBatchSize) : null;
+            this.workerThread = threadFactory.newThread(this);
+        }
+
+        void start() {
+            workerThread.start();
+        }
+
+        void wakeUp() {
+            if (sleeping) {
+                LockSupport.unpark(workerThread);
+            }
+        }
+
+        private ThreadBoundEvent take() {
+            for (int attempt = 0; ; attempt++) {
+                ThreadBoundEvent event = queue.poll();
+                if (event != null) {
+                    return event;
+                }
+                if (waitStrategy == WaitStrategy.SPIN || attempt < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    sleeping = true;
+                    // check again, a producer may have missed the flag
+                    if (queue.isEmpty()) {
+                        LockSupport.park(this);
+                    }
+                    sleeping = false;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                boolean running = true;
+                while (running) {
+                    try {
+                        // wait for event availability
+                        ThreadBoundEvent event = take();
+                        // add to the batch, and see if we can add more
+                        if (batch != null) {
+                            batch.add(event);
+                            queue.drainTo(batch, maxBatchSize);
+                        }
+                        // check for the stop condition (and remove it)
+                        // treat batches of 1 (the most common case) specially
+                        if (batch != null && batch.size() > 1) {
+                            ListIterator<ThreadBoundEvent> itr = batch.listIterator();
+                            while (itr.hasNext()) {
+                                ThreadBoundEvent next = itr.next();
+                                if (next instanceof ShutdownTask) {
+                                    running = false;
+                                    ((ShutdownTask) next).latch.countDown();
+                                    itr.remove();
+                                }
+                            }
+                            if (!batch.isEmpty()) {
+                                processBatch(thread, batch);
+                            }
+                        } else {
+                            // just the one event, no need to iterate
+                            if (event instanceof ShutdownTask) {
+                                running = false;
+                                ((ShutdownTask) event).latch.countDown();
+                            } else {
+                                if (batch != null) {
+                                    processBatch(thread, batch);
+                                } else {
+                                    processEvent(thread, event);
+                                }
+                            }
+                        }
+                    } catch (Throwable exception) {
+                        logger.error("Exception on queue {} while executing events", Thread.currentThread().getName(), exception);
+                    } finally {
+                        // reset the batch
+                        if (batch != null) {
+                            batch.clear();
+                        }
+                    }
+                }
+            } catch (Throwable unexpectedThrowable) {
+                // we observed some cases where trying to log the inner exception threw an error
+                // don't use the logger here as that seems to be causing the problem in the first place
+                System.err.println("Caught an unexpected Throwable while logging");
+                System.err.println("This problem happens when jar files change at runtime, JVM might be UNSTABLE");
+                unexpectedThrowable.printStackTrace(System.err);
+            }
+        }
+    }
+
+    private static final class ShutdownTask implements ThreadBoundRunnable<Object> {
+
+        private final CountDownLatch latch;
+
+        public ShutdownTask(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void run() {
+            latch.countDown();
+        }
+
+        @Override
+        public String toString() {
+            return ShutdownTask.class.getSimpleName();
+        }
+
+        @Override
+        public Object getKey() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.util.concurrent.mpsc;
+
+/**
+ * Receives overflow notifications from a {@link MpscArrayThreadBoundExecutor} configured with
+ * {@link OverflowPolicy#SIGNAL}.
+ */
+@FunctionalInterface
+public interface OverflowListener {
+
+    /**
+     * Called on the producer thread, before it starts waiting for capacity.
+     *
+     * @param thread the index of the worker thread whose queue is full
+     * @param capacity the capacity of that queue
+     */
+    void onOverflow(int thread, int capacity);
+}
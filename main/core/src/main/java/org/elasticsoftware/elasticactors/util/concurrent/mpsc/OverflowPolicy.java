@@ -0,0 +1,38 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.util.concurrent.mpsc;
+
+/**
+ * What a {@link MpscArrayThreadBoundExecutor} does when an event is submitted to a worker whose
+ * queue is full.
+ */
+public enum OverflowPolicy {
+    /**
+     * Make the producer wait, using the configured {@link WaitStrategy}, until there's capacity.
+     */
+    BLOCK,
+    /**
+     * Throw a {@link java.util.concurrent.RejectedExecutionException} to the producer.
+     */
+    REJECT,
+    /**
+     * Notify the {@link OverflowListener} so the source of the events can throttle itself, then
+     * make the producer wait like {@link #BLOCK}.
+     */
+    SIGNAL
+}
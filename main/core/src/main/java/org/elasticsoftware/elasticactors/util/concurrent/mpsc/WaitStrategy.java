@@ -0,0 +1,34 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.util.concurrent.mpsc;
+
+/**
+ * How the threads of a {@link MpscArrayThreadBoundExecutor} wait for work (consumers) or for
+ * free capacity (producers).
+ */
+public enum WaitStrategy {
+    /**
+     * Spin briefly, then park. Idle workers don't use any CPU, at the cost of having to be
+     * unparked by the producers.
+     */
+    PARK,
+    /**
+     * Busy spin. Gives the lowest latency, but every worker keeps a CPU core busy even when idle.
+     */
+    SPIN
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.util.concurrent.rebalancing;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A small count-min sketch used to estimate how often a key was submitted recently. All counters
+ * are halved once the number of samples reaches the sample size, so old traffic decays away.
+ * Updates are deliberately racy: a lost increment only makes the estimate slightly less precise.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final int DEPTH = SEEDS.length;
+
+    private final int[] table;
+    private final int width;
+    private final int mask;
+    private final int sampleSize;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean resetting = new AtomicBoolean(false);
+
+    FrequencySketch(int width) {
+        this.width = Integer.highestOneBit(Math.max(width, 16) - 1) << 1;
+        this.mask = this.width - 1;
+        this.sampleSize = this.width * 10;
+        this.table = new int[DEPTH * this.width];
+    }
+
+    void increment(int hash) {
+        for (int i = 0; i < DEPTH; i++) {
+            table[indexOf(hash, i)]++;
+        }
+        if (size.incrementAndGet() >= sampleSize) {
+            reset();
+        }
+    }
+
+    int frequency(int hash) {
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < DEPTH; i++) {
+            frequency = Math.min(frequency, table[indexOf(hash, i)]);
+        }
+        return frequency;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += (h >>> 32);
+        return (row * width) + ((int) h & mask);
+    }
+
+    private void reset() {
+        if (resetting.compareAndSet(false, true)) {
+            try {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] >>>= 1;
+                }
+                size.updateAndGet(current -> current >>> 1);
+            } finally {
+                resetting.set(false);
+            }
+        }
+    }
+}
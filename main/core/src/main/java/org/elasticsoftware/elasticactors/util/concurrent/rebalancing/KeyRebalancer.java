@@ -0,0 +1,206 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.util.concurrent.rebalancing;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Keeps track of which worker thread a key is bound to, and moves hot keys away from overloaded
+ * workers.
+ *
+ * <p>
+ * Every key starts out on the thread its hash code maps to. For every key the number of events
+ * that have been submitted but not yet completed is counted, and a key is only ever moved while
+ * that number is zero. This guarantees the old worker has fully drained all events for the key
+ * before the new worker gets to see any, so per-key ordering and thread confinement are preserved.
+ *
+ * <p>
+ * A key is moved when it is hot according to a {@link FrequencySketch}, its current worker has
+ * at least {@link KeyRebalancingConfiguration#getMinimumQueuedEvents()} outstanding events and the
+ * least loaded worker has {@link KeyRebalancingConfiguration#getImbalanceFactor()} times fewer.
+ */
+public final class KeyRebalancer {
+
+    private static final long DEAD = -1L;
+    private static final long PENDING_MASK = 0xFFFFFFFFL;
+    private static final int SKETCH_WIDTH = 4096;
+
+    private final KeyRebalancingConfiguration configuration;
+    private final LongAdder[] outstandingEvents;
+    private final ConcurrentHashMap<Object, AtomicLong> assignments;
+    private final FrequencySketch sketch;
+    private final LongAdder reassignments = new LongAdder();
+    private final AtomicBoolean sweeping = new AtomicBoolean(false);
+    private final Function<Object, AtomicLong> newAssignment;
+
+    @Nullable
+    public static KeyRebalancer create(
+        @Nullable KeyRebalancingConfiguration configuration,
+        int threadCount)
+    {
+        return configuration != null ? new KeyRebalancer(configuration, threadCount) : null;
+    }
+
+    public KeyRebalancer(@Nonnull KeyRebalancingConfiguration configuration, int threadCount) {
+        this.configuration = configuration;
+        this.outstandingEvents = new LongAdder[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            this.outstandingEvents[i] = new LongAdder();
+        }
+        this.assignments = new ConcurrentHashMap<>();
+        this.sketch = new FrequencySketch(SKETCH_WIDTH);
+        this.newAssignment = key -> new AtomicLong(pack(getDefaultThread(key), 0));
+    }
+
+    /**
+     * Determines the thread for an event with the given key and registers the event as
+     * outstanding on it. Every call must be matched by exactly one call to
+     * {@link #release(int, Object)}.
+     */
+    public int acquire(@Nonnull Object key) {
+        int hash = key.hashCode();
+        sketch.increment(hash);
+        for (;;) {
+            AtomicLong assignment = assignments.get(key);
+            if (assignment == null) {
+                assignment = assignments.computeIfAbsent(key, newAssignment);
+                sweepIfNeeded();
+            }
+            long state = assignment.get();
+            if (state == DEAD) {
+                // removed by a concurrent sweep, a fresh assignment will be created
+                assignments.remove(key, assignment);
+                continue;
+            }
+            int thread = threadOf(state);
+            int pending = pendingOf(state);
+            int target = pending == 0 ? selectThread(thread, hash) : thread;
+            if (assignment.compareAndSet(state, pack(target, pending + 1))) {
+                if (target != thread) {
+                    reassignments.increment();
+                }
+                outstandingEvents[target].increment();
+                return target;
+            }
+        }
+    }
+
+    /**
+     * Marks an event previously registered through {@link #acquire(Object)} as completed.
+     */
+    public void release(int thread, @Nonnull Object key) {
+        outstandingEvents[thread].decrement();
+        AtomicLong assignment = assignments.get(key);
+        // pending events keep the assignment alive, so it cannot have been swept
+        if (assignment != null) {
+            assignment.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return the total number of times a key was bound to a different thread
+     */
+    public long getReassignments() {
+        return reassignments.sum();
+    }
+
+    /**
+     * @return the number of keys for which an assignment is currently kept
+     */
+    public long getTrackedKeys() {
+        return assignments.mappingCount();
+    }
+
+    public long getOutstandingEvents(int thread) {
+        return outstandingEvents[thread].sum();
+    }
+
+    private int getDefaultThread(@Nonnull Object key) {
+        return Math.abs(key.hashCode()) % outstandingEvents.length;
+    }
+
+    private int selectThread(int current, int hash) {
+        long currentLoad = outstandingEvents[current].sum();
+        if (currentLoad < configuration.getMinimumQueuedEvents() || !isHot(hash)) {
+            return current;
+        }
+        int candidate = current;
+        long candidateLoad = currentLoad;
+        for (int i = 0; i < outstandingEvents.length; i++) {
+            long load = outstandingEvents[i].sum();
+            if (load < candidateLoad) {
+                candidate = i;
+                candidateLoad = load;
+            }
+        }
+        if (currentLoad >= configuration.getImbalanceFactor() * (candidateLoad + 1)) {
+            return candidate;
+        }
+        return current;
+    }
+
+    private boolean isHot(int hash) {
+        int frequency = sketch.frequency(hash);
+        return frequency > 1 && frequency >= configuration.getHotKeyRatio() * sketch.size();
+    }
+
+    private void sweepIfNeeded() {
+        if (assignments.mappingCount() > configuration.getMaximumTrackedKeys()
+            && sweeping.compareAndSet(false, true))
+        {
+            try {
+                Iterator<Map.Entry<Object, AtomicLong>> iterator =
+                    assignments.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<Object, AtomicLong> entry = iterator.next();
+                    AtomicLong assignment = entry.getValue();
+                    long state = assignment.get();
+                    // only idle keys can be forgotten, since their next event may go anywhere
+                    if (state != DEAD
+                        && pendingOf(state) == 0
+                        && assignment.compareAndSet(state, DEAD))
+                    {
+                        assignments.remove(entry.getKey(), assignment);
+                    }
+                }
+            } finally {
+                sweeping.set(false);
+            }
+        }
+    }
+
+    private static long pack(int thread, int pending) {
+        return ((long) thread << 32) | (pending & PENDING_MASK);
+    }
+
+    private static int threadOf(long state) {
+        return (int) (state >>> 32);
+    }
+
+    private static int pendingOf(long state) {
+        return (int) (state & PENDING_MASK);
+    }
+}
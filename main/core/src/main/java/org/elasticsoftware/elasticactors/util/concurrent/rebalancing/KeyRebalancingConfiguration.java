@@ -0,0 +1,121 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.util.concurrent.rebalancing;
+
+import org.springframework.core.env.Environment;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import static java.lang.String.format;
+
+/**
+ * Settings for the optional skew-aware key-to-thread rebalancing of a
+ * {@link org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor}.
+ */
+public final class KeyRebalancingConfiguration {
+
+    private final double hotKeyRatio;
+    private final double imbalanceFactor;
+    private final int minimumQueuedEvents;
+    private final int maximumTrackedKeys;
+
+    @Nullable
+    public static KeyRebalancingConfiguration build(
+        @Nonnull Environment env,
+        @Nonnull String executorName)
+    {
+        boolean enabled = env.getProperty(
+            format("ea.%s.rebalancing.enabled", executorName),
+            Boolean.class,
+            false
+        );
+        if (enabled) {
+            return new KeyRebalancingConfiguration(
+                env.getProperty(
+                    format("ea.%s.rebalancing.hotKeyRatio", executorName),
+                    Double.class,
+                    0.01d
+                ),
+                env.getProperty(
+                    format("ea.%s.rebalancing.imbalanceFactor", executorName),
+                    Double.class,
+                    2.0d
+                ),
+                env.getProperty(
+                    format("ea.%s.rebalancing.minimumQueuedEvents", executorName),
+                    Integer.class,
+                    16
+                ),
+                env.getProperty(
+                    format("ea.%s.rebalancing.maximumTrackedKeys", executorName),
+                    Integer.class,
+                    65536
+                )
+            );
+        }
+        return null;
+    }
+
+    /**
+     * @param hotKeyRatio the share of recently submitted events a key must account for before
+     * it is considered hot and becomes eligible for migration
+     * @param imbalanceFactor how many times more loaded the current worker must be compared to
+     * the least loaded one before a hot key is moved
+     * @param minimumQueuedEvents the minimum number of outstanding events on the current worker
+     * before a hot key is moved away from it
+     * @param maximumTrackedKeys the number of idle key assignments above which idle assignments
+     * are discarded
+     */
+    public KeyRebalancingConfiguration(
+        double hotKeyRatio,
+        double imbalanceFactor,
+        int minimumQueuedEvents,
+        int maximumTrackedKeys)
+    {
+        if (hotKeyRatio <= 0.0d || hotKeyRatio > 1.0d) {
+            throw new IllegalArgumentException("hotKeyRatio must be in the range (0, 1]");
+        }
+        if (imbalanceFactor < 1.0d) {
+            throw new IllegalArgumentException("imbalanceFactor must be at least 1");
+        }
+        if (maximumTrackedKeys < 1) {
+            throw new IllegalArgumentException("maximumTrackedKeys must be positive");
+        }
+        this.hotKeyRatio = hotKeyRatio;
+        this.imbalanceFactor = imbalanceFactor;
+        this.minimumQueuedEvents = Math.max(minimumQueuedEvents, 1);
+        this.maximumTrackedKeys = maximumTrackedKeys;
+    }
+
+    public double getHotKeyRatio() {
+        return hotKeyRatio;
+    }
+
+    public double getImbalanceFactor() {
+        return imbalanceFactor;
+    }
+
+    public int getMinimumQueuedEvents() {
+        return minimumQueuedEvents;
+    }
+
+    public int getMaximumTrackedKeys() {
+        return maximumTrackedKeys;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.elasticsoftware.elasticactors.ActorRef;
+import org.elasticsoftware.elasticactors.ElasticActor;
+import org.elasticsoftware.elasticactors.ShardKey;
+import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+import org.elasticsoftware.elasticactors.state.PersistentActor;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class CacheManagerTest {
+
+    @DataProvider(name = "implementations")
+    public Object[][] implementations() {
+        return new Object[][] {{CacheImplementation.GUAVA}, {CacheImplementation.CAFFEINE}};
+    }
+
+    @Test(dataProvider = "implementations")
+    public void testSegmentsAreIsolated(CacheImplementation implementation) throws Exception {
+        CacheManager<String, String> cacheManager = new CacheManager<>(100, null, implementation);
+        Cache<String, String> first = cacheManager.create("first", null);
+        Cache<String, String> second = cacheManager.create("second", null);
+
+        first.put("key", "first");
+        assertEquals(second.get("key", () -> "second"), "second");
+        assertEquals(first.getIfPresent("key"), "first");
+        assertEquals(first.size(), 1L);
+        assertEquals(second.size(), 1L);
+
+        first.invalidate("key");
+        assertNull(first.getIfPresent("key"));
+        assertEquals(first.size(), 0L);
+
+        cacheManager.destroy(second);
+        assertNull(second.getIfPresent("key"));
+        // a new segment with the same key starts empty
+        assertNull(cacheManager.create("second", null).getIfPresent("key"));
+    }
+
+    @Test(dataProvider = "implementations")
+    public void testLoaderExceptions(CacheImplementation implementation) {
+        CacheManager<String, String> cacheManager = new CacheManager<>(100, null, implementation);
+        Cache<String, String> cache = cacheManager.create("segment", null);
+
+        expectThrows(ExecutionException.class, () -> cache.get("checked", () -> {
+            throw new Exception("checked");
+        }));
+        expectThrows(UncheckedExecutionException.class, () -> cache.get("unchecked", () -> {
+            throw new IllegalStateException("unchecked");
+        }));
+        assertEquals(cache.size(), 0L);
+    }
+
+    @Test(dataProvider = "implementations")
+    public void testEvictionListenerIsNotified(CacheImplementation implementation) throws Exception {
+        CacheManager<String, String> cacheManager = new CacheManager<>(10, null, implementation);
+        List<String> evicted = new CopyOnWriteArrayList<>();
+        Cache<String, String> cache = cacheManager.create("segment", evicted::add);
+
+        for (int i = 0; i < 100; i++) {
+            cache.put("key-" + i, "value-" + i);
+        }
+        cache.invalidate("key-99");
+        cache.cleanUp();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (evicted.size() < 89 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            cache.cleanUp();
+        }
+        assertTrue(evicted.size() >= 89, "Evicted only " + evicted.size() + " entries");
+        // explicitly invalidated entries are not passed to the listener
+        assertFalse(evicted.contains("value-99"));
+        assertTrue(cache.size() <= 10);
+        assertEquals(cache.size(), (long) cache.asMap().size());
+    }
+
+    @Test(dataProvider = "implementations")
+    public void testEvictionListenerIsNotifiedByTheEvictingThread(CacheImplementation implementation) {
+        CacheManager<String, String> cacheManager = new CacheManager<>(10, null, implementation);
+        List<String> evicted = new CopyOnWriteArrayList<>();
+        Cache<String, String> cache = cacheManager.create("segment", evicted::add);
+
+        for (int i = 0; i < 11; i++) {
+            cache.put("key-" + i, "value-" + i);
+        }
+
+        // an evicted actor must be passivated before it can be loaded again
+        assertEquals(evicted.size(), 1);
+    }
+
+    @Test(dataProvider = "implementations")
+    public void testWeightedEviction(CacheImplementation implementation) throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerConfiguration micrometerConfiguration = new MicrometerConfiguration(
+            false,
+            false,
+            false,
+            registry,
+            "testCache",
+            null,
+            null,
+            ImmutableMap.of(),
+            ImmutableMap.of()
+        );
+        CacheManager<String, String> cacheManager =
+            new CacheManager<>(10, 1000L, String::length, micrometerConfiguration, implementation);
+        assertTrue(cacheManager.isWeighted());
+        Cache<String, String> cache = cacheManager.create("segment", null);
+
+        // way more entries than the maximum size, but they all fit in the maximum weight
+        for (int i = 0; i < 50; i++) {
+            cache.put("small-" + i, "x");
+        }
+        cache.cleanUp();
+        assertEquals(cache.size(), 50L);
+        assertEquals(cacheManager.estimateWeight(cache), 50L);
+
+        for (int i = 0; i < 20; i++) {
+            cache.put("large-" + i, "x".repeat(100));
+        }
+        cache.cleanUp();
+        assertEquals(cache.size(), (long) cache.asMap().size());
+        assertTrue(cacheManager.estimateWeight(cache) <= 1000L);
+        // evicted entries are no longer counted
+        assertEquals(
+            cacheManager.estimateWeight(cache),
+            cache.asMap().values().stream().mapToLong(String::length).sum()
+        );
+
+        long weight = cacheManager.estimateWeight(cache);
+        cache.invalidate(cache.asMap().keySet().iterator().next());
+        assertTrue(cacheManager.estimateWeight(cache) < weight);
+
+        Gauge gauge = registry.find("cache.segment.weight").tag("segment", "segment").gauge();
+        assertNotNull(gauge);
+        assertEquals((long) gauge.value(), cacheManager.estimateWeight(cache));
+
+        cacheManager.destroy(cache);
+        assertNull(registry.find("cache.segment.weight").tag("segment", "segment").gauge());
+    }
+
+    @Test(dataProvider = "implementations")
+    public void testReweighIfNeeded(CacheImplementation implementation) {
+        ShardKey shardKey = new ShardKey("test", 0);
+        ShardActorCacheManager cacheManager = new ShardActorCacheManager(10, 10_000L, null, implementation);
+        Cache<ActorRef, PersistentActor<ShardKey>> cache = cacheManager.create(shardKey, null);
+        ActorRef actorRef = mock(ActorRef.class);
+        PersistentActor<ShardKey> actor =
+            new PersistentActor<>(shardKey, null, "1.0", actorRef, ElasticActor.class, null);
+        actor.setSerializedState(new byte[100]);
+        actor.setWeighedStateSize(100);
+
+        // an actor that was removed in the meantime is not put back
+        cache.put(actorRef, actor);
+        cache.invalidate(actorRef);
+        actor.setSerializedState(new byte[5_000]);
+        cacheManager.reweighIfNeeded(cache, actorRef, actor);
+        assertNull(cache.getIfPresent(actorRef));
+
+        actor.setSerializedState(new byte[100]);
+        actor.setWeighedStateSize(100);
+        cache.put(actorRef, actor);
+        // small changes don't matter
+        actor.setSerializedState(new byte[200]);
+        cacheManager.reweighIfNeeded(cache, actorRef, actor);
+        assertEquals(actor.getWeighedStateSize(), 100);
+
+        // the actor no longer fits once it's weighed again
+        actor.setSerializedState(new byte[100_000]);
+        cacheManager.reweighIfNeeded(cache, actorRef, actor);
+        assertEquals(actor.getWeighedStateSize(), 100_000);
+        cache.cleanUp();
+        assertNull(cache.getIfPresent(actorRef));
+    }
+
+    @Test
+    public void testHottestKeysInAccessOrder() {
+        // the value is the access time
+        CacheManager<String, Long> cacheManager =
+            new CacheManager<>(100, 0L, null, Long::longValue, null, CacheImplementation.GUAVA);
+        Cache<String, Long> cache = cacheManager.create("segment", null);
+        cache.put("old", 1L);
+        cache.put("newest", 3L);
+        cache.put("oldest", -5L);
+        cache.put("new", 2L);
+
+        assertEquals(cacheManager.hottestKeys(cache, 3), List.of("newest", "new", "old"));
+    }
+
+    @Test(dataProvider = "implementations")
+    public void testHottestKeys(CacheImplementation implementation) {
+        CacheManager<String, String> cacheManager = new CacheManager<>(100, null, implementation);
+        Cache<String, String> first = cacheManager.create("first", null);
+        Cache<String, String> second = cacheManager.create("second", null);
+        for (int i = 0; i < 10; i++) {
+            first.put("first-" + i, "value");
+            second.put("second-" + i, "value");
+        }
+
+        List<String> hottestKeys = cacheManager.hottestKeys(first, 5);
+        assertEquals(hottestKeys.size(), 5);
+        assertEquals(new HashSet<>(hottestKeys).size(), 5);
+        assertTrue(hottestKeys.stream().allMatch(key -> key.startsWith("first-")), hottestKeys.toString());
+        assertEquals(cacheManager.hottestKeys(second, 20).size(), 10);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cache;
+
+import org.elasticsoftware.elasticactors.ActorRef;
+import org.elasticsoftware.elasticactors.ShardKey;
+import org.elasticsoftware.elasticactors.serialization.Deserializer;
+import org.elasticsoftware.elasticactors.serialization.Serializer;
+import org.elasticsoftware.elasticactors.state.PersistentActor;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class PassivatedActorCacheTest {
+
+    private static final ShardKey SHARD_KEY = new ShardKey("test", 0);
+    private static final ShardKey OTHER_SHARD_KEY = new ShardKey("test", 1);
+
+    // the serialized form is the actor id followed by a lot of (compressible) padding
+    private final Serializer<PersistentActor<ShardKey>, byte[]> serializer = persistentActor ->
+        (persistentActor.getSelf().getActorId() + "|" + "x".repeat(4096)).getBytes(StandardCharsets.UTF_8);
+
+    private final Deserializer<ByteBuffer, PersistentActor<ShardKey>> deserializer = serializedObject -> {
+        String serialized = StandardCharsets.UTF_8.decode(serializedObject).toString();
+        return createActor(SHARD_KEY, serialized.substring(0, serialized.indexOf('|')));
+    };
+
+    @Test
+    public void testTakeRemovesEntry() throws Exception {
+        PassivatedActorCache cache = new PassivatedActorCache(1024 * 1024, true, serializer, deserializer, null);
+        cache.put(createActor(SHARD_KEY, "actor-1"), () -> true);
+        // compressed well below the size of the serialized actor
+        assertTrue(cache.getWeight() < 1024, "Weight is " + cache.getWeight());
+
+        PersistentActor<ShardKey> actor = cache.take(SHARD_KEY, "actor-1");
+        assertNotNull(actor);
+        assertEquals(actor.getSelf().getActorId(), "actor-1");
+        assertNull(cache.take(SHARD_KEY, "actor-1"));
+        assertNull(cache.take(OTHER_SHARD_KEY, "actor-1"));
+    }
+
+    @Test
+    public void testNotStoredWhenActivatedInTheMeantime() throws Exception {
+        PassivatedActorCache cache = new PassivatedActorCache(1024 * 1024, false, serializer, deserializer, null);
+        cache.put(createActor(SHARD_KEY, "actor-1"), () -> false);
+        assertNull(cache.take(SHARD_KEY, "actor-1"));
+    }
+
+    @Test
+    public void testInvalidation() throws Exception {
+        PassivatedActorCache cache = new PassivatedActorCache(1024 * 1024, false, serializer, deserializer, null);
+        cache.put(createActor(SHARD_KEY, "actor-1"), () -> true);
+        cache.put(createActor(SHARD_KEY, "actor-2"), () -> true);
+        cache.put(createActor(OTHER_SHARD_KEY, "actor-3"), () -> true);
+
+        cache.invalidate(SHARD_KEY, "actor-1");
+        assertNull(cache.take(SHARD_KEY, "actor-1"));
+
+        cache.invalidateAll(SHARD_KEY);
+        assertNull(cache.take(SHARD_KEY, "actor-2"));
+        assertNotNull(cache.take(OTHER_SHARD_KEY, "actor-3"));
+    }
+
+    private static PersistentActor<ShardKey> createActor(ShardKey shardKey, String actorId) {
+        ActorRef actorRef = mock(ActorRef.class);
+        when(actorRef.getActorId()).thenReturn(actorId);
+        return new PersistentActor<>(shardKey, null, "1.0", actorRef, null, null);
+    }
+}
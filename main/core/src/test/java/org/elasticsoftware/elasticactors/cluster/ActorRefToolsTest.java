@@ -60,6 +60,27 @@ public class ActorRefToolsTest {
         assertEquals(actorRef.toString(),"actor://LocalNode/Pi/shards/0/master");
     }
 
+    @Test
+    public void testCreateActorRefFromParts() {
+        InternalActorSystems internalActorSystems = mock(InternalActorSystems.class);
+        InternalActorSystem actorSystem = mock(InternalActorSystem.class);
+        InternalActorSystemConfiguration configuration = mock(InternalActorSystemConfiguration.class);
+        ActorShard shard = mock(ActorShard.class);
+        ShardKey shardKey = new ShardKey("Pi",0);
+        when(internalActorSystems.getClusterName()).thenReturn("LocalNode");
+        when(internalActorSystems.get("Pi")).thenReturn(actorSystem);
+        when(actorSystem.getConfiguration()).thenReturn(configuration);
+        when(configuration.getNumberOfShards()).thenReturn(1);
+        when(actorSystem.getShard("Pi/shards/0")).thenReturn(shard);
+        when(shard.getKey()).thenReturn(shardKey);
+        ActorShardRef shardRef = new ActorShardRef("LocalNode",shard,"master", actorSystem);
+        when(internalActorSystems.createPersistentActorRef(shard,"master")).thenReturn(shardRef);
+        ActorRefTools actorRefTools = new ActorRefTools(internalActorSystems);
+        ActorRef actorRef = actorRefTools.create("LocalNode", "Pi", "shards", "0", "master");
+        assertEquals(actorRef, actorRefTools.parse("actor://LocalNode/Pi/shards/0/master"));
+        assertEquals(actorRef.toString(),"actor://LocalNode/Pi/shards/0/master");
+    }
+
     @Test
     public void testParseShardRef() {
         InternalActorSystems internalActorSystems = mock(InternalActorSystems.class);
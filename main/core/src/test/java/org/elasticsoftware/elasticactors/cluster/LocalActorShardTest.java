@@ -0,0 +1,606 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cluster;
+
+import org.elasticsoftware.elasticactors.ActorRef;
+import org.elasticsoftware.elasticactors.ElasticActor;
+import org.elasticsoftware.elasticactors.PhysicalNode;
+import org.elasticsoftware.elasticactors.ShardKey;
+import org.elasticsoftware.elasticactors.cache.CacheImplementation;
+import org.elasticsoftware.elasticactors.cache.PassivatedActorCache;
+import org.elasticsoftware.elasticactors.cache.ShardActorCacheManager;
+import org.elasticsoftware.elasticactors.cluster.logging.LoggingSettings;
+import org.elasticsoftware.elasticactors.cluster.metrics.MetricsSettings;
+import org.elasticsoftware.elasticactors.cluster.tasks.ActivateActorTask;
+import org.elasticsoftware.elasticactors.cluster.tasks.DestroyActorTask;
+import org.elasticsoftware.elasticactors.cluster.tasks.MessageBatchTask;
+import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.messaging.MessageHandlerEventListener;
+import org.elasticsoftware.elasticactors.messaging.MessageQueue;
+import org.elasticsoftware.elasticactors.messaging.MessageQueueFactory;
+import org.elasticsoftware.elasticactors.messaging.internal.DestroyActorMessage;
+import org.elasticsoftware.elasticactors.state.ActorExistenceFilter;
+import org.elasticsoftware.elasticactors.state.ActorExistenceFilterFactory;
+import org.elasticsoftware.elasticactors.state.ActorStateUpdateProcessor;
+import org.elasticsoftware.elasticactors.state.MessageBatching;
+import org.elasticsoftware.elasticactors.state.PersistentActor;
+import org.elasticsoftware.elasticactors.state.PersistentActorRepository;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnable;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class LocalActorShardTest {
+
+    private static final ShardKey SHARD_KEY = new ShardKey("test", 0);
+    private static final String ACTOR_ID = "actor";
+    private static final String CLUSTER_NAME = "testCluster";
+    private static final String SHARD_PATH = "test/shards/0";
+
+    private InternalActorSystem actorSystem;
+    private PersistentActorRepository persistentActorRepository;
+    private RecordingExecutor actorExecutor;
+    private RecordingExecutor queueExecutor;
+    private MessageQueueFactory messageQueueFactory;
+    private ActorRef actorRef;
+    private LocalActorShard shard;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        actorSystem = mock(InternalActorSystem.class);
+        when(actorSystem.getName()).thenReturn(SHARD_KEY.getActorSystemName());
+        when(actorSystem.getQueuesPerShard()).thenReturn(1);
+        when(actorSystem.getActorInstance(any(), any())).thenReturn(mock(ElasticActor.class));
+        persistentActorRepository = mock(PersistentActorRepository.class);
+        actorExecutor = new RecordingExecutor();
+        queueExecutor = new RecordingExecutor();
+        messageQueueFactory = mock(MessageQueueFactory.class);
+        when(messageQueueFactory.create(any(), any()))
+            .thenAnswer(invocation -> createMessageQueue(invocation.getArgument(0)));
+        actorRef = mock(ActorRef.class);
+        when(actorRef.getActorId()).thenReturn(ACTOR_ID);
+        shard = createShard(new ShardActorCacheManager(100, null));
+    }
+
+    private LocalActorShard createShard(ShardActorCacheManager actorCacheManager) throws Exception {
+        return createShard(actorCacheManager, ActorExistenceFilterFactory.disabled());
+    }
+
+    private LocalActorShard createShard(
+        ShardActorCacheManager actorCacheManager,
+        ActorExistenceFilterFactory actorExistenceFilterFactory) throws Exception
+    {
+        ActorRef shardRef = mock(ActorRef.class);
+        when(shardRef.getActorCluster()).thenReturn(CLUSTER_NAME);
+        when(shardRef.getActorPath()).thenReturn(SHARD_PATH);
+        LocalActorShard shard = new LocalActorShard(
+            mock(PhysicalNode.class),
+            actorSystem,
+            SHARD_KEY.getShardId(),
+            shardRef,
+            messageQueueFactory,
+            actorExecutor,
+            queueExecutor,
+            persistentActorRepository,
+            mock(ActorStateUpdateProcessor.class),
+            actorCacheManager,
+            actorExistenceFilterFactory,
+            MetricsSettings.DISABLED,
+            LoggingSettings.DISABLED
+        );
+        shard.init();
+        return shard;
+    }
+
+    @Test
+    public void testParkedMessagesAreDispatchedWhenTheActorIsLoaded() {
+        CompletableFuture<PersistentActor<ShardKey>> loadedActor = new CompletableFuture<>();
+        when(persistentActorRepository.getAsync(SHARD_KEY, ACTOR_ID)).thenReturn(loadedActor);
+        MessageHandlerEventListener listener = mock(MessageHandlerEventListener.class);
+
+        shard.handleMessage(createMessage(), listener);
+        shard.handleMessage(createMessage(), listener);
+
+        verify(persistentActorRepository, times(1)).getAsync(SHARD_KEY, ACTOR_ID);
+        assertTrue(actorExecutor.tasks.isEmpty());
+
+        loadedActor.complete(createPersistentActor());
+        // the activation continues on the queue thread of the shard, not on the thread completing the load
+        assertTrue(actorExecutor.tasks.isEmpty());
+        assertEquals(queueExecutor.tasks.peek().getKey(), CLUSTER_NAME + "/" + SHARD_PATH);
+        queueExecutor.runAll();
+
+        List<ThreadBoundRunnable<?>> tasks = actorExecutor.drain();
+        assertEquals(tasks.size(), 3);
+        assertTrue(tasks.get(0) instanceof ActivateActorTask);
+
+        // the actor is active now
+        shard.handleMessage(createMessage(), listener);
+        assertEquals(actorExecutor.drain().size(), 1);
+        assertTrue(queueExecutor.tasks.isEmpty());
+        verify(persistentActorRepository, times(1)).getAsync(SHARD_KEY, ACTOR_ID);
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    public void testParkedMessagesFailWhenLoadingFails() {
+        CompletableFuture<PersistentActor<ShardKey>> loadedActor = new CompletableFuture<>();
+        when(persistentActorRepository.getAsync(SHARD_KEY, ACTOR_ID))
+            .thenReturn(loadedActor)
+            .thenReturn(CompletableFuture.completedFuture(createPersistentActor()));
+        InternalMessage first = createMessage();
+        InternalMessage second = createMessage();
+        MessageHandlerEventListener listener = mock(MessageHandlerEventListener.class);
+        IllegalStateException failure = new IllegalStateException("read failed");
+
+        shard.handleMessage(first, listener);
+        shard.handleMessage(second, listener);
+        loadedActor.completeExceptionally(failure);
+        queueExecutor.runAll();
+
+        verify(listener).onError(first, failure);
+        verify(listener).onError(second, failure);
+        assertTrue(actorExecutor.tasks.isEmpty());
+
+        // the next message loads the actor again
+        shard.handleMessage(createMessage(), listener);
+        queueExecutor.runAll();
+
+        verify(persistentActorRepository, times(2)).getAsync(SHARD_KEY, ACTOR_ID);
+        assertEquals(actorExecutor.drain().size(), 2);
+    }
+
+    @Test
+    public void testMessageFailsWhenLoadingThrows() {
+        IllegalStateException failure = new IllegalStateException("no connection");
+        when(persistentActorRepository.getAsync(SHARD_KEY, ACTOR_ID))
+            .thenThrow(failure)
+            .thenReturn(CompletableFuture.completedFuture(createPersistentActor()));
+        InternalMessage message = createMessage();
+        MessageHandlerEventListener listener = mock(MessageHandlerEventListener.class);
+
+        shard.handleMessage(message, listener);
+        queueExecutor.runAll();
+
+        verify(listener).onError(message, failure);
+
+        // messages are not parked forever
+        shard.handleMessage(createMessage(), listener);
+        queueExecutor.runAll();
+
+        verify(persistentActorRepository, times(2)).getAsync(SHARD_KEY, ACTOR_ID);
+        assertEquals(actorExecutor.drain().size(), 2);
+    }
+
+    @Test
+    public void testDestroyWaitsForThePendingActivation() throws Exception {
+        ActorRef receiver = createActorRef(ACTOR_ID);
+        CompletableFuture<PersistentActor<ShardKey>> loadedActor = new CompletableFuture<>();
+        when(persistentActorRepository.getAsync(SHARD_KEY, ACTOR_ID)).thenReturn(loadedActor);
+        InternalMessage first = createMessage(receiver);
+        InternalMessage destroy = createDestroyMessage(ACTOR_ID);
+        InternalMessage afterDestroy = createMessage(receiver);
+        MessageHandlerEventListener listener = mock(MessageHandlerEventListener.class);
+
+        shard.handleMessage(first, listener);
+        shard.handleMessage(destroy, listener);
+        shard.handleMessage(afterDestroy, listener);
+
+        // the destroy doesn't load the actor a second time
+        assertTrue(actorExecutor.tasks.isEmpty());
+        verify(persistentActorRepository, never()).get(any(), any());
+        verify(persistentActorRepository, never()).contains(any(), any());
+
+        loadedActor.complete(createPersistentActor(receiver));
+        queueExecutor.runAll();
+
+        List<ThreadBoundRunnable<?>> tasks = actorExecutor.drain();
+        assertEquals(tasks.size(), 3);
+        assertTrue(tasks.get(0) instanceof ActivateActorTask);
+        assertTrue(tasks.get(2) instanceof DestroyActorTask);
+        verify(persistentActorRepository, times(1)).getAsync(SHARD_KEY, ACTOR_ID);
+        verify(persistentActorRepository, never()).get(any(), any());
+        // the message that was sent after the destroy is undeliverable
+        verify(listener).onDone(afterDestroy);
+        verify(listener, never()).onDone(first);
+    }
+
+    @Test
+    public void testActivationCompletesOnTheThreadOfTheActorsQueue() throws Exception {
+        when(actorSystem.getQueuesPerShard()).thenReturn(4);
+        Map<String, MessageQueue> queues = new ConcurrentHashMap<>();
+        when(messageQueueFactory.create(any(), any())).thenAnswer(invocation ->
+            queues.computeIfAbsent(invocation.getArgument(0), this::createMessageQueue));
+        shard = createShard(new ShardActorCacheManager(100, null));
+        assertEquals(queues.size(), 4);
+        Map<String, CompletableFuture<PersistentActor<ShardKey>>> loads = new ConcurrentHashMap<>();
+        when(persistentActorRepository.getAsync(eq(SHARD_KEY), anyString())).thenAnswer(invocation ->
+            loads.computeIfAbsent(invocation.getArgument(1), actorId -> new CompletableFuture<>()));
+        MessageHandlerEventListener listener = mock(MessageHandlerEventListener.class);
+        Set<String> usedQueues = new HashSet<>();
+
+        for (String actorId : List.of("first", "second", "third", "fourth", "fifth")) {
+            InternalMessage message = createMessage(createActorRef(actorId));
+            shard.handleMessage(message, listener);
+            // find the queue the messages for the actor are consumed from
+            shard.offerInternalMessage(message);
+            String queueName = queues.entrySet().stream()
+                .filter(entry -> mockingDetails(entry.getValue()).getInvocations().stream()
+                    .anyMatch(invocation -> invocation.getArguments().length > 0
+                        && invocation.getArguments()[0] == message))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElseThrow();
+
+            loads.get(actorId).complete(null);
+            List<ThreadBoundRunnable<?>> tasks = queueExecutor.drain();
+            assertEquals(tasks.size(), 1);
+            // the messaging layers key the tasks of a queue by the name of the queue
+            assertEquals(tasks.get(0).getKey(), queues.get(queueName).getName());
+            tasks.get(0).run();
+            usedQueues.add(queueName);
+        }
+        assertTrue(usedQueues.size() > 1);
+    }
+
+    @Test
+    public void testOnlyPersistedActorsAreCachedWhenPassivated() throws Exception {
+        ActorRef receiver = createActorRef(ACTOR_ID);
+        PassivatedActorCache passivatedActorCache = new PassivatedActorCache(
+            1024 * 1024,
+            false,
+            persistentActor -> persistentActor.getSelf().getActorId().getBytes(StandardCharsets.UTF_8),
+            serializedActor -> createPersistentActor(receiver),
+            null
+        );
+        shard = createShard(new ShardActorCacheManager(100, 0L, null, CacheImplementation.GUAVA, passivatedActorCache));
+
+        PersistentActor<ShardKey> changed = createPersistentActor(receiver);
+        changed.setUnpersistedChanges(true);
+        shard.onEvicted(changed);
+        // the second task stores the actor once it has been passivated
+        actorExecutor.drain().get(1).run();
+        assertNull(passivatedActorCache.take(SHARD_KEY, ACTOR_ID));
+
+        shard.onEvicted(createPersistentActor(receiver));
+        actorExecutor.drain().get(1).run();
+        assertNotNull(passivatedActorCache.take(SHARD_KEY, ACTOR_ID));
+    }
+
+    @Test
+    public void testMessagesForMissingActorAreUndeliverable() {
+        when(persistentActorRepository.getAsync(SHARD_KEY, ACTOR_ID))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        InternalMessage message = createMessage();
+        MessageHandlerEventListener listener = mock(MessageHandlerEventListener.class);
+
+        shard.handleMessage(message, listener);
+        queueExecutor.runAll();
+
+        verify(listener).onDone(message);
+        assertTrue(actorExecutor.tasks.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentMessagesForTheSameActor() throws Exception {
+        CompletableFuture<PersistentActor<ShardKey>> loadedActor = new CompletableFuture<>();
+        when(persistentActorRepository.getAsync(SHARD_KEY, ACTOR_ID)).thenReturn(loadedActor);
+        MessageHandlerEventListener listener = mock(MessageHandlerEventListener.class);
+        int threads = 4;
+        int messagesPerThread = 250;
+        List<List<InternalMessage>> messages = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            List<InternalMessage> threadMessages = new ArrayList<>();
+            for (int j = 0; j < messagesPerThread; j++) {
+                threadMessages.add(createMessage());
+            }
+            messages.add(threadMessages);
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> senders = new ArrayList<>();
+        for (List<InternalMessage> threadMessages : messages) {
+            Thread sender = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                threadMessages.forEach(message -> shard.handleMessage(message, listener));
+            });
+            sender.start();
+            senders.add(sender);
+        }
+        start.countDown();
+        // complete the activation while the messages are coming in
+        loadedActor.complete(createPersistentActor());
+        queueExecutor.runAll();
+        for (Thread sender : senders) {
+            sender.join();
+        }
+        queueExecutor.runAll();
+
+        verify(persistentActorRepository, times(1)).getAsync(SHARD_KEY, ACTOR_ID);
+        List<ThreadBoundRunnable<?>> tasks = actorExecutor.drain();
+        assertEquals(tasks.size(), 1 + threads * messagesPerThread);
+        assertTrue(tasks.get(0) instanceof ActivateActorTask);
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    public void testMostRecentlyUsedActorsAreHandedOff() throws Exception {
+        shard = createShard(new ShardActorCacheManager(100, 0L, null, CacheImplementation.GUAVA, null, 2, 1));
+        when(persistentActorRepository.getAsync(eq(SHARD_KEY), anyString())).thenAnswer(invocation ->
+            CompletableFuture.completedFuture(createPersistentActor(createActorRef(invocation.getArgument(1)))));
+        MessageHandlerEventListener listener = mock(MessageHandlerEventListener.class);
+
+        for (String actorId : List.of("first", "second", "third", "first")) {
+            shard.handleMessage(createMessage(createActorRef(actorId)), listener);
+            queueExecutor.runAll();
+            // make sure the access times differ
+            Thread.sleep(1);
+        }
+        assertTrue(shard.getHotActorIds().isEmpty());
+
+        shard.destroy();
+
+        assertEquals(shard.getHotActorIds(), List.of("first", "third"));
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    public void testPrefetchLoadsTheHandedOffActors() throws Exception {
+        shard = createShard(new ShardActorCacheManager(100, 0L, null, CacheImplementation.GUAVA, null, 10, 2));
+        Map<String, CompletableFuture<PersistentActor<ShardKey>>> loads = new ConcurrentHashMap<>();
+        when(persistentActorRepository.getAsync(eq(SHARD_KEY), anyString())).thenAnswer(invocation ->
+            loads.computeIfAbsent(invocation.getArgument(1), actorId -> new CompletableFuture<>()));
+        MessageHandlerEventListener listener = mock(MessageHandlerEventListener.class);
+
+        shard.prefetch(List.of("first", "second", "third"));
+        // nothing is loaded on the thread that hands off the shard
+        assertTrue(loads.isEmpty());
+        queueExecutor.runAll();
+
+        // at most two actors are loaded at the same time
+        assertEquals(loads.keySet(), Set.of("first", "second"));
+
+        // a message for an actor that is being prefetched waits for it
+        InternalMessage message = createMessage(createActorRef("first"));
+        shard.handleMessage(message, listener);
+        assertTrue(actorExecutor.tasks.isEmpty());
+
+        loads.get("first").complete(createPersistentActor(createActorRef("first")));
+        // the prefetch continues on the queue thread of the shard
+        assertEquals(loads.size(), 2);
+        queueExecutor.runAll();
+
+        List<ThreadBoundRunnable<?>> tasks = actorExecutor.drain();
+        assertEquals(tasks.size(), 2);
+        assertTrue(tasks.get(0) instanceof ActivateActorTask);
+        assertEquals(loads.keySet(), Set.of("first", "second", "third"));
+
+        // failures don't stop the prefetch, missing actors are skipped
+        loads.get("second").completeExceptionally(new IllegalStateException("read failed"));
+        loads.get("third").complete(null);
+        queueExecutor.runAll();
+
+        assertTrue(actorExecutor.tasks.isEmpty());
+        verify(persistentActorRepository, times(3)).getAsync(eq(SHARD_KEY), anyString());
+        verifyNoInteractions(listener);
+
+        // the prefetched actor is in the cache
+        shard.handleMessage(createMessage(createActorRef("first")), listener);
+        assertEquals(actorExecutor.drain().size(), 1);
+        verify(persistentActorRepository, times(3)).getAsync(eq(SHARD_KEY), anyString());
+    }
+
+    @Test
+    public void testExistenceFilterIsOnlyUsedAfterHandoff() throws Exception {
+        ActorExistenceFilterFactory actorExistenceFilterFactory = spy(new ActorExistenceFilterFactory(true, 100, 0.01d, 0L));
+        List<ActorExistenceFilter> filters = new ArrayList<>();
+        doAnswer(invocation -> {
+            ActorExistenceFilter filter = (ActorExistenceFilter) invocation.callRealMethod();
+            filters.add(filter);
+            return filter;
+        }).when(actorExistenceFilterFactory).create(any(), any());
+        doAnswer(invocation -> {
+            invocation.<Consumer<String>>getArgument(1).accept("existing");
+            return null;
+        }).when(persistentActorRepository).forEachActorId(eq(SHARD_KEY), any());
+        try {
+            shard = createShard(new ShardActorCacheManager(100, null), actorExistenceFilterFactory);
+            MessageHandlerEventListener listener = mock(MessageHandlerEventListener.class);
+
+            // the previous owner might still be writing, so the repository decides
+            shard.handleMessage(createDestroyMessage("missing"), listener);
+            verify(persistentActorRepository).contains(SHARD_KEY, "missing");
+            assertTrue(filters.isEmpty());
+
+            shard.handoffCompleted();
+            assertEquals(filters.size(), 1);
+            long deadline = System.currentTimeMillis() + 5000L;
+            while (!filters.get(0).isReady() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+            assertTrue(filters.get(0).isReady());
+
+            // a definite miss doesn't need the repository anymore
+            shard.handleMessage(createDestroyMessage("missing"), listener);
+            verify(persistentActorRepository, times(1)).contains(SHARD_KEY, "missing");
+            shard.handleMessage(createDestroyMessage("existing"), listener);
+            verify(persistentActorRepository).contains(SHARD_KEY, "existing");
+            verify(listener, times(3)).onDone(any());
+
+            shard.destroy();
+            assertTrue(filters.get(0).isClosed());
+            shard.handoffCompleted();
+            assertEquals(filters.size(), 1);
+        } finally {
+            actorExistenceFilterFactory.shutdown();
+        }
+    }
+
+    @Test
+    public void testReloadedActorDoesNotJoinTheBatchOfTheEvictedInstance() throws Exception {
+        shard = createShard(new ShardActorCacheManager(1, null));
+        List<PersistentActor<ShardKey>> loadedActors = new ArrayList<>();
+        when(persistentActorRepository.getAsync(eq(SHARD_KEY), anyString())).thenAnswer(invocation -> {
+            PersistentActor<ShardKey> loadedActor = new PersistentActor<>(
+                SHARD_KEY,
+                actorSystem,
+                "1.0",
+                createActorRef(invocation.getArgument(1)),
+                BatchingActor.class,
+                null
+            );
+            loadedActors.add(loadedActor);
+            return CompletableFuture.completedFuture(loadedActor);
+        });
+        MessageHandlerEventListener listener = mock(MessageHandlerEventListener.class);
+
+        shard.handleMessage(createMessage(createActorRef(ACTOR_ID)), listener);
+        queueExecutor.runAll();
+        // evicts the actor while its batch is still queued
+        shard.handleMessage(createMessage(createActorRef("other")), listener);
+        queueExecutor.runAll();
+        shard.handleMessage(createMessage(createActorRef(ACTOR_ID)), listener);
+        queueExecutor.runAll();
+
+        assertEquals(loadedActors.size(), 3);
+        List<ThreadBoundRunnable<?>> batches = actorExecutor.drain().stream()
+            .filter(task -> task instanceof MessageBatchTask && ACTOR_ID.equals(task.getKey()))
+            .collect(Collectors.toList());
+        // the message for the reloaded instance is handled in a batch of its own
+        assertEquals(batches.size(), 2);
+        verifyNoInteractions(listener);
+    }
+
+    private InternalMessage createDestroyMessage(String actorId) throws Exception {
+        ActorRef shardRef = mock(ActorRef.class);
+        InternalMessage message = mock(InternalMessage.class);
+        when(message.getReceivers()).thenReturn(List.of(shardRef));
+        when(message.hasPayloadObject()).thenReturn(true);
+        when(message.getPayload(null)).thenReturn(new DestroyActorMessage(createActorRef(actorId)));
+        return message;
+    }
+
+    /**
+     * Names the queue like the messaging layers do, which differs from the name it was created with
+     */
+    private MessageQueue createMessageQueue(String name) {
+        MessageQueue messageQueue = mock(MessageQueue.class);
+        when(messageQueue.getName()).thenReturn(CLUSTER_NAME + "/" + name);
+        return messageQueue;
+    }
+
+    private ActorRef createActorRef(String actorId) {
+        return new ActorShardRef(CLUSTER_NAME, shard, actorId, actorSystem);
+    }
+
+    private InternalMessage createMessage() {
+        return createMessage(actorRef);
+    }
+
+    private InternalMessage createMessage(ActorRef receiver) {
+        InternalMessage message = mock(InternalMessage.class);
+        when(message.getReceivers()).thenReturn(List.of(receiver));
+        return message;
+    }
+
+    private PersistentActor<ShardKey> createPersistentActor() {
+        return createPersistentActor(actorRef);
+    }
+
+    private PersistentActor<ShardKey> createPersistentActor(ActorRef actorRef) {
+        return new PersistentActor<>(SHARD_KEY, actorSystem, "1.0", actorRef, ElasticActor.class, null);
+    }
+
+    @MessageBatching(maxBatchSize = 8)
+    private abstract static class BatchingActor implements ElasticActor<Object> {
+    }
+
+    /**
+     * Collects the tasks, so the test decides when (and on which thread) they run
+     */
+    private static final class RecordingExecutor implements ThreadBoundExecutor<ThreadBoundRunnable<?>> {
+        private final Queue<ThreadBoundRunnable<?>> tasks = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void execute(ThreadBoundRunnable<?> runnable) {
+            tasks.add(runnable);
+        }
+
+        private List<ThreadBoundRunnable<?>> drain() {
+            List<ThreadBoundRunnable<?>> drained = new ArrayList<>();
+            ThreadBoundRunnable<?> task;
+            while ((task = tasks.poll()) != null) {
+                drained.add(task);
+            }
+            return drained;
+        }
+
+        private void runAll() {
+            drain().forEach(Runnable::run);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public int getThreadCount() {
+            return 1;
+        }
+
+        @Override
+        public void init() {
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.cluster.tasks;
+
+import org.elasticsoftware.elasticactors.ActorRef;
+import org.elasticsoftware.elasticactors.ActorState;
+import org.elasticsoftware.elasticactors.ElasticActor;
+import org.elasticsoftware.elasticactors.ShardKey;
+import org.elasticsoftware.elasticactors.cluster.InternalActorSystem;
+import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.messaging.MessageHandlerEventListener;
+import org.elasticsoftware.elasticactors.state.ActorStateUpdateProcessor;
+import org.elasticsoftware.elasticactors.state.MessageBatching;
+import org.elasticsoftware.elasticactors.state.PersistentActor;
+import org.elasticsoftware.elasticactors.state.PersistentActorRepository;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class MessageBatchTest {
+
+    @Test
+    public void testOnDoneAcknowledgesEveryMessageWithItsOwnOutcome() {
+        InternalMessage first = mock(InternalMessage.class);
+        InternalMessage second = mock(InternalMessage.class);
+        MessageHandlerEventListener firstListener = mock(MessageHandlerEventListener.class);
+        MessageHandlerEventListener secondListener = mock(MessageHandlerEventListener.class);
+        IllegalStateException failure = new IllegalStateException("handler failed");
+
+        MessageBatch batch = new MessageBatch(2);
+        assertTrue(batch.isEmpty());
+        batch.add(first, firstListener, null, true, String.class);
+        batch.add(second, secondListener, failure, false, null);
+
+        assertFalse(batch.isEmpty());
+        assertTrue(batch.shouldUpdateState());
+        assertEquals(List.copyOf(batch.getUpdatingMessageClasses()), List.of(String.class));
+        assertSame(batch.getLastMessage(), second);
+
+        batch.onDone(second);
+
+        verify(firstListener).onDone(first);
+        verify(secondListener).onError(second, failure);
+        verifyNoMoreInteractions(firstListener, secondListener);
+    }
+
+    @Test
+    public void testOnErrorFailsEveryMessage() {
+        InternalMessage first = mock(InternalMessage.class);
+        InternalMessage second = mock(InternalMessage.class);
+        MessageHandlerEventListener listener = mock(MessageHandlerEventListener.class);
+        RuntimeException failure = new RuntimeException("persist failed");
+
+        MessageBatch batch = new MessageBatch(2);
+        batch.add(first, listener, null, false, null);
+        batch.add(second, null, null, false, null);
+        assertFalse(batch.shouldUpdateState());
+
+        batch.onError(second, failure);
+
+        verify(listener).onError(first, failure);
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    public void testStateUpdateIsProcessedForEveryUpdatingMessageType() throws Exception {
+        InternalActorSystem actorSystem = mock(InternalActorSystem.class, RETURNS_DEEP_STUBS);
+        when(actorSystem.getActorLifecycleListeners(any())).thenReturn(null);
+        when(actorSystem.getParent().getSerializationFramework(any())
+            .getActorStateSerializer(any(ActorState.class)).serialize(any())).thenReturn(new byte[]{1});
+        ActorRef actorRef = mock(ActorRef.class);
+        when(actorRef.getActorId()).thenReturn("actor");
+        PersistentActor<ShardKey> persistentActor = new PersistentActor<>(
+            new ShardKey("test", 0),
+            actorSystem,
+            "1.0",
+            actorRef,
+            BatchingActor.class,
+            mock(ActorState.class)
+        );
+        PersistentActorRepository persistentActorRepository = mock(PersistentActorRepository.class);
+        ActorStateUpdateProcessor actorStateUpdateProcessor = mock(ActorStateUpdateProcessor.class);
+
+        MessageBatchTask batchTask = new MessageBatchTask(
+            actorStateUpdateProcessor,
+            persistentActorRepository,
+            persistentActor,
+            actorRef,
+            new ConcurrentHashMap<>(),
+            MessageBatchTask.getMaxBatchSize(BatchingActor.class),
+            new UpdatingTask(actorSystem, persistentActor, actorRef, String.class)
+        );
+        assertTrue(batchTask.offer(new UpdatingTask(actorSystem, persistentActor, actorRef, Integer.class)));
+        assertTrue(batchTask.offer(new UpdatingTask(actorSystem, persistentActor, actorRef, String.class)));
+        batchTask.run();
+
+        verify(persistentActorRepository, times(1)).updateAsync(any(), eq(persistentActor), any(), any());
+        // listeners that filter on either type see the update
+        var inOrder = inOrder(actorStateUpdateProcessor);
+        inOrder.verify(actorStateUpdateProcessor).process(isNull(), eq(String.class), eq(persistentActor));
+        inOrder.verify(actorStateUpdateProcessor).process(isNull(), eq(Integer.class), eq(persistentActor));
+        verifyNoMoreInteractions(actorStateUpdateProcessor);
+    }
+
+    @Test
+    public void testMaxBatchSize() {
+        assertEquals(MessageBatchTask.getMaxBatchSize(BatchingActor.class), 8);
+        // cached per class
+        assertEquals(MessageBatchTask.getMaxBatchSize(BatchingActor.class), 8);
+        assertEquals(MessageBatchTask.getMaxBatchSize(ElasticActor.class), 0);
+    }
+
+    @MessageBatching(maxBatchSize = 8)
+    private abstract static class BatchingActor implements ElasticActor<Object> {
+    }
+
+    /**
+     * Handles a message of the given type and asks for the state to be updated
+     */
+    private static final class UpdatingTask extends ActorLifecycleTask {
+
+        private UpdatingTask(
+            InternalActorSystem actorSystem,
+            PersistentActor<ShardKey> persistentActor,
+            ActorRef actorRef,
+            Class<?> messageClass)
+        {
+            super(
+                null,
+                null,
+                persistentActor,
+                actorSystem,
+                mock(ElasticActor.class),
+                actorRef,
+                null,
+                createMessage(messageClass),
+                null,
+                null
+            );
+        }
+
+        private static InternalMessage createMessage(Class<?> messageClass) {
+            InternalMessage internalMessage = mock(InternalMessage.class);
+            when(internalMessage.getPayloadClass()).thenReturn(messageClass.getName());
+            return internalMessage;
+        }
+
+        @Override
+        protected boolean doInActorContext(
+            InternalActorSystem actorSystem,
+            ElasticActor receiver,
+            ActorRef receiverRef,
+            InternalMessage internalMessage)
+        {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.messaging;
+
+import com.google.common.collect.ImmutableMap;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.elasticsoftware.elasticactors.ActorContainer;
+import org.elasticsoftware.elasticactors.ActorContainerRef;
+import org.elasticsoftware.elasticactors.ActorRef;
+import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+import org.elasticsoftware.elasticactors.messaging.internal.DestroyActorMessage;
+import org.elasticsoftware.elasticactors.serialization.internal.ActorRefDeserializer;
+import org.elasticsoftware.elasticactors.serialization.internal.InternalMessageDeserializer;
+import org.elasticsoftware.elasticactors.serialization.protobuf.Messaging;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class InternalMessageBatcherTest {
+    private static final String RECEIVER = "actor://cluster/system/shards/3/receiver";
+
+    private final List<Published> published = new CopyOnWriteArrayList<>();
+    private InternalMessageBatching batching;
+
+    @BeforeMethod
+    public void setUp() {
+        published.clear();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        if (batching != null) {
+            batching.shutdown();
+        }
+    }
+
+    @Test
+    public void testPublishesFullBatch() throws Exception {
+        InternalMessageBatcher batcher = createBatcher(3, 1024 * 1024, TimeUnit.SECONDS.toMicros(10));
+        InternalMessage first = durableMessage();
+
+        batcher.add(first);
+        batcher.add(durableMessage());
+        assertTrue(published.isEmpty());
+        batcher.add(durableMessage());
+
+        assertEquals(published.size(), 1);
+        assertTrue(published.get(0).batch);
+        assertSame(published.get(0).messages.get(0), first);
+        assertEquals(published.get(0).messages.size(), 3);
+        assertEquals(Messaging.InternalMessageBatch.parseFrom(published.get(0).body).getMessagesCount(), 3);
+    }
+
+    @Test
+    public void testAddDoesNotWaitForPublish() throws Exception {
+        CountDownLatch publishing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        batching = new InternalMessageBatching(2, 1024 * 1024, TimeUnit.SECONDS.toMicros(10), null);
+        InternalMessageBatcher batcher = batching.createBatcher("queue", null, (messages, body, batch) -> {
+            publishing.countDown();
+            awaitUninterruptibly(release);
+            published.add(new Published(messages, body, batch));
+        });
+        batcher.add(durableMessage());
+        Thread flushing = new Thread(() -> batcher.add(durableMessage()));
+        flushing.start();
+        assertTrue(publishing.await(5, TimeUnit.SECONDS));
+
+        // the batcher is not locked while the full batch is being published
+        batcher.add(durableMessage());
+
+        assertTrue(published.isEmpty());
+        release.countDown();
+        flushing.join(5000);
+        assertEquals(published.size(), 1);
+        assertEquals(published.get(0).messages.size(), 2);
+    }
+
+    @Test
+    public void testCountsLostMessages() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerConfiguration micrometerConfiguration = new MicrometerConfiguration(
+            false,
+            false,
+            false,
+            registry,
+            "test",
+            null,
+            null,
+            ImmutableMap.of(),
+            ImmutableMap.of()
+        );
+        batching = new InternalMessageBatching(3, 1024 * 1024, TimeUnit.SECONDS.toMicros(10), micrometerConfiguration);
+        InternalMessageBatcher batcher = batching.createBatcher("queue", null, (messages, body, batch) -> {
+            throw new IllegalStateException("broker unavailable");
+        });
+        batcher.add(durableMessage());
+        batcher.add(durableMessage());
+
+        expectThrows(IllegalStateException.class, () -> batcher.add(durableMessage()));
+
+        assertEquals(registry.get("messaging.queue.batch.lost").counter().count(), 3.0);
+    }
+
+    @Test
+    public void testReturnsUnpublishedMessagesToTheirSenders() throws Exception {
+        batching = new InternalMessageBatching(3, 1024 * 1024, TimeUnit.SECONDS.toMicros(10), null);
+        InternalMessageBatcher batcher = batching.createBatcher("queue", null, (messages, body, batch) -> {
+            throw new IllegalStateException("broker unavailable");
+        });
+        ActorContainer senderContainer = mock(ActorContainer.class);
+        ActorRef sender = mock(ActorRef.class, withSettings().extraInterfaces(ActorContainerRef.class));
+        when(((ActorContainerRef) sender).getActorContainer()).thenReturn(senderContainer);
+        InternalMessage first = durableMessage(sender);
+        InternalMessage second = durableMessage(sender);
+        InternalMessage third = durableMessage(sender);
+        batcher.add(first);
+        batcher.add(second);
+
+        expectThrows(IllegalStateException.class, () -> batcher.add(third));
+
+        // the sender of the third message gets the exception instead
+        verify(senderContainer).undeliverableMessage(first, first.getReceivers().get(0));
+        verify(senderContainer).undeliverableMessage(second, second.getReceivers().get(0));
+        verifyNoMoreInteractions(senderContainer);
+    }
+
+    @Test
+    public void testPublishesBatchWhenLingerExpires() throws Exception {
+        // long enough for the messages added back to back to end up in the same batch
+        InternalMessageBatcher batcher = createBatcher(64, 1024 * 1024, TimeUnit.MILLISECONDS.toMicros(100));
+
+        batcher.add(durableMessage());
+        awaitPublished(1);
+        // a single message is published as is
+        assertFalse(published.get(0).batch);
+
+        batcher.add(durableMessage());
+        batcher.add(durableMessage());
+        awaitPublished(2);
+        assertTrue(published.get(1).batch);
+        assertEquals(Messaging.InternalMessageBatch.parseFrom(published.get(1).body).getMessagesCount(), 2);
+    }
+
+    @Test
+    public void testPublishesPendingBatchBeforeUnbatchableMessage() {
+        InternalMessageBatcher batcher = createBatcher(64, 1024 * 1024, TimeUnit.SECONDS.toMicros(10));
+        InternalMessage first = durableMessage();
+        InternalMessage withTimeout = new DefaultInternalMessage(
+            null,
+            actorRef(),
+            ByteBuffer.wrap(new byte[]{1}),
+            DestroyActorMessage.class.getName(),
+            true,
+            false,
+            5000
+        );
+
+        batcher.add(first);
+        batcher.add(durableMessage());
+        batcher.add(withTimeout);
+
+        assertEquals(published.size(), 2);
+        assertTrue(published.get(0).batch);
+        assertSame(published.get(0).messages.get(0), first);
+        assertFalse(published.get(1).batch);
+        assertSame(published.get(1).messages.get(0), withTimeout);
+    }
+
+    @Test
+    public void testKeepsPendingBatchWhenUnbatchableMessageCannotBeSerialized() {
+        InternalMessageBatcher batcher = createBatcher(64, 1024 * 1024, TimeUnit.SECONDS.toMicros(10));
+        InternalMessage unserializable = mock(InternalMessage.class);
+        IllegalStateException failure = new IllegalStateException("serialization failed");
+        when(unserializable.toByteArray()).thenThrow(failure);
+
+        batcher.add(durableMessage());
+        batcher.add(durableMessage());
+        assertSame(expectThrows(IllegalStateException.class, () -> batcher.add(unserializable)), failure);
+        assertTrue(published.isEmpty());
+
+        // the pending messages are still published
+        batcher.destroy();
+        assertEquals(published.size(), 1);
+        assertEquals(published.get(0).messages.size(), 2);
+    }
+
+    @Test
+    public void testHandleBatchNotifiesListenerOnceAllMessagesAreHandled() throws Exception {
+        InternalMessageBatcher batcher = createBatcher(3, 1024 * 1024, TimeUnit.SECONDS.toMicros(10));
+        for (int i = 0; i < 3; i++) {
+            batcher.add(durableMessage());
+        }
+        MessageHandler messageHandler = mock(MessageHandler.class);
+        List<MessageHandlerEventListener> listeners = new ArrayList<>();
+        doAnswer(invocation -> listeners.add(invocation.getArgument(1)))
+            .when(messageHandler).handleMessage(any(), any());
+        MessageHandlerEventListener envelopeListener = mock(MessageHandlerEventListener.class);
+        ActorRef receiver = actorRef();
+
+        InternalMessageBatching.handleBatch(
+            ByteBuffer.wrap(published.get(0).body),
+            new InternalMessageDeserializer(new ActorRefDeserializer(refSpec -> receiver)),
+            messageHandler,
+            envelopeListener
+        );
+
+        assertEquals(listeners.size(), 3);
+        listeners.get(0).onDone(null);
+        listeners.get(1).onDone(null);
+        verify(envelopeListener, never()).onDone(any());
+        listeners.get(2).onDone(null);
+        verify(envelopeListener, times(1)).onDone(any());
+    }
+
+    private InternalMessageBatcher createBatcher(int maximumSize, int maximumBytes, long lingerMicros) {
+        batching = new InternalMessageBatching(maximumSize, maximumBytes, lingerMicros, null);
+        return batching.createBatcher(
+            "queue",
+            null,
+            (messages, body, batch) -> published.add(new Published(messages, body, batch))
+        );
+    }
+
+    private void awaitPublished(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (published.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(published.size(), count);
+    }
+
+    private static InternalMessage durableMessage() {
+        return durableMessage(null);
+    }
+
+    private static InternalMessage durableMessage(ActorRef sender) {
+        return new DefaultInternalMessage(
+            sender,
+            actorRef(),
+            ByteBuffer.wrap(new byte[]{1, 2, 3}),
+            DestroyActorMessage.class.getName(),
+            null,
+            true
+        );
+    }
+
+    private static ActorRef actorRef() {
+        ActorRef actorRef = mock(ActorRef.class);
+        when(actorRef.toString()).thenReturn(RECEIVER);
+        when(actorRef.getActorId()).thenReturn("receiver");
+        return actorRef;
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Published {
+        private final List<InternalMessage> messages;
+        private final byte[] body;
+        private final boolean batch;
+
+        private Published(List<InternalMessage> messages, byte[] body, boolean batch) {
+            this.messages = messages;
+            this.body = body;
+            this.batch = batch;
+        }
+    }
+}
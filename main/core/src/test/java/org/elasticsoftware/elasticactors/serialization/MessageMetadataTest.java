@@ -0,0 +1,140 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+
+package org.elasticsoftware.elasticactors.serialization;
+
+import org.elasticsoftware.elasticactors.messaging.internal.DestroyActorMessage;
+import org.testng.annotations.Test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class MessageMetadataTest {
+
+    @Test
+    public void testAnnotationAttributes() {
+        MessageMetadata metadata = MessageMetadata.get(DestroyActorMessage.class);
+        assertTrue(metadata.isMessage());
+        assertTrue(metadata.isImmutable());
+        assertFalse(metadata.isDurable());
+        assertEquals(metadata.getSerializationFramework(), SystemSerializationFramework.class);
+        assertSame(MessageMetadata.get(DestroyActorMessage.class), metadata);
+
+        MessageMetadata notAMessage = MessageMetadata.of("not a message");
+        assertFalse(notAMessage.isMessage());
+        assertEquals(notAMessage.getTimeout(), Message.NO_TIMEOUT);
+        assertNull(notAMessage.getSerializer(mock(SerializationFrameworks.class)));
+    }
+
+    @Test
+    public void testSerializerIsResolvedPerSerializationFrameworks() {
+        MessageMetadata metadata = MessageMetadata.get(DestroyActorMessage.class);
+        MessageSerializer<Object> firstSerializer = object -> ByteBuffer.allocate(0);
+        MessageSerializer<Object> secondSerializer = object -> ByteBuffer.allocate(0);
+        AtomicInteger firstLookups = new AtomicInteger();
+        SerializationFrameworks first = createSerializationFrameworks(firstLookups, new AtomicReference<>(firstSerializer));
+        SerializationFrameworks second = createSerializationFrameworks(new AtomicInteger(), new AtomicReference<>(secondSerializer));
+
+        assertSame(metadata.getSerializer(first), firstSerializer);
+        assertSame(metadata.getSerializer(first), firstSerializer);
+        assertEquals(firstLookups.get(), 1);
+        assertSame(metadata.getSerializer(second), secondSerializer);
+        assertSame(metadata.getSerializer(first), firstSerializer);
+    }
+
+    @Test
+    public void testMissingSerializerIsNotCached() {
+        MessageMetadata metadata = MessageMetadata.get(DestroyActorMessage.class);
+        AtomicInteger lookups = new AtomicInteger();
+        AtomicReference<MessageSerializer<?>> serializer = new AtomicReference<>();
+        SerializationFrameworks serializationFrameworks = createSerializationFrameworks(lookups, serializer);
+
+        assertNull(metadata.getSerializer(serializationFrameworks));
+        // registered later on
+        serializer.set(object -> ByteBuffer.allocate(0));
+        assertSame(metadata.getSerializer(serializationFrameworks), serializer.get());
+        assertEquals(lookups.get(), 2);
+    }
+
+    @Test
+    public void testSerializationFrameworksAreNotKeptAlive() throws Exception {
+        MessageMetadata metadata = MessageMetadata.get(DestroyActorMessage.class);
+        WeakReference<SerializationFrameworks> reference = resolveAndForget(metadata);
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+    }
+
+    private static WeakReference<SerializationFrameworks> resolveAndForget(MessageMetadata metadata) {
+        AtomicReference<SerializationFrameworks> owner = new AtomicReference<>();
+        // like most serializers, this one references its actor system
+        MessageSerializer<Object> serializer = object -> ByteBuffer.wrap(String.valueOf(owner.get()).getBytes());
+        SerializationFrameworks serializationFrameworks =
+            createSerializationFrameworks(new AtomicInteger(), new AtomicReference<>(serializer));
+        owner.set(serializationFrameworks);
+        assertSame(metadata.getSerializer(serializationFrameworks), serializer);
+        return new WeakReference<>(serializationFrameworks);
+    }
+
+    private static SerializationFrameworks createSerializationFrameworks(
+        AtomicInteger lookups,
+        AtomicReference<MessageSerializer<?>> serializer)
+    {
+        // not a mock, those are remembered by the mocking framework
+        SerializationFramework serializationFramework = (SerializationFramework) Proxy.newProxyInstance(
+            SerializationFramework.class.getClassLoader(),
+            new Class<?>[] {SerializationFramework.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("getSerializer")) {
+                    lookups.incrementAndGet();
+                    return serializer.get();
+                }
+                return null;
+            }
+        );
+        return new SerializationFrameworks() {
+            @Override
+            public <T> MessageSerializer<T> getSystemMessageSerializer(Class<T> messageClass) {
+                return null;
+            }
+
+            @Override
+            public <T> MessageDeserializer<T> getSystemMessageDeserializer(Class<T> messageClass) {
+                return null;
+            }
+
+            @Override
+            public SerializationFramework getSerializationFramework(Class<? extends SerializationFramework> frameworkClass) {
+                return serializationFramework;
+            }
+        };
+    }
+}
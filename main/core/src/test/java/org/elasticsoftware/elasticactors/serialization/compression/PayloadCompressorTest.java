@@ -0,0 +1,187 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.serialization.compression;
+
+import net.jpountz.lz4.LZ4Factory;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class PayloadCompressorTest {
+
+    private static final String KEY = "org.example.State";
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        for (CompressionAlgorithm algorithm : CompressionAlgorithm.values()) {
+            PayloadCompressor compressor = new PayloadCompressor(algorithm, 512, 3, CompressionDictionaries.none());
+            PayloadDecompressor decompressor = new PayloadDecompressor();
+            byte[] small = createPayload(0, 2);
+            ByteBuffer uncompressed = compressor.compress(KEY, small);
+            assertFalse(decompressor.isCompressed(uncompressed));
+            assertEquals(toByteArray(decompressor.decompress(uncompressed)), small);
+            byte[] large = createPayload(0, 200);
+            ByteBuffer compressed = compressor.compress(KEY, large);
+            assertTrue(decompressor.isCompressed(compressed));
+            assertTrue(compressed.remaining() < large.length);
+            assertEquals(toByteArray(decompressor.decompress(compressed)), large);
+        }
+    }
+
+    @Test
+    public void testLegacyLz4Payload() throws Exception {
+        // the format written before zstd was supported
+        byte[] payload = createPayload(0, 200);
+        byte[] compressedBytes = LZ4Factory.fastestJavaInstance().fastCompressor().compress(payload);
+        ByteBuffer buffer = ByteBuffer.allocate(8 + compressedBytes.length);
+        buffer.put(new byte[] {0x18, 0x4D, 0x22, 0x04}).putInt(payload.length).put(compressedBytes).flip();
+        assertEquals(toByteArray(new PayloadDecompressor().decompress(buffer)), payload);
+    }
+
+    @Test
+    public void testThresholdAdaptsToIncompressiblePayloads() {
+        PayloadCompressor compressor = new PayloadCompressor(512);
+        byte[] random = new byte[2048];
+        new Random(42).nextBytes(random);
+        for (int i = 0; i < 10; i++) {
+            ByteBuffer buffer = compressor.compress(KEY, random);
+            assertEquals(buffer.remaining(), random.length);
+        }
+        assertTrue(compressor.getThreshold(KEY) >= random.length);
+        assertEquals(compressor.getThreshold("other"), 512);
+    }
+
+    @Test
+    public void testTrainedDictionary() throws Exception {
+        InMemoryRepository repository = new InMemoryRepository();
+        CompressionDictionaries dictionaries = new CompressionDictionaries(repository, 3, true, 200, 4096);
+        try {
+            PayloadCompressor compressor = new PayloadCompressor(CompressionAlgorithm.ZSTD, 64, 3, dictionaries);
+            ByteBuffer withoutDictionary = compressor.compress(KEY, createPayload(0, 4));
+            for (int i = 1; i < 1000 && repository.dictionaries.isEmpty(); i++) {
+                compressor.compress(KEY, createPayload(i, 4));
+                Thread.sleep(1);
+            }
+            for (int i = 0; i < 100 && dictionaries.getCompressionDictionary(KEY) == null; i++) {
+                Thread.sleep(50);
+            }
+            assertNotNull(dictionaries.getCompressionDictionary(KEY));
+            ByteBuffer withDictionary = compressor.compress(KEY, createPayload(0, 4));
+            assertNotEquals(withDictionary.getInt(4), 0);
+            assertTrue(withDictionary.remaining() < withoutDictionary.remaining());
+
+            // another node only finds the dictionary in the repository
+            PayloadDecompressor decompressor = new PayloadDecompressor(
+                new CompressionDictionaries(repository, 3, false, 0, 0));
+            assertEquals(toByteArray(decompressor.decompress(withDictionary)), createPayload(0, 4));
+            assertEquals(toByteArray(decompressor.decompress(withoutDictionary)), createPayload(0, 4));
+
+            // or loads it asynchronously before decompressing
+            decompressor = new PayloadDecompressor(new CompressionDictionaries(repository, 3, false, 0, 0));
+            assertTrue(decompressor.prepare(withoutDictionary).isDone());
+            decompressor.prepare(withDictionary).get(5, TimeUnit.SECONDS);
+            assertEquals(repository.asyncLoads.get(), 1);
+            assertTrue(decompressor.prepare(withDictionary).isDone());
+            assertEquals(toByteArray(decompressor.decompress(withDictionary)), createPayload(0, 4));
+            assertEquals(repository.asyncLoads.get(), 1);
+        } finally {
+            dictionaries.shutdown();
+        }
+    }
+
+    @Test
+    public void testDictionaryWithExistingIdIsNotUsed() throws Exception {
+        InMemoryRepository repository = new InMemoryRepository();
+        repository.rejectSaves = true;
+        CompressionDictionaries dictionaries = new CompressionDictionaries(repository, 3, true, 200, 4096);
+        try {
+            PayloadCompressor compressor = new PayloadCompressor(CompressionAlgorithm.ZSTD, 64, 3, dictionaries);
+            for (int i = 0; i < 1000 && repository.saves.get() == 0; i++) {
+                compressor.compress(KEY, createPayload(i, 4));
+                Thread.sleep(1);
+            }
+            assertEquals(repository.saves.get(), 1);
+            // the dictionary would have been activated right after it was saved
+            Thread.sleep(100);
+            assertNull(dictionaries.getCompressionDictionary(KEY));
+            assertEquals(compressor.compress(KEY, createPayload(0, 4)).getInt(4), 0);
+        } finally {
+            dictionaries.shutdown();
+        }
+    }
+
+    private static byte[] createPayload(int seed, int items) {
+        StringBuilder builder = new StringBuilder("{\"id\":\"").append(seed).append("\",\"items\":[");
+        for (int i = 0; i < items; i++) {
+            builder.append("{\"name\":\"item-").append(seed * 31 + i)
+                .append("\",\"quantity\":").append((seed + i) % 7)
+                .append(",\"status\":\"").append(i % 2 == 0 ? "ACTIVE" : "PENDING").append("\"},");
+        }
+        return builder.append("{}]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] toByteArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static final class InMemoryRepository implements CompressionDictionaryRepository {
+        private final Map<Integer, CompressionDictionary> dictionaries = new ConcurrentHashMap<>();
+        private final AtomicInteger asyncLoads = new AtomicInteger();
+        private final AtomicInteger saves = new AtomicInteger();
+        private volatile boolean rejectSaves;
+
+        @Override
+        public List<CompressionDictionary> loadAll() {
+            return List.copyOf(dictionaries.values());
+        }
+
+        @Override
+        public CompressionDictionary load(int id) {
+            return dictionaries.get(id);
+        }
+
+        @Override
+        public CompletableFuture<CompressionDictionary> loadAsync(int id) {
+            asyncLoads.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> dictionaries.get(id));
+        }
+
+        @Override
+        public boolean save(CompressionDictionary dictionary) {
+            saves.incrementAndGet();
+            return !rejectSaves && dictionaries.putIfAbsent(dictionary.id(), dictionary) == null;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.serialization.internal;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import org.elasticsoftware.elasticactors.ActorRef;
+import org.elasticsoftware.elasticactors.cluster.ActorRefFactory;
+import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.messaging.UUIDTools;
+import org.elasticsoftware.elasticactors.serialization.protobuf.Messaging;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class CompactActorRefsTest {
+    @Test
+    public void testRoundTrip() throws IOException {
+        List<String> refSpecs = Arrays.asList(
+            null,
+            "actor://cluster/system/shards/12/actorId",
+            "actor://cluster/system/shards/0",
+            "actor://cluster/system/nodes/node-1/2b7e1516-28ae-d2a6-abf7-158809cf4f3c",
+            "actor://cluster/system/services/node-1/pubsub/topic",
+            "actor://remote/other/shards/7/",
+            "actor://cluster/system/shards/007/leadingZeroes",
+            "actor://cluster/system/unknown/1/actorId",
+            "actor://cluster",
+            "not-a-ref"
+        );
+
+        ByteString encoded = CompactActorRefs.encode(refSpecs);
+
+        assertEquals(Arrays.asList(CompactActorRefs.decode(encoded)), refSpecs);
+    }
+
+    @Test
+    public void testDecodeActorRefsFromParts() throws IOException {
+        ActorRef shardRef = mock(ActorRef.class);
+        ActorRef nodeRef = mock(ActorRef.class);
+        ActorRef rawRef = mock(ActorRef.class);
+        List<String> created = new ArrayList<>();
+        ActorRefFactory actorRefFactory = new ActorRefFactory() {
+            @Override
+            public ActorRef create(String refSpec) {
+                created.add(refSpec);
+                return rawRef;
+            }
+
+            @Override
+            public ActorRef create(String clusterName, String actorSystemName, String type, String id, String actorId) {
+                created.add(String.join("|", clusterName, actorSystemName, type, id, String.valueOf(actorId)));
+                return type.equals("shards") ? shardRef : nodeRef;
+            }
+        };
+        ByteString encoded = CompactActorRefs.encode(Arrays.asList(
+            null,
+            "actor://cluster/system/shards/12/actorId",
+            "actor://cluster/system/nodes/node-1",
+            "not-a-ref"));
+
+        ActorRef[] actorRefs = CompactActorRefs.decode(encoded, actorRefFactory);
+
+        assertEquals(Arrays.asList(actorRefs), Arrays.asList(null, shardRef, nodeRef, rawRef));
+        assertEquals(created, List.of(
+            "cluster|system|shards|12|actorId",
+            "cluster|system|nodes|node-1|null",
+            "not-a-ref"));
+    }
+
+    @Test
+    public void testSmallerThanStrings() throws IOException {
+        List<String> refSpecs = Arrays.asList(
+            "actor://production/orders/nodes/orders-node-7/9b1deb4d-3b7d-4bad-9bdd-2b0d7b3dcb6d",
+            "actor://production/orders/shards/37/3f2504e0-4f89-11d3-9a0c-0305e82c3301",
+            "actor://production/orders/shards/112/6fa459ea-ee8a-3ca4-894e-db77e160355e"
+        );
+        int stringSize = refSpecs.stream().mapToInt(s -> s.length() + 2).sum();
+
+        ByteString encoded = CompactActorRefs.encode(refSpecs);
+
+        assertTrue(encoded.size() < stringSize - 60, encoded.size() + " >= " + stringSize);
+    }
+
+    @Test
+    public void testUnknownVersion() {
+        ByteString encoded = CompactActorRefs.encode(List.of("actor://cluster/system/shards/1/actorId"));
+        byte[] bytes = encoded.toByteArray();
+        bytes[0] = (byte) (CompactActorRefs.VERSION + 1);
+
+        expectThrows(IOException.class, () -> CompactActorRefs.decode(ByteString.copyFrom(bytes)));
+    }
+
+    @Test
+    public void testMalformed() {
+        byte[] bytes = CompactActorRefs.encode(List.of("actor://cluster/system/shards/1/actorId")).toByteArray();
+
+        expectThrows(IOException.class, () -> CompactActorRefs.decode(ByteString.copyFrom(bytes, 0, bytes.length - 3)));
+    }
+
+    @Test
+    public void testDeserializeInternalMessage() throws IOException {
+        String senderSpec = "actor://cluster/system/nodes/node-1/sender";
+        String receiverSpec = "actor://cluster/system/shards/3/receiver";
+        ActorRef sender = mock(ActorRef.class);
+        ActorRef receiver = mock(ActorRef.class);
+        InternalMessageDeserializer deserializer = new InternalMessageDeserializer(
+            new ActorRefDeserializer(refSpec -> refSpec.equals(senderSpec) ? sender : receiver));
+        Messaging.InternalMessage.Builder builder = Messaging.InternalMessage.newBuilder()
+            .setId(UUIDTools.toByteString(UUIDTools.createTimeBasedUUID()))
+            .setPayload(UnsafeByteOperations.unsafeWrap(new byte[]{1, 2, 3}))
+            .setPayloadClass("org.example.UnknownMessage")
+            .setActorRefs(CompactActorRefs.encode(Arrays.asList(senderSpec, receiverSpec)));
+
+        InternalMessage withSender = deserializer.deserialize(ByteBuffer.wrap(builder.build().toByteArray()));
+        assertEquals(withSender.getSender(), sender);
+        assertEquals(withSender.getReceivers(), List.of(receiver));
+
+        builder.setActorRefs(CompactActorRefs.encode(Arrays.asList(null, receiverSpec, receiverSpec)));
+        InternalMessage withoutSender = deserializer.deserialize(ByteBuffer.wrap(builder.build().toByteArray()));
+        assertNull(withoutSender.getSender());
+        assertEquals(withoutSender.getReceivers(), List.of(receiver, receiver));
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.serialization.internal;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.CodedOutputStream;
+import org.elasticsoftware.elasticactors.ActorRef;
+import org.elasticsoftware.elasticactors.messaging.DefaultInternalMessage;
+import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.messaging.LazyInternalMessage;
+import org.elasticsoftware.elasticactors.messaging.UUIDTools;
+import org.elasticsoftware.elasticactors.messaging.internal.DestroyActorMessage;
+import org.elasticsoftware.elasticactors.serialization.MessageDeserializer;
+import org.elasticsoftware.elasticactors.serialization.compression.PayloadCompressor;
+import org.elasticsoftware.elasticactors.serialization.protobuf.Messaging;
+import org.elasticsoftware.elasticactors.tracing.CreationContext;
+import org.elasticsoftware.elasticactors.tracing.TraceContext;
+import org.testng.annotations.Test;
+
+import jakarta.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class InternalMessageDeserializerTest {
+    private static final String SENDER = "actor://cluster/system/nodes/node-1/sender";
+    private static final String RECEIVER = "actor://cluster/system/shards/3/receiver";
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        ActorRef sender = actorRef(SENDER);
+        ActorRef receiver = actorRef(RECEIVER);
+        TraceContext traceContext = new TraceContext("span", "trace", "parent", Map.of("key", "value"));
+        CreationContext creationContext = new CreationContext("creator", "creatorType", "creatorMethod", true);
+        InternalMessage original = new DefaultInternalMessage(
+            UUIDTools.createTimeBasedUUID(),
+            sender,
+            ImmutableList.of(receiver),
+            ByteBuffer.wrap("payload".getBytes(StandardCharsets.UTF_8)),
+            DestroyActorMessage.class.getName(),
+            "affinityKey",
+            true,
+            true,
+            5000,
+            traceContext,
+            creationContext
+        );
+
+        InternalMessage deserialized = deserializer(sender, receiver)
+            .deserialize(ByteBuffer.wrap(InternalMessageSerializer.get().serialize(original)));
+
+        assertTrue(deserialized instanceof LazyInternalMessage);
+        assertEquals(deserialized.getId(), original.getId());
+        assertSame(deserialized.getSender(), sender);
+        assertEquals(deserialized.getReceivers(), ImmutableList.of(receiver));
+        assertEquals(deserialized.getPayloadClass(), DestroyActorMessage.class.getName());
+        assertEquals(deserialized.getPayload(), original.getPayload());
+        assertEquals(deserialized.getMessageQueueAffinityKey(), "affinityKey");
+        assertTrue(deserialized.isDurable());
+        assertTrue(deserialized.isUndeliverable());
+        assertEquals(deserialized.getTimeout(), 5000);
+        assertEquals(deserialized.getTraceContext(), traceContext);
+        assertEquals(deserialized.getCreationContext(), creationContext);
+    }
+
+    @Test
+    public void testCompactActorRefs() throws IOException {
+        ActorRef sender = actorRef(SENDER);
+        ActorRef receiver = actorRef(RECEIVER);
+        InternalMessage original = new DefaultInternalMessage(
+            UUIDTools.createTimeBasedUUID(),
+            sender,
+            ImmutableList.of(receiver, receiver),
+            ByteBuffer.wrap("payload".getBytes(StandardCharsets.UTF_8)),
+            DestroyActorMessage.class.getName(),
+            null,
+            false,
+            false,
+            InternalMessage.NO_TIMEOUT,
+            null,
+            null
+        );
+        InternalMessageSerializer serializer = new InternalMessageSerializer(InternalMessagePayloadCompression.disabled(), true);
+
+        byte[] bytes = serializer.serialize(original);
+        InternalMessage deserialized = deserializer(sender, receiver).deserialize(ByteBuffer.wrap(bytes));
+
+        Messaging.InternalMessage serialized = Messaging.InternalMessage.parseFrom(bytes);
+        assertTrue(serialized.hasActorRefs());
+        assertFalse(serialized.hasSender());
+        assertSame(deserialized.getSender(), sender);
+        assertEquals(deserialized.getReceivers(), ImmutableList.of(receiver, receiver));
+    }
+
+    @Test
+    public void testDefaults() throws IOException {
+        ActorRef receiver = actorRef(RECEIVER);
+        InternalMessage original = new DefaultInternalMessage(
+            UUIDTools.createTimeBasedUUID(),
+            null,
+            ImmutableList.of(receiver, receiver),
+            ByteBuffer.wrap(new byte[0]),
+            DestroyActorMessage.class.getName(),
+            null,
+            false,
+            false,
+            InternalMessage.NO_TIMEOUT,
+            null,
+            null
+        );
+
+        InternalMessage deserialized = deserializer(null, receiver)
+            .deserialize(ByteBuffer.wrap(InternalMessageSerializer.get().serialize(original)));
+
+        assertNull(deserialized.getSender());
+        assertEquals(deserialized.getReceivers(), ImmutableList.of(receiver, receiver));
+        assertNull(deserialized.getMessageQueueAffinityKey());
+        assertFalse(deserialized.isDurable());
+        assertEquals(deserialized.getTimeout(), InternalMessage.NO_TIMEOUT);
+        assertNull(deserialized.getTraceContext());
+        assertNull(deserialized.getCreationContext());
+    }
+
+    @Test
+    public void testSkipsUnknownFields() throws IOException {
+        ActorRef receiver = actorRef(RECEIVER);
+        InternalMessage original = new DefaultInternalMessage(
+            null,
+            receiver,
+            ByteBuffer.wrap(new byte[]{1, 2, 3}),
+            DestroyActorMessage.class.getName(),
+            null,
+            true
+        );
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(InternalMessageSerializer.get().serialize(original));
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        output.writeString(1000, "unknown");
+        output.writeUInt64(1001, 42L);
+        output.flush();
+
+        InternalMessage deserialized = deserializer(null, receiver).deserialize(ByteBuffer.wrap(bytes.toByteArray()));
+
+        assertEquals(deserialized.getId(), original.getId());
+        assertEquals(deserialized.getReceivers(), ImmutableList.of(receiver));
+        assertEquals(deserialized.getPayload(), ByteBuffer.wrap(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    public void testImmutablePayloadIsDeserializedOnce() throws IOException {
+        ActorRef receiver = actorRef(RECEIVER);
+        InternalMessage original = new DefaultInternalMessage(
+            null,
+            receiver,
+            ByteBuffer.wrap(new byte[]{1, 2, 3}),
+            DestroyActorMessage.class.getName(),
+            null,
+            true
+        );
+        InternalMessage deserialized = deserializer(null, receiver)
+            .deserialize(ByteBuffer.wrap(InternalMessageSerializer.get().serialize(original)));
+        AtomicInteger deserializations = new AtomicInteger();
+        MessageDeserializer<DestroyActorMessage> messageDeserializer = new MessageDeserializer<>() {
+            @Nonnull
+            @Override
+            public DestroyActorMessage deserialize(@Nonnull ByteBuffer serializedObject) {
+                deserializations.incrementAndGet();
+                return new DestroyActorMessage(receiver);
+            }
+
+            @Nonnull
+            @Override
+            public Class<DestroyActorMessage> getMessageClass() {
+                return DestroyActorMessage.class;
+            }
+        };
+
+        assertFalse(deserialized.hasPayloadObject());
+        DestroyActorMessage first = deserialized.getPayload(messageDeserializer);
+        assertTrue(deserialized.hasPayloadObject());
+        assertSame(first.getActorRef(), receiver);
+        assertSame(deserialized.getPayload(messageDeserializer), first);
+        assertSame(deserialized.getType(), DestroyActorMessage.class);
+        assertEquals(deserializations.get(), 1);
+    }
+
+    @Test
+    public void testInstalledSerializerNotifiesListener() throws IOException {
+        ActorRef receiver = actorRef(RECEIVER);
+        AtomicInteger compressions = new AtomicInteger();
+        AtomicInteger decompressions = new AtomicInteger();
+        InternalMessagePayloadCompression.Listener listener = new InternalMessagePayloadCompression.Listener() {
+            @Override
+            public void onCompressed(String payloadClass, int length, int compressedLength, long durationNanos) {
+                compressions.incrementAndGet();
+            }
+
+            @Override
+            public void onDecompressed(String payloadClass, int compressedLength, int length, long durationNanos) {
+                decompressions.incrementAndGet();
+            }
+        };
+        InternalMessageSerializer serializer =
+            new InternalMessageSerializer(new InternalMessagePayloadCompression(new PayloadCompressor(512), listener), false);
+        ByteBuffer payload = ByteBuffer.wrap("payload ".repeat(512).getBytes(StandardCharsets.UTF_8));
+        InternalMessage original = new DefaultInternalMessage(
+            null,
+            receiver,
+            payload,
+            DestroyActorMessage.class.getName(),
+            null,
+            true
+        );
+
+        serializer.install();
+        try {
+            assertSame(InternalMessageSerializer.get(), serializer);
+            InternalMessage deserialized =
+                deserializer(null, receiver).deserialize(ByteBuffer.wrap(original.toByteArray()));
+            assertEquals(deserialized.getPayload(), payload);
+        } finally {
+            serializer.uninstall();
+        }
+
+        assertEquals(compressions.get(), 1);
+        assertEquals(decompressions.get(), 1);
+        assertTrue(InternalMessageSerializer.get() != serializer);
+    }
+
+    @Test
+    public void testNodesInTheSameJvmShareTheInstalledSerializer() {
+        InternalMessageSerializer first =
+            new InternalMessageSerializer(new InternalMessagePayloadCompression(new PayloadCompressor(512), null), true);
+        InternalMessageSerializer second =
+            new InternalMessageSerializer(new InternalMessagePayloadCompression(new PayloadCompressor(512), null), true);
+        InternalMessageSerializer different = new InternalMessageSerializer(InternalMessagePayloadCompression.disabled(), true);
+
+        first.install();
+        try {
+            second.install();
+            assertSame(InternalMessageSerializer.get(), first);
+            expectThrows(IllegalStateException.class, different::install);
+
+            first.uninstall();
+            // still in use by the second node
+            assertSame(InternalMessageSerializer.get(), first);
+            second.uninstall();
+            assertTrue(InternalMessageSerializer.get() != first);
+        } finally {
+            first.uninstall();
+            second.uninstall();
+        }
+    }
+
+    @Test
+    public void testCompressedPayload() throws IOException {
+        ActorRef receiver = actorRef(RECEIVER);
+        InternalMessageSerializer serializer =
+            new InternalMessageSerializer(new InternalMessagePayloadCompression(new PayloadCompressor(512), null), false);
+        ByteBuffer payload = ByteBuffer.wrap("payload ".repeat(512).getBytes(StandardCharsets.UTF_8));
+        InternalMessage original = new DefaultInternalMessage(
+            null,
+            receiver,
+            payload,
+            DestroyActorMessage.class.getName(),
+            null,
+            true
+        );
+        byte[] compressed = serializer.serialize(original);
+        assertTrue(compressed.length < InternalMessageSerializer.get().serialize(original).length);
+
+        LazyInternalMessage deserialized =
+            (LazyInternalMessage) deserializer(null, receiver).deserialize(ByteBuffer.wrap(compressed));
+
+        assertEquals(deserialized.getPayload(), payload);
+        assertTrue(deserialized.getCompressedPayload() != null);
+        // forwarded without decompressing it again
+        assertEquals(serializer.serialize(deserialized), compressed);
+        // small payloads are sent as-is
+        InternalMessage small = new DefaultInternalMessage(
+            null,
+            receiver,
+            ByteBuffer.wrap(new byte[]{1, 2, 3}),
+            DestroyActorMessage.class.getName(),
+            null,
+            true
+        );
+        LazyInternalMessage smallDeserialized = (LazyInternalMessage) deserializer(null, receiver)
+            .deserialize(ByteBuffer.wrap(serializer.serialize(small)));
+        assertNull(smallDeserialized.getCompressedPayload());
+        assertEquals(smallDeserialized.getPayload(), ByteBuffer.wrap(new byte[]{1, 2, 3}));
+    }
+
+    private static ActorRef actorRef(String refSpec) {
+        ActorRef actorRef = mock(ActorRef.class);
+        when(actorRef.toString()).thenReturn(refSpec);
+        when(actorRef.getActorId()).thenReturn(refSpec.substring(refSpec.lastIndexOf('/') + 1));
+        return actorRef;
+    }
+
+    private static InternalMessageDeserializer deserializer(ActorRef sender, ActorRef receiver) {
+        return new InternalMessageDeserializer(
+            new ActorRefDeserializer(refSpec -> refSpec.equals(SENDER) ? sender : receiver));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.state;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ActorExistenceFilterTest {
+
+    @Test
+    public void testEverythingMightExistUntilReady() {
+        ActorExistenceFilter filter = new ActorExistenceFilter(100, 0.01d);
+        assertTrue(filter.mightContain("actor-1"));
+        filter.markReady();
+        assertFalse(filter.mightContain("actor-1"));
+        filter.close();
+        assertTrue(filter.mightContain("actor-1"));
+    }
+
+    @Test
+    public void testNoFalseNegativesWhenGrowing() {
+        ActorExistenceFilter filter = new ActorExistenceFilter(100, 0.01d);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("actor-" + i);
+        }
+        filter.markReady();
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("actor-" + i));
+        }
+        int falsePositives = 0;
+        for (int i = 10_000; i < 20_000; i++) {
+            if (filter.mightContain("actor-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 200, "Too many false positives: " + falsePositives);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.util.concurrent.backpressure;
+
+import org.elasticsoftware.elasticactors.util.concurrent.BackpressureListener;
+import org.elasticsoftware.elasticactors.util.concurrent.BlockingQueueThreadBoundExecutor;
+import org.elasticsoftware.elasticactors.util.concurrent.DaemonThreadFactory;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnable;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class WatermarkBackpressureTest {
+
+    @Test
+    public void testListenersAreNotifiedWhenCrossingWatermarks() {
+        WatermarkBackpressure backpressure =
+            new WatermarkBackpressure(new BackpressureConfiguration("test", 10, 5));
+        RecordingListener listener = new RecordingListener();
+        backpressure.addListener(listener);
+
+        backpressure.increment(9);
+        assertFalse(backpressure.isApplied());
+        backpressure.increment(1);
+        assertTrue(backpressure.isApplied());
+        // staying between the watermarks doesn't change anything
+        backpressure.increment(5);
+        backpressure.decrement(9);
+        assertTrue(backpressure.isApplied());
+        backpressure.decrement(1);
+        assertFalse(backpressure.isApplied());
+        backpressure.increment(5);
+        assertTrue(backpressure.isApplied());
+
+        assertEquals(listener.signals, List.of(true, false, true));
+        assertEquals(backpressure.getAppliedCount(), 2L);
+    }
+
+    @Test
+    public void testLateListenerIsToldBackpressureIsApplied() {
+        WatermarkBackpressure backpressure =
+            new WatermarkBackpressure(new BackpressureConfiguration("test", 2, 0));
+        backpressure.increment(2);
+        RecordingListener listener = new RecordingListener();
+        backpressure.addListener(listener);
+        backpressure.decrement(2);
+
+        assertEquals(listener.signals, List.of(true, false));
+    }
+
+    @Test
+    public void testExecutorAppliesBackpressureWhileEventsAreOutstanding() throws Exception {
+        BlockingQueueThreadBoundExecutor executor = new BlockingQueueThreadBoundExecutor(
+            new DaemonThreadFactory("BACKPRESSURE-TEST"),
+            1,
+            null,
+            null,
+            new BackpressureConfiguration("test", 4, 1)
+        );
+        RecordingListener listener = new RecordingListener();
+        executor.addBackpressureListener(listener);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(4);
+        try {
+            for (int i = 0; i < 4; i++) {
+                executor.execute(new Task(blocker, done));
+            }
+            assertEquals(listener.getSignals(), List.of(true));
+            blocker.countDown();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            // the last decrement happens right after the task has run
+            for (int i = 0; i < 1000 && listener.getSignals().size() < 2; i++) {
+                Thread.sleep(5);
+            }
+            assertEquals(listener.getSignals(), List.of(true, false));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static final class RecordingListener implements BackpressureListener {
+
+        private final List<Boolean> signals = new ArrayList<>();
+
+        @Override
+        public synchronized void onBackpressureApplied() {
+            signals.add(true);
+        }
+
+        @Override
+        public synchronized void onBackpressureReleased() {
+            signals.add(false);
+        }
+
+        synchronized List<Boolean> getSignals() {
+            return new ArrayList<>(signals);
+        }
+    }
+
+    private static final class Task implements ThreadBoundRunnable<String> {
+
+        private final CountDownLatch blocker;
+        private final CountDownLatch done;
+
+        private Task(CountDownLatch blocker, CountDownLatch done) {
+            this.blocker = blocker;
+            this.done = done;
+        }
+
+        @Override
+        public String getKey() {
+            return "key";
+        }
+
+        @Override
+        public void run() {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        }
+    }
+}
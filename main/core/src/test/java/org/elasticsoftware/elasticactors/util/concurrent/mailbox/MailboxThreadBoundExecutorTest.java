@@ -0,0 +1,183 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.util.concurrent.mailbox;
+
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnable;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnableEventProcessor;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class MailboxThreadBoundExecutorTest {
+
+    private MailboxThreadBoundExecutor executor;
+
+    @BeforeMethod
+    public void setUp() {
+        // a parallelism of 1 would pin every key together on a fixed thread executor
+        executor = new MailboxThreadBoundExecutor(
+            new ThreadBoundRunnableEventProcessor(),
+            8,
+            "MAILBOX-TEST",
+            2,
+            true,
+            null
+        );
+        executor.init();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testPerKeyOrdering() throws InterruptedException {
+        final int keys = 16;
+        final int eventsPerKey = 5_000;
+        AtomicInteger[] next = new AtomicInteger[keys];
+        AtomicInteger outOfOrder = new AtomicInteger();
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger[] running = new AtomicInteger[keys];
+        CountDownLatch done = new CountDownLatch(keys * eventsPerKey);
+        for (int k = 0; k < keys; k++) {
+            next[k] = new AtomicInteger();
+            running[k] = new AtomicInteger();
+        }
+        for (int i = 0; i < eventsPerKey; i++) {
+            for (int k = 0; k < keys; k++) {
+                final int key = k;
+                final int sequence = i;
+                executor.execute(new KeyedRunnable("key-" + k, () -> {
+                    if (running[key].incrementAndGet() != 1) {
+                        concurrent.incrementAndGet();
+                    }
+                    if (next[key].getAndIncrement() != sequence) {
+                        outOfOrder.incrementAndGet();
+                    }
+                    running[key].decrementAndGet();
+                    done.countDown();
+                }));
+            }
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        assertEquals(outOfOrder.get(), 0);
+        assertEquals(concurrent.get(), 0);
+    }
+
+    @Test
+    public void testBlockedKeyDoesNotStallOtherKeys() throws InterruptedException {
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch others = new CountDownLatch(100);
+        try {
+            executor.execute(new KeyedRunnable("blocking", () -> {
+                blocked.countDown();
+                try {
+                    blocker.await();
+                } catch (InterruptedException ignored) {
+                }
+            }));
+            assertTrue(blocked.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 100; i++) {
+                executor.execute(new KeyedRunnable("other-" + i, others::countDown));
+            }
+            assertTrue(others.await(10, TimeUnit.SECONDS));
+        } finally {
+            blocker.countDown();
+        }
+    }
+
+    @Test
+    public void testBlockedKeysDoNotStallOtherKeysWithoutVirtualThreads() throws InterruptedException {
+        executor.shutdown();
+        executor = new MailboxThreadBoundExecutor(
+            new ThreadBoundRunnableEventProcessor(),
+            8,
+            "MAILBOX-TEST",
+            2,
+            false,
+            null
+        );
+        executor.init();
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(4);
+        CountDownLatch others = new CountDownLatch(100);
+        try {
+            // more blocking keys than the parallelism
+            for (int i = 0; i < 4; i++) {
+                executor.execute(new KeyedRunnable("blocking-" + i, () -> {
+                    blocked.countDown();
+                    try {
+                        blocker.await();
+                    } catch (InterruptedException ignored) {
+                    }
+                }));
+            }
+            assertTrue(blocked.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 100; i++) {
+                executor.execute(new KeyedRunnable("other-" + i, others::countDown));
+            }
+            assertTrue(others.await(10, TimeUnit.SECONDS));
+        } finally {
+            blocker.countDown();
+        }
+    }
+
+    @Test
+    public void testIdleMailboxesAreReclaimed() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1000);
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(new KeyedRunnable("key-" + i, done::countDown));
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (executor.getActiveMailboxCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(executor.getActiveMailboxCount(), 0);
+    }
+
+    private static final class KeyedRunnable implements ThreadBoundRunnable<String> {
+
+        private final String key;
+        private final Runnable delegate;
+
+        private KeyedRunnable(String key, Runnable delegate) {
+            this.key = key;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public void run() {
+            delegate.run();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.util.concurrent.mpsc;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class MpscArrayQueueTest {
+
+    @Test
+    public void testBoundedCapacity() {
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(6);
+        assertEquals(queue.capacity(), 8);
+        for (int i = 0; i < 8; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(8));
+        assertEquals(queue.size(), 8);
+        assertEquals(queue.remainingCapacity(), 0);
+
+        assertEquals(queue.poll(), Integer.valueOf(0));
+        assertEquals(queue.remainingCapacity(), 1);
+        assertTrue(queue.offer(8));
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(queue.drainTo(drained, 5), 5);
+        assertEquals(drained, List.of(1, 2, 3, 4, 5));
+        assertEquals(queue.drainTo(drained, 10), 3);
+        assertEquals(drained.get(drained.size() - 1), Integer.valueOf(8));
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testMultipleProducersKeepTheirOwnOrder() throws InterruptedException {
+        final int producers = 4;
+        final int eventsPerProducer = 10_000;
+        MpscArrayQueue<long[]> queue = new MpscArrayQueue<>(64);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (long i = 0; i < eventsPerProducer; i++) {
+                    long[] event = {producer, i};
+                    while (!queue.offer(event)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+        start.countDown();
+
+        long[] expected = new long[producers];
+        List<long[]> batch = new ArrayList<>();
+        int received = 0;
+        while (received < producers * eventsPerProducer) {
+            long[] event = queue.poll();
+            if (event == null) {
+                Thread.yield();
+                continue;
+            }
+            batch.add(event);
+            queue.drainTo(batch, 31);
+            for (long[] e : batch) {
+                assertEquals(e[1], expected[(int) e[0]]++);
+            }
+            received += batch.size();
+            batch.clear();
+        }
+        assertTrue(queue.isEmpty());
+    }
+}
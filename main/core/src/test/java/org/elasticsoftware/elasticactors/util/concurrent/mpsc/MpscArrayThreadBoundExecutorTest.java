@@ -0,0 +1,135 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.util.concurrent.mpsc;
+
+import org.elasticsoftware.elasticactors.util.concurrent.DaemonThreadFactory;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnable;
+import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnableEventProcessor;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class MpscArrayThreadBoundExecutorTest {
+
+    @Test
+    public void testRejectWhenFull() throws InterruptedException {
+        MpscArrayThreadBoundExecutor executor = new MpscArrayThreadBoundExecutor(
+            new ThreadBoundRunnableEventProcessor(),
+            1,
+            new DaemonThreadFactory("MPSC-TEST"),
+            1,
+            2,
+            WaitStrategy.PARK,
+            OverflowPolicy.REJECT,
+            null
+        );
+        executor.init();
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            executor.execute(new KeyedRunnable("key", () -> {
+                started.countDown();
+                try {
+                    blocker.await();
+                } catch (InterruptedException ignored) {
+                }
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            executor.execute(new KeyedRunnable("key", () -> { }));
+            executor.execute(new KeyedRunnable("key", () -> { }));
+            try {
+                executor.execute(new KeyedRunnable("key", () -> { }));
+                fail("Expected the executor to reject the event");
+            } catch (RejectedExecutionException expected) {
+                // expected
+            }
+        } finally {
+            blocker.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testPerKeyOrdering() throws InterruptedException {
+        MpscArrayThreadBoundExecutor executor = new MpscArrayThreadBoundExecutor(
+            new ThreadBoundRunnableEventProcessor(),
+            16,
+            new DaemonThreadFactory("MPSC-TEST"),
+            4,
+            16,
+            WaitStrategy.PARK,
+            OverflowPolicy.BLOCK,
+            null
+        );
+        executor.init();
+        final int keys = 8;
+        final int eventsPerKey = 10_000;
+        AtomicInteger[] next = new AtomicInteger[keys];
+        AtomicInteger outOfOrder = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(keys * eventsPerKey);
+        for (int k = 0; k < keys; k++) {
+            next[k] = new AtomicInteger();
+        }
+        try {
+            for (int i = 0; i < eventsPerKey; i++) {
+                for (int k = 0; k < keys; k++) {
+                    final int key = k;
+                    final int sequence = i;
+                    executor.execute(new KeyedRunnable("key-" + k, () -> {
+                        if (next[key].getAndIncrement() != sequence) {
+                            outOfOrder.incrementAndGet();
+                        }
+                        done.countDown();
+                    }));
+                }
+            }
+            assertTrue(done.await(30, TimeUnit.SECONDS));
+            assertEquals(outOfOrder.get(), 0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static final class KeyedRunnable implements ThreadBoundRunnable<String> {
+
+        private final String key;
+        private final Runnable delegate;
+
+        private KeyedRunnable(String key, Runnable delegate) {
+            this.key = key;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public void run() {
+            delegate.run();
+        }
+    }
+}
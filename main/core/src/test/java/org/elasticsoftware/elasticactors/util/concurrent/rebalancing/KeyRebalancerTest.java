@@ -0,0 +1,94 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.util.concurrent.rebalancing;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+public class KeyRebalancerTest {
+
+    private static final int THREADS = 4;
+
+    @Test
+    public void testHotKeyIsOnlyMovedAfterBeingDrained() {
+        KeyRebalancer rebalancer =
+            new KeyRebalancer(new KeyRebalancingConfiguration(0.01d, 2.0d, 4, 1024), THREADS);
+        String hotKey = "hot";
+        int defaultThread = Math.abs(hotKey.hashCode()) % THREADS;
+        String neighbour = findKeyForThread(defaultThread);
+
+        // keep the default thread busy with another key
+        for (int i = 0; i < 10; i++) {
+            assertEquals(rebalancer.acquire(neighbour), defaultThread);
+        }
+        // the hot key has outstanding events, so it must stay where it is
+        for (int i = 0; i < 100; i++) {
+            assertEquals(rebalancer.acquire(hotKey), defaultThread);
+        }
+        assertEquals(rebalancer.getReassignments(), 0L);
+
+        for (int i = 0; i < 100; i++) {
+            rebalancer.release(defaultThread, hotKey);
+        }
+
+        // now it's drained, so the next event can go to a less loaded thread
+        int newThread = rebalancer.acquire(hotKey);
+        assertNotEquals(newThread, defaultThread);
+        assertEquals(rebalancer.getReassignments(), 1L);
+        // and subsequent events follow it while it's pending
+        assertEquals(rebalancer.acquire(hotKey), newThread);
+        assertEquals(rebalancer.getOutstandingEvents(newThread), 2L);
+        assertEquals(rebalancer.getOutstandingEvents(defaultThread), 10L);
+    }
+
+    @Test
+    public void testColdKeysStayOnTheirDefaultThread() {
+        KeyRebalancer rebalancer =
+            new KeyRebalancer(new KeyRebalancingConfiguration(0.5d, 2.0d, 4, 1024), THREADS);
+        for (int i = 0; i < 1000; i++) {
+            String key = "key-" + i;
+            int thread = rebalancer.acquire(key);
+            assertEquals(thread, Math.abs(key.hashCode()) % THREADS);
+            rebalancer.release(thread, key);
+        }
+        assertEquals(rebalancer.getReassignments(), 0L);
+    }
+
+    @Test
+    public void testIdleKeysAreForgotten() {
+        KeyRebalancer rebalancer =
+            new KeyRebalancer(new KeyRebalancingConfiguration(0.01d, 2.0d, 4, 16), THREADS);
+        for (int i = 0; i < 1000; i++) {
+            String key = "key-" + i;
+            rebalancer.release(rebalancer.acquire(key), key);
+        }
+        assertTrue(rebalancer.getTrackedKeys() <= 17L);
+    }
+
+    private static String findKeyForThread(int thread) {
+        for (int i = 0; ; i++) {
+            String key = "key-" + i;
+            if (Math.abs(key.hashCode()) % THREADS == thread) {
+                return key;
+            }
+        }
+    }
+}
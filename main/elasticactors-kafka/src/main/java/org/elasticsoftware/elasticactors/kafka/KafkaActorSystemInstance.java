@@ -73,10 +73,9 @@ import org.elasticsoftware.elasticactors.messaging.internal.InternalHashKeyUtils
 import org.elasticsoftware.elasticactors.runtime.ElasticActorsNode;
 import org.elasticsoftware.elasticactors.scheduler.Scheduler;
 import org.elasticsoftware.elasticactors.serialization.Deserializer;
-import org.elasticsoftware.elasticactors.serialization.Message;
 import org.elasticsoftware.elasticactors.serialization.MessageDeserializer;
+import org.elasticsoftware.elasticactors.serialization.MessageMetadata;
 import org.elasticsoftware.elasticactors.serialization.MessageSerializer;
-import org.elasticsoftware.elasticactors.serialization.SerializationFramework;
 import org.elasticsoftware.elasticactors.serialization.Serializer;
 import org.elasticsoftware.elasticactors.state.PersistentActor;
 import org.slf4j.Logger;
@@ -264,11 +263,7 @@ public final class KafkaActorSystemInstance implements InternalActorSystem, Shar
     public <T> MessageSerializer<T> getSerializer(Class<T> messageClass) {
         MessageSerializer<T> messageSerializer = cluster.getSystemMessageSerializer(messageClass);
         if(messageSerializer == null) {
-            Message messageAnnotation = messageClass.getAnnotation(Message.class);
-            if(messageAnnotation != null) {
-                SerializationFramework framework = cluster.getSerializationFramework(messageAnnotation.serializationFramework());
-                messageSerializer = framework.getSerializer(messageClass);
-            }
+            messageSerializer = MessageMetadata.get(messageClass).getSerializer(cluster);
         }
         return messageSerializer;
     }
@@ -277,11 +272,7 @@ public final class KafkaActorSystemInstance implements InternalActorSystem, Shar
     public <T> MessageDeserializer<T> getDeserializer(Class<T> messageClass) {
         MessageDeserializer<T> messageDeserializer = cluster.getSystemMessageDeserializer(messageClass);
         if(messageDeserializer == null) {
-            Message messageAnnotation = messageClass.getAnnotation(Message.class);
-            if(messageAnnotation != null) {
-                SerializationFramework framework = cluster.getSerializationFramework(messageAnnotation.serializationFramework());
-                messageDeserializer = framework.getDeserializer(messageClass);
-            }
+            messageDeserializer = MessageMetadata.get(messageClass).getDeserializer(cluster);
         }
         return messageDeserializer;
     }
@@ -204,7 +204,7 @@ public final class KafkaActorThread extends Thread {
         consumerConfig.put(ConsumerConfig.GROUP_ID_CONFIG, clusterName);
         consumerConfig.put(CommonClientConfigs.CLIENT_ID_CONFIG, nodeId + "-" + getName() + "-consumer");
 
-        InternalMessageDeserializer internalMessageDeserializer = new InternalMessageDeserializer(new ActorRefDeserializer(actorRefFactory), internalActorSystem);
+        InternalMessageDeserializer internalMessageDeserializer = new InternalMessageDeserializer(new ActorRefDeserializer(actorRefFactory));
         messageConsumer = new KafkaConsumer<>(consumerConfig, new UUIDDeserializer(), new KafkaInternalMessageDeserializer(internalMessageDeserializer));
 
         final Map<String, Object> producerConfig = new HashMap<>();
@@ -1192,6 +1192,7 @@ public final class KafkaActorThread extends Thread {
                     return null;
                 }
             } else {
+                shardActorCacheManager.reweighIfNeeded(actorCache, actorRef, persistentActor);
                 return persistentActor;
             }
         }
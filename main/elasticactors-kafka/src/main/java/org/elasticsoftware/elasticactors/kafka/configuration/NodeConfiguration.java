@@ -29,6 +29,7 @@ import org.elasticsoftware.elasticactors.InternalActorSystemConfiguration;
 import org.elasticsoftware.elasticactors.ManagedActorsRegistry;
 import org.elasticsoftware.elasticactors.ShardKey;
 import org.elasticsoftware.elasticactors.base.serialization.ObjectMapperBuilder;
+import org.elasticsoftware.elasticactors.cache.CacheImplementation;
 import org.elasticsoftware.elasticactors.cache.NodeActorCacheManager;
 import org.elasticsoftware.elasticactors.cache.ShardActorCacheManager;
 import org.elasticsoftware.elasticactors.cluster.HashingNodeSelectorFactory;
@@ -52,6 +53,12 @@ import org.elasticsoftware.elasticactors.serialization.Deserializer;
 import org.elasticsoftware.elasticactors.serialization.SerializationFrameworks;
 import org.elasticsoftware.elasticactors.serialization.Serializer;
 import org.elasticsoftware.elasticactors.serialization.SystemSerializationFramework;
+import org.elasticsoftware.elasticactors.serialization.compression.CompressionAlgorithm;
+import org.elasticsoftware.elasticactors.serialization.compression.CompressionDictionaries;
+import org.elasticsoftware.elasticactors.serialization.compression.PayloadCompressor;
+import org.elasticsoftware.elasticactors.serialization.internal.InternalMessagePayloadCompression;
+import org.elasticsoftware.elasticactors.serialization.internal.InternalMessagePayloadCompressionMetrics;
+import org.elasticsoftware.elasticactors.serialization.internal.InternalMessageSerializer;
 import org.elasticsoftware.elasticactors.serialization.internal.PersistentActorDeserializer;
 import org.elasticsoftware.elasticactors.serialization.internal.PersistentActorSerializer;
 import org.elasticsoftware.elasticactors.state.PersistentActor;
@@ -86,7 +93,8 @@ public class NodeConfiguration {
     @DependsOn({
         "messageHandlersRegistry",
         "managedActorsRegistry",
-        "actorLifecycleListenerRegistry"
+        "actorLifecycleListenerRegistry",
+        "internalMessageSerializer"
     })
     public ElasticActorsNode createElasticActorsNode(
         Environment env,
@@ -122,6 +130,40 @@ public class NodeConfiguration {
         }
     }
 
+    @Bean(name = {"internalMessageSerializer"}, initMethod = "install", destroyMethod = "uninstall")
+    public InternalMessageSerializer createInternalMessageSerializer(
+        Environment env,
+        @Qualifier("internalMessagePayloadCompressionMetrics") InternalMessagePayloadCompressionMetrics payloadCompressionMetrics)
+    {
+        PayloadCompressor payloadCompressor = null;
+        if (env.getProperty("ea.serialization.payloadCompression.enabled", Boolean.class, Boolean.FALSE)) {
+            payloadCompressor = new PayloadCompressor(
+                env.getProperty("ea.serialization.payloadCompression.algorithm", CompressionAlgorithm.class, CompressionAlgorithm.LZ4),
+                env.getProperty("ea.serialization.payloadCompression.threshold", Integer.class, 4096),
+                env.getProperty("ea.serialization.payloadCompression.level", Integer.class, 3),
+                CompressionDictionaries.none()
+            );
+        }
+        return new InternalMessageSerializer(
+            new InternalMessagePayloadCompression(
+                payloadCompressor,
+                payloadCompressionMetrics.isEnabled() ? payloadCompressionMetrics : null
+            ),
+            env.getProperty("ea.serialization.compactActorRefs.enabled", Boolean.class, Boolean.FALSE)
+        );
+    }
+
+    @Bean(name = {"internalMessagePayloadCompressionMetrics"}, destroyMethod = "unregister")
+    public InternalMessagePayloadCompressionMetrics createInternalMessagePayloadCompressionMetrics(
+        Environment env,
+        @Nullable @Qualifier("elasticActorsMeterRegistry") MeterRegistry meterRegistry,
+        @Nullable @Qualifier("elasticActorsMeterTagCustomizer") MicrometerTagCustomizer tagCustomizer)
+    {
+        return new InternalMessagePayloadCompressionMetrics(
+            MicrometerConfiguration.build(env, meterRegistry, "payloadCompression", tagCustomizer)
+        );
+    }
+
     @Bean(name = {"actorSystemConfiguration"})
     public InternalActorSystemConfiguration createConfiguration(
         ResourceLoader resourceLoader,
@@ -181,12 +223,17 @@ public class NodeConfiguration {
         @Nullable @Qualifier("elasticActorsMeterTagCustomizer") MicrometerTagCustomizer tagCustomizer)
     {
         int maximumSize = env.getProperty("ea.nodeCache.maximumSize",Integer.class,10240);
+        long maximumWeight = env.getProperty("ea.nodeCache.maximumWeight", Long.class, 0L);
         long expirationCheckPeriod =
             env.getProperty("ea.nodeCache.expirationCheckPeriod", Long.class, 30000L);
+        CacheImplementation cacheImplementation =
+            env.getProperty("ea.nodeCache.type", CacheImplementation.class, CacheImplementation.GUAVA);
         return new NodeActorCacheManager(
             maximumSize,
+            maximumWeight,
             expirationCheckPeriod,
-            MicrometerConfiguration.build(env, meterRegistry, "nodeActorCache", tagCustomizer)
+            MicrometerConfiguration.build(env, meterRegistry, "nodeActorCache", tagCustomizer),
+            cacheImplementation
         );
     }
 
@@ -197,9 +244,14 @@ public class NodeConfiguration {
         @Nullable @Qualifier("elasticActorsMeterTagCustomizer") MicrometerTagCustomizer tagCustomizer)
     {
         int maximumSize = env.getProperty("ea.shardCache.maximumSize",Integer.class,10240);
+        long maximumWeight = env.getProperty("ea.shardCache.maximumWeight", Long.class, 0L);
+        CacheImplementation cacheImplementation =
+            env.getProperty("ea.shardCache.type", CacheImplementation.class, CacheImplementation.GUAVA);
         return new ShardActorCacheManager(
             maximumSize,
-            MicrometerConfiguration.build(env, meterRegistry, "shardActorCache", tagCustomizer)
+            maximumWeight,
+            MicrometerConfiguration.build(env, meterRegistry, "shardActorCache", tagCustomizer),
+            cacheImplementation
         );
     }
 
@@ -220,7 +272,21 @@ public class NodeConfiguration {
                 Runtime.getRuntime().availableProcessors());
         final String bootstrapServers = env.getRequiredProperty("ea.kafka.bootstrapServers");
         final Integer compressionThreshold = env.getProperty("ea.persistentActorRepository.compressionThreshold",Integer.class, 512);
-        Serializer<PersistentActor<ShardKey>,byte[]> serializer = new CompressingSerializer<>(new PersistentActorSerializer(node),compressionThreshold);
+        // there is no shared store for trained dictionaries on this backplane, so zstd is used without them
+        PayloadCompressor compressor = new PayloadCompressor(
+            env.getProperty("ea.persistentActorRepository.compressionAlgorithm", CompressionAlgorithm.class, CompressionAlgorithm.LZ4),
+            compressionThreshold,
+            env.getProperty("ea.persistentActorRepository.compressionLevel", Integer.class, 3),
+            CompressionDictionaries.none()
+        );
+        Serializer<PersistentActor<ShardKey>,byte[]> serializer = new CompressingSerializer<>(
+            new PersistentActorSerializer(
+                node,
+                env.getProperty("ea.serialization.compactActorRefs.enabled", Boolean.class, Boolean.FALSE)
+            ),
+            compressor,
+            persistentActor -> persistentActor.getActorClass().getName()
+        );
         Deserializer<byte[],PersistentActor<ShardKey>> deserializer = new DecompressingDeserializer<>(new PersistentActorDeserializer(node, node));
         // NOTE: the node topic will be created with ea.shardThreads.workerCount number of partitions, changing this
         // value will require you to update the topic or face serious issues otherwise
@@ -14,48 +14,46 @@
  *     limitations under the License.
  *
  */
-
 package org.elasticsoftware.elasticactors.kafka.serialization;
 
-import net.jpountz.lz4.LZ4Compressor;
-import net.jpountz.lz4.LZ4Factory;
 import org.elasticsoftware.elasticactors.serialization.Serializer;
+import org.elasticsoftware.elasticactors.serialization.compression.PayloadCompressor;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.function.Function;
 
 /**
  * @author Joost van de Wijgerd
  */
 public final class CompressingSerializer<I> implements Serializer<I, byte[]> {
-    private static final LZ4Compressor lz4Compressor = LZ4Factory.fastestJavaInstance().fastCompressor();
-    private static final byte[] MAGIC_HEADER = {0x18,0x4D,0x22,0x04};
     private final Serializer<I,byte[]> delegate;
-    private final int compressionThreshold;
+    private final PayloadCompressor compressor;
+    private final Function<I, String> compressionKeyFunction;
 
     public CompressingSerializer(Serializer<I, byte[]> delegate) {
         this(delegate,2048);
     }
 
     public CompressingSerializer(Serializer<I, byte[]> delegate, int compressionThreshold) {
+        this(delegate, new PayloadCompressor(compressionThreshold), object -> object.getClass().getName());
+    }
+
+    public CompressingSerializer(
+        Serializer<I, byte[]> delegate,
+        PayloadCompressor compressor,
+        Function<I, String> compressionKeyFunction)
+    {
         this.delegate = delegate;
-        this.compressionThreshold = compressionThreshold;
+        this.compressor = compressor;
+        this.compressionKeyFunction = compressionKeyFunction;
     }
 
     @Override
     public byte[] serialize(I object) throws IOException {
         byte[] serializedObject = delegate.serialize(object);
-        if(serializedObject.length > compressionThreshold) {
-            byte[] compressedBytes =  lz4Compressor.compress(serializedObject);
-            ByteBuffer buffer =
-                ByteBuffer.allocate(MAGIC_HEADER.length + Integer.BYTES + compressedBytes.length);
-            buffer.put(MAGIC_HEADER);
-            buffer.putInt(serializedObject.length);
-            buffer.put(compressedBytes);
-            buffer.rewind();
-            return buffer.array();
-        } else {
-            return serializedObject;
-        }
+        ByteBuffer buffer = compressor.compress(compressionKeyFunction.apply(object), serializedObject);
+        // both compressed and uncompressed payloads are backed by an array of exactly the right size
+        return buffer.array();
     }
 }
@@ -14,12 +14,10 @@
  *     limitations under the License.
  *
  */
-
 package org.elasticsoftware.elasticactors.kafka.serialization;
 
-import net.jpountz.lz4.LZ4Factory;
-import net.jpountz.lz4.LZ4FastDecompressor;
 import org.elasticsoftware.elasticactors.serialization.Deserializer;
+import org.elasticsoftware.elasticactors.serialization.compression.PayloadDecompressor;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -28,50 +26,25 @@ import java.nio.ByteBuffer;
  * @author Joost van de Wijgerd
  */
 public final class DecompressingDeserializer<O> implements Deserializer<byte[],O> {
-    private static final LZ4FastDecompressor lz4Decompressor = LZ4Factory.fastestJavaInstance().fastDecompressor();
-    private static final byte[] MAGIC_HEADER = {0x18,0x4D,0x22,0x04};
     private final Deserializer<ByteBuffer,O> delegate;
+    private final PayloadDecompressor decompressor;
 
     public DecompressingDeserializer(Deserializer<ByteBuffer, O> delegate) {
+        this(delegate, new PayloadDecompressor());
+    }
+
+    public DecompressingDeserializer(Deserializer<ByteBuffer, O> delegate, PayloadDecompressor decompressor) {
         this.delegate = delegate;
+        this.decompressor = decompressor;
     }
 
     @Override
     public O deserialize(byte[] serializedBuffer) throws IOException {
-        if(isCompressed(serializedBuffer)) {
-            ByteBuffer buffer = ByteBuffer.wrap(serializedBuffer);
-            // skip the header
-            buffer.position(MAGIC_HEADER.length);
-            int uncompressedLength = buffer.getInt();
-            buffer.rewind();
-            ByteBuffer destination = ByteBuffer.allocate(uncompressedLength);
-            lz4Decompressor.decompress(
-                buffer,
-                MAGIC_HEADER.length + Integer.BYTES,
-                destination,
-                0,
-                uncompressedLength
-            );
-            return delegate.deserialize(destination);
-        } else {
-            return delegate.deserialize(ByteBuffer.wrap(serializedBuffer));
-        }
+        return delegate.deserialize(decompressor.decompress(ByteBuffer.wrap(serializedBuffer)));
     }
 
     @Override
     public boolean isSafe() {
         return delegate.isSafe();
     }
-
-    private boolean isCompressed(byte[] bytes) {
-        if (bytes.length < MAGIC_HEADER.length) {
-            return false;
-        }
-        for (int i = 0; i < MAGIC_HEADER.length; i++) {
-            if (bytes[i] != MAGIC_HEADER[i]) {
-                return false;
-            }
-        }
-        return true;
-    }
 }
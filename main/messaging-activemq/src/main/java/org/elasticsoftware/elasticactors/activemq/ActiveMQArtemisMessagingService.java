@@ -25,22 +25,27 @@ import org.apache.activemq.artemis.api.core.client.ClientSessionFactory;
 import org.apache.activemq.artemis.api.core.client.ServerLocator;
 import org.apache.activemq.artemis.core.remoting.impl.netty.NettyConnectorFactory;
 import org.elasticsoftware.elasticactors.PhysicalNode;
+import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+import org.elasticsoftware.elasticactors.messaging.InternalMessageBatching;
 import org.elasticsoftware.elasticactors.messaging.MessageHandler;
 import org.elasticsoftware.elasticactors.messaging.MessageQueue;
 import org.elasticsoftware.elasticactors.messaging.MessageQueueFactory;
 import org.elasticsoftware.elasticactors.messaging.MessageQueueFactoryFactory;
 import org.elasticsoftware.elasticactors.messaging.MessagingService;
 import org.elasticsoftware.elasticactors.serialization.internal.InternalMessageDeserializer;
+import org.elasticsoftware.elasticactors.util.concurrent.DaemonThreadFactory;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.annotation.Nullable;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import static org.apache.activemq.artemis.api.core.SimpleString.toSimpleString;
 import static org.apache.activemq.artemis.core.remoting.impl.netty.TransportConstants.HOST_PROP_NAME;
@@ -54,6 +59,7 @@ import static org.springframework.util.StringUtils.commaDelimitedListToSet;
 
 import static java.lang.Integer.parseInt;
 import static java.lang.String.format;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
 
 /**
  * @author Joost van de Wijgerd
@@ -71,6 +77,11 @@ public final class ActiveMQArtemisMessagingService implements MessagingService {
     private final RemoteMessageQueueFactory remoteMessageQueueFactory;
     private final RemoteActorSystemMessageQueueFactoryFactory remoteActorSystemMessageQueueFactoryFactory;
     private final ThreadBoundExecutor queueExecutor;
+    private final ThreadBoundExecutor actorExecutor;
+    private final int consumerWindowSize;
+    private final MicrometerConfiguration micrometerConfiguration;
+    private final InternalMessageBatching internalMessageBatching;
+    private ExecutorService throttleExecutor;
     private final InternalMessageDeserializer internalMessageDeserializer;
     private ServerLocator serverLocator;
     private ClientSessionFactory clientSessionFactory;
@@ -79,8 +90,12 @@ public final class ActiveMQArtemisMessagingService implements MessagingService {
 
     public ActiveMQArtemisMessagingService(String activeMQHosts, String activeMQUsername, String activeMQPassword,
                                            String elasticActorsCluster, ThreadBoundExecutor queueExecutor,
+                                           @Nullable ThreadBoundExecutor actorExecutor,
                                            InternalMessageDeserializer internalMessageDeserializer,
-                                           boolean useMessageHandler, boolean useImmediateReceive) {
+                                           boolean useMessageHandler, boolean useImmediateReceive,
+                                           int consumerWindowSize,
+                                           @Nullable MicrometerConfiguration micrometerConfiguration,
+                                           @Nullable InternalMessageBatching internalMessageBatching) {
         this.activeMQHosts = activeMQHosts;
         this.activeMQUsername = activeMQUsername;
         this.activeMQPassword = activeMQPassword;
@@ -92,6 +107,10 @@ public final class ActiveMQArtemisMessagingService implements MessagingService {
         this.remoteActorSystemMessageQueueFactoryFactory = new RemoteActorSystemMessageQueueFactoryFactory();
         this.useMessageHandler = useMessageHandler;
         this.useImmediateReceive = useImmediateReceive;
+        this.actorExecutor = actorExecutor;
+        this.consumerWindowSize = consumerWindowSize;
+        this.micrometerConfiguration = micrometerConfiguration;
+        this.internalMessageBatching = internalMessageBatching;
     }
 
     @PostConstruct
@@ -136,8 +155,12 @@ public final class ActiveMQArtemisMessagingService implements MessagingService {
         serverLocator.setProducerMaxRate(-1);
         serverLocator.setProducerWindowSize(-1);
         serverLocator.setConsumerMaxRate(-1);
-        serverLocator.setConsumerWindowSize(-1);
+        // stopping a session only stops delivery from the client side buffer, so pausing
+        // consumption only holds back the broker when the consumer window is bounded
+        serverLocator.setConsumerWindowSize(consumerWindowSize);
         this.clientSessionFactory = serverLocator.createSessionFactory();
+        this.throttleExecutor =
+            newSingleThreadExecutor(new DaemonThreadFactory("ACTIVEMQ-CONSUMPTION-THROTTLE"));
     }
 
     private TransportConfiguration createConnector(String host, int port) {
@@ -160,6 +183,10 @@ public final class ActiveMQArtemisMessagingService implements MessagingService {
     @PreDestroy
     public void stop() {
         logger.info("Stopping messaging service");
+        throttleExecutor.shutdownNow();
+        if (internalMessageBatching != null) {
+            internalMessageBatching.shutdown();
+        }
         clientSessionFactory.close();
         serverLocator.close();
     }
@@ -203,7 +230,9 @@ public final class ActiveMQArtemisMessagingService implements MessagingService {
             ensureQueueExists(clientSession, queueName, name);
             LocalMessageQueue messageQueue = new LocalMessageQueue(queueExecutor, internalMessageDeserializer,
                                                                    queueName, name, clientSession, clientSession.createProducer(format(EA_ADDRESS_FORMAT, elasticActorsCluster)),
-                                                                   messageHandler, useMessageHandler, useImmediateReceive);
+                                                                   messageHandler, useMessageHandler, useImmediateReceive,
+                                                                   actorExecutor, throttleExecutor, micrometerConfiguration,
+                                                                   internalMessageBatching);
             messageQueue.initialize();
             return messageQueue;
         }
@@ -218,7 +247,8 @@ public final class ActiveMQArtemisMessagingService implements MessagingService {
             RemoteMessageQueue messageQueue = new RemoteMessageQueue(queueName,
                 name,
                 clientSession,
-                clientSession.createProducer(format(EA_ADDRESS_FORMAT, elasticActorsCluster))
+                clientSession.createProducer(format(EA_ADDRESS_FORMAT, elasticActorsCluster)),
+                internalMessageBatching
             );
             messageQueue.initialize();
             return messageQueue;
@@ -240,7 +270,8 @@ public final class ActiveMQArtemisMessagingService implements MessagingService {
             RemoteMessageQueue messageQueue = new RemoteMessageQueue(queueName,
                 name,
                 clientSession,
-                clientSession.createProducer(format(EA_ADDRESS_FORMAT, clusterName))
+                clientSession.createProducer(format(EA_ADDRESS_FORMAT, clusterName)),
+                internalMessageBatching
             );
             messageQueue.initialize();
             return messageQueue;
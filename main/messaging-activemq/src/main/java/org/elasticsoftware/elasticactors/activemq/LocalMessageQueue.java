@@ -23,7 +23,11 @@ import org.apache.activemq.artemis.api.core.client.ClientMessage;
 import org.apache.activemq.artemis.api.core.client.ClientProducer;
 import org.apache.activemq.artemis.api.core.client.ClientSession;
 import org.elasticsoftware.elasticactors.MessageDeliveryException;
+import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+import org.elasticsoftware.elasticactors.messaging.ConsumptionThrottle;
 import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.messaging.InternalMessageBatcher;
+import org.elasticsoftware.elasticactors.messaging.InternalMessageBatching;
 import org.elasticsoftware.elasticactors.messaging.MessageHandler;
 import org.elasticsoftware.elasticactors.messaging.MessageHandlerEventListener;
 import org.elasticsoftware.elasticactors.messaging.MessageQueue;
@@ -33,9 +37,11 @@ import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.annotation.Nullable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -49,6 +55,8 @@ public final class LocalMessageQueue implements MessageQueue, org.apache.activem
     private static final Logger logger = LoggerFactory.getLogger(LocalMessageQueue.class);
 
     private final ThreadBoundExecutor queueExecutor;
+    private final ThreadBoundExecutor actorExecutor;
+    private final ConsumptionThrottle consumptionThrottle;
     private final InternalMessageDeserializer internalMessageDeserializer;
     private final String queueName;
     private final String routingKey;
@@ -61,13 +69,18 @@ public final class LocalMessageQueue implements MessageQueue, org.apache.activem
     private final ActiveMQMessageProcessor messageProcessor;
     private final CountDownLatch destroyLatch = new CountDownLatch(1);
     private final boolean useMessageHandler;
+    private final InternalMessageBatcher batcher;
     private boolean running = true;
 
     LocalMessageQueue(ThreadBoundExecutor queueExecutor, InternalMessageDeserializer internalMessageDeserializer,
                       String queueName, String routingKey, ClientSession clientSession, ClientProducer clientProducer,
                       MessageHandler messageHandler,
-                      boolean useMessageHandler, boolean useImmediateReceive) throws ActiveMQException {
+                      boolean useMessageHandler, boolean useImmediateReceive,
+                      @Nullable ThreadBoundExecutor actorExecutor, Executor throttleExecutor,
+                      @Nullable MicrometerConfiguration micrometerConfiguration,
+                      @Nullable InternalMessageBatching internalMessageBatching) throws ActiveMQException {
         this.queueExecutor = queueExecutor;
+        this.actorExecutor = actorExecutor;
         this.internalMessageDeserializer = internalMessageDeserializer;
         this.queueName = queueName;
         this.routingKey = routingKey;
@@ -77,6 +90,20 @@ public final class LocalMessageQueue implements MessageQueue, org.apache.activem
         this.consumer = clientSession.createConsumer(queueName);
         this.messageHandler = messageHandler;
         this.messageProcessor = new ActiveMQMessageProcessor(queueName, internalMessageDeserializer, messageHandler, useImmediateReceive);
+        this.consumptionThrottle = new ConsumptionThrottle(
+            queueName,
+            clientSession::stop,
+            clientSession::start,
+            throttleExecutor,
+            micrometerConfiguration
+        );
+        this.batcher = internalMessageBatching != null
+            ? internalMessageBatching.createBatcher(
+                queueName,
+                queueExecutor,
+                (messages, body, batch) -> publish(messages.get(0), body, batch)
+            )
+            : null;
     }
 
     @Override
@@ -95,6 +122,28 @@ public final class LocalMessageQueue implements MessageQueue, org.apache.activem
         }
     }
 
+    private void publish(InternalMessage message, byte[] body, boolean batch) {
+        ClientMessage clientMessage = clientSession.createMessage(message.isDurable());
+        clientMessage.getBodyBuffer().writeBytes(body);
+        clientMessage.putStringProperty("routingKey", routingKey);
+        // duplicate detection
+        clientMessage.putBytesProperty(HDR_DUPLICATE_DETECTION_ID, toByteArray(message.getId()));
+        if (batch) {
+            clientMessage.putBooleanProperty(InternalMessageBatching.BATCH_TYPE, true);
+        } else if(message.getTimeout() >= 0) {
+            // set timeout if needed
+            clientMessage.setExpiration(System.currentTimeMillis() + message.getTimeout());
+        }
+        try {
+            producer.send(clientMessage);
+        } catch (ActiveMQException e) {
+            throw new MessageDeliveryException("IOException while publishing message",e,false);
+        } /*catch(SomeRecoverableException e) { @todo: figure out which exceptions are recoverable
+            this.recovering.set(true);
+            throw new MessageDeliveryException("MessagingService is recovering",true);
+        } */
+    }
+
     @Override
     public boolean add(InternalMessage message) {
         return offer(message);
@@ -120,12 +169,17 @@ public final class LocalMessageQueue implements MessageQueue, org.apache.activem
             receiveMessage();
         }
         clientSession.start();
+        consumptionThrottle.register(queueExecutor, actorExecutor);
     }
 
     @Override
     public void destroy() {
         try {
             logger.info("Stopping local message queue [{}->{}]", routingKey, queueName);
+            consumptionThrottle.unregister();
+            if (batcher != null) {
+                batcher.destroy();
+            }
             queueExecutor.execute(new DestroyQueue(queueName));
             destroyLatch.await(3, TimeUnit.SECONDS);
             consumer.close();
@@ -142,6 +196,7 @@ public final class LocalMessageQueue implements MessageQueue, org.apache.activem
         queueExecutor.execute(new ActiveMQMessageHandler(
             queueName,
             message.getBodyBuffer().toByteBuffer(),
+            message.containsProperty(InternalMessageBatching.BATCH_TYPE),
             internalMessageDeserializer,
             messageHandler,
             new ActiveMQAck(message),
@@ -181,11 +236,20 @@ public final class LocalMessageQueue implements MessageQueue, org.apache.activem
             try {
                 ClientMessage clientMessage = receiveImmediate ? consumer.receiveImmediate() : consumer.receive(1);
                 if(clientMessage != null) {
-                    // get the body data
-                    InternalMessage message = internalMessageDeserializer.deserialize(
-                        clientMessage.getBodyBuffer().toByteBuffer()
-                    );
-                    messageHandler.handleMessage(message, new ActiveMQAck(clientMessage));
+                    if (clientMessage.containsProperty(InternalMessageBatching.BATCH_TYPE)) {
+                        InternalMessageBatching.handleBatch(
+                            clientMessage.getBodyBuffer().toByteBuffer(),
+                            internalMessageDeserializer,
+                            messageHandler,
+                            new ActiveMQAck(clientMessage)
+                        );
+                    } else {
+                        // get the body data
+                        InternalMessage message = internalMessageDeserializer.deserialize(
+                            clientMessage.getBodyBuffer().toByteBuffer()
+                        );
+                        messageHandler.handleMessage(message, new ActiveMQAck(clientMessage));
+                    }
                 }
             } catch(ActiveMQException e) {
                 logger.error("Unexpected exception on consumer.receive*", e);
@@ -206,6 +270,7 @@ public final class LocalMessageQueue implements MessageQueue, org.apache.activem
         private final String queueName;
         private final InternalMessageDeserializer internalMessageDeserializer;
         private final ByteBuffer body;
+        private final boolean batch;
         private final org.elasticsoftware.elasticactors.messaging.MessageHandler messageHandler;
         private final MessageHandlerEventListener listener;
         private final Logger logger;
@@ -213,6 +278,7 @@ public final class LocalMessageQueue implements MessageQueue, org.apache.activem
         private ActiveMQMessageHandler(
             String queueName,
             ByteBuffer body,
+            boolean batch,
             InternalMessageDeserializer internalMessageDeserializer,
             org.elasticsoftware.elasticactors.messaging.MessageHandler messageHandler,
             MessageHandlerEventListener listener,
@@ -221,6 +287,7 @@ public final class LocalMessageQueue implements MessageQueue, org.apache.activem
             this.queueName = queueName;
             this.internalMessageDeserializer = internalMessageDeserializer;
             this.body = body;
+            this.batch = batch;
             this.messageHandler = messageHandler;
             this.listener = listener;
             this.logger = logger;
@@ -235,6 +302,15 @@ public final class LocalMessageQueue implements MessageQueue, org.apache.activem
         public void run() {
             InternalMessage message;
             try {
+                if (batch) {
+                    InternalMessageBatching.handleBatch(
+                        body,
+                        internalMessageDeserializer,
+                        messageHandler,
+                        listener
+                    );
+                    return;
+                }
                 // get the body data
                 message = internalMessageDeserializer.deserialize(body);
                 messageHandler.handleMessage(message,listener);
@@ -273,23 +349,11 @@ public final class LocalMessageQueue implements MessageQueue, org.apache.activem
 
         @Override
         public void run() {
-            ClientMessage clientMessage = clientSession.createMessage(message.isDurable());
-            clientMessage.getBodyBuffer().writeBytes(message.toByteArray());
-            clientMessage.putStringProperty("routingKey", routingKey);
-            // use the duplicate detection from ActiveMQ
-            clientMessage.putBytesProperty(HDR_DUPLICATE_DETECTION_ID, toByteArray(message.getId()));
-            // set timeout if needed
-            if(message.getTimeout() >= 0) {
-                clientMessage.setExpiration(System.currentTimeMillis() + message.getTimeout());
+            if (batcher != null) {
+                batcher.add(message);
+            } else {
+                publish(message, message.toByteArray(), false);
             }
-            try {
-                producer.send(clientMessage);
-            } catch (ActiveMQException e) {
-                throw new MessageDeliveryException("IOException while publishing message",e,false);
-            } /*catch(SomeRecoverableException e) { @todo: figure out which exceptions are recoverable
-                this.recovering.set(true);
-                throw new MessageDeliveryException("MessagingService is recovering",true);
-            } */
         }
 
         @Override
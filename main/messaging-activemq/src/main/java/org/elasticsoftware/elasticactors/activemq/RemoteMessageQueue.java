@@ -23,10 +23,13 @@ import org.apache.activemq.artemis.api.core.client.ClientProducer;
 import org.apache.activemq.artemis.api.core.client.ClientSession;
 import org.elasticsoftware.elasticactors.MessageDeliveryException;
 import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.messaging.InternalMessageBatcher;
+import org.elasticsoftware.elasticactors.messaging.InternalMessageBatching;
 import org.elasticsoftware.elasticactors.messaging.MessageQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.annotation.Nullable;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.apache.activemq.artemis.api.core.Message.HDR_DUPLICATE_DETECTION_ID;
@@ -44,12 +47,21 @@ public final class RemoteMessageQueue implements MessageQueue {
     private final ClientSession clientSession;
     private final ClientProducer producer;
     private final AtomicBoolean recovering = new AtomicBoolean(false);
+    private final InternalMessageBatcher batcher;
 
-    RemoteMessageQueue(String queueName, String routingKey, ClientSession clientSession, ClientProducer clientProducer) throws ActiveMQException {
+    RemoteMessageQueue(String queueName, String routingKey, ClientSession clientSession, ClientProducer clientProducer,
+                       @Nullable InternalMessageBatching internalMessageBatching) throws ActiveMQException {
         this.queueName = queueName;
         this.routingKey = routingKey;
         this.clientSession = clientSession;
         this.producer = clientProducer;
+        this.batcher = internalMessageBatching != null
+            ? internalMessageBatching.createBatcher(
+                queueName,
+                null,
+                (messages, body, batch) -> publish(messages.get(0), body, batch)
+            )
+            : null;
     }
 
     @Override
@@ -58,26 +70,34 @@ public final class RemoteMessageQueue implements MessageQueue {
         if(this.recovering.get()) {
             throw new MessageDeliveryException("MessagingService is recovering",true);
         }
+        if (batcher != null) {
+            batcher.add(message);
+        } else {
+            publish(message, message.toByteArray(), false);
+        }
+        return true;
+    }
 
+    private void publish(InternalMessage message, byte[] body, boolean batch) {
         ClientMessage clientMessage = clientSession.createMessage(message.isDurable());
-        clientMessage.getBodyBuffer().writeBytes(message.toByteArray());
+        clientMessage.getBodyBuffer().writeBytes(body);
         clientMessage.putStringProperty("routingKey", routingKey);
         // duplicate detection
         clientMessage.putBytesProperty(HDR_DUPLICATE_DETECTION_ID, toByteArray(message.getId()));
-        // set timeout if needed
-        if(message.getTimeout() >= 0) {
+        if (batch) {
+            clientMessage.putBooleanProperty(InternalMessageBatching.BATCH_TYPE, true);
+        } else if(message.getTimeout() >= 0) {
+            // set timeout if needed
             clientMessage.setExpiration(System.currentTimeMillis() + message.getTimeout());
         }
         try {
             producer.send(clientMessage);
-            return true;
         } catch (ActiveMQException e) {
             throw new MessageDeliveryException("IOException while publishing message",e,false);
         } /*catch(SomeRecoverableException e) { @todo: figure out which exceptions are recoverable
             this.recovering.set(true);
             throw new MessageDeliveryException("MessagingService is recovering",true);
         } */
-
     }
 
     @Override
@@ -105,6 +125,9 @@ public final class RemoteMessageQueue implements MessageQueue {
     public void destroy() {
         try {
             logger.info("Stopping remote message queue [{}->{}]", routingKey, queueName);
+            if (batcher != null) {
+                batcher.destroy();
+            }
             producer.close();
             clientSession.close();
         } catch(ActiveMQException e) {
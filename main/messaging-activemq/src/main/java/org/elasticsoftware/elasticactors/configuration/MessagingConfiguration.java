@@ -17,9 +17,12 @@
 
 package org.elasticsoftware.elasticactors.configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.elasticsoftware.elasticactors.activemq.ActiveMQArtemisMessagingService;
 import org.elasticsoftware.elasticactors.cluster.ActorRefFactory;
-import org.elasticsoftware.elasticactors.cluster.InternalActorSystem;
+import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerTagCustomizer;
+import org.elasticsoftware.elasticactors.messaging.InternalMessageBatching;
 import org.elasticsoftware.elasticactors.messaging.MessageQueueFactory;
 import org.elasticsoftware.elasticactors.messaging.MessageQueueFactoryFactory;
 import org.elasticsoftware.elasticactors.serialization.internal.ActorRefDeserializer;
@@ -28,6 +31,7 @@ import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.env.Environment;
+import org.springframework.lang.Nullable;
 
 /**
  * @author Joost van de Wijgerd
@@ -37,9 +41,11 @@ public class MessagingConfiguration {
     @Bean(name = {"messagingService"})
     public ActiveMQArtemisMessagingService getMessagingService(
         @Qualifier("queueExecutor") ThreadBoundExecutor queueExecutor,
-        InternalActorSystem internalActorSystem,
+        @Nullable @Qualifier("actorExecutor") ThreadBoundExecutor actorExecutor,
         ActorRefFactory actorRefFactory,
-        Environment env)
+        Environment env,
+        @Nullable @Qualifier("elasticActorsMeterRegistry") MeterRegistry meterRegistry,
+        @Nullable @Qualifier("elasticActorsMeterTagCustomizer") MicrometerTagCustomizer tagCustomizer)
     {
         String clusterName = env.getRequiredProperty("ea.cluster");
         String activeMQHosts = env.getRequiredProperty("ea.activemq.hosts");
@@ -49,18 +55,23 @@ public class MessagingConfiguration {
             env.getProperty("ea.activemq.useMessageHandler", Boolean.TYPE, true);
         boolean useReceiveImmediate =
             env.getProperty("ea.activemq.useReceiveImmediate", Boolean.TYPE, false);
+        int consumerWindowSize =
+            env.getProperty("ea.activemq.consumerWindowSize", Integer.TYPE, -1);
+        MicrometerConfiguration micrometerConfiguration =
+            MicrometerConfiguration.build(env, meterRegistry, "activemq", tagCustomizer);
         return new ActiveMQArtemisMessagingService(
             activeMQHosts,
             activeMQUsername,
             activeMQPassword,
             clusterName,
             queueExecutor,
-            new InternalMessageDeserializer(
-                new ActorRefDeserializer(actorRefFactory),
-                internalActorSystem
-            ),
+            actorExecutor,
+            new InternalMessageDeserializer(new ActorRefDeserializer(actorRefFactory)),
             useMessageHandler,
-            useReceiveImmediate
+            useReceiveImmediate,
+            consumerWindowSize,
+            micrometerConfiguration,
+            InternalMessageBatching.build(env, "ea.activemq", micrometerConfiguration)
         );
     }
 
@@ -21,14 +21,15 @@ import io.micrometer.core.instrument.MeterRegistry;
 import org.elasticsoftware.elasticactors.cluster.ActorRefFactory;
 import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
 import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerTagCustomizer;
+import org.elasticsoftware.elasticactors.messaging.InternalMessageBatching;
 import org.elasticsoftware.elasticactors.messaging.MessageQueueFactory;
 import org.elasticsoftware.elasticactors.messaging.MessageQueueFactoryFactory;
 import org.elasticsoftware.elasticactors.rabbitmq.MessageAcker;
 import org.elasticsoftware.elasticactors.rabbitmq.RabbitMQMessagingService;
+import org.elasticsoftware.elasticactors.rabbitmq.confirm.PublisherConfirms;
 import org.elasticsoftware.elasticactors.rabbitmq.cpt.MultiProducerRabbitMQMessagingService;
 import org.elasticsoftware.elasticactors.rabbitmq.health.RabbitMQHealthCheck;
 import org.elasticsoftware.elasticactors.rabbitmq.sc.SingleProducerRabbitMQMessagingService;
-import org.elasticsoftware.elasticactors.serialization.SerializationAccessor;
 import org.elasticsoftware.elasticactors.serialization.internal.ActorRefDeserializer;
 import org.elasticsoftware.elasticactors.serialization.internal.InternalMessageDeserializer;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor;
@@ -47,9 +48,9 @@ public class MessagingConfiguration {
     @Bean(name = {"messagingService"})
     public RabbitMQMessagingService getMessagingService(
         @Qualifier("queueExecutor") ThreadBoundExecutor queueExecutor,
+        @Nullable @Qualifier("actorExecutor") ThreadBoundExecutor actorExecutor,
         Environment env,
         ActorRefFactory actorRefFactory,
-        SerializationAccessor serializationAccessor,
         @Nullable @Qualifier("elasticActorsMeterRegistry") MeterRegistry meterRegistry,
         @Nullable @Qualifier("elasticActorsMeterTagCustomizer") MicrometerTagCustomizer tagCustomizer)
     {
@@ -66,10 +67,18 @@ public class MessagingConfiguration {
             MicrometerConfiguration.build(env, meterRegistry, "rabbitmq", tagCustomizer);
         MicrometerConfiguration ackerMicrometerConfiguration =
             MicrometerConfiguration.build(env, meterRegistry, "rabbitmqAcker", tagCustomizer);
-        InternalMessageDeserializer messageDeserializer = new InternalMessageDeserializer(
-            new ActorRefDeserializer(actorRefFactory),
-            serializationAccessor
-        );
+        InternalMessageDeserializer messageDeserializer =
+            new InternalMessageDeserializer(new ActorRefDeserializer(actorRefFactory));
+        InternalMessageBatching internalMessageBatching =
+            InternalMessageBatching.build(env, "ea.rabbitmq", micrometerConfiguration);
+        PublisherConfirms publisherConfirms =
+            PublisherConfirms.build(env, "ea.rabbitmq", micrometerConfiguration);
+        if (internalMessageBatching != null && publisherConfirms == null) {
+            // without confirms, a batch the broker loses would silently lose all of its messages
+            internalMessageBatching.shutdown();
+            throw new IllegalArgumentException(
+                "Invalid batching configuration: ea.rabbitmq.batching.enabled requires ea.rabbitmq.publisherConfirms.enabled");
+        }
         if ("cpt".equals(threadModel)) {
             return new MultiProducerRabbitMQMessagingService(
                 clusterName,
@@ -79,10 +88,13 @@ public class MessagingConfiguration {
                 rabbitMQPassword,
                 ackType,
                 queueExecutor,
+                actorExecutor,
                 messageDeserializer,
                 prefetchCount,
                 micrometerConfiguration,
-                ackerMicrometerConfiguration
+                ackerMicrometerConfiguration,
+                internalMessageBatching,
+                publisherConfirms
             );
         } else {
             return new SingleProducerRabbitMQMessagingService(
@@ -93,10 +105,13 @@ public class MessagingConfiguration {
                 rabbitMQPassword,
                 ackType,
                 queueExecutor,
+                actorExecutor,
                 messageDeserializer,
                 prefetchCount,
                 micrometerConfiguration,
-                ackerMicrometerConfiguration
+                ackerMicrometerConfiguration,
+                internalMessageBatching,
+                publisherConfirms
             );
         }
     }
@@ -17,6 +17,8 @@
 
 package org.elasticsoftware.elasticactors.rabbitmq;
 
+import com.rabbitmq.client.AMQP;
+import org.elasticsoftware.elasticactors.messaging.InternalMessageBatching;
 import org.elasticsoftware.elasticactors.messaging.MessageQueueFactory;
 import org.elasticsoftware.elasticactors.messaging.MessageQueueFactoryFactory;
 import org.elasticsoftware.elasticactors.messaging.MessagingService;
@@ -28,6 +30,12 @@ public interface RabbitMQMessagingService extends MessagingService {
 
     String QUEUE_NAME_FORMAT = "%s/%s";
     String EA_EXCHANGE_FORMAT = "ea.%s";
+    AMQP.BasicProperties BATCH_PROPERTIES = new AMQP.BasicProperties.Builder()
+        .contentType("application/octet-stream")
+        .deliveryMode(2)
+        .priority(0)
+        .type(InternalMessageBatching.BATCH_TYPE)
+        .build();
 
     MessageQueueFactory getLocalMessageQueueFactory();
 
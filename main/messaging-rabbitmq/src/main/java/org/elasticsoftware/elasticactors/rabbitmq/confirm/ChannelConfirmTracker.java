@@ -0,0 +1,462 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.rabbitmq.confirm;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import net.jodah.lyra.event.DefaultChannelListener;
+import org.elasticsoftware.elasticactors.MessageDeliveryException;
+import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.messaging.UndeliverableMessages;
+import org.elasticsoftware.elasticactors.rabbitmq.ChannelListenerRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Tracks the messages published on a channel in confirm mode until the broker confirms them.
+ *
+ * <p>
+ * The unconfirmed messages are kept in arrays indexed by their publish sequence number modulo the
+ * maximum number of messages in flight. Publishing blocks while the oldest unconfirmed message is
+ * that many sequence numbers behind, and fails with a recoverable {@link MessageDeliveryException}
+ * when no room is made within the timeout. Confirms (including {@code multiple} confirms) are
+ * processed on the connection thread. Messages the broker nacks or that are lost when the channel
+ * is recovered are passed to the {@link FailureHandler} they were published with, which by default
+ * returns them to their senders as undeliverable (see {@link #returnToSenders(Executor)}). A batch
+ * envelope is tracked as a whole, so all the messages in it are passed on together. The
+ * {@code messaging.publish.lost} counter counts these messages.
+ *
+ * <p>
+ * Messages that are not confirmed within the timeout are only logged and counted by the
+ * {@code messaging.publish.expired} counter. The broker may still deliver them, so returning them
+ * to their senders could make a sender handle a message as undeliverable that its receiver got.
+ */
+public final class ChannelConfirmTracker extends DefaultChannelListener implements ConfirmListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChannelConfirmTracker.class);
+
+    @FunctionalInterface
+    public interface FailureHandler {
+        /**
+         * @param messages the messages that were published together, more than one for a batch
+         */
+        void onFailure(List<InternalMessage> messages, MessageDeliveryException exception);
+    }
+
+    private final Channel channel;
+    private final ChannelListenerRegistry channelListenerRegistry;
+    private final FailureHandler defaultFailureHandler;
+    private final int maximumInFlight;
+    private final long timeoutNanos;
+    // serializes taking a sequence number and publishing, the tracking state is guarded by this
+    private final Object publishLock = new Object();
+    private final long[] sequenceNumbers;
+    private final long[] publishTimes;
+    private final List<InternalMessage>[] messages;
+    private final FailureHandler[] failureHandlers;
+    // the unconfirmed messages have sequence numbers in [lowest, next)
+    private long lowest;
+    private long next;
+    private int inFlight;
+    private final List<Meter> meters = new ArrayList<>();
+    private final MeterRegistry registry;
+    private final Timer ackTimer;
+    private final Timer nackTimer;
+    private final Timer timeoutTimer;
+    private final Counter nackLostCounter;
+    private final Counter expiredCounter;
+    private final Counter recoveryLostCounter;
+    private ScheduledFuture<?> expiry;
+
+    @SuppressWarnings("unchecked")
+    ChannelConfirmTracker(
+        @Nonnull Channel channel,
+        @Nonnull ChannelListenerRegistry channelListenerRegistry,
+        @Nonnull FailureHandler defaultFailureHandler,
+        int maximumInFlight,
+        long timeoutNanos,
+        @Nullable MicrometerConfiguration micrometerConfiguration)
+    {
+        this.channel = channel;
+        this.channelListenerRegistry = channelListenerRegistry;
+        this.defaultFailureHandler = defaultFailureHandler;
+        this.maximumInFlight = maximumInFlight;
+        this.timeoutNanos = timeoutNanos;
+        this.sequenceNumbers = new long[maximumInFlight];
+        this.publishTimes = new long[maximumInFlight];
+        this.messages = (List<InternalMessage>[]) new List[maximumInFlight];
+        this.failureHandlers = new FailureHandler[maximumInFlight];
+        if (micrometerConfiguration != null) {
+            String prefix = micrometerConfiguration.getMetricPrefix() + "messaging.publish";
+            Tags tags = micrometerConfiguration.getTags()
+                .and("name", micrometerConfiguration.getComponentName())
+                .and("channel", String.valueOf(channel.getChannelNumber()));
+            this.registry = micrometerConfiguration.getRegistry();
+            meters.add(Gauge.builder(prefix + ".unconfirmed", this, ChannelConfirmTracker::getInFlight)
+                .tags(tags)
+                .description("The number of published messages the broker has not confirmed yet")
+                .register(registry));
+            this.ackTimer = createConfirmTimer(prefix, tags, "ack");
+            this.nackTimer = createConfirmTimer(prefix, tags, "nack");
+            this.timeoutTimer = createConfirmTimer(prefix, tags, "timeout");
+            this.nackLostCounter = createLostCounter(prefix, tags, "nack");
+            this.expiredCounter = Counter.builder(prefix + ".expired")
+                .tags(tags)
+                .description("The number of published messages the broker did not confirm in time")
+                .register(registry);
+            meters.add(expiredCounter);
+            this.recoveryLostCounter = createLostCounter(prefix, tags, "recovery");
+        } else {
+            this.registry = null;
+            this.ackTimer = null;
+            this.nackTimer = null;
+            this.timeoutTimer = null;
+            this.nackLostCounter = null;
+            this.expiredCounter = null;
+            this.recoveryLostCounter = null;
+        }
+    }
+
+    private Timer createConfirmTimer(String prefix, Tags tags, String result) {
+        Timer timer = Timer.builder(prefix + ".confirm")
+            .tags(tags.and("result", result))
+            .description("The time between publishing a message and the broker confirming it")
+            .register(registry);
+        meters.add(timer);
+        return timer;
+    }
+
+    private Counter createLostCounter(String prefix, Tags tags, String reason) {
+        Counter counter = Counter.builder(prefix + ".lost")
+            .tags(tags.and("reason", reason))
+            .description("The number of published messages the broker did not confirm")
+            .register(registry);
+        meters.add(counter);
+        return counter;
+    }
+
+    void start(ScheduledExecutorService scheduler, long expiryIntervalMillis) throws IOException {
+        channel.confirmSelect();
+        channel.addConfirmListener(this);
+        channelListenerRegistry.addChannelListener(channel, this);
+        expiry = scheduler.scheduleWithFixedDelay(
+            this::expire,
+            expiryIntervalMillis,
+            expiryIntervalMillis,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Stops tracking and removes the metrics. Messages that are still unconfirmed are not reported.
+     */
+    public void close() {
+        if (expiry != null) {
+            expiry.cancel(false);
+        }
+        channel.removeConfirmListener(this);
+        channelListenerRegistry.removeChannelListener(channel, this);
+        if (registry != null) {
+            meters.forEach(registry::remove);
+        }
+    }
+
+    /**
+     * Returns failed messages to their senders as undeliverable, see {@link UndeliverableMessages}.
+     * Returning a message publishes a new one, so this is done on the given executor instead of the
+     * connection thread that processes the confirms.
+     */
+    public static FailureHandler returnToSenders(Executor executor) {
+        return (messages, exception) -> {
+            try {
+                executor.execute(() -> UndeliverableMessages.returnToSenders(messages, exception));
+            } catch (RejectedExecutionException e) {
+                // shutting down
+                UndeliverableMessages.returnToSenders(messages, exception);
+            }
+        };
+    }
+
+    /**
+     * Publishes the message and tracks it until the broker confirms it, failures are passed to the
+     * default {@link FailureHandler} of this tracker.
+     *
+     * @param messages the messages in the body, more than one for a batch envelope
+     * @throws MessageDeliveryException (recoverable) when the maximum number of unconfirmed
+     * messages is reached and no confirm arrives within the timeout
+     */
+    public void publish(
+        String exchange,
+        String routingKey,
+        AMQP.BasicProperties props,
+        byte[] body,
+        List<InternalMessage> messages) throws IOException
+    {
+        publish(exchange, routingKey, props, body, messages, defaultFailureHandler);
+    }
+
+    /**
+     * Publishes the message and tracks it until the broker confirms it.
+     *
+     * @param messages the messages in the body, more than one for a batch envelope
+     * @throws MessageDeliveryException (recoverable) when the maximum number of unconfirmed
+     * messages is reached and no confirm arrives within the timeout
+     */
+    public void publish(
+        String exchange,
+        String routingKey,
+        AMQP.BasicProperties props,
+        byte[] body,
+        List<InternalMessage> messages,
+        FailureHandler failureHandler) throws IOException
+    {
+        synchronized (publishLock) {
+            long sequenceNumber = channel.getNextPublishSeqNo();
+            if (sequenceNumber == 0) {
+                // the channel is not in confirm mode (yet)
+                channel.basicPublish(exchange, routingKey, false, false, props, body);
+                return;
+            }
+            track(sequenceNumber, messages, failureHandler);
+            try {
+                channel.basicPublish(exchange, routingKey, false, false, props, body);
+            } catch (IOException | RuntimeException e) {
+                // the caller handles the exception, the sequence number will never be confirmed
+                untrack(sequenceNumber);
+                throw e;
+            }
+        }
+    }
+
+    private synchronized void track(
+        long sequenceNumber,
+        List<InternalMessage> messages,
+        FailureHandler failureHandler)
+    {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (inFlight > 0 && sequenceNumber - lowest >= maximumInFlight) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new MessageDeliveryException(format(
+                    "Broker did not confirm the oldest of %d messages in flight on channel [%d] in time",
+                    inFlight,
+                    channel.getChannelNumber()
+                ), true);
+            }
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MessageDeliveryException("Interrupted while waiting for publisher confirms", true);
+            }
+        }
+        if (inFlight == 0) {
+            lowest = sequenceNumber;
+        }
+        int index = index(sequenceNumber);
+        sequenceNumbers[index] = sequenceNumber;
+        publishTimes[index] = System.nanoTime();
+        this.messages[index] = messages;
+        failureHandlers[index] = failureHandler;
+        next = sequenceNumber + 1;
+        inFlight++;
+    }
+
+    private synchronized void untrack(long sequenceNumber) {
+        int index = index(sequenceNumber);
+        if (sequenceNumbers[index] == sequenceNumber) {
+            clear(index);
+            advance();
+        }
+    }
+
+    @Override
+    public void handleAck(long deliveryTag, boolean multiple) {
+        confirm(deliveryTag, multiple, true);
+    }
+
+    @Override
+    public void handleNack(long deliveryTag, boolean multiple) {
+        confirm(deliveryTag, multiple, false);
+    }
+
+    private void confirm(long deliveryTag, boolean multiple, boolean ack) {
+        List<Failure> failures = null;
+        long now = System.nanoTime();
+        synchronized (this) {
+            long last = Math.min(deliveryTag, next - 1);
+            for (long sequenceNumber = multiple ? lowest : deliveryTag; sequenceNumber <= last; sequenceNumber++) {
+                int index = index(sequenceNumber);
+                if (sequenceNumbers[index] == sequenceNumber) {
+                    record(ack ? ackTimer : nackTimer, now - publishTimes[index]);
+                    if (!ack) {
+                        failures = addFailure(failures, index, nackLostCounter);
+                    }
+                    clear(index);
+                }
+            }
+            advance();
+        }
+        if (failures != null) {
+            notifyFailures(failures, "Broker rejected (nacked) the message");
+        }
+    }
+
+    /**
+     * Stops tracking the messages that were not confirmed within the timeout. They are not failed,
+     * as the broker may still deliver them.
+     */
+    void expire() {
+        List<InternalMessage> expired = null;
+        long now = System.nanoTime();
+        synchronized (this) {
+            // sequence numbers are taken in publishing order, so the oldest messages come first
+            for (long sequenceNumber = lowest; sequenceNumber < next; sequenceNumber++) {
+                int index = index(sequenceNumber);
+                if (sequenceNumbers[index] == sequenceNumber) {
+                    if (now - publishTimes[index] < timeoutNanos) {
+                        break;
+                    }
+                    record(timeoutTimer, now - publishTimes[index]);
+                    if (expired == null) {
+                        expired = new ArrayList<>();
+                    }
+                    expired.addAll(messages[index]);
+                    clear(index);
+                }
+            }
+            advance();
+        }
+        if (expired != null) {
+            if (expiredCounter != null) {
+                expiredCounter.increment(expired.size());
+            }
+            logger.warn(
+                "Broker did not confirm {} messages on channel [{}] in time, they may not have been delivered: {}",
+                expired.size(),
+                channel.getChannelNumber(),
+                expired.stream().map(InternalMessage::getId).toList()
+            );
+        }
+    }
+
+    @Override
+    public void onRecovery(Channel channel) {
+        // the recovered channel starts counting from 1 again, so the old messages can't be confirmed anymore
+        List<Failure> failures = null;
+        try {
+            channel.confirmSelect();
+        } catch (IOException e) {
+            logger.error("Failed to put recovered RabbitMQ Channel [{}] in confirm mode", channel.getChannelNumber(), e);
+        }
+        synchronized (this) {
+            for (long sequenceNumber = lowest; sequenceNumber < next; sequenceNumber++) {
+                int index = index(sequenceNumber);
+                if (sequenceNumbers[index] == sequenceNumber) {
+                    failures = addFailure(failures, index, recoveryLostCounter);
+                    clear(index);
+                }
+            }
+            lowest = next = 0;
+            notifyAll();
+        }
+        if (failures != null) {
+            notifyFailures(failures, "RabbitMQ Channel was recovered before the broker confirmed the message");
+        }
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private int index(long sequenceNumber) {
+        return (int) (sequenceNumber % maximumInFlight);
+    }
+
+    private void clear(int index) {
+        sequenceNumbers[index] = 0;
+        messages[index] = null;
+        failureHandlers[index] = null;
+        inFlight--;
+    }
+
+    /**
+     * Moves past the confirmed messages and wakes up publishers waiting for room
+     */
+    private void advance() {
+        if (inFlight == 0) {
+            lowest = next;
+        } else {
+            while (sequenceNumbers[index(lowest)] != lowest) {
+                lowest++;
+            }
+        }
+        notifyAll();
+    }
+
+    private List<Failure> addFailure(@Nullable List<Failure> failures, int index, @Nullable Counter lostCounter) {
+        if (failures == null) {
+            failures = new ArrayList<>();
+        }
+        failures.add(new Failure(messages[index], failureHandlers[index]));
+        if (lostCounter != null) {
+            lostCounter.increment(messages[index].size());
+        }
+        return failures;
+    }
+
+    private static void notifyFailures(List<Failure> failures, String reason) {
+        for (Failure failure : failures) {
+            try {
+                failure.failureHandler().onFailure(failure.messages(), new MessageDeliveryException(reason, true));
+            } catch (Exception e) {
+                logger.error("Exception in FailureHandler", e);
+            }
+        }
+    }
+
+    private static void record(@Nullable Timer timer, long durationNanos) {
+        if (timer != null) {
+            timer.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private record Failure(List<InternalMessage> messages, FailureHandler failureHandler) {
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.rabbitmq.confirm;
+
+import com.rabbitmq.client.Channel;
+import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+import org.elasticsoftware.elasticactors.rabbitmq.ChannelListenerRegistry;
+import org.elasticsoftware.elasticactors.util.concurrent.DaemonThreadFactory;
+import org.springframework.core.env.Environment;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+
+/**
+ * Publisher confirms for the producer channels of the RabbitMQ messaging services. Every producer
+ * channel is put in confirm mode and gets a {@link ChannelConfirmTracker} that processes the
+ * confirms of the broker asynchronously, so publishing never waits for the broker unless the
+ * maximum number of unconfirmed messages on the channel is reached. Messages the broker doesn't
+ * confirm are returned to their senders as undeliverable on the scheduler thread of this class.
+ */
+public final class PublisherConfirms {
+
+    private final int maximumInFlight;
+    private final long timeoutMillis;
+    private final MicrometerConfiguration micrometerConfiguration;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Reads the publisher confirm configuration from the {@code <prefix>.publisherConfirms.*}
+     * properties.
+     *
+     * @return the configuration, or null when publisher confirms are not enabled
+     */
+    @Nullable
+    public static PublisherConfirms build(
+        @Nonnull Environment env,
+        @Nonnull String prefix,
+        @Nullable MicrometerConfiguration micrometerConfiguration)
+    {
+        if (!env.getProperty(format("%s.publisherConfirms.enabled", prefix), Boolean.class, false)) {
+            return null;
+        }
+        return new PublisherConfirms(
+            env.getProperty(format("%s.publisherConfirms.maximumInFlight", prefix), Integer.class, 1024),
+            env.getProperty(format("%s.publisherConfirms.timeoutMillis", prefix), Long.class, 10000L),
+            micrometerConfiguration
+        );
+    }
+
+    public PublisherConfirms(
+        int maximumInFlight,
+        long timeoutMillis,
+        @Nullable MicrometerConfiguration micrometerConfiguration)
+    {
+        if (maximumInFlight < 1 || timeoutMillis < 1) {
+            throw new IllegalArgumentException(format(
+                "Invalid publisher confirms configuration: maximumInFlight=%d, timeoutMillis=%d",
+                maximumInFlight,
+                timeoutMillis
+            ));
+        }
+        this.maximumInFlight = maximumInFlight;
+        this.timeoutMillis = timeoutMillis;
+        this.micrometerConfiguration = micrometerConfiguration;
+        this.scheduler = newSingleThreadScheduledExecutor(
+            new DaemonThreadFactory("RABBITMQ-PUBLISHER-CONFIRMS"));
+    }
+
+    public int getMaximumInFlight() {
+        return maximumInFlight;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Puts the channel in confirm mode and starts tracking the messages published on it. The
+     * tracker is closed (and the channel listener removed) with {@link ChannelConfirmTracker#close()}.
+     */
+    public ChannelConfirmTracker createTracker(
+        @Nonnull Channel channel,
+        @Nonnull ChannelListenerRegistry channelListenerRegistry) throws IOException
+    {
+        ChannelConfirmTracker tracker = new ChannelConfirmTracker(
+            channel,
+            channelListenerRegistry,
+            ChannelConfirmTracker.returnToSenders(scheduler),
+            maximumInFlight,
+            TimeUnit.MILLISECONDS.toNanos(timeoutMillis),
+            micrometerConfiguration
+        );
+        // messages time out between 1 and 1.25 times the timeout
+        tracker.start(scheduler, Math.max(timeoutMillis / 4, 1L));
+        return tracker;
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -33,6 +33,7 @@ import net.jodah.lyra.event.ChannelListener;
 import net.jodah.lyra.util.Duration;
 import org.elasticsoftware.elasticactors.PhysicalNode;
 import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+import org.elasticsoftware.elasticactors.messaging.InternalMessageBatching;
 import org.elasticsoftware.elasticactors.messaging.MessageHandler;
 import org.elasticsoftware.elasticactors.messaging.MessageQueue;
 import org.elasticsoftware.elasticactors.messaging.MessageQueueFactory;
@@ -45,7 +46,10 @@ import org.elasticsoftware.elasticactors.rabbitmq.ack.AsyncMessageAcker;
 import org.elasticsoftware.elasticactors.rabbitmq.ack.BufferingMessageAcker;
 import org.elasticsoftware.elasticactors.rabbitmq.ack.DirectMessageAcker;
 import org.elasticsoftware.elasticactors.rabbitmq.ack.WriteBehindMessageAcker;
+import org.elasticsoftware.elasticactors.rabbitmq.confirm.ChannelConfirmTracker;
+import org.elasticsoftware.elasticactors.rabbitmq.confirm.PublisherConfirms;
 import org.elasticsoftware.elasticactors.serialization.internal.InternalMessageDeserializer;
+import org.elasticsoftware.elasticactors.util.concurrent.DaemonThreadFactory;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnable;
 import org.slf4j.Logger;
@@ -62,6 +66,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
@@ -70,6 +75,8 @@ import static org.elasticsoftware.elasticactors.rabbitmq.MessageAcker.Type.ASYNC
 import static org.elasticsoftware.elasticactors.rabbitmq.MessageAcker.Type.BUFFERED;
 import static org.elasticsoftware.elasticactors.rabbitmq.MessageAcker.Type.WRITE_BEHIND;
 
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+
 import static java.lang.String.format;
 
 /**
@@ -93,6 +100,8 @@ public final class MultiProducerRabbitMQMessagingService
     private final RemoteMessageQueueFactory remoteMessageQueueFactory;
     private final RemoteActorSystemMessageQueueFactoryFactory remoteActorSystemMessageQueueFactoryFactory;
     private final ThreadBoundExecutor queueExecutor;
+    private final ThreadBoundExecutor actorExecutor;
+    private ExecutorService throttleExecutor;
     private final String username;
     private final String password;
     private final InternalMessageDeserializer internalMessageDeserializer;
@@ -102,6 +111,9 @@ public final class MultiProducerRabbitMQMessagingService
     private final Integer prefetchCount;
     private final MicrometerConfiguration micrometerConfiguration;
     private final MicrometerConfiguration ackerMicrometerConfiguration;
+    private final InternalMessageBatching internalMessageBatching;
+    private final PublisherConfirms publisherConfirms;
+    private final List<ChannelConfirmTracker> producerConfirmTrackers;
 
     public MultiProducerRabbitMQMessagingService(
         String elasticActorsCluster,
@@ -111,15 +123,19 @@ public final class MultiProducerRabbitMQMessagingService
         String password,
         MessageAcker.Type ackType,
         ThreadBoundExecutor queueExecutor,
+        @Nullable ThreadBoundExecutor actorExecutor,
         InternalMessageDeserializer internalMessageDeserializer,
         Integer prefetchCount,
         @Nullable MicrometerConfiguration micrometerConfiguration,
-        @Nullable MicrometerConfiguration ackerMicrometerConfiguration)
+        @Nullable MicrometerConfiguration ackerMicrometerConfiguration,
+        @Nullable InternalMessageBatching internalMessageBatching,
+        @Nullable PublisherConfirms publisherConfirms)
     {
         this.rabbitmqHosts = rabbitmqHosts;
         this.elasticActorsCluster = elasticActorsCluster;
         this.rabbitmqPort = rabbitmqPort;
         this.queueExecutor = queueExecutor;
+        this.actorExecutor = actorExecutor;
         this.username = username;
         this.password = password;
         this.ackType = ackType;
@@ -132,6 +148,9 @@ public final class MultiProducerRabbitMQMessagingService
         this.producerChannels = new ArrayList<>(queueExecutor.getThreadCount());
         this.micrometerConfiguration = micrometerConfiguration;
         this.ackerMicrometerConfiguration = ackerMicrometerConfiguration;
+        this.internalMessageBatching = internalMessageBatching;
+        this.publisherConfirms = publisherConfirms;
+        this.producerConfirmTrackers = new ArrayList<>(queueExecutor.getThreadCount());
     }
 
     @PostConstruct
@@ -178,6 +197,9 @@ public final class MultiProducerRabbitMQMessagingService
         consumerChannel.addShutdownListener(LoggingShutdownListener.INSTANCE);
         for (Channel producerChannel : producerChannels) {
             producerChannel.addShutdownListener(LoggingShutdownListener.INSTANCE);
+            if (publisherConfirms != null) {
+                producerConfirmTrackers.add(publisherConfirms.createTracker(producerChannel, this));
+            }
         }
         // ensure the exchange is there
         consumerChannel.exchangeDeclare(exchangeName,"direct",true);
@@ -191,13 +213,23 @@ public final class MultiProducerRabbitMQMessagingService
             messageAcker = new DirectMessageAcker(consumerChannel);
         }
         messageAcker.start();
+        throttleExecutor =
+            newSingleThreadExecutor(new DaemonThreadFactory("RABBITMQ-CONSUMPTION-THROTTLE"));
     }
 
     @PreDestroy
     public void stop() {
         logger.info("Stopping messaging service");
         try {
+            throttleExecutor.shutdownNow();
             messageAcker.stop();
+            if (internalMessageBatching != null) {
+                internalMessageBatching.shutdown();
+            }
+            if (publisherConfirms != null) {
+                producerConfirmTrackers.forEach(ChannelConfirmTracker::close);
+                publisherConfirms.shutdown();
+            }
             clientConnection.close();
         } catch (IOException e) {
             logger.error("Failed to close all RabbitMQ Client resources",e);
@@ -314,6 +346,11 @@ public final class MultiProducerRabbitMQMessagingService
         return Math.abs(key.hashCode()) % queueExecutor.getThreadCount();
     }
 
+    @Nullable
+    private ChannelConfirmTracker getConfirmTracker(int bucket) {
+        return publisherConfirms != null ? producerConfirmTrackers.get(bucket) : null;
+    }
+
     private final class LocalMessageQueueFactory implements MessageQueueFactory {
         @Override
         public MessageQueue create(String name, MessageHandler messageHandler) throws Exception {
@@ -377,14 +414,17 @@ public final class MultiProducerRabbitMQMessagingService
         @Override
         public void run() {
             try {
-                Channel producerChannel = producerChannels.get(getBucket(this.queueName));
+                int bucket = getBucket(this.queueName);
+                Channel producerChannel = producerChannels.get(bucket);
                 ensureQueueExists(producerChannel, queueName);
                 this.messageQueue = new LocalMessageQueue(queueExecutor,
                         MultiProducerRabbitMQMessagingService.this,
                         consumerChannel,
                         producerChannel,
                         exchangeName, queueName, messageHandler,
-                        internalMessageDeserializer, messageAcker);
+                        internalMessageDeserializer, messageAcker,
+                        actorExecutor, throttleExecutor, micrometerConfiguration,
+                        internalMessageBatching, getConfirmTracker(bucket));
                 messageQueue.initialize();
             } catch(Exception e) {
                 this.exception = e;
@@ -422,9 +462,10 @@ public final class MultiProducerRabbitMQMessagingService
         @Override
         public void run() {
             try {
-                Channel producerChannel = producerChannels.get(getBucket(this.queueName));
+                int bucket = getBucket(this.queueName);
+                Channel producerChannel = producerChannels.get(bucket);
                 ensureQueueExists(producerChannel,queueName);
-                this.messageQueue =  new RemoteMessageQueue(MultiProducerRabbitMQMessagingService.this, queueExecutor, producerChannel, exchangeName, queueName);
+                this.messageQueue =  new RemoteMessageQueue(MultiProducerRabbitMQMessagingService.this, queueExecutor, producerChannel, exchangeName, queueName, internalMessageBatching, getConfirmTracker(bucket));
                 messageQueue.initialize();
             } catch(Exception e) {
                 this.exception = e;
@@ -24,14 +24,21 @@ import com.rabbitmq.client.MessageProperties;
 import net.jodah.lyra.event.DefaultChannelListener;
 import org.elasticsoftware.elasticactors.MessageDeliveryException;
 import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.messaging.InternalMessageBatcher;
+import org.elasticsoftware.elasticactors.messaging.InternalMessageBatching;
 import org.elasticsoftware.elasticactors.messaging.MessageQueue;
 import org.elasticsoftware.elasticactors.rabbitmq.ChannelListenerRegistry;
+import org.elasticsoftware.elasticactors.rabbitmq.RabbitMQMessagingService;
+import org.elasticsoftware.elasticactors.rabbitmq.confirm.ChannelConfirmTracker;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.annotation.Nullable;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -47,14 +54,22 @@ final class RemoteMessageQueue extends DefaultChannelListener implements Message
     private final ChannelListenerRegistry channelListenerRegistry;
     private final ThreadBoundExecutor queueExecutor;
     private final AtomicBoolean recovering = new AtomicBoolean(false);
+    private final InternalMessageBatcher batcher;
+    private final ChannelConfirmTracker confirmTracker;
 
-    public RemoteMessageQueue(ChannelListenerRegistry channelListenerRegistry, ThreadBoundExecutor queueExecutor, Channel producerChannel, String exchangeName, String queueName) {
+    public RemoteMessageQueue(ChannelListenerRegistry channelListenerRegistry, ThreadBoundExecutor queueExecutor, Channel producerChannel, String exchangeName, String queueName,
+                              @Nullable InternalMessageBatching internalMessageBatching,
+                              @Nullable ChannelConfirmTracker confirmTracker) {
         this.queueExecutor = queueExecutor;
         this.producerChannel = producerChannel;
         this.exchangeName = exchangeName;
         this.queueName = queueName;
         this.channelListenerRegistry = channelListenerRegistry;
         this.channelListenerRegistry.addChannelListener(this.producerChannel,this);
+        this.batcher = internalMessageBatching != null
+            ? internalMessageBatching.createBatcher(queueName, queueExecutor, this::publish)
+            : null;
+        this.confirmTracker = confirmTracker;
     }
 
     @Override
@@ -67,6 +82,25 @@ final class RemoteMessageQueue extends DefaultChannelListener implements Message
         return true;
     }
 
+    private void publish(List<InternalMessage> messages, byte[] body, boolean batch) {
+        try {
+            final AMQP.BasicProperties props =
+                batch ? RabbitMQMessagingService.BATCH_PROPERTIES : createProps(messages.get(0));
+            if (confirmTracker != null) {
+                confirmTracker.publish(exchangeName, queueName, props, body, messages);
+            } else {
+                producerChannel.basicPublish(exchangeName, queueName, false, false, props, body);
+            }
+        } catch (IOException e) {
+            logger.error("IOException while publishing message", e);
+        } catch(AlreadyClosedException e) {
+            this.recovering.set(true);
+            logger.error("MessagingService is recovering");
+        } catch (MessageDeliveryException e) {
+            logger.error("MessageDeliveryException while publishing message", e);
+        }
+    }
+
     private AMQP.BasicProperties createProps(InternalMessage message) {
         if(message.getTimeout() < 0) {
             return message.isDurable() ? MessageProperties.PERSISTENT_BASIC : MessageProperties.BASIC;
@@ -104,6 +138,9 @@ final class RemoteMessageQueue extends DefaultChannelListener implements Message
     @Override
     public void destroy() {
         logger.info("Stopping remote message queue [{}->{}]", exchangeName, queueName);
+        if (batcher != null) {
+            batcher.destroy();
+        }
         this.channelListenerRegistry.removeChannelListener(this.producerChannel,this);
     }
 
@@ -130,14 +167,10 @@ final class RemoteMessageQueue extends DefaultChannelListener implements Message
 
         @Override
         public void run() {
-            try {
-                final AMQP.BasicProperties props = createProps(message);
-                producerChannel.basicPublish(exchangeName, queueName, false, false, props, message.toByteArray());
-            } catch (IOException e) {
-                logger.error("IOException while publishing message", e);
-            } catch(AlreadyClosedException e) {
-                RemoteMessageQueue.this.recovering.set(true);
-                logger.error("MessagingService is recovering");
+            if (batcher != null) {
+                batcher.add(message);
+            } else {
+                publish(Collections.singletonList(message), message.toByteArray(), false);
             }
         }
 
@@ -26,21 +26,31 @@ import com.rabbitmq.client.MessageProperties;
 import com.rabbitmq.client.ShutdownSignalException;
 import net.jodah.lyra.event.ChannelListener;
 import org.elasticsoftware.elasticactors.MessageDeliveryException;
+import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+import org.elasticsoftware.elasticactors.messaging.ConsumptionThrottle;
 import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.messaging.InternalMessageBatcher;
+import org.elasticsoftware.elasticactors.messaging.InternalMessageBatching;
 import org.elasticsoftware.elasticactors.messaging.MessageHandler;
 import org.elasticsoftware.elasticactors.messaging.MessageHandlerEventListener;
 import org.elasticsoftware.elasticactors.messaging.MessageQueue;
 import org.elasticsoftware.elasticactors.rabbitmq.ChannelListenerRegistry;
 import org.elasticsoftware.elasticactors.rabbitmq.MessageAcker;
+import org.elasticsoftware.elasticactors.rabbitmq.RabbitMQMessagingService;
+import org.elasticsoftware.elasticactors.rabbitmq.confirm.ChannelConfirmTracker;
 import org.elasticsoftware.elasticactors.serialization.internal.InternalMessageDeserializer;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundRunnable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.annotation.Nullable;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 import java.nio.ByteBuffer;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -58,11 +68,16 @@ final class LocalMessageQueue extends DefaultConsumer implements MessageQueue, C
     private final MessageHandler messageHandler;
     private final TransientAck transientAck = new TransientAck();
     private final ThreadBoundExecutor queueExecutor;
+    private final ThreadBoundExecutor actorExecutor;
+    private final ConsumptionThrottle consumptionThrottle;
+    private volatile boolean destroying = false;
     private final CountDownLatch destroyLatch = new CountDownLatch(1);
     private final InternalMessageDeserializer internalMessageDeserializer;
     private final AtomicBoolean recovering = new AtomicBoolean(false);
     private final ChannelListenerRegistry channelListenerRegistry;
     private final MessageAcker messageAcker;
+    private final InternalMessageBatcher batcher;
+    private final ChannelConfirmTracker confirmTracker;
 
     public LocalMessageQueue(ThreadBoundExecutor queueExecutor,
                              ChannelListenerRegistry channelListenerRegistry,
@@ -72,9 +87,15 @@ final class LocalMessageQueue extends DefaultConsumer implements MessageQueue, C
                              String queueName,
                              MessageHandler messageHandler,
                              InternalMessageDeserializer internalMessageDeserializer,
-                             MessageAcker messageAcker) {
+                             MessageAcker messageAcker,
+                             @Nullable ThreadBoundExecutor actorExecutor,
+                             Executor throttleExecutor,
+                             @Nullable MicrometerConfiguration micrometerConfiguration,
+                             @Nullable InternalMessageBatching internalMessageBatching,
+                             @Nullable ChannelConfirmTracker confirmTracker) {
         super(consumerChannel);
         this.queueExecutor = queueExecutor;
+        this.actorExecutor = actorExecutor;
         this.consumerChannel = consumerChannel;
         this.producerChannel = producerChannel;
         this.exchangeName = exchangeName;
@@ -84,6 +105,18 @@ final class LocalMessageQueue extends DefaultConsumer implements MessageQueue, C
         this.messageAcker = messageAcker;
         this.channelListenerRegistry = channelListenerRegistry;
         this.channelListenerRegistry.addChannelListener(this.producerChannel,this);
+        // basic.flow is not supported by RabbitMQ, so the consumer is cancelled instead
+        this.consumptionThrottle = new ConsumptionThrottle(
+            queueName,
+            () -> consumerChannel.basicCancel(getConsumerTag()),
+            () -> consumerChannel.basicConsume(queueName, false, this),
+            throttleExecutor,
+            micrometerConfiguration
+        );
+        this.batcher = internalMessageBatching != null
+            ? internalMessageBatching.createBatcher(queueName, null, this::publish)
+            : null;
+        this.confirmTracker = confirmTracker;
     }
 
     @Override
@@ -97,16 +130,29 @@ final class LocalMessageQueue extends DefaultConsumer implements MessageQueue, C
             queueExecutor.execute(new InternalMessageHandler(queueName,message,messageHandler,transientAck,logger));
             return true;
         } else {
-            try {
-                final AMQP.BasicProperties props = createProps(message);
-                producerChannel.basicPublish(exchangeName, queueName, false, false, props, message.toByteArray());
-                return true;
-            } catch (IOException e) {
-                throw new MessageDeliveryException("IOException while publishing message",e,false);
-            } catch(AlreadyClosedException e) {
-                this.recovering.set(true);
-                throw new MessageDeliveryException("MessagingService is recovering",true);
+            if (batcher != null) {
+                batcher.add(message);
+            } else {
+                publish(Collections.singletonList(message), message.toByteArray(), false);
+            }
+            return true;
+        }
+    }
+
+    private void publish(List<InternalMessage> messages, byte[] body, boolean batch) {
+        try {
+            final AMQP.BasicProperties props =
+                batch ? RabbitMQMessagingService.BATCH_PROPERTIES : createProps(messages.get(0));
+            if (confirmTracker != null) {
+                confirmTracker.publish(exchangeName, queueName, props, body, messages);
+            } else {
+                producerChannel.basicPublish(exchangeName, queueName, false, false, props, body);
             }
+        } catch (IOException e) {
+            throw new MessageDeliveryException("IOException while publishing message",e,false);
+        } catch(AlreadyClosedException e) {
+            this.recovering.set(true);
+            throw new MessageDeliveryException("MessagingService is recovering",true);
         }
     }
 
@@ -143,14 +189,23 @@ final class LocalMessageQueue extends DefaultConsumer implements MessageQueue, C
     public void initialize() throws Exception {
         logger.info("Starting local message queue [{}->{}]", exchangeName, queueName);
         consumerChannel.basicConsume(queueName,false,this);
+        consumptionThrottle.register(queueExecutor, actorExecutor);
     }
 
     @Override
     public void destroy() {
         try {
             logger.info("Stopping local message queue [{}->{}]", exchangeName, queueName);
-            consumerChannel.basicCancel(getConsumerTag());
-            destroyLatch.await(4, TimeUnit.SECONDS);
+            destroying = true;
+            consumptionThrottle.unregister();
+            if (batcher != null) {
+                batcher.destroy();
+            }
+            // a paused queue has no consumer left to cancel
+            if (!consumptionThrottle.isPaused()) {
+                consumerChannel.basicCancel(getConsumerTag());
+                destroyLatch.await(4, TimeUnit.SECONDS);
+            }
         } catch (IOException e) {
             logger.error("IOException while cancelling consumer",e);
         } catch (InterruptedException ignored) {
@@ -162,7 +217,10 @@ final class LocalMessageQueue extends DefaultConsumer implements MessageQueue, C
 
     @Override
     public void handleCancelOk(String consumerTag) {
-        destroyLatch.countDown();
+        // the consumer is also cancelled when consumption is paused
+        if (destroying) {
+            destroyLatch.countDown();
+        }
     }
 
     @Override
@@ -186,7 +244,7 @@ final class LocalMessageQueue extends DefaultConsumer implements MessageQueue, C
         try {
             messageAcker.deliver(envelope.getDeliveryTag());
             // execute on seperate (thread bound) executor
-            queueExecutor.execute(new RabbitMQMessageHandler(queueName,body,internalMessageDeserializer,messageHandler,new RabbitMQAck(envelope),logger));
+            queueExecutor.execute(new RabbitMQMessageHandler(queueName,body,InternalMessageBatching.BATCH_TYPE.equals(properties.getType()),internalMessageDeserializer,messageHandler,new RabbitMQAck(envelope),logger));
         } catch(Exception e) {
             logger.error("Unexpected Exception on handleDelivery.. Acking the message so it will not clog up the system",e);
             messageAcker.ack(envelope.getDeliveryTag());
@@ -231,15 +289,17 @@ final class LocalMessageQueue extends DefaultConsumer implements MessageQueue, C
         private final String queueName;
         private final InternalMessageDeserializer internalMessageDeserializer;
         private final byte[] body;
+        private final boolean batch;
         private final MessageHandler messageHandler;
         private final MessageHandlerEventListener listener;
         private final Logger logger;
         private final long startTime;
 
-        private RabbitMQMessageHandler(String queueName, byte[] body, InternalMessageDeserializer internalMessageDeserializer, MessageHandler messageHandler, MessageHandlerEventListener listener, Logger logger) {
+        private RabbitMQMessageHandler(String queueName, byte[] body, boolean batch, InternalMessageDeserializer internalMessageDeserializer, MessageHandler messageHandler, MessageHandlerEventListener listener, Logger logger) {
             this.queueName = queueName;
             this.internalMessageDeserializer = internalMessageDeserializer;
             this.body = body;
+            this.batch = batch;
             this.messageHandler = messageHandler;
             this.listener = listener;
             this.logger = logger;
@@ -255,6 +315,15 @@ final class LocalMessageQueue extends DefaultConsumer implements MessageQueue, C
         public void run() {
             InternalMessage message = null;
             try {
+                if (batch) {
+                    InternalMessageBatching.handleBatch(
+                        ByteBuffer.wrap(body),
+                        internalMessageDeserializer,
+                        messageHandler,
+                        listener
+                    );
+                    return;
+                }
                 // get the body data
                 message = internalMessageDeserializer.deserialize(ByteBuffer.wrap(body));
                 messageHandler.handleMessage(message,listener);
@@ -24,12 +24,19 @@ import com.rabbitmq.client.MessageProperties;
 import net.jodah.lyra.event.DefaultChannelListener;
 import org.elasticsoftware.elasticactors.MessageDeliveryException;
 import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.messaging.InternalMessageBatcher;
+import org.elasticsoftware.elasticactors.messaging.InternalMessageBatching;
 import org.elasticsoftware.elasticactors.messaging.MessageQueue;
 import org.elasticsoftware.elasticactors.rabbitmq.ChannelListenerRegistry;
+import org.elasticsoftware.elasticactors.rabbitmq.RabbitMQMessagingService;
+import org.elasticsoftware.elasticactors.rabbitmq.confirm.ChannelConfirmTracker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.annotation.Nullable;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -44,13 +51,21 @@ final class RemoteMessageQueue extends DefaultChannelListener implements Message
     private final String queueName;
     private final ChannelListenerRegistry channelListenerRegistry;
     private final AtomicBoolean recovering = new AtomicBoolean(false);
+    private final InternalMessageBatcher batcher;
+    private final ChannelConfirmTracker confirmTracker;
 
-    public RemoteMessageQueue(ChannelListenerRegistry channelListenerRegistry,Channel producerChannel, String exchangeName, String queueName) {
+    public RemoteMessageQueue(ChannelListenerRegistry channelListenerRegistry,Channel producerChannel, String exchangeName, String queueName,
+                              @Nullable InternalMessageBatching internalMessageBatching,
+                              @Nullable ChannelConfirmTracker confirmTracker) {
         this.producerChannel = producerChannel;
         this.exchangeName = exchangeName;
         this.queueName = queueName;
         this.channelListenerRegistry = channelListenerRegistry;
         this.channelListenerRegistry.addChannelListener(this.producerChannel,this);
+        this.batcher = internalMessageBatching != null
+            ? internalMessageBatching.createBatcher(queueName, null, this::publish)
+            : null;
+        this.confirmTracker = confirmTracker;
     }
 
     @Override
@@ -59,10 +74,23 @@ final class RemoteMessageQueue extends DefaultChannelListener implements Message
         if(this.recovering.get()) {
             throw new MessageDeliveryException("MessagingService is recovering",true);
         }
+        if (batcher != null) {
+            batcher.add(message);
+        } else {
+            publish(Collections.singletonList(message), message.toByteArray(), false);
+        }
+        return true;
+    }
+
+    private void publish(List<InternalMessage> messages, byte[] body, boolean batch) {
         try {
-            final AMQP.BasicProperties props = createProps(message);
-            producerChannel.basicPublish(exchangeName, queueName,false,false,props,message.toByteArray());
-            return true;
+            final AMQP.BasicProperties props =
+                batch ? RabbitMQMessagingService.BATCH_PROPERTIES : createProps(messages.get(0));
+            if (confirmTracker != null) {
+                confirmTracker.publish(exchangeName, queueName, props, body, messages);
+            } else {
+                producerChannel.basicPublish(exchangeName, queueName, false, false, props, body);
+            }
         } catch (IOException e) {
             throw new MessageDeliveryException("IOException while publishing message",e,false);
         } catch(AlreadyClosedException e) {
@@ -108,6 +136,9 @@ final class RemoteMessageQueue extends DefaultChannelListener implements Message
     @Override
     public void destroy() {
         logger.info("Stopping remote message queue [{}->{}]", exchangeName, queueName);
+        if (batcher != null) {
+            batcher.destroy();
+        }
         this.channelListenerRegistry.removeChannelListener(this.producerChannel,this);
     }
 
@@ -32,6 +32,7 @@ import net.jodah.lyra.event.ChannelListener;
 import net.jodah.lyra.util.Duration;
 import org.elasticsoftware.elasticactors.PhysicalNode;
 import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+import org.elasticsoftware.elasticactors.messaging.InternalMessageBatching;
 import org.elasticsoftware.elasticactors.messaging.MessageHandler;
 import org.elasticsoftware.elasticactors.messaging.MessageQueue;
 import org.elasticsoftware.elasticactors.messaging.MessageQueueFactory;
@@ -44,7 +45,10 @@ import org.elasticsoftware.elasticactors.rabbitmq.ack.AsyncMessageAcker;
 import org.elasticsoftware.elasticactors.rabbitmq.ack.BufferingMessageAcker;
 import org.elasticsoftware.elasticactors.rabbitmq.ack.DirectMessageAcker;
 import org.elasticsoftware.elasticactors.rabbitmq.ack.WriteBehindMessageAcker;
+import org.elasticsoftware.elasticactors.rabbitmq.confirm.ChannelConfirmTracker;
+import org.elasticsoftware.elasticactors.rabbitmq.confirm.PublisherConfirms;
 import org.elasticsoftware.elasticactors.serialization.internal.InternalMessageDeserializer;
+import org.elasticsoftware.elasticactors.util.concurrent.DaemonThreadFactory;
 import org.elasticsoftware.elasticactors.util.concurrent.ThreadBoundExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,6 +62,7 @@ import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 
@@ -65,6 +70,8 @@ import static org.elasticsoftware.elasticactors.rabbitmq.MessageAcker.Type.ASYNC
 import static org.elasticsoftware.elasticactors.rabbitmq.MessageAcker.Type.BUFFERED;
 import static org.elasticsoftware.elasticactors.rabbitmq.MessageAcker.Type.WRITE_BEHIND;
 
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+
 import static java.lang.String.format;
 
 /**
@@ -90,6 +97,8 @@ public final class SingleProducerRabbitMQMessagingService
     private final RemoteMessageQueueFactory remoteMessageQueueFactory;
     private final RemoteActorSystemMessageQueueFactoryFactory remoteActorSystemMessageQueueFactoryFactory;
     private final ThreadBoundExecutor queueExecutor;
+    private final ThreadBoundExecutor actorExecutor;
+    private ExecutorService throttleExecutor;
     private final String username;
     private final String password;
     private final InternalMessageDeserializer internalMessageDeserializer;
@@ -99,6 +108,9 @@ public final class SingleProducerRabbitMQMessagingService
     private final Integer prefetchCount;
     private final MicrometerConfiguration micrometerConfiguration;
     private final MicrometerConfiguration ackerMicrometerConfiguration;
+    private final InternalMessageBatching internalMessageBatching;
+    private final PublisherConfirms publisherConfirms;
+    private ChannelConfirmTracker producerConfirmTracker;
 
     public SingleProducerRabbitMQMessagingService(
         String elasticActorsCluster,
@@ -108,15 +120,19 @@ public final class SingleProducerRabbitMQMessagingService
         String password,
         MessageAcker.Type ackType,
         ThreadBoundExecutor queueExecutor,
+        @Nullable ThreadBoundExecutor actorExecutor,
         InternalMessageDeserializer internalMessageDeserializer,
         Integer prefetchCount,
         @Nullable MicrometerConfiguration micrometerConfiguration,
-        @Nullable MicrometerConfiguration ackerMicrometerConfiguration)
+        @Nullable MicrometerConfiguration ackerMicrometerConfiguration,
+        @Nullable InternalMessageBatching internalMessageBatching,
+        @Nullable PublisherConfirms publisherConfirms)
     {
         this.rabbitmqHosts = rabbitmqHosts;
         this.elasticActorsCluster = elasticActorsCluster;
         this.rabbitmqPort = rabbitmqPort;
         this.queueExecutor = queueExecutor;
+        this.actorExecutor = actorExecutor;
         this.username = username;
         this.password = password;
         this.ackType = ackType;
@@ -128,6 +144,8 @@ public final class SingleProducerRabbitMQMessagingService
         this.remoteActorSystemMessageQueueFactoryFactory = new RemoteActorSystemMessageQueueFactoryFactory();
         this.micrometerConfiguration = micrometerConfiguration;
         this.ackerMicrometerConfiguration = ackerMicrometerConfiguration;
+        this.internalMessageBatching = internalMessageBatching;
+        this.publisherConfirms = publisherConfirms;
     }
 
     @PostConstruct
@@ -170,6 +188,9 @@ public final class SingleProducerRabbitMQMessagingService
         // add logging shutdown listener
         consumerChannel.addShutdownListener(LoggingShutdownListener.INSTANCE);
         producerChannel.addShutdownListener(LoggingShutdownListener.INSTANCE);
+        if (publisherConfirms != null) {
+            producerConfirmTracker = publisherConfirms.createTracker(producerChannel, this);
+        }
         // ensure the exchange is there
         consumerChannel.exchangeDeclare(exchangeName,"direct",true);
         if(ackType == BUFFERED) {
@@ -182,13 +203,23 @@ public final class SingleProducerRabbitMQMessagingService
             messageAcker = new DirectMessageAcker(consumerChannel);
         }
         messageAcker.start();
+        throttleExecutor =
+            newSingleThreadExecutor(new DaemonThreadFactory("RABBITMQ-CONSUMPTION-THROTTLE"));
     }
 
     @PreDestroy
     public void stop() {
         logger.info("Stopping messaging service");
         try {
+            throttleExecutor.shutdownNow();
             messageAcker.stop();
+            if (internalMessageBatching != null) {
+                internalMessageBatching.shutdown();
+            }
+            if (publisherConfirms != null) {
+                producerConfirmTracker.close();
+                publisherConfirms.shutdown();
+            }
             producerChannel.close();
             consumerChannel.close();
             clientConnection.close();
@@ -313,7 +344,9 @@ public final class SingleProducerRabbitMQMessagingService
                     consumerChannel,
                     producerChannel,
                     exchangeName,queueName,messageHandler,
-                    internalMessageDeserializer, messageAcker);
+                    internalMessageDeserializer, messageAcker,
+                    actorExecutor, throttleExecutor, micrometerConfiguration,
+                    internalMessageBatching, producerConfirmTracker);
             messageQueue.initialize();
             return messageQueue;
         }
@@ -324,7 +357,7 @@ public final class SingleProducerRabbitMQMessagingService
         public MessageQueue create(String name, MessageHandler messageHandler) throws Exception {
             final String queueName = format(QUEUE_NAME_FORMAT,elasticActorsCluster,name);
             ensureQueueExists(producerChannel,queueName);
-            return new RemoteMessageQueue(SingleProducerRabbitMQMessagingService.this,producerChannel,exchangeName,queueName);
+            return new RemoteMessageQueue(SingleProducerRabbitMQMessagingService.this,producerChannel,exchangeName,queueName,internalMessageBatching,producerConfirmTracker);
         }
     }
 
@@ -344,7 +377,9 @@ public final class SingleProducerRabbitMQMessagingService
                     SingleProducerRabbitMQMessagingService.this,
                     producerChannel,
                     exchangeName,
-                    queueName);
+                    queueName,
+                    internalMessageBatching,
+                    producerConfirmTracker);
             messageQueue.initialize();
             return messageQueue;
         }
@@ -20,7 +20,6 @@ package org.elasticsoftware.elasticactors.rabbitmq;
 import org.elasticsoftware.elasticactors.ActorRef;
 import org.elasticsoftware.elasticactors.PhysicalNode;
 import org.elasticsoftware.elasticactors.cluster.ActorRefFactory;
-import org.elasticsoftware.elasticactors.cluster.InternalActorSystem;
 import org.elasticsoftware.elasticactors.messaging.DefaultInternalMessage;
 import org.elasticsoftware.elasticactors.messaging.InternalMessage;
 import org.elasticsoftware.elasticactors.messaging.MessageHandler;
@@ -64,7 +63,6 @@ public class RabbitMQMessagingServiceTest {
     private ActorRef senderRef;
     private ActorRef receiverRef;
     private ActorRefFactory actorRefFactory;
-    private InternalActorSystem internalActorSystem;
 
     @BeforeTest(alwaysRun = true)
     public void setUp() {
@@ -72,7 +70,6 @@ public class RabbitMQMessagingServiceTest {
         receiverRef = mock(ActorRef.class);
 
         actorRefFactory = mock(ActorRefFactory.class);
-        internalActorSystem = mock(InternalActorSystem.class);
 
         when(receiverRef.toString()).thenReturn("actor://test.vdwbv.com/test/shards/1/testReceiver");
         when(senderRef.toString()).thenReturn("actor://test.vdwbv.com/test/shards/1/testSender");
@@ -102,12 +99,12 @@ public class RabbitMQMessagingServiceTest {
             System.getProperty("password", "guest"),
             MessageAcker.Type.DIRECT,
             queueExecutor,
-            new InternalMessageDeserializer(
-                new ActorRefDeserializer(actorRefFactory),
-                internalActorSystem
-            ),
+            null,
+            new InternalMessageDeserializer(new ActorRefDeserializer(actorRefFactory)),
             10,
             null,
+            null,
+            null,
             null
         );
         messagingService.start();
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.rabbitmq.confirm;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.elasticsoftware.elasticactors.ActorContainer;
+import org.elasticsoftware.elasticactors.ActorContainerRef;
+import org.elasticsoftware.elasticactors.ActorRef;
+import org.elasticsoftware.elasticactors.MessageDeliveryException;
+import org.elasticsoftware.elasticactors.cluster.metrics.MicrometerConfiguration;
+import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.rabbitmq.ChannelListenerRegistry;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class ChannelConfirmTrackerTest {
+
+    private final AtomicLong nextPublishSeqNo = new AtomicLong(1);
+    private final List<InternalMessage> failed = new ArrayList<>();
+    private final AMQP.BasicProperties props = new AMQP.BasicProperties();
+    private Channel channel;
+
+    @BeforeMethod
+    public void setUp() {
+        nextPublishSeqNo.set(1);
+        failed.clear();
+        channel = mock(Channel.class);
+        when(channel.getNextPublishSeqNo()).thenAnswer(invocation -> nextPublishSeqNo.getAndIncrement());
+    }
+
+    private ChannelConfirmTracker createTracker(int maximumInFlight, long timeoutMillis) {
+        return createTracker(maximumInFlight, timeoutMillis, null);
+    }
+
+    private ChannelConfirmTracker createTracker(
+        int maximumInFlight,
+        long timeoutMillis,
+        MicrometerConfiguration micrometerConfiguration)
+    {
+        return new ChannelConfirmTracker(
+            channel,
+            mock(ChannelListenerRegistry.class),
+            (ms, e) -> {
+                assertTrue(e.isRecoverable());
+                failed.addAll(ms);
+            },
+            maximumInFlight,
+            TimeUnit.MILLISECONDS.toNanos(timeoutMillis),
+            micrometerConfiguration
+        );
+    }
+
+    private InternalMessage publish(ChannelConfirmTracker tracker) throws Exception {
+        return publishBatch(tracker, 1).get(0);
+    }
+
+    private List<InternalMessage> publishBatch(ChannelConfirmTracker tracker, int size) throws Exception {
+        List<InternalMessage> messages = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            messages.add(mock(InternalMessage.class));
+        }
+        tracker.publish("exchange", "queue", props, new byte[0], messages);
+        return messages;
+    }
+
+    @Test
+    public void testMultipleAck() throws Exception {
+        ChannelConfirmTracker tracker = createTracker(8, 10000);
+        for (int i = 0; i < 5; i++) {
+            publish(tracker);
+        }
+
+        tracker.handleAck(3, true);
+        assertEquals(tracker.getInFlight(), 2);
+
+        tracker.handleAck(5, false);
+        assertEquals(tracker.getInFlight(), 1);
+
+        tracker.handleAck(4, false);
+        assertEquals(tracker.getInFlight(), 0);
+        assertTrue(failed.isEmpty());
+    }
+
+    @Test
+    public void testNack() throws Exception {
+        ChannelConfirmTracker tracker = createTracker(8, 10000);
+        publish(tracker);
+        InternalMessage second = publish(tracker);
+        publish(tracker);
+
+        tracker.handleNack(2, false);
+
+        assertEquals(failed.size(), 1);
+        assertSame(failed.get(0), second);
+        assertEquals(tracker.getInFlight(), 2);
+    }
+
+    @Test
+    public void testNackBatch() throws Exception {
+        ChannelConfirmTracker tracker = createTracker(8, 10000);
+        publish(tracker);
+        List<InternalMessage> batch = publishBatch(tracker, 3);
+
+        tracker.handleNack(2, false);
+
+        assertEquals(failed, batch);
+        assertEquals(tracker.getInFlight(), 1);
+    }
+
+    @Test
+    public void testReturnToSenders() throws Exception {
+        ActorContainer senderContainer = mock(ActorContainer.class);
+        ActorRef sender = mock(ActorRef.class, withSettings().extraInterfaces(ActorContainerRef.class));
+        when(((ActorContainerRef) sender).getActorContainer()).thenReturn(senderContainer);
+        ActorRef receiver = mock(ActorRef.class);
+        InternalMessage message = mock(InternalMessage.class);
+        when(message.getSender()).thenReturn(sender);
+        when(message.getReceivers()).thenReturn(List.of(receiver));
+        InternalMessage undeliverable = mock(InternalMessage.class);
+        when(undeliverable.getSender()).thenReturn(sender);
+        when(undeliverable.getReceivers()).thenReturn(List.of(receiver));
+        when(undeliverable.isUndeliverable()).thenReturn(true);
+        List<Runnable> tasks = new ArrayList<>();
+        ChannelConfirmTracker tracker = new ChannelConfirmTracker(
+            channel,
+            mock(ChannelListenerRegistry.class),
+            ChannelConfirmTracker.returnToSenders(tasks::add),
+            8,
+            TimeUnit.SECONDS.toNanos(10),
+            null
+        );
+        tracker.publish("exchange", "queue", props, new byte[0], List.of(message, undeliverable));
+
+        tracker.handleNack(1, false);
+
+        // not on the connection thread
+        verifyNoInteractions(senderContainer);
+        assertEquals(tasks.size(), 1);
+        tasks.get(0).run();
+        // an undeliverable message is not returned again
+        verify(senderContainer).undeliverableMessage(message, receiver);
+        verifyNoMoreInteractions(senderContainer);
+    }
+
+    @Test
+    public void testLostCounter() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerConfiguration micrometerConfiguration = new MicrometerConfiguration(
+            false,
+            false,
+            false,
+            registry,
+            "test",
+            null,
+            null,
+            Map.of(),
+            Map.of()
+        );
+        ChannelConfirmTracker tracker = createTracker(8, 10000, micrometerConfiguration);
+        publishBatch(tracker, 3);
+        publish(tracker);
+        publish(tracker);
+
+        tracker.handleNack(2, true);
+        tracker.handleAck(3, false);
+
+        assertEquals(registry.get("messaging.publish.lost").tag("reason", "nack").counter().count(), 4.0);
+        assertEquals(registry.get("messaging.publish.expired").counter().count(), 0.0);
+        assertEquals(tracker.getInFlight(), 0);
+    }
+
+    @Test
+    public void testExpire() throws Exception {
+        ChannelConfirmTracker tracker = createTracker(8, 1);
+        publish(tracker);
+        Thread.sleep(10);
+
+        tracker.expire();
+
+        // the broker may still deliver the message, so it is not returned to the sender
+        assertTrue(failed.isEmpty());
+        assertEquals(tracker.getInFlight(), 0);
+
+        // a late confirm is ignored
+        tracker.handleNack(1, false);
+        assertTrue(failed.isEmpty());
+    }
+
+    @Test
+    public void testBoundedInFlight() throws Exception {
+        ChannelConfirmTracker tracker = createTracker(2, 100);
+        publish(tracker);
+        publish(tracker);
+
+        expectThrows(MessageDeliveryException.class, () -> publish(tracker));
+        assertEquals(tracker.getInFlight(), 2);
+        // the channel did not publish the message, so it hands out the same sequence number again
+        nextPublishSeqNo.set(3);
+
+        // a confirm makes room for the next message
+        tracker.handleAck(1, false);
+        publish(tracker);
+        assertEquals(tracker.getInFlight(), 2);
+    }
+}
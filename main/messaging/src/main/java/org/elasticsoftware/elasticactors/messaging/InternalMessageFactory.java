@@ -20,7 +20,7 @@ package org.elasticsoftware.elasticactors.messaging;
 import com.google.common.collect.ImmutableList;
 import org.elasticsoftware.elasticactors.ActorRef;
 import org.elasticsoftware.elasticactors.cluster.InternalActorSystem;
-import org.elasticsoftware.elasticactors.serialization.Message;
+import org.elasticsoftware.elasticactors.serialization.MessageMetadata;
 import org.elasticsoftware.elasticactors.serialization.MessageSerializer;
 import org.elasticsoftware.elasticactors.serialization.SerializationContext;
 import org.slf4j.Logger;
@@ -44,12 +44,10 @@ public final class InternalMessageFactory {
         Object message) throws IOException
     {
         // get the durable flag
-        Message messageAnnotation = message.getClass().getAnnotation(Message.class);
-        final boolean durable = (messageAnnotation != null) && messageAnnotation.durable();
-        final boolean immutable = (messageAnnotation != null) && messageAnnotation.immutable();
-        final int timeout = (messageAnnotation != null)
-            ? messageAnnotation.timeout()
-            : Message.NO_TIMEOUT;
+        MessageMetadata metadata = MessageMetadata.of(message);
+        final boolean durable = metadata.isDurable();
+        final boolean immutable = metadata.isImmutable();
+        final int timeout = metadata.getTimeout();
         if (durable || !immutable) {
             // durable so it will go over the bus and needs to be serialized
             return createDefaultInternalMessage(from, to, actorSystem, message, durable, timeout);
@@ -66,11 +64,9 @@ public final class InternalMessageFactory {
         Object message) throws IOException
     {
         // get the durable flag
-        Message messageAnnotation = message.getClass().getAnnotation(Message.class);
-        final boolean durable = (messageAnnotation != null) && messageAnnotation.durable();
-        final int timeout = (messageAnnotation != null)
-            ? messageAnnotation.timeout()
-            : Message.NO_TIMEOUT;
+        MessageMetadata metadata = MessageMetadata.of(message);
+        final boolean durable = metadata.isDurable();
+        final int timeout = metadata.getTimeout();
         return createDefaultInternalMessage(from, to, actorSystem, message, durable, timeout);
     }
 
@@ -81,11 +77,9 @@ public final class InternalMessageFactory {
         Object message) throws IOException
     {
         // get the durable flag
-        Message messageAnnotation = message.getClass().getAnnotation(Message.class);
-        final boolean durable = (messageAnnotation != null) && messageAnnotation.durable();
-        final int timeout = (messageAnnotation != null)
-            ? messageAnnotation.timeout()
-            : Message.NO_TIMEOUT;
+        MessageMetadata metadata = MessageMetadata.of(message);
+        final boolean durable = metadata.isDurable();
+        final int timeout = metadata.getTimeout();
         return createDefaultInternalMessage(from, to, messageSerializer, message, durable, timeout);
     }
 
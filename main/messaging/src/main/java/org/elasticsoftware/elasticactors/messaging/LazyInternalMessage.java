@@ -0,0 +1,313 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.messaging;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.elasticsoftware.elasticactors.ActorRef;
+import org.elasticsoftware.elasticactors.messaging.reactivestreams.ReactiveStreamsProtocol;
+import org.elasticsoftware.elasticactors.serialization.MessageDeserializer;
+import org.elasticsoftware.elasticactors.serialization.MessageMetadata;
+import org.elasticsoftware.elasticactors.serialization.SerializationContext;
+import org.elasticsoftware.elasticactors.serialization.internal.InternalMessageSerializer;
+import org.elasticsoftware.elasticactors.serialization.internal.tracing.CreationContextDeserializer;
+import org.elasticsoftware.elasticactors.serialization.internal.tracing.TraceContextDeserializer;
+import org.elasticsoftware.elasticactors.serialization.protobuf.Messaging;
+import org.elasticsoftware.elasticactors.tracing.CreationContext;
+import org.elasticsoftware.elasticactors.tracing.TraceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+import static org.elasticsoftware.elasticactors.messaging.SplittableUtils.calculateBucketForEmptyOrSingleActor;
+import static org.elasticsoftware.elasticactors.messaging.SplittableUtils.groupByBucket;
+
+/**
+ * {@link InternalMessage} read from a message queue. Only the fields needed to route the message are decoded by the
+ * queue consumer, the {@link TraceContext} and {@link CreationContext} are decoded on first access (usually on the
+ * actor thread), and the payload of immutable messages is deserialized once, on first access, and then shared. A
+ * compressed payload is decompressed on first access as well.
+ */
+public final class LazyInternalMessage
+        implements InternalMessage, Serializable, Splittable<String, InternalMessage> {
+    private static final Logger logger = LoggerFactory.getLogger(LazyInternalMessage.class);
+
+    private final UUID id;
+    private final ActorRef sender;
+    private final ImmutableList<ActorRef> receivers;
+    private final ByteBuffer payload;
+    private final boolean payloadCompressed;
+    private final String payloadClass;
+    private final String messageQueueAffinityKey;
+    private final boolean durable;
+    private final boolean undeliverable;
+    private final int timeout;
+    private transient ByteString serializedTraceContext;
+    private transient ByteString serializedCreationContext;
+    private transient TraceContext traceContext;
+    private transient CreationContext creationContext;
+    private transient volatile boolean contextsDecoded;
+    private transient volatile ByteBuffer decompressedPayload;
+    private transient volatile Object payloadObject;
+    private transient byte[] serializedForm;
+    private transient Boolean reactive;
+
+    public LazyInternalMessage(
+        UUID id,
+        @Nullable ActorRef sender,
+        ImmutableList<ActorRef> receivers,
+        ByteBuffer payload,
+        boolean payloadCompressed,
+        String payloadClass,
+        @Nullable String messageQueueAffinityKey,
+        boolean durable,
+        boolean undeliverable,
+        int timeout,
+        @Nullable ByteString serializedTraceContext,
+        @Nullable ByteString serializedCreationContext)
+    {
+        this.id = id;
+        this.sender = sender;
+        this.receivers = receivers;
+        this.payload = payload;
+        this.payloadCompressed = payloadCompressed;
+        this.payloadClass = payloadClass;
+        this.messageQueueAffinityKey = messageQueueAffinityKey;
+        this.durable = durable;
+        this.undeliverable = undeliverable;
+        this.timeout = timeout;
+        this.serializedTraceContext = serializedTraceContext;
+        this.serializedCreationContext = serializedCreationContext;
+        this.contextsDecoded = serializedTraceContext == null && serializedCreationContext == null;
+    }
+
+    @Override
+    @Nullable
+    public ActorRef getSender() {
+        return sender;
+    }
+
+    @Override
+    public String getTypeAsString() {
+        return payloadClass;
+    }
+
+    @Nullable
+    @Override
+    public Class<?> getType() {
+        Object payloadObject = this.payloadObject;
+        return payloadObject != null ? payloadObject.getClass() : null;
+    }
+
+    @Override
+    public ImmutableList<ActorRef> getReceivers() {
+        return receivers;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public ByteBuffer getPayload() {
+        try {
+            // Using duplicate to give implementations a chance to access the internal byte array
+            return getDecompressedPayload().duplicate();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the payload as it was received, or {@code null} if it wasn't compressed
+     */
+    @Nullable
+    public ByteBuffer getCompressedPayload() {
+        return payloadCompressed ? payload.duplicate() : null;
+    }
+
+    private ByteBuffer getDecompressedPayload() throws IOException {
+        if (!payloadCompressed) {
+            return payload;
+        }
+        ByteBuffer decompressedPayload = this.decompressedPayload;
+        if (decompressedPayload == null) {
+            // racing threads might both decompress the payload, which is fine as the result is the same
+            decompressedPayload = InternalMessageSerializer.get().getPayloadCompression().decompress(payloadClass, payload).asReadOnlyBuffer();
+            this.decompressedPayload = decompressedPayload;
+        }
+        return decompressedPayload;
+    }
+
+    @Override
+    public <T> T getPayload(MessageDeserializer<T> deserializer) throws IOException {
+        Object payloadObject = this.payloadObject;
+        if (payloadObject != null) {
+            return (T) payloadObject;
+        }
+        // Using duplicate to give implementations a chance to access the internal byte array
+        T deserialized = SerializationContext.deserialize(deserializer, getDecompressedPayload().duplicate());
+        if (MessageMetadata.get(deserializer.getMessageClass()).isImmutable()) {
+            // racing threads might both deserialize the payload, which is fine for immutable messages
+            this.payloadObject = deserialized;
+        }
+        return deserialized;
+    }
+
+    @Override
+    public String getPayloadClass() {
+        return payloadClass;
+    }
+
+    @Override
+    public boolean isDurable() {
+        return durable;
+    }
+
+    @Override
+    public boolean isUndeliverable() {
+        return undeliverable;
+    }
+
+    @Override
+    public int getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public boolean hasSerializedPayload() {
+        return payload != null;
+    }
+
+    @Override
+    public boolean hasPayloadObject() {
+        return payloadObject != null;
+    }
+
+    @Nullable
+    @Override
+    public String getMessageQueueAffinityKey() {
+        if (messageQueueAffinityKey != null) {
+            return messageQueueAffinityKey;
+        }
+        return receivers.size() == 1 ? receivers.get(0).getActorId() : null;
+    }
+
+    @Override
+    public boolean isReactive() {
+        if (reactive == null) {
+            reactive = ReactiveStreamsProtocol.isReactive(payloadClass);
+        }
+        return reactive;
+    }
+
+    @Nullable
+    @Override
+    public TraceContext getTraceContext() {
+        decodeContexts();
+        return traceContext;
+    }
+
+    @Nullable
+    @Override
+    public CreationContext getCreationContext() {
+        decodeContexts();
+        return creationContext;
+    }
+
+    private void decodeContexts() {
+        if (!contextsDecoded) {
+            synchronized (this) {
+                if (!contextsDecoded) {
+                    traceContext = decodeTraceContext(serializedTraceContext);
+                    creationContext = decodeCreationContext(serializedCreationContext);
+                    serializedTraceContext = null;
+                    serializedCreationContext = null;
+                    contextsDecoded = true;
+                }
+            }
+        }
+    }
+
+    @Nullable
+    private TraceContext decodeTraceContext(@Nullable ByteString serialized) {
+        if (serialized == null) {
+            return null;
+        }
+        try {
+            return TraceContextDeserializer.deserialize(Messaging.TraceContext.parseFrom(serialized));
+        } catch (InvalidProtocolBufferException e) {
+            logger.warn("Ignoring invalid TraceContext of message [{}] of type [{}]", id, payloadClass, e);
+            return null;
+        }
+    }
+
+    @Nullable
+    private CreationContext decodeCreationContext(@Nullable ByteString serialized) {
+        if (serialized == null) {
+            return null;
+        }
+        try {
+            return CreationContextDeserializer.deserialize(Messaging.CreationContext.parseFrom(serialized));
+        } catch (InvalidProtocolBufferException e) {
+            logger.warn("Ignoring invalid CreationContext of message [{}] of type [{}]", id, payloadClass, e);
+            return null;
+        }
+    }
+
+    @Override
+    public byte[] toByteArray() {
+        if(serializedForm == null) {
+            serializedForm = InternalMessageSerializer.get().serialize(this);
+        }
+        return serializedForm;
+    }
+
+    @Override
+    public ImmutableMap<Integer, InternalMessage> splitInBuckets(Hasher hasher, int buckets) {
+        return receivers.size() <= 1
+            ? ImmutableMap.of(calculateBucketForEmptyOrSingleActor(receivers, hasher, buckets), this)
+            : groupByBucket(receivers, hasher, buckets, this::copyForReceivers);
+    }
+
+    private InternalMessage copyForReceivers(List<ActorRef> receivers) {
+        return new DefaultInternalMessage(
+            UUIDTools.createTimeBasedUUID(),
+            sender,
+            ImmutableList.copyOf(receivers),
+            getPayload(),
+            payloadClass,
+            messageQueueAffinityKey,
+            durable,
+            undeliverable,
+            timeout,
+            getTraceContext(),
+            getCreationContext()
+        );
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.elasticsoftware.elasticactors.messaging;
 
+import org.elasticsoftware.elasticactors.ActorRef;
+
 public interface MessageQueueProxy {
 
     void init() throws Exception;
@@ -24,4 +26,10 @@ public interface MessageQueueProxy {
     void destroy();
 
     void offerInternalMessage(InternalMessage message);
+
+    /**
+     * @return the {@link MessageQueue#getName() name} of the queue the messages for the given receiver are
+     * offered to
+     */
+    String getQueueName(ActorRef receiverRef);
 }
@@ -24,6 +24,7 @@ import org.slf4j.LoggerFactory;
 import jakarta.annotation.Nullable;
 import java.util.Map;
 
+import static org.elasticsoftware.elasticactors.messaging.SplittableUtils.calculateBucket;
 import static org.elasticsoftware.elasticactors.messaging.SplittableUtils.calculateBucketForEmptyOrSingleActor;
 
 public final class MultiMessageQueueProxy implements MessageQueueProxy {
@@ -63,13 +64,8 @@ public final class MultiMessageQueueProxy implements MessageQueueProxy {
             actorRef.getActorPath(),
             messageQueues.length
         );
-        // for backwards compatibility, the first node queue maintains the regular name
-        messageQueues[0] = messageQueueFactory.create(actorRef.getActorPath(), messageHandler);
-        for (int i = 1; i < messageQueues.length; i++) {
-            messageQueues[i] = messageQueueFactory.create(
-                actorRef.getActorPath() + "-queue-" + i,
-                messageHandler
-            );
+        for (int i = 0; i < messageQueues.length; i++) {
+            messageQueues[i] = messageQueueFactory.create(getQueueName(i), messageHandler);
         }
     }
 
@@ -126,6 +122,16 @@ public final class MultiMessageQueueProxy implements MessageQueueProxy {
         }
     }
 
+    @Override
+    public String getQueueName(ActorRef receiverRef) {
+        return messageQueues[calculateBucket(receiverRef, hasher, messageQueues.length)].getName();
+    }
+
+    private String getQueueName(int bucket) {
+        // for backwards compatibility, the first node queue maintains the regular name
+        return bucket == 0 ? actorRef.getActorPath() : actorRef.getActorPath() + "-queue-" + bucket;
+    }
+
     private int getBucket(String messageQueueKey) {
         return Math.abs(hasher.hashStringToInt(messageQueueKey)) % messageQueues.length;
     }
@@ -66,4 +66,9 @@ public final class SingleMessageQueueProxy implements MessageQueueProxy {
     public void offerInternalMessage(InternalMessage message) {
         messageQueue.add(message);
     }
+
+    @Override
+    public String getQueueName(ActorRef receiverRef) {
+        return messageQueue.getName();
+    }
 }
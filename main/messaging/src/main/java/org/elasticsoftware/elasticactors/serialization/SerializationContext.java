@@ -86,8 +86,7 @@ public final class SerializationContext {
         final T message = deserializeWithoutCache(deserializer, bytes);
 
         // check if the message is immutable
-        final Message messageAnnotation = message.getClass().getAnnotation(Message.class);
-        if (messageAnnotation != null && messageAnnotation.immutable()) {
+        if (MessageMetadata.of(message).isImmutable()) {
             // optimize serialization as well
             Map<Object, ByteBuffer> serializationCache = serializationCacheEnabled
                 ? SerializationContext.serializationCache.get()
@@ -121,8 +120,7 @@ public final class SerializationContext {
 
     private static ByteBuffer serializeWithCache(final MessageSerializer serializer, final Object message) throws IOException {
         // check if the message is immutable
-        final Message messageAnnotation = message.getClass().getAnnotation(Message.class);
-        if (messageAnnotation != null && messageAnnotation.immutable()) {
+        if (MessageMetadata.of(message).isImmutable()) {
             Map<Object, ByteBuffer> serializationCache = serializationCacheEnabled
                 ? SerializationContext.serializationCache.get()
                 : null;
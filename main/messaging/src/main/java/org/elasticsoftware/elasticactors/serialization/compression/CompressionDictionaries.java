@@ -0,0 +1,232 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.serialization.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+import jakarta.annotation.Nullable;
+import org.elasticsoftware.elasticactors.util.concurrent.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the zstd dictionaries used to compress and decompress payloads, and trains a dictionary per payload key
+ * from sampled payloads. Training happens in the background once enough samples have been collected; a trained
+ * dictionary is only used after it was stored in the {@link CompressionDictionaryRepository}.
+ */
+public final class CompressionDictionaries {
+    private static final Logger logger = LoggerFactory.getLogger(CompressionDictionaries.class);
+    // zstd advises to train with about 100 times the size of the dictionary
+    private static final int SAMPLE_BUFFER_FACTOR = 100;
+    private static final CompressionDictionaries NONE = new CompressionDictionaries(null, 3, false, 0, 0);
+
+    @Nullable private final CompressionDictionaryRepository repository;
+    private final int level;
+    private final boolean trainingEnabled;
+    private final int trainingSamples;
+    private final int dictionarySize;
+    @Nullable private final ExecutorService trainingExecutor;
+    private final ConcurrentMap<String, ActiveDictionary> activeDictionaries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, ZstdDictDecompress> decompressDictionaries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Training> trainings = new ConcurrentHashMap<>();
+    private final Set<String> failedTrainings = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param repository      where the dictionaries are stored, without a repository no dictionaries are used
+     * @param level           the zstd compression level
+     * @param trainingEnabled whether dictionaries should be trained
+     * @param trainingSamples the number of payloads to train a dictionary from
+     * @param dictionarySize  the maximum size of a trained dictionary
+     */
+    public CompressionDictionaries(
+        @Nullable CompressionDictionaryRepository repository,
+        int level,
+        boolean trainingEnabled,
+        int trainingSamples,
+        int dictionarySize)
+    {
+        this.repository = repository;
+        this.level = level;
+        this.trainingEnabled = trainingEnabled && repository != null;
+        this.trainingSamples = trainingSamples;
+        this.dictionarySize = dictionarySize;
+        this.trainingExecutor = this.trainingEnabled
+            ? Executors.newSingleThreadExecutor(new DaemonThreadFactory("COMPRESSION-DICTIONARY-TRAINER"))
+            : null;
+    }
+
+    public static CompressionDictionaries none() {
+        return NONE;
+    }
+
+    /**
+     * Loads the stored dictionaries, so they will be used for compression
+     */
+    public void init() {
+        if (repository != null) {
+            for (CompressionDictionary dictionary : repository.loadAll()) {
+                activate(dictionary);
+            }
+            logger.info("Loaded {} compression dictionaries", activeDictionaries.size());
+        }
+    }
+
+    public void shutdown() {
+        if (trainingExecutor != null) {
+            trainingExecutor.shutdownNow();
+        }
+    }
+
+    @Nullable
+    ActiveDictionary getCompressionDictionary(String key) {
+        return activeDictionaries.get(key);
+    }
+
+    /**
+     * Makes sure the dictionary with the given id is available to {@link #getDecompressionDictionary(int)}, without
+     * blocking the calling thread. The returned future always completes normally; if the dictionary cannot be loaded,
+     * decompressing will fail later on.
+     */
+    CompletableFuture<Void> loadDecompressionDictionary(int id) {
+        if (repository == null || decompressDictionaries.containsKey(id)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        // could have been trained by another node
+        return repository.loadAsync(id).handle((stored, throwable) -> {
+            if (stored != null) {
+                decompressDictionaries.computeIfAbsent(id, i -> new ZstdDictDecompress(stored.bytes()));
+            } else if (throwable != null) {
+                logger.warn("Exception while loading compression dictionary {}", id, throwable);
+            }
+            return null;
+        });
+    }
+
+    ZstdDictDecompress getDecompressionDictionary(int id) throws IOException {
+        ZstdDictDecompress dictionary = decompressDictionaries.get(id);
+        if (dictionary == null) {
+            // could have been trained by another node
+            CompressionDictionary stored = repository != null ? repository.load(id) : null;
+            if (stored == null) {
+                throw new IOException("Compression dictionary " + id + " not found");
+            }
+            dictionary = decompressDictionaries.computeIfAbsent(id, i -> new ZstdDictDecompress(stored.bytes()));
+        }
+        return dictionary;
+    }
+
+    /**
+     * Offers a payload to train the dictionary for the given key with. This does nothing when the key already has a
+     * dictionary.
+     */
+    void sample(String key, byte[] payload) {
+        if (!trainingEnabled || activeDictionaries.containsKey(key) || failedTrainings.contains(key)) {
+            return;
+        }
+        Training training = trainings.computeIfAbsent(key, Training::new);
+        if (training.add(payload)) {
+            trainingExecutor.execute(() -> train(training));
+        }
+    }
+
+    private void train(Training training) {
+        boolean trained = false;
+        try {
+            byte[] dictionary = training.trainer.trainSamples();
+            int id = (int) Zstd.getDictIdFromDict(dictionary);
+            if (id == 0) {
+                logger.warn("Could not train a compression dictionary for [{}]", training.key);
+                return;
+            }
+            CompressionDictionary compressionDictionary = new CompressionDictionary(id, training.key, dictionary);
+            // payloads compressed with the dictionary cannot be read without it, ids are random so they might collide
+            if (decompressDictionaries.containsKey(id) || !repository.save(compressionDictionary)) {
+                logger.warn(
+                    "Compression dictionary {} trained for [{}] has the same id as an existing dictionary, not using it",
+                    id,
+                    training.key
+                );
+                return;
+            }
+            activate(compressionDictionary);
+            trained = true;
+            logger.info(
+                "Trained compression dictionary {} of {} bytes for [{}]",
+                id,
+                dictionary.length,
+                training.key
+            );
+        } catch (Exception e) {
+            logger.warn("Exception while training a compression dictionary for [{}]", training.key, e);
+        } finally {
+            if (!trained) {
+                failedTrainings.add(training.key);
+            }
+            // releases the samples
+            trainings.remove(training.key, training);
+        }
+    }
+
+    private void activate(CompressionDictionary dictionary) {
+        decompressDictionaries.computeIfAbsent(dictionary.id(), id -> new ZstdDictDecompress(dictionary.bytes()));
+        // with dictionaries from multiple nodes, all nodes should pick the same one
+        activeDictionaries.merge(
+            dictionary.key(),
+            new ActiveDictionary(dictionary.id(), new ZstdDictCompress(dictionary.bytes(), level)),
+            (current, candidate) -> candidate.id() > current.id() ? candidate : current
+        );
+    }
+
+    record ActiveDictionary(int id, ZstdDictCompress dictionary) {
+    }
+
+    private final class Training {
+        private final String key;
+        private final ZstdDictTrainer trainer;
+        private final AtomicInteger samples = new AtomicInteger();
+        private final AtomicBoolean submitted = new AtomicBoolean();
+
+        private Training(String key) {
+            this.key = key;
+            this.trainer = new ZstdDictTrainer(dictionarySize * SAMPLE_BUFFER_FACTOR, dictionarySize);
+        }
+
+        /**
+         * @return {@code true} if the dictionary should be trained now
+         */
+        private boolean add(byte[] payload) {
+            if (submitted.get()) {
+                return false;
+            }
+            boolean full = !trainer.addSample(payload);
+            return (full || samples.incrementAndGet() >= trainingSamples) && submitted.compareAndSet(false, true);
+        }
+    }
+}
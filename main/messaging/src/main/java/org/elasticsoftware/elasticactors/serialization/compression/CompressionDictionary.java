@@ -0,0 +1,29 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.serialization.compression;
+
+/**
+ * A zstd dictionary trained from the payloads with the given key (i.e. the payloads of a single class).
+ *
+ * @param id    the id zstd assigned to the dictionary, which is written in the header of every payload that was
+ *              compressed with it
+ * @param key   the key of the payloads the dictionary was trained from
+ * @param bytes the dictionary itself
+ */
+public record CompressionDictionary(int id, String key, byte[] bytes) {
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.serialization.compression;
+
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Stores the trained {@link CompressionDictionary}s. A payload compressed with a dictionary can only be read back
+ * when the dictionary can be found, so it should be stored where all nodes can find it.
+ * <p>
+ * Dictionaries are stored by their id. zstd picks the id of a trained dictionary at random, so two dictionaries can
+ * end up with the same id; a dictionary must never replace one that was stored before.
+ */
+public interface CompressionDictionaryRepository {
+
+    List<CompressionDictionary> loadAll();
+
+    @Nullable
+    CompressionDictionary load(int id);
+
+    /**
+     * Is called from the threads that complete asynchronous reads of the repository that stores the compressed
+     * payloads, so it should not block. The default implementation loads the dictionary on the calling thread.
+     *
+     * @return the dictionary with the given id, or {@code null} if it doesn't exist
+     */
+    default CompletableFuture<CompressionDictionary> loadAsync(int id) {
+        return CompletableFuture.completedFuture(load(id));
+    }
+
+    /**
+     * @return {@code false} if another dictionary with the same id is stored already, the given dictionary was not
+     * stored then and cannot be used
+     */
+    boolean save(CompressionDictionary dictionary);
+}
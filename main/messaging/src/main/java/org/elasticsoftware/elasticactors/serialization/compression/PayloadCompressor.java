@@ -0,0 +1,181 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.serialization.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import org.elasticsoftware.elasticactors.serialization.compression.CompressionDictionaries.ActiveDictionary;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compresses payloads that are bigger than the compression threshold of their key (usually the name of the class
+ * they were serialized from). The threshold adapts per key: it goes up while the payloads of a key don't compress
+ * well, and returns to the configured threshold when they do.
+ * <p>
+ * A compressed payload starts with the magic bytes of the algorithm. LZ4 payloads are followed by the uncompressed
+ * length, zstd payloads by the id of the dictionary (0 for none) and the uncompressed length. Payloads that don't
+ * get smaller are returned as-is. See {@link PayloadDecompressor}.
+ */
+public final class PayloadCompressor {
+    static final byte[] LZ4_MAGIC_HEADER = {0x18, 0x4D, 0x22, 0x04};
+    static final byte[] ZSTD_MAGIC_HEADER = {0x28, (byte) 0xB5, 0x2F, (byte) 0xFD};
+    static final int LZ4_HEADER_SIZE = LZ4_MAGIC_HEADER.length + Integer.BYTES;
+    static final int ZSTD_HEADER_SIZE = ZSTD_MAGIC_HEADER.length + 2 * Integer.BYTES;
+
+    private static final LZ4Compressor lz4Compressor = LZ4Factory.fastestJavaInstance().fastCompressor();
+    // compressed payloads are written to a pooled buffer first, to be able to allocate the result at its exact size
+    private static final int MAXIMUM_POOLED_BUFFER_SIZE = 1024 * 1024;
+    private static final ThreadLocal<byte[]> pooledBuffers = ThreadLocal.withInitial(() -> new byte[8192]);
+    private static final int MAXIMUM_THRESHOLD = 64 * 1024;
+
+    private final CompressionAlgorithm algorithm;
+    private final int threshold;
+    private final int level;
+    private final CompressionDictionaries dictionaries;
+    private final ThreadLocal<ZstdCompressCtx> zstdContexts;
+    private final ThreadLocal<ZstdCompressCtx> zstdDictionaryContexts;
+    private final ConcurrentMap<String, AdaptiveThreshold> thresholds = new ConcurrentHashMap<>();
+
+    public PayloadCompressor(int threshold) {
+        this(CompressionAlgorithm.LZ4, threshold, 0, CompressionDictionaries.none());
+    }
+
+    /**
+     * @param level        the zstd compression level
+     * @param dictionaries the zstd dictionaries, use {@link CompressionDictionaries#none()} to compress without them
+     */
+    public PayloadCompressor(
+        CompressionAlgorithm algorithm,
+        int threshold,
+        int level,
+        CompressionDictionaries dictionaries)
+    {
+        this.algorithm = algorithm;
+        this.threshold = threshold;
+        this.level = level;
+        this.dictionaries = dictionaries;
+        this.zstdContexts = ThreadLocal.withInitial(() -> new ZstdCompressCtx().setLevel(level));
+        this.zstdDictionaryContexts = ThreadLocal.withInitial(ZstdCompressCtx::new);
+    }
+
+    public ByteBuffer compress(String key, byte[] payload) {
+        AdaptiveThreshold adaptiveThreshold = thresholds.computeIfAbsent(key, k -> new AdaptiveThreshold(threshold));
+        if (payload.length <= adaptiveThreshold.get()) {
+            return ByteBuffer.wrap(payload);
+        }
+        ByteBuffer compressed = algorithm == CompressionAlgorithm.ZSTD
+            ? compressZstd(key, payload)
+            : compressLz4(payload);
+        adaptiveThreshold.update(payload.length, compressed.remaining());
+        return compressed.remaining() < payload.length ? compressed : ByteBuffer.wrap(payload);
+    }
+
+    /**
+     * @return whether the given compressor produces the same payloads as this one
+     */
+    public boolean hasSameSettings(PayloadCompressor other) {
+        return algorithm == other.algorithm
+            && threshold == other.threshold
+            && level == other.level
+            && dictionaries == other.dictionaries;
+    }
+
+    /**
+     * @return the current compression threshold for the given key
+     */
+    public int getThreshold(String key) {
+        AdaptiveThreshold adaptiveThreshold = thresholds.get(key);
+        return adaptiveThreshold != null ? adaptiveThreshold.get() : threshold;
+    }
+
+    private ByteBuffer compressLz4(byte[] payload) {
+        int maximumLength = lz4Compressor.maxCompressedLength(payload.length);
+        byte[] buffer = getBuffer(maximumLength);
+        int compressedLength = lz4Compressor.compress(payload, 0, payload.length, buffer, 0, maximumLength);
+        ByteBuffer compressed = ByteBuffer.allocate(LZ4_HEADER_SIZE + compressedLength);
+        compressed.put(LZ4_MAGIC_HEADER);
+        compressed.putInt(payload.length);
+        compressed.put(buffer, 0, compressedLength);
+        return compressed.flip();
+    }
+
+    private ByteBuffer compressZstd(String key, byte[] payload) {
+        ActiveDictionary dictionary = dictionaries.getCompressionDictionary(key);
+        ZstdCompressCtx context;
+        if (dictionary != null) {
+            context = zstdDictionaryContexts.get().loadDict(dictionary.dictionary());
+        } else {
+            dictionaries.sample(key, payload);
+            context = zstdContexts.get();
+        }
+        int maximumLength = (int) Zstd.compressBound(payload.length);
+        byte[] buffer = getBuffer(maximumLength);
+        int compressedLength = context.compressByteArray(buffer, 0, maximumLength, payload, 0, payload.length);
+        ByteBuffer compressed = ByteBuffer.allocate(ZSTD_HEADER_SIZE + compressedLength);
+        compressed.put(ZSTD_MAGIC_HEADER);
+        compressed.putInt(dictionary != null ? dictionary.id() : 0);
+        compressed.putInt(payload.length);
+        compressed.put(buffer, 0, compressedLength);
+        return compressed.flip();
+    }
+
+    private static byte[] getBuffer(int minimumLength) {
+        byte[] buffer = pooledBuffers.get();
+        if (buffer.length < minimumLength) {
+            buffer = new byte[minimumLength];
+            if (minimumLength <= MAXIMUM_POOLED_BUFFER_SIZE) {
+                pooledBuffers.set(buffer);
+            }
+        }
+        return buffer;
+    }
+
+    private static final class AdaptiveThreshold {
+        // payloads that don't get at least 10% smaller are not worth compressing
+        private static final double POOR_RATIO = 0.9d;
+        private static final double GOOD_RATIO = 0.75d;
+        private final int minimumThreshold;
+        private volatile int threshold;
+        private volatile double ratio = GOOD_RATIO;
+
+        private AdaptiveThreshold(int minimumThreshold) {
+            this.minimumThreshold = minimumThreshold;
+            this.threshold = minimumThreshold;
+        }
+
+        private int get() {
+            return threshold;
+        }
+
+        private void update(int length, int compressedLength) {
+            // exponentially weighted, races between threads only lose a sample
+            double currentRatio = ratio * 0.9d + ((double) compressedLength / length) * 0.1d;
+            ratio = currentRatio;
+            if (currentRatio > POOR_RATIO) {
+                threshold = Math.min(Math.max(threshold, length) * 2, Math.max(MAXIMUM_THRESHOLD, minimumThreshold));
+            } else if (currentRatio < GOOD_RATIO) {
+                threshold = minimumThreshold;
+            }
+        }
+    }
+}
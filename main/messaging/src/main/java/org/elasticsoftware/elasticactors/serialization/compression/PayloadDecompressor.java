@@ -0,0 +1,131 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.serialization.compression;
+
+import com.github.luben.zstd.ZstdDecompressCtx;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+import static org.elasticsoftware.elasticactors.serialization.compression.PayloadCompressor.LZ4_HEADER_SIZE;
+import static org.elasticsoftware.elasticactors.serialization.compression.PayloadCompressor.LZ4_MAGIC_HEADER;
+import static org.elasticsoftware.elasticactors.serialization.compression.PayloadCompressor.ZSTD_HEADER_SIZE;
+import static org.elasticsoftware.elasticactors.serialization.compression.PayloadCompressor.ZSTD_MAGIC_HEADER;
+
+/**
+ * Decompresses the payloads written by {@link PayloadCompressor}, payloads without one of its headers are returned
+ * as they are.
+ */
+public final class PayloadDecompressor {
+    private static final LZ4FastDecompressor lz4Decompressor = LZ4Factory.fastestJavaInstance().fastDecompressor();
+    private static final ThreadLocal<ZstdDecompressCtx> zstdContexts = ThreadLocal.withInitial(ZstdDecompressCtx::new);
+    private static final ThreadLocal<ZstdDecompressCtx> zstdDictionaryContexts =
+        ThreadLocal.withInitial(ZstdDecompressCtx::new);
+
+    private final CompressionDictionaries dictionaries;
+
+    public PayloadDecompressor() {
+        this(CompressionDictionaries.none());
+    }
+
+    public PayloadDecompressor(CompressionDictionaries dictionaries) {
+        this.dictionaries = dictionaries;
+    }
+
+    public boolean isCompressed(ByteBuffer payload) {
+        return hasHeader(payload, LZ4_MAGIC_HEADER) || hasHeader(payload, ZSTD_MAGIC_HEADER);
+    }
+
+    /**
+     * Loads what is needed to decompress the given payload without blocking, so {@link #decompress(ByteBuffer)} won't
+     * have to read from the {@link CompressionDictionaryRepository}. Should be used before decompressing on threads
+     * that must not block, like the I/O threads of a database driver.
+     */
+    public CompletableFuture<Void> prepare(ByteBuffer payload) {
+        if (hasHeader(payload, ZSTD_MAGIC_HEADER) && payload.remaining() >= ZSTD_HEADER_SIZE) {
+            int dictionaryId = payload.getInt(payload.position() + ZSTD_MAGIC_HEADER.length);
+            if (dictionaryId != 0) {
+                return dictionaries.loadDecompressionDictionary(dictionaryId);
+            }
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Does not change the position of the given buffer
+     *
+     * @return the decompressed payload, or the given buffer if it's not compressed
+     */
+    public ByteBuffer decompress(ByteBuffer payload) throws IOException {
+        if (hasHeader(payload, LZ4_MAGIC_HEADER)) {
+            int uncompressedLength = payload.getInt(payload.position() + LZ4_MAGIC_HEADER.length);
+            ByteBuffer destination = ByteBuffer.allocate(uncompressedLength);
+            lz4Decompressor.decompress(
+                payload,
+                payload.position() + LZ4_HEADER_SIZE,
+                destination,
+                0,
+                uncompressedLength
+            );
+            return destination;
+        } else if (hasHeader(payload, ZSTD_MAGIC_HEADER)) {
+            int dictionaryId = payload.getInt(payload.position() + ZSTD_MAGIC_HEADER.length);
+            int uncompressedLength = payload.getInt(payload.position() + ZSTD_MAGIC_HEADER.length + Integer.BYTES);
+            ZstdDecompressCtx context = dictionaryId != 0
+                ? zstdDictionaryContexts.get().loadDict(dictionaries.getDecompressionDictionary(dictionaryId))
+                : zstdContexts.get();
+            byte[] source;
+            int offset;
+            if (payload.hasArray()) {
+                source = payload.array();
+                offset = payload.arrayOffset() + payload.position() + ZSTD_HEADER_SIZE;
+            } else {
+                source = new byte[payload.remaining() - ZSTD_HEADER_SIZE];
+                payload.get(payload.position() + ZSTD_HEADER_SIZE, source);
+                offset = 0;
+            }
+            byte[] destination = new byte[uncompressedLength];
+            context.decompressByteArray(
+                destination,
+                0,
+                uncompressedLength,
+                source,
+                offset,
+                payload.remaining() - ZSTD_HEADER_SIZE
+            );
+            return ByteBuffer.wrap(destination);
+        } else {
+            return payload;
+        }
+    }
+
+    private static boolean hasHeader(ByteBuffer payload, byte[] header) {
+        if (payload.remaining() < header.length) {
+            return false;
+        }
+        for (int i = 0; i < header.length; i++) {
+            if (payload.get(payload.position() + i) != header[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -17,7 +17,7 @@
 
 package org.elasticsoftware.elasticactors.serialization.internal;
 
-import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import org.elasticsoftware.elasticactors.cluster.InternalActorSystems;
 import org.elasticsoftware.elasticactors.messaging.internal.ActorNodeMessage;
 import org.elasticsoftware.elasticactors.serialization.MessageSerializer;
@@ -44,7 +44,7 @@ public final class ActorNodeMessageSerializer implements MessageSerializer<Actor
         builder.setNodeId(actorNodeMessage.getNodeId());
         builder.setPayloadClass(message.getClass().getName());
         MessageSerializer serializer = actorSystems.get(null).getSerializer(message.getClass());
-        builder.setPayload(ByteString.copyFrom(serializer.serialize(message)));
+        builder.setPayload(UnsafeByteOperations.unsafeWrap(serializer.serialize(message)));
         builder.setUndeliverable(actorNodeMessage.isUndeliverable());
         return ByteBuffer.wrap(builder.build().toByteArray());
     }
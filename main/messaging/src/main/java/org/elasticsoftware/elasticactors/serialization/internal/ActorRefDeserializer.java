@@ -17,6 +17,7 @@
 
 package org.elasticsoftware.elasticactors.serialization.internal;
 
+import com.google.protobuf.ByteString;
 import org.elasticsoftware.elasticactors.ActorRef;
 import org.elasticsoftware.elasticactors.cluster.ActorRefFactory;
 import org.elasticsoftware.elasticactors.serialization.Deserializer;
@@ -38,6 +39,13 @@ public final class ActorRefDeserializer implements Deserializer<String,ActorRef>
         return actorRefFactory.create(serializedObject);
     }
 
+    /**
+     * Deserializes ActorRefs written with {@link CompactActorRefs}, without building their ref specs
+     */
+    public ActorRef[] deserialize(ByteString compactActorRefs) throws IOException {
+        return CompactActorRefs.decode(compactActorRefs, actorRefFactory);
+    }
+
     @Override
     public boolean isSafe() {
         return true;
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.serialization.internal;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnsafeByteOperations;
+import org.elasticsoftware.elasticactors.ActorRef;
+import org.elasticsoftware.elasticactors.cluster.ActorRefFactory;
+
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Compact binary encoding of a list of ActorRef specs, used by the {@code actorRefs} field of
+ * {@link org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessage} and
+ * {@link org.elasticsoftware.elasticactors.serialization.protobuf.Elasticactors.PersistentActor} instead of the
+ * string fields.
+ * <p>
+ * A ref spec looks like {@code actor://<cluster>/<actorSystem>/[shards|nodes|services]/<shardId|nodeId>/<actorId>}.
+ * The cluster, actor system and node names are written once to a name table and referenced by index, the shard id is
+ * written as a varint and the actor id as a length prefixed string. Refs that don't follow the spec are written
+ * as-is. The encoded form starts with a format version so readers can reject formats they don't know.
+ * <p>
+ * Readers always accept both the string fields and this encoding, whether or not it's enabled. Writers only use it
+ * when {@code ea.serialization.compactActorRefs.enabled} is set to {@code true}, which is passed to the
+ * {@link InternalMessageSerializer} and {@code PersistentActorSerializer} by the node configuration. Nodes running an
+ * older version don't know the {@code actorRefs} field, so it should only be enabled once all nodes (and remote actor
+ * systems) run a version that supports it.
+ * <p>
+ * Once it has been enabled, persisted actors (and messages still in the queues) can contain this encoding. Disabling
+ * it again doesn't rewrite them, so the reading side of this encoding must never be removed.
+ */
+public final class CompactActorRefs {
+    public static final int VERSION = 1;
+
+    private static final String PREFIX = "actor://";
+
+    private static final int NULL = 0;
+    private static final int RAW = 1;
+    private static final int SHARD = 2;
+    private static final int NODE = 3;
+    private static final int SERVICE = 4;
+    private static final int KIND_MASK = 0x07;
+    private static final int HAS_ACTOR_ID = 0x08;
+
+    private CompactActorRefs() {}
+
+    /**
+     * Encodes the given ref specs, in order. Entries can be {@code null} (i.e. a message without a sender) and will
+     * be decoded as {@code null}.
+     */
+    public static ByteString encode(List<String> refSpecs) {
+        Map<String, Integer> names = new HashMap<>();
+        String[] nameTable = new String[refSpecs.size() * 3];
+        EncodedRef[] encodedRefs = new EncodedRef[refSpecs.size()];
+        int size = CodedOutputStream.computeUInt32SizeNoTag(VERSION)
+            + CodedOutputStream.computeUInt32SizeNoTag(refSpecs.size());
+        for (int i = 0; i < encodedRefs.length; i++) {
+            EncodedRef encodedRef = parse(refSpecs.get(i), names, nameTable);
+            encodedRefs[i] = encodedRef;
+            size += encodedRef.getSerializedSize();
+        }
+        size += CodedOutputStream.computeUInt32SizeNoTag(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            size += CodedOutputStream.computeStringSizeNoTag(nameTable[i]);
+        }
+        byte[] bytes = new byte[size];
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        try {
+            output.writeUInt32NoTag(VERSION);
+            output.writeUInt32NoTag(names.size());
+            for (int i = 0; i < names.size(); i++) {
+                output.writeStringNoTag(nameTable[i]);
+            }
+            output.writeUInt32NoTag(encodedRefs.length);
+            for (EncodedRef encodedRef : encodedRefs) {
+                encodedRef.writeTo(output);
+            }
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            // cannot happen when writing to a byte array of the computed size
+            throw new IllegalStateException(e);
+        }
+        return UnsafeByteOperations.unsafeWrap(bytes);
+    }
+
+    /**
+     * Decodes ref specs encoded with {@link #encode(List)}
+     *
+     * @throws IOException when the input is malformed or was written with an unknown version
+     */
+    public static String[] decode(ByteString encoded) throws IOException {
+        return decode(encoded, String[]::new, new RefDecoder<>() {
+            @Override
+            public String raw(String refSpec) {
+                return refSpec;
+            }
+
+            @Override
+            public String ref(String cluster, String actorSystem, String type, String id, @Nullable String actorId) {
+                StringBuilder refSpec = new StringBuilder(64).append(PREFIX)
+                    .append(cluster).append('/').append(actorSystem).append('/').append(type).append('/').append(id);
+                if (actorId != null) {
+                    refSpec.append('/').append(actorId);
+                }
+                return refSpec.toString();
+            }
+        });
+    }
+
+    /**
+     * Decodes ActorRefs encoded with {@link #encode(List)}. The refs are created from their decoded parts with
+     * {@link ActorRefFactory#create(String, String, String, String, String)}, only refs that were written as-is are
+     * passed to {@link ActorRefFactory#create(String)}.
+     *
+     * @throws IOException when the input is malformed or was written with an unknown version
+     */
+    public static ActorRef[] decode(ByteString encoded, ActorRefFactory actorRefFactory) throws IOException {
+        return decode(encoded, ActorRef[]::new, new RefDecoder<>() {
+            @Override
+            public ActorRef raw(String refSpec) {
+                return actorRefFactory.create(refSpec);
+            }
+
+            @Override
+            public ActorRef ref(String cluster, String actorSystem, String type, String id, @Nullable String actorId) {
+                return actorRefFactory.create(cluster, actorSystem, type, id, actorId);
+            }
+        });
+    }
+
+    private static <T> T[] decode(ByteString encoded, IntFunction<T[]> arrayFactory, RefDecoder<T> decoder) throws IOException {
+        CodedInputStream input = encoded.newCodedInput();
+        int version = input.readUInt32();
+        if (version != VERSION) {
+            throw new IOException(String.format("Unsupported compact ActorRef encoding version: %d", version));
+        }
+        String[] names = new String[readLength(input, encoded.size())];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = input.readStringRequireUtf8();
+        }
+        T[] refs = arrayFactory.apply(readLength(input, encoded.size()));
+        for (int i = 0; i < refs.length; i++) {
+            int header = input.readRawByte();
+            int kind = header & KIND_MASK;
+            if (kind == NULL) {
+                refs[i] = null;
+            } else if (kind == RAW) {
+                refs[i] = decoder.raw(input.readStringRequireUtf8());
+            } else {
+                String cluster = readName(input, names);
+                String actorSystem = readName(input, names);
+                String type;
+                String id;
+                if (kind == SHARD) {
+                    type = "shards";
+                    id = Integer.toString(input.readUInt32());
+                } else if (kind == NODE) {
+                    type = "nodes";
+                    id = readName(input, names);
+                } else if (kind == SERVICE) {
+                    type = "services";
+                    id = readName(input, names);
+                } else {
+                    throw new InvalidProtocolBufferException("Unknown compact ActorRef kind: " + kind);
+                }
+                String actorId = (header & HAS_ACTOR_ID) != 0 ? input.readStringRequireUtf8() : null;
+                refs[i] = decoder.ref(cluster, actorSystem, type, id, actorId);
+            }
+        }
+        return refs;
+    }
+
+    private static int readLength(CodedInputStream input, int maxLength) throws IOException {
+        int length = input.readUInt32();
+        // every entry takes at least one byte
+        if (length < 0 || length > maxLength) {
+            throw new InvalidProtocolBufferException("Invalid compact ActorRef length: " + length);
+        }
+        return length;
+    }
+
+    private static String readName(CodedInputStream input, String[] names) throws IOException {
+        int index = input.readUInt32();
+        if (index < 0 || index >= names.length) {
+            throw new InvalidProtocolBufferException("Invalid compact ActorRef name index: " + index);
+        }
+        return names[index];
+    }
+
+    private static EncodedRef parse(@Nullable String refSpec, Map<String, Integer> names, String[] nameTable) {
+        if (refSpec == null) {
+            return EncodedRef.NULL_REF;
+        }
+        if (!refSpec.startsWith(PREFIX)) {
+            return EncodedRef.raw(refSpec);
+        }
+        // same rules as ActorRefTools: the 4 components are separated by '/', the rest is the actorId
+        int clusterEnd = refSpec.indexOf('/', PREFIX.length());
+        int actorSystemEnd = clusterEnd == -1 ? -1 : refSpec.indexOf('/', clusterEnd + 1);
+        int typeEnd = actorSystemEnd == -1 ? -1 : refSpec.indexOf('/', actorSystemEnd + 1);
+        if (typeEnd == -1) {
+            return EncodedRef.raw(refSpec);
+        }
+        int idEnd = refSpec.indexOf('/', typeEnd + 1);
+        String id = idEnd == -1 ? refSpec.substring(typeEnd + 1) : refSpec.substring(typeEnd + 1, idEnd);
+        String actorId = idEnd == -1 ? null : refSpec.substring(idEnd + 1);
+        int kind;
+        int target;
+        if (isType(refSpec, actorSystemEnd, typeEnd, "shards")) {
+            target = parseShardId(id);
+            if (target == -1) {
+                return EncodedRef.raw(refSpec);
+            }
+            kind = SHARD;
+        } else if (isType(refSpec, actorSystemEnd, typeEnd, "nodes")) {
+            kind = NODE;
+            target = intern(id, names, nameTable);
+        } else if (isType(refSpec, actorSystemEnd, typeEnd, "services")) {
+            kind = SERVICE;
+            target = intern(id, names, nameTable);
+        } else {
+            return EncodedRef.raw(refSpec);
+        }
+        return new EncodedRef(
+            kind,
+            intern(refSpec.substring(PREFIX.length(), clusterEnd), names, nameTable),
+            intern(refSpec.substring(clusterEnd + 1, actorSystemEnd), names, nameTable),
+            target,
+            actorId);
+    }
+
+    private static boolean isType(String refSpec, int start, int end, String type) {
+        return end - start - 1 == type.length() && refSpec.startsWith(type, start + 1);
+    }
+
+    /**
+     * Returns the shard id, or -1 if it can't be written as a number without changing the ref spec
+     */
+    private static int parseShardId(String id) {
+        if (id.isEmpty() || id.length() > 9 || (id.length() > 1 && id.charAt(0) == '0')) {
+            return -1;
+        }
+        int shardId = 0;
+        for (int i = 0; i < id.length(); i++) {
+            char c = id.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            shardId = shardId * 10 + (c - '0');
+        }
+        return shardId;
+    }
+
+    private static int intern(String name, Map<String, Integer> names, String[] nameTable) {
+        Integer index = names.get(name);
+        if (index == null) {
+            index = names.size();
+            names.put(name, index);
+            nameTable[index] = name;
+        }
+        return index;
+    }
+
+    private interface RefDecoder<T> {
+        T raw(String refSpec);
+
+        T ref(String cluster, String actorSystem, String type, String id, @Nullable String actorId);
+    }
+
+    private record EncodedRef(int kind, int cluster, int actorSystem, int target, @Nullable String value) {
+        static final EncodedRef NULL_REF = new EncodedRef(NULL, 0, 0, 0, null);
+
+        static EncodedRef raw(String refSpec) {
+            return new EncodedRef(RAW, 0, 0, 0, refSpec);
+        }
+
+        int getSerializedSize() {
+            if (kind == NULL) {
+                return 1;
+            } else if (kind == RAW) {
+                return 1 + CodedOutputStream.computeStringSizeNoTag(value);
+            }
+            return 1
+                + CodedOutputStream.computeUInt32SizeNoTag(cluster)
+                + CodedOutputStream.computeUInt32SizeNoTag(actorSystem)
+                + CodedOutputStream.computeUInt32SizeNoTag(target)
+                + (value != null ? CodedOutputStream.computeStringSizeNoTag(value) : 0);
+        }
+
+        void writeTo(CodedOutputStream output) throws IOException {
+            if (kind == NULL) {
+                output.writeRawByte(NULL);
+            } else if (kind == RAW) {
+                output.writeRawByte(RAW);
+                output.writeStringNoTag(value);
+            } else {
+                output.writeRawByte(value != null ? kind | HAS_ACTOR_ID : kind);
+                output.writeUInt32NoTag(cluster);
+                output.writeUInt32NoTag(actorSystem);
+                output.writeUInt32NoTag(target);
+                if (value != null) {
+                    output.writeStringNoTag(value);
+                }
+            }
+        }
+    }
+}
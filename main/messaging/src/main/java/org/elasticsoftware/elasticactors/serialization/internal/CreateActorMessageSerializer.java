@@ -17,7 +17,7 @@
 
 package org.elasticsoftware.elasticactors.serialization.internal;
 
-import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import org.elasticsoftware.elasticactors.ActorState;
 import org.elasticsoftware.elasticactors.messaging.internal.CreateActorMessage;
 import org.elasticsoftware.elasticactors.serialization.MessageSerializer;
@@ -45,7 +45,7 @@ public final class CreateActorMessageSerializer implements MessageSerializer<Cre
         builder.setActorClass(message.getActorClass());
         builder.setActorId(message.getActorId());
         if(message.getInitialState() != null) {
-            builder.setInitialState(ByteString.copyFrom(serializeState(message.getInitialState())));
+            builder.setInitialState(UnsafeByteOperations.unsafeWrap(serializeState(message.getInitialState())));
         }
         builder.setType(Messaging.ActorType.forNumber(message.getType().ordinal()));
         if(message.getAffinityKey() != null) {
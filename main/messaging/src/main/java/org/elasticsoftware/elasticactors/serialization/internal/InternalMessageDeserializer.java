@@ -18,98 +18,140 @@
 package org.elasticsoftware.elasticactors.serialization.internal;
 
 import com.google.common.collect.ImmutableList;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
 import org.elasticsoftware.elasticactors.ActorRef;
-import org.elasticsoftware.elasticactors.messaging.DefaultInternalMessage;
-import org.elasticsoftware.elasticactors.messaging.ImmutableInternalMessage;
 import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.messaging.LazyInternalMessage;
 import org.elasticsoftware.elasticactors.messaging.UUIDTools;
 import org.elasticsoftware.elasticactors.serialization.Deserializer;
-import org.elasticsoftware.elasticactors.serialization.Message;
-import org.elasticsoftware.elasticactors.serialization.MessageDeserializer;
-import org.elasticsoftware.elasticactors.serialization.SerializationAccessor;
-import org.elasticsoftware.elasticactors.serialization.internal.tracing.CreationContextDeserializer;
-import org.elasticsoftware.elasticactors.serialization.internal.tracing.TraceContextDeserializer;
 import org.elasticsoftware.elasticactors.serialization.protobuf.Messaging;
-import org.elasticsoftware.elasticactors.tracing.CreationContext;
-import org.elasticsoftware.elasticactors.tracing.TraceContext;
-import org.elasticsoftware.elasticactors.util.ByteBufferUtils;
 
+import jakarta.annotation.Nullable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.util.UUID;
-
-import static org.elasticsoftware.elasticactors.util.ClassLoadingHelper.getClassHelper;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
- * @author Joost van de Wijgerd
+ * Reads the routing fields of an InternalMessage straight from the wire format, without building the protobuf
+ * message. The payload, {@link org.elasticsoftware.elasticactors.tracing.TraceContext} and
+ * {@link org.elasticsoftware.elasticactors.tracing.CreationContext} are decoded (and a compressed payload is
+ * decompressed) by {@link LazyInternalMessage} when they are first accessed, so that work moves from the queue
+ * consumer to the actor threads.
  */
 public final class InternalMessageDeserializer implements Deserializer<ByteBuffer,InternalMessage> {
+    private static final int RECEIVER_TAG = tag(Messaging.InternalMessage.RECEIVER_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int SENDER_TAG = tag(Messaging.InternalMessage.SENDER_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int PAYLOAD_CLASS_TAG = tag(Messaging.InternalMessage.PAYLOADCLASS_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int PAYLOAD_TAG = tag(Messaging.InternalMessage.PAYLOAD_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int ID_TAG = tag(Messaging.InternalMessage.ID_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int DURABLE_TAG = tag(Messaging.InternalMessage.DURABLE_FIELD_NUMBER, WireFormat.WIRETYPE_VARINT);
+    private static final int UNDELIVERABLE_TAG = tag(Messaging.InternalMessage.UNDELIVERABLE_FIELD_NUMBER, WireFormat.WIRETYPE_VARINT);
+    private static final int RECEIVERS_TAG = tag(Messaging.InternalMessage.RECEIVERS_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int TIMEOUT_TAG = tag(Messaging.InternalMessage.TIMEOUT_FIELD_NUMBER, WireFormat.WIRETYPE_VARINT);
+    private static final int TRACE_CONTEXT_TAG = tag(Messaging.InternalMessage.TRACECONTEXT_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int CREATION_CONTEXT_TAG = tag(Messaging.InternalMessage.CREATIONCONTEXT_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int MESSAGE_QUEUE_AFFINITY_KEY_TAG = tag(Messaging.InternalMessage.MESSAGEQUEUEAFFINITYKEY_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int ACTOR_REFS_TAG = tag(Messaging.InternalMessage.ACTORREFS_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int PAYLOAD_COMPRESSED_TAG = tag(Messaging.InternalMessage.PAYLOADCOMPRESSED_FIELD_NUMBER, WireFormat.WIRETYPE_VARINT);
+
     private final ActorRefDeserializer actorRefDeserializer;
-    private final SerializationAccessor serializationAccessor;
 
-    public InternalMessageDeserializer(ActorRefDeserializer actorRefDeserializer, SerializationAccessor serializationAccessor) {
+    public InternalMessageDeserializer(ActorRefDeserializer actorRefDeserializer) {
         this.actorRefDeserializer = actorRefDeserializer;
-        this.serializationAccessor = serializationAccessor;
     }
 
     @Override
     public InternalMessage deserialize(ByteBuffer serializedObject) throws IOException {
-        Messaging.InternalMessage protobufMessage = ByteBufferUtils.throwingApplyAndReset(
-            serializedObject,
-            Messaging.InternalMessage::parseFrom
-        );
-        ActorRef sender = getSender(protobufMessage);
-        // there is either a receiver or a list of receivers
-        ImmutableList<ActorRef> receivers = getReceivers(protobufMessage);
-        String messageClassString = protobufMessage.getPayloadClass();
-        UUID id = UUIDTools.fromByteString(protobufMessage.getId());
-        boolean durable = protobufMessage.getDurable();
-        boolean undeliverable = protobufMessage.getUndeliverable();
-        int timeout = protobufMessage.getTimeout() != 0 ? protobufMessage.getTimeout() : InternalMessage.NO_TIMEOUT;
-        TraceContext traceContext = protobufMessage.hasTraceContext()
-                ? TraceContextDeserializer.deserialize(protobufMessage.getTraceContext())
-                : null;
-        CreationContext creationContext = protobufMessage.hasCreationContext()
-                ? CreationContextDeserializer.deserialize(protobufMessage.getCreationContext())
-                : null;
-        // optimize immutable message if possible
-        Class<?> immutableMessageClass = getIfImmutableMessageClass(messageClassString);
-        ByteBuffer payload = protobufMessage.getPayload().asReadOnlyByteBuffer();
-        if (immutableMessageClass != null) {
-            MessageDeserializer<?> deserializer = serializationAccessor.getDeserializer(immutableMessageClass);
-            Object payloadObject = deserializer.isSafe()
-                ? deserializer.deserialize(payload)
-                : ByteBufferUtils.throwingApplyAndReset(payload, deserializer::deserialize);
-            return new ImmutableInternalMessage(
-                id,
-                sender,
-                receivers,
-                payload,
-                payloadObject,
-                durable,
-                undeliverable,
-                timeout,
-                traceContext,
-                creationContext
-            );
+        // read from a copy so the position of the buffer doesn't change
+        CodedInputStream input = CodedInputStream.newInstance(serializedObject.duplicate());
+        String receiver = null;
+        String sender = null;
+        List<String> receiverList = null;
+        String payloadClass = "";
+        ByteBuffer payload = ByteBuffer.allocate(0);
+        ByteString id = ByteString.EMPTY;
+        boolean durable = false;
+        boolean undeliverable = false;
+        int timeout = 0;
+        ByteString traceContext = null;
+        ByteString creationContext = null;
+        String messageQueueAffinityKey = null;
+        ByteString actorRefs = null;
+        boolean payloadCompressed = false;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (tag == RECEIVER_TAG) {
+                receiver = input.readString();
+            } else if (tag == SENDER_TAG) {
+                sender = input.readString();
+            } else if (tag == PAYLOAD_CLASS_TAG) {
+                payloadClass = input.readString();
+            } else if (tag == PAYLOAD_TAG) {
+                payload = input.readByteBuffer().asReadOnlyBuffer();
+            } else if (tag == ID_TAG) {
+                id = input.readBytes();
+            } else if (tag == DURABLE_TAG) {
+                durable = input.readBool();
+            } else if (tag == UNDELIVERABLE_TAG) {
+                undeliverable = input.readBool();
+            } else if (tag == RECEIVERS_TAG) {
+                if (receiverList == null) {
+                    receiverList = new ArrayList<>();
+                }
+                receiverList.add(input.readString());
+            } else if (tag == TIMEOUT_TAG) {
+                timeout = input.readUInt32();
+            } else if (tag == TRACE_CONTEXT_TAG) {
+                traceContext = input.readBytes();
+            } else if (tag == CREATION_CONTEXT_TAG) {
+                creationContext = input.readBytes();
+            } else if (tag == MESSAGE_QUEUE_AFFINITY_KEY_TAG) {
+                messageQueueAffinityKey = input.readString();
+            } else if (tag == ACTOR_REFS_TAG) {
+                actorRefs = input.readBytes();
+            } else if (tag == PAYLOAD_COMPRESSED_TAG) {
+                payloadCompressed = input.readBool();
+            } else if (!input.skipField(tag)) {
+                break;
+            }
+        }
+        ActorRef senderRef;
+        ImmutableList<ActorRef> receivers;
+        if (actorRefs != null) {
+            // the sender (if any) followed by the receivers
+            ActorRef[] refs = actorRefDeserializer.deserialize(actorRefs);
+            if (refs.length == 0) {
+                throw new IOException("Compact ActorRefs of InternalMessage must contain the sender");
+            }
+            senderRef = refs[0];
+            receivers = ImmutableList.copyOf(Arrays.asList(refs).subList(1, refs.length));
         } else {
-            String messageQueueAffinityKey = protobufMessage.hasMessageQueueAffinityKey()
-                ? protobufMessage.getMessageQueueAffinityKey()
-                : "";
-            return new DefaultInternalMessage(
-                id,
-                sender,
-                receivers,
-                payload,
-                messageClassString,
-                messageQueueAffinityKey.isEmpty() ? null : messageQueueAffinityKey,
-                durable,
-                undeliverable,
-                timeout,
-                traceContext,
-                creationContext
-            );
+            senderRef = deserializeActorRef(sender);
+            // there is either a receiver or a list of receivers
+            receivers = getReceivers(receiver, receiverList);
+        }
+        if (id.size() != 16) {
+            throw new InvalidProtocolBufferException("InternalMessage must have an id of 16 bytes");
         }
+        return new LazyInternalMessage(
+            UUIDTools.fromByteString(id),
+            senderRef,
+            receivers,
+            payload,
+            payloadCompressed,
+            payloadClass,
+            messageQueueAffinityKey == null || messageQueueAffinityKey.isEmpty() ? null : messageQueueAffinityKey,
+            durable,
+            undeliverable,
+            timeout != 0 ? timeout : InternalMessage.NO_TIMEOUT,
+            traceContext,
+            creationContext
+        );
     }
 
     @Override
@@ -117,50 +159,30 @@ public final class InternalMessageDeserializer implements Deserializer<ByteBuffe
         return true;
     }
 
-    private ImmutableList<ActorRef> getReceivers(Messaging.InternalMessage protobufMessage) throws IOException {
-        ActorRef singleReceiver = getSingleReceiver(protobufMessage);
-        if (singleReceiver != null) {
-            return ImmutableList.of(singleReceiver);
-        } else {
-            ImmutableList.Builder<ActorRef> listBuilder = ImmutableList.builder();
-            for (String receiver : protobufMessage.getReceiversList()) {
-                listBuilder.add(actorRefDeserializer.deserialize(receiver));
+    private ImmutableList<ActorRef> getReceivers(@Nullable String receiver, @Nullable List<String> receiverList)
+        throws IOException
+    {
+        if (receiver != null) {
+            ActorRef singleReceiver = deserializeActorRef(receiver);
+            if (singleReceiver != null) {
+                return ImmutableList.of(singleReceiver);
             }
-            return listBuilder.build();
         }
-    }
-
-    private ActorRef getSender(Messaging.InternalMessage protobufMessage) throws IOException {
-        if (protobufMessage.hasSender()) {
-            return deserializeActorRef(protobufMessage.getSender());
-        } else {
-            return null;
+        if (receiverList == null) {
+            return ImmutableList.of();
         }
-    }
-
-    private ActorRef getSingleReceiver(Messaging.InternalMessage protobufMessage) throws IOException {
-        if (protobufMessage.hasReceiver()) {
-            return deserializeActorRef(protobufMessage.getReceiver());
-        } else {
-            return null;
+        ImmutableList.Builder<ActorRef> listBuilder = ImmutableList.builderWithExpectedSize(receiverList.size());
+        for (String refSpec : receiverList) {
+            listBuilder.add(actorRefDeserializer.deserialize(refSpec));
         }
+        return listBuilder.build();
     }
 
-    private ActorRef deserializeActorRef(String actorRef) throws IOException {
-        return actorRef.isEmpty() ? null : actorRefDeserializer.deserialize(actorRef);
+    private ActorRef deserializeActorRef(@Nullable String actorRef) throws IOException {
+        return actorRef == null || actorRef.isEmpty() ? null : actorRefDeserializer.deserialize(actorRef);
     }
 
-    private Class<?> getIfImmutableMessageClass(String messageClassString) {
-        try {
-            Class<?> messageClass = getClassHelper().forName(messageClassString);
-            Message messageAnnotation = messageClass.getAnnotation(Message.class);
-            if(messageAnnotation != null &&  messageAnnotation.immutable()) {
-                return messageClass;
-            } else {
-                return null;
-            }
-        } catch(Exception e) {
-            return null;
-        }
+    private static int tag(int fieldNumber, int wireType) {
+        return (fieldNumber << 3) | wireType;
     }
 }
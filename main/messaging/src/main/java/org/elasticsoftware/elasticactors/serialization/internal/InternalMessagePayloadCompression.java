@@ -0,0 +1,132 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.serialization.internal;
+
+import org.elasticsoftware.elasticactors.serialization.compression.PayloadCompressor;
+import org.elasticsoftware.elasticactors.serialization.compression.PayloadDecompressor;
+
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.elasticsoftware.elasticactors.util.ByteBufferUtils.toByteArray;
+
+/**
+ * Compression of the payload of InternalMessages, flagged by the {@code payloadCompressed} field of
+ * {@link org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessage}. Payloads larger than
+ * the threshold are compressed with a {@link PayloadCompressor}, which raises the threshold for payload classes that
+ * don't compress well.
+ * <p>
+ * Readers always decompress flagged payloads, writers only compress them when a {@link PayloadCompressor} is given,
+ * which the node configuration does when {@code ea.serialization.payloadCompression.enabled} is set to {@code true}.
+ * Nodes running an older version ignore the flag and can't read the compressed payload, so it should only be enabled
+ * once all nodes (and remote actor systems) run a version that supports it.
+ */
+public final class InternalMessagePayloadCompression {
+    private static final InternalMessagePayloadCompression DISABLED = new InternalMessagePayloadCompression(null, null);
+
+    private static final PayloadDecompressor decompressor = new PayloadDecompressor();
+
+    @Nullable private final PayloadCompressor compressor;
+    @Nullable private final Listener listener;
+
+    /**
+     * @param compressor the compressor to use, or {@code null} to only decompress
+     * @param listener notified of every payload that is compressed or decompressed
+     */
+    public InternalMessagePayloadCompression(@Nullable PayloadCompressor compressor, @Nullable Listener listener) {
+        this.compressor = compressor;
+        this.listener = listener;
+    }
+
+    /**
+     * @return a compression that only decompresses, without a listener
+     */
+    public static InternalMessagePayloadCompression disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * @return whether payloads are compressed, as opposed to only decompressed
+     */
+    public boolean isEnabled() {
+        return compressor != null;
+    }
+
+    /**
+     * @return whether the given compression compresses the same payloads in the same way, the listeners are not
+     * compared
+     */
+    boolean hasSameSettings(InternalMessagePayloadCompression other) {
+        return compressor == null
+            ? other.compressor == null
+            : other.compressor != null && compressor.hasSameSettings(other.compressor);
+    }
+
+    /**
+     * @return the compressed payload, or {@code null} when it's below the threshold or doesn't get smaller
+     */
+    @Nullable
+    public ByteBuffer compress(String payloadClass, ByteBuffer payload) {
+        int length = payload.remaining();
+        if (compressor == null || length <= compressor.getThreshold(payloadClass)) {
+            return null;
+        }
+        long startTime = System.nanoTime();
+        ByteBuffer compressed = compressor.compress(payloadClass, toByteArray(payload.duplicate()));
+        long duration = System.nanoTime() - startTime;
+        // the compressor returns the payload as-is when compressing doesn't make it smaller
+        boolean isCompressed = compressed.remaining() < length;
+        if (listener != null) {
+            listener.onCompressed(payloadClass, length, compressed.remaining(), duration);
+        }
+        return isCompressed ? compressed : null;
+    }
+
+    /**
+     * Does not change the position of the given buffer
+     *
+     * @throws IOException when the payload was not compressed by {@link #compress(String, ByteBuffer)}
+     */
+    public ByteBuffer decompress(String payloadClass, ByteBuffer payload) throws IOException {
+        if (!decompressor.isCompressed(payload)) {
+            throw new IOException(String.format(
+                "Payload of InternalMessage of type [%s] is flagged as compressed but has no compression header",
+                payloadClass
+            ));
+        }
+        long startTime = System.nanoTime();
+        ByteBuffer decompressed = decompressor.decompress(payload);
+        long duration = System.nanoTime() - startTime;
+        if (listener != null) {
+            listener.onDecompressed(payloadClass, payload.remaining(), decompressed.remaining(), duration);
+        }
+        return decompressed;
+    }
+
+    public interface Listener {
+
+        /**
+         * Called for every payload the compressor was applied to, {@code compressedLength} equals {@code length} when
+         * the payload didn't get smaller and was sent uncompressed
+         */
+        void onCompressed(String payloadClass, int length, int compressedLength, long durationNanos);
+
+        void onDecompressed(String payloadClass, int compressedLength, int length, long durationNanos);
+    }
+}
@@ -18,40 +18,119 @@
 package org.elasticsoftware.elasticactors.serialization.internal;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import org.elasticsoftware.elasticactors.ActorRef;
 import org.elasticsoftware.elasticactors.messaging.InternalMessage;
+import org.elasticsoftware.elasticactors.messaging.LazyInternalMessage;
 import org.elasticsoftware.elasticactors.messaging.UUIDTools;
 import org.elasticsoftware.elasticactors.serialization.Serializer;
 import org.elasticsoftware.elasticactors.serialization.internal.tracing.CreationContextSerializer;
 import org.elasticsoftware.elasticactors.serialization.internal.tracing.TraceContextSerializer;
 import org.elasticsoftware.elasticactors.serialization.protobuf.Messaging;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author Joost van de Wijgerd
  */
 public final class InternalMessageSerializer implements Serializer<InternalMessage,byte[]> {
-    private static final InternalMessageSerializer INSTANCE = new InternalMessageSerializer();
+    private static final InternalMessageSerializer DEFAULT =
+        new InternalMessageSerializer(InternalMessagePayloadCompression.disabled(), false);
+
+    private static volatile InternalMessageSerializer instance = DEFAULT;
+    // guards the installation of the instance, which is shared by all nodes running in this JVM
+    private static final Object installLock = new Object();
+    private static int installations;
 
+    /**
+     * @return the serializer installed by the node configuration, or one with the default settings when none is
+     */
     public static InternalMessageSerializer get() {
-        return INSTANCE;
+        return instance;
+    }
+
+    private final InternalMessagePayloadCompression payloadCompression;
+    private final boolean compactActorRefs;
+    private boolean installed;
+
+    public InternalMessageSerializer(
+        InternalMessagePayloadCompression payloadCompression,
+        boolean compactActorRefs)
+    {
+        this.payloadCompression = payloadCompression;
+        this.compactActorRefs = compactActorRefs;
+    }
+
+    /**
+     * @return the compression used for the payloads, which is also used to decompress the payloads of the messages
+     * that are received
+     */
+    public InternalMessagePayloadCompression getPayloadCompression() {
+        return payloadCompression;
+    }
+
+    /**
+     * Makes this the serializer returned by {@link #get()}, which is used by the messages to serialize themselves.
+     * The serializer is shared by all nodes running in the same JVM (e.g. in tests), so when one is installed already,
+     * that one stays installed until all of them have been uninstalled.
+     *
+     * @throws IllegalStateException when the installed serializer is configured differently
+     */
+    public void install() {
+        synchronized (installLock) {
+            if (installed) {
+                return;
+            }
+            if (installations > 0 && instance != this) {
+                if (instance.compactActorRefs != compactActorRefs
+                    || !instance.payloadCompression.hasSameSettings(payloadCompression))
+                {
+                    throw new IllegalStateException(
+                        "Another InternalMessageSerializer with different settings is installed already, all nodes "
+                            + "running in the same JVM must use the same ea.serialization settings"
+                    );
+                }
+            } else {
+                instance = this;
+            }
+            installed = true;
+            installations++;
+        }
+    }
+
+    public void uninstall() {
+        synchronized (installLock) {
+            if (installed) {
+                installed = false;
+                if (--installations == 0) {
+                    instance = DEFAULT;
+                }
+            }
+        }
     }
 
     @Override
     public byte[] serialize(InternalMessage internalMessage) {
         Messaging.InternalMessage.Builder builder = Messaging.InternalMessage.newBuilder();
         builder.setId(UUIDTools.toByteString(internalMessage.getId()));
-        builder.setPayload(ByteString.copyFrom(internalMessage.getPayload()));
+        serializePayload(internalMessage, builder);
         builder.setPayloadClass(internalMessage.getPayloadClass());
-        // backwards compatibility for single receiver messages (needed when running mixed clusters < 0.24)
-        if(internalMessage.getReceivers().size() == 1) {
-            builder.setReceiver(ActorRefSerializer.get().serialize(internalMessage.getReceivers().get(0)));
+        if (compactActorRefs) {
+            builder.setActorRefs(serializeActorRefs(internalMessage));
         } else {
-            for (ActorRef receiver : internalMessage.getReceivers()) {
-                builder.addReceivers(ActorRefSerializer.get().serialize(receiver));
+            // backwards compatibility for single receiver messages (needed when running mixed clusters < 0.24)
+            if (internalMessage.getReceivers().size() == 1) {
+                builder.setReceiver(ActorRefSerializer.get().serialize(internalMessage.getReceivers().get(0)));
+            } else {
+                for (ActorRef receiver : internalMessage.getReceivers()) {
+                    builder.addReceivers(ActorRefSerializer.get().serialize(receiver));
+                }
+            }
+            if (internalMessage.getSender() != null) {
+                builder.setSender(ActorRefSerializer.get().serialize(internalMessage.getSender()));
             }
-        }
-        if(internalMessage.getSender() != null) {
-            builder.setSender(ActorRefSerializer.get().serialize(internalMessage.getSender()));
         }
         builder.setDurable(internalMessage.isDurable());
         builder.setUndeliverable(internalMessage.isUndeliverable());
@@ -73,5 +152,40 @@ public final class InternalMessageSerializer implements Serializer<InternalMessa
         return builder.build().toByteArray();
     }
 
+    private void serializePayload(InternalMessage internalMessage, Messaging.InternalMessage.Builder builder) {
+        ByteBuffer compressedPayload = null;
+        if (payloadCompression.isEnabled()) {
+            // forwarded messages are sent with the payload they were received with, without decompressing it
+            compressedPayload = internalMessage instanceof LazyInternalMessage lazyInternalMessage
+                ? lazyInternalMessage.getCompressedPayload()
+                : null;
+            if (compressedPayload == null) {
+                compressedPayload =
+                    payloadCompression.compress(internalMessage.getPayloadClass(), internalMessage.getPayload());
+            }
+        }
+        // the payload is never modified after serialization, so it doesn't need to be copied
+        if (compressedPayload != null) {
+            builder.setPayload(UnsafeByteOperations.unsafeWrap(compressedPayload));
+            builder.setPayloadCompressed(true);
+        } else {
+            builder.setPayload(UnsafeByteOperations.unsafeWrap(internalMessage.getPayload()));
+        }
+    }
+
+    /**
+     * The sender (or {@code null}) followed by the receivers
+     */
+    private static ByteString serializeActorRefs(InternalMessage internalMessage) {
+        List<ActorRef> receivers = internalMessage.getReceivers();
+        List<String> refSpecs = new ArrayList<>(receivers.size() + 1);
+        ActorRef sender = internalMessage.getSender();
+        refSpecs.add(sender != null ? ActorRefSerializer.get().serialize(sender) : null);
+        for (ActorRef receiver : receivers) {
+            refSpecs.add(ActorRefSerializer.get().serialize(receiver));
+        }
+        return CompactActorRefs.encode(refSpecs);
+    }
+
 
 }
@@ -69,6 +69,8 @@ public final class Messaging {
     }
 
     /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
     @java.lang.Deprecated
@@ -76,6 +78,10 @@ public final class Messaging {
       return forNumber(value);
     }
 
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
     public static ActorType forNumber(int value) {
       switch (value) {
         case 0: return PERSISTENT;
@@ -136,42 +142,51 @@ public final class Messaging {
 
     /**
      * <code>required string spanId = 1;</code>
+     * @return Whether the spanId field is set.
      */
     boolean hasSpanId();
     /**
      * <code>required string spanId = 1;</code>
+     * @return The spanId.
      */
     java.lang.String getSpanId();
     /**
      * <code>required string spanId = 1;</code>
+     * @return The bytes for spanId.
      */
     com.google.protobuf.ByteString
         getSpanIdBytes();
 
     /**
      * <code>required string traceId = 2;</code>
+     * @return Whether the traceId field is set.
      */
     boolean hasTraceId();
     /**
      * <code>required string traceId = 2;</code>
+     * @return The traceId.
      */
     java.lang.String getTraceId();
     /**
      * <code>required string traceId = 2;</code>
+     * @return The bytes for traceId.
      */
     com.google.protobuf.ByteString
         getTraceIdBytes();
 
     /**
      * <code>optional string parentId = 3;</code>
+     * @return Whether the parentId field is set.
      */
     boolean hasParentId();
     /**
      * <code>optional string parentId = 3;</code>
+     * @return The parentId.
      */
     java.lang.String getParentId();
     /**
      * <code>optional string parentId = 3;</code>
+     * @return The bytes for parentId.
      */
     com.google.protobuf.ByteString
         getParentIdBytes();
@@ -199,21 +214,21 @@ public final class Messaging {
     /**
      * <code>map&lt;string, string&gt; baggage = 4;</code>
      */
-
-    java.lang.String getBaggageOrDefault(
+    /* nullable */
+java.lang.String getBaggageOrDefault(
         java.lang.String key,
-        java.lang.String defaultValue);
+        /* nullable */
+java.lang.String defaultValue);
     /**
      * <code>map&lt;string, string&gt; baggage = 4;</code>
      */
-
     java.lang.String getBaggageOrThrow(
         java.lang.String key);
   }
   /**
    * Protobuf type {@code org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext}
    */
-  public  static final class TraceContext extends
+  public static final class TraceContext extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext)
       TraceContextOrBuilder {
@@ -229,79 +244,12 @@ public final class Messaging {
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private TraceContext(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              spanId_ = bs;
-              break;
-            }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000002;
-              traceId_ = bs;
-              break;
-            }
-            case 26: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000004;
-              parentId_ = bs;
-              break;
-            }
-            case 34: {
-              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
-                baggage_ = com.google.protobuf.MapField.newMapField(
-                    BaggageDefaultEntryHolder.defaultEntry);
-                mutable_bitField0_ |= 0x00000008;
-              }
-              com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
-              baggage__ = input.readMessage(
-                  BaggageDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
-              baggage_.getMutableMap().put(
-                  baggage__.getKey(), baggage__.getValue());
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TraceContext();
     }
+
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
       return org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_TraceContext_descriptor;
@@ -329,16 +277,21 @@ public final class Messaging {
 
     private int bitField0_;
     public static final int SPANID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object spanId_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object spanId_ = "";
     /**
      * <code>required string spanId = 1;</code>
+     * @return Whether the spanId field is set.
      */
+    @java.lang.Override
     public boolean hasSpanId() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
      * <code>required string spanId = 1;</code>
+     * @return The spanId.
      */
+    @java.lang.Override
     public java.lang.String getSpanId() {
       java.lang.Object ref = spanId_;
       if (ref instanceof java.lang.String) {
@@ -355,7 +308,9 @@ public final class Messaging {
     }
     /**
      * <code>required string spanId = 1;</code>
+     * @return The bytes for spanId.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getSpanIdBytes() {
       java.lang.Object ref = spanId_;
@@ -371,16 +326,21 @@ public final class Messaging {
     }
 
     public static final int TRACEID_FIELD_NUMBER = 2;
-    private volatile java.lang.Object traceId_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object traceId_ = "";
     /**
      * <code>required string traceId = 2;</code>
+     * @return Whether the traceId field is set.
      */
+    @java.lang.Override
     public boolean hasTraceId() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
      * <code>required string traceId = 2;</code>
+     * @return The traceId.
      */
+    @java.lang.Override
     public java.lang.String getTraceId() {
       java.lang.Object ref = traceId_;
       if (ref instanceof java.lang.String) {
@@ -397,7 +357,9 @@ public final class Messaging {
     }
     /**
      * <code>required string traceId = 2;</code>
+     * @return The bytes for traceId.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getTraceIdBytes() {
       java.lang.Object ref = traceId_;
@@ -413,16 +375,21 @@ public final class Messaging {
     }
 
     public static final int PARENTID_FIELD_NUMBER = 3;
-    private volatile java.lang.Object parentId_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object parentId_ = "";
     /**
      * <code>optional string parentId = 3;</code>
+     * @return Whether the parentId field is set.
      */
+    @java.lang.Override
     public boolean hasParentId() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+      return ((bitField0_ & 0x00000004) != 0);
     }
     /**
      * <code>optional string parentId = 3;</code>
+     * @return The parentId.
      */
+    @java.lang.Override
     public java.lang.String getParentId() {
       java.lang.Object ref = parentId_;
       if (ref instanceof java.lang.String) {
@@ -439,7 +406,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string parentId = 3;</code>
+     * @return The bytes for parentId.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getParentIdBytes() {
       java.lang.Object ref = parentId_;
@@ -466,6 +435,7 @@ public final class Messaging {
                   com.google.protobuf.WireFormat.FieldType.STRING,
                   "");
     }
+    @SuppressWarnings("serial")
     private com.google.protobuf.MapField<
         java.lang.String, java.lang.String> baggage_;
     private com.google.protobuf.MapField<java.lang.String, java.lang.String>
@@ -476,22 +446,22 @@ public final class Messaging {
       }
       return baggage_;
     }
-
     public int getBaggageCount() {
       return internalGetBaggage().getMap().size();
     }
     /**
      * <code>map&lt;string, string&gt; baggage = 4;</code>
      */
-
+    @java.lang.Override
     public boolean containsBaggage(
         java.lang.String key) {
-      if (key == null) { throw new java.lang.NullPointerException(); }
+      if (key == null) { throw new NullPointerException("map key"); }
       return internalGetBaggage().getMap().containsKey(key);
     }
     /**
      * Use {@link #getBaggageMap()} instead.
      */
+    @java.lang.Override
     @java.lang.Deprecated
     public java.util.Map<java.lang.String, java.lang.String> getBaggage() {
       return getBaggageMap();
@@ -499,18 +469,20 @@ public final class Messaging {
     /**
      * <code>map&lt;string, string&gt; baggage = 4;</code>
      */
-
+    @java.lang.Override
     public java.util.Map<java.lang.String, java.lang.String> getBaggageMap() {
       return internalGetBaggage().getMap();
     }
     /**
      * <code>map&lt;string, string&gt; baggage = 4;</code>
      */
-
-    public java.lang.String getBaggageOrDefault(
+    @java.lang.Override
+    public /* nullable */
+java.lang.String getBaggageOrDefault(
         java.lang.String key,
-        java.lang.String defaultValue) {
-      if (key == null) { throw new java.lang.NullPointerException(); }
+        /* nullable */
+java.lang.String defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
       java.util.Map<java.lang.String, java.lang.String> map =
           internalGetBaggage().getMap();
       return map.containsKey(key) ? map.get(key) : defaultValue;
@@ -518,10 +490,10 @@ public final class Messaging {
     /**
      * <code>map&lt;string, string&gt; baggage = 4;</code>
      */
-
+    @java.lang.Override
     public java.lang.String getBaggageOrThrow(
         java.lang.String key) {
-      if (key == null) { throw new java.lang.NullPointerException(); }
+      if (key == null) { throw new NullPointerException("map key"); }
       java.util.Map<java.lang.String, java.lang.String> map =
           internalGetBaggage().getMap();
       if (!map.containsKey(key)) {
@@ -552,13 +524,13 @@ public final class Messaging {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, spanId_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, traceId_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 3, parentId_);
       }
       com.google.protobuf.GeneratedMessageV3
@@ -567,7 +539,7 @@ public final class Messaging {
           internalGetBaggage(),
           BaggageDefaultEntryHolder.defaultEntry,
           4);
-      unknownFields.writeTo(output);
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -576,13 +548,13 @@ public final class Messaging {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, spanId_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, traceId_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, parentId_);
       }
       for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
@@ -595,7 +567,7 @@ public final class Messaging {
         size += com.google.protobuf.CodedOutputStream
             .computeMessageSize(4, baggage__);
       }
-      size += unknownFields.getSerializedSize();
+      size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
@@ -610,26 +582,25 @@ public final class Messaging {
       }
       org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext other = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext) obj;
 
-      boolean result = true;
-      result = result && (hasSpanId() == other.hasSpanId());
+      if (hasSpanId() != other.hasSpanId()) return false;
       if (hasSpanId()) {
-        result = result && getSpanId()
-            .equals(other.getSpanId());
+        if (!getSpanId()
+            .equals(other.getSpanId())) return false;
       }
-      result = result && (hasTraceId() == other.hasTraceId());
+      if (hasTraceId() != other.hasTraceId()) return false;
       if (hasTraceId()) {
-        result = result && getTraceId()
-            .equals(other.getTraceId());
+        if (!getTraceId()
+            .equals(other.getTraceId())) return false;
       }
-      result = result && (hasParentId() == other.hasParentId());
+      if (hasParentId() != other.hasParentId()) return false;
       if (hasParentId()) {
-        result = result && getParentId()
-            .equals(other.getParentId());
+        if (!getParentId()
+            .equals(other.getParentId())) return false;
       }
-      result = result && internalGetBaggage().equals(
-          other.internalGetBaggage());
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (!internalGetBaggage().equals(
+          other.internalGetBaggage())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -655,7 +626,7 @@ public final class Messaging {
         hash = (37 * hash) + BAGGAGE_FIELD_NUMBER;
         hash = (53 * hash) + internalGetBaggage().hashCode();
       }
-      hash = (29 * hash) + unknownFields.hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -794,28 +765,21 @@ public final class Messaging {
 
       // Construct using org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.newBuilder()
       private Builder() {
-        maybeForceBuilderInitialization();
+
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
         super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
+
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
         spanId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
         traceId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
         parentId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000004);
         internalGetMutableBaggage().clear();
         return this;
       }
@@ -843,59 +807,33 @@ public final class Messaging {
       @java.lang.Override
       public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext buildPartial() {
         org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext result = new org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.spanId_ = spanId_;
           to_bitField0_ |= 0x00000001;
         }
-        result.spanId_ = spanId_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.traceId_ = traceId_;
           to_bitField0_ |= 0x00000002;
         }
-        result.traceId_ = traceId_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.parentId_ = parentId_;
           to_bitField0_ |= 0x00000004;
         }
-        result.parentId_ = parentId_;
-        result.baggage_ = internalGetBaggage();
-        result.baggage_.makeImmutable();
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.baggage_ = internalGetBaggage();
+          result.baggage_.makeImmutable();
+        }
+        result.bitField0_ |= to_bitField0_;
       }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext) {
@@ -909,23 +847,24 @@ public final class Messaging {
       public Builder mergeFrom(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext other) {
         if (other == org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.getDefaultInstance()) return this;
         if (other.hasSpanId()) {
-          bitField0_ |= 0x00000001;
           spanId_ = other.spanId_;
+          bitField0_ |= 0x00000001;
           onChanged();
         }
         if (other.hasTraceId()) {
-          bitField0_ |= 0x00000002;
           traceId_ = other.traceId_;
+          bitField0_ |= 0x00000002;
           onChanged();
         }
         if (other.hasParentId()) {
-          bitField0_ |= 0x00000004;
           parentId_ = other.parentId_;
+          bitField0_ |= 0x00000004;
           onChanged();
         }
         internalGetMutableBaggage().mergeFrom(
             other.internalGetBaggage());
-        this.mergeUnknownFields(other.unknownFields);
+        bitField0_ |= 0x00000008;
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
@@ -946,17 +885,54 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext parsedMessage = null;
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
         try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                spanId_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                traceId_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                parentId_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+                baggage__ = input.readMessage(
+                    BaggageDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableBaggage().getMutableMap().put(
+                    baggage__.getKey(), baggage__.getValue());
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+          onChanged();
+        } // finally
         return this;
       }
       private int bitField0_;
@@ -964,12 +940,14 @@ public final class Messaging {
       private java.lang.Object spanId_ = "";
       /**
        * <code>required string spanId = 1;</code>
+       * @return Whether the spanId field is set.
        */
       public boolean hasSpanId() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <code>required string spanId = 1;</code>
+       * @return The spanId.
        */
       public java.lang.String getSpanId() {
         java.lang.Object ref = spanId_;
@@ -987,6 +965,7 @@ public final class Messaging {
       }
       /**
        * <code>required string spanId = 1;</code>
+       * @return The bytes for spanId.
        */
       public com.google.protobuf.ByteString
           getSpanIdBytes() {
@@ -1003,36 +982,37 @@ public final class Messaging {
       }
       /**
        * <code>required string spanId = 1;</code>
+       * @param value The spanId to set.
+       * @return This builder for chaining.
        */
       public Builder setSpanId(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         spanId_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <code>required string spanId = 1;</code>
+       * @return This builder for chaining.
        */
       public Builder clearSpanId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
         spanId_ = getDefaultInstance().getSpanId();
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
        * <code>required string spanId = 1;</code>
+       * @param value The bytes for spanId to set.
+       * @return This builder for chaining.
        */
       public Builder setSpanIdBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         spanId_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
@@ -1040,12 +1020,14 @@ public final class Messaging {
       private java.lang.Object traceId_ = "";
       /**
        * <code>required string traceId = 2;</code>
+       * @return Whether the traceId field is set.
        */
       public boolean hasTraceId() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
        * <code>required string traceId = 2;</code>
+       * @return The traceId.
        */
       public java.lang.String getTraceId() {
         java.lang.Object ref = traceId_;
@@ -1063,6 +1045,7 @@ public final class Messaging {
       }
       /**
        * <code>required string traceId = 2;</code>
+       * @return The bytes for traceId.
        */
       public com.google.protobuf.ByteString
           getTraceIdBytes() {
@@ -1079,36 +1062,37 @@ public final class Messaging {
       }
       /**
        * <code>required string traceId = 2;</code>
+       * @param value The traceId to set.
+       * @return This builder for chaining.
        */
       public Builder setTraceId(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         traceId_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <code>required string traceId = 2;</code>
+       * @return This builder for chaining.
        */
       public Builder clearTraceId() {
-        bitField0_ = (bitField0_ & ~0x00000002);
         traceId_ = getDefaultInstance().getTraceId();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
       /**
        * <code>required string traceId = 2;</code>
+       * @param value The bytes for traceId to set.
+       * @return This builder for chaining.
        */
       public Builder setTraceIdBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         traceId_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
@@ -1116,12 +1100,14 @@ public final class Messaging {
       private java.lang.Object parentId_ = "";
       /**
        * <code>optional string parentId = 3;</code>
+       * @return Whether the parentId field is set.
        */
       public boolean hasParentId() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+        return ((bitField0_ & 0x00000004) != 0);
       }
       /**
        * <code>optional string parentId = 3;</code>
+       * @return The parentId.
        */
       public java.lang.String getParentId() {
         java.lang.Object ref = parentId_;
@@ -1139,6 +1125,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string parentId = 3;</code>
+       * @return The bytes for parentId.
        */
       public com.google.protobuf.ByteString
           getParentIdBytes() {
@@ -1155,36 +1142,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string parentId = 3;</code>
+       * @param value The parentId to set.
+       * @return This builder for chaining.
        */
       public Builder setParentId(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
+        if (value == null) { throw new NullPointerException(); }
         parentId_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
        * <code>optional string parentId = 3;</code>
+       * @return This builder for chaining.
        */
       public Builder clearParentId() {
-        bitField0_ = (bitField0_ & ~0x00000004);
         parentId_ = getDefaultInstance().getParentId();
+        bitField0_ = (bitField0_ & ~0x00000004);
         onChanged();
         return this;
       }
       /**
        * <code>optional string parentId = 3;</code>
+       * @param value The bytes for parentId to set.
+       * @return This builder for chaining.
        */
       public Builder setParentIdBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
+        if (value == null) { throw new NullPointerException(); }
         parentId_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
@@ -1192,7 +1180,7 @@ public final class Messaging {
       private com.google.protobuf.MapField<
           java.lang.String, java.lang.String> baggage_;
       private com.google.protobuf.MapField<java.lang.String, java.lang.String>
-      internalGetBaggage() {
+          internalGetBaggage() {
         if (baggage_ == null) {
           return com.google.protobuf.MapField.emptyMapField(
               BaggageDefaultEntryHolder.defaultEntry);
@@ -1200,8 +1188,7 @@ public final class Messaging {
         return baggage_;
       }
       private com.google.protobuf.MapField<java.lang.String, java.lang.String>
-      internalGetMutableBaggage() {
-        onChanged();;
+          internalGetMutableBaggage() {
         if (baggage_ == null) {
           baggage_ = com.google.protobuf.MapField.newMapField(
               BaggageDefaultEntryHolder.defaultEntry);
@@ -1209,24 +1196,26 @@ public final class Messaging {
         if (!baggage_.isMutable()) {
           baggage_ = baggage_.copy();
         }
+        bitField0_ |= 0x00000008;
+        onChanged();
         return baggage_;
       }
-
       public int getBaggageCount() {
         return internalGetBaggage().getMap().size();
       }
       /**
        * <code>map&lt;string, string&gt; baggage = 4;</code>
        */
-
+      @java.lang.Override
       public boolean containsBaggage(
           java.lang.String key) {
-        if (key == null) { throw new java.lang.NullPointerException(); }
+        if (key == null) { throw new NullPointerException("map key"); }
         return internalGetBaggage().getMap().containsKey(key);
       }
       /**
        * Use {@link #getBaggageMap()} instead.
        */
+      @java.lang.Override
       @java.lang.Deprecated
       public java.util.Map<java.lang.String, java.lang.String> getBaggage() {
         return getBaggageMap();
@@ -1234,18 +1223,20 @@ public final class Messaging {
       /**
        * <code>map&lt;string, string&gt; baggage = 4;</code>
        */
-
+      @java.lang.Override
       public java.util.Map<java.lang.String, java.lang.String> getBaggageMap() {
         return internalGetBaggage().getMap();
       }
       /**
        * <code>map&lt;string, string&gt; baggage = 4;</code>
        */
-
-      public java.lang.String getBaggageOrDefault(
+      @java.lang.Override
+      public /* nullable */
+java.lang.String getBaggageOrDefault(
           java.lang.String key,
-          java.lang.String defaultValue) {
-        if (key == null) { throw new java.lang.NullPointerException(); }
+          /* nullable */
+java.lang.String defaultValue) {
+        if (key == null) { throw new NullPointerException("map key"); }
         java.util.Map<java.lang.String, java.lang.String> map =
             internalGetBaggage().getMap();
         return map.containsKey(key) ? map.get(key) : defaultValue;
@@ -1253,10 +1244,10 @@ public final class Messaging {
       /**
        * <code>map&lt;string, string&gt; baggage = 4;</code>
        */
-
+      @java.lang.Override
       public java.lang.String getBaggageOrThrow(
           java.lang.String key) {
-        if (key == null) { throw new java.lang.NullPointerException(); }
+        if (key == null) { throw new NullPointerException("map key"); }
         java.util.Map<java.lang.String, java.lang.String> map =
             internalGetBaggage().getMap();
         if (!map.containsKey(key)) {
@@ -1264,8 +1255,8 @@ public final class Messaging {
         }
         return map.get(key);
       }
-
       public Builder clearBaggage() {
+        bitField0_ = (bitField0_ & ~0x00000008);
         internalGetMutableBaggage().getMutableMap()
             .clear();
         return this;
@@ -1273,10 +1264,9 @@ public final class Messaging {
       /**
        * <code>map&lt;string, string&gt; baggage = 4;</code>
        */
-
       public Builder removeBaggage(
           java.lang.String key) {
-        if (key == null) { throw new java.lang.NullPointerException(); }
+        if (key == null) { throw new NullPointerException("map key"); }
         internalGetMutableBaggage().getMutableMap()
             .remove(key);
         return this;
@@ -1286,7 +1276,8 @@ public final class Messaging {
        */
       @java.lang.Deprecated
       public java.util.Map<java.lang.String, java.lang.String>
-      getMutableBaggage() {
+          getMutableBaggage() {
+        bitField0_ |= 0x00000008;
         return internalGetMutableBaggage().getMutableMap();
       }
       /**
@@ -1295,20 +1286,21 @@ public final class Messaging {
       public Builder putBaggage(
           java.lang.String key,
           java.lang.String value) {
-        if (key == null) { throw new java.lang.NullPointerException(); }
-        if (value == null) { throw new java.lang.NullPointerException(); }
+        if (key == null) { throw new NullPointerException("map key"); }
+        if (value == null) { throw new NullPointerException("map value"); }
         internalGetMutableBaggage().getMutableMap()
             .put(key, value);
+        bitField0_ |= 0x00000008;
         return this;
       }
       /**
        * <code>map&lt;string, string&gt; baggage = 4;</code>
        */
-
       public Builder putAllBaggage(
           java.util.Map<java.lang.String, java.lang.String> values) {
         internalGetMutableBaggage().getMutableMap()
             .putAll(values);
+        bitField0_ |= 0x00000008;
         return this;
       }
       @java.lang.Override
@@ -1344,7 +1336,18 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new TraceContext(input, extensionRegistry);
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
     };
 
@@ -1370,59 +1373,70 @@ public final class Messaging {
 
     /**
      * <code>optional string creator = 1;</code>
+     * @return Whether the creator field is set.
      */
     boolean hasCreator();
     /**
      * <code>optional string creator = 1;</code>
+     * @return The creator.
      */
     java.lang.String getCreator();
     /**
      * <code>optional string creator = 1;</code>
+     * @return The bytes for creator.
      */
     com.google.protobuf.ByteString
         getCreatorBytes();
 
     /**
      * <code>optional string creatorType = 2;</code>
+     * @return Whether the creatorType field is set.
      */
     boolean hasCreatorType();
     /**
      * <code>optional string creatorType = 2;</code>
+     * @return The creatorType.
      */
     java.lang.String getCreatorType();
     /**
      * <code>optional string creatorType = 2;</code>
+     * @return The bytes for creatorType.
      */
     com.google.protobuf.ByteString
         getCreatorTypeBytes();
 
     /**
      * <code>optional string creatorMethod = 3;</code>
+     * @return Whether the creatorMethod field is set.
      */
     boolean hasCreatorMethod();
     /**
      * <code>optional string creatorMethod = 3;</code>
+     * @return The creatorMethod.
      */
     java.lang.String getCreatorMethod();
     /**
      * <code>optional string creatorMethod = 3;</code>
+     * @return The bytes for creatorMethod.
      */
     com.google.protobuf.ByteString
         getCreatorMethodBytes();
 
     /**
      * <code>optional bool scheduled = 4;</code>
+     * @return Whether the scheduled field is set.
      */
     boolean hasScheduled();
     /**
      * <code>optional bool scheduled = 4;</code>
+     * @return The scheduled.
      */
     boolean getScheduled();
   }
   /**
    * Protobuf type {@code org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext}
    */
-  public  static final class CreationContext extends
+  public static final class CreationContext extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext)
       CreationContextOrBuilder {
@@ -1435,75 +1449,15 @@ public final class Messaging {
       creator_ = "";
       creatorType_ = "";
       creatorMethod_ = "";
-      scheduled_ = false;
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private CreationContext(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              creator_ = bs;
-              break;
-            }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000002;
-              creatorType_ = bs;
-              break;
-            }
-            case 26: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000004;
-              creatorMethod_ = bs;
-              break;
-            }
-            case 32: {
-              bitField0_ |= 0x00000008;
-              scheduled_ = input.readBool();
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CreationContext();
     }
+
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
       return org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_CreationContext_descriptor;
@@ -1519,16 +1473,21 @@ public final class Messaging {
 
     private int bitField0_;
     public static final int CREATOR_FIELD_NUMBER = 1;
-    private volatile java.lang.Object creator_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object creator_ = "";
     /**
      * <code>optional string creator = 1;</code>
+     * @return Whether the creator field is set.
      */
+    @java.lang.Override
     public boolean hasCreator() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
      * <code>optional string creator = 1;</code>
+     * @return The creator.
      */
+    @java.lang.Override
     public java.lang.String getCreator() {
       java.lang.Object ref = creator_;
       if (ref instanceof java.lang.String) {
@@ -1545,7 +1504,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string creator = 1;</code>
+     * @return The bytes for creator.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getCreatorBytes() {
       java.lang.Object ref = creator_;
@@ -1561,16 +1522,21 @@ public final class Messaging {
     }
 
     public static final int CREATORTYPE_FIELD_NUMBER = 2;
-    private volatile java.lang.Object creatorType_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object creatorType_ = "";
     /**
      * <code>optional string creatorType = 2;</code>
+     * @return Whether the creatorType field is set.
      */
+    @java.lang.Override
     public boolean hasCreatorType() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
      * <code>optional string creatorType = 2;</code>
+     * @return The creatorType.
      */
+    @java.lang.Override
     public java.lang.String getCreatorType() {
       java.lang.Object ref = creatorType_;
       if (ref instanceof java.lang.String) {
@@ -1587,7 +1553,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string creatorType = 2;</code>
+     * @return The bytes for creatorType.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getCreatorTypeBytes() {
       java.lang.Object ref = creatorType_;
@@ -1603,16 +1571,21 @@ public final class Messaging {
     }
 
     public static final int CREATORMETHOD_FIELD_NUMBER = 3;
-    private volatile java.lang.Object creatorMethod_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object creatorMethod_ = "";
     /**
      * <code>optional string creatorMethod = 3;</code>
+     * @return Whether the creatorMethod field is set.
      */
+    @java.lang.Override
     public boolean hasCreatorMethod() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+      return ((bitField0_ & 0x00000004) != 0);
     }
     /**
      * <code>optional string creatorMethod = 3;</code>
+     * @return The creatorMethod.
      */
+    @java.lang.Override
     public java.lang.String getCreatorMethod() {
       java.lang.Object ref = creatorMethod_;
       if (ref instanceof java.lang.String) {
@@ -1629,7 +1602,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string creatorMethod = 3;</code>
+     * @return The bytes for creatorMethod.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getCreatorMethodBytes() {
       java.lang.Object ref = creatorMethod_;
@@ -1645,16 +1620,20 @@ public final class Messaging {
     }
 
     public static final int SCHEDULED_FIELD_NUMBER = 4;
-    private boolean scheduled_;
+    private boolean scheduled_ = false;
     /**
      * <code>optional bool scheduled = 4;</code>
+     * @return Whether the scheduled field is set.
      */
+    @java.lang.Override
     public boolean hasScheduled() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
+      return ((bitField0_ & 0x00000008) != 0);
     }
     /**
      * <code>optional bool scheduled = 4;</code>
+     * @return The scheduled.
      */
+    @java.lang.Override
     public boolean getScheduled() {
       return scheduled_;
     }
@@ -1673,19 +1652,19 @@ public final class Messaging {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, creator_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, creatorType_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 3, creatorMethod_);
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000008) != 0)) {
         output.writeBool(4, scheduled_);
       }
-      unknownFields.writeTo(output);
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -1694,20 +1673,20 @@ public final class Messaging {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, creator_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, creatorType_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, creatorMethod_);
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000008) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(4, scheduled_);
       }
-      size += unknownFields.getSerializedSize();
+      size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
@@ -1722,29 +1701,28 @@ public final class Messaging {
       }
       org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext other = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext) obj;
 
-      boolean result = true;
-      result = result && (hasCreator() == other.hasCreator());
+      if (hasCreator() != other.hasCreator()) return false;
       if (hasCreator()) {
-        result = result && getCreator()
-            .equals(other.getCreator());
+        if (!getCreator()
+            .equals(other.getCreator())) return false;
       }
-      result = result && (hasCreatorType() == other.hasCreatorType());
+      if (hasCreatorType() != other.hasCreatorType()) return false;
       if (hasCreatorType()) {
-        result = result && getCreatorType()
-            .equals(other.getCreatorType());
+        if (!getCreatorType()
+            .equals(other.getCreatorType())) return false;
       }
-      result = result && (hasCreatorMethod() == other.hasCreatorMethod());
+      if (hasCreatorMethod() != other.hasCreatorMethod()) return false;
       if (hasCreatorMethod()) {
-        result = result && getCreatorMethod()
-            .equals(other.getCreatorMethod());
+        if (!getCreatorMethod()
+            .equals(other.getCreatorMethod())) return false;
       }
-      result = result && (hasScheduled() == other.hasScheduled());
+      if (hasScheduled() != other.hasScheduled()) return false;
       if (hasScheduled()) {
-        result = result && (getScheduled()
-            == other.getScheduled());
+        if (getScheduled()
+            != other.getScheduled()) return false;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -1771,7 +1749,7 @@ public final class Messaging {
         hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
             getScheduled());
       }
-      hash = (29 * hash) + unknownFields.hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -1888,30 +1866,22 @@ public final class Messaging {
 
       // Construct using org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.newBuilder()
       private Builder() {
-        maybeForceBuilderInitialization();
+
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
         super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
+
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
         creator_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
         creatorType_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
         creatorMethod_ = "";
-        bitField0_ = (bitField0_ & ~0x00000004);
         scheduled_ = false;
-        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -1938,61 +1908,33 @@ public final class Messaging {
       @java.lang.Override
       public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext buildPartial() {
         org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext result = new org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.creator_ = creator_;
           to_bitField0_ |= 0x00000001;
         }
-        result.creator_ = creator_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.creatorType_ = creatorType_;
           to_bitField0_ |= 0x00000002;
         }
-        result.creatorType_ = creatorType_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.creatorMethod_ = creatorMethod_;
           to_bitField0_ |= 0x00000004;
         }
-        result.creatorMethod_ = creatorMethod_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.scheduled_ = scheduled_;
           to_bitField0_ |= 0x00000008;
         }
-        result.scheduled_ = scheduled_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        result.bitField0_ |= to_bitField0_;
       }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext) {
@@ -2006,24 +1948,24 @@ public final class Messaging {
       public Builder mergeFrom(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext other) {
         if (other == org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.getDefaultInstance()) return this;
         if (other.hasCreator()) {
-          bitField0_ |= 0x00000001;
           creator_ = other.creator_;
+          bitField0_ |= 0x00000001;
           onChanged();
         }
         if (other.hasCreatorType()) {
-          bitField0_ |= 0x00000002;
           creatorType_ = other.creatorType_;
+          bitField0_ |= 0x00000002;
           onChanged();
         }
         if (other.hasCreatorMethod()) {
-          bitField0_ |= 0x00000004;
           creatorMethod_ = other.creatorMethod_;
+          bitField0_ |= 0x00000004;
           onChanged();
         }
         if (other.hasScheduled()) {
           setScheduled(other.getScheduled());
         }
-        this.mergeUnknownFields(other.unknownFields);
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
@@ -2038,17 +1980,50 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext parsedMessage = null;
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
         try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                creator_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                creatorType_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                creatorMethod_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                scheduled_ = input.readBool();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+          onChanged();
+        } // finally
         return this;
       }
       private int bitField0_;
@@ -2056,12 +2031,14 @@ public final class Messaging {
       private java.lang.Object creator_ = "";
       /**
        * <code>optional string creator = 1;</code>
+       * @return Whether the creator field is set.
        */
       public boolean hasCreator() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <code>optional string creator = 1;</code>
+       * @return The creator.
        */
       public java.lang.String getCreator() {
         java.lang.Object ref = creator_;
@@ -2079,6 +2056,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string creator = 1;</code>
+       * @return The bytes for creator.
        */
       public com.google.protobuf.ByteString
           getCreatorBytes() {
@@ -2095,36 +2073,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string creator = 1;</code>
+       * @param value The creator to set.
+       * @return This builder for chaining.
        */
       public Builder setCreator(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         creator_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <code>optional string creator = 1;</code>
+       * @return This builder for chaining.
        */
       public Builder clearCreator() {
-        bitField0_ = (bitField0_ & ~0x00000001);
         creator_ = getDefaultInstance().getCreator();
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
        * <code>optional string creator = 1;</code>
+       * @param value The bytes for creator to set.
+       * @return This builder for chaining.
        */
       public Builder setCreatorBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         creator_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
@@ -2132,12 +2111,14 @@ public final class Messaging {
       private java.lang.Object creatorType_ = "";
       /**
        * <code>optional string creatorType = 2;</code>
+       * @return Whether the creatorType field is set.
        */
       public boolean hasCreatorType() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
        * <code>optional string creatorType = 2;</code>
+       * @return The creatorType.
        */
       public java.lang.String getCreatorType() {
         java.lang.Object ref = creatorType_;
@@ -2155,6 +2136,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string creatorType = 2;</code>
+       * @return The bytes for creatorType.
        */
       public com.google.protobuf.ByteString
           getCreatorTypeBytes() {
@@ -2171,36 +2153,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string creatorType = 2;</code>
+       * @param value The creatorType to set.
+       * @return This builder for chaining.
        */
       public Builder setCreatorType(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         creatorType_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <code>optional string creatorType = 2;</code>
+       * @return This builder for chaining.
        */
       public Builder clearCreatorType() {
-        bitField0_ = (bitField0_ & ~0x00000002);
         creatorType_ = getDefaultInstance().getCreatorType();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
       /**
        * <code>optional string creatorType = 2;</code>
+       * @param value The bytes for creatorType to set.
+       * @return This builder for chaining.
        */
       public Builder setCreatorTypeBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         creatorType_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
@@ -2208,12 +2191,14 @@ public final class Messaging {
       private java.lang.Object creatorMethod_ = "";
       /**
        * <code>optional string creatorMethod = 3;</code>
+       * @return Whether the creatorMethod field is set.
        */
       public boolean hasCreatorMethod() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+        return ((bitField0_ & 0x00000004) != 0);
       }
       /**
        * <code>optional string creatorMethod = 3;</code>
+       * @return The creatorMethod.
        */
       public java.lang.String getCreatorMethod() {
         java.lang.Object ref = creatorMethod_;
@@ -2231,6 +2216,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string creatorMethod = 3;</code>
+       * @return The bytes for creatorMethod.
        */
       public com.google.protobuf.ByteString
           getCreatorMethodBytes() {
@@ -2247,36 +2233,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string creatorMethod = 3;</code>
+       * @param value The creatorMethod to set.
+       * @return This builder for chaining.
        */
       public Builder setCreatorMethod(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
+        if (value == null) { throw new NullPointerException(); }
         creatorMethod_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
        * <code>optional string creatorMethod = 3;</code>
+       * @return This builder for chaining.
        */
       public Builder clearCreatorMethod() {
-        bitField0_ = (bitField0_ & ~0x00000004);
         creatorMethod_ = getDefaultInstance().getCreatorMethod();
+        bitField0_ = (bitField0_ & ~0x00000004);
         onChanged();
         return this;
       }
       /**
        * <code>optional string creatorMethod = 3;</code>
+       * @param value The bytes for creatorMethod to set.
+       * @return This builder for chaining.
        */
       public Builder setCreatorMethodBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
+        if (value == null) { throw new NullPointerException(); }
         creatorMethod_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
@@ -2284,27 +2271,35 @@ public final class Messaging {
       private boolean scheduled_ ;
       /**
        * <code>optional bool scheduled = 4;</code>
+       * @return Whether the scheduled field is set.
        */
+      @java.lang.Override
       public boolean hasScheduled() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+        return ((bitField0_ & 0x00000008) != 0);
       }
       /**
        * <code>optional bool scheduled = 4;</code>
+       * @return The scheduled.
        */
+      @java.lang.Override
       public boolean getScheduled() {
         return scheduled_;
       }
       /**
        * <code>optional bool scheduled = 4;</code>
+       * @param value The scheduled to set.
+       * @return This builder for chaining.
        */
       public Builder setScheduled(boolean value) {
-        bitField0_ |= 0x00000008;
+
         scheduled_ = value;
+        bitField0_ |= 0x00000008;
         onChanged();
         return this;
       }
       /**
        * <code>optional bool scheduled = 4;</code>
+       * @return This builder for chaining.
        */
       public Builder clearScheduled() {
         bitField0_ = (bitField0_ & ~0x00000008);
@@ -2345,7 +2340,18 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new CreationContext(input, extensionRegistry);
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
     };
 
@@ -2371,79 +2377,96 @@ public final class Messaging {
 
     /**
      * <code>optional bytes id = 1;</code>
+     * @return Whether the id field is set.
      */
     boolean hasId();
     /**
      * <code>optional bytes id = 1;</code>
+     * @return The id.
      */
     com.google.protobuf.ByteString getId();
 
     /**
      * <code>optional uint64 fireTime = 2;</code>
+     * @return Whether the fireTime field is set.
      */
     boolean hasFireTime();
     /**
      * <code>optional uint64 fireTime = 2;</code>
+     * @return The fireTime.
      */
     long getFireTime();
 
     /**
      * <code>optional string receiver = 3;</code>
+     * @return Whether the receiver field is set.
      */
     boolean hasReceiver();
     /**
      * <code>optional string receiver = 3;</code>
+     * @return The receiver.
      */
     java.lang.String getReceiver();
     /**
      * <code>optional string receiver = 3;</code>
+     * @return The bytes for receiver.
      */
     com.google.protobuf.ByteString
         getReceiverBytes();
 
     /**
      * <code>optional string sender = 4;</code>
+     * @return Whether the sender field is set.
      */
     boolean hasSender();
     /**
      * <code>optional string sender = 4;</code>
+     * @return The sender.
      */
     java.lang.String getSender();
     /**
      * <code>optional string sender = 4;</code>
+     * @return The bytes for sender.
      */
     com.google.protobuf.ByteString
         getSenderBytes();
 
     /**
      * <code>optional string messageClass = 5;</code>
+     * @return Whether the messageClass field is set.
      */
     boolean hasMessageClass();
     /**
      * <code>optional string messageClass = 5;</code>
+     * @return The messageClass.
      */
     java.lang.String getMessageClass();
     /**
      * <code>optional string messageClass = 5;</code>
+     * @return The bytes for messageClass.
      */
     com.google.protobuf.ByteString
         getMessageClassBytes();
 
     /**
      * <code>optional bytes message = 6;</code>
+     * @return Whether the message field is set.
      */
     boolean hasMessage();
     /**
      * <code>optional bytes message = 6;</code>
+     * @return The message.
      */
     com.google.protobuf.ByteString getMessage();
 
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext traceContext = 7;</code>
+     * @return Whether the traceContext field is set.
      */
     boolean hasTraceContext();
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext traceContext = 7;</code>
+     * @return The traceContext.
      */
     org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext getTraceContext();
     /**
@@ -2453,10 +2476,12 @@ public final class Messaging {
 
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext creationContext = 8;</code>
+     * @return Whether the creationContext field is set.
      */
     boolean hasCreationContext();
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext creationContext = 8;</code>
+     * @return The creationContext.
      */
     org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext getCreationContext();
     /**
@@ -2466,14 +2491,17 @@ public final class Messaging {
 
     /**
      * <code>optional string messageQueueAffinityKey = 9;</code>
+     * @return Whether the messageQueueAffinityKey field is set.
      */
     boolean hasMessageQueueAffinityKey();
     /**
      * <code>optional string messageQueueAffinityKey = 9;</code>
+     * @return The messageQueueAffinityKey.
      */
     java.lang.String getMessageQueueAffinityKey();
     /**
      * <code>optional string messageQueueAffinityKey = 9;</code>
+     * @return The bytes for messageQueueAffinityKey.
      */
     com.google.protobuf.ByteString
         getMessageQueueAffinityKeyBytes();
@@ -2481,7 +2509,7 @@ public final class Messaging {
   /**
    * Protobuf type {@code org.elasticsoftware.elasticactors.serialization.protobuf.ScheduledMessage}
    */
-  public  static final class ScheduledMessage extends
+  public static final class ScheduledMessage extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.serialization.protobuf.ScheduledMessage)
       ScheduledMessageOrBuilder {
@@ -2492,7 +2520,6 @@ public final class Messaging {
     }
     private ScheduledMessage() {
       id_ = com.google.protobuf.ByteString.EMPTY;
-      fireTime_ = 0L;
       receiver_ = "";
       sender_ = "";
       messageClass_ = "";
@@ -2501,113 +2528,12 @@ public final class Messaging {
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private ScheduledMessage(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              bitField0_ |= 0x00000001;
-              id_ = input.readBytes();
-              break;
-            }
-            case 16: {
-              bitField0_ |= 0x00000002;
-              fireTime_ = input.readUInt64();
-              break;
-            }
-            case 26: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000004;
-              receiver_ = bs;
-              break;
-            }
-            case 34: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000008;
-              sender_ = bs;
-              break;
-            }
-            case 42: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000010;
-              messageClass_ = bs;
-              break;
-            }
-            case 50: {
-              bitField0_ |= 0x00000020;
-              message_ = input.readBytes();
-              break;
-            }
-            case 58: {
-              org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000040) == 0x00000040)) {
-                subBuilder = traceContext_.toBuilder();
-              }
-              traceContext_ = input.readMessage(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(traceContext_);
-                traceContext_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000040;
-              break;
-            }
-            case 66: {
-              org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000080) == 0x00000080)) {
-                subBuilder = creationContext_.toBuilder();
-              }
-              creationContext_ = input.readMessage(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(creationContext_);
-                creationContext_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000080;
-              break;
-            }
-            case 74: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000100;
-              messageQueueAffinityKey_ = bs;
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ScheduledMessage();
     }
+
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
       return org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_ScheduledMessage_descriptor;
@@ -2623,46 +2549,59 @@ public final class Messaging {
 
     private int bitField0_;
     public static final int ID_FIELD_NUMBER = 1;
-    private com.google.protobuf.ByteString id_;
+    private com.google.protobuf.ByteString id_ = com.google.protobuf.ByteString.EMPTY;
     /**
      * <code>optional bytes id = 1;</code>
+     * @return Whether the id field is set.
      */
+    @java.lang.Override
     public boolean hasId() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
      * <code>optional bytes id = 1;</code>
+     * @return The id.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString getId() {
       return id_;
     }
 
     public static final int FIRETIME_FIELD_NUMBER = 2;
-    private long fireTime_;
+    private long fireTime_ = 0L;
     /**
      * <code>optional uint64 fireTime = 2;</code>
+     * @return Whether the fireTime field is set.
      */
+    @java.lang.Override
     public boolean hasFireTime() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
      * <code>optional uint64 fireTime = 2;</code>
+     * @return The fireTime.
      */
+    @java.lang.Override
     public long getFireTime() {
       return fireTime_;
     }
 
     public static final int RECEIVER_FIELD_NUMBER = 3;
-    private volatile java.lang.Object receiver_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object receiver_ = "";
     /**
      * <code>optional string receiver = 3;</code>
+     * @return Whether the receiver field is set.
      */
+    @java.lang.Override
     public boolean hasReceiver() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+      return ((bitField0_ & 0x00000004) != 0);
     }
     /**
      * <code>optional string receiver = 3;</code>
+     * @return The receiver.
      */
+    @java.lang.Override
     public java.lang.String getReceiver() {
       java.lang.Object ref = receiver_;
       if (ref instanceof java.lang.String) {
@@ -2679,7 +2618,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string receiver = 3;</code>
+     * @return The bytes for receiver.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getReceiverBytes() {
       java.lang.Object ref = receiver_;
@@ -2695,16 +2636,21 @@ public final class Messaging {
     }
 
     public static final int SENDER_FIELD_NUMBER = 4;
-    private volatile java.lang.Object sender_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object sender_ = "";
     /**
      * <code>optional string sender = 4;</code>
+     * @return Whether the sender field is set.
      */
+    @java.lang.Override
     public boolean hasSender() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
+      return ((bitField0_ & 0x00000008) != 0);
     }
     /**
      * <code>optional string sender = 4;</code>
+     * @return The sender.
      */
+    @java.lang.Override
     public java.lang.String getSender() {
       java.lang.Object ref = sender_;
       if (ref instanceof java.lang.String) {
@@ -2721,7 +2667,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string sender = 4;</code>
+     * @return The bytes for sender.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getSenderBytes() {
       java.lang.Object ref = sender_;
@@ -2737,16 +2685,21 @@ public final class Messaging {
     }
 
     public static final int MESSAGECLASS_FIELD_NUMBER = 5;
-    private volatile java.lang.Object messageClass_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object messageClass_ = "";
     /**
      * <code>optional string messageClass = 5;</code>
+     * @return Whether the messageClass field is set.
      */
+    @java.lang.Override
     public boolean hasMessageClass() {
-      return ((bitField0_ & 0x00000010) == 0x00000010);
+      return ((bitField0_ & 0x00000010) != 0);
     }
     /**
      * <code>optional string messageClass = 5;</code>
+     * @return The messageClass.
      */
+    @java.lang.Override
     public java.lang.String getMessageClass() {
       java.lang.Object ref = messageClass_;
       if (ref instanceof java.lang.String) {
@@ -2763,7 +2716,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string messageClass = 5;</code>
+     * @return The bytes for messageClass.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getMessageClassBytes() {
       java.lang.Object ref = messageClass_;
@@ -2779,16 +2734,20 @@ public final class Messaging {
     }
 
     public static final int MESSAGE_FIELD_NUMBER = 6;
-    private com.google.protobuf.ByteString message_;
+    private com.google.protobuf.ByteString message_ = com.google.protobuf.ByteString.EMPTY;
     /**
      * <code>optional bytes message = 6;</code>
+     * @return Whether the message field is set.
      */
+    @java.lang.Override
     public boolean hasMessage() {
-      return ((bitField0_ & 0x00000020) == 0x00000020);
+      return ((bitField0_ & 0x00000020) != 0);
     }
     /**
      * <code>optional bytes message = 6;</code>
+     * @return The message.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString getMessage() {
       return message_;
     }
@@ -2797,19 +2756,24 @@ public final class Messaging {
     private org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext traceContext_;
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext traceContext = 7;</code>
+     * @return Whether the traceContext field is set.
      */
+    @java.lang.Override
     public boolean hasTraceContext() {
-      return ((bitField0_ & 0x00000040) == 0x00000040);
+      return ((bitField0_ & 0x00000040) != 0);
     }
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext traceContext = 7;</code>
+     * @return The traceContext.
      */
+    @java.lang.Override
     public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext getTraceContext() {
       return traceContext_ == null ? org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.getDefaultInstance() : traceContext_;
     }
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext traceContext = 7;</code>
      */
+    @java.lang.Override
     public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContextOrBuilder getTraceContextOrBuilder() {
       return traceContext_ == null ? org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.getDefaultInstance() : traceContext_;
     }
@@ -2818,34 +2782,44 @@ public final class Messaging {
     private org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext creationContext_;
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext creationContext = 8;</code>
+     * @return Whether the creationContext field is set.
      */
+    @java.lang.Override
     public boolean hasCreationContext() {
-      return ((bitField0_ & 0x00000080) == 0x00000080);
+      return ((bitField0_ & 0x00000080) != 0);
     }
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext creationContext = 8;</code>
+     * @return The creationContext.
      */
+    @java.lang.Override
     public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext getCreationContext() {
       return creationContext_ == null ? org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.getDefaultInstance() : creationContext_;
     }
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext creationContext = 8;</code>
      */
+    @java.lang.Override
     public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContextOrBuilder getCreationContextOrBuilder() {
       return creationContext_ == null ? org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.getDefaultInstance() : creationContext_;
     }
 
     public static final int MESSAGEQUEUEAFFINITYKEY_FIELD_NUMBER = 9;
-    private volatile java.lang.Object messageQueueAffinityKey_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object messageQueueAffinityKey_ = "";
     /**
      * <code>optional string messageQueueAffinityKey = 9;</code>
+     * @return Whether the messageQueueAffinityKey field is set.
      */
+    @java.lang.Override
     public boolean hasMessageQueueAffinityKey() {
-      return ((bitField0_ & 0x00000100) == 0x00000100);
+      return ((bitField0_ & 0x00000100) != 0);
     }
     /**
      * <code>optional string messageQueueAffinityKey = 9;</code>
+     * @return The messageQueueAffinityKey.
      */
+    @java.lang.Override
     public java.lang.String getMessageQueueAffinityKey() {
       java.lang.Object ref = messageQueueAffinityKey_;
       if (ref instanceof java.lang.String) {
@@ -2862,7 +2836,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string messageQueueAffinityKey = 9;</code>
+     * @return The bytes for messageQueueAffinityKey.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getMessageQueueAffinityKeyBytes() {
       java.lang.Object ref = messageQueueAffinityKey_;
@@ -2897,34 +2873,34 @@ public final class Messaging {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         output.writeBytes(1, id_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         output.writeUInt64(2, fireTime_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 3, receiver_);
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000008) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 4, sender_);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      if (((bitField0_ & 0x00000010) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 5, messageClass_);
       }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+      if (((bitField0_ & 0x00000020) != 0)) {
         output.writeBytes(6, message_);
       }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+      if (((bitField0_ & 0x00000040) != 0)) {
         output.writeMessage(7, getTraceContext());
       }
-      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+      if (((bitField0_ & 0x00000080) != 0)) {
         output.writeMessage(8, getCreationContext());
       }
-      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+      if (((bitField0_ & 0x00000100) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 9, messageQueueAffinityKey_);
       }
-      unknownFields.writeTo(output);
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -2933,39 +2909,39 @@ public final class Messaging {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(1, id_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeUInt64Size(2, fireTime_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, receiver_);
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000008) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, sender_);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      if (((bitField0_ & 0x00000010) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, messageClass_);
       }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+      if (((bitField0_ & 0x00000020) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(6, message_);
       }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+      if (((bitField0_ & 0x00000040) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(7, getTraceContext());
       }
-      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+      if (((bitField0_ & 0x00000080) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(8, getCreationContext());
       }
-      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+      if (((bitField0_ & 0x00000100) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(9, messageQueueAffinityKey_);
       }
-      size += unknownFields.getSerializedSize();
+      size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
@@ -2980,54 +2956,53 @@ public final class Messaging {
       }
       org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ScheduledMessage other = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ScheduledMessage) obj;
 
-      boolean result = true;
-      result = result && (hasId() == other.hasId());
+      if (hasId() != other.hasId()) return false;
       if (hasId()) {
-        result = result && getId()
-            .equals(other.getId());
+        if (!getId()
+            .equals(other.getId())) return false;
       }
-      result = result && (hasFireTime() == other.hasFireTime());
+      if (hasFireTime() != other.hasFireTime()) return false;
       if (hasFireTime()) {
-        result = result && (getFireTime()
-            == other.getFireTime());
+        if (getFireTime()
+            != other.getFireTime()) return false;
       }
-      result = result && (hasReceiver() == other.hasReceiver());
+      if (hasReceiver() != other.hasReceiver()) return false;
       if (hasReceiver()) {
-        result = result && getReceiver()
-            .equals(other.getReceiver());
+        if (!getReceiver()
+            .equals(other.getReceiver())) return false;
       }
-      result = result && (hasSender() == other.hasSender());
+      if (hasSender() != other.hasSender()) return false;
       if (hasSender()) {
-        result = result && getSender()
-            .equals(other.getSender());
+        if (!getSender()
+            .equals(other.getSender())) return false;
       }
-      result = result && (hasMessageClass() == other.hasMessageClass());
+      if (hasMessageClass() != other.hasMessageClass()) return false;
       if (hasMessageClass()) {
-        result = result && getMessageClass()
-            .equals(other.getMessageClass());
+        if (!getMessageClass()
+            .equals(other.getMessageClass())) return false;
       }
-      result = result && (hasMessage() == other.hasMessage());
+      if (hasMessage() != other.hasMessage()) return false;
       if (hasMessage()) {
-        result = result && getMessage()
-            .equals(other.getMessage());
+        if (!getMessage()
+            .equals(other.getMessage())) return false;
       }
-      result = result && (hasTraceContext() == other.hasTraceContext());
+      if (hasTraceContext() != other.hasTraceContext()) return false;
       if (hasTraceContext()) {
-        result = result && getTraceContext()
-            .equals(other.getTraceContext());
+        if (!getTraceContext()
+            .equals(other.getTraceContext())) return false;
       }
-      result = result && (hasCreationContext() == other.hasCreationContext());
+      if (hasCreationContext() != other.hasCreationContext()) return false;
       if (hasCreationContext()) {
-        result = result && getCreationContext()
-            .equals(other.getCreationContext());
+        if (!getCreationContext()
+            .equals(other.getCreationContext())) return false;
       }
-      result = result && (hasMessageQueueAffinityKey() == other.hasMessageQueueAffinityKey());
+      if (hasMessageQueueAffinityKey() != other.hasMessageQueueAffinityKey()) return false;
       if (hasMessageQueueAffinityKey()) {
-        result = result && getMessageQueueAffinityKey()
-            .equals(other.getMessageQueueAffinityKey());
+        if (!getMessageQueueAffinityKey()
+            .equals(other.getMessageQueueAffinityKey())) return false;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -3074,7 +3049,7 @@ public final class Messaging {
         hash = (37 * hash) + MESSAGEQUEUEAFFINITYKEY_FIELD_NUMBER;
         hash = (53 * hash) + getMessageQueueAffinityKey().hashCode();
       }
-      hash = (29 * hash) + unknownFields.hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -3209,32 +3184,24 @@ public final class Messaging {
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
         id_ = com.google.protobuf.ByteString.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000001);
         fireTime_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000002);
         receiver_ = "";
-        bitField0_ = (bitField0_ & ~0x00000004);
         sender_ = "";
-        bitField0_ = (bitField0_ & ~0x00000008);
         messageClass_ = "";
-        bitField0_ = (bitField0_ & ~0x00000010);
         message_ = com.google.protobuf.ByteString.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000020);
-        if (traceContextBuilder_ == null) {
-          traceContext_ = null;
-        } else {
-          traceContextBuilder_.clear();
+        traceContext_ = null;
+        if (traceContextBuilder_ != null) {
+          traceContextBuilder_.dispose();
+          traceContextBuilder_ = null;
         }
-        bitField0_ = (bitField0_ & ~0x00000040);
-        if (creationContextBuilder_ == null) {
-          creationContext_ = null;
-        } else {
-          creationContextBuilder_.clear();
+        creationContext_ = null;
+        if (creationContextBuilder_ != null) {
+          creationContextBuilder_.dispose();
+          creationContextBuilder_ = null;
         }
-        bitField0_ = (bitField0_ & ~0x00000080);
         messageQueueAffinityKey_ = "";
-        bitField0_ = (bitField0_ & ~0x00000100);
         return this;
       }
 
@@ -3261,89 +3228,57 @@ public final class Messaging {
       @java.lang.Override
       public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ScheduledMessage buildPartial() {
         org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ScheduledMessage result = new org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ScheduledMessage(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ScheduledMessage result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.id_ = id_;
           to_bitField0_ |= 0x00000001;
         }
-        result.id_ = id_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.fireTime_ = fireTime_;
           to_bitField0_ |= 0x00000002;
         }
-        result.fireTime_ = fireTime_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.receiver_ = receiver_;
           to_bitField0_ |= 0x00000004;
         }
-        result.receiver_ = receiver_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.sender_ = sender_;
           to_bitField0_ |= 0x00000008;
         }
-        result.sender_ = sender_;
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.messageClass_ = messageClass_;
           to_bitField0_ |= 0x00000010;
         }
-        result.messageClass_ = messageClass_;
-        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.message_ = message_;
           to_bitField0_ |= 0x00000020;
         }
-        result.message_ = message_;
-        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.traceContext_ = traceContextBuilder_ == null
+              ? traceContext_
+              : traceContextBuilder_.build();
           to_bitField0_ |= 0x00000040;
         }
-        if (traceContextBuilder_ == null) {
-          result.traceContext_ = traceContext_;
-        } else {
-          result.traceContext_ = traceContextBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.creationContext_ = creationContextBuilder_ == null
+              ? creationContext_
+              : creationContextBuilder_.build();
           to_bitField0_ |= 0x00000080;
         }
-        if (creationContextBuilder_ == null) {
-          result.creationContext_ = creationContext_;
-        } else {
-          result.creationContext_ = creationContextBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.messageQueueAffinityKey_ = messageQueueAffinityKey_;
           to_bitField0_ |= 0x00000100;
         }
-        result.messageQueueAffinityKey_ = messageQueueAffinityKey_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        result.bitField0_ |= to_bitField0_;
       }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ScheduledMessage) {
@@ -3363,18 +3298,18 @@ public final class Messaging {
           setFireTime(other.getFireTime());
         }
         if (other.hasReceiver()) {
-          bitField0_ |= 0x00000004;
           receiver_ = other.receiver_;
+          bitField0_ |= 0x00000004;
           onChanged();
         }
         if (other.hasSender()) {
-          bitField0_ |= 0x00000008;
           sender_ = other.sender_;
+          bitField0_ |= 0x00000008;
           onChanged();
         }
         if (other.hasMessageClass()) {
-          bitField0_ |= 0x00000010;
           messageClass_ = other.messageClass_;
+          bitField0_ |= 0x00000010;
           onChanged();
         }
         if (other.hasMessage()) {
@@ -3387,11 +3322,11 @@ public final class Messaging {
           mergeCreationContext(other.getCreationContext());
         }
         if (other.hasMessageQueueAffinityKey()) {
-          bitField0_ |= 0x00000100;
           messageQueueAffinityKey_ = other.messageQueueAffinityKey_;
+          bitField0_ |= 0x00000100;
           onChanged();
         }
-        this.mergeUnknownFields(other.unknownFields);
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
@@ -3411,17 +3346,79 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ScheduledMessage parsedMessage = null;
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
         try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                id_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                fireTime_ = input.readUInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                receiver_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                sender_ = input.readBytes();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                messageClass_ = input.readBytes();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                message_ = input.readBytes();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 58: {
+                input.readMessage(
+                    getTraceContextFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              case 66: {
+                input.readMessage(
+                    getCreationContextFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 66
+              case 74: {
+                messageQueueAffinityKey_ = input.readBytes();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 74
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ScheduledMessage) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+          onChanged();
+        } // finally
         return this;
       }
       private int bitField0_;
@@ -3429,30 +3426,35 @@ public final class Messaging {
       private com.google.protobuf.ByteString id_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes id = 1;</code>
+       * @return Whether the id field is set.
        */
+      @java.lang.Override
       public boolean hasId() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <code>optional bytes id = 1;</code>
+       * @return The id.
        */
+      @java.lang.Override
       public com.google.protobuf.ByteString getId() {
         return id_;
       }
       /**
        * <code>optional bytes id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
        */
       public Builder setId(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         id_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <code>optional bytes id = 1;</code>
+       * @return This builder for chaining.
        */
       public Builder clearId() {
         bitField0_ = (bitField0_ & ~0x00000001);
@@ -3464,27 +3466,35 @@ public final class Messaging {
       private long fireTime_ ;
       /**
        * <code>optional uint64 fireTime = 2;</code>
+       * @return Whether the fireTime field is set.
        */
+      @java.lang.Override
       public boolean hasFireTime() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
        * <code>optional uint64 fireTime = 2;</code>
+       * @return The fireTime.
        */
+      @java.lang.Override
       public long getFireTime() {
         return fireTime_;
       }
       /**
        * <code>optional uint64 fireTime = 2;</code>
+       * @param value The fireTime to set.
+       * @return This builder for chaining.
        */
       public Builder setFireTime(long value) {
-        bitField0_ |= 0x00000002;
+
         fireTime_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <code>optional uint64 fireTime = 2;</code>
+       * @return This builder for chaining.
        */
       public Builder clearFireTime() {
         bitField0_ = (bitField0_ & ~0x00000002);
@@ -3496,12 +3506,14 @@ public final class Messaging {
       private java.lang.Object receiver_ = "";
       /**
        * <code>optional string receiver = 3;</code>
+       * @return Whether the receiver field is set.
        */
       public boolean hasReceiver() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+        return ((bitField0_ & 0x00000004) != 0);
       }
       /**
        * <code>optional string receiver = 3;</code>
+       * @return The receiver.
        */
       public java.lang.String getReceiver() {
         java.lang.Object ref = receiver_;
@@ -3519,6 +3531,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string receiver = 3;</code>
+       * @return The bytes for receiver.
        */
       public com.google.protobuf.ByteString
           getReceiverBytes() {
@@ -3535,36 +3548,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string receiver = 3;</code>
+       * @param value The receiver to set.
+       * @return This builder for chaining.
        */
       public Builder setReceiver(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
+        if (value == null) { throw new NullPointerException(); }
         receiver_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
        * <code>optional string receiver = 3;</code>
+       * @return This builder for chaining.
        */
       public Builder clearReceiver() {
-        bitField0_ = (bitField0_ & ~0x00000004);
         receiver_ = getDefaultInstance().getReceiver();
+        bitField0_ = (bitField0_ & ~0x00000004);
         onChanged();
         return this;
       }
       /**
        * <code>optional string receiver = 3;</code>
+       * @param value The bytes for receiver to set.
+       * @return This builder for chaining.
        */
       public Builder setReceiverBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
+        if (value == null) { throw new NullPointerException(); }
         receiver_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
@@ -3572,12 +3586,14 @@ public final class Messaging {
       private java.lang.Object sender_ = "";
       /**
        * <code>optional string sender = 4;</code>
+       * @return Whether the sender field is set.
        */
       public boolean hasSender() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+        return ((bitField0_ & 0x00000008) != 0);
       }
       /**
        * <code>optional string sender = 4;</code>
+       * @return The sender.
        */
       public java.lang.String getSender() {
         java.lang.Object ref = sender_;
@@ -3595,6 +3611,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string sender = 4;</code>
+       * @return The bytes for sender.
        */
       public com.google.protobuf.ByteString
           getSenderBytes() {
@@ -3611,36 +3628,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string sender = 4;</code>
+       * @param value The sender to set.
+       * @return This builder for chaining.
        */
       public Builder setSender(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
+        if (value == null) { throw new NullPointerException(); }
         sender_ = value;
+        bitField0_ |= 0x00000008;
         onChanged();
         return this;
       }
       /**
        * <code>optional string sender = 4;</code>
+       * @return This builder for chaining.
        */
       public Builder clearSender() {
-        bitField0_ = (bitField0_ & ~0x00000008);
         sender_ = getDefaultInstance().getSender();
+        bitField0_ = (bitField0_ & ~0x00000008);
         onChanged();
         return this;
       }
       /**
        * <code>optional string sender = 4;</code>
+       * @param value The bytes for sender to set.
+       * @return This builder for chaining.
        */
       public Builder setSenderBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
+        if (value == null) { throw new NullPointerException(); }
         sender_ = value;
+        bitField0_ |= 0x00000008;
         onChanged();
         return this;
       }
@@ -3648,12 +3666,14 @@ public final class Messaging {
       private java.lang.Object messageClass_ = "";
       /**
        * <code>optional string messageClass = 5;</code>
+       * @return Whether the messageClass field is set.
        */
       public boolean hasMessageClass() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
+        return ((bitField0_ & 0x00000010) != 0);
       }
       /**
        * <code>optional string messageClass = 5;</code>
+       * @return The messageClass.
        */
       public java.lang.String getMessageClass() {
         java.lang.Object ref = messageClass_;
@@ -3671,6 +3691,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string messageClass = 5;</code>
+       * @return The bytes for messageClass.
        */
       public com.google.protobuf.ByteString
           getMessageClassBytes() {
@@ -3687,36 +3708,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string messageClass = 5;</code>
+       * @param value The messageClass to set.
+       * @return This builder for chaining.
        */
       public Builder setMessageClass(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000010;
+        if (value == null) { throw new NullPointerException(); }
         messageClass_ = value;
+        bitField0_ |= 0x00000010;
         onChanged();
         return this;
       }
       /**
        * <code>optional string messageClass = 5;</code>
+       * @return This builder for chaining.
        */
       public Builder clearMessageClass() {
-        bitField0_ = (bitField0_ & ~0x00000010);
         messageClass_ = getDefaultInstance().getMessageClass();
+        bitField0_ = (bitField0_ & ~0x00000010);
         onChanged();
         return this;
       }
       /**
        * <code>optional string messageClass = 5;</code>
+       * @param value The bytes for messageClass to set.
+       * @return This builder for chaining.
        */
       public Builder setMessageClassBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000010;
+        if (value == null) { throw new NullPointerException(); }
         messageClass_ = value;
+        bitField0_ |= 0x00000010;
         onChanged();
         return this;
       }
@@ -3724,30 +3746,35 @@ public final class Messaging {
       private com.google.protobuf.ByteString message_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes message = 6;</code>
+       * @return Whether the message field is set.
        */
+      @java.lang.Override
       public boolean hasMessage() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
+        return ((bitField0_ & 0x00000020) != 0);
       }
       /**
        * <code>optional bytes message = 6;</code>
+       * @return The message.
        */
+      @java.lang.Override
       public com.google.protobuf.ByteString getMessage() {
         return message_;
       }
       /**
        * <code>optional bytes message = 6;</code>
+       * @param value The message to set.
+       * @return This builder for chaining.
        */
       public Builder setMessage(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000020;
+        if (value == null) { throw new NullPointerException(); }
         message_ = value;
+        bitField0_ |= 0x00000020;
         onChanged();
         return this;
       }
       /**
        * <code>optional bytes message = 6;</code>
+       * @return This builder for chaining.
        */
       public Builder clearMessage() {
         bitField0_ = (bitField0_ & ~0x00000020);
@@ -3756,17 +3783,19 @@ public final class Messaging {
         return this;
       }
 
-      private org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext traceContext_ = null;
+      private org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext traceContext_;
       private com.google.protobuf.SingleFieldBuilderV3<
           org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext, org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.Builder, org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContextOrBuilder> traceContextBuilder_;
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext traceContext = 7;</code>
+       * @return Whether the traceContext field is set.
        */
       public boolean hasTraceContext() {
-        return ((bitField0_ & 0x00000040) == 0x00000040);
+        return ((bitField0_ & 0x00000040) != 0);
       }
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext traceContext = 7;</code>
+       * @return The traceContext.
        */
       public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext getTraceContext() {
         if (traceContextBuilder_ == null) {
@@ -3784,11 +3813,11 @@ public final class Messaging {
             throw new NullPointerException();
           }
           traceContext_ = value;
-          onChanged();
         } else {
           traceContextBuilder_.setMessage(value);
         }
         bitField0_ |= 0x00000040;
+        onChanged();
         return this;
       }
       /**
@@ -3798,11 +3827,11 @@ public final class Messaging {
           org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.Builder builderForValue) {
         if (traceContextBuilder_ == null) {
           traceContext_ = builderForValue.build();
-          onChanged();
         } else {
           traceContextBuilder_.setMessage(builderForValue.build());
         }
         bitField0_ |= 0x00000040;
+        onChanged();
         return this;
       }
       /**
@@ -3810,32 +3839,31 @@ public final class Messaging {
        */
       public Builder mergeTraceContext(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext value) {
         if (traceContextBuilder_ == null) {
-          if (((bitField0_ & 0x00000040) == 0x00000040) &&
-              traceContext_ != null &&
-              traceContext_ != org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.getDefaultInstance()) {
-            traceContext_ =
-              org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.newBuilder(traceContext_).mergeFrom(value).buildPartial();
+          if (((bitField0_ & 0x00000040) != 0) &&
+            traceContext_ != null &&
+            traceContext_ != org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.getDefaultInstance()) {
+            getTraceContextBuilder().mergeFrom(value);
           } else {
             traceContext_ = value;
           }
-          onChanged();
         } else {
           traceContextBuilder_.mergeFrom(value);
         }
         bitField0_ |= 0x00000040;
+        onChanged();
         return this;
       }
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext traceContext = 7;</code>
        */
       public Builder clearTraceContext() {
-        if (traceContextBuilder_ == null) {
-          traceContext_ = null;
-          onChanged();
-        } else {
-          traceContextBuilder_.clear();
-        }
         bitField0_ = (bitField0_ & ~0x00000040);
+        traceContext_ = null;
+        if (traceContextBuilder_ != null) {
+          traceContextBuilder_.dispose();
+          traceContextBuilder_ = null;
+        }
+        onChanged();
         return this;
       }
       /**
@@ -3874,17 +3902,19 @@ public final class Messaging {
         return traceContextBuilder_;
       }
 
-      private org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext creationContext_ = null;
+      private org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext creationContext_;
       private com.google.protobuf.SingleFieldBuilderV3<
           org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext, org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.Builder, org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContextOrBuilder> creationContextBuilder_;
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext creationContext = 8;</code>
+       * @return Whether the creationContext field is set.
        */
       public boolean hasCreationContext() {
-        return ((bitField0_ & 0x00000080) == 0x00000080);
+        return ((bitField0_ & 0x00000080) != 0);
       }
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext creationContext = 8;</code>
+       * @return The creationContext.
        */
       public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext getCreationContext() {
         if (creationContextBuilder_ == null) {
@@ -3902,11 +3932,11 @@ public final class Messaging {
             throw new NullPointerException();
           }
           creationContext_ = value;
-          onChanged();
         } else {
           creationContextBuilder_.setMessage(value);
         }
         bitField0_ |= 0x00000080;
+        onChanged();
         return this;
       }
       /**
@@ -3916,11 +3946,11 @@ public final class Messaging {
           org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.Builder builderForValue) {
         if (creationContextBuilder_ == null) {
           creationContext_ = builderForValue.build();
-          onChanged();
         } else {
           creationContextBuilder_.setMessage(builderForValue.build());
         }
         bitField0_ |= 0x00000080;
+        onChanged();
         return this;
       }
       /**
@@ -3928,32 +3958,31 @@ public final class Messaging {
        */
       public Builder mergeCreationContext(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext value) {
         if (creationContextBuilder_ == null) {
-          if (((bitField0_ & 0x00000080) == 0x00000080) &&
-              creationContext_ != null &&
-              creationContext_ != org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.getDefaultInstance()) {
-            creationContext_ =
-              org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.newBuilder(creationContext_).mergeFrom(value).buildPartial();
+          if (((bitField0_ & 0x00000080) != 0) &&
+            creationContext_ != null &&
+            creationContext_ != org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.getDefaultInstance()) {
+            getCreationContextBuilder().mergeFrom(value);
           } else {
             creationContext_ = value;
           }
-          onChanged();
         } else {
           creationContextBuilder_.mergeFrom(value);
         }
         bitField0_ |= 0x00000080;
+        onChanged();
         return this;
       }
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext creationContext = 8;</code>
        */
       public Builder clearCreationContext() {
-        if (creationContextBuilder_ == null) {
-          creationContext_ = null;
-          onChanged();
-        } else {
-          creationContextBuilder_.clear();
-        }
         bitField0_ = (bitField0_ & ~0x00000080);
+        creationContext_ = null;
+        if (creationContextBuilder_ != null) {
+          creationContextBuilder_.dispose();
+          creationContextBuilder_ = null;
+        }
+        onChanged();
         return this;
       }
       /**
@@ -3995,12 +4024,14 @@ public final class Messaging {
       private java.lang.Object messageQueueAffinityKey_ = "";
       /**
        * <code>optional string messageQueueAffinityKey = 9;</code>
+       * @return Whether the messageQueueAffinityKey field is set.
        */
       public boolean hasMessageQueueAffinityKey() {
-        return ((bitField0_ & 0x00000100) == 0x00000100);
+        return ((bitField0_ & 0x00000100) != 0);
       }
       /**
        * <code>optional string messageQueueAffinityKey = 9;</code>
+       * @return The messageQueueAffinityKey.
        */
       public java.lang.String getMessageQueueAffinityKey() {
         java.lang.Object ref = messageQueueAffinityKey_;
@@ -4018,6 +4049,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string messageQueueAffinityKey = 9;</code>
+       * @return The bytes for messageQueueAffinityKey.
        */
       public com.google.protobuf.ByteString
           getMessageQueueAffinityKeyBytes() {
@@ -4034,36 +4066,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string messageQueueAffinityKey = 9;</code>
+       * @param value The messageQueueAffinityKey to set.
+       * @return This builder for chaining.
        */
       public Builder setMessageQueueAffinityKey(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000100;
+        if (value == null) { throw new NullPointerException(); }
         messageQueueAffinityKey_ = value;
+        bitField0_ |= 0x00000100;
         onChanged();
         return this;
       }
       /**
        * <code>optional string messageQueueAffinityKey = 9;</code>
+       * @return This builder for chaining.
        */
       public Builder clearMessageQueueAffinityKey() {
-        bitField0_ = (bitField0_ & ~0x00000100);
         messageQueueAffinityKey_ = getDefaultInstance().getMessageQueueAffinityKey();
+        bitField0_ = (bitField0_ & ~0x00000100);
         onChanged();
         return this;
       }
       /**
        * <code>optional string messageQueueAffinityKey = 9;</code>
+       * @param value The bytes for messageQueueAffinityKey to set.
+       * @return This builder for chaining.
        */
       public Builder setMessageQueueAffinityKeyBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000100;
+        if (value == null) { throw new NullPointerException(); }
         messageQueueAffinityKey_ = value;
+        bitField0_ |= 0x00000100;
         onChanged();
         return this;
       }
@@ -4100,7 +4133,18 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ScheduledMessage(input, extensionRegistry);
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
     };
 
@@ -4126,116 +4170,143 @@ public final class Messaging {
 
     /**
      * <code>optional string receiver = 1;</code>
+     * @return Whether the receiver field is set.
      */
     boolean hasReceiver();
     /**
      * <code>optional string receiver = 1;</code>
+     * @return The receiver.
      */
     java.lang.String getReceiver();
     /**
      * <code>optional string receiver = 1;</code>
+     * @return The bytes for receiver.
      */
     com.google.protobuf.ByteString
         getReceiverBytes();
 
     /**
      * <code>optional string sender = 2;</code>
+     * @return Whether the sender field is set.
      */
     boolean hasSender();
     /**
      * <code>optional string sender = 2;</code>
+     * @return The sender.
      */
     java.lang.String getSender();
     /**
      * <code>optional string sender = 2;</code>
+     * @return The bytes for sender.
      */
     com.google.protobuf.ByteString
         getSenderBytes();
 
     /**
      * <code>optional string payloadClass = 3;</code>
+     * @return Whether the payloadClass field is set.
      */
     boolean hasPayloadClass();
     /**
      * <code>optional string payloadClass = 3;</code>
+     * @return The payloadClass.
      */
     java.lang.String getPayloadClass();
     /**
      * <code>optional string payloadClass = 3;</code>
+     * @return The bytes for payloadClass.
      */
     com.google.protobuf.ByteString
         getPayloadClassBytes();
 
     /**
      * <code>optional bytes payload = 4;</code>
+     * @return Whether the payload field is set.
      */
     boolean hasPayload();
     /**
      * <code>optional bytes payload = 4;</code>
+     * @return The payload.
      */
     com.google.protobuf.ByteString getPayload();
 
     /**
      * <code>optional bytes id = 5;</code>
+     * @return Whether the id field is set.
      */
     boolean hasId();
     /**
      * <code>optional bytes id = 5;</code>
+     * @return The id.
      */
     com.google.protobuf.ByteString getId();
 
     /**
      * <code>optional bool durable = 6;</code>
+     * @return Whether the durable field is set.
      */
     boolean hasDurable();
     /**
      * <code>optional bool durable = 6;</code>
+     * @return The durable.
      */
     boolean getDurable();
 
     /**
      * <code>optional bool undeliverable = 7;</code>
+     * @return Whether the undeliverable field is set.
      */
     boolean hasUndeliverable();
     /**
      * <code>optional bool undeliverable = 7;</code>
+     * @return The undeliverable.
      */
     boolean getUndeliverable();
 
     /**
      * <code>repeated string receivers = 8;</code>
+     * @return A list containing the receivers.
      */
     java.util.List<java.lang.String>
         getReceiversList();
     /**
      * <code>repeated string receivers = 8;</code>
+     * @return The count of receivers.
      */
     int getReceiversCount();
     /**
      * <code>repeated string receivers = 8;</code>
+     * @param index The index of the element to return.
+     * @return The receivers at the given index.
      */
     java.lang.String getReceivers(int index);
     /**
      * <code>repeated string receivers = 8;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the receivers at the given index.
      */
     com.google.protobuf.ByteString
         getReceiversBytes(int index);
 
     /**
      * <code>optional uint32 timeout = 9;</code>
+     * @return Whether the timeout field is set.
      */
     boolean hasTimeout();
     /**
      * <code>optional uint32 timeout = 9;</code>
+     * @return The timeout.
      */
     int getTimeout();
 
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext traceContext = 10;</code>
+     * @return Whether the traceContext field is set.
      */
     boolean hasTraceContext();
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext traceContext = 10;</code>
+     * @return The traceContext.
      */
     org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext getTraceContext();
     /**
@@ -4245,10 +4316,12 @@ public final class Messaging {
 
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext creationContext = 11;</code>
+     * @return Whether the creationContext field is set.
      */
     boolean hasCreationContext();
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext creationContext = 11;</code>
+     * @return The creationContext.
      */
     org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext getCreationContext();
     /**
@@ -4258,22 +4331,63 @@ public final class Messaging {
 
     /**
      * <code>optional string messageQueueAffinityKey = 12;</code>
+     * @return Whether the messageQueueAffinityKey field is set.
      */
     boolean hasMessageQueueAffinityKey();
     /**
      * <code>optional string messageQueueAffinityKey = 12;</code>
+     * @return The messageQueueAffinityKey.
      */
     java.lang.String getMessageQueueAffinityKey();
     /**
      * <code>optional string messageQueueAffinityKey = 12;</code>
+     * @return The bytes for messageQueueAffinityKey.
      */
     com.google.protobuf.ByteString
         getMessageQueueAffinityKeyBytes();
+
+    /**
+     * <pre>
+     * compact encoding of sender and receivers, see CompactActorRefs
+     * </pre>
+     *
+     * <code>optional bytes actorRefs = 13;</code>
+     * @return Whether the actorRefs field is set.
+     */
+    boolean hasActorRefs();
+    /**
+     * <pre>
+     * compact encoding of sender and receivers, see CompactActorRefs
+     * </pre>
+     *
+     * <code>optional bytes actorRefs = 13;</code>
+     * @return The actorRefs.
+     */
+    com.google.protobuf.ByteString getActorRefs();
+
+    /**
+     * <pre>
+     * the payload is compressed, see InternalMessagePayloadCompression
+     * </pre>
+     *
+     * <code>optional bool payloadCompressed = 14;</code>
+     * @return Whether the payloadCompressed field is set.
+     */
+    boolean hasPayloadCompressed();
+    /**
+     * <pre>
+     * the payload is compressed, see InternalMessagePayloadCompression
+     * </pre>
+     *
+     * <code>optional bool payloadCompressed = 14;</code>
+     * @return The payloadCompressed.
+     */
+    boolean getPayloadCompressed();
   }
   /**
    * Protobuf type {@code org.elasticsoftware.elasticactors.serialization.protobuf.InternalMessage}
    */
-  public  static final class InternalMessage extends
+  public static final class InternalMessage extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.serialization.protobuf.InternalMessage)
       InternalMessageOrBuilder {
@@ -4288,143 +4402,19 @@ public final class Messaging {
       payloadClass_ = "";
       payload_ = com.google.protobuf.ByteString.EMPTY;
       id_ = com.google.protobuf.ByteString.EMPTY;
-      durable_ = false;
-      undeliverable_ = false;
-      receivers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      timeout_ = 0;
+      receivers_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
       messageQueueAffinityKey_ = "";
+      actorRefs_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private InternalMessage(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              receiver_ = bs;
-              break;
-            }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000002;
-              sender_ = bs;
-              break;
-            }
-            case 26: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000004;
-              payloadClass_ = bs;
-              break;
-            }
-            case 34: {
-              bitField0_ |= 0x00000008;
-              payload_ = input.readBytes();
-              break;
-            }
-            case 42: {
-              bitField0_ |= 0x00000010;
-              id_ = input.readBytes();
-              break;
-            }
-            case 48: {
-              bitField0_ |= 0x00000020;
-              durable_ = input.readBool();
-              break;
-            }
-            case 56: {
-              bitField0_ |= 0x00000040;
-              undeliverable_ = input.readBool();
-              break;
-            }
-            case 66: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              if (!((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
-                receivers_ = new com.google.protobuf.LazyStringArrayList();
-                mutable_bitField0_ |= 0x00000080;
-              }
-              receivers_.add(bs);
-              break;
-            }
-            case 72: {
-              bitField0_ |= 0x00000080;
-              timeout_ = input.readUInt32();
-              break;
-            }
-            case 82: {
-              org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000100) == 0x00000100)) {
-                subBuilder = traceContext_.toBuilder();
-              }
-              traceContext_ = input.readMessage(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(traceContext_);
-                traceContext_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000100;
-              break;
-            }
-            case 90: {
-              org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000200) == 0x00000200)) {
-                subBuilder = creationContext_.toBuilder();
-              }
-              creationContext_ = input.readMessage(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(creationContext_);
-                creationContext_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000200;
-              break;
-            }
-            case 98: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000400;
-              messageQueueAffinityKey_ = bs;
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        if (((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
-          receivers_ = receivers_.getUnmodifiableView();
-        }
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new InternalMessage();
     }
+
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
       return org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_InternalMessage_descriptor;
@@ -4440,16 +4430,21 @@ public final class Messaging {
 
     private int bitField0_;
     public static final int RECEIVER_FIELD_NUMBER = 1;
-    private volatile java.lang.Object receiver_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object receiver_ = "";
     /**
      * <code>optional string receiver = 1;</code>
+     * @return Whether the receiver field is set.
      */
+    @java.lang.Override
     public boolean hasReceiver() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
      * <code>optional string receiver = 1;</code>
+     * @return The receiver.
      */
+    @java.lang.Override
     public java.lang.String getReceiver() {
       java.lang.Object ref = receiver_;
       if (ref instanceof java.lang.String) {
@@ -4466,7 +4461,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string receiver = 1;</code>
+     * @return The bytes for receiver.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getReceiverBytes() {
       java.lang.Object ref = receiver_;
@@ -4482,16 +4479,21 @@ public final class Messaging {
     }
 
     public static final int SENDER_FIELD_NUMBER = 2;
-    private volatile java.lang.Object sender_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object sender_ = "";
     /**
      * <code>optional string sender = 2;</code>
+     * @return Whether the sender field is set.
      */
+    @java.lang.Override
     public boolean hasSender() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
      * <code>optional string sender = 2;</code>
+     * @return The sender.
      */
+    @java.lang.Override
     public java.lang.String getSender() {
       java.lang.Object ref = sender_;
       if (ref instanceof java.lang.String) {
@@ -4508,7 +4510,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string sender = 2;</code>
+     * @return The bytes for sender.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getSenderBytes() {
       java.lang.Object ref = sender_;
@@ -4524,16 +4528,21 @@ public final class Messaging {
     }
 
     public static final int PAYLOADCLASS_FIELD_NUMBER = 3;
-    private volatile java.lang.Object payloadClass_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object payloadClass_ = "";
     /**
      * <code>optional string payloadClass = 3;</code>
+     * @return Whether the payloadClass field is set.
      */
+    @java.lang.Override
     public boolean hasPayloadClass() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+      return ((bitField0_ & 0x00000004) != 0);
     }
     /**
      * <code>optional string payloadClass = 3;</code>
+     * @return The payloadClass.
      */
+    @java.lang.Override
     public java.lang.String getPayloadClass() {
       java.lang.Object ref = payloadClass_;
       if (ref instanceof java.lang.String) {
@@ -4550,7 +4559,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string payloadClass = 3;</code>
+     * @return The bytes for payloadClass.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getPayloadClassBytes() {
       java.lang.Object ref = payloadClass_;
@@ -4566,69 +4577,88 @@ public final class Messaging {
     }
 
     public static final int PAYLOAD_FIELD_NUMBER = 4;
-    private com.google.protobuf.ByteString payload_;
+    private com.google.protobuf.ByteString payload_ = com.google.protobuf.ByteString.EMPTY;
     /**
      * <code>optional bytes payload = 4;</code>
+     * @return Whether the payload field is set.
      */
+    @java.lang.Override
     public boolean hasPayload() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
+      return ((bitField0_ & 0x00000008) != 0);
     }
     /**
      * <code>optional bytes payload = 4;</code>
+     * @return The payload.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString getPayload() {
       return payload_;
     }
 
     public static final int ID_FIELD_NUMBER = 5;
-    private com.google.protobuf.ByteString id_;
+    private com.google.protobuf.ByteString id_ = com.google.protobuf.ByteString.EMPTY;
     /**
      * <code>optional bytes id = 5;</code>
+     * @return Whether the id field is set.
      */
+    @java.lang.Override
     public boolean hasId() {
-      return ((bitField0_ & 0x00000010) == 0x00000010);
+      return ((bitField0_ & 0x00000010) != 0);
     }
     /**
      * <code>optional bytes id = 5;</code>
+     * @return The id.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString getId() {
       return id_;
     }
 
     public static final int DURABLE_FIELD_NUMBER = 6;
-    private boolean durable_;
+    private boolean durable_ = false;
     /**
      * <code>optional bool durable = 6;</code>
+     * @return Whether the durable field is set.
      */
+    @java.lang.Override
     public boolean hasDurable() {
-      return ((bitField0_ & 0x00000020) == 0x00000020);
+      return ((bitField0_ & 0x00000020) != 0);
     }
     /**
      * <code>optional bool durable = 6;</code>
+     * @return The durable.
      */
+    @java.lang.Override
     public boolean getDurable() {
       return durable_;
     }
 
     public static final int UNDELIVERABLE_FIELD_NUMBER = 7;
-    private boolean undeliverable_;
+    private boolean undeliverable_ = false;
     /**
      * <code>optional bool undeliverable = 7;</code>
+     * @return Whether the undeliverable field is set.
      */
+    @java.lang.Override
     public boolean hasUndeliverable() {
-      return ((bitField0_ & 0x00000040) == 0x00000040);
+      return ((bitField0_ & 0x00000040) != 0);
     }
     /**
      * <code>optional bool undeliverable = 7;</code>
+     * @return The undeliverable.
      */
+    @java.lang.Override
     public boolean getUndeliverable() {
       return undeliverable_;
     }
 
     public static final int RECEIVERS_FIELD_NUMBER = 8;
-    private com.google.protobuf.LazyStringList receivers_;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList receivers_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
     /**
      * <code>repeated string receivers = 8;</code>
+     * @return A list containing the receivers.
      */
     public com.google.protobuf.ProtocolStringList
         getReceiversList() {
@@ -4636,18 +4666,23 @@ public final class Messaging {
     }
     /**
      * <code>repeated string receivers = 8;</code>
+     * @return The count of receivers.
      */
     public int getReceiversCount() {
       return receivers_.size();
     }
     /**
      * <code>repeated string receivers = 8;</code>
+     * @param index The index of the element to return.
+     * @return The receivers at the given index.
      */
     public java.lang.String getReceivers(int index) {
       return receivers_.get(index);
     }
     /**
      * <code>repeated string receivers = 8;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the receivers at the given index.
      */
     public com.google.protobuf.ByteString
         getReceiversBytes(int index) {
@@ -4655,16 +4690,20 @@ public final class Messaging {
     }
 
     public static final int TIMEOUT_FIELD_NUMBER = 9;
-    private int timeout_;
+    private int timeout_ = 0;
     /**
      * <code>optional uint32 timeout = 9;</code>
+     * @return Whether the timeout field is set.
      */
+    @java.lang.Override
     public boolean hasTimeout() {
-      return ((bitField0_ & 0x00000080) == 0x00000080);
+      return ((bitField0_ & 0x00000080) != 0);
     }
     /**
      * <code>optional uint32 timeout = 9;</code>
+     * @return The timeout.
      */
+    @java.lang.Override
     public int getTimeout() {
       return timeout_;
     }
@@ -4673,19 +4712,24 @@ public final class Messaging {
     private org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext traceContext_;
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext traceContext = 10;</code>
+     * @return Whether the traceContext field is set.
      */
+    @java.lang.Override
     public boolean hasTraceContext() {
-      return ((bitField0_ & 0x00000100) == 0x00000100);
+      return ((bitField0_ & 0x00000100) != 0);
     }
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext traceContext = 10;</code>
+     * @return The traceContext.
      */
+    @java.lang.Override
     public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext getTraceContext() {
       return traceContext_ == null ? org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.getDefaultInstance() : traceContext_;
     }
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext traceContext = 10;</code>
      */
+    @java.lang.Override
     public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContextOrBuilder getTraceContextOrBuilder() {
       return traceContext_ == null ? org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.getDefaultInstance() : traceContext_;
     }
@@ -4694,34 +4738,44 @@ public final class Messaging {
     private org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext creationContext_;
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext creationContext = 11;</code>
+     * @return Whether the creationContext field is set.
      */
+    @java.lang.Override
     public boolean hasCreationContext() {
-      return ((bitField0_ & 0x00000200) == 0x00000200);
+      return ((bitField0_ & 0x00000200) != 0);
     }
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext creationContext = 11;</code>
+     * @return The creationContext.
      */
+    @java.lang.Override
     public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext getCreationContext() {
       return creationContext_ == null ? org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.getDefaultInstance() : creationContext_;
     }
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext creationContext = 11;</code>
      */
+    @java.lang.Override
     public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContextOrBuilder getCreationContextOrBuilder() {
       return creationContext_ == null ? org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.getDefaultInstance() : creationContext_;
     }
 
     public static final int MESSAGEQUEUEAFFINITYKEY_FIELD_NUMBER = 12;
-    private volatile java.lang.Object messageQueueAffinityKey_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object messageQueueAffinityKey_ = "";
     /**
      * <code>optional string messageQueueAffinityKey = 12;</code>
+     * @return Whether the messageQueueAffinityKey field is set.
      */
+    @java.lang.Override
     public boolean hasMessageQueueAffinityKey() {
-      return ((bitField0_ & 0x00000400) == 0x00000400);
+      return ((bitField0_ & 0x00000400) != 0);
     }
     /**
      * <code>optional string messageQueueAffinityKey = 12;</code>
+     * @return The messageQueueAffinityKey.
      */
+    @java.lang.Override
     public java.lang.String getMessageQueueAffinityKey() {
       java.lang.Object ref = messageQueueAffinityKey_;
       if (ref instanceof java.lang.String) {
@@ -4738,7 +4792,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string messageQueueAffinityKey = 12;</code>
+     * @return The bytes for messageQueueAffinityKey.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getMessageQueueAffinityKeyBytes() {
       java.lang.Object ref = messageQueueAffinityKey_;
@@ -4753,6 +4809,60 @@ public final class Messaging {
       }
     }
 
+    public static final int ACTORREFS_FIELD_NUMBER = 13;
+    private com.google.protobuf.ByteString actorRefs_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <pre>
+     * compact encoding of sender and receivers, see CompactActorRefs
+     * </pre>
+     *
+     * <code>optional bytes actorRefs = 13;</code>
+     * @return Whether the actorRefs field is set.
+     */
+    @java.lang.Override
+    public boolean hasActorRefs() {
+      return ((bitField0_ & 0x00000800) != 0);
+    }
+    /**
+     * <pre>
+     * compact encoding of sender and receivers, see CompactActorRefs
+     * </pre>
+     *
+     * <code>optional bytes actorRefs = 13;</code>
+     * @return The actorRefs.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getActorRefs() {
+      return actorRefs_;
+    }
+
+    public static final int PAYLOADCOMPRESSED_FIELD_NUMBER = 14;
+    private boolean payloadCompressed_ = false;
+    /**
+     * <pre>
+     * the payload is compressed, see InternalMessagePayloadCompression
+     * </pre>
+     *
+     * <code>optional bool payloadCompressed = 14;</code>
+     * @return Whether the payloadCompressed field is set.
+     */
+    @java.lang.Override
+    public boolean hasPayloadCompressed() {
+      return ((bitField0_ & 0x00001000) != 0);
+    }
+    /**
+     * <pre>
+     * the payload is compressed, see InternalMessagePayloadCompression
+     * </pre>
+     *
+     * <code>optional bool payloadCompressed = 14;</code>
+     * @return The payloadCompressed.
+     */
+    @java.lang.Override
+    public boolean getPayloadCompressed() {
+      return payloadCompressed_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -4773,43 +4883,49 @@ public final class Messaging {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, receiver_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, sender_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 3, payloadClass_);
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000008) != 0)) {
         output.writeBytes(4, payload_);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      if (((bitField0_ & 0x00000010) != 0)) {
         output.writeBytes(5, id_);
       }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+      if (((bitField0_ & 0x00000020) != 0)) {
         output.writeBool(6, durable_);
       }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+      if (((bitField0_ & 0x00000040) != 0)) {
         output.writeBool(7, undeliverable_);
       }
       for (int i = 0; i < receivers_.size(); i++) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 8, receivers_.getRaw(i));
       }
-      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+      if (((bitField0_ & 0x00000080) != 0)) {
         output.writeUInt32(9, timeout_);
       }
-      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+      if (((bitField0_ & 0x00000100) != 0)) {
         output.writeMessage(10, getTraceContext());
       }
-      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+      if (((bitField0_ & 0x00000200) != 0)) {
         output.writeMessage(11, getCreationContext());
       }
-      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+      if (((bitField0_ & 0x00000400) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 12, messageQueueAffinityKey_);
       }
-      unknownFields.writeTo(output);
+      if (((bitField0_ & 0x00000800) != 0)) {
+        output.writeBytes(13, actorRefs_);
+      }
+      if (((bitField0_ & 0x00001000) != 0)) {
+        output.writeBool(14, payloadCompressed_);
+      }
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -4818,28 +4934,28 @@ public final class Messaging {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, receiver_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, sender_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, payloadClass_);
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000008) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(4, payload_);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      if (((bitField0_ & 0x00000010) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(5, id_);
       }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+      if (((bitField0_ & 0x00000020) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(6, durable_);
       }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+      if (((bitField0_ & 0x00000040) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(7, undeliverable_);
       }
@@ -4851,22 +4967,30 @@ public final class Messaging {
         size += dataSize;
         size += 1 * getReceiversList().size();
       }
-      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+      if (((bitField0_ & 0x00000080) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeUInt32Size(9, timeout_);
       }
-      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+      if (((bitField0_ & 0x00000100) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(10, getTraceContext());
       }
-      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+      if (((bitField0_ & 0x00000200) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(11, getCreationContext());
       }
-      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+      if (((bitField0_ & 0x00000400) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(12, messageQueueAffinityKey_);
       }
-      size += unknownFields.getSerializedSize();
+      if (((bitField0_ & 0x00000800) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(13, actorRefs_);
+      }
+      if (((bitField0_ & 0x00001000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(14, payloadCompressed_);
+      }
+      size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
@@ -4881,66 +5005,75 @@ public final class Messaging {
       }
       org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessage other = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessage) obj;
 
-      boolean result = true;
-      result = result && (hasReceiver() == other.hasReceiver());
+      if (hasReceiver() != other.hasReceiver()) return false;
       if (hasReceiver()) {
-        result = result && getReceiver()
-            .equals(other.getReceiver());
+        if (!getReceiver()
+            .equals(other.getReceiver())) return false;
       }
-      result = result && (hasSender() == other.hasSender());
+      if (hasSender() != other.hasSender()) return false;
       if (hasSender()) {
-        result = result && getSender()
-            .equals(other.getSender());
+        if (!getSender()
+            .equals(other.getSender())) return false;
       }
-      result = result && (hasPayloadClass() == other.hasPayloadClass());
+      if (hasPayloadClass() != other.hasPayloadClass()) return false;
       if (hasPayloadClass()) {
-        result = result && getPayloadClass()
-            .equals(other.getPayloadClass());
+        if (!getPayloadClass()
+            .equals(other.getPayloadClass())) return false;
       }
-      result = result && (hasPayload() == other.hasPayload());
+      if (hasPayload() != other.hasPayload()) return false;
       if (hasPayload()) {
-        result = result && getPayload()
-            .equals(other.getPayload());
+        if (!getPayload()
+            .equals(other.getPayload())) return false;
       }
-      result = result && (hasId() == other.hasId());
+      if (hasId() != other.hasId()) return false;
       if (hasId()) {
-        result = result && getId()
-            .equals(other.getId());
+        if (!getId()
+            .equals(other.getId())) return false;
       }
-      result = result && (hasDurable() == other.hasDurable());
+      if (hasDurable() != other.hasDurable()) return false;
       if (hasDurable()) {
-        result = result && (getDurable()
-            == other.getDurable());
+        if (getDurable()
+            != other.getDurable()) return false;
       }
-      result = result && (hasUndeliverable() == other.hasUndeliverable());
+      if (hasUndeliverable() != other.hasUndeliverable()) return false;
       if (hasUndeliverable()) {
-        result = result && (getUndeliverable()
-            == other.getUndeliverable());
+        if (getUndeliverable()
+            != other.getUndeliverable()) return false;
       }
-      result = result && getReceiversList()
-          .equals(other.getReceiversList());
-      result = result && (hasTimeout() == other.hasTimeout());
+      if (!getReceiversList()
+          .equals(other.getReceiversList())) return false;
+      if (hasTimeout() != other.hasTimeout()) return false;
       if (hasTimeout()) {
-        result = result && (getTimeout()
-            == other.getTimeout());
+        if (getTimeout()
+            != other.getTimeout()) return false;
       }
-      result = result && (hasTraceContext() == other.hasTraceContext());
+      if (hasTraceContext() != other.hasTraceContext()) return false;
       if (hasTraceContext()) {
-        result = result && getTraceContext()
-            .equals(other.getTraceContext());
+        if (!getTraceContext()
+            .equals(other.getTraceContext())) return false;
       }
-      result = result && (hasCreationContext() == other.hasCreationContext());
+      if (hasCreationContext() != other.hasCreationContext()) return false;
       if (hasCreationContext()) {
-        result = result && getCreationContext()
-            .equals(other.getCreationContext());
+        if (!getCreationContext()
+            .equals(other.getCreationContext())) return false;
       }
-      result = result && (hasMessageQueueAffinityKey() == other.hasMessageQueueAffinityKey());
+      if (hasMessageQueueAffinityKey() != other.hasMessageQueueAffinityKey()) return false;
       if (hasMessageQueueAffinityKey()) {
-        result = result && getMessageQueueAffinityKey()
-            .equals(other.getMessageQueueAffinityKey());
+        if (!getMessageQueueAffinityKey()
+            .equals(other.getMessageQueueAffinityKey())) return false;
+      }
+      if (hasActorRefs() != other.hasActorRefs()) return false;
+      if (hasActorRefs()) {
+        if (!getActorRefs()
+            .equals(other.getActorRefs())) return false;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (hasPayloadCompressed() != other.hasPayloadCompressed()) return false;
+      if (hasPayloadCompressed()) {
+        if (getPayloadCompressed()
+            != other.getPayloadCompressed()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -5000,7 +5133,16 @@ public final class Messaging {
         hash = (37 * hash) + MESSAGEQUEUEAFFINITYKEY_FIELD_NUMBER;
         hash = (53 * hash) + getMessageQueueAffinityKey().hashCode();
       }
-      hash = (29 * hash) + unknownFields.hashCode();
+      if (hasActorRefs()) {
+        hash = (37 * hash) + ACTORREFS_FIELD_NUMBER;
+        hash = (53 * hash) + getActorRefs().hashCode();
+      }
+      if (hasPayloadCompressed()) {
+        hash = (37 * hash) + PAYLOADCOMPRESSED_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getPayloadCompressed());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -5135,38 +5277,30 @@ public final class Messaging {
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
         receiver_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
         sender_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
         payloadClass_ = "";
-        bitField0_ = (bitField0_ & ~0x00000004);
         payload_ = com.google.protobuf.ByteString.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000008);
         id_ = com.google.protobuf.ByteString.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000010);
         durable_ = false;
-        bitField0_ = (bitField0_ & ~0x00000020);
         undeliverable_ = false;
-        bitField0_ = (bitField0_ & ~0x00000040);
-        receivers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000080);
+        receivers_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
         timeout_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000100);
-        if (traceContextBuilder_ == null) {
-          traceContext_ = null;
-        } else {
-          traceContextBuilder_.clear();
+        traceContext_ = null;
+        if (traceContextBuilder_ != null) {
+          traceContextBuilder_.dispose();
+          traceContextBuilder_ = null;
         }
-        bitField0_ = (bitField0_ & ~0x00000200);
-        if (creationContextBuilder_ == null) {
-          creationContext_ = null;
-        } else {
-          creationContextBuilder_.clear();
+        creationContext_ = null;
+        if (creationContextBuilder_ != null) {
+          creationContextBuilder_.dispose();
+          creationContextBuilder_ = null;
         }
-        bitField0_ = (bitField0_ & ~0x00000400);
         messageQueueAffinityKey_ = "";
-        bitField0_ = (bitField0_ & ~0x00000800);
+        actorRefs_ = com.google.protobuf.ByteString.EMPTY;
+        payloadCompressed_ = false;
         return this;
       }
 
@@ -5193,102 +5327,77 @@ public final class Messaging {
       @java.lang.Override
       public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessage buildPartial() {
         org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessage result = new org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessage(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessage result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.receiver_ = receiver_;
           to_bitField0_ |= 0x00000001;
         }
-        result.receiver_ = receiver_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.sender_ = sender_;
           to_bitField0_ |= 0x00000002;
         }
-        result.sender_ = sender_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.payloadClass_ = payloadClass_;
           to_bitField0_ |= 0x00000004;
         }
-        result.payloadClass_ = payloadClass_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.payload_ = payload_;
           to_bitField0_ |= 0x00000008;
         }
-        result.payload_ = payload_;
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.id_ = id_;
           to_bitField0_ |= 0x00000010;
         }
-        result.id_ = id_;
-        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.durable_ = durable_;
           to_bitField0_ |= 0x00000020;
         }
-        result.durable_ = durable_;
-        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.undeliverable_ = undeliverable_;
           to_bitField0_ |= 0x00000040;
         }
-        result.undeliverable_ = undeliverable_;
-        if (((bitField0_ & 0x00000080) == 0x00000080)) {
-          receivers_ = receivers_.getUnmodifiableView();
-          bitField0_ = (bitField0_ & ~0x00000080);
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          receivers_.makeImmutable();
+          result.receivers_ = receivers_;
         }
-        result.receivers_ = receivers_;
-        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.timeout_ = timeout_;
           to_bitField0_ |= 0x00000080;
         }
-        result.timeout_ = timeout_;
-        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.traceContext_ = traceContextBuilder_ == null
+              ? traceContext_
+              : traceContextBuilder_.build();
           to_bitField0_ |= 0x00000100;
         }
-        if (traceContextBuilder_ == null) {
-          result.traceContext_ = traceContext_;
-        } else {
-          result.traceContext_ = traceContextBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.creationContext_ = creationContextBuilder_ == null
+              ? creationContext_
+              : creationContextBuilder_.build();
           to_bitField0_ |= 0x00000200;
         }
-        if (creationContextBuilder_ == null) {
-          result.creationContext_ = creationContext_;
-        } else {
-          result.creationContext_ = creationContextBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
+        if (((from_bitField0_ & 0x00000800) != 0)) {
+          result.messageQueueAffinityKey_ = messageQueueAffinityKey_;
           to_bitField0_ |= 0x00000400;
         }
-        result.messageQueueAffinityKey_ = messageQueueAffinityKey_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        if (((from_bitField0_ & 0x00001000) != 0)) {
+          result.actorRefs_ = actorRefs_;
+          to_bitField0_ |= 0x00000800;
+        }
+        if (((from_bitField0_ & 0x00002000) != 0)) {
+          result.payloadCompressed_ = payloadCompressed_;
+          to_bitField0_ |= 0x00001000;
+        }
+        result.bitField0_ |= to_bitField0_;
       }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessage) {
@@ -5302,18 +5411,18 @@ public final class Messaging {
       public Builder mergeFrom(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessage other) {
         if (other == org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessage.getDefaultInstance()) return this;
         if (other.hasReceiver()) {
-          bitField0_ |= 0x00000001;
           receiver_ = other.receiver_;
+          bitField0_ |= 0x00000001;
           onChanged();
         }
         if (other.hasSender()) {
-          bitField0_ |= 0x00000002;
           sender_ = other.sender_;
+          bitField0_ |= 0x00000002;
           onChanged();
         }
         if (other.hasPayloadClass()) {
-          bitField0_ |= 0x00000004;
           payloadClass_ = other.payloadClass_;
+          bitField0_ |= 0x00000004;
           onChanged();
         }
         if (other.hasPayload()) {
@@ -5331,7 +5440,7 @@ public final class Messaging {
         if (!other.receivers_.isEmpty()) {
           if (receivers_.isEmpty()) {
             receivers_ = other.receivers_;
-            bitField0_ = (bitField0_ & ~0x00000080);
+            bitField0_ |= 0x00000080;
           } else {
             ensureReceiversIsMutable();
             receivers_.addAll(other.receivers_);
@@ -5348,11 +5457,17 @@ public final class Messaging {
           mergeCreationContext(other.getCreationContext());
         }
         if (other.hasMessageQueueAffinityKey()) {
-          bitField0_ |= 0x00000800;
           messageQueueAffinityKey_ = other.messageQueueAffinityKey_;
+          bitField0_ |= 0x00000800;
           onChanged();
         }
-        this.mergeUnknownFields(other.unknownFields);
+        if (other.hasActorRefs()) {
+          setActorRefs(other.getActorRefs());
+        }
+        if (other.hasPayloadCompressed()) {
+          setPayloadCompressed(other.getPayloadCompressed());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
@@ -5372,17 +5487,105 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessage parsedMessage = null;
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
         try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                receiver_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                sender_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                payloadClass_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                payload_ = input.readBytes();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                id_ = input.readBytes();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 48: {
+                durable_ = input.readBool();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 56: {
+                undeliverable_ = input.readBool();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              case 66: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                ensureReceiversIsMutable();
+                receivers_.add(bs);
+                break;
+              } // case 66
+              case 72: {
+                timeout_ = input.readUInt32();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 72
+              case 82: {
+                input.readMessage(
+                    getTraceContextFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 82
+              case 90: {
+                input.readMessage(
+                    getCreationContextFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 90
+              case 98: {
+                messageQueueAffinityKey_ = input.readBytes();
+                bitField0_ |= 0x00000800;
+                break;
+              } // case 98
+              case 106: {
+                actorRefs_ = input.readBytes();
+                bitField0_ |= 0x00001000;
+                break;
+              } // case 106
+              case 112: {
+                payloadCompressed_ = input.readBool();
+                bitField0_ |= 0x00002000;
+                break;
+              } // case 112
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessage) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+          onChanged();
+        } // finally
         return this;
       }
       private int bitField0_;
@@ -5390,12 +5593,14 @@ public final class Messaging {
       private java.lang.Object receiver_ = "";
       /**
        * <code>optional string receiver = 1;</code>
+       * @return Whether the receiver field is set.
        */
       public boolean hasReceiver() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <code>optional string receiver = 1;</code>
+       * @return The receiver.
        */
       public java.lang.String getReceiver() {
         java.lang.Object ref = receiver_;
@@ -5413,6 +5618,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string receiver = 1;</code>
+       * @return The bytes for receiver.
        */
       public com.google.protobuf.ByteString
           getReceiverBytes() {
@@ -5429,36 +5635,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string receiver = 1;</code>
+       * @param value The receiver to set.
+       * @return This builder for chaining.
        */
       public Builder setReceiver(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         receiver_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <code>optional string receiver = 1;</code>
+       * @return This builder for chaining.
        */
       public Builder clearReceiver() {
-        bitField0_ = (bitField0_ & ~0x00000001);
         receiver_ = getDefaultInstance().getReceiver();
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
        * <code>optional string receiver = 1;</code>
+       * @param value The bytes for receiver to set.
+       * @return This builder for chaining.
        */
       public Builder setReceiverBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         receiver_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
@@ -5466,12 +5673,14 @@ public final class Messaging {
       private java.lang.Object sender_ = "";
       /**
        * <code>optional string sender = 2;</code>
+       * @return Whether the sender field is set.
        */
       public boolean hasSender() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
        * <code>optional string sender = 2;</code>
+       * @return The sender.
        */
       public java.lang.String getSender() {
         java.lang.Object ref = sender_;
@@ -5489,6 +5698,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string sender = 2;</code>
+       * @return The bytes for sender.
        */
       public com.google.protobuf.ByteString
           getSenderBytes() {
@@ -5505,36 +5715,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string sender = 2;</code>
+       * @param value The sender to set.
+       * @return This builder for chaining.
        */
       public Builder setSender(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         sender_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <code>optional string sender = 2;</code>
+       * @return This builder for chaining.
        */
       public Builder clearSender() {
-        bitField0_ = (bitField0_ & ~0x00000002);
         sender_ = getDefaultInstance().getSender();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
       /**
        * <code>optional string sender = 2;</code>
+       * @param value The bytes for sender to set.
+       * @return This builder for chaining.
        */
       public Builder setSenderBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         sender_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
@@ -5542,12 +5753,14 @@ public final class Messaging {
       private java.lang.Object payloadClass_ = "";
       /**
        * <code>optional string payloadClass = 3;</code>
+       * @return Whether the payloadClass field is set.
        */
       public boolean hasPayloadClass() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+        return ((bitField0_ & 0x00000004) != 0);
       }
       /**
        * <code>optional string payloadClass = 3;</code>
+       * @return The payloadClass.
        */
       public java.lang.String getPayloadClass() {
         java.lang.Object ref = payloadClass_;
@@ -5565,6 +5778,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string payloadClass = 3;</code>
+       * @return The bytes for payloadClass.
        */
       public com.google.protobuf.ByteString
           getPayloadClassBytes() {
@@ -5581,36 +5795,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string payloadClass = 3;</code>
+       * @param value The payloadClass to set.
+       * @return This builder for chaining.
        */
       public Builder setPayloadClass(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
+        if (value == null) { throw new NullPointerException(); }
         payloadClass_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
        * <code>optional string payloadClass = 3;</code>
+       * @return This builder for chaining.
        */
       public Builder clearPayloadClass() {
-        bitField0_ = (bitField0_ & ~0x00000004);
         payloadClass_ = getDefaultInstance().getPayloadClass();
+        bitField0_ = (bitField0_ & ~0x00000004);
         onChanged();
         return this;
       }
       /**
        * <code>optional string payloadClass = 3;</code>
+       * @param value The bytes for payloadClass to set.
+       * @return This builder for chaining.
        */
       public Builder setPayloadClassBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
+        if (value == null) { throw new NullPointerException(); }
         payloadClass_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
@@ -5618,30 +5833,35 @@ public final class Messaging {
       private com.google.protobuf.ByteString payload_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes payload = 4;</code>
+       * @return Whether the payload field is set.
        */
+      @java.lang.Override
       public boolean hasPayload() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+        return ((bitField0_ & 0x00000008) != 0);
       }
       /**
        * <code>optional bytes payload = 4;</code>
+       * @return The payload.
        */
+      @java.lang.Override
       public com.google.protobuf.ByteString getPayload() {
         return payload_;
       }
       /**
        * <code>optional bytes payload = 4;</code>
+       * @param value The payload to set.
+       * @return This builder for chaining.
        */
       public Builder setPayload(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
+        if (value == null) { throw new NullPointerException(); }
         payload_ = value;
+        bitField0_ |= 0x00000008;
         onChanged();
         return this;
       }
       /**
        * <code>optional bytes payload = 4;</code>
+       * @return This builder for chaining.
        */
       public Builder clearPayload() {
         bitField0_ = (bitField0_ & ~0x00000008);
@@ -5653,30 +5873,35 @@ public final class Messaging {
       private com.google.protobuf.ByteString id_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes id = 5;</code>
+       * @return Whether the id field is set.
        */
+      @java.lang.Override
       public boolean hasId() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
+        return ((bitField0_ & 0x00000010) != 0);
       }
       /**
        * <code>optional bytes id = 5;</code>
+       * @return The id.
        */
+      @java.lang.Override
       public com.google.protobuf.ByteString getId() {
         return id_;
       }
       /**
        * <code>optional bytes id = 5;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
        */
       public Builder setId(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000010;
+        if (value == null) { throw new NullPointerException(); }
         id_ = value;
+        bitField0_ |= 0x00000010;
         onChanged();
         return this;
       }
       /**
        * <code>optional bytes id = 5;</code>
+       * @return This builder for chaining.
        */
       public Builder clearId() {
         bitField0_ = (bitField0_ & ~0x00000010);
@@ -5688,27 +5913,35 @@ public final class Messaging {
       private boolean durable_ ;
       /**
        * <code>optional bool durable = 6;</code>
+       * @return Whether the durable field is set.
        */
+      @java.lang.Override
       public boolean hasDurable() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
+        return ((bitField0_ & 0x00000020) != 0);
       }
       /**
        * <code>optional bool durable = 6;</code>
+       * @return The durable.
        */
+      @java.lang.Override
       public boolean getDurable() {
         return durable_;
       }
       /**
        * <code>optional bool durable = 6;</code>
+       * @param value The durable to set.
+       * @return This builder for chaining.
        */
       public Builder setDurable(boolean value) {
-        bitField0_ |= 0x00000020;
+
         durable_ = value;
+        bitField0_ |= 0x00000020;
         onChanged();
         return this;
       }
       /**
        * <code>optional bool durable = 6;</code>
+       * @return This builder for chaining.
        */
       public Builder clearDurable() {
         bitField0_ = (bitField0_ & ~0x00000020);
@@ -5720,27 +5953,35 @@ public final class Messaging {
       private boolean undeliverable_ ;
       /**
        * <code>optional bool undeliverable = 7;</code>
+       * @return Whether the undeliverable field is set.
        */
+      @java.lang.Override
       public boolean hasUndeliverable() {
-        return ((bitField0_ & 0x00000040) == 0x00000040);
+        return ((bitField0_ & 0x00000040) != 0);
       }
       /**
        * <code>optional bool undeliverable = 7;</code>
+       * @return The undeliverable.
        */
+      @java.lang.Override
       public boolean getUndeliverable() {
         return undeliverable_;
       }
       /**
        * <code>optional bool undeliverable = 7;</code>
+       * @param value The undeliverable to set.
+       * @return This builder for chaining.
        */
       public Builder setUndeliverable(boolean value) {
-        bitField0_ |= 0x00000040;
+
         undeliverable_ = value;
+        bitField0_ |= 0x00000040;
         onChanged();
         return this;
       }
       /**
        * <code>optional bool undeliverable = 7;</code>
+       * @return This builder for chaining.
        */
       public Builder clearUndeliverable() {
         bitField0_ = (bitField0_ & ~0x00000040);
@@ -5749,34 +5990,42 @@ public final class Messaging {
         return this;
       }
 
-      private com.google.protobuf.LazyStringList receivers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private com.google.protobuf.LazyStringArrayList receivers_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
       private void ensureReceiversIsMutable() {
-        if (!((bitField0_ & 0x00000080) == 0x00000080)) {
+        if (!receivers_.isModifiable()) {
           receivers_ = new com.google.protobuf.LazyStringArrayList(receivers_);
-          bitField0_ |= 0x00000080;
-         }
+        }
+        bitField0_ |= 0x00000080;
       }
       /**
        * <code>repeated string receivers = 8;</code>
+       * @return A list containing the receivers.
        */
       public com.google.protobuf.ProtocolStringList
           getReceiversList() {
-        return receivers_.getUnmodifiableView();
+        receivers_.makeImmutable();
+        return receivers_;
       }
       /**
        * <code>repeated string receivers = 8;</code>
+       * @return The count of receivers.
        */
       public int getReceiversCount() {
         return receivers_.size();
       }
       /**
        * <code>repeated string receivers = 8;</code>
+       * @param index The index of the element to return.
+       * @return The receivers at the given index.
        */
       public java.lang.String getReceivers(int index) {
         return receivers_.get(index);
       }
       /**
        * <code>repeated string receivers = 8;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the receivers at the given index.
        */
       public com.google.protobuf.ByteString
           getReceiversBytes(int index) {
@@ -5784,60 +6033,69 @@ public final class Messaging {
       }
       /**
        * <code>repeated string receivers = 8;</code>
+       * @param index The index to set the value at.
+       * @param value The receivers to set.
+       * @return This builder for chaining.
        */
       public Builder setReceivers(
           int index, java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureReceiversIsMutable();
+        if (value == null) { throw new NullPointerException(); }
+        ensureReceiversIsMutable();
         receivers_.set(index, value);
+        bitField0_ |= 0x00000080;
         onChanged();
         return this;
       }
       /**
        * <code>repeated string receivers = 8;</code>
+       * @param value The receivers to add.
+       * @return This builder for chaining.
        */
       public Builder addReceivers(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureReceiversIsMutable();
+        if (value == null) { throw new NullPointerException(); }
+        ensureReceiversIsMutable();
         receivers_.add(value);
+        bitField0_ |= 0x00000080;
         onChanged();
         return this;
       }
       /**
        * <code>repeated string receivers = 8;</code>
+       * @param values The receivers to add.
+       * @return This builder for chaining.
        */
       public Builder addAllReceivers(
           java.lang.Iterable<java.lang.String> values) {
         ensureReceiversIsMutable();
         com.google.protobuf.AbstractMessageLite.Builder.addAll(
             values, receivers_);
+        bitField0_ |= 0x00000080;
         onChanged();
         return this;
       }
       /**
        * <code>repeated string receivers = 8;</code>
+       * @return This builder for chaining.
        */
       public Builder clearReceivers() {
-        receivers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000080);
+        receivers_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000080);;
         onChanged();
         return this;
       }
       /**
        * <code>repeated string receivers = 8;</code>
+       * @param value The bytes of the receivers to add.
+       * @return This builder for chaining.
        */
       public Builder addReceiversBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureReceiversIsMutable();
+        if (value == null) { throw new NullPointerException(); }
+        ensureReceiversIsMutable();
         receivers_.add(value);
+        bitField0_ |= 0x00000080;
         onChanged();
         return this;
       }
@@ -5845,27 +6103,35 @@ public final class Messaging {
       private int timeout_ ;
       /**
        * <code>optional uint32 timeout = 9;</code>
+       * @return Whether the timeout field is set.
        */
+      @java.lang.Override
       public boolean hasTimeout() {
-        return ((bitField0_ & 0x00000100) == 0x00000100);
+        return ((bitField0_ & 0x00000100) != 0);
       }
       /**
        * <code>optional uint32 timeout = 9;</code>
+       * @return The timeout.
        */
+      @java.lang.Override
       public int getTimeout() {
         return timeout_;
       }
       /**
        * <code>optional uint32 timeout = 9;</code>
+       * @param value The timeout to set.
+       * @return This builder for chaining.
        */
       public Builder setTimeout(int value) {
-        bitField0_ |= 0x00000100;
+
         timeout_ = value;
+        bitField0_ |= 0x00000100;
         onChanged();
         return this;
       }
       /**
        * <code>optional uint32 timeout = 9;</code>
+       * @return This builder for chaining.
        */
       public Builder clearTimeout() {
         bitField0_ = (bitField0_ & ~0x00000100);
@@ -5874,17 +6140,19 @@ public final class Messaging {
         return this;
       }
 
-      private org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext traceContext_ = null;
+      private org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext traceContext_;
       private com.google.protobuf.SingleFieldBuilderV3<
           org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext, org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.Builder, org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContextOrBuilder> traceContextBuilder_;
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext traceContext = 10;</code>
+       * @return Whether the traceContext field is set.
        */
       public boolean hasTraceContext() {
-        return ((bitField0_ & 0x00000200) == 0x00000200);
+        return ((bitField0_ & 0x00000200) != 0);
       }
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext traceContext = 10;</code>
+       * @return The traceContext.
        */
       public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext getTraceContext() {
         if (traceContextBuilder_ == null) {
@@ -5902,11 +6170,11 @@ public final class Messaging {
             throw new NullPointerException();
           }
           traceContext_ = value;
-          onChanged();
         } else {
           traceContextBuilder_.setMessage(value);
         }
         bitField0_ |= 0x00000200;
+        onChanged();
         return this;
       }
       /**
@@ -5916,11 +6184,11 @@ public final class Messaging {
           org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.Builder builderForValue) {
         if (traceContextBuilder_ == null) {
           traceContext_ = builderForValue.build();
-          onChanged();
         } else {
           traceContextBuilder_.setMessage(builderForValue.build());
         }
         bitField0_ |= 0x00000200;
+        onChanged();
         return this;
       }
       /**
@@ -5928,32 +6196,31 @@ public final class Messaging {
        */
       public Builder mergeTraceContext(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext value) {
         if (traceContextBuilder_ == null) {
-          if (((bitField0_ & 0x00000200) == 0x00000200) &&
-              traceContext_ != null &&
-              traceContext_ != org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.getDefaultInstance()) {
-            traceContext_ =
-              org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.newBuilder(traceContext_).mergeFrom(value).buildPartial();
+          if (((bitField0_ & 0x00000200) != 0) &&
+            traceContext_ != null &&
+            traceContext_ != org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.TraceContext.getDefaultInstance()) {
+            getTraceContextBuilder().mergeFrom(value);
           } else {
             traceContext_ = value;
           }
-          onChanged();
         } else {
           traceContextBuilder_.mergeFrom(value);
         }
         bitField0_ |= 0x00000200;
+        onChanged();
         return this;
       }
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.TraceContext traceContext = 10;</code>
        */
       public Builder clearTraceContext() {
-        if (traceContextBuilder_ == null) {
-          traceContext_ = null;
-          onChanged();
-        } else {
-          traceContextBuilder_.clear();
-        }
         bitField0_ = (bitField0_ & ~0x00000200);
+        traceContext_ = null;
+        if (traceContextBuilder_ != null) {
+          traceContextBuilder_.dispose();
+          traceContextBuilder_ = null;
+        }
+        onChanged();
         return this;
       }
       /**
@@ -5992,17 +6259,19 @@ public final class Messaging {
         return traceContextBuilder_;
       }
 
-      private org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext creationContext_ = null;
+      private org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext creationContext_;
       private com.google.protobuf.SingleFieldBuilderV3<
           org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext, org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.Builder, org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContextOrBuilder> creationContextBuilder_;
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext creationContext = 11;</code>
+       * @return Whether the creationContext field is set.
        */
       public boolean hasCreationContext() {
-        return ((bitField0_ & 0x00000400) == 0x00000400);
+        return ((bitField0_ & 0x00000400) != 0);
       }
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext creationContext = 11;</code>
+       * @return The creationContext.
        */
       public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext getCreationContext() {
         if (creationContextBuilder_ == null) {
@@ -6020,11 +6289,11 @@ public final class Messaging {
             throw new NullPointerException();
           }
           creationContext_ = value;
-          onChanged();
         } else {
           creationContextBuilder_.setMessage(value);
         }
         bitField0_ |= 0x00000400;
+        onChanged();
         return this;
       }
       /**
@@ -6034,11 +6303,11 @@ public final class Messaging {
           org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.Builder builderForValue) {
         if (creationContextBuilder_ == null) {
           creationContext_ = builderForValue.build();
-          onChanged();
         } else {
           creationContextBuilder_.setMessage(builderForValue.build());
         }
         bitField0_ |= 0x00000400;
+        onChanged();
         return this;
       }
       /**
@@ -6046,32 +6315,31 @@ public final class Messaging {
        */
       public Builder mergeCreationContext(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext value) {
         if (creationContextBuilder_ == null) {
-          if (((bitField0_ & 0x00000400) == 0x00000400) &&
-              creationContext_ != null &&
-              creationContext_ != org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.getDefaultInstance()) {
-            creationContext_ =
-              org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.newBuilder(creationContext_).mergeFrom(value).buildPartial();
+          if (((bitField0_ & 0x00000400) != 0) &&
+            creationContext_ != null &&
+            creationContext_ != org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreationContext.getDefaultInstance()) {
+            getCreationContextBuilder().mergeFrom(value);
           } else {
             creationContext_ = value;
           }
-          onChanged();
         } else {
           creationContextBuilder_.mergeFrom(value);
         }
         bitField0_ |= 0x00000400;
+        onChanged();
         return this;
       }
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.CreationContext creationContext = 11;</code>
        */
       public Builder clearCreationContext() {
-        if (creationContextBuilder_ == null) {
-          creationContext_ = null;
-          onChanged();
-        } else {
-          creationContextBuilder_.clear();
-        }
         bitField0_ = (bitField0_ & ~0x00000400);
+        creationContext_ = null;
+        if (creationContextBuilder_ != null) {
+          creationContextBuilder_.dispose();
+          creationContextBuilder_ = null;
+        }
+        onChanged();
         return this;
       }
       /**
@@ -6113,12 +6381,14 @@ public final class Messaging {
       private java.lang.Object messageQueueAffinityKey_ = "";
       /**
        * <code>optional string messageQueueAffinityKey = 12;</code>
+       * @return Whether the messageQueueAffinityKey field is set.
        */
       public boolean hasMessageQueueAffinityKey() {
-        return ((bitField0_ & 0x00000800) == 0x00000800);
+        return ((bitField0_ & 0x00000800) != 0);
       }
       /**
        * <code>optional string messageQueueAffinityKey = 12;</code>
+       * @return The messageQueueAffinityKey.
        */
       public java.lang.String getMessageQueueAffinityKey() {
         java.lang.Object ref = messageQueueAffinityKey_;
@@ -6136,6 +6406,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string messageQueueAffinityKey = 12;</code>
+       * @return The bytes for messageQueueAffinityKey.
        */
       public com.google.protobuf.ByteString
           getMessageQueueAffinityKeyBytes() {
@@ -6152,36 +6423,149 @@ public final class Messaging {
       }
       /**
        * <code>optional string messageQueueAffinityKey = 12;</code>
+       * @param value The messageQueueAffinityKey to set.
+       * @return This builder for chaining.
        */
       public Builder setMessageQueueAffinityKey(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000800;
+        if (value == null) { throw new NullPointerException(); }
         messageQueueAffinityKey_ = value;
+        bitField0_ |= 0x00000800;
         onChanged();
         return this;
       }
       /**
        * <code>optional string messageQueueAffinityKey = 12;</code>
+       * @return This builder for chaining.
        */
       public Builder clearMessageQueueAffinityKey() {
-        bitField0_ = (bitField0_ & ~0x00000800);
         messageQueueAffinityKey_ = getDefaultInstance().getMessageQueueAffinityKey();
+        bitField0_ = (bitField0_ & ~0x00000800);
         onChanged();
         return this;
       }
       /**
        * <code>optional string messageQueueAffinityKey = 12;</code>
+       * @param value The bytes for messageQueueAffinityKey to set.
+       * @return This builder for chaining.
        */
       public Builder setMessageQueueAffinityKeyBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000800;
+        if (value == null) { throw new NullPointerException(); }
         messageQueueAffinityKey_ = value;
+        bitField0_ |= 0x00000800;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString actorRefs_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * compact encoding of sender and receivers, see CompactActorRefs
+       * </pre>
+       *
+       * <code>optional bytes actorRefs = 13;</code>
+       * @return Whether the actorRefs field is set.
+       */
+      @java.lang.Override
+      public boolean hasActorRefs() {
+        return ((bitField0_ & 0x00001000) != 0);
+      }
+      /**
+       * <pre>
+       * compact encoding of sender and receivers, see CompactActorRefs
+       * </pre>
+       *
+       * <code>optional bytes actorRefs = 13;</code>
+       * @return The actorRefs.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getActorRefs() {
+        return actorRefs_;
+      }
+      /**
+       * <pre>
+       * compact encoding of sender and receivers, see CompactActorRefs
+       * </pre>
+       *
+       * <code>optional bytes actorRefs = 13;</code>
+       * @param value The actorRefs to set.
+       * @return This builder for chaining.
+       */
+      public Builder setActorRefs(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        actorRefs_ = value;
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * compact encoding of sender and receivers, see CompactActorRefs
+       * </pre>
+       *
+       * <code>optional bytes actorRefs = 13;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearActorRefs() {
+        bitField0_ = (bitField0_ & ~0x00001000);
+        actorRefs_ = getDefaultInstance().getActorRefs();
+        onChanged();
+        return this;
+      }
+
+      private boolean payloadCompressed_ ;
+      /**
+       * <pre>
+       * the payload is compressed, see InternalMessagePayloadCompression
+       * </pre>
+       *
+       * <code>optional bool payloadCompressed = 14;</code>
+       * @return Whether the payloadCompressed field is set.
+       */
+      @java.lang.Override
+      public boolean hasPayloadCompressed() {
+        return ((bitField0_ & 0x00002000) != 0);
+      }
+      /**
+       * <pre>
+       * the payload is compressed, see InternalMessagePayloadCompression
+       * </pre>
+       *
+       * <code>optional bool payloadCompressed = 14;</code>
+       * @return The payloadCompressed.
+       */
+      @java.lang.Override
+      public boolean getPayloadCompressed() {
+        return payloadCompressed_;
+      }
+      /**
+       * <pre>
+       * the payload is compressed, see InternalMessagePayloadCompression
+       * </pre>
+       *
+       * <code>optional bool payloadCompressed = 14;</code>
+       * @param value The payloadCompressed to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPayloadCompressed(boolean value) {
+
+        payloadCompressed_ = value;
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the payload is compressed, see InternalMessagePayloadCompression
+       * </pre>
+       *
+       * <code>optional bool payloadCompressed = 14;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPayloadCompressed() {
+        bitField0_ = (bitField0_ & ~0x00002000);
+        payloadCompressed_ = false;
         onChanged();
         return this;
       }
@@ -6218,7 +6602,18 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new InternalMessage(input, extensionRegistry);
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
     };
 
@@ -6244,74 +6639,90 @@ public final class Messaging {
 
     /**
      * <code>optional string actorId = 1;</code>
+     * @return Whether the actorId field is set.
      */
     boolean hasActorId();
     /**
      * <code>optional string actorId = 1;</code>
+     * @return The actorId.
      */
     java.lang.String getActorId();
     /**
      * <code>optional string actorId = 1;</code>
+     * @return The bytes for actorId.
      */
     com.google.protobuf.ByteString
         getActorIdBytes();
 
     /**
      * <code>optional bytes initialState = 2;</code>
+     * @return Whether the initialState field is set.
      */
     boolean hasInitialState();
     /**
      * <code>optional bytes initialState = 2;</code>
+     * @return The initialState.
      */
     com.google.protobuf.ByteString getInitialState();
 
     /**
      * <code>optional string actorClass = 3;</code>
+     * @return Whether the actorClass field is set.
      */
     boolean hasActorClass();
     /**
      * <code>optional string actorClass = 3;</code>
+     * @return The actorClass.
      */
     java.lang.String getActorClass();
     /**
      * <code>optional string actorClass = 3;</code>
+     * @return The bytes for actorClass.
      */
     com.google.protobuf.ByteString
         getActorClassBytes();
 
     /**
      * <code>optional string actorSystem = 4;</code>
+     * @return Whether the actorSystem field is set.
      */
     boolean hasActorSystem();
     /**
      * <code>optional string actorSystem = 4;</code>
+     * @return The actorSystem.
      */
     java.lang.String getActorSystem();
     /**
      * <code>optional string actorSystem = 4;</code>
+     * @return The bytes for actorSystem.
      */
     com.google.protobuf.ByteString
         getActorSystemBytes();
 
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.ActorType type = 5;</code>
+     * @return Whether the type field is set.
      */
     boolean hasType();
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.ActorType type = 5;</code>
+     * @return The type.
      */
     org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType getType();
 
     /**
      * <code>optional string affinityKey = 6;</code>
+     * @return Whether the affinityKey field is set.
      */
     boolean hasAffinityKey();
     /**
      * <code>optional string affinityKey = 6;</code>
+     * @return The affinityKey.
      */
     java.lang.String getAffinityKey();
     /**
      * <code>optional string affinityKey = 6;</code>
+     * @return The bytes for affinityKey.
      */
     com.google.protobuf.ByteString
         getAffinityKeyBytes();
@@ -6319,7 +6730,7 @@ public final class Messaging {
   /**
    * Protobuf type {@code org.elasticsoftware.elasticactors.serialization.protobuf.CreateActorMessage}
    */
-  public  static final class CreateActorMessage extends
+  public static final class CreateActorMessage extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.serialization.protobuf.CreateActorMessage)
       CreateActorMessageOrBuilder {
@@ -6338,89 +6749,12 @@ public final class Messaging {
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private CreateActorMessage(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              actorId_ = bs;
-              break;
-            }
-            case 18: {
-              bitField0_ |= 0x00000002;
-              initialState_ = input.readBytes();
-              break;
-            }
-            case 26: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000004;
-              actorClass_ = bs;
-              break;
-            }
-            case 34: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000008;
-              actorSystem_ = bs;
-              break;
-            }
-            case 40: {
-              int rawValue = input.readEnum();
-                @SuppressWarnings("deprecation")
-              org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType value = org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType.valueOf(rawValue);
-              if (value == null) {
-                unknownFields.mergeVarintField(5, rawValue);
-              } else {
-                bitField0_ |= 0x00000010;
-                type_ = rawValue;
-              }
-              break;
-            }
-            case 50: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000020;
-              affinityKey_ = bs;
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CreateActorMessage();
     }
+
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
       return org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_CreateActorMessage_descriptor;
@@ -6436,16 +6770,21 @@ public final class Messaging {
 
     private int bitField0_;
     public static final int ACTORID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object actorId_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object actorId_ = "";
     /**
      * <code>optional string actorId = 1;</code>
+     * @return Whether the actorId field is set.
      */
+    @java.lang.Override
     public boolean hasActorId() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
      * <code>optional string actorId = 1;</code>
+     * @return The actorId.
      */
+    @java.lang.Override
     public java.lang.String getActorId() {
       java.lang.Object ref = actorId_;
       if (ref instanceof java.lang.String) {
@@ -6462,7 +6801,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string actorId = 1;</code>
+     * @return The bytes for actorId.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getActorIdBytes() {
       java.lang.Object ref = actorId_;
@@ -6478,31 +6819,40 @@ public final class Messaging {
     }
 
     public static final int INITIALSTATE_FIELD_NUMBER = 2;
-    private com.google.protobuf.ByteString initialState_;
+    private com.google.protobuf.ByteString initialState_ = com.google.protobuf.ByteString.EMPTY;
     /**
      * <code>optional bytes initialState = 2;</code>
+     * @return Whether the initialState field is set.
      */
+    @java.lang.Override
     public boolean hasInitialState() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
      * <code>optional bytes initialState = 2;</code>
+     * @return The initialState.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString getInitialState() {
       return initialState_;
     }
 
     public static final int ACTORCLASS_FIELD_NUMBER = 3;
-    private volatile java.lang.Object actorClass_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object actorClass_ = "";
     /**
      * <code>optional string actorClass = 3;</code>
+     * @return Whether the actorClass field is set.
      */
+    @java.lang.Override
     public boolean hasActorClass() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+      return ((bitField0_ & 0x00000004) != 0);
     }
     /**
      * <code>optional string actorClass = 3;</code>
+     * @return The actorClass.
      */
+    @java.lang.Override
     public java.lang.String getActorClass() {
       java.lang.Object ref = actorClass_;
       if (ref instanceof java.lang.String) {
@@ -6519,7 +6869,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string actorClass = 3;</code>
+     * @return The bytes for actorClass.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getActorClassBytes() {
       java.lang.Object ref = actorClass_;
@@ -6535,16 +6887,21 @@ public final class Messaging {
     }
 
     public static final int ACTORSYSTEM_FIELD_NUMBER = 4;
-    private volatile java.lang.Object actorSystem_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object actorSystem_ = "";
     /**
      * <code>optional string actorSystem = 4;</code>
+     * @return Whether the actorSystem field is set.
      */
+    @java.lang.Override
     public boolean hasActorSystem() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
+      return ((bitField0_ & 0x00000008) != 0);
     }
     /**
      * <code>optional string actorSystem = 4;</code>
+     * @return The actorSystem.
      */
+    @java.lang.Override
     public java.lang.String getActorSystem() {
       java.lang.Object ref = actorSystem_;
       if (ref instanceof java.lang.String) {
@@ -6561,7 +6918,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string actorSystem = 4;</code>
+     * @return The bytes for actorSystem.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getActorSystemBytes() {
       java.lang.Object ref = actorSystem_;
@@ -6577,33 +6936,39 @@ public final class Messaging {
     }
 
     public static final int TYPE_FIELD_NUMBER = 5;
-    private int type_;
+    private int type_ = 0;
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.ActorType type = 5;</code>
+     * @return Whether the type field is set.
      */
-    public boolean hasType() {
-      return ((bitField0_ & 0x00000010) == 0x00000010);
+    @java.lang.Override public boolean hasType() {
+      return ((bitField0_ & 0x00000010) != 0);
     }
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.ActorType type = 5;</code>
+     * @return The type.
      */
-    public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType getType() {
-      @SuppressWarnings("deprecation")
-      org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType result = org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType.valueOf(type_);
+    @java.lang.Override public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType getType() {
+      org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType result = org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType.forNumber(type_);
       return result == null ? org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType.PERSISTENT : result;
     }
 
     public static final int AFFINITYKEY_FIELD_NUMBER = 6;
-    private volatile java.lang.Object affinityKey_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object affinityKey_ = "";
     /**
      * <code>optional string affinityKey = 6;</code>
+     * @return Whether the affinityKey field is set.
      */
+    @java.lang.Override
     public boolean hasAffinityKey() {
-      return ((bitField0_ & 0x00000020) == 0x00000020);
+      return ((bitField0_ & 0x00000020) != 0);
     }
     /**
      * <code>optional string affinityKey = 6;</code>
+     * @return The affinityKey.
      */
+    @java.lang.Override
     public java.lang.String getAffinityKey() {
       java.lang.Object ref = affinityKey_;
       if (ref instanceof java.lang.String) {
@@ -6620,7 +6985,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string affinityKey = 6;</code>
+     * @return The bytes for affinityKey.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getAffinityKeyBytes() {
       java.lang.Object ref = affinityKey_;
@@ -6649,25 +7016,25 @@ public final class Messaging {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, actorId_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         output.writeBytes(2, initialState_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 3, actorClass_);
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000008) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 4, actorSystem_);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      if (((bitField0_ & 0x00000010) != 0)) {
         output.writeEnum(5, type_);
       }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+      if (((bitField0_ & 0x00000020) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 6, affinityKey_);
       }
-      unknownFields.writeTo(output);
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -6676,27 +7043,27 @@ public final class Messaging {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, actorId_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(2, initialState_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, actorClass_);
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000008) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, actorSystem_);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      if (((bitField0_ & 0x00000010) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeEnumSize(5, type_);
       }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+      if (((bitField0_ & 0x00000020) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, affinityKey_);
       }
-      size += unknownFields.getSerializedSize();
+      size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
@@ -6711,38 +7078,37 @@ public final class Messaging {
       }
       org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreateActorMessage other = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreateActorMessage) obj;
 
-      boolean result = true;
-      result = result && (hasActorId() == other.hasActorId());
+      if (hasActorId() != other.hasActorId()) return false;
       if (hasActorId()) {
-        result = result && getActorId()
-            .equals(other.getActorId());
+        if (!getActorId()
+            .equals(other.getActorId())) return false;
       }
-      result = result && (hasInitialState() == other.hasInitialState());
+      if (hasInitialState() != other.hasInitialState()) return false;
       if (hasInitialState()) {
-        result = result && getInitialState()
-            .equals(other.getInitialState());
+        if (!getInitialState()
+            .equals(other.getInitialState())) return false;
       }
-      result = result && (hasActorClass() == other.hasActorClass());
+      if (hasActorClass() != other.hasActorClass()) return false;
       if (hasActorClass()) {
-        result = result && getActorClass()
-            .equals(other.getActorClass());
+        if (!getActorClass()
+            .equals(other.getActorClass())) return false;
       }
-      result = result && (hasActorSystem() == other.hasActorSystem());
+      if (hasActorSystem() != other.hasActorSystem()) return false;
       if (hasActorSystem()) {
-        result = result && getActorSystem()
-            .equals(other.getActorSystem());
+        if (!getActorSystem()
+            .equals(other.getActorSystem())) return false;
       }
-      result = result && (hasType() == other.hasType());
+      if (hasType() != other.hasType()) return false;
       if (hasType()) {
-        result = result && type_ == other.type_;
+        if (type_ != other.type_) return false;
       }
-      result = result && (hasAffinityKey() == other.hasAffinityKey());
+      if (hasAffinityKey() != other.hasAffinityKey()) return false;
       if (hasAffinityKey()) {
-        result = result && getAffinityKey()
-            .equals(other.getAffinityKey());
+        if (!getAffinityKey()
+            .equals(other.getAffinityKey())) return false;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -6776,7 +7142,7 @@ public final class Messaging {
         hash = (37 * hash) + AFFINITYKEY_FIELD_NUMBER;
         hash = (53 * hash) + getAffinityKey().hashCode();
       }
-      hash = (29 * hash) + unknownFields.hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -6893,34 +7259,24 @@ public final class Messaging {
 
       // Construct using org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreateActorMessage.newBuilder()
       private Builder() {
-        maybeForceBuilderInitialization();
+
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
         super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
+
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
         actorId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
         initialState_ = com.google.protobuf.ByteString.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000002);
         actorClass_ = "";
-        bitField0_ = (bitField0_ & ~0x00000004);
         actorSystem_ = "";
-        bitField0_ = (bitField0_ & ~0x00000008);
         type_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000010);
         affinityKey_ = "";
-        bitField0_ = (bitField0_ & ~0x00000020);
         return this;
       }
 
@@ -6947,69 +7303,41 @@ public final class Messaging {
       @java.lang.Override
       public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreateActorMessage buildPartial() {
         org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreateActorMessage result = new org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreateActorMessage(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreateActorMessage result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.actorId_ = actorId_;
           to_bitField0_ |= 0x00000001;
         }
-        result.actorId_ = actorId_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.initialState_ = initialState_;
           to_bitField0_ |= 0x00000002;
         }
-        result.initialState_ = initialState_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.actorClass_ = actorClass_;
           to_bitField0_ |= 0x00000004;
         }
-        result.actorClass_ = actorClass_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.actorSystem_ = actorSystem_;
           to_bitField0_ |= 0x00000008;
         }
-        result.actorSystem_ = actorSystem_;
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.type_ = type_;
           to_bitField0_ |= 0x00000010;
         }
-        result.type_ = type_;
-        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.affinityKey_ = affinityKey_;
           to_bitField0_ |= 0x00000020;
         }
-        result.affinityKey_ = affinityKey_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        result.bitField0_ |= to_bitField0_;
       }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreateActorMessage) {
@@ -7023,32 +7351,32 @@ public final class Messaging {
       public Builder mergeFrom(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreateActorMessage other) {
         if (other == org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreateActorMessage.getDefaultInstance()) return this;
         if (other.hasActorId()) {
-          bitField0_ |= 0x00000001;
           actorId_ = other.actorId_;
+          bitField0_ |= 0x00000001;
           onChanged();
         }
         if (other.hasInitialState()) {
           setInitialState(other.getInitialState());
         }
         if (other.hasActorClass()) {
-          bitField0_ |= 0x00000004;
           actorClass_ = other.actorClass_;
+          bitField0_ |= 0x00000004;
           onChanged();
         }
         if (other.hasActorSystem()) {
-          bitField0_ |= 0x00000008;
           actorSystem_ = other.actorSystem_;
+          bitField0_ |= 0x00000008;
           onChanged();
         }
         if (other.hasType()) {
           setType(other.getType());
         }
         if (other.hasAffinityKey()) {
-          bitField0_ |= 0x00000020;
           affinityKey_ = other.affinityKey_;
+          bitField0_ |= 0x00000020;
           onChanged();
         }
-        this.mergeUnknownFields(other.unknownFields);
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
@@ -7063,17 +7391,67 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreateActorMessage parsedMessage = null;
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
         try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                actorId_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                initialState_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                actorClass_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                actorSystem_ = input.readBytes();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 40: {
+                int tmpRaw = input.readEnum();
+                org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType tmpValue =
+                    org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType.forNumber(tmpRaw);
+                if (tmpValue == null) {
+                  mergeUnknownVarintField(5, tmpRaw);
+                } else {
+                  type_ = tmpRaw;
+                  bitField0_ |= 0x00000010;
+                }
+                break;
+              } // case 40
+              case 50: {
+                affinityKey_ = input.readBytes();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CreateActorMessage) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+          onChanged();
+        } // finally
         return this;
       }
       private int bitField0_;
@@ -7081,12 +7459,14 @@ public final class Messaging {
       private java.lang.Object actorId_ = "";
       /**
        * <code>optional string actorId = 1;</code>
+       * @return Whether the actorId field is set.
        */
       public boolean hasActorId() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <code>optional string actorId = 1;</code>
+       * @return The actorId.
        */
       public java.lang.String getActorId() {
         java.lang.Object ref = actorId_;
@@ -7104,6 +7484,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string actorId = 1;</code>
+       * @return The bytes for actorId.
        */
       public com.google.protobuf.ByteString
           getActorIdBytes() {
@@ -7120,36 +7501,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string actorId = 1;</code>
+       * @param value The actorId to set.
+       * @return This builder for chaining.
        */
       public Builder setActorId(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         actorId_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorId = 1;</code>
+       * @return This builder for chaining.
        */
       public Builder clearActorId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
         actorId_ = getDefaultInstance().getActorId();
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorId = 1;</code>
+       * @param value The bytes for actorId to set.
+       * @return This builder for chaining.
        */
       public Builder setActorIdBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         actorId_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
@@ -7157,30 +7539,35 @@ public final class Messaging {
       private com.google.protobuf.ByteString initialState_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes initialState = 2;</code>
+       * @return Whether the initialState field is set.
        */
+      @java.lang.Override
       public boolean hasInitialState() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
        * <code>optional bytes initialState = 2;</code>
+       * @return The initialState.
        */
+      @java.lang.Override
       public com.google.protobuf.ByteString getInitialState() {
         return initialState_;
       }
       /**
        * <code>optional bytes initialState = 2;</code>
+       * @param value The initialState to set.
+       * @return This builder for chaining.
        */
       public Builder setInitialState(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         initialState_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <code>optional bytes initialState = 2;</code>
+       * @return This builder for chaining.
        */
       public Builder clearInitialState() {
         bitField0_ = (bitField0_ & ~0x00000002);
@@ -7192,12 +7579,14 @@ public final class Messaging {
       private java.lang.Object actorClass_ = "";
       /**
        * <code>optional string actorClass = 3;</code>
+       * @return Whether the actorClass field is set.
        */
       public boolean hasActorClass() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+        return ((bitField0_ & 0x00000004) != 0);
       }
       /**
        * <code>optional string actorClass = 3;</code>
+       * @return The actorClass.
        */
       public java.lang.String getActorClass() {
         java.lang.Object ref = actorClass_;
@@ -7215,6 +7604,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string actorClass = 3;</code>
+       * @return The bytes for actorClass.
        */
       public com.google.protobuf.ByteString
           getActorClassBytes() {
@@ -7231,36 +7621,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string actorClass = 3;</code>
+       * @param value The actorClass to set.
+       * @return This builder for chaining.
        */
       public Builder setActorClass(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
+        if (value == null) { throw new NullPointerException(); }
         actorClass_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorClass = 3;</code>
+       * @return This builder for chaining.
        */
       public Builder clearActorClass() {
-        bitField0_ = (bitField0_ & ~0x00000004);
         actorClass_ = getDefaultInstance().getActorClass();
+        bitField0_ = (bitField0_ & ~0x00000004);
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorClass = 3;</code>
+       * @param value The bytes for actorClass to set.
+       * @return This builder for chaining.
        */
       public Builder setActorClassBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
+        if (value == null) { throw new NullPointerException(); }
         actorClass_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
@@ -7268,12 +7659,14 @@ public final class Messaging {
       private java.lang.Object actorSystem_ = "";
       /**
        * <code>optional string actorSystem = 4;</code>
+       * @return Whether the actorSystem field is set.
        */
       public boolean hasActorSystem() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+        return ((bitField0_ & 0x00000008) != 0);
       }
       /**
        * <code>optional string actorSystem = 4;</code>
+       * @return The actorSystem.
        */
       public java.lang.String getActorSystem() {
         java.lang.Object ref = actorSystem_;
@@ -7291,6 +7684,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string actorSystem = 4;</code>
+       * @return The bytes for actorSystem.
        */
       public com.google.protobuf.ByteString
           getActorSystemBytes() {
@@ -7307,36 +7701,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string actorSystem = 4;</code>
+       * @param value The actorSystem to set.
+       * @return This builder for chaining.
        */
       public Builder setActorSystem(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
+        if (value == null) { throw new NullPointerException(); }
         actorSystem_ = value;
+        bitField0_ |= 0x00000008;
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorSystem = 4;</code>
+       * @return This builder for chaining.
        */
       public Builder clearActorSystem() {
-        bitField0_ = (bitField0_ & ~0x00000008);
         actorSystem_ = getDefaultInstance().getActorSystem();
+        bitField0_ = (bitField0_ & ~0x00000008);
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorSystem = 4;</code>
+       * @param value The bytes for actorSystem to set.
+       * @return This builder for chaining.
        */
       public Builder setActorSystemBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
+        if (value == null) { throw new NullPointerException(); }
         actorSystem_ = value;
+        bitField0_ |= 0x00000008;
         onChanged();
         return this;
       }
@@ -7344,20 +7739,24 @@ public final class Messaging {
       private int type_ = 0;
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.ActorType type = 5;</code>
+       * @return Whether the type field is set.
        */
-      public boolean hasType() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
+      @java.lang.Override public boolean hasType() {
+        return ((bitField0_ & 0x00000010) != 0);
       }
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.ActorType type = 5;</code>
+       * @return The type.
        */
+      @java.lang.Override
       public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType getType() {
-        @SuppressWarnings("deprecation")
-        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType result = org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType.valueOf(type_);
+        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType result = org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType.forNumber(type_);
         return result == null ? org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType.PERSISTENT : result;
       }
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.ActorType type = 5;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
        */
       public Builder setType(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType value) {
         if (value == null) {
@@ -7370,6 +7769,7 @@ public final class Messaging {
       }
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.ActorType type = 5;</code>
+       * @return This builder for chaining.
        */
       public Builder clearType() {
         bitField0_ = (bitField0_ & ~0x00000010);
@@ -7381,12 +7781,14 @@ public final class Messaging {
       private java.lang.Object affinityKey_ = "";
       /**
        * <code>optional string affinityKey = 6;</code>
+       * @return Whether the affinityKey field is set.
        */
       public boolean hasAffinityKey() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
+        return ((bitField0_ & 0x00000020) != 0);
       }
       /**
        * <code>optional string affinityKey = 6;</code>
+       * @return The affinityKey.
        */
       public java.lang.String getAffinityKey() {
         java.lang.Object ref = affinityKey_;
@@ -7404,6 +7806,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string affinityKey = 6;</code>
+       * @return The bytes for affinityKey.
        */
       public com.google.protobuf.ByteString
           getAffinityKeyBytes() {
@@ -7420,36 +7823,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string affinityKey = 6;</code>
+       * @param value The affinityKey to set.
+       * @return This builder for chaining.
        */
       public Builder setAffinityKey(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000020;
+        if (value == null) { throw new NullPointerException(); }
         affinityKey_ = value;
+        bitField0_ |= 0x00000020;
         onChanged();
         return this;
       }
       /**
        * <code>optional string affinityKey = 6;</code>
+       * @return This builder for chaining.
        */
       public Builder clearAffinityKey() {
-        bitField0_ = (bitField0_ & ~0x00000020);
         affinityKey_ = getDefaultInstance().getAffinityKey();
+        bitField0_ = (bitField0_ & ~0x00000020);
         onChanged();
         return this;
       }
       /**
        * <code>optional string affinityKey = 6;</code>
+       * @param value The bytes for affinityKey to set.
+       * @return This builder for chaining.
        */
       public Builder setAffinityKeyBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000020;
+        if (value == null) { throw new NullPointerException(); }
         affinityKey_ = value;
+        bitField0_ |= 0x00000020;
         onChanged();
         return this;
       }
@@ -7486,7 +7890,18 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new CreateActorMessage(input, extensionRegistry);
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
     };
 
@@ -7512,14 +7927,17 @@ public final class Messaging {
 
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return Whether the actorRef field is set.
      */
     boolean hasActorRef();
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return The actorRef.
      */
     java.lang.String getActorRef();
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return The bytes for actorRef.
      */
     com.google.protobuf.ByteString
         getActorRefBytes();
@@ -7527,7 +7945,7 @@ public final class Messaging {
   /**
    * Protobuf type {@code org.elasticsoftware.elasticactors.serialization.protobuf.DestroyActorMessage}
    */
-  public  static final class DestroyActorMessage extends
+  public static final class DestroyActorMessage extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.serialization.protobuf.DestroyActorMessage)
       DestroyActorMessageOrBuilder {
@@ -7541,54 +7959,12 @@ public final class Messaging {
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private DestroyActorMessage(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              actorRef_ = bs;
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DestroyActorMessage();
     }
+
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
       return org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_DestroyActorMessage_descriptor;
@@ -7604,16 +7980,21 @@ public final class Messaging {
 
     private int bitField0_;
     public static final int ACTORREF_FIELD_NUMBER = 1;
-    private volatile java.lang.Object actorRef_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object actorRef_ = "";
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return Whether the actorRef field is set.
      */
+    @java.lang.Override
     public boolean hasActorRef() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return The actorRef.
      */
+    @java.lang.Override
     public java.lang.String getActorRef() {
       java.lang.Object ref = actorRef_;
       if (ref instanceof java.lang.String) {
@@ -7630,7 +8011,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return The bytes for actorRef.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getActorRefBytes() {
       java.lang.Object ref = actorRef_;
@@ -7659,10 +8042,10 @@ public final class Messaging {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, actorRef_);
       }
-      unknownFields.writeTo(output);
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -7671,10 +8054,10 @@ public final class Messaging {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, actorRef_);
       }
-      size += unknownFields.getSerializedSize();
+      size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
@@ -7689,14 +8072,13 @@ public final class Messaging {
       }
       org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.DestroyActorMessage other = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.DestroyActorMessage) obj;
 
-      boolean result = true;
-      result = result && (hasActorRef() == other.hasActorRef());
+      if (hasActorRef() != other.hasActorRef()) return false;
       if (hasActorRef()) {
-        result = result && getActorRef()
-            .equals(other.getActorRef());
+        if (!getActorRef()
+            .equals(other.getActorRef())) return false;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -7710,7 +8092,7 @@ public final class Messaging {
         hash = (37 * hash) + ACTORREF_FIELD_NUMBER;
         hash = (53 * hash) + getActorRef().hashCode();
       }
-      hash = (29 * hash) + unknownFields.hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -7827,24 +8209,19 @@ public final class Messaging {
 
       // Construct using org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.DestroyActorMessage.newBuilder()
       private Builder() {
-        maybeForceBuilderInitialization();
+
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
         super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
+
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
         actorRef_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
@@ -7871,49 +8248,21 @@ public final class Messaging {
       @java.lang.Override
       public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.DestroyActorMessage buildPartial() {
         org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.DestroyActorMessage result = new org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.DestroyActorMessage(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.DestroyActorMessage result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.actorRef_ = actorRef_;
           to_bitField0_ |= 0x00000001;
         }
-        result.actorRef_ = actorRef_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        result.bitField0_ |= to_bitField0_;
       }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.DestroyActorMessage) {
@@ -7927,11 +8276,11 @@ public final class Messaging {
       public Builder mergeFrom(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.DestroyActorMessage other) {
         if (other == org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.DestroyActorMessage.getDefaultInstance()) return this;
         if (other.hasActorRef()) {
-          bitField0_ |= 0x00000001;
           actorRef_ = other.actorRef_;
+          bitField0_ |= 0x00000001;
           onChanged();
         }
-        this.mergeUnknownFields(other.unknownFields);
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
@@ -7946,17 +8295,35 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.DestroyActorMessage parsedMessage = null;
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
         try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                actorRef_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.DestroyActorMessage) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+          onChanged();
+        } // finally
         return this;
       }
       private int bitField0_;
@@ -7964,12 +8331,14 @@ public final class Messaging {
       private java.lang.Object actorRef_ = "";
       /**
        * <code>optional string actorRef = 1;</code>
+       * @return Whether the actorRef field is set.
        */
       public boolean hasActorRef() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <code>optional string actorRef = 1;</code>
+       * @return The actorRef.
        */
       public java.lang.String getActorRef() {
         java.lang.Object ref = actorRef_;
@@ -7987,6 +8356,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string actorRef = 1;</code>
+       * @return The bytes for actorRef.
        */
       public com.google.protobuf.ByteString
           getActorRefBytes() {
@@ -8003,36 +8373,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string actorRef = 1;</code>
+       * @param value The actorRef to set.
+       * @return This builder for chaining.
        */
       public Builder setActorRef(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         actorRef_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorRef = 1;</code>
+       * @return This builder for chaining.
        */
       public Builder clearActorRef() {
-        bitField0_ = (bitField0_ & ~0x00000001);
         actorRef_ = getDefaultInstance().getActorRef();
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorRef = 1;</code>
+       * @param value The bytes for actorRef to set.
+       * @return This builder for chaining.
        */
       public Builder setActorRefBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         actorRef_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
@@ -8069,7 +8440,18 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new DestroyActorMessage(input, extensionRegistry);
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
     };
 
@@ -8095,45 +8477,53 @@ public final class Messaging {
 
     /**
      * <code>optional string actorSystem = 1;</code>
+     * @return Whether the actorSystem field is set.
      */
     boolean hasActorSystem();
     /**
      * <code>optional string actorSystem = 1;</code>
+     * @return The actorSystem.
      */
     java.lang.String getActorSystem();
     /**
      * <code>optional string actorSystem = 1;</code>
+     * @return The bytes for actorSystem.
      */
     com.google.protobuf.ByteString
         getActorSystemBytes();
 
     /**
      * <code>optional string actorId = 2;</code>
+     * @return Whether the actorId field is set.
      */
     boolean hasActorId();
     /**
      * <code>optional string actorId = 2;</code>
+     * @return The actorId.
      */
     java.lang.String getActorId();
     /**
      * <code>optional string actorId = 2;</code>
+     * @return The bytes for actorId.
      */
     com.google.protobuf.ByteString
         getActorIdBytes();
 
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.ActorType type = 3;</code>
+     * @return Whether the type field is set.
      */
     boolean hasType();
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.ActorType type = 3;</code>
+     * @return The type.
      */
     org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType getType();
   }
   /**
    * Protobuf type {@code org.elasticsoftware.elasticactors.serialization.protobuf.ActivateActorMessage}
    */
-  public  static final class ActivateActorMessage extends
+  public static final class ActivateActorMessage extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.serialization.protobuf.ActivateActorMessage)
       ActivateActorMessageOrBuilder {
@@ -8149,72 +8539,12 @@ public final class Messaging {
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private ActivateActorMessage(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              actorSystem_ = bs;
-              break;
-            }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000002;
-              actorId_ = bs;
-              break;
-            }
-            case 24: {
-              int rawValue = input.readEnum();
-                @SuppressWarnings("deprecation")
-              org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType value = org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType.valueOf(rawValue);
-              if (value == null) {
-                unknownFields.mergeVarintField(3, rawValue);
-              } else {
-                bitField0_ |= 0x00000004;
-                type_ = rawValue;
-              }
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ActivateActorMessage();
     }
+
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
       return org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_ActivateActorMessage_descriptor;
@@ -8230,16 +8560,21 @@ public final class Messaging {
 
     private int bitField0_;
     public static final int ACTORSYSTEM_FIELD_NUMBER = 1;
-    private volatile java.lang.Object actorSystem_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object actorSystem_ = "";
     /**
      * <code>optional string actorSystem = 1;</code>
+     * @return Whether the actorSystem field is set.
      */
+    @java.lang.Override
     public boolean hasActorSystem() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
      * <code>optional string actorSystem = 1;</code>
+     * @return The actorSystem.
      */
+    @java.lang.Override
     public java.lang.String getActorSystem() {
       java.lang.Object ref = actorSystem_;
       if (ref instanceof java.lang.String) {
@@ -8256,7 +8591,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string actorSystem = 1;</code>
+     * @return The bytes for actorSystem.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getActorSystemBytes() {
       java.lang.Object ref = actorSystem_;
@@ -8272,16 +8609,21 @@ public final class Messaging {
     }
 
     public static final int ACTORID_FIELD_NUMBER = 2;
-    private volatile java.lang.Object actorId_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object actorId_ = "";
     /**
      * <code>optional string actorId = 2;</code>
+     * @return Whether the actorId field is set.
      */
+    @java.lang.Override
     public boolean hasActorId() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
      * <code>optional string actorId = 2;</code>
+     * @return The actorId.
      */
+    @java.lang.Override
     public java.lang.String getActorId() {
       java.lang.Object ref = actorId_;
       if (ref instanceof java.lang.String) {
@@ -8298,7 +8640,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string actorId = 2;</code>
+     * @return The bytes for actorId.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getActorIdBytes() {
       java.lang.Object ref = actorId_;
@@ -8314,19 +8658,20 @@ public final class Messaging {
     }
 
     public static final int TYPE_FIELD_NUMBER = 3;
-    private int type_;
+    private int type_ = 0;
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.ActorType type = 3;</code>
+     * @return Whether the type field is set.
      */
-    public boolean hasType() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+    @java.lang.Override public boolean hasType() {
+      return ((bitField0_ & 0x00000004) != 0);
     }
     /**
      * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.ActorType type = 3;</code>
+     * @return The type.
      */
-    public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType getType() {
-      @SuppressWarnings("deprecation")
-      org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType result = org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType.valueOf(type_);
+    @java.lang.Override public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType getType() {
+      org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType result = org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType.forNumber(type_);
       return result == null ? org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType.PERSISTENT : result;
     }
 
@@ -8344,16 +8689,16 @@ public final class Messaging {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, actorSystem_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, actorId_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         output.writeEnum(3, type_);
       }
-      unknownFields.writeTo(output);
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -8362,17 +8707,17 @@ public final class Messaging {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, actorSystem_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, actorId_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeEnumSize(3, type_);
       }
-      size += unknownFields.getSerializedSize();
+      size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
@@ -8387,23 +8732,22 @@ public final class Messaging {
       }
       org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActivateActorMessage other = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActivateActorMessage) obj;
 
-      boolean result = true;
-      result = result && (hasActorSystem() == other.hasActorSystem());
+      if (hasActorSystem() != other.hasActorSystem()) return false;
       if (hasActorSystem()) {
-        result = result && getActorSystem()
-            .equals(other.getActorSystem());
+        if (!getActorSystem()
+            .equals(other.getActorSystem())) return false;
       }
-      result = result && (hasActorId() == other.hasActorId());
+      if (hasActorId() != other.hasActorId()) return false;
       if (hasActorId()) {
-        result = result && getActorId()
-            .equals(other.getActorId());
+        if (!getActorId()
+            .equals(other.getActorId())) return false;
       }
-      result = result && (hasType() == other.hasType());
+      if (hasType() != other.hasType()) return false;
       if (hasType()) {
-        result = result && type_ == other.type_;
+        if (type_ != other.type_) return false;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -8425,7 +8769,7 @@ public final class Messaging {
         hash = (37 * hash) + TYPE_FIELD_NUMBER;
         hash = (53 * hash) + type_;
       }
-      hash = (29 * hash) + unknownFields.hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -8542,28 +8886,21 @@ public final class Messaging {
 
       // Construct using org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActivateActorMessage.newBuilder()
       private Builder() {
-        maybeForceBuilderInitialization();
+
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
         super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
+
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
         actorSystem_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
         actorId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
         type_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -8590,57 +8927,29 @@ public final class Messaging {
       @java.lang.Override
       public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActivateActorMessage buildPartial() {
         org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActivateActorMessage result = new org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActivateActorMessage(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActivateActorMessage result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.actorSystem_ = actorSystem_;
           to_bitField0_ |= 0x00000001;
         }
-        result.actorSystem_ = actorSystem_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.actorId_ = actorId_;
           to_bitField0_ |= 0x00000002;
         }
-        result.actorId_ = actorId_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.type_ = type_;
           to_bitField0_ |= 0x00000004;
         }
-        result.type_ = type_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        result.bitField0_ |= to_bitField0_;
       }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActivateActorMessage) {
@@ -8654,19 +8963,19 @@ public final class Messaging {
       public Builder mergeFrom(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActivateActorMessage other) {
         if (other == org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActivateActorMessage.getDefaultInstance()) return this;
         if (other.hasActorSystem()) {
-          bitField0_ |= 0x00000001;
           actorSystem_ = other.actorSystem_;
+          bitField0_ |= 0x00000001;
           onChanged();
         }
         if (other.hasActorId()) {
-          bitField0_ |= 0x00000002;
           actorId_ = other.actorId_;
+          bitField0_ |= 0x00000002;
           onChanged();
         }
         if (other.hasType()) {
           setType(other.getType());
         }
-        this.mergeUnknownFields(other.unknownFields);
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
@@ -8681,17 +8990,52 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActivateActorMessage parsedMessage = null;
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
         try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                actorSystem_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                actorId_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 24: {
+                int tmpRaw = input.readEnum();
+                org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType tmpValue =
+                    org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType.forNumber(tmpRaw);
+                if (tmpValue == null) {
+                  mergeUnknownVarintField(3, tmpRaw);
+                } else {
+                  type_ = tmpRaw;
+                  bitField0_ |= 0x00000004;
+                }
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActivateActorMessage) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+          onChanged();
+        } // finally
         return this;
       }
       private int bitField0_;
@@ -8699,12 +9043,14 @@ public final class Messaging {
       private java.lang.Object actorSystem_ = "";
       /**
        * <code>optional string actorSystem = 1;</code>
+       * @return Whether the actorSystem field is set.
        */
       public boolean hasActorSystem() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <code>optional string actorSystem = 1;</code>
+       * @return The actorSystem.
        */
       public java.lang.String getActorSystem() {
         java.lang.Object ref = actorSystem_;
@@ -8722,6 +9068,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string actorSystem = 1;</code>
+       * @return The bytes for actorSystem.
        */
       public com.google.protobuf.ByteString
           getActorSystemBytes() {
@@ -8738,36 +9085,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string actorSystem = 1;</code>
+       * @param value The actorSystem to set.
+       * @return This builder for chaining.
        */
       public Builder setActorSystem(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         actorSystem_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorSystem = 1;</code>
+       * @return This builder for chaining.
        */
       public Builder clearActorSystem() {
-        bitField0_ = (bitField0_ & ~0x00000001);
         actorSystem_ = getDefaultInstance().getActorSystem();
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorSystem = 1;</code>
+       * @param value The bytes for actorSystem to set.
+       * @return This builder for chaining.
        */
       public Builder setActorSystemBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         actorSystem_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
@@ -8775,12 +9123,14 @@ public final class Messaging {
       private java.lang.Object actorId_ = "";
       /**
        * <code>optional string actorId = 2;</code>
+       * @return Whether the actorId field is set.
        */
       public boolean hasActorId() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
        * <code>optional string actorId = 2;</code>
+       * @return The actorId.
        */
       public java.lang.String getActorId() {
         java.lang.Object ref = actorId_;
@@ -8798,6 +9148,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string actorId = 2;</code>
+       * @return The bytes for actorId.
        */
       public com.google.protobuf.ByteString
           getActorIdBytes() {
@@ -8814,36 +9165,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string actorId = 2;</code>
+       * @param value The actorId to set.
+       * @return This builder for chaining.
        */
       public Builder setActorId(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         actorId_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorId = 2;</code>
+       * @return This builder for chaining.
        */
       public Builder clearActorId() {
-        bitField0_ = (bitField0_ & ~0x00000002);
         actorId_ = getDefaultInstance().getActorId();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorId = 2;</code>
+       * @param value The bytes for actorId to set.
+       * @return This builder for chaining.
        */
       public Builder setActorIdBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         actorId_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
@@ -8851,20 +9203,24 @@ public final class Messaging {
       private int type_ = 0;
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.ActorType type = 3;</code>
+       * @return Whether the type field is set.
        */
-      public boolean hasType() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      @java.lang.Override public boolean hasType() {
+        return ((bitField0_ & 0x00000004) != 0);
       }
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.ActorType type = 3;</code>
+       * @return The type.
        */
+      @java.lang.Override
       public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType getType() {
-        @SuppressWarnings("deprecation")
-        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType result = org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType.valueOf(type_);
+        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType result = org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType.forNumber(type_);
         return result == null ? org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType.PERSISTENT : result;
       }
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.ActorType type = 3;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
        */
       public Builder setType(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorType value) {
         if (value == null) {
@@ -8877,6 +9233,7 @@ public final class Messaging {
       }
       /**
        * <code>optional .org.elasticsoftware.elasticactors.serialization.protobuf.ActorType type = 3;</code>
+       * @return This builder for chaining.
        */
       public Builder clearType() {
         bitField0_ = (bitField0_ & ~0x00000004);
@@ -8917,7 +9274,18 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ActivateActorMessage(input, extensionRegistry);
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
     };
 
@@ -8943,31 +9311,36 @@ public final class Messaging {
 
     /**
      * <code>optional string queueName = 1;</code>
+     * @return Whether the queueName field is set.
      */
     boolean hasQueueName();
     /**
      * <code>optional string queueName = 1;</code>
+     * @return The queueName.
      */
     java.lang.String getQueueName();
     /**
      * <code>optional string queueName = 1;</code>
+     * @return The bytes for queueName.
      */
     com.google.protobuf.ByteString
         getQueueNameBytes();
 
     /**
      * <code>optional bytes internalMessage = 2;</code>
+     * @return Whether the internalMessage field is set.
      */
     boolean hasInternalMessage();
     /**
      * <code>optional bytes internalMessage = 2;</code>
+     * @return The internalMessage.
      */
     com.google.protobuf.ByteString getInternalMessage();
   }
   /**
    * Protobuf type {@code org.elasticsoftware.elasticactors.serialization.protobuf.WireMessage}
    */
-  public  static final class WireMessage extends
+  public static final class WireMessage extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.serialization.protobuf.WireMessage)
       WireMessageOrBuilder {
@@ -8982,59 +9355,12 @@ public final class Messaging {
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private WireMessage(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              queueName_ = bs;
-              break;
-            }
-            case 18: {
-              bitField0_ |= 0x00000002;
-              internalMessage_ = input.readBytes();
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new WireMessage();
     }
+
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
       return org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_WireMessage_descriptor;
@@ -9050,16 +9376,21 @@ public final class Messaging {
 
     private int bitField0_;
     public static final int QUEUENAME_FIELD_NUMBER = 1;
-    private volatile java.lang.Object queueName_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object queueName_ = "";
     /**
      * <code>optional string queueName = 1;</code>
+     * @return Whether the queueName field is set.
      */
+    @java.lang.Override
     public boolean hasQueueName() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
      * <code>optional string queueName = 1;</code>
+     * @return The queueName.
      */
+    @java.lang.Override
     public java.lang.String getQueueName() {
       java.lang.Object ref = queueName_;
       if (ref instanceof java.lang.String) {
@@ -9076,7 +9407,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string queueName = 1;</code>
+     * @return The bytes for queueName.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getQueueNameBytes() {
       java.lang.Object ref = queueName_;
@@ -9092,16 +9425,20 @@ public final class Messaging {
     }
 
     public static final int INTERNALMESSAGE_FIELD_NUMBER = 2;
-    private com.google.protobuf.ByteString internalMessage_;
+    private com.google.protobuf.ByteString internalMessage_ = com.google.protobuf.ByteString.EMPTY;
     /**
      * <code>optional bytes internalMessage = 2;</code>
+     * @return Whether the internalMessage field is set.
      */
+    @java.lang.Override
     public boolean hasInternalMessage() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
      * <code>optional bytes internalMessage = 2;</code>
+     * @return The internalMessage.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString getInternalMessage() {
       return internalMessage_;
     }
@@ -9120,13 +9457,13 @@ public final class Messaging {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, queueName_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         output.writeBytes(2, internalMessage_);
       }
-      unknownFields.writeTo(output);
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -9135,14 +9472,14 @@ public final class Messaging {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, queueName_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(2, internalMessage_);
       }
-      size += unknownFields.getSerializedSize();
+      size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
@@ -9157,19 +9494,18 @@ public final class Messaging {
       }
       org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.WireMessage other = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.WireMessage) obj;
 
-      boolean result = true;
-      result = result && (hasQueueName() == other.hasQueueName());
+      if (hasQueueName() != other.hasQueueName()) return false;
       if (hasQueueName()) {
-        result = result && getQueueName()
-            .equals(other.getQueueName());
+        if (!getQueueName()
+            .equals(other.getQueueName())) return false;
       }
-      result = result && (hasInternalMessage() == other.hasInternalMessage());
+      if (hasInternalMessage() != other.hasInternalMessage()) return false;
       if (hasInternalMessage()) {
-        result = result && getInternalMessage()
-            .equals(other.getInternalMessage());
+        if (!getInternalMessage()
+            .equals(other.getInternalMessage())) return false;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -9187,7 +9523,7 @@ public final class Messaging {
         hash = (37 * hash) + INTERNALMESSAGE_FIELD_NUMBER;
         hash = (53 * hash) + getInternalMessage().hashCode();
       }
-      hash = (29 * hash) + unknownFields.hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -9304,26 +9640,20 @@ public final class Messaging {
 
       // Construct using org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.WireMessage.newBuilder()
       private Builder() {
-        maybeForceBuilderInitialization();
+
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
         super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
+
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
         queueName_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
         internalMessage_ = com.google.protobuf.ByteString.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -9350,53 +9680,25 @@ public final class Messaging {
       @java.lang.Override
       public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.WireMessage buildPartial() {
         org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.WireMessage result = new org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.WireMessage(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.WireMessage result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.queueName_ = queueName_;
           to_bitField0_ |= 0x00000001;
         }
-        result.queueName_ = queueName_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.internalMessage_ = internalMessage_;
           to_bitField0_ |= 0x00000002;
         }
-        result.internalMessage_ = internalMessage_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        result.bitField0_ |= to_bitField0_;
       }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.WireMessage) {
@@ -9410,14 +9712,14 @@ public final class Messaging {
       public Builder mergeFrom(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.WireMessage other) {
         if (other == org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.WireMessage.getDefaultInstance()) return this;
         if (other.hasQueueName()) {
-          bitField0_ |= 0x00000001;
           queueName_ = other.queueName_;
+          bitField0_ |= 0x00000001;
           onChanged();
         }
         if (other.hasInternalMessage()) {
           setInternalMessage(other.getInternalMessage());
         }
-        this.mergeUnknownFields(other.unknownFields);
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
@@ -9432,17 +9734,40 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.WireMessage parsedMessage = null;
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
         try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                queueName_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                internalMessage_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.WireMessage) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+          onChanged();
+        } // finally
         return this;
       }
       private int bitField0_;
@@ -9450,12 +9775,14 @@ public final class Messaging {
       private java.lang.Object queueName_ = "";
       /**
        * <code>optional string queueName = 1;</code>
+       * @return Whether the queueName field is set.
        */
       public boolean hasQueueName() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <code>optional string queueName = 1;</code>
+       * @return The queueName.
        */
       public java.lang.String getQueueName() {
         java.lang.Object ref = queueName_;
@@ -9473,6 +9800,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string queueName = 1;</code>
+       * @return The bytes for queueName.
        */
       public com.google.protobuf.ByteString
           getQueueNameBytes() {
@@ -9489,36 +9817,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string queueName = 1;</code>
+       * @param value The queueName to set.
+       * @return This builder for chaining.
        */
       public Builder setQueueName(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         queueName_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <code>optional string queueName = 1;</code>
+       * @return This builder for chaining.
        */
       public Builder clearQueueName() {
-        bitField0_ = (bitField0_ & ~0x00000001);
         queueName_ = getDefaultInstance().getQueueName();
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
        * <code>optional string queueName = 1;</code>
+       * @param value The bytes for queueName to set.
+       * @return This builder for chaining.
        */
       public Builder setQueueNameBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         queueName_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
@@ -9526,30 +9855,35 @@ public final class Messaging {
       private com.google.protobuf.ByteString internalMessage_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes internalMessage = 2;</code>
+       * @return Whether the internalMessage field is set.
        */
+      @java.lang.Override
       public boolean hasInternalMessage() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
        * <code>optional bytes internalMessage = 2;</code>
+       * @return The internalMessage.
        */
+      @java.lang.Override
       public com.google.protobuf.ByteString getInternalMessage() {
         return internalMessage_;
       }
       /**
        * <code>optional bytes internalMessage = 2;</code>
+       * @param value The internalMessage to set.
+       * @return This builder for chaining.
        */
       public Builder setInternalMessage(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         internalMessage_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <code>optional bytes internalMessage = 2;</code>
+       * @return This builder for chaining.
        */
       public Builder clearInternalMessage() {
         bitField0_ = (bitField0_ & ~0x00000002);
@@ -9590,7 +9924,18 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new WireMessage(input, extensionRegistry);
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
     };
 
@@ -9616,26 +9961,30 @@ public final class Messaging {
 
     /**
      * <code>optional bytes messageId = 1;</code>
+     * @return Whether the messageId field is set.
      */
     boolean hasMessageId();
     /**
      * <code>optional bytes messageId = 1;</code>
+     * @return The messageId.
      */
     com.google.protobuf.ByteString getMessageId();
 
     /**
      * <code>optional uint64 fireTime = 2;</code>
+     * @return Whether the fireTime field is set.
      */
     boolean hasFireTime();
     /**
      * <code>optional uint64 fireTime = 2;</code>
+     * @return The fireTime.
      */
     long getFireTime();
   }
   /**
    * Protobuf type {@code org.elasticsoftware.elasticactors.serialization.protobuf.CancelScheduledMessageMessage}
    */
-  public  static final class CancelScheduledMessageMessage extends
+  public static final class CancelScheduledMessageMessage extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.serialization.protobuf.CancelScheduledMessageMessage)
       CancelScheduledMessageMessageOrBuilder {
@@ -9646,62 +9995,15 @@ public final class Messaging {
     }
     private CancelScheduledMessageMessage() {
       messageId_ = com.google.protobuf.ByteString.EMPTY;
-      fireTime_ = 0L;
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private CancelScheduledMessageMessage(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              bitField0_ |= 0x00000001;
-              messageId_ = input.readBytes();
-              break;
-            }
-            case 16: {
-              bitField0_ |= 0x00000002;
-              fireTime_ = input.readUInt64();
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CancelScheduledMessageMessage();
     }
+
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
       return org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_CancelScheduledMessageMessage_descriptor;
@@ -9717,31 +10019,39 @@ public final class Messaging {
 
     private int bitField0_;
     public static final int MESSAGEID_FIELD_NUMBER = 1;
-    private com.google.protobuf.ByteString messageId_;
+    private com.google.protobuf.ByteString messageId_ = com.google.protobuf.ByteString.EMPTY;
     /**
      * <code>optional bytes messageId = 1;</code>
+     * @return Whether the messageId field is set.
      */
+    @java.lang.Override
     public boolean hasMessageId() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
      * <code>optional bytes messageId = 1;</code>
+     * @return The messageId.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString getMessageId() {
       return messageId_;
     }
 
     public static final int FIRETIME_FIELD_NUMBER = 2;
-    private long fireTime_;
+    private long fireTime_ = 0L;
     /**
      * <code>optional uint64 fireTime = 2;</code>
+     * @return Whether the fireTime field is set.
      */
+    @java.lang.Override
     public boolean hasFireTime() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
      * <code>optional uint64 fireTime = 2;</code>
+     * @return The fireTime.
      */
+    @java.lang.Override
     public long getFireTime() {
       return fireTime_;
     }
@@ -9760,13 +10070,13 @@ public final class Messaging {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         output.writeBytes(1, messageId_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         output.writeUInt64(2, fireTime_);
       }
-      unknownFields.writeTo(output);
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -9775,15 +10085,15 @@ public final class Messaging {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(1, messageId_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeUInt64Size(2, fireTime_);
       }
-      size += unknownFields.getSerializedSize();
+      size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
@@ -9798,19 +10108,18 @@ public final class Messaging {
       }
       org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CancelScheduledMessageMessage other = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CancelScheduledMessageMessage) obj;
 
-      boolean result = true;
-      result = result && (hasMessageId() == other.hasMessageId());
+      if (hasMessageId() != other.hasMessageId()) return false;
       if (hasMessageId()) {
-        result = result && getMessageId()
-            .equals(other.getMessageId());
+        if (!getMessageId()
+            .equals(other.getMessageId())) return false;
       }
-      result = result && (hasFireTime() == other.hasFireTime());
+      if (hasFireTime() != other.hasFireTime()) return false;
       if (hasFireTime()) {
-        result = result && (getFireTime()
-            == other.getFireTime());
+        if (getFireTime()
+            != other.getFireTime()) return false;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -9829,7 +10138,7 @@ public final class Messaging {
         hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
             getFireTime());
       }
-      hash = (29 * hash) + unknownFields.hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -9946,26 +10255,20 @@ public final class Messaging {
 
       // Construct using org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CancelScheduledMessageMessage.newBuilder()
       private Builder() {
-        maybeForceBuilderInitialization();
+
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
         super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
+
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
         messageId_ = com.google.protobuf.ByteString.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000001);
         fireTime_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -9992,53 +10295,25 @@ public final class Messaging {
       @java.lang.Override
       public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CancelScheduledMessageMessage buildPartial() {
         org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CancelScheduledMessageMessage result = new org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CancelScheduledMessageMessage(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CancelScheduledMessageMessage result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.messageId_ = messageId_;
           to_bitField0_ |= 0x00000001;
         }
-        result.messageId_ = messageId_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.fireTime_ = fireTime_;
           to_bitField0_ |= 0x00000002;
         }
-        result.fireTime_ = fireTime_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        result.bitField0_ |= to_bitField0_;
       }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CancelScheduledMessageMessage) {
@@ -10057,7 +10332,7 @@ public final class Messaging {
         if (other.hasFireTime()) {
           setFireTime(other.getFireTime());
         }
-        this.mergeUnknownFields(other.unknownFields);
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
@@ -10072,17 +10347,40 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CancelScheduledMessageMessage parsedMessage = null;
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
         try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                messageId_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                fireTime_ = input.readUInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.CancelScheduledMessageMessage) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+          onChanged();
+        } // finally
         return this;
       }
       private int bitField0_;
@@ -10090,30 +10388,35 @@ public final class Messaging {
       private com.google.protobuf.ByteString messageId_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes messageId = 1;</code>
+       * @return Whether the messageId field is set.
        */
+      @java.lang.Override
       public boolean hasMessageId() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <code>optional bytes messageId = 1;</code>
+       * @return The messageId.
        */
+      @java.lang.Override
       public com.google.protobuf.ByteString getMessageId() {
         return messageId_;
       }
       /**
        * <code>optional bytes messageId = 1;</code>
+       * @param value The messageId to set.
+       * @return This builder for chaining.
        */
       public Builder setMessageId(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         messageId_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <code>optional bytes messageId = 1;</code>
+       * @return This builder for chaining.
        */
       public Builder clearMessageId() {
         bitField0_ = (bitField0_ & ~0x00000001);
@@ -10125,27 +10428,35 @@ public final class Messaging {
       private long fireTime_ ;
       /**
        * <code>optional uint64 fireTime = 2;</code>
+       * @return Whether the fireTime field is set.
        */
+      @java.lang.Override
       public boolean hasFireTime() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
        * <code>optional uint64 fireTime = 2;</code>
+       * @return The fireTime.
        */
+      @java.lang.Override
       public long getFireTime() {
         return fireTime_;
       }
       /**
        * <code>optional uint64 fireTime = 2;</code>
+       * @param value The fireTime to set.
+       * @return This builder for chaining.
        */
       public Builder setFireTime(long value) {
-        bitField0_ |= 0x00000002;
+
         fireTime_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <code>optional uint64 fireTime = 2;</code>
+       * @return This builder for chaining.
        */
       public Builder clearFireTime() {
         bitField0_ = (bitField0_ & ~0x00000002);
@@ -10186,7 +10497,18 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new CancelScheduledMessageMessage(input, extensionRegistry);
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
     };
 
@@ -10212,68 +10534,81 @@ public final class Messaging {
 
     /**
      * <code>optional string receiver = 1;</code>
+     * @return Whether the receiver field is set.
      */
     boolean hasReceiver();
     /**
      * <code>optional string receiver = 1;</code>
+     * @return The receiver.
      */
     java.lang.String getReceiver();
     /**
      * <code>optional string receiver = 1;</code>
+     * @return The bytes for receiver.
      */
     com.google.protobuf.ByteString
         getReceiverBytes();
 
     /**
      * <code>optional string nodeId = 2;</code>
+     * @return Whether the nodeId field is set.
      */
     boolean hasNodeId();
     /**
      * <code>optional string nodeId = 2;</code>
+     * @return The nodeId.
      */
     java.lang.String getNodeId();
     /**
      * <code>optional string nodeId = 2;</code>
+     * @return The bytes for nodeId.
      */
     com.google.protobuf.ByteString
         getNodeIdBytes();
 
     /**
      * <code>optional string payloadClass = 3;</code>
+     * @return Whether the payloadClass field is set.
      */
     boolean hasPayloadClass();
     /**
      * <code>optional string payloadClass = 3;</code>
+     * @return The payloadClass.
      */
     java.lang.String getPayloadClass();
     /**
      * <code>optional string payloadClass = 3;</code>
+     * @return The bytes for payloadClass.
      */
     com.google.protobuf.ByteString
         getPayloadClassBytes();
 
     /**
      * <code>optional bytes payload = 4;</code>
+     * @return Whether the payload field is set.
      */
     boolean hasPayload();
     /**
      * <code>optional bytes payload = 4;</code>
+     * @return The payload.
      */
     com.google.protobuf.ByteString getPayload();
 
     /**
      * <code>optional bool undeliverable = 5;</code>
+     * @return Whether the undeliverable field is set.
      */
     boolean hasUndeliverable();
     /**
      * <code>optional bool undeliverable = 5;</code>
+     * @return The undeliverable.
      */
     boolean getUndeliverable();
   }
   /**
    * Protobuf type {@code org.elasticsoftware.elasticactors.serialization.protobuf.ActorNodeMessage}
    */
-  public  static final class ActorNodeMessage extends
+  public static final class ActorNodeMessage extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.serialization.protobuf.ActorNodeMessage)
       ActorNodeMessageOrBuilder {
@@ -10287,80 +10622,15 @@ public final class Messaging {
       nodeId_ = "";
       payloadClass_ = "";
       payload_ = com.google.protobuf.ByteString.EMPTY;
-      undeliverable_ = false;
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private ActorNodeMessage(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              receiver_ = bs;
-              break;
-            }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000002;
-              nodeId_ = bs;
-              break;
-            }
-            case 26: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000004;
-              payloadClass_ = bs;
-              break;
-            }
-            case 34: {
-              bitField0_ |= 0x00000008;
-              payload_ = input.readBytes();
-              break;
-            }
-            case 40: {
-              bitField0_ |= 0x00000010;
-              undeliverable_ = input.readBool();
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ActorNodeMessage();
     }
+
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
       return org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_ActorNodeMessage_descriptor;
@@ -10376,16 +10646,21 @@ public final class Messaging {
 
     private int bitField0_;
     public static final int RECEIVER_FIELD_NUMBER = 1;
-    private volatile java.lang.Object receiver_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object receiver_ = "";
     /**
      * <code>optional string receiver = 1;</code>
+     * @return Whether the receiver field is set.
      */
+    @java.lang.Override
     public boolean hasReceiver() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
      * <code>optional string receiver = 1;</code>
+     * @return The receiver.
      */
+    @java.lang.Override
     public java.lang.String getReceiver() {
       java.lang.Object ref = receiver_;
       if (ref instanceof java.lang.String) {
@@ -10402,7 +10677,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string receiver = 1;</code>
+     * @return The bytes for receiver.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getReceiverBytes() {
       java.lang.Object ref = receiver_;
@@ -10418,16 +10695,21 @@ public final class Messaging {
     }
 
     public static final int NODEID_FIELD_NUMBER = 2;
-    private volatile java.lang.Object nodeId_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object nodeId_ = "";
     /**
      * <code>optional string nodeId = 2;</code>
+     * @return Whether the nodeId field is set.
      */
+    @java.lang.Override
     public boolean hasNodeId() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
      * <code>optional string nodeId = 2;</code>
+     * @return The nodeId.
      */
+    @java.lang.Override
     public java.lang.String getNodeId() {
       java.lang.Object ref = nodeId_;
       if (ref instanceof java.lang.String) {
@@ -10444,7 +10726,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string nodeId = 2;</code>
+     * @return The bytes for nodeId.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getNodeIdBytes() {
       java.lang.Object ref = nodeId_;
@@ -10460,16 +10744,21 @@ public final class Messaging {
     }
 
     public static final int PAYLOADCLASS_FIELD_NUMBER = 3;
-    private volatile java.lang.Object payloadClass_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object payloadClass_ = "";
     /**
      * <code>optional string payloadClass = 3;</code>
+     * @return Whether the payloadClass field is set.
      */
+    @java.lang.Override
     public boolean hasPayloadClass() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+      return ((bitField0_ & 0x00000004) != 0);
     }
     /**
      * <code>optional string payloadClass = 3;</code>
+     * @return The payloadClass.
      */
+    @java.lang.Override
     public java.lang.String getPayloadClass() {
       java.lang.Object ref = payloadClass_;
       if (ref instanceof java.lang.String) {
@@ -10486,7 +10775,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string payloadClass = 3;</code>
+     * @return The bytes for payloadClass.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getPayloadClassBytes() {
       java.lang.Object ref = payloadClass_;
@@ -10502,31 +10793,39 @@ public final class Messaging {
     }
 
     public static final int PAYLOAD_FIELD_NUMBER = 4;
-    private com.google.protobuf.ByteString payload_;
+    private com.google.protobuf.ByteString payload_ = com.google.protobuf.ByteString.EMPTY;
     /**
      * <code>optional bytes payload = 4;</code>
+     * @return Whether the payload field is set.
      */
+    @java.lang.Override
     public boolean hasPayload() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
+      return ((bitField0_ & 0x00000008) != 0);
     }
     /**
      * <code>optional bytes payload = 4;</code>
+     * @return The payload.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString getPayload() {
       return payload_;
     }
 
     public static final int UNDELIVERABLE_FIELD_NUMBER = 5;
-    private boolean undeliverable_;
+    private boolean undeliverable_ = false;
     /**
      * <code>optional bool undeliverable = 5;</code>
+     * @return Whether the undeliverable field is set.
      */
+    @java.lang.Override
     public boolean hasUndeliverable() {
-      return ((bitField0_ & 0x00000010) == 0x00000010);
+      return ((bitField0_ & 0x00000010) != 0);
     }
     /**
      * <code>optional bool undeliverable = 5;</code>
+     * @return The undeliverable.
      */
+    @java.lang.Override
     public boolean getUndeliverable() {
       return undeliverable_;
     }
@@ -10545,22 +10844,22 @@ public final class Messaging {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, receiver_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, nodeId_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 3, payloadClass_);
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000008) != 0)) {
         output.writeBytes(4, payload_);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      if (((bitField0_ & 0x00000010) != 0)) {
         output.writeBool(5, undeliverable_);
       }
-      unknownFields.writeTo(output);
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -10569,24 +10868,24 @@ public final class Messaging {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, receiver_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, nodeId_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000004) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, payloadClass_);
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000008) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(4, payload_);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      if (((bitField0_ & 0x00000010) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(5, undeliverable_);
       }
-      size += unknownFields.getSerializedSize();
+      size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
@@ -10601,34 +10900,33 @@ public final class Messaging {
       }
       org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorNodeMessage other = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorNodeMessage) obj;
 
-      boolean result = true;
-      result = result && (hasReceiver() == other.hasReceiver());
+      if (hasReceiver() != other.hasReceiver()) return false;
       if (hasReceiver()) {
-        result = result && getReceiver()
-            .equals(other.getReceiver());
+        if (!getReceiver()
+            .equals(other.getReceiver())) return false;
       }
-      result = result && (hasNodeId() == other.hasNodeId());
+      if (hasNodeId() != other.hasNodeId()) return false;
       if (hasNodeId()) {
-        result = result && getNodeId()
-            .equals(other.getNodeId());
+        if (!getNodeId()
+            .equals(other.getNodeId())) return false;
       }
-      result = result && (hasPayloadClass() == other.hasPayloadClass());
+      if (hasPayloadClass() != other.hasPayloadClass()) return false;
       if (hasPayloadClass()) {
-        result = result && getPayloadClass()
-            .equals(other.getPayloadClass());
+        if (!getPayloadClass()
+            .equals(other.getPayloadClass())) return false;
       }
-      result = result && (hasPayload() == other.hasPayload());
+      if (hasPayload() != other.hasPayload()) return false;
       if (hasPayload()) {
-        result = result && getPayload()
-            .equals(other.getPayload());
+        if (!getPayload()
+            .equals(other.getPayload())) return false;
       }
-      result = result && (hasUndeliverable() == other.hasUndeliverable());
+      if (hasUndeliverable() != other.hasUndeliverable()) return false;
       if (hasUndeliverable()) {
-        result = result && (getUndeliverable()
-            == other.getUndeliverable());
+        if (getUndeliverable()
+            != other.getUndeliverable()) return false;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -10659,7 +10957,7 @@ public final class Messaging {
         hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
             getUndeliverable());
       }
-      hash = (29 * hash) + unknownFields.hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -10776,32 +11074,23 @@ public final class Messaging {
 
       // Construct using org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorNodeMessage.newBuilder()
       private Builder() {
-        maybeForceBuilderInitialization();
+
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
         super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
+
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
         receiver_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
         nodeId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
         payloadClass_ = "";
-        bitField0_ = (bitField0_ & ~0x00000004);
         payload_ = com.google.protobuf.ByteString.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000008);
         undeliverable_ = false;
-        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
@@ -10828,65 +11117,37 @@ public final class Messaging {
       @java.lang.Override
       public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorNodeMessage buildPartial() {
         org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorNodeMessage result = new org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorNodeMessage(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorNodeMessage result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.receiver_ = receiver_;
           to_bitField0_ |= 0x00000001;
         }
-        result.receiver_ = receiver_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.nodeId_ = nodeId_;
           to_bitField0_ |= 0x00000002;
         }
-        result.nodeId_ = nodeId_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.payloadClass_ = payloadClass_;
           to_bitField0_ |= 0x00000004;
         }
-        result.payloadClass_ = payloadClass_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.payload_ = payload_;
           to_bitField0_ |= 0x00000008;
         }
-        result.payload_ = payload_;
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.undeliverable_ = undeliverable_;
           to_bitField0_ |= 0x00000010;
         }
-        result.undeliverable_ = undeliverable_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        result.bitField0_ |= to_bitField0_;
       }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorNodeMessage) {
@@ -10900,18 +11161,18 @@ public final class Messaging {
       public Builder mergeFrom(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorNodeMessage other) {
         if (other == org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorNodeMessage.getDefaultInstance()) return this;
         if (other.hasReceiver()) {
-          bitField0_ |= 0x00000001;
           receiver_ = other.receiver_;
+          bitField0_ |= 0x00000001;
           onChanged();
         }
         if (other.hasNodeId()) {
-          bitField0_ |= 0x00000002;
           nodeId_ = other.nodeId_;
+          bitField0_ |= 0x00000002;
           onChanged();
         }
         if (other.hasPayloadClass()) {
-          bitField0_ |= 0x00000004;
           payloadClass_ = other.payloadClass_;
+          bitField0_ |= 0x00000004;
           onChanged();
         }
         if (other.hasPayload()) {
@@ -10920,7 +11181,7 @@ public final class Messaging {
         if (other.hasUndeliverable()) {
           setUndeliverable(other.getUndeliverable());
         }
-        this.mergeUnknownFields(other.unknownFields);
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
@@ -10935,17 +11196,55 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorNodeMessage parsedMessage = null;
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
         try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                receiver_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                nodeId_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                payloadClass_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                payload_ = input.readBytes();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 40: {
+                undeliverable_ = input.readBool();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.ActorNodeMessage) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+          onChanged();
+        } // finally
         return this;
       }
       private int bitField0_;
@@ -10953,12 +11252,14 @@ public final class Messaging {
       private java.lang.Object receiver_ = "";
       /**
        * <code>optional string receiver = 1;</code>
+       * @return Whether the receiver field is set.
        */
       public boolean hasReceiver() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <code>optional string receiver = 1;</code>
+       * @return The receiver.
        */
       public java.lang.String getReceiver() {
         java.lang.Object ref = receiver_;
@@ -10976,6 +11277,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string receiver = 1;</code>
+       * @return The bytes for receiver.
        */
       public com.google.protobuf.ByteString
           getReceiverBytes() {
@@ -10992,36 +11294,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string receiver = 1;</code>
+       * @param value The receiver to set.
+       * @return This builder for chaining.
        */
       public Builder setReceiver(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         receiver_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <code>optional string receiver = 1;</code>
+       * @return This builder for chaining.
        */
       public Builder clearReceiver() {
-        bitField0_ = (bitField0_ & ~0x00000001);
         receiver_ = getDefaultInstance().getReceiver();
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
        * <code>optional string receiver = 1;</code>
+       * @param value The bytes for receiver to set.
+       * @return This builder for chaining.
        */
       public Builder setReceiverBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         receiver_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
@@ -11029,12 +11332,14 @@ public final class Messaging {
       private java.lang.Object nodeId_ = "";
       /**
        * <code>optional string nodeId = 2;</code>
+       * @return Whether the nodeId field is set.
        */
       public boolean hasNodeId() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
        * <code>optional string nodeId = 2;</code>
+       * @return The nodeId.
        */
       public java.lang.String getNodeId() {
         java.lang.Object ref = nodeId_;
@@ -11052,6 +11357,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string nodeId = 2;</code>
+       * @return The bytes for nodeId.
        */
       public com.google.protobuf.ByteString
           getNodeIdBytes() {
@@ -11068,36 +11374,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string nodeId = 2;</code>
+       * @param value The nodeId to set.
+       * @return This builder for chaining.
        */
       public Builder setNodeId(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         nodeId_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <code>optional string nodeId = 2;</code>
+       * @return This builder for chaining.
        */
       public Builder clearNodeId() {
-        bitField0_ = (bitField0_ & ~0x00000002);
         nodeId_ = getDefaultInstance().getNodeId();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
       /**
        * <code>optional string nodeId = 2;</code>
+       * @param value The bytes for nodeId to set.
+       * @return This builder for chaining.
        */
       public Builder setNodeIdBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
+        if (value == null) { throw new NullPointerException(); }
         nodeId_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
@@ -11105,12 +11412,14 @@ public final class Messaging {
       private java.lang.Object payloadClass_ = "";
       /**
        * <code>optional string payloadClass = 3;</code>
+       * @return Whether the payloadClass field is set.
        */
       public boolean hasPayloadClass() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+        return ((bitField0_ & 0x00000004) != 0);
       }
       /**
        * <code>optional string payloadClass = 3;</code>
+       * @return The payloadClass.
        */
       public java.lang.String getPayloadClass() {
         java.lang.Object ref = payloadClass_;
@@ -11128,6 +11437,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string payloadClass = 3;</code>
+       * @return The bytes for payloadClass.
        */
       public com.google.protobuf.ByteString
           getPayloadClassBytes() {
@@ -11144,36 +11454,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string payloadClass = 3;</code>
+       * @param value The payloadClass to set.
+       * @return This builder for chaining.
        */
       public Builder setPayloadClass(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
+        if (value == null) { throw new NullPointerException(); }
         payloadClass_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
        * <code>optional string payloadClass = 3;</code>
+       * @return This builder for chaining.
        */
       public Builder clearPayloadClass() {
-        bitField0_ = (bitField0_ & ~0x00000004);
         payloadClass_ = getDefaultInstance().getPayloadClass();
+        bitField0_ = (bitField0_ & ~0x00000004);
         onChanged();
         return this;
       }
       /**
        * <code>optional string payloadClass = 3;</code>
+       * @param value The bytes for payloadClass to set.
+       * @return This builder for chaining.
        */
       public Builder setPayloadClassBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
+        if (value == null) { throw new NullPointerException(); }
         payloadClass_ = value;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
@@ -11181,30 +11492,35 @@ public final class Messaging {
       private com.google.protobuf.ByteString payload_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes payload = 4;</code>
+       * @return Whether the payload field is set.
        */
+      @java.lang.Override
       public boolean hasPayload() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+        return ((bitField0_ & 0x00000008) != 0);
       }
       /**
        * <code>optional bytes payload = 4;</code>
+       * @return The payload.
        */
+      @java.lang.Override
       public com.google.protobuf.ByteString getPayload() {
         return payload_;
       }
       /**
        * <code>optional bytes payload = 4;</code>
+       * @param value The payload to set.
+       * @return This builder for chaining.
        */
       public Builder setPayload(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
+        if (value == null) { throw new NullPointerException(); }
         payload_ = value;
+        bitField0_ |= 0x00000008;
         onChanged();
         return this;
       }
       /**
        * <code>optional bytes payload = 4;</code>
+       * @return This builder for chaining.
        */
       public Builder clearPayload() {
         bitField0_ = (bitField0_ & ~0x00000008);
@@ -11216,27 +11532,35 @@ public final class Messaging {
       private boolean undeliverable_ ;
       /**
        * <code>optional bool undeliverable = 5;</code>
+       * @return Whether the undeliverable field is set.
        */
+      @java.lang.Override
       public boolean hasUndeliverable() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
+        return ((bitField0_ & 0x00000010) != 0);
       }
       /**
        * <code>optional bool undeliverable = 5;</code>
+       * @return The undeliverable.
        */
+      @java.lang.Override
       public boolean getUndeliverable() {
         return undeliverable_;
       }
       /**
        * <code>optional bool undeliverable = 5;</code>
+       * @param value The undeliverable to set.
+       * @return This builder for chaining.
        */
       public Builder setUndeliverable(boolean value) {
-        bitField0_ |= 0x00000010;
+
         undeliverable_ = value;
+        bitField0_ |= 0x00000010;
         onChanged();
         return this;
       }
       /**
        * <code>optional bool undeliverable = 5;</code>
+       * @return This builder for chaining.
        */
       public Builder clearUndeliverable() {
         bitField0_ = (bitField0_ & ~0x00000010);
@@ -11277,7 +11601,18 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ActorNodeMessage(input, extensionRegistry);
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
     };
 
@@ -11303,14 +11638,17 @@ public final class Messaging {
 
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return Whether the actorRef field is set.
      */
     boolean hasActorRef();
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return The actorRef.
      */
     java.lang.String getActorRef();
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return The bytes for actorRef.
      */
     com.google.protobuf.ByteString
         getActorRefBytes();
@@ -11318,7 +11656,7 @@ public final class Messaging {
   /**
    * Protobuf type {@code org.elasticsoftware.elasticactors.serialization.protobuf.PersistActorMessage}
    */
-  public  static final class PersistActorMessage extends
+  public static final class PersistActorMessage extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.serialization.protobuf.PersistActorMessage)
       PersistActorMessageOrBuilder {
@@ -11332,54 +11670,12 @@ public final class Messaging {
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private PersistActorMessage(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              actorRef_ = bs;
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PersistActorMessage();
     }
+
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
       return org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_PersistActorMessage_descriptor;
@@ -11395,16 +11691,21 @@ public final class Messaging {
 
     private int bitField0_;
     public static final int ACTORREF_FIELD_NUMBER = 1;
-    private volatile java.lang.Object actorRef_;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object actorRef_ = "";
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return Whether the actorRef field is set.
      */
+    @java.lang.Override
     public boolean hasActorRef() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return The actorRef.
      */
+    @java.lang.Override
     public java.lang.String getActorRef() {
       java.lang.Object ref = actorRef_;
       if (ref instanceof java.lang.String) {
@@ -11421,7 +11722,9 @@ public final class Messaging {
     }
     /**
      * <code>optional string actorRef = 1;</code>
+     * @return The bytes for actorRef.
      */
+    @java.lang.Override
     public com.google.protobuf.ByteString
         getActorRefBytes() {
       java.lang.Object ref = actorRef_;
@@ -11450,10 +11753,10 @@ public final class Messaging {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, actorRef_);
       }
-      unknownFields.writeTo(output);
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -11462,10 +11765,10 @@ public final class Messaging {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, actorRef_);
       }
-      size += unknownFields.getSerializedSize();
+      size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
@@ -11480,14 +11783,13 @@ public final class Messaging {
       }
       org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.PersistActorMessage other = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.PersistActorMessage) obj;
 
-      boolean result = true;
-      result = result && (hasActorRef() == other.hasActorRef());
+      if (hasActorRef() != other.hasActorRef()) return false;
       if (hasActorRef()) {
-        result = result && getActorRef()
-            .equals(other.getActorRef());
+        if (!getActorRef()
+            .equals(other.getActorRef())) return false;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -11501,7 +11803,7 @@ public final class Messaging {
         hash = (37 * hash) + ACTORREF_FIELD_NUMBER;
         hash = (53 * hash) + getActorRef().hashCode();
       }
-      hash = (29 * hash) + unknownFields.hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
@@ -11618,24 +11920,19 @@ public final class Messaging {
 
       // Construct using org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.PersistActorMessage.newBuilder()
       private Builder() {
-        maybeForceBuilderInitialization();
+
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
         super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
+
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        bitField0_ = 0;
         actorRef_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
@@ -11662,49 +11959,21 @@ public final class Messaging {
       @java.lang.Override
       public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.PersistActorMessage buildPartial() {
         org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.PersistActorMessage result = new org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.PersistActorMessage(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.PersistActorMessage result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.actorRef_ = actorRef_;
           to_bitField0_ |= 0x00000001;
         }
-        result.actorRef_ = actorRef_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        result.bitField0_ |= to_bitField0_;
       }
 
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.PersistActorMessage) {
@@ -11718,11 +11987,11 @@ public final class Messaging {
       public Builder mergeFrom(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.PersistActorMessage other) {
         if (other == org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.PersistActorMessage.getDefaultInstance()) return this;
         if (other.hasActorRef()) {
-          bitField0_ |= 0x00000001;
           actorRef_ = other.actorRef_;
+          bitField0_ |= 0x00000001;
           onChanged();
         }
-        this.mergeUnknownFields(other.unknownFields);
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
@@ -11737,17 +12006,35 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.PersistActorMessage parsedMessage = null;
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
         try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                actorRef_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.PersistActorMessage) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+          onChanged();
+        } // finally
         return this;
       }
       private int bitField0_;
@@ -11755,12 +12042,14 @@ public final class Messaging {
       private java.lang.Object actorRef_ = "";
       /**
        * <code>optional string actorRef = 1;</code>
+       * @return Whether the actorRef field is set.
        */
       public boolean hasActorRef() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <code>optional string actorRef = 1;</code>
+       * @return The actorRef.
        */
       public java.lang.String getActorRef() {
         java.lang.Object ref = actorRef_;
@@ -11778,6 +12067,7 @@ public final class Messaging {
       }
       /**
        * <code>optional string actorRef = 1;</code>
+       * @return The bytes for actorRef.
        */
       public com.google.protobuf.ByteString
           getActorRefBytes() {
@@ -11794,36 +12084,37 @@ public final class Messaging {
       }
       /**
        * <code>optional string actorRef = 1;</code>
+       * @param value The actorRef to set.
+       * @return This builder for chaining.
        */
       public Builder setActorRef(
           java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         actorRef_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorRef = 1;</code>
+       * @return This builder for chaining.
        */
       public Builder clearActorRef() {
-        bitField0_ = (bitField0_ & ~0x00000001);
         actorRef_ = getDefaultInstance().getActorRef();
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
        * <code>optional string actorRef = 1;</code>
+       * @param value The bytes for actorRef to set.
+       * @return This builder for chaining.
        */
       public Builder setActorRefBytes(
           com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+        if (value == null) { throw new NullPointerException(); }
         actorRef_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
@@ -11860,7 +12151,18 @@ public final class Messaging {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new PersistActorMessage(input, extensionRegistry);
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
       }
     };
 
@@ -11880,37 +12182,586 @@ public final class Messaging {
 
   }
 
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_TraceContext_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_TraceContext_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_TraceContext_BaggageEntry_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_TraceContext_BaggageEntry_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_CreationContext_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_CreationContext_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_ScheduledMessage_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_ScheduledMessage_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_InternalMessage_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_InternalMessage_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_CreateActorMessage_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_CreateActorMessage_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
+  public interface InternalMessageBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.elasticsoftware.elasticactors.serialization.protobuf.InternalMessageBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated bytes messages = 1;</code>
+     * @return A list containing the messages.
+     */
+    java.util.List<com.google.protobuf.ByteString> getMessagesList();
+    /**
+     * <code>repeated bytes messages = 1;</code>
+     * @return The count of messages.
+     */
+    int getMessagesCount();
+    /**
+     * <code>repeated bytes messages = 1;</code>
+     * @param index The index of the element to return.
+     * @return The messages at the given index.
+     */
+    com.google.protobuf.ByteString getMessages(int index);
+  }
+  /**
+   * <pre>
+   * several serialized InternalMessages for the same queue, published as one wire message
+   * </pre>
+   *
+   * Protobuf type {@code org.elasticsoftware.elasticactors.serialization.protobuf.InternalMessageBatch}
+   */
+  public static final class InternalMessageBatch extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:org.elasticsoftware.elasticactors.serialization.protobuf.InternalMessageBatch)
+      InternalMessageBatchOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use InternalMessageBatch.newBuilder() to construct.
+    private InternalMessageBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private InternalMessageBatch() {
+      messages_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new InternalMessageBatch();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_InternalMessageBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_InternalMessageBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch.class, org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch.Builder.class);
+    }
+
+    public static final int MESSAGES_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<com.google.protobuf.ByteString> messages_;
+    /**
+     * <code>repeated bytes messages = 1;</code>
+     * @return A list containing the messages.
+     */
+    @java.lang.Override
+    public java.util.List<com.google.protobuf.ByteString>
+        getMessagesList() {
+      return messages_;
+    }
+    /**
+     * <code>repeated bytes messages = 1;</code>
+     * @return The count of messages.
+     */
+    public int getMessagesCount() {
+      return messages_.size();
+    }
+    /**
+     * <code>repeated bytes messages = 1;</code>
+     * @param index The index of the element to return.
+     * @return The messages at the given index.
+     */
+    public com.google.protobuf.ByteString getMessages(int index) {
+      return messages_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < messages_.size(); i++) {
+        output.writeBytes(1, messages_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < messages_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(messages_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getMessagesList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch)) {
+        return super.equals(obj);
+      }
+      org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch other = (org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch) obj;
+
+      if (!getMessagesList()
+          .equals(other.getMessagesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getMessagesCount() > 0) {
+        hash = (37 * hash) + MESSAGES_FIELD_NUMBER;
+        hash = (53 * hash) + getMessagesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * several serialized InternalMessages for the same queue, published as one wire message
+     * </pre>
+     *
+     * Protobuf type {@code org.elasticsoftware.elasticactors.serialization.protobuf.InternalMessageBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.elasticsoftware.elasticactors.serialization.protobuf.InternalMessageBatch)
+        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_InternalMessageBatch_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_InternalMessageBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch.class, org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch.Builder.class);
+      }
+
+      // Construct using org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        messages_ = java.util.Collections.emptyList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_InternalMessageBatch_descriptor;
+      }
+
+      @java.lang.Override
+      public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch getDefaultInstanceForType() {
+        return org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch build() {
+        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch buildPartial() {
+        org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch result = new org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch result) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          messages_ = java.util.Collections.unmodifiableList(messages_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.messages_ = messages_;
+      }
+
+      private void buildPartial0(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch result) {
+        int from_bitField0_ = bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch) {
+          return mergeFrom((org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch other) {
+        if (other == org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch.getDefaultInstance()) return this;
+        if (!other.messages_.isEmpty()) {
+          if (messages_.isEmpty()) {
+            messages_ = other.messages_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureMessagesIsMutable();
+            messages_.addAll(other.messages_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                com.google.protobuf.ByteString v = input.readBytes();
+                ensureMessagesIsMutable();
+                messages_.add(v);
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.google.protobuf.ByteString> messages_ = java.util.Collections.emptyList();
+      private void ensureMessagesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          messages_ = new java.util.ArrayList<com.google.protobuf.ByteString>(messages_);
+          bitField0_ |= 0x00000001;
+        }
+      }
+      /**
+       * <code>repeated bytes messages = 1;</code>
+       * @return A list containing the messages.
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getMessagesList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(messages_) : messages_;
+      }
+      /**
+       * <code>repeated bytes messages = 1;</code>
+       * @return The count of messages.
+       */
+      public int getMessagesCount() {
+        return messages_.size();
+      }
+      /**
+       * <code>repeated bytes messages = 1;</code>
+       * @param index The index of the element to return.
+       * @return The messages at the given index.
+       */
+      public com.google.protobuf.ByteString getMessages(int index) {
+        return messages_.get(index);
+      }
+      /**
+       * <code>repeated bytes messages = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The messages to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMessages(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureMessagesIsMutable();
+        messages_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes messages = 1;</code>
+       * @param value The messages to add.
+       * @return This builder for chaining.
+       */
+      public Builder addMessages(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureMessagesIsMutable();
+        messages_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes messages = 1;</code>
+       * @param values The messages to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllMessages(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureMessagesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, messages_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes messages = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMessages() {
+        messages_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:org.elasticsoftware.elasticactors.serialization.protobuf.InternalMessageBatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.elasticsoftware.elasticactors.serialization.protobuf.InternalMessageBatch)
+    private static final org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch();
+    }
+
+    public static org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<InternalMessageBatch>
+        PARSER = new com.google.protobuf.AbstractParser<InternalMessageBatch>() {
+      @java.lang.Override
+      public InternalMessageBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<InternalMessageBatch> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<InternalMessageBatch> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.elasticsoftware.elasticactors.serialization.protobuf.Messaging.InternalMessageBatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_TraceContext_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_TraceContext_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_TraceContext_BaggageEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_TraceContext_BaggageEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_CreationContext_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_CreationContext_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_ScheduledMessage_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_ScheduledMessage_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_InternalMessage_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_InternalMessage_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_CreateActorMessage_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_CreateActorMessage_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_DestroyActorMessage_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
@@ -11940,6 +12791,11 @@ public final class Messaging {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_PersistActorMessage_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_InternalMessageBatch_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_InternalMessageBatch_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -11967,7 +12823,7 @@ public final class Messaging {
       "aceContext\022b\n\017creationContext\030\010 \001(\0132I.or" +
       "g.elasticsoftware.elasticactors.serializ" +
       "ation.protobuf.CreationContext\022\037\n\027messag" +
-      "eQueueAffinityKey\030\t \001(\t\"\225\003\n\017InternalMess" +
+      "eQueueAffinityKey\030\t \001(\t\"\303\003\n\017InternalMess" +
       "age\022\020\n\010receiver\030\001 \001(\t\022\016\n\006sender\030\002 \001(\t\022\024\n" +
       "\014payloadClass\030\003 \001(\t\022\017\n\007payload\030\004 \001(\014\022\n\n\002" +
       "id\030\005 \001(\014\022\017\n\007durable\030\006 \001(\010\022\025\n\rundeliverab" +
@@ -11977,39 +12833,33 @@ public final class Messaging {
       "tobuf.TraceContext\022b\n\017creationContext\030\013 " +
       "\001(\0132I.org.elasticsoftware.elasticactors." +
       "serialization.protobuf.CreationContext\022\037" +
-      "\n\027messageQueueAffinityKey\030\014 \001(\t\"\314\001\n\022Crea" +
-      "teActorMessage\022\017\n\007actorId\030\001 \001(\t\022\024\n\014initi" +
-      "alState\030\002 \001(\014\022\022\n\nactorClass\030\003 \001(\t\022\023\n\013act" +
-      "orSystem\030\004 \001(\t\022Q\n\004type\030\005 \001(\0162C.org.elast" +
-      "icsoftware.elasticactors.serialization.p" +
-      "rotobuf.ActorType\022\023\n\013affinityKey\030\006 \001(\t\"\'" +
-      "\n\023DestroyActorMessage\022\020\n\010actorRef\030\001 \001(\t\"" +
-      "\217\001\n\024ActivateActorMessage\022\023\n\013actorSystem\030" +
-      "\001 \001(\t\022\017\n\007actorId\030\002 \001(\t\022Q\n\004type\030\003 \001(\0162C.o" +
-      "rg.elasticsoftware.elasticactors.seriali" +
-      "zation.protobuf.ActorType\"9\n\013WireMessage" +
-      "\022\021\n\tqueueName\030\001 \001(\t\022\027\n\017internalMessage\030\002" +
-      " \001(\014\"D\n\035CancelScheduledMessageMessage\022\021\n" +
-      "\tmessageId\030\001 \001(\014\022\020\n\010fireTime\030\002 \001(\004\"r\n\020Ac" +
-      "torNodeMessage\022\020\n\010receiver\030\001 \001(\t\022\016\n\006node" +
-      "Id\030\002 \001(\t\022\024\n\014payloadClass\030\003 \001(\t\022\017\n\007payloa" +
-      "d\030\004 \001(\014\022\025\n\rundeliverable\030\005 \001(\010\"\'\n\023Persis" +
-      "tActorMessage\022\020\n\010actorRef\030\001 \001(\t*2\n\tActor" +
-      "Type\022\016\n\nPERSISTENT\020\000\022\010\n\004TEMP\020\001\022\013\n\007SERVIC" +
-      "E\020\002B\002H\001"
+      "\n\027messageQueueAffinityKey\030\014 \001(\t\022\021\n\tactor" +
+      "Refs\030\r \001(\014\022\031\n\021payloadCompressed\030\016 \001(\010\"\314\001" +
+      "\n\022CreateActorMessage\022\017\n\007actorId\030\001 \001(\t\022\024\n" +
+      "\014initialState\030\002 \001(\014\022\022\n\nactorClass\030\003 \001(\t\022" +
+      "\023\n\013actorSystem\030\004 \001(\t\022Q\n\004type\030\005 \001(\0162C.org" +
+      ".elasticsoftware.elasticactors.serializa" +
+      "tion.protobuf.ActorType\022\023\n\013affinityKey\030\006" +
+      " \001(\t\"\'\n\023DestroyActorMessage\022\020\n\010actorRef\030" +
+      "\001 \001(\t\"\217\001\n\024ActivateActorMessage\022\023\n\013actorS" +
+      "ystem\030\001 \001(\t\022\017\n\007actorId\030\002 \001(\t\022Q\n\004type\030\003 \001" +
+      "(\0162C.org.elasticsoftware.elasticactors.s" +
+      "erialization.protobuf.ActorType\"9\n\013WireM" +
+      "essage\022\021\n\tqueueName\030\001 \001(\t\022\027\n\017internalMes" +
+      "sage\030\002 \001(\014\"D\n\035CancelScheduledMessageMess" +
+      "age\022\021\n\tmessageId\030\001 \001(\014\022\020\n\010fireTime\030\002 \001(\004" +
+      "\"r\n\020ActorNodeMessage\022\020\n\010receiver\030\001 \001(\t\022\016" +
+      "\n\006nodeId\030\002 \001(\t\022\024\n\014payloadClass\030\003 \001(\t\022\017\n\007" +
+      "payload\030\004 \001(\014\022\025\n\rundeliverable\030\005 \001(\010\"\'\n\023" +
+      "PersistActorMessage\022\020\n\010actorRef\030\001 \001(\t\"(\n" +
+      "\024InternalMessageBatch\022\020\n\010messages\030\001 \003(\014*" +
+      "2\n\tActorType\022\016\n\nPERSISTENT\020\000\022\010\n\004TEMP\020\001\022\013" +
+      "\n\007SERVICE\020\002B\002H\001"
     };
-    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
-        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
-          public com.google.protobuf.ExtensionRegistry assignDescriptors(
-              com.google.protobuf.Descriptors.FileDescriptor root) {
-            descriptor = root;
-            return null;
-          }
-        };
-    com.google.protobuf.Descriptors.FileDescriptor
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
         new com.google.protobuf.Descriptors.FileDescriptor[] {
-        }, assigner);
+        });
     internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_TraceContext_descriptor =
       getDescriptor().getMessageTypes().get(0);
     internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_TraceContext_fieldAccessorTable = new
@@ -12039,7 +12889,7 @@ public final class Messaging {
     internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_InternalMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_InternalMessage_descriptor,
-        new java.lang.String[] { "Receiver", "Sender", "PayloadClass", "Payload", "Id", "Durable", "Undeliverable", "Receivers", "Timeout", "TraceContext", "CreationContext", "MessageQueueAffinityKey", });
+        new java.lang.String[] { "Receiver", "Sender", "PayloadClass", "Payload", "Id", "Durable", "Undeliverable", "Receivers", "Timeout", "TraceContext", "CreationContext", "MessageQueueAffinityKey", "ActorRefs", "PayloadCompressed", });
     internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_CreateActorMessage_descriptor =
       getDescriptor().getMessageTypes().get(4);
     internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_CreateActorMessage_fieldAccessorTable = new
@@ -12082,6 +12932,12 @@ public final class Messaging {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_PersistActorMessage_descriptor,
         new java.lang.String[] { "ActorRef", });
+    internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_InternalMessageBatch_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_InternalMessageBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_elasticsoftware_elasticactors_serialization_protobuf_InternalMessageBatch_descriptor,
+        new java.lang.String[] { "Messages", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
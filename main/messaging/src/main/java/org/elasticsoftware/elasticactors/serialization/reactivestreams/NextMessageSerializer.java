@@ -17,7 +17,7 @@
 
 package org.elasticsoftware.elasticactors.serialization.reactivestreams;
 
-import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import org.elasticsoftware.elasticactors.messaging.reactivestreams.NextMessage;
 import org.elasticsoftware.elasticactors.serialization.MessageSerializer;
 import org.elasticsoftware.elasticactors.serialization.protobuf.Reactivestreams;
@@ -33,7 +33,7 @@ public final class NextMessageSerializer implements MessageSerializer<NextMessag
     public ByteBuffer serialize(NextMessage message) throws IOException {
         Reactivestreams.NextMessage.Builder builder = Reactivestreams.NextMessage.newBuilder();
         builder.setMessageName(message.getMessageName());
-        builder.setMessageBytes(ByteString.copyFrom(message.getMessageBytes()));
+        builder.setMessageBytes(UnsafeByteOperations.unsafeWrap(message.getMessageBytes()));
         return ByteBuffer.wrap(builder.build().toByteArray());
     }
 }
@@ -33,7 +33,7 @@ public final class ByteBufferUtils {
     }
 
     public static byte[] toByteArrayAndReset(ByteBuffer buffer) {
-        if (buffer.hasArray()) {
+        if (isWholeArray(buffer)) {
             return buffer.array();
         } else {
             return doAndReset(buffer, ByteBufferUtils::internalToByteArray);
@@ -41,13 +41,23 @@ public final class ByteBufferUtils {
     }
 
     public static byte[] toByteArray(ByteBuffer buffer) {
-        if (buffer.hasArray()) {
+        if (isWholeArray(buffer)) {
             return buffer.array();
         } else {
             return internalToByteArray(buffer);
         }
     }
 
+    /**
+     * The backing array can only be handed out without copying when it holds exactly the remaining bytes
+     */
+    private static boolean isWholeArray(ByteBuffer buffer) {
+        return buffer.hasArray()
+            && buffer.arrayOffset() == 0
+            && buffer.position() == 0
+            && buffer.remaining() == buffer.array().length;
+    }
+
     private static byte[] internalToByteArray(ByteBuffer buffer) {
         byte[] messageBytes = new byte[buffer.remaining()];
         buffer.get(messageBytes);
@@ -56,7 +66,12 @@ public final class ByteBufferUtils {
 
     public static String decodeUtf8String(ByteBuffer buffer) {
         if (buffer.hasArray()) {
-            return new String(buffer.array(), StandardCharsets.UTF_8);
+            return new String(
+                buffer.array(),
+                buffer.arrayOffset() + buffer.position(),
+                buffer.remaining(),
+                StandardCharsets.UTF_8
+            );
         } else {
             return doAndReset(buffer, utf8Decoder).toString();
         }
@@ -23,6 +23,7 @@ import org.elasticsoftware.elasticactors.ElasticActor;
 import org.elasticsoftware.elasticactors.messaging.InternalMessage;
 import org.elasticsoftware.elasticactors.serialization.Message;
 import org.elasticsoftware.elasticactors.serialization.MessageDeserializer;
+import org.elasticsoftware.elasticactors.serialization.MessageMetadata;
 import org.elasticsoftware.elasticactors.serialization.MessageToStringConverter;
 import org.elasticsoftware.elasticactors.serialization.SerializationAccessor;
 import org.elasticsoftware.elasticactors.serialization.SerializationFramework;
@@ -62,10 +63,10 @@ public final class SerializationTools {
         SerializationFrameworks serializationFrameworks,
         Class<?> messageClass)
     {
-        Message messageAnnotation = messageClass.getAnnotation(Message.class);
-        if (messageAnnotation != null) {
+        MessageMetadata metadata = MessageMetadata.get(messageClass);
+        if (metadata.isMessage()) {
             SerializationFramework serializationFramework = serializationFrameworks
-                    .getSerializationFramework(messageAnnotation.serializationFramework());
+                    .getSerializationFramework(metadata.getSerializationFramework());
             if (serializationFramework != null) {
                 return serializationFramework.getToStringConverter();
             }
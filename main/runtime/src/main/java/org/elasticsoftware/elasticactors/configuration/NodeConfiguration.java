@@ -27,7 +27,9 @@ import org.elasticsoftware.elasticactors.ActorRef;
 import org.elasticsoftware.elasticactors.InternalActorSystemConfiguration;
 import org.elasticsoftware.elasticactors.ManagedActorsRegistry;
 import org.elasticsoftware.elasticactors.base.serialization.ObjectMapperBuilder;
+import org.elasticsoftware.elasticactors.cache.CacheImplementation;
 import org.elasticsoftware.elasticactors.cache.NodeActorCacheManager;
+import org.elasticsoftware.elasticactors.cache.PassivatedActorCache;
 import org.elasticsoftware.elasticactors.cache.ShardActorCacheManager;
 import org.elasticsoftware.elasticactors.cluster.ActorSystemEventListenerRepository;
 import org.elasticsoftware.elasticactors.cluster.ActorSystemEventListenerService;
@@ -45,6 +47,7 @@ import org.elasticsoftware.elasticactors.cluster.scheduler.ShardedScheduler;
 import org.elasticsoftware.elasticactors.health.InternalActorSystemHealthCheck;
 import org.elasticsoftware.elasticactors.messaging.MessageQueueFactoryFactory;
 import org.elasticsoftware.elasticactors.runtime.ActorLifecycleListenerScanner;
+import org.elasticsoftware.elasticactors.runtime.ActorRefKey;
 import org.elasticsoftware.elasticactors.runtime.DefaultConfiguration;
 import org.elasticsoftware.elasticactors.runtime.ElasticActorsNode;
 import org.elasticsoftware.elasticactors.runtime.ManagedActorsScanner;
@@ -52,6 +55,15 @@ import org.elasticsoftware.elasticactors.runtime.MessagesScanner;
 import org.elasticsoftware.elasticactors.runtime.PluggableMessageHandlersScanner;
 import org.elasticsoftware.elasticactors.serialization.SerializationFrameworks;
 import org.elasticsoftware.elasticactors.serialization.SystemSerializationFramework;
+import org.elasticsoftware.elasticactors.serialization.compression.CompressionAlgorithm;
+import org.elasticsoftware.elasticactors.serialization.compression.CompressionDictionaries;
+import org.elasticsoftware.elasticactors.serialization.compression.PayloadCompressor;
+import org.elasticsoftware.elasticactors.serialization.internal.InternalMessagePayloadCompression;
+import org.elasticsoftware.elasticactors.serialization.internal.InternalMessagePayloadCompressionMetrics;
+import org.elasticsoftware.elasticactors.serialization.internal.InternalMessageSerializer;
+import org.elasticsoftware.elasticactors.serialization.internal.PersistentActorDeserializer;
+import org.elasticsoftware.elasticactors.serialization.internal.PersistentActorSerializer;
+import org.elasticsoftware.elasticactors.state.ActorExistenceFilterFactory;
 import org.elasticsoftware.elasticactors.state.ActorStateUpdateListener;
 import org.elasticsoftware.elasticactors.state.ActorStateUpdateProcessor;
 import org.elasticsoftware.elasticactors.state.DefaultActorStateUpdateProcessor;
@@ -93,17 +105,19 @@ public class NodeConfiguration {
     @DependsOn({
         "messageHandlersRegistry",
         "managedActorsRegistry",
-        "actorLifecycleListenerRegistry"
+        "actorLifecycleListenerRegistry",
+        "internalMessageSerializer"
     })
     public ElasticActorsNode createElasticActorsNode(
         Environment env,
-        @Qualifier("actorRefCache") Cache<String, ActorRef> actorRefCache)
+        @Qualifier("actorRefCache") Cache<String, ActorRef> actorRefCache,
+        @Qualifier("compactActorRefCache") Cache<ActorRefKey, ActorRef> compactActorRefCache)
         throws UnknownHostException
     {
         String nodeId = env.getRequiredProperty("ea.node.id");
         InetAddress nodeAddress = InetAddress.getByName(env.getRequiredProperty("ea.node.address"));
         String clusterName = env.getRequiredProperty("ea.cluster");
-        return new ElasticActorsNode(clusterName, nodeId, nodeAddress, actorRefCache);
+        return new ElasticActorsNode(clusterName, nodeId, nodeAddress, actorRefCache, compactActorRefCache);
     }
 
     @Bean(name = {"actorRefCache"})
@@ -111,10 +125,29 @@ public class NodeConfiguration {
         Environment env,
         @Nullable @Qualifier("elasticActorsMeterRegistry") MeterRegistry meterRegistry,
         @Nullable @Qualifier("elasticActorsMeterTagCustomizer") MicrometerTagCustomizer tagCustomizer)
+    {
+        return buildActorRefCache(env, meterRegistry, "actorRefCache", tagCustomizer);
+    }
+
+    // ActorRefs decoded from compact ActorRefs are cached by the parts of their spec
+    @Bean(name = {"compactActorRefCache"})
+    public Cache<ActorRefKey, ActorRef> createCompactActorRefCache(
+        Environment env,
+        @Nullable @Qualifier("elasticActorsMeterRegistry") MeterRegistry meterRegistry,
+        @Nullable @Qualifier("elasticActorsMeterTagCustomizer") MicrometerTagCustomizer tagCustomizer)
+    {
+        return buildActorRefCache(env, meterRegistry, "compactActorRefCache", tagCustomizer);
+    }
+
+    private static <K> Cache<K, ActorRef> buildActorRefCache(
+        Environment env,
+        @Nullable MeterRegistry meterRegistry,
+        String componentName,
+        @Nullable MicrometerTagCustomizer tagCustomizer)
     {
         int maximumSize = env.getProperty("ea.actorRefCache.maximumSize", Integer.class, 10240);
         MicrometerConfiguration configuration =
-            MicrometerConfiguration.build(env, meterRegistry, "actorRefCache", tagCustomizer);
+            MicrometerConfiguration.build(env, meterRegistry, componentName, tagCustomizer);
         CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(maximumSize);
         if (configuration != null) {
             builder.recordStats();
@@ -129,6 +162,40 @@ public class NodeConfiguration {
         }
     }
 
+    @Bean(name = {"internalMessageSerializer"}, initMethod = "install", destroyMethod = "uninstall")
+    public InternalMessageSerializer createInternalMessageSerializer(
+        Environment env,
+        @Qualifier("internalMessagePayloadCompressionMetrics") InternalMessagePayloadCompressionMetrics payloadCompressionMetrics)
+    {
+        PayloadCompressor payloadCompressor = null;
+        if (env.getProperty("ea.serialization.payloadCompression.enabled", Boolean.class, FALSE)) {
+            payloadCompressor = new PayloadCompressor(
+                env.getProperty("ea.serialization.payloadCompression.algorithm", CompressionAlgorithm.class, CompressionAlgorithm.LZ4),
+                env.getProperty("ea.serialization.payloadCompression.threshold", Integer.class, 4096),
+                env.getProperty("ea.serialization.payloadCompression.level", Integer.class, 3),
+                CompressionDictionaries.none()
+            );
+        }
+        return new InternalMessageSerializer(
+            new InternalMessagePayloadCompression(
+                payloadCompressor,
+                payloadCompressionMetrics.isEnabled() ? payloadCompressionMetrics : null
+            ),
+            env.getProperty("ea.serialization.compactActorRefs.enabled", Boolean.class, FALSE)
+        );
+    }
+
+    @Bean(name = {"internalMessagePayloadCompressionMetrics"}, destroyMethod = "unregister")
+    public InternalMessagePayloadCompressionMetrics createInternalMessagePayloadCompressionMetrics(
+        Environment env,
+        @Nullable @Qualifier("elasticActorsMeterRegistry") MeterRegistry meterRegistry,
+        @Nullable @Qualifier("elasticActorsMeterTagCustomizer") MicrometerTagCustomizer tagCustomizer)
+    {
+        return new InternalMessagePayloadCompressionMetrics(
+            MicrometerConfiguration.build(env, meterRegistry, "payloadCompression", tagCustomizer)
+        );
+    }
+
     @Bean(name = {"actorSystemConfiguration"})
     public InternalActorSystemConfiguration createConfiguration(
         ResourceLoader resourceLoader,
@@ -196,25 +263,64 @@ public class NodeConfiguration {
         @Nullable @Qualifier("elasticActorsMeterTagCustomizer") MicrometerTagCustomizer tagCustomizer)
     {
         int maximumSize = env.getProperty("ea.nodeCache.maximumSize",Integer.class,10240);
+        long maximumWeight = env.getProperty("ea.nodeCache.maximumWeight", Long.class, 0L);
         long expirationCheckPeriod =
             env.getProperty("ea.nodeCache.expirationCheckPeriod", Long.class, 30000L);
+        CacheImplementation cacheImplementation =
+            env.getProperty("ea.nodeCache.type", CacheImplementation.class, CacheImplementation.GUAVA);
         return new NodeActorCacheManager(
             maximumSize,
+            maximumWeight,
             expirationCheckPeriod,
-            MicrometerConfiguration.build(env, meterRegistry, "nodeActorCache", tagCustomizer)
+            MicrometerConfiguration.build(env, meterRegistry, "nodeActorCache", tagCustomizer),
+            cacheImplementation
         );
     }
 
     @Bean(name = {"shardActorCacheManager"})
     public ShardActorCacheManager createShardActorCacheManager(
         Environment env,
+        ElasticActorsNode node,
         @Nullable @Qualifier("elasticActorsMeterRegistry") MeterRegistry meterRegistry,
         @Nullable @Qualifier("elasticActorsMeterTagCustomizer") MicrometerTagCustomizer tagCustomizer)
     {
         int maximumSize = env.getProperty("ea.shardCache.maximumSize",Integer.class,10240);
+        long maximumWeight = env.getProperty("ea.shardCache.maximumWeight", Long.class, 0L);
+        CacheImplementation cacheImplementation =
+            env.getProperty("ea.shardCache.type", CacheImplementation.class, CacheImplementation.GUAVA);
+        long passivatedMaximumWeight =
+            env.getProperty("ea.shardCache.passivated.maximumWeight", Long.class, 0L);
+        PassivatedActorCache passivatedActorCache = null;
+        if (passivatedMaximumWeight > 0) {
+            passivatedActorCache = new PassivatedActorCache(
+                passivatedMaximumWeight,
+                env.getProperty("ea.shardCache.passivated.compress", Boolean.class, Boolean.TRUE),
+                new PersistentActorSerializer(
+                    node,
+                    env.getProperty("ea.serialization.compactActorRefs.enabled", Boolean.class, FALSE)
+                ),
+                new PersistentActorDeserializer(node, node),
+                MicrometerConfiguration.build(env, meterRegistry, "passivatedActorCache", tagCustomizer)
+            );
+        }
         return new ShardActorCacheManager(
             maximumSize,
-            MicrometerConfiguration.build(env, meterRegistry, "shardActorCache", tagCustomizer)
+            maximumWeight,
+            MicrometerConfiguration.build(env, meterRegistry, "shardActorCache", tagCustomizer),
+            cacheImplementation,
+            passivatedActorCache,
+            env.getProperty("ea.shardCache.handoff.maximumActors", Integer.class, 0),
+            env.getProperty("ea.shardCache.handoff.prefetchConcurrency", Integer.class, 4)
+        );
+    }
+
+    @Bean(name = {"actorExistenceFilterFactory"}, destroyMethod = "shutdown")
+    public ActorExistenceFilterFactory createActorExistenceFilterFactory(Environment env) {
+        return new ActorExistenceFilterFactory(
+            env.getProperty("ea.actorExistenceFilter.enabled", Boolean.class, Boolean.FALSE),
+            env.getProperty("ea.actorExistenceFilter.expectedInsertions", Integer.class, 10000),
+            env.getProperty("ea.actorExistenceFilter.falsePositiveProbability", Double.class, 0.01d),
+            env.getProperty("ea.actorExistenceFilter.buildDelayMillis", Long.class, 10000L)
         );
     }
 
@@ -23,9 +23,6 @@ import org.elasticsoftware.elasticactors.ActorLifecycleListener;
 import org.elasticsoftware.elasticactors.ActorLifecycleListenerRegistry;
 import org.elasticsoftware.elasticactors.ElasticActor;
 import org.elasticsoftware.elasticactors.PluggableMessageHandlers;
-import org.reflections.Reflections;
-import org.reflections.util.ClasspathHelper;
-import org.reflections.util.ConfigurationBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
@@ -53,18 +50,9 @@ public final class ActorLifecycleListenerScanner implements ActorLifecycleListen
     @PostConstruct
     public synchronized void init() {
         logger.info("Scanning classes that implement ActorLifecycleListener");
-        String[] basePackages = ScannerHelper.findBasePackagesOnClasspath(applicationContext.getClassLoader());
-        ConfigurationBuilder configurationBuilder = new ConfigurationBuilder();
+        ClasspathTypes classpathTypes = ScannerHelper.findTypes(applicationContext);
 
-        logger.debug("Scanning the following base packages: {}", (Object) basePackages);
-
-        for (String basePackage : basePackages) {
-            configurationBuilder.addUrls(ClasspathHelper.forPackage(basePackage));
-        }
-
-        Reflections reflections = new Reflections(configurationBuilder);
-
-        Set<Class<? extends ActorLifecycleListener>> listenerClasses = reflections.getSubTypesOf(ActorLifecycleListener.class);
+        Set<Class<? extends ActorLifecycleListener>> listenerClasses = classpathTypes.getSubTypesOf(ActorLifecycleListener.class);
         logger.info("Found {} classes that implement ActorLifecycleListener", listenerClasses.size());
         if (logger.isDebugEnabled()) {
             logger.debug(
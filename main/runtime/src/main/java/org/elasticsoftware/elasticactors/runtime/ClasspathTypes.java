@@ -0,0 +1,32 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+
+package org.elasticsoftware.elasticactors.runtime;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+/**
+ * The types in the base packages of the application, as found by {@link ScannerHelper#findTypes}
+ */
+public interface ClasspathTypes {
+
+    Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation);
+
+    <T> Set<Class<? extends T>> getSubTypesOf(Class<T> type);
+}
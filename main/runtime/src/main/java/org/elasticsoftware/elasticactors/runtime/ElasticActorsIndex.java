@@ -0,0 +1,130 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+
+package org.elasticsoftware.elasticactors.runtime;
+
+import org.reflections.util.ClasspathHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * The index written by {@code ElasticActorsIndexProcessor} in the elasticactors-annotation-processor
+ * module. Every classpath entry that contains one of the base packages needs to have an index for
+ * it to be used, otherwise {@link ScannerHelper} falls back to scanning the classpath.
+ *
+ * <p>
+ * Like the scanning, {@link #getTypesAnnotatedWith(Class)} returns the annotated types and their
+ * subtypes. For {@link #getSubTypesOf(Class)} only the
+ * {@link org.elasticsoftware.elasticactors.ActorLifecycleListener} implementations are indexed.
+ */
+public final class ElasticActorsIndex implements ClasspathTypes {
+
+    private static final Logger logger = LoggerFactory.getLogger(ElasticActorsIndex.class);
+
+    public static final String RESOURCE_NAME = "META-INF/elasticactors.idx";
+
+    private final ClassLoader classLoader;
+    private final Map<String, Set<String>> typesByKey;
+
+    private ElasticActorsIndex(ClassLoader classLoader, Map<String, Set<String>> typesByKey) {
+        this.classLoader = classLoader;
+        this.typesByKey = typesByKey;
+    }
+
+    /**
+     * @return the merged index of all classpath entries containing the base packages, or null
+     * if one of them doesn't have an index
+     */
+    @Nullable
+    public static ElasticActorsIndex load(ClassLoader classLoader, String... basePackages) {
+        Set<String> roots = new LinkedHashSet<>();
+        for (String basePackage : basePackages) {
+            for (URL url : ClasspathHelper.forPackage(basePackage, classLoader)) {
+                roots.add(url.toExternalForm());
+            }
+        }
+        Set<String> indexedRoots = new HashSet<>();
+        for (URL url : ClasspathHelper.forResource(RESOURCE_NAME, classLoader)) {
+            indexedRoots.add(url.toExternalForm());
+        }
+        Map<String, Set<String>> typesByKey = new HashMap<>();
+        for (String root : roots) {
+            if (!indexedRoots.contains(root)) {
+                logger.info("No {} found in [{}], falling back to classpath scanning", RESOURCE_NAME, root);
+                return null;
+            }
+            Properties index = new Properties();
+            try (InputStream inputStream = new URL(root + RESOURCE_NAME).openStream()) {
+                index.load(inputStream);
+            } catch (IOException e) {
+                logger.warn("Failed to load {} from [{}], falling back to classpath scanning", RESOURCE_NAME, root, e);
+                return null;
+            }
+            for (String typeName : index.stringPropertyNames()) {
+                for (String key : index.getProperty(typeName).split(",")) {
+                    typesByKey.computeIfAbsent(key.trim(), k -> new LinkedHashSet<>()).add(typeName);
+                }
+            }
+        }
+        logger.info("Using {} of {} classpath entries", RESOURCE_NAME, roots.size());
+        return new ElasticActorsIndex(classLoader, typesByKey);
+    }
+
+    @Override
+    public Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation) {
+        return loadTypes(annotation.getName());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Set<Class<? extends T>> getSubTypesOf(Class<T> type) {
+        Set<Class<? extends T>> subTypes = new LinkedHashSet<>();
+        for (Class<?> indexedType : loadTypes(type.getName())) {
+            if (type.isAssignableFrom(indexedType)) {
+                subTypes.add((Class<? extends T>) indexedType);
+            }
+        }
+        return subTypes;
+    }
+
+    private Set<Class<?>> loadTypes(String key) {
+        Set<String> typeNames = typesByKey.getOrDefault(key, Collections.emptySet());
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (String typeName : typeNames) {
+            try {
+                types.add(Class.forName(typeName, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                logger.warn("Indexed class [{}] could not be loaded, the index might be stale", typeName, e);
+            }
+        }
+        return types;
+    }
+}
@@ -63,6 +63,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 
+import jakarta.annotation.Nullable;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import java.net.InetAddress;
@@ -95,6 +96,7 @@ public final class ElasticActorsNode extends PhysicalNode implements
     private final AtomicBoolean initialized = new AtomicBoolean(false);
     private final Cache<Class<? extends ElasticActor>,String> actorStateVersionCache = CacheBuilder.newBuilder().maximumSize(1024).build();
     private final Cache<String,ActorRef> actorRefCache;
+    private final Cache<ActorRefKey,ActorRef> compactActorRefCache;
     private final Map<Class<? extends SerializationFramework>,SerializationFramework> serializationFrameworks = new ConcurrentHashMap<>();
     private ApplicationContext applicationContext;
     private ClusterService clusterService;
@@ -111,10 +113,19 @@ public final class ElasticActorsNode extends PhysicalNode implements
                              String nodeId,
                              InetAddress nodeAddress,
                              Cache<String,ActorRef> actorRefCache) {
+        this(clusterName, nodeId, nodeAddress, actorRefCache, CacheBuilder.newBuilder().maximumSize(10240).build());
+    }
+
+    public ElasticActorsNode(String clusterName,
+                             String nodeId,
+                             InetAddress nodeAddress,
+                             Cache<String,ActorRef> actorRefCache,
+                             Cache<ActorRefKey,ActorRef> compactActorRefCache) {
         super(nodeId, nodeAddress, true);
         this.clusterName = clusterName;
         this.systemDeserializers = new MessagingSystemDeserializers(this,this);
         this.actorRefCache = actorRefCache;
+        this.compactActorRefCache = compactActorRefCache;
         this.actorRefTools = new ActorRefTools(this);
     }
 
@@ -127,6 +138,7 @@ public final class ElasticActorsNode extends PhysicalNode implements
         this.clusterName = clusterName;
         this.systemDeserializers = new MessagingSystemDeserializers(this, actorRefFactory);
         this.actorRefCache = actorRefCache;
+        this.compactActorRefCache = CacheBuilder.newBuilder().maximumSize(10240).build();
         this.actorRefTools = new ActorRefTools(this);
     }
 
@@ -198,7 +210,11 @@ public final class ElasticActorsNode extends PhysicalNode implements
             Clustering.ClusterMessage clusterMessage = Clustering.ClusterMessage.parseFrom(message);
             if(clusterMessage.hasShardReleased()) {
                 // @todo: need to take into account the Shoal viewId here
-                ShardReleasedMessage shardReleasedMessage = new ShardReleasedMessage(clusterMessage.getShardReleased().getActorSystem(),clusterMessage.getShardReleased().getShardId());
+                ShardReleasedMessage shardReleasedMessage = new ShardReleasedMessage(
+                    clusterMessage.getShardReleased().getActorSystem(),
+                    clusterMessage.getShardReleased().getShardId(),
+                    clusterMessage.getShardReleased().getHotActorIdsList()
+                );
                 //
                 shardReleasedMessages.add(shardReleasedMessage);
             }
@@ -230,6 +246,25 @@ public final class ElasticActorsNode extends PhysicalNode implements
         return actorRef;
     }
 
+    @Override
+    public ActorRef create(
+        final String clusterName,
+        final String actorSystemName,
+        final String type,
+        final String id,
+        @Nullable final String actorId)
+    {
+        ActorRefKey key = new ActorRefKey(clusterName, actorSystemName, type, id, actorId);
+        ActorRef actorRef = compactActorRefCache.getIfPresent(key);
+        if (actorRef == null) {
+            actorRef = actorRefTools.create(clusterName, actorSystemName, type, id, actorId);
+            if (!(actorRef instanceof BaseDisconnectedActorRef)) {
+                compactActorRefCache.put(key, actorRef);
+            }
+        }
+        return actorRef;
+    }
+
     @Override
     public String getClusterName() {
         return clusterName;
@@ -24,9 +24,6 @@ import org.elasticsoftware.elasticactors.ManagedActor;
 import org.elasticsoftware.elasticactors.ManagedActorsRegistry;
 import org.elasticsoftware.elasticactors.ServiceActor;
 import org.elasticsoftware.elasticactors.SingletonActor;
-import org.reflections.Reflections;
-import org.reflections.util.ClasspathHelper;
-import org.reflections.util.ConfigurationBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
@@ -54,19 +51,10 @@ public final class ManagedActorsScanner implements ManagedActorsRegistry {
     @PostConstruct
     public synchronized void init() {
         logger.info("Scanning Managed Actor classes");
-        String[] basePackages = ScannerHelper.findBasePackagesOnClasspath(applicationContext.getClassLoader());
-        ConfigurationBuilder configurationBuilder = new ConfigurationBuilder();
-
-        logger.debug("Scanning the following base packages: {}", (Object) basePackages);
-
-        for (String basePackage : basePackages) {
-            configurationBuilder.addUrls(ClasspathHelper.forPackage(basePackage));
-        }
-
-        Reflections reflections = new Reflections(configurationBuilder);
+        ClasspathTypes classpathTypes = ScannerHelper.findTypes(applicationContext);
 
         logger.info("Scanning @SingletonActor-annotated classes");
-        this.singletonActorClasses = reflections.getTypesAnnotatedWith(SingletonActor.class)
+        this.singletonActorClasses = classpathTypes.getTypesAnnotatedWith(SingletonActor.class)
                 .stream()
                 .filter(ElasticActor.class::isAssignableFrom)
                 .filter(c -> c.isAnnotationPresent(Actor.class))
@@ -83,7 +71,7 @@ public final class ManagedActorsScanner implements ManagedActorsRegistry {
         }
 
         logger.info("Scanning @ManagedActor-annotated classes");
-        this.managedActorClasses = reflections.getTypesAnnotatedWith(ManagedActor.class)
+        this.managedActorClasses = classpathTypes.getTypesAnnotatedWith(ManagedActor.class)
                 .stream()
                 .filter(ElasticActor.class::isAssignableFrom)
                 .filter(c -> c.isAnnotationPresent(Actor.class))
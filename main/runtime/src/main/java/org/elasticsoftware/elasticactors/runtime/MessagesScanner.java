@@ -18,10 +18,8 @@
 package org.elasticsoftware.elasticactors.runtime;
 
 import org.elasticsoftware.elasticactors.serialization.Message;
+import org.elasticsoftware.elasticactors.serialization.MessageMetadata;
 import org.elasticsoftware.elasticactors.serialization.SerializationFramework;
-import org.reflections.Reflections;
-import org.reflections.util.ClasspathHelper;
-import org.reflections.util.ConfigurationBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
@@ -49,18 +47,9 @@ public final class MessagesScanner {
     @PostConstruct
     public void init() {
         logger.info("Scanning @Message-annotated classes");
-        String[] basePackages = ScannerHelper.findBasePackagesOnClasspath(applicationContext.getClassLoader());
-        ConfigurationBuilder configurationBuilder = new ConfigurationBuilder();
+        ClasspathTypes classpathTypes = ScannerHelper.findTypes(applicationContext);
 
-        logger.debug("Scanning the following base packages: {}", (Object) basePackages);
-
-        for (String basePackage : basePackages) {
-            configurationBuilder.addUrls(ClasspathHelper.forPackage(basePackage));
-        }
-
-        Reflections reflections = new Reflections(configurationBuilder);
-
-        Set<Class<?>> messageClasses = reflections.getTypesAnnotatedWith(Message.class);
+        Set<Class<?>> messageClasses = classpathTypes.getTypesAnnotatedWith(Message.class);
 
         logger.info("Found {} classes annotated with @Message", messageClasses.size());
         if (logger.isDebugEnabled()) {
@@ -71,8 +60,9 @@ public final class MessagesScanner {
         }
 
         for (Class<?> messageClass : messageClasses) {
-            Message messageAnnotation = messageClass.getAnnotation(Message.class);
-            Class<? extends SerializationFramework> frameworkClass = messageAnnotation.serializationFramework();
+            // precompute the metadata so the annotation is not looked up on the messaging hot path
+            MessageMetadata metadata = MessageMetadata.get(messageClass);
+            Class<? extends SerializationFramework> frameworkClass = metadata.getSerializationFramework();
             logger.debug(
                 "Registering message of type [{}] on [{}]",
                 messageClass.getName(),
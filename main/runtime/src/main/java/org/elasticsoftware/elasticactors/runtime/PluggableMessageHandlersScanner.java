@@ -22,9 +22,6 @@ import com.google.common.collect.ListMultimap;
 import org.elasticsoftware.elasticactors.MessageHandlersRegistry;
 import org.elasticsoftware.elasticactors.MethodActor;
 import org.elasticsoftware.elasticactors.PluggableMessageHandlers;
-import org.reflections.Reflections;
-import org.reflections.util.ClasspathHelper;
-import org.reflections.util.ConfigurationBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
@@ -52,18 +49,9 @@ public final class PluggableMessageHandlersScanner implements MessageHandlersReg
     @PostConstruct
     public synchronized void init() {
         logger.info("Scanning @PluggableMessageHandlers-annotated classes");
-        String[] basePackages = ScannerHelper.findBasePackagesOnClasspath(applicationContext.getClassLoader());
-        ConfigurationBuilder configurationBuilder = new ConfigurationBuilder();
+        ClasspathTypes classpathTypes = ScannerHelper.findTypes(applicationContext);
 
-        logger.debug("Scanning the following base packages: {}", (Object) basePackages);
-
-        for (String basePackage : basePackages) {
-            configurationBuilder.addUrls(ClasspathHelper.forPackage(basePackage));
-        }
-
-        Reflections reflections = new Reflections(configurationBuilder);
-
-        Set<Class<?>> handlerClasses = reflections.getTypesAnnotatedWith(PluggableMessageHandlers.class);
+        Set<Class<?>> handlerClasses = classpathTypes.getTypesAnnotatedWith(PluggableMessageHandlers.class);
 
         logger.info("Found {} classes annotated with @PluggableMessageHandlers", handlerClasses.size());
         if (logger.isDebugEnabled()) {
@@ -17,10 +17,15 @@
 
 package org.elasticsoftware.elasticactors.runtime;
 
+import org.reflections.Reflections;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
 
 import java.io.IOException;
+import java.lang.annotation.Annotation;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.Enumeration;
@@ -34,6 +39,48 @@ import java.util.Set;
 public final class ScannerHelper {
     private static final Logger logger = LoggerFactory.getLogger(ScannerHelper.class);
     public static final String RESOURCE_NAME = "META-INF/elasticactors.properties";
+    public static final String INDEX_ENABLED_PROPERTY = "ea.classpathIndex.enabled";
+
+    /**
+     * Finds the types in the base packages of the application. Uses the {@link ElasticActorsIndex}
+     * when all classpath entries with base packages have one, unless disabled with
+     * {@value #INDEX_ENABLED_PROPERTY}, and scans the classpath otherwise.
+     */
+    public static ClasspathTypes findTypes(ApplicationContext applicationContext) {
+        return findTypes(
+            applicationContext.getClassLoader(),
+            applicationContext.getEnvironment().getProperty(INDEX_ENABLED_PROPERTY, Boolean.class, true)
+        );
+    }
+
+    public static ClasspathTypes findTypes(ClassLoader classLoader, boolean useIndex) {
+        String[] basePackages = findBasePackagesOnClasspath(classLoader);
+        if (useIndex) {
+            ElasticActorsIndex index = ElasticActorsIndex.load(classLoader, basePackages);
+            if (index != null) {
+                return index;
+            }
+        }
+
+        logger.debug("Scanning the following base packages: {}", (Object) basePackages);
+
+        ConfigurationBuilder configurationBuilder = new ConfigurationBuilder().addClassLoaders(classLoader);
+        for (String basePackage : basePackages) {
+            configurationBuilder.addUrls(ClasspathHelper.forPackage(basePackage, classLoader));
+        }
+        Reflections reflections = new Reflections(configurationBuilder);
+        return new ClasspathTypes() {
+            @Override
+            public Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation) {
+                return reflections.getTypesAnnotatedWith(annotation);
+            }
+
+            @Override
+            public <T> Set<Class<? extends T>> getSubTypesOf(Class<T> type) {
+                return reflections.getSubTypesOf(type);
+            }
+        };
+    }
 
     public static String[] findBasePackagesOnClasspath(String... defaultPackages) {
         return findBasePackagesOnClasspath(Thread.currentThread().getContextClassLoader(),defaultPackages);
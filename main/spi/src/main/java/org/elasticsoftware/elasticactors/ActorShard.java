@@ -17,6 +17,9 @@
 
 package org.elasticsoftware.elasticactors;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * @author Joost van de Wijgerd
  */
@@ -25,4 +28,31 @@ public interface ActorShard extends ActorContainer {
 
     PhysicalNode getOwningNode();
 
+    /**
+     * The ids of the actors of this shard that are most likely to be used, the most likely first. When the shard is
+     * released, these are passed on to the next owner so it can load them before they are needed.
+     *
+     * @return the ids of the hot actors, or an empty list if this shard doesn't keep track of them
+     */
+    default List<String> getHotActorIds() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Loads the given actors in the background, so they don't have to be loaded when the first message for them
+     * arrives. Actors that are loaded already, or that don't exist, are skipped.
+     */
+    default void prefetch(List<String> actorIds) {
+        // by default, actors are only loaded when needed
+    }
+
+    /**
+     * Called after {@link #init()} when it is certain that no other node owns this shard anymore, because the
+     * previous owner released it or because there is no other node. Shards that were taken over without an
+     * acknowledgement, for instance from a node that crashed, are never notified.
+     */
+    default void handoffCompleted() {
+        // by default, nothing depends on the handoff
+    }
+
 }
@@ -27,6 +27,10 @@ public interface MessageQueue {
 
     InternalMessage poll();
 
+    /**
+     * @return the name of this queue, which is also the key of the tasks that handle its messages on the queue
+     * executor
+     */
     String getName();
 
     void initialize() throws Exception;
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+
+package org.elasticsoftware.elasticactors.serialization;
+
+import jakarta.annotation.Nullable;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Per-class view of the {@link Message} annotation. Looking up annotations through reflection
+ * is relatively expensive and was done several times for every message sent or received, so
+ * the relevant attributes are read once per class and cached in a {@link ClassValue}.
+ *
+ * <p>
+ * On top of the annotation attributes, the {@link MessageSerializer} and
+ * {@link MessageDeserializer} resolved from the configured {@link SerializationFramework} are
+ * cached as well, for the {@link SerializationFrameworks} instance that resolved them last. Multiple
+ * actor systems in the same JVM (for instance in tests) will each resolve their own. Both are only
+ * weakly referenced, so the cache doesn't keep an actor system that was shut down alive, and a
+ * missing serializer is not cached at all.
+ *
+ * <p>
+ * Classes without a {@link Message} annotation get metadata as well, with the same defaults the
+ * callers used before: not durable, not immutable and {@link Message#NO_TIMEOUT}.
+ */
+public final class MessageMetadata {
+
+    private static final Message.LogFeature[] NO_LOG_FEATURES = new Message.LogFeature[0];
+
+    private static final ClassValue<MessageMetadata> registry = new ClassValue<>() {
+        @Override
+        protected MessageMetadata computeValue(Class<?> type) {
+            return new MessageMetadata(type);
+        }
+    };
+
+    private final Class<?> messageClass;
+    private final boolean message;
+    private final boolean durable;
+    private final boolean immutable;
+    private final int timeout;
+    private final Class<? extends SerializationFramework> serializationFramework;
+    private final Message.LogFeature[] logOnReceive;
+    private final boolean logBodyOnError;
+
+    private volatile Resolved<MessageSerializer<?>> serializer;
+    private volatile Resolved<MessageDeserializer<?>> deserializer;
+
+    private MessageMetadata(Class<?> messageClass) {
+        this.messageClass = messageClass;
+        Message annotation = messageClass.getAnnotation(Message.class);
+        this.message = annotation != null;
+        this.durable = annotation != null && annotation.durable();
+        this.immutable = annotation != null && annotation.immutable();
+        this.timeout = annotation != null ? annotation.timeout() : Message.NO_TIMEOUT;
+        this.serializationFramework = annotation != null ? annotation.serializationFramework() : null;
+        this.logOnReceive = annotation != null ? annotation.logOnReceive() : NO_LOG_FEATURES;
+        this.logBodyOnError = annotation != null && annotation.logBodyOnError();
+    }
+
+    public static MessageMetadata get(Class<?> messageClass) {
+        return registry.get(messageClass);
+    }
+
+    public static MessageMetadata of(Object message) {
+        return registry.get(message.getClass());
+    }
+
+    public Class<?> getMessageClass() {
+        return messageClass;
+    }
+
+    /**
+     * @return true if the class is annotated with {@link Message}
+     */
+    public boolean isMessage() {
+        return message;
+    }
+
+    public boolean isDurable() {
+        return durable;
+    }
+
+    public boolean isImmutable() {
+        return immutable;
+    }
+
+    public int getTimeout() {
+        return timeout;
+    }
+
+    @Nullable
+    public Class<? extends SerializationFramework> getSerializationFramework() {
+        return serializationFramework;
+    }
+
+    /**
+     * @return the features from {@link Message#logOnReceive()}. The array is shared, so it must
+     * not be modified.
+     */
+    public Message.LogFeature[] getLogOnReceive() {
+        return logOnReceive;
+    }
+
+    public boolean isLogBodyOnError() {
+        return logBodyOnError;
+    }
+
+    /**
+     * Returns the serializer of the {@link SerializationFramework} configured on the
+     * {@link Message} annotation, or null if the class is not annotated. System message
+     * serializers are not considered here.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> MessageSerializer<T> getSerializer(SerializationFrameworks serializationFrameworks) {
+        if (!message) {
+            return null;
+        }
+        Resolved<MessageSerializer<?>> current = this.serializer;
+        MessageSerializer<?> resolved = current != null ? current.get(serializationFrameworks) : null;
+        if (resolved == null) {
+            resolved = serializationFrameworks
+                .getSerializationFramework(serializationFramework)
+                .getSerializer(messageClass);
+            if (resolved != null) {
+                this.serializer = new Resolved<>(serializationFrameworks, resolved);
+            }
+        }
+        return (MessageSerializer<T>) resolved;
+    }
+
+    /**
+     * Returns the deserializer of the {@link SerializationFramework} configured on the
+     * {@link Message} annotation, or null if the class is not annotated. System message
+     * deserializers are not considered here.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> MessageDeserializer<T> getDeserializer(SerializationFrameworks serializationFrameworks) {
+        if (!message) {
+            return null;
+        }
+        Resolved<MessageDeserializer<?>> current = this.deserializer;
+        MessageDeserializer<?> resolved = current != null ? current.get(serializationFrameworks) : null;
+        if (resolved == null) {
+            resolved = serializationFrameworks
+                .getSerializationFramework(serializationFramework)
+                .getDeserializer(messageClass);
+            if (resolved != null) {
+                this.deserializer = new Resolved<>(serializationFrameworks, resolved);
+            }
+        }
+        return (MessageDeserializer<T>) resolved;
+    }
+
+    /**
+     * The serialization frameworks are usually referenced by the value, so both have to be weak
+     * references. If nothing else keeps the value alive, it will simply be resolved again.
+     */
+    private static final class Resolved<V> {
+        private final WeakReference<SerializationFrameworks> owner;
+        private final WeakReference<V> value;
+
+        private Resolved(SerializationFrameworks owner, V value) {
+            this.owner = new WeakReference<>(owner);
+            this.value = new WeakReference<>(value);
+        }
+
+        @Nullable
+        private V get(SerializationFrameworks serializationFrameworks) {
+            return owner.get() == serializationFrameworks ? value.get() : null;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package org.elasticsoftware.elasticactors.state;
+
+/**
+ * What the {@link PersistentActorRepository} holds for an actor when it stores actor state as a snapshot followed
+ * by deltas: the (uncompressed) serialized form the last write resulted in, which the next delta is computed
+ * against, and the position of that write in the sequence of writes for the actor.
+ *
+ * @param bytes            the serialized {@link PersistentActor} as of the last write
+ * @param checksum         the checksum of {@code bytes}
+ * @param sequence         the sequence number of the last write
+ * @param snapshotSequence the sequence number of the last snapshot, the writes after it are deltas
+ * @param deltaBytes       the total size of the deltas written since the last snapshot
+ */
+public record PersistedState(byte[] bytes, int checksum, long sequence, long snapshotSequence, long deltaBytes) {
+
+    public int deltaCount() {
+        return (int) (sequence - snapshotSequence);
+    }
+}
@@ -45,11 +45,15 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * @author Joost van de Wijgerd
  */
 public final class PersistentActor<K> implements ActorContext, ProcessorContext {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<PersistentActor, PersistedState> PERSISTED_STATE_UPDATER =
+        AtomicReferenceFieldUpdater.newUpdater(PersistentActor.class, PersistedState.class, "persistedState");
     private final K key;
     private final InternalActorSystem actorSystem;
     private transient final String currentActorStateVersion;
@@ -59,6 +63,17 @@ public final class PersistentActor<K> implements ActorContext, ProcessorContext
     @Nullable
     private final String affinityKey;
     private transient volatile byte[] serializedState;
+    // the size of the last serialized state, kept after the serialized state itself is released
+    private transient volatile int serializedStateSize;
+    // the serialized state size the actor cache last used to weigh this actor
+    private transient volatile int weighedStateSize;
+    // when the actor last handled a message, only tracked when the actor cache can't tell by itself
+    private transient long lastAccessTime;
+    // only kept when the repository stores deltas
+    @Nullable
+    private transient volatile PersistedState persistedState;
+    // whether the state might have changed since it was last written to the repository
+    private transient volatile boolean unpersistedChanges;
     private volatile ActorState actorState;
     private HashMultimap<String, MessageSubscriber> messageSubscribers;
     private List<InternalPersistentSubscription> persistentSubscriptions;
@@ -142,6 +157,8 @@ public final class PersistentActor<K> implements ActorContext, ProcessorContext
         this.ref = ref;
         this.affinityKey = affinityKey;
         this.serializedState = serializedState;
+        this.serializedStateSize = serializedState != null ? serializedState.length : 0;
+        this.weighedStateSize = this.serializedStateSize;
         this.actorState = actorState;
         this.messageSubscribers = messageSubscribers;
         this.persistentSubscriptions = persistentSubscriptions;
@@ -194,6 +211,79 @@ public final class PersistentActor<K> implements ActorContext, ProcessorContext
 
     public void setSerializedState(byte[] serializedState) {
         this.serializedState = serializedState;
+        if (serializedState != null) {
+            this.serializedStateSize = serializedState.length;
+        }
+    }
+
+    /**
+     * The size in bytes of the last serialized state of this actor. This remains available after the serialized
+     * state has been released with {@code setSerializedState(null)}.
+     *
+     * @return the size of the last serialized state, or 0 if the state was never serialized
+     */
+    public int getSerializedStateSize() {
+        return serializedStateSize;
+    }
+
+    public int getWeighedStateSize() {
+        return weighedStateSize;
+    }
+
+    public void setWeighedStateSize(int weighedStateSize) {
+        this.weighedStateSize = weighedStateSize;
+    }
+
+    /**
+     * Written and read without synchronization, so this is only an approximation.
+     *
+     * @return the {@link System#nanoTime()} at which a message for this actor was last dispatched, or 0 if that isn't
+     * tracked
+     */
+    public long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    public void setLastAccessTime(long lastAccessTime) {
+        this.lastAccessTime = lastAccessTime;
+    }
+
+    /**
+     * Only available when the {@link PersistentActorRepository} stores the state of this actor as a snapshot followed
+     * by deltas.
+     *
+     * @return what was last written (or queued to be written) to the repository for this actor, or {@code null} if
+     * that isn't known
+     */
+    @Nullable
+    public PersistedState getPersistedState() {
+        return persistedState;
+    }
+
+    public void setPersistedState(@Nullable PersistedState persistedState) {
+        this.persistedState = persistedState;
+    }
+
+    /**
+     * @return {@code true} if the persisted state was still {@code expected} and has been replaced
+     */
+    public boolean compareAndSetPersistedState(@Nullable PersistedState expected, @Nullable PersistedState persistedState) {
+        return PERSISTED_STATE_UPDATER.compareAndSet(this, expected, persistedState);
+    }
+
+    /**
+     * Only tracked for the actors that live in a shard: handling a message or a lifecycle step without writing the
+     * state afterwards (as decided by the {@link PersistenceConfig}) marks the
+     * actor as changed, writing its state marks it as unchanged.
+     *
+     * @return {@code true} if the state in memory might differ from what was last written to the repository
+     */
+    public boolean hasUnpersistedChanges() {
+        return unpersistedChanges;
+    }
+
+    public void setUnpersistedChanges(boolean unpersistedChanges) {
+        this.unpersistedChanges = unpersistedChanges;
     }
 
     @Override
@@ -280,8 +370,10 @@ public final class PersistentActor<K> implements ActorContext, ProcessorContext
         return messageSubscribers;
     }
     public void serializeState() throws IOException {
-        this.serializedState = actorSystem.getParent().getSerializationFramework(actorState.getSerializationFramework())
+        byte[] serializedState = actorSystem.getParent().getSerializationFramework(actorState.getSerializationFramework())
                 .getActorStateSerializer(this.actorState).serialize(this.actorState);
+        this.serializedStateSize = serializedState.length;
+        this.serializedState = serializedState;
     }
 
     @Override
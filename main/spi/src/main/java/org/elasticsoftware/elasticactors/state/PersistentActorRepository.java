@@ -22,6 +22,8 @@ import org.elasticsoftware.elasticactors.messaging.InternalMessage;
 import org.elasticsoftware.elasticactors.messaging.MessageHandlerEventListener;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * @author Joost van de Wijgerd
@@ -36,4 +38,42 @@ public interface PersistentActorRepository {
     void delete(ShardKey shard,String actorId);
 
     PersistentActor<ShardKey> get(ShardKey shard,String actorId) throws IOException;
+
+    /**
+     * Asynchronous version of {@link #get(ShardKey, String)}, used to activate actors without blocking the
+     * thread that handles the messages of the shard. The returned future completes with {@code null} when the
+     * actor doesn't exist.
+     *
+     * The default implementation calls {@link #get(ShardKey, String)} on the calling thread.
+     */
+    default CompletableFuture<PersistentActor<ShardKey>> getAsync(ShardKey shard,String actorId) {
+        try {
+            return CompletableFuture.completedFuture(get(shard, actorId));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Passes the ids of all the actors stored for the given shard to the consumer, used to build an index of the
+     * actors that exist in a shard. Implementations are allowed to block while reading the ids.
+     *
+     * The default implementation throws an {@link UnsupportedOperationException}.
+     */
+    default void forEachActorId(ShardKey shard, Consumer<String> consumer) {
+        throw new UnsupportedOperationException(getClass().getName() + " cannot list the actors of a shard");
+    }
+
+    /**
+     * Whether this repository stores actors as a snapshot followed by deltas against the previous write. When it
+     * does, {@link #update(ShardKey, PersistentActor)} and
+     * {@link #updateAsync(ShardKey, PersistentActor, InternalMessage, MessageHandlerEventListener)} write the
+     * difference with {@link PersistentActor#getPersistedState()} and record the new form there, so the same
+     * {@link PersistentActor} instance has to be used for all the writes of an actor while it is active.
+     *
+     * The default implementation returns {@code false}.
+     */
+    default boolean supportsDeltas() {
+        return false;
+    }
 }
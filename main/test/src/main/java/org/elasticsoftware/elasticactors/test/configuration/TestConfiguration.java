@@ -49,6 +49,7 @@ import org.elasticsoftware.elasticactors.runtime.MessagesScanner;
 import org.elasticsoftware.elasticactors.runtime.PluggableMessageHandlersScanner;
 import org.elasticsoftware.elasticactors.serialization.SerializationFrameworks;
 import org.elasticsoftware.elasticactors.serialization.SystemSerializationFramework;
+import org.elasticsoftware.elasticactors.state.ActorExistenceFilterFactory;
 import org.elasticsoftware.elasticactors.state.ActorStateUpdateListener;
 import org.elasticsoftware.elasticactors.state.ActorStateUpdateProcessor;
 import org.elasticsoftware.elasticactors.state.DefaultActorStateUpdateProcessor;
@@ -245,6 +246,11 @@ public class TestConfiguration extends AsyncConfigurerSupport {
         );
     }
 
+    @Bean(name = {"actorExistenceFilterFactory"})
+    public ActorExistenceFilterFactory createActorExistenceFilterFactory() {
+        return ActorExistenceFilterFactory.disabled();
+    }
+
     @Bean(name = {"elasticActorsMeterRegistry"})
     public MeterRegistry createMeterRegistry() {
         return new SimpleMeterRegistry();
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2013 - 2023 The Original Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+
+package org.elasticsoftware.elasticactors.test;
+
+import org.elasticsoftware.elasticactors.Actor;
+import org.elasticsoftware.elasticactors.ActorLifecycleListener;
+import org.elasticsoftware.elasticactors.ManagedActor;
+import org.elasticsoftware.elasticactors.PluggableMessageHandlers;
+import org.elasticsoftware.elasticactors.SingletonActor;
+import org.elasticsoftware.elasticactors.TempActor;
+import org.elasticsoftware.elasticactors.runtime.ClasspathTypes;
+import org.elasticsoftware.elasticactors.runtime.ElasticActorsIndex;
+import org.elasticsoftware.elasticactors.runtime.ScannerHelper;
+import org.elasticsoftware.elasticactors.serialization.Message;
+import org.testng.annotations.Test;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ClasspathIndexTest {
+
+    @Test
+    public void testIndexMatchesScanning() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        ClasspathTypes index = ScannerHelper.findTypes(classLoader, true);
+        ClasspathTypes scanned = ScannerHelper.findTypes(classLoader, false);
+
+        assertTrue(index instanceof ElasticActorsIndex);
+        assertFalse(scanned instanceof ElasticActorsIndex);
+
+        for (Class<? extends Annotation> annotation : Set.of(
+            Actor.class,
+            TempActor.class,
+            ManagedActor.class,
+            SingletonActor.class,
+            PluggableMessageHandlers.class,
+            Message.class))
+        {
+            assertEquals(
+                index.getTypesAnnotatedWith(annotation),
+                scanned.getTypesAnnotatedWith(annotation),
+                annotation.getName()
+            );
+        }
+        assertEquals(
+            index.getSubTypesOf(ActorLifecycleListener.class),
+            scanned.getSubTypesOf(ActorLifecycleListener.class)
+        );
+    }
+}